@@ -29,7 +29,9 @@ import org.optaplanner.core.config.util.ConfigUtils;
         "name",
         "solverConfig",
         "problemBenchmarksConfig",
-        "subSingleCount"
+        "subSingleCount",
+        "maximumSubSingleCount",
+        "targetRelativePrecision"
 })
 public class SolverBenchmarkConfig extends AbstractConfig<SolverBenchmarkConfig> {
 
@@ -42,6 +44,8 @@ public class SolverBenchmarkConfig extends AbstractConfig<SolverBenchmarkConfig>
     private ProblemBenchmarksConfig problemBenchmarksConfig = null;
 
     private Integer subSingleCount = null;
+    private Integer maximumSubSingleCount = null;
+    private Double targetRelativePrecision = null;
 
     // ************************************************************************
     // Constructors and simple getters/setters
@@ -79,12 +83,39 @@ public class SolverBenchmarkConfig extends AbstractConfig<SolverBenchmarkConfig>
         this.subSingleCount = subSingleCount;
     }
 
+    public Integer getMaximumSubSingleCount() {
+        return maximumSubSingleCount;
+    }
+
+    public void setMaximumSubSingleCount(Integer maximumSubSingleCount) {
+        this.maximumSubSingleCount = maximumSubSingleCount;
+    }
+
+    /**
+     * If set, after the {@link #getSubSingleCount() subSingleCount} runs, extra runs are added
+     * until the 95% confidence interval of the best score (per score level) and the score calculation speed
+     * is narrower than this fraction of their mean, or until the {@link #getMaximumSubSingleCount()} is reached.
+     *
+     * @return null or {@code > 0.0}, for example {@code 0.01} for 1%
+     */
+    public Double getTargetRelativePrecision() {
+        return targetRelativePrecision;
+    }
+
+    public void setTargetRelativePrecision(Double targetRelativePrecision) {
+        this.targetRelativePrecision = targetRelativePrecision;
+    }
+
     @Override
     public SolverBenchmarkConfig inherit(SolverBenchmarkConfig inheritedConfig) {
         solverConfig = ConfigUtils.inheritConfig(solverConfig, inheritedConfig.getSolverConfig());
         problemBenchmarksConfig = ConfigUtils.inheritConfig(problemBenchmarksConfig,
                 inheritedConfig.getProblemBenchmarksConfig());
         subSingleCount = ConfigUtils.inheritOverwritableProperty(subSingleCount, inheritedConfig.getSubSingleCount());
+        maximumSubSingleCount = ConfigUtils.inheritOverwritableProperty(maximumSubSingleCount,
+                inheritedConfig.getMaximumSubSingleCount());
+        targetRelativePrecision = ConfigUtils.inheritOverwritableProperty(targetRelativePrecision,
+                inheritedConfig.getTargetRelativePrecision());
         return this;
     }
 
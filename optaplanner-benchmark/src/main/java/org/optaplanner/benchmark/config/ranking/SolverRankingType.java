@@ -18,6 +18,7 @@ package org.optaplanner.benchmark.config.ranking;
 
 import javax.xml.bind.annotation.XmlEnum;
 
+import org.optaplanner.benchmark.impl.ranking.SignificantRankSolverRankingWeightFactory;
 import org.optaplanner.benchmark.impl.ranking.TotalRankSolverRankingWeightFactory;
 import org.optaplanner.benchmark.impl.ranking.TotalScoreSolverRankingComparator;
 import org.optaplanner.benchmark.impl.ranking.WorstScoreSolverRankingComparator;
@@ -42,6 +43,12 @@ public enum SolverRankingType {
      *
      * @see TotalRankSolverRankingWeightFactory
      */
-    TOTAL_RANKING;
+    TOTAL_RANKING,
+    /**
+     * Maximize the overall ranking, but only count statistically significant wins and losses.
+     *
+     * @see SignificantRankSolverRankingWeightFactory
+     */
+    SIGNIFICANT_RANKING;
 
 }
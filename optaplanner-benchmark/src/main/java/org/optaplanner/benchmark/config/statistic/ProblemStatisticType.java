@@ -23,6 +23,8 @@ import org.optaplanner.benchmark.impl.statistic.ProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.StatisticType;
 import org.optaplanner.benchmark.impl.statistic.bestscore.BestScoreProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.bestsolutionmutation.BestSolutionMutationProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.garbagecollectiontimeshare.GarbageCollectionTimeShareProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.memoryallocationrate.MemoryAllocationRateProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.memoryuse.MemoryUseProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.movecountperstep.MoveCountPerStepProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.scorecalculationspeed.ScoreCalculationSpeedProblemStatistic;
@@ -35,7 +37,9 @@ public enum ProblemStatisticType implements StatisticType {
     SCORE_CALCULATION_SPEED,
     BEST_SOLUTION_MUTATION,
     MOVE_COUNT_PER_STEP,
-    MEMORY_USE;
+    MEMORY_USE,
+    MEMORY_ALLOCATION_RATE,
+    GARBAGE_COLLECTION_TIME_SHARE;
 
     public ProblemStatistic buildProblemStatistic(ProblemBenchmarkResult problemBenchmarkResult) {
         // Keep in sync with ProblemStatistic XStreamInclude list
@@ -52,6 +56,10 @@ public enum ProblemStatisticType implements StatisticType {
                 return new MoveCountPerStepProblemStatistic(problemBenchmarkResult);
             case MEMORY_USE:
                 return new MemoryUseProblemStatistic(problemBenchmarkResult);
+            case MEMORY_ALLOCATION_RATE:
+                return new MemoryAllocationRateProblemStatistic(problemBenchmarkResult);
+            case GARBAGE_COLLECTION_TIME_SHARE:
+                return new GarbageCollectionTimeShareProblemStatistic(problemBenchmarkResult);
             default:
                 throw new IllegalStateException("The problemStatisticType (" + this + ") is not implemented.");
         }
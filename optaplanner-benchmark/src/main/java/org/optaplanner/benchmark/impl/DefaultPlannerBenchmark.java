@@ -20,6 +20,7 @@ import java.awt.Desktop;
 import java.io.File;
 import java.io.IOException;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -33,6 +34,8 @@ import java.util.concurrent.Future;
 
 import org.optaplanner.benchmark.api.PlannerBenchmark;
 import org.optaplanner.benchmark.api.PlannerBenchmarkException;
+import org.optaplanner.benchmark.impl.loader.SharedProblemCache;
+import org.optaplanner.benchmark.impl.measurement.BootstrapResampler;
 import org.optaplanner.benchmark.impl.report.BenchmarkReport;
 import org.optaplanner.benchmark.impl.result.BenchmarkResultIO;
 import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
@@ -254,49 +257,115 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
     }
 
     protected void runSingleBenchmarks() {
-        Map<SubSingleBenchmarkRunner, Future<SubSingleBenchmarkRunner>> futureMap = new HashMap<>();
+        List<SubSingleBenchmarkResult> subSingleBenchmarkResultList = new ArrayList<>();
         for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult
                 .getUnifiedProblemBenchmarkResultList()) {
             for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
-                for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult
-                        .getSubSingleBenchmarkResultList()) {
-                    SubSingleBenchmarkRunner subSingleBenchmarkRunner = new SubSingleBenchmarkRunner(
-                            subSingleBenchmarkResult, false);
-                    Future<SubSingleBenchmarkRunner> future = executorService.submit(subSingleBenchmarkRunner);
-                    futureMap.put(subSingleBenchmarkRunner, future);
-                }
+                subSingleBenchmarkResultList.addAll(singleBenchmarkResult.getSubSingleBenchmarkResultList());
             }
         }
-        // Wait for the benchmarks to complete
-        for (Map.Entry<SubSingleBenchmarkRunner, Future<SubSingleBenchmarkRunner>> futureEntry : futureMap.entrySet()) {
-            SubSingleBenchmarkRunner subSingleBenchmarkRunner = futureEntry.getKey();
-            Future<SubSingleBenchmarkRunner> future = futureEntry.getValue();
-            Throwable failureThrowable = null;
-            try {
-                // Explicitly returning it in the Callable guarantees memory visibility
-                subSingleBenchmarkRunner = future.get();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                SINGLE_BENCHMARK_RUNNER_EXCEPTION_LOGGER.error(
-                        "The subSingleBenchmarkRunner ({}) with random seed ({}) was interrupted.",
-                        subSingleBenchmarkRunner, subSingleBenchmarkRunner.getRandomSeed(), e);
-                failureThrowable = e;
-            } catch (ExecutionException e) {
-                Throwable cause = e.getCause();
-                SINGLE_BENCHMARK_RUNNER_EXCEPTION_LOGGER.warn("The subSingleBenchmarkRunner ({}) with random seed ({}) failed.",
-                        subSingleBenchmarkRunner, subSingleBenchmarkRunner.getRandomSeed(), cause);
-                failureThrowable = cause;
+        while (!subSingleBenchmarkResultList.isEmpty()) {
+            runSubSingleBenchmarks(subSingleBenchmarkResultList);
+            subSingleBenchmarkResultList = addExtraSubSingleBenchmarks();
+        }
+    }
+
+    private void runSubSingleBenchmarks(List<SubSingleBenchmarkResult> subSingleBenchmarkResultList) {
+        // Every problem is read only once and it is shared by all the sub single benchmarks that solve it
+        try (SharedProblemCache problemCache = new SharedProblemCache(subSingleBenchmarkResultList,
+                plannerBenchmarkResult.hasMultipleParallelBenchmarks())) {
+            // Before any sub single benchmark solves, so its forced garbage collections don't distort them
+            problemCache.measureFootprints();
+            MemoryAwareBenchmarkScheduler scheduler = new MemoryAwareBenchmarkScheduler(
+                    plannerBenchmarkResult.getParallelBenchmarkCount(),
+                    MemoryAwareBenchmarkScheduler.calculateDefaultMemoryBudget(), problemCache::getSharedFootprint);
+            Map<SubSingleBenchmarkRunner, Future<SubSingleBenchmarkRunner>> futureMap = new HashMap<>();
+            for (SubSingleBenchmarkResult subSingleBenchmarkResult : subSingleBenchmarkResultList) {
+                SubSingleBenchmarkRunner subSingleBenchmarkRunner = new SubSingleBenchmarkRunner(
+                        subSingleBenchmarkResult, false, problemCache);
+                long solvingFootprint = MemoryAwareBenchmarkScheduler.estimateSolvingFootprint(
+                        problemCache.awaitFootprint(subSingleBenchmarkResult.getSingleBenchmarkResult()
+                                .getProblemBenchmarkResult()));
+                try {
+                    scheduler.acquire(solvingFootprint);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("The benchmark was interrupted while waiting to start"
+                            + " the subSingleBenchmarkRunner (" + subSingleBenchmarkRunner + ").", e);
+                }
+                Future<SubSingleBenchmarkRunner> future = executorService.submit(() -> {
+                    try {
+                        return subSingleBenchmarkRunner.call();
+                    } finally {
+                        scheduler.release(solvingFootprint);
+                    }
+                });
+                futureMap.put(subSingleBenchmarkRunner, future);
             }
-            if (failureThrowable == null) {
-                subSingleBenchmarkRunner.getSubSingleBenchmarkResult().setSucceeded(true);
-            } else {
-                subSingleBenchmarkRunner.getSubSingleBenchmarkResult().setSucceeded(false);
-                subSingleBenchmarkRunner.setFailureThrowable(failureThrowable);
-                if (firstFailureSubSingleBenchmarkRunner == null) {
-                    firstFailureSubSingleBenchmarkRunner = subSingleBenchmarkRunner;
+            // Wait for the benchmarks to complete
+            for (Map.Entry<SubSingleBenchmarkRunner, Future<SubSingleBenchmarkRunner>> futureEntry : futureMap.entrySet()) {
+                SubSingleBenchmarkRunner subSingleBenchmarkRunner = futureEntry.getKey();
+                Future<SubSingleBenchmarkRunner> future = futureEntry.getValue();
+                Throwable failureThrowable = null;
+                try {
+                    // Explicitly returning it in the Callable guarantees memory visibility
+                    subSingleBenchmarkRunner = future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    SINGLE_BENCHMARK_RUNNER_EXCEPTION_LOGGER.error(
+                            "The subSingleBenchmarkRunner ({}) with random seed ({}) was interrupted.",
+                            subSingleBenchmarkRunner, subSingleBenchmarkRunner.getRandomSeed(), e);
+                    failureThrowable = e;
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    SINGLE_BENCHMARK_RUNNER_EXCEPTION_LOGGER.warn("The subSingleBenchmarkRunner ({}) with random seed ({}) failed.",
+                            subSingleBenchmarkRunner, subSingleBenchmarkRunner.getRandomSeed(), cause);
+                    failureThrowable = cause;
+                }
+                if (failureThrowable == null) {
+                    subSingleBenchmarkRunner.getSubSingleBenchmarkResult().setSucceeded(true);
+                } else {
+                    subSingleBenchmarkRunner.getSubSingleBenchmarkResult().setSucceeded(false);
+                    subSingleBenchmarkRunner.setFailureThrowable(failureThrowable);
+                    if (firstFailureSubSingleBenchmarkRunner == null) {
+                        firstFailureSubSingleBenchmarkRunner = subSingleBenchmarkRunner;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds 1 extra run to every {@link SingleBenchmarkResult} that hasn't reached
+     * the {@link SolverBenchmarkResult#getTargetRelativePrecision() targetRelativePrecision} yet,
+     * so the extra runs of different single benchmarks still run in parallel.
+     *
+     * @return never null, empty if no extra runs are needed
+     */
+    private List<SubSingleBenchmarkResult> addExtraSubSingleBenchmarks() {
+        List<SubSingleBenchmarkResult> extraSubSingleBenchmarkResultList = new ArrayList<>();
+        BootstrapResampler bootstrapResampler = benchmarkReport.getBootstrapResampler();
+        for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult
+                .getUnifiedProblemBenchmarkResultList()) {
+            for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+                SolverBenchmarkResult solverBenchmarkResult = singleBenchmarkResult.getSolverBenchmarkResult();
+                Double targetRelativePrecision = solverBenchmarkResult.getTargetRelativePrecision();
+                if (targetRelativePrecision == null
+                        || singleBenchmarkResult.getSubSingleCount() >= solverBenchmarkResult.getMaximumSubSingleCount()
+                        || singleBenchmarkResult.getSubSingleBenchmarkResultList().stream()
+                                .anyMatch(SubSingleBenchmarkResult::hasAnyFailure)
+                        || singleBenchmarkResult.isTargetRelativePrecisionReached(targetRelativePrecision,
+                                bootstrapResampler)) {
+                    continue;
                 }
+                extraSubSingleBenchmarkResultList.add(singleBenchmarkResult.addExtraSubSingleBenchmarkResult());
             }
         }
+        if (!extraSubSingleBenchmarkResultList.isEmpty()) {
+            LOGGER.info("Running extra subSingles ({}) to reach the target relative precision.",
+                    extraSubSingleBenchmarkResultList.size());
+        }
+        return extraSubSingleBenchmarkResultList;
     }
 
     public void benchmarkingEnded() {
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl;
+
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decides when the next sub single benchmark can start:
+ * at most parallelBenchmarkCount run at the same time,
+ * but fewer if their estimated memory footprints don't fit in the heap together.
+ * <p>
+ * The first sub single benchmark can always start, even if its footprint doesn't fit, to avoid a deadlock.
+ * <p>
+ * This class is thread-safe.
+ */
+public class MemoryAwareBenchmarkScheduler {
+
+    /**
+     * A solver holds at least a working solution and a best solution, both planning clones of the problem,
+     * and its score director adds its own memory on top of that.
+     */
+    public static final int SOLVING_FOOTPRINT_MULTIPLIER = 3;
+    /**
+     * Keep some headroom for the garbage collector.
+     */
+    public static final double MAXIMUM_HEAP_USE = 0.8;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MemoryAwareBenchmarkScheduler.class);
+
+    private final int parallelBenchmarkCount;
+    private final long memoryBudget;
+    private final LongSupplier sharedFootprintSupplier;
+
+    private int runningCount = 0;
+    private long reservedFootprint = 0L;
+
+    /**
+     * @param parallelBenchmarkCount {@code >= 1}
+     * @param memoryBudget {@code >= 0}, in bytes
+     * @param sharedFootprintSupplier never null, the memory in bytes taken by the shared problems
+     */
+    public MemoryAwareBenchmarkScheduler(int parallelBenchmarkCount, long memoryBudget,
+            LongSupplier sharedFootprintSupplier) {
+        if (parallelBenchmarkCount < 1) {
+            throw new IllegalArgumentException("The parallelBenchmarkCount (" + parallelBenchmarkCount
+                    + ") must be at least 1.");
+        }
+        if (memoryBudget < 0L) {
+            throw new IllegalArgumentException("The memoryBudget (" + memoryBudget + ") cannot be negative.");
+        }
+        this.parallelBenchmarkCount = parallelBenchmarkCount;
+        this.memoryBudget = memoryBudget;
+        this.sharedFootprintSupplier = sharedFootprintSupplier;
+    }
+
+    public static long calculateDefaultMemoryBudget() {
+        long maxMemory = Runtime.getRuntime().maxMemory();
+        if (maxMemory == Long.MAX_VALUE) {
+            // No heap limit
+            return Long.MAX_VALUE;
+        }
+        return (long) (maxMemory * MAXIMUM_HEAP_USE);
+    }
+
+    /**
+     * @param problemFootprint {@code >= 0}, in bytes
+     * @return {@code >= 0}, the estimated memory footprint of solving that problem, in bytes
+     */
+    public static long estimateSolvingFootprint(long problemFootprint) {
+        if (problemFootprint > Long.MAX_VALUE / SOLVING_FOOTPRINT_MULTIPLIER) {
+            return Long.MAX_VALUE;
+        }
+        return problemFootprint * SOLVING_FOOTPRINT_MULTIPLIER;
+    }
+
+    /**
+     * Blocks until a sub single benchmark with that footprint can start.
+     * Every call must be followed by a {@link #release(long)} call with the same footprint
+     * when that sub single benchmark ends.
+     *
+     * @param solvingFootprint {@code >= 0}, in bytes
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public synchronized void acquire(long solvingFootprint) throws InterruptedException {
+        boolean delayed = false;
+        while (runningCount >= parallelBenchmarkCount
+                || (runningCount > 0 && !fits(solvingFootprint))) {
+            if (!delayed && runningCount < parallelBenchmarkCount) {
+                LOGGER.info("Delaying the next subSingleBenchmark with solvingFootprint ({}),"
+                        + " because runningCount ({}) with reservedFootprint ({}) leave too little memory"
+                        + " of the memoryBudget ({}).",
+                        solvingFootprint, runningCount, reservedFootprint, memoryBudget);
+                delayed = true;
+            }
+            wait();
+        }
+        runningCount++;
+        reservedFootprint += solvingFootprint;
+    }
+
+    private boolean fits(long solvingFootprint) {
+        long usedFootprint = reservedFootprint + sharedFootprintSupplier.getAsLong();
+        return usedFootprint <= memoryBudget && solvingFootprint <= memoryBudget - usedFootprint;
+    }
+
+    /**
+     * @param solvingFootprint the same value as passed to {@link #acquire(long)}
+     */
+    public synchronized void release(long solvingFootprint) {
+        if (runningCount <= 0) {
+            throw new IllegalStateException("Impossible state: release() called more than acquire().");
+        }
+        runningCount--;
+        reservedFootprint -= solvingFootprint;
+        notifyAll();
+    }
+
+    public synchronized int getRunningCount() {
+        return runningCount;
+    }
+
+}
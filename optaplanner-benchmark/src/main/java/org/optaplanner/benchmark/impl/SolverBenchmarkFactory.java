@@ -47,6 +47,8 @@ public class SolverBenchmarkFactory {
         SolverBenchmarkResult solverBenchmarkResult = new SolverBenchmarkResult(plannerBenchmark);
         solverBenchmarkResult.setName(config.getName());
         solverBenchmarkResult.setSubSingleCount(ConfigUtils.inheritOverwritableProperty(config.getSubSingleCount(), 1));
+        solverBenchmarkResult.setMaximumSubSingleCount(config.getMaximumSubSingleCount());
+        solverBenchmarkResult.setTargetRelativePrecision(config.getTargetRelativePrecision());
         if (config.getSolverConfig().getClassLoader() == null) {
             config.getSolverConfig().setClassLoader(classLoader);
         }
@@ -98,6 +100,30 @@ public class SolverBenchmarkFactory {
             throw new IllegalStateException("The solverBenchmark name (" + config.getName()
                     + ") is invalid because the subSingleCount (" + config.getSubSingleCount() + ") must be greater than 1.");
         }
+        if ((config.getTargetRelativePrecision() == null) != (config.getMaximumSubSingleCount() == null)) {
+            throw new IllegalStateException("The solverBenchmark name (" + config.getName()
+                    + ") is invalid because the targetRelativePrecision (" + config.getTargetRelativePrecision()
+                    + ") and the maximumSubSingleCount (" + config.getMaximumSubSingleCount()
+                    + ") must be configured together.");
+        }
+        if (config.getTargetRelativePrecision() != null) {
+            if (config.getTargetRelativePrecision() <= 0.0) {
+                throw new IllegalStateException("The solverBenchmark name (" + config.getName()
+                        + ") is invalid because the targetRelativePrecision (" + config.getTargetRelativePrecision()
+                        + ") must be greater than 0.0.");
+            }
+            if (config.getSubSingleCount() == null || config.getSubSingleCount() < 2) {
+                throw new IllegalStateException("The solverBenchmark name (" + config.getName()
+                        + ") is invalid because the subSingleCount (" + config.getSubSingleCount()
+                        + ") must be at least 2 to calculate the precision"
+                        + " of the targetRelativePrecision (" + config.getTargetRelativePrecision() + ").");
+            }
+            if (config.getMaximumSubSingleCount() < config.getSubSingleCount()) {
+                throw new IllegalStateException("The solverBenchmark name (" + config.getName()
+                        + ") is invalid because the maximumSubSingleCount (" + config.getMaximumSubSingleCount()
+                        + ") must not be less than the subSingleCount (" + config.getSubSingleCount() + ").");
+            }
+        }
     }
 
     protected List<SolverMetric> getSolverMetrics(ProblemBenchmarksConfig config) {
@@ -107,14 +133,26 @@ public class SolverBenchmarkFactory {
         }
         for (ProblemStatisticType problemStatisticType : Objects.requireNonNullElse(config.getProblemStatisticTypeList(),
                 Collections.<ProblemStatisticType> emptyList())) {
-            if (problemStatisticType == ProblemStatisticType.SCORE_CALCULATION_SPEED) {
-                out.add(SolverMetric.SCORE_CALCULATION_COUNT);
-            } else {
-                out.add(SolverMetric.valueOf(problemStatisticType.name()));
+            switch (problemStatisticType) {
+                case SCORE_CALCULATION_SPEED:
+                case MEMORY_ALLOCATION_RATE:
+                    if (!out.contains(SolverMetric.SCORE_CALCULATION_COUNT)) {
+                        out.add(SolverMetric.SCORE_CALCULATION_COUNT);
+                    }
+                    break;
+                case GARBAGE_COLLECTION_TIME_SHARE:
+                    // Reads the GarbageCollectorMXBeans directly, without a solver metric
+                    break;
+                default:
+                    out.add(SolverMetric.valueOf(problemStatisticType.name()));
             }
         }
         for (SingleStatisticType singleStatisticType : Objects.requireNonNullElse(config.getSingleStatisticTypeList(),
                 Collections.<SingleStatisticType> emptyList())) {
+            if (singleStatisticType == SingleStatisticType.THREAD_CPU_USE) {
+                // Reads the ThreadMXBean directly, without a solver metric
+                continue;
+            }
             out.add(SolverMetric.valueOf(singleStatisticType.name()));
         }
         return out;
@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 
+import org.optaplanner.benchmark.impl.loader.SharedProblemCache;
 import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
@@ -47,6 +48,7 @@ public class SubSingleBenchmarkRunner<Solution_> implements Callable<SubSingleBe
 
     private final SubSingleBenchmarkResult subSingleBenchmarkResult;
     private final boolean warmUp;
+    private final SharedProblemCache sharedProblemCache;
 
     private Long randomSeed = null;
     private Throwable failureThrowable = null;
@@ -55,8 +57,19 @@ public class SubSingleBenchmarkRunner<Solution_> implements Callable<SubSingleBe
      * @param subSingleBenchmarkResult never null
      */
     public SubSingleBenchmarkRunner(SubSingleBenchmarkResult subSingleBenchmarkResult, boolean warmUp) {
+        this(subSingleBenchmarkResult, warmUp, null);
+    }
+
+    /**
+     * @param subSingleBenchmarkResult never null
+     * @param warmUp true if the result should be ignored
+     * @param sharedProblemCache null if the problem should be read just for this run
+     */
+    public SubSingleBenchmarkRunner(SubSingleBenchmarkResult subSingleBenchmarkResult, boolean warmUp,
+            SharedProblemCache sharedProblemCache) {
         this.subSingleBenchmarkResult = subSingleBenchmarkResult;
         this.warmUp = warmUp;
+        this.sharedProblemCache = sharedProblemCache;
     }
 
     public SubSingleBenchmarkResult getSubSingleBenchmarkResult() {
@@ -86,7 +99,8 @@ public class SubSingleBenchmarkRunner<Solution_> implements Callable<SubSingleBe
         SingleBenchmarkResult singleBenchmarkResult = subSingleBenchmarkResult.getSingleBenchmarkResult();
         ProblemBenchmarkResult<Solution_> problemBenchmarkResult = singleBenchmarkResult
                 .getProblemBenchmarkResult();
-        Solution_ problem = problemBenchmarkResult.readProblem();
+        Solution_ problem = sharedProblemCache == null ? problemBenchmarkResult.readProblem()
+                : sharedProblemCache.acquireProblem(problemBenchmarkResult);
         if (!problemBenchmarkResult.getPlannerBenchmarkResult().hasMultipleParallelBenchmarks()) {
             runtime.gc();
             subSingleBenchmarkResult.setUsedMemoryAfterInputSolution(runtime.totalMemory() - runtime.freeMemory());
@@ -106,7 +120,18 @@ public class SubSingleBenchmarkRunner<Solution_> implements Callable<SubSingleBe
         solverConfig = new SolverConfig(solverConfig);
         randomSeed = solverConfig.getRandomSeed();
         // Defensive copy of solverConfig for every SingleBenchmarkResult to reset Random, tabu lists, ...
-        DefaultSolverFactory<Solution_> solverFactory = new DefaultSolverFactory<>(new SolverConfig(solverConfig));
+        DefaultSolverFactory<Solution_> solverFactory;
+        try {
+            solverFactory = new DefaultSolverFactory<>(new SolverConfig(solverConfig));
+            if (sharedProblemCache != null) {
+                // The shared problem is read-only, so solve a planning clone of it
+                problem = solverFactory.getSolutionDescriptor().getSolutionCloner().cloneSolution(problem);
+            }
+        } finally {
+            if (sharedProblemCache != null) {
+                sharedProblemCache.release(problemBenchmarkResult);
+            }
+        }
         DefaultSolver<Solution_> solver = (DefaultSolver<Solution_>) solverFactory.buildSolver();
         solver.setMonitorTagMap(subSingleBenchmarkTagMap);
         StatisticRegistry<Solution_> statisticRegistry = new StatisticRegistry<>(solver);
@@ -117,19 +142,22 @@ public class SubSingleBenchmarkRunner<Solution_> implements Callable<SubSingleBe
         for (SubSingleStatistic<Solution_, ?> subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap()
                 .values()) {
             subSingleStatistic.open(statisticRegistry, runTag, solver);
-            subSingleStatistic.initPointList();
+            subSingleStatistic.initPointStream();
         }
-        Solution_ solution = solver.solve(problem);
-
-        solver.removePhaseLifecycleListener(statisticRegistry);
-        Metrics.removeRegistry(statisticRegistry);
-        long timeMillisSpent = solver.getTimeMillisSpent();
-
-        for (SubSingleStatistic<Solution_, ?> subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap()
-                .values()) {
-            subSingleStatistic.close(statisticRegistry, runTag, solver);
-            subSingleStatistic.hibernatePointList();
+        Solution_ solution;
+        try {
+            solution = solver.solve(problem);
+        } finally {
+            solver.removePhaseLifecycleListener(statisticRegistry);
+            Metrics.removeRegistry(statisticRegistry);
+            for (SubSingleStatistic<Solution_, ?> subSingleStatistic : subSingleBenchmarkResult
+                    .getEffectiveSubSingleStatisticMap().values()) {
+                subSingleStatistic.close(statisticRegistry, runTag, solver);
+                // Closes the CSV file, also if solving failed
+                subSingleStatistic.hibernatePointList();
+            }
         }
+        long timeMillisSpent = solver.getTimeMillisSpent();
         if (!warmUp) {
             SolverScope<Solution_> solverScope = solver.getSolverScope();
             SolutionDescriptor<Solution_> solutionDescriptor = solverScope.getSolutionDescriptor();
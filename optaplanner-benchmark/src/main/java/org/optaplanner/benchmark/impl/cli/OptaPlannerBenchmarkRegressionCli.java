@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.cli;
+
+import java.io.File;
+
+import org.optaplanner.benchmark.api.PlannerBenchmark;
+import org.optaplanner.benchmark.api.PlannerBenchmarkFactory;
+import org.optaplanner.benchmark.config.PlannerBenchmarkConfig;
+import org.optaplanner.benchmark.impl.regression.BenchmarkRegressionGate;
+import org.optaplanner.benchmark.impl.regression.BenchmarkRegressionReport;
+import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
+
+/**
+ * Run this class from the command line interface
+ * to run a benchmarkConfigFile directly (using the normal classpath from the JVM)
+ * and compare its results with a baseline benchmark report (of an earlier run of the same benchmarkConfigFile).
+ * It exits with a non-zero status if any solver regressed on any problem, so it can fail a build.
+ *
+ * @see BenchmarkRegressionGate
+ */
+public class OptaPlannerBenchmarkRegressionCli {
+
+    public static void main(String[] args) {
+        if (args.length < 3 || args.length > 5) {
+            System.err.println("Usage: OptaPlannerBenchmarkRegressionCli benchmarkConfigFile benchmarkDirectory"
+                    + " baselineBenchmarkReport [maximumScoreCalculationSpeedDecrease [maximumScoreDecrease]]");
+            System.exit(1);
+        }
+        File benchmarkConfigFile = new File(args[0]);
+        if (!benchmarkConfigFile.exists()) {
+            System.err.println("The benchmarkConfigFile (" + benchmarkConfigFile + ") does not exist.");
+            System.exit(1);
+        }
+        File benchmarkDirectory = new File(args[1]);
+        File baselineBenchmarkReport = new File(args[2]);
+        if (!baselineBenchmarkReport.exists()) {
+            System.err.println("The baselineBenchmarkReport (" + baselineBenchmarkReport + ") does not exist.");
+            System.exit(1);
+        }
+        double maximumScoreCalculationSpeedDecrease = args.length > 3 ? Double.parseDouble(args[3])
+                : BenchmarkRegressionGate.DEFAULT_MAXIMUM_SCORE_CALCULATION_SPEED_DECREASE;
+        double maximumScoreDecrease = args.length > 4 ? Double.parseDouble(args[4])
+                : BenchmarkRegressionGate.DEFAULT_MAXIMUM_SCORE_DECREASE;
+        BenchmarkRegressionGate regressionGate = new BenchmarkRegressionGate(
+                maximumScoreCalculationSpeedDecrease, maximumScoreDecrease);
+        // Read the baseline first, to fail fast on a broken baseline
+        PlannerBenchmarkResult baselineResult = regressionGate.readPlannerBenchmarkResult(baselineBenchmarkReport);
+
+        PlannerBenchmarkConfig benchmarkConfig;
+        if (benchmarkConfigFile.getName().endsWith(".ftl")) {
+            benchmarkConfig = PlannerBenchmarkConfig.createFromFreemarkerXmlFile(benchmarkConfigFile);
+        } else {
+            benchmarkConfig = PlannerBenchmarkConfig.createFromXmlFile(benchmarkConfigFile);
+        }
+        benchmarkConfig.setBenchmarkDirectory(benchmarkDirectory);
+        PlannerBenchmarkFactory benchmarkFactory = PlannerBenchmarkFactory.create(benchmarkConfig);
+        PlannerBenchmark benchmark = benchmarkFactory.buildPlannerBenchmark();
+        BenchmarkRegressionReport regressionReport = regressionGate.benchmarkAndCompare(benchmark, baselineResult);
+        System.out.println(regressionReport.toSummaryString());
+        if (regressionReport.hasRegression()) {
+            System.exit(1);
+        }
+    }
+
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.loader;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.solver.thread.DefaultSolverThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the problem of every {@link ProblemBenchmarkResult} only once for a batch of {@link SubSingleBenchmarkResult}s,
+ * shares that input solution between all of its sub single benchmarks
+ * and forgets it as soon as the last one of those has released it.
+ * While a problem is being used, the next problem is already read in the background.
+ * <p>
+ * The shared input solution is read-only:
+ * every sub single benchmark must solve its own planning clone of it
+ * and call {@link #release(ProblemBenchmarkResult)} once per {@link #acquireProblem(ProblemBenchmarkResult)}.
+ * <p>
+ * It can also measure the memory footprint of every problem, see {@link #measureFootprints()}.
+ * <p>
+ * This class is thread-safe.
+ */
+public class SharedProblemCache implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedProblemCache.class);
+
+    private final boolean footprintMeasured;
+    private final List<ProblemBenchmarkResult<Object>> problemBenchmarkResultList;
+    private final Map<ProblemBenchmarkResult<Object>, Integer> remainingUseCountMap;
+    private final Map<ProblemBenchmarkResult<Object>, Future<LoadedProblem>> loadedProblemMap = new HashMap<>();
+    private final Map<ProblemBenchmarkResult<Object>, Long> footprintMap = new HashMap<>();
+    private final ExecutorService loaderExecutorService;
+
+    /**
+     * @param subSingleBenchmarkResultList never null, in the order in which they will run
+     * @param footprintMeasured true to measure the memory footprint of each problem in {@link #measureFootprints()}
+     */
+    public SharedProblemCache(List<SubSingleBenchmarkResult> subSingleBenchmarkResultList, boolean footprintMeasured) {
+        this.footprintMeasured = footprintMeasured;
+        remainingUseCountMap = new LinkedHashMap<>();
+        for (SubSingleBenchmarkResult subSingleBenchmarkResult : subSingleBenchmarkResultList) {
+            ProblemBenchmarkResult<Object> problemBenchmarkResult = subSingleBenchmarkResult.getSingleBenchmarkResult()
+                    .getProblemBenchmarkResult();
+            remainingUseCountMap.merge(problemBenchmarkResult, 1, Integer::sum);
+        }
+        problemBenchmarkResultList = new ArrayList<>(remainingUseCountMap.keySet());
+        loaderExecutorService = Executors.newSingleThreadExecutor(new DefaultSolverThreadFactory("ProblemLoaderThread"));
+    }
+
+    /**
+     * Reads every problem once, one after the other, with a garbage collection before and after,
+     * to measure its memory footprint.
+     * Call it before any sub single benchmark starts, because the forced garbage collections
+     * would distort the measurements of the sub single benchmarks that are solving,
+     * and their allocations would distort the footprints.
+     * The first problem is kept, because it is needed first.
+     * Does nothing if the footprint is not measured.
+     */
+    public void measureFootprints() {
+        if (!footprintMeasured) {
+            return;
+        }
+        Runtime runtime = Runtime.getRuntime();
+        List<ProblemBenchmarkResult<Object>> measuredProblemBenchmarkResultList;
+        synchronized (this) {
+            measuredProblemBenchmarkResultList = new ArrayList<>(problemBenchmarkResultList);
+        }
+        for (ProblemBenchmarkResult<Object> problemBenchmarkResult : measuredProblemBenchmarkResultList) {
+            runtime.gc();
+            long usedMemoryBefore = runtime.totalMemory() - runtime.freeMemory();
+            Object problem;
+            try {
+                problem = problemBenchmarkResult.readProblem();
+            } catch (RuntimeException e) {
+                // The sub single benchmarks of this problem will fail in acquireProblem()
+                LOGGER.debug("Reading problem ({}) to measure its memory footprint failed.",
+                        problemBenchmarkResult.getName(), e);
+                continue;
+            }
+            runtime.gc();
+            long footprint = Math.max(runtime.totalMemory() - runtime.freeMemory() - usedMemoryBefore, 0L);
+            LOGGER.debug("Measured problem ({}) with memory footprint ({}).",
+                    problemBenchmarkResult.getName(), footprint);
+            synchronized (this) {
+                footprintMap.put(problemBenchmarkResult, footprint);
+                if (loadedProblemMap.isEmpty()) {
+                    loadedProblemMap.put(problemBenchmarkResult,
+                            CompletableFuture.completedFuture(new LoadedProblem(problem, footprint)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts reading the problem (if it isn't read yet) and the next problem in the background,
+     * and waits until the problem has been read.
+     *
+     * @param problemBenchmarkResult never null
+     * @return {@code >= 0}, the memory footprint of the problem in bytes measured by {@link #measureFootprints()},
+     *         0 if it isn't measured or if it failed to read
+     */
+    public long awaitFootprint(ProblemBenchmarkResult<Object> problemBenchmarkResult) {
+        Future<LoadedProblem> future = load(problemBenchmarkResult);
+        try {
+            return future.get().footprint;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reading the problem (" + problemBenchmarkResult.getName()
+                    + ") was interrupted.", e);
+        } catch (ExecutionException e) {
+            // The sub single benchmarks of this problem will fail in acquireProblem()
+            return 0L;
+        }
+    }
+
+    /**
+     * Returns the shared problem, which must not be modified.
+     * Call {@link #release(ProblemBenchmarkResult)} once the caller has made its planning clone of it.
+     *
+     * @param problemBenchmarkResult never null
+     * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+     * @return never null, the shared input solution
+     * @throws IllegalStateException if reading the problem failed, in which case it is already released
+     */
+    public <Solution_> Solution_ acquireProblem(ProblemBenchmarkResult<Solution_> problemBenchmarkResult) {
+        ProblemBenchmarkResult<Object> key = (ProblemBenchmarkResult<Object>) problemBenchmarkResult;
+        Future<LoadedProblem> future = load(key);
+        try {
+            return (Solution_) future.get().problem;
+        } catch (InterruptedException e) {
+            release(key);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reading the problem (" + problemBenchmarkResult.getName()
+                    + ") was interrupted.", e);
+        } catch (ExecutionException e) {
+            release(key);
+            throw new IllegalStateException("Reading the problem (" + problemBenchmarkResult.getName()
+                    + ") failed.", e.getCause());
+        }
+    }
+
+    private synchronized Future<LoadedProblem> load(ProblemBenchmarkResult<Object> problemBenchmarkResult) {
+        if (!remainingUseCountMap.containsKey(problemBenchmarkResult)) {
+            throw new IllegalArgumentException("The problemBenchmarkResult (" + problemBenchmarkResult
+                    + ") is not used by the subSingleBenchmarkResults of this cache or it is already released.");
+        }
+        Future<LoadedProblem> future = submitLoad(problemBenchmarkResult);
+        // Prefetch the next problem while this one is being solved
+        int nextIndex = problemBenchmarkResultList.indexOf(problemBenchmarkResult) + 1;
+        if (nextIndex < problemBenchmarkResultList.size()) {
+            submitLoad(problemBenchmarkResultList.get(nextIndex));
+        }
+        return future;
+    }
+
+    private Future<LoadedProblem> submitLoad(ProblemBenchmarkResult<Object> problemBenchmarkResult) {
+        return loadedProblemMap.computeIfAbsent(problemBenchmarkResult,
+                key -> loaderExecutorService.submit(() -> readProblem(key)));
+    }
+
+    private LoadedProblem readProblem(ProblemBenchmarkResult<Object> problemBenchmarkResult) {
+        // No garbage collection here: other sub single benchmarks might be solving
+        Object problem = problemBenchmarkResult.readProblem();
+        long footprint;
+        synchronized (this) {
+            footprint = footprintMap.getOrDefault(problemBenchmarkResult, 0L);
+        }
+        LOGGER.debug("Read problem ({}) in time ({}).",
+                problemBenchmarkResult.getName(), problemBenchmarkResult.getInputSolutionLoadingTimeMillisSpent());
+        return new LoadedProblem(problem, footprint);
+    }
+
+    /**
+     * Forgets the shared problem if this was the last sub single benchmark that needs it.
+     *
+     * @param problemBenchmarkResult never null
+     */
+    public synchronized void release(ProblemBenchmarkResult<?> problemBenchmarkResult) {
+        Integer useCount = remainingUseCountMap.get(problemBenchmarkResult);
+        if (useCount == null) {
+            throw new IllegalArgumentException("The problemBenchmarkResult (" + problemBenchmarkResult
+                    + ") is not used by the subSingleBenchmarkResults of this cache or it is already released.");
+        }
+        int remainingUseCount = useCount - 1;
+        if (remainingUseCount > 0) {
+            remainingUseCountMap.put((ProblemBenchmarkResult<Object>) problemBenchmarkResult, remainingUseCount);
+        } else {
+            remainingUseCountMap.remove(problemBenchmarkResult);
+            problemBenchmarkResultList.remove(problemBenchmarkResult);
+            loadedProblemMap.remove(problemBenchmarkResult);
+            footprintMap.remove(problemBenchmarkResult);
+        }
+    }
+
+    /**
+     * @return {@code >= 0}, the sum of the footprints of all problems that are read and still shared
+     */
+    public synchronized long getSharedFootprint() {
+        long sharedFootprint = 0L;
+        for (Future<LoadedProblem> future : loadedProblemMap.values()) {
+            if (future.isDone() && !future.isCancelled()) {
+                try {
+                    sharedFootprint += future.get().footprint;
+                } catch (InterruptedException | ExecutionException e) {
+                    // A failed problem takes no memory
+                }
+            }
+        }
+        return sharedFootprint;
+    }
+
+    @Override
+    public synchronized void close() {
+        loadedProblemMap.clear();
+        footprintMap.clear();
+        loaderExecutorService.shutdownNow();
+    }
+
+    private static final class LoadedProblem {
+
+        private final Object problem;
+        private final long footprint;
+
+        private LoadedProblem(Object problem, long footprint) {
+            this.problem = problem;
+            this.footprint = footprint;
+        }
+
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.measurement;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Estimates confidence intervals and significance by bootstrap resampling,
+ * which makes no assumption about the distribution of the measurements,
+ * so it also works for the skewed distributions of best scores and score calculation speeds.
+ * <p>
+ * Every calculation uses a fresh {@link Random} with the same seed,
+ * so the same measurements always produce the same report.
+ */
+public class BootstrapResampler {
+
+    public static final double DEFAULT_CONFIDENCE_LEVEL = 0.95;
+    public static final double DEFAULT_SIGNIFICANCE_LEVEL = 1.0 - DEFAULT_CONFIDENCE_LEVEL;
+    public static final int DEFAULT_RESAMPLE_COUNT = 2000;
+
+    private static final long SEED = 37L;
+
+    private final int resampleCount;
+    private final double confidenceLevel;
+
+    public BootstrapResampler() {
+        this(DEFAULT_RESAMPLE_COUNT, DEFAULT_CONFIDENCE_LEVEL);
+    }
+
+    public BootstrapResampler(int resampleCount, double confidenceLevel) {
+        if (resampleCount < 1) {
+            throw new IllegalArgumentException("The resampleCount (" + resampleCount + ") must be at least 1.");
+        }
+        if (confidenceLevel <= 0.0 || confidenceLevel >= 1.0) {
+            throw new IllegalArgumentException("The confidenceLevel (" + confidenceLevel
+                    + ") must be between 0.0 and 1.0, both exclusive.");
+        }
+        this.resampleCount = resampleCount;
+        this.confidenceLevel = confidenceLevel;
+    }
+
+    public int getResampleCount() {
+        return resampleCount;
+    }
+
+    public double getConfidenceLevel() {
+        return confidenceLevel;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * Percentile bootstrap confidence interval of the mean.
+     *
+     * @param samples never null, at least 2 elements
+     * @return never null
+     */
+    public ConfidenceInterval calculateMeanConfidenceInterval(double[] samples) {
+        validateSamples(samples);
+        Random random = new Random(SEED);
+        double[] resampledMeans = new double[resampleCount];
+        for (int i = 0; i < resampleCount; i++) {
+            resampledMeans[i] = resampleMean(samples, 0.0, random);
+        }
+        Arrays.sort(resampledMeans);
+        double tail = (1.0 - confidenceLevel) / 2.0;
+        int lowerIndex = (int) Math.floor(tail * (resampleCount - 1));
+        int upperIndex = (int) Math.ceil((1.0 - tail) * (resampleCount - 1));
+        return new ConfidenceInterval(calculateMean(samples), resampledMeans[lowerIndex], resampledMeans[upperIndex]);
+    }
+
+    /**
+     * Two-sided bootstrap test of the null hypothesis that both samples have the same mean.
+     * Both samples are shifted to their pooled mean before resampling,
+     * so the resampled mean differences follow the null hypothesis.
+     *
+     * @param samples never null, at least 2 elements
+     * @param otherSamples never null, at least 2 elements
+     * @return {@code 0.0 < pValue <= 1.0}, the lower, the more unlikely that the difference in mean is due to noise
+     */
+    public double calculateMeanDifferencePValue(double[] samples, double[] otherSamples) {
+        validateSamples(samples);
+        validateSamples(otherSamples);
+        double mean = calculateMean(samples);
+        double otherMean = calculateMean(otherSamples);
+        double observedDifference = Math.abs(mean - otherMean);
+        double pooledMean = (mean * samples.length + otherMean * otherSamples.length)
+                / (samples.length + otherSamples.length);
+        double shift = pooledMean - mean;
+        double otherShift = pooledMean - otherMean;
+        // Tolerate floating point noise in the shift, so identical samples don't look different
+        double tolerance = 1e-9 * Math.max(1.0, Math.abs(pooledMean));
+        Random random = new Random(SEED);
+        int extremeCount = 0;
+        for (int i = 0; i < resampleCount; i++) {
+            double resampledDifference = Math.abs(resampleMean(samples, shift, random)
+                    - resampleMean(otherSamples, otherShift, random));
+            if (resampledDifference >= observedDifference - tolerance) {
+                extremeCount++;
+            }
+        }
+        return (extremeCount + 1.0) / (resampleCount + 1.0);
+    }
+
+    private static void validateSamples(double[] samples) {
+        if (samples.length < 2) {
+            throw new IllegalArgumentException("The samples length (" + samples.length
+                    + ") must be at least 2 to resample.");
+        }
+    }
+
+    private static double resampleMean(double[] samples, double shift, Random random) {
+        double total = 0.0;
+        for (int i = 0; i < samples.length; i++) {
+            total += samples[random.nextInt(samples.length)];
+        }
+        return total / samples.length + shift;
+    }
+
+    private static double calculateMean(double[] samples) {
+        double total = 0.0;
+        for (double sample : samples) {
+            total += sample;
+        }
+        return total / samples.length;
+    }
+
+}
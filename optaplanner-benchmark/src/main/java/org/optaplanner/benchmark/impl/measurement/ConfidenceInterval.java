@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.measurement;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * A confidence interval of the mean of a number of measurements.
+ *
+ * @see BootstrapResampler
+ */
+public class ConfidenceInterval {
+
+    private final double mean;
+    private final double lowerBound;
+    private final double upperBound;
+
+    public ConfidenceInterval(double mean, double lowerBound, double upperBound) {
+        if (lowerBound > upperBound) {
+            throw new IllegalArgumentException("The lowerBound (" + lowerBound
+                    + ") cannot be greater than the upperBound (" + upperBound + ").");
+        }
+        this.mean = mean;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getLowerBound() {
+        return lowerBound;
+    }
+
+    public double getUpperBound() {
+        return upperBound;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @return {@code >= 0.0}, the largest distance between the mean and either bound
+     */
+    public double getHalfWidth() {
+        return Math.max(mean - lowerBound, upperBound - mean);
+    }
+
+    /**
+     * @param relativePrecision {@code > 0.0}, for example {@code 0.01} for 1%
+     * @return true if {@link #getHalfWidth()} is no more than that fraction of the absolute {@link #getMean()}
+     */
+    public boolean isWithinRelativePrecision(double relativePrecision) {
+        return getHalfWidth() <= relativePrecision * Math.abs(mean);
+    }
+
+    @Override
+    public String toString() {
+        return toString(Locale.US);
+    }
+
+    public String toString(Locale locale) {
+        DecimalFormat decimalFormat = new DecimalFormat("0.###", DecimalFormatSymbols.getInstance(locale));
+        return "[" + decimalFormat.format(lowerBound) + ", " + decimalFormat.format(upperBound) + "]";
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.ranking;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.optaplanner.benchmark.impl.measurement.BootstrapResampler;
+import org.optaplanner.benchmark.impl.ranking.TotalRankSolverRankingWeightFactory.TotalRankSolverRankingWeight;
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SolverBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+
+/**
+ * This {@link SolverRankingWeightFactory} orders a {@link SolverBenchmarkResult} like
+ * {@link TotalRankSolverRankingWeightFactory}, but only counts a {@link SingleBenchmarkResult} as better or lower
+ * than another one if the difference in score is statistically significant.
+ * Otherwise it counts as equal, so noise on shared hardware does not decide the ranking.
+ * <p>
+ * A {@link SingleBenchmarkResult} with less than 2 successful {@link SubSingleBenchmarkResult}s
+ * has no significance, so it's compared as in {@link TotalRankSolverRankingWeightFactory}.
+ */
+public class SignificantRankSolverRankingWeightFactory implements SolverRankingWeightFactory {
+
+    private final Comparator<SingleBenchmarkResult> singleBenchmarkRankingComparator =
+            new TotalScoreSingleBenchmarkRankingComparator();
+    private final BootstrapResampler bootstrapResampler;
+    private final double significanceLevel;
+
+    public SignificantRankSolverRankingWeightFactory() {
+        this(new BootstrapResampler(), BootstrapResampler.DEFAULT_SIGNIFICANCE_LEVEL);
+    }
+
+    public SignificantRankSolverRankingWeightFactory(BootstrapResampler bootstrapResampler, double significanceLevel) {
+        this.bootstrapResampler = bootstrapResampler;
+        this.significanceLevel = significanceLevel;
+    }
+
+    @Override
+    public Comparable createRankingWeight(List<SolverBenchmarkResult> solverBenchmarkResultList,
+            SolverBenchmarkResult solverBenchmarkResult) {
+        int betterCount = 0;
+        int equalCount = 0;
+        int lowerCount = 0;
+        List<SingleBenchmarkResult> singleBenchmarkResultList = solverBenchmarkResult.getSingleBenchmarkResultList();
+        for (SingleBenchmarkResult single : singleBenchmarkResultList) {
+            List<SingleBenchmarkResult> otherSingleList = single.getProblemBenchmarkResult().getSingleBenchmarkResultList();
+            for (SingleBenchmarkResult otherSingle : otherSingleList) {
+                if (single == otherSingle) {
+                    continue;
+                }
+                int scoreComparison = singleBenchmarkRankingComparator.compare(single, otherSingle);
+                if (scoreComparison != 0 && !isSignificant(single, otherSingle)) {
+                    scoreComparison = 0;
+                }
+                if (scoreComparison > 0) {
+                    betterCount++;
+                } else if (scoreComparison == 0) {
+                    equalCount++;
+                } else {
+                    lowerCount++;
+                }
+            }
+        }
+        return new TotalRankSolverRankingWeight(solverBenchmarkResult, betterCount, equalCount, lowerCount);
+    }
+
+    private boolean isSignificant(SingleBenchmarkResult single, SingleBenchmarkResult otherSingle) {
+        if (single.hasAnyFailure() || otherSingle.hasAnyFailure()
+                || !single.isInitialized() || !otherSingle.isInitialized()) {
+            // The p-value ignores failures and the init score
+            return true;
+        }
+        Double pValue = single.calculateScorePValue(otherSingle, bootstrapResampler, significanceLevel);
+        return pValue == null || pValue < significanceLevel;
+    }
+
+}
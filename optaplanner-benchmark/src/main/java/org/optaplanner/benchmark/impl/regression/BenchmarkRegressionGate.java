@@ -0,0 +1,229 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.regression;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.benchmark.api.PlannerBenchmark;
+import org.optaplanner.benchmark.config.report.BenchmarkReportConfig;
+import org.optaplanner.benchmark.impl.DefaultPlannerBenchmark;
+import org.optaplanner.benchmark.impl.measurement.BootstrapResampler;
+import org.optaplanner.benchmark.impl.measurement.ScoreDifferencePercentage;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.report.BenchmarkReportFactory;
+import org.optaplanner.benchmark.impl.result.BenchmarkResultIO;
+import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SolverBenchmarkResult;
+import org.optaplanner.core.api.score.Score;
+
+/**
+ * Compares a candidate {@link PlannerBenchmarkResult} with a stored baseline {@link PlannerBenchmarkResult}
+ * of the same benchmark config, to fail a build on a performance regression.
+ * <p>
+ * Every {@link SingleBenchmarkResult} of the baseline is matched with the candidate's
+ * by solver benchmark name and problem benchmark name. A match regresses if:
+ * <ul>
+ * <li>it is missing or failed in the candidate,</li>
+ * <li>its score calculation speed decreased more than {@link #getMaximumScoreCalculationSpeedDecrease()},</li>
+ * <li>or its best score (at the end of the same termination) decreased more than
+ * {@link #getMaximumScoreDecrease()} on the first score level that differs.</li>
+ * </ul>
+ * If both sides have at least 2 successful sub single benchmarks,
+ * a decrease also needs to be statistically significant to count as a regression.
+ */
+public class BenchmarkRegressionGate {
+
+    public static final double DEFAULT_MAXIMUM_SCORE_CALCULATION_SPEED_DECREASE = 0.05;
+    public static final double DEFAULT_MAXIMUM_SCORE_DECREASE = 0.01;
+
+    private final double maximumScoreCalculationSpeedDecrease;
+    private final double maximumScoreDecrease;
+    private final BootstrapResampler bootstrapResampler;
+    private final double significanceLevel;
+
+    public BenchmarkRegressionGate() {
+        this(DEFAULT_MAXIMUM_SCORE_CALCULATION_SPEED_DECREASE, DEFAULT_MAXIMUM_SCORE_DECREASE);
+    }
+
+    /**
+     * @param maximumScoreCalculationSpeedDecrease {@code >= 0.0}, for example {@code 0.05} for 5%
+     * @param maximumScoreDecrease {@code >= 0.0}, for example {@code 0.01} for 1%
+     */
+    public BenchmarkRegressionGate(double maximumScoreCalculationSpeedDecrease, double maximumScoreDecrease) {
+        this(maximumScoreCalculationSpeedDecrease, maximumScoreDecrease,
+                new BootstrapResampler(), BootstrapResampler.DEFAULT_SIGNIFICANCE_LEVEL);
+    }
+
+    public BenchmarkRegressionGate(double maximumScoreCalculationSpeedDecrease, double maximumScoreDecrease,
+            BootstrapResampler bootstrapResampler, double significanceLevel) {
+        if (maximumScoreCalculationSpeedDecrease < 0.0) {
+            throw new IllegalArgumentException("The maximumScoreCalculationSpeedDecrease ("
+                    + maximumScoreCalculationSpeedDecrease + ") cannot be negative.");
+        }
+        if (maximumScoreDecrease < 0.0) {
+            throw new IllegalArgumentException("The maximumScoreDecrease (" + maximumScoreDecrease
+                    + ") cannot be negative.");
+        }
+        this.maximumScoreCalculationSpeedDecrease = maximumScoreCalculationSpeedDecrease;
+        this.maximumScoreDecrease = maximumScoreDecrease;
+        this.bootstrapResampler = bootstrapResampler;
+        this.significanceLevel = significanceLevel;
+    }
+
+    public double getMaximumScoreCalculationSpeedDecrease() {
+        return maximumScoreCalculationSpeedDecrease;
+    }
+
+    public double getMaximumScoreDecrease() {
+        return maximumScoreDecrease;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @param baselineFile never null, a benchmark report directory or the plannerBenchmarkResult.xml file in it
+     * @return never null, with its results accumulated
+     */
+    public PlannerBenchmarkResult readPlannerBenchmarkResult(File baselineFile) {
+        File plannerBenchmarkResultFile = baselineFile.isDirectory()
+                ? new File(baselineFile, BenchmarkResultIO.PLANNER_BENCHMARK_RESULT_FILENAME)
+                : baselineFile;
+        PlannerBenchmarkResult plannerBenchmarkResult = new BenchmarkResultIO()
+                .readPlannerBenchmarkResult(plannerBenchmarkResultFile);
+        if (plannerBenchmarkResult.getSolverBenchmarkResultList().isEmpty()) {
+            // Also happens if the plannerBenchmarkResultFile's format has changed
+            throw new IllegalArgumentException("The plannerBenchmarkResultFile (" + plannerBenchmarkResultFile
+                    + ") has no solverBenchmarkResults to compare with.");
+        }
+        BenchmarkReport benchmarkReport = new BenchmarkReportFactory(new BenchmarkReportConfig())
+                .buildBenchmarkReport(plannerBenchmarkResult);
+        plannerBenchmarkResult.accumulateResults(benchmarkReport);
+        return plannerBenchmarkResult;
+    }
+
+    /**
+     * Runs the benchmark and compares its results with the baseline.
+     *
+     * @param plannerBenchmark never null, built from the same benchmark config as the baseline
+     * @param baselineResult never null, with its results accumulated
+     * @return never null
+     */
+    public BenchmarkRegressionReport benchmarkAndCompare(PlannerBenchmark plannerBenchmark,
+            PlannerBenchmarkResult baselineResult) {
+        plannerBenchmark.benchmark();
+        PlannerBenchmarkResult candidateResult = ((DefaultPlannerBenchmark) plannerBenchmark).getPlannerBenchmarkResult();
+        return compare(baselineResult, candidateResult);
+    }
+
+    /**
+     * @param baselineResult never null, with its results accumulated
+     * @param candidateResult never null, with its results accumulated
+     * @return never null
+     */
+    public BenchmarkRegressionReport compare(PlannerBenchmarkResult baselineResult,
+            PlannerBenchmarkResult candidateResult) {
+        List<SingleBenchmarkRegression> regressionList = new ArrayList<>();
+        for (SolverBenchmarkResult baselineSolverResult : baselineResult.getSolverBenchmarkResultList()) {
+            SolverBenchmarkResult candidateSolverResult = candidateResult.getSolverBenchmarkResultList().stream()
+                    .filter(solverResult -> solverResult.getName().equals(baselineSolverResult.getName()))
+                    .findFirst().orElse(null);
+            for (SingleBenchmarkResult baselineSingleResult : baselineSolverResult.getSingleBenchmarkResultList()) {
+                String problemName = baselineSingleResult.getProblemBenchmarkResult().getName();
+                SingleBenchmarkResult candidateSingleResult = candidateSolverResult == null ? null
+                        : candidateSolverResult.getSingleBenchmarkResultList().stream()
+                                .filter(singleResult -> singleResult.getProblemBenchmarkResult().getName()
+                                        .equals(problemName))
+                                .findFirst().orElse(null);
+                regressionList.add(compare(baselineSolverResult.getName(), problemName,
+                        baselineSingleResult, candidateSingleResult));
+            }
+        }
+        return new BenchmarkRegressionReport(baselineResult.getName(), candidateResult.getName(), regressionList);
+    }
+
+    protected SingleBenchmarkRegression compare(String solverName, String problemName,
+            SingleBenchmarkResult baselineResult, SingleBenchmarkResult candidateResult) {
+        SingleBenchmarkRegression regression = new SingleBenchmarkRegression(solverName, problemName,
+                baselineResult, candidateResult);
+        if (candidateResult == null) {
+            regression.setFailureReason("missing in the candidate");
+            return regression;
+        }
+        if (candidateResult.hasAnyFailure()) {
+            regression.setFailureReason("failed (" + candidateResult.getFailureCount() + ") times in the candidate");
+            return regression;
+        }
+        if (baselineResult.hasAnyFailure()) {
+            // Nothing to regress from
+            return regression;
+        }
+        compareScoreCalculationSpeed(regression, baselineResult, candidateResult);
+        compareScore(regression, baselineResult, candidateResult);
+        return regression;
+    }
+
+    private void compareScoreCalculationSpeed(SingleBenchmarkRegression regression,
+            SingleBenchmarkResult baselineResult, SingleBenchmarkResult candidateResult) {
+        double differencePercentage = ScoreDifferencePercentage.calculateDifferencePercentage(
+                (double) baselineResult.getScoreCalculationSpeed(),
+                (double) candidateResult.getScoreCalculationSpeed());
+        regression.setScoreCalculationSpeedDifferencePercentage(differencePercentage);
+        Double pValue = candidateResult.calculateScoreCalculationSpeedPValue(baselineResult, bootstrapResampler);
+        regression.setScoreCalculationSpeedPValue(pValue);
+        regression.setScoreCalculationSpeedRegressed(-differencePercentage > maximumScoreCalculationSpeedDecrease
+                && isSignificant(pValue));
+    }
+
+    private void compareScore(SingleBenchmarkRegression regression,
+            SingleBenchmarkResult baselineResult, SingleBenchmarkResult candidateResult) {
+        if (!baselineResult.isInitialized()) {
+            return;
+        }
+        if (!candidateResult.isInitialized()) {
+            regression.setScoreRegressed(true);
+            return;
+        }
+        Score baselineScore = baselineResult.getAverageScore();
+        Score candidateScore = candidateResult.getAverageScore();
+        double[] percentageLevels = ScoreDifferencePercentage.calculateScoreDifferencePercentage(
+                baselineScore, candidateScore).getPercentageLevels();
+        double differencePercentage = 0.0;
+        for (double percentageLevel : percentageLevels) {
+            if (percentageLevel != 0.0) {
+                differencePercentage = percentageLevel;
+                break;
+            }
+        }
+        regression.setScoreDifferencePercentage(differencePercentage);
+        Double pValue = candidateResult.calculateScorePValue(baselineResult, bootstrapResampler, significanceLevel);
+        regression.setScorePValue(pValue);
+        regression.setScoreRegressed(candidateScore.compareTo(baselineScore) < 0
+                && -differencePercentage > maximumScoreDecrease
+                && isSignificant(pValue));
+    }
+
+    private boolean isSignificant(Double pValue) {
+        // Without enough samples, the threshold alone decides
+        return pValue == null || pValue < significanceLevel;
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.regression;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * The outcome of {@link BenchmarkRegressionGate#compare}.
+ */
+public class BenchmarkRegressionReport {
+
+    private final String baselineName;
+    private final String candidateName;
+    private final List<SingleBenchmarkRegression> singleBenchmarkRegressionList;
+
+    public BenchmarkRegressionReport(String baselineName, String candidateName,
+            List<SingleBenchmarkRegression> singleBenchmarkRegressionList) {
+        this.baselineName = baselineName;
+        this.candidateName = candidateName;
+        this.singleBenchmarkRegressionList = singleBenchmarkRegressionList;
+    }
+
+    public String getBaselineName() {
+        return baselineName;
+    }
+
+    public String getCandidateName() {
+        return candidateName;
+    }
+
+    public List<SingleBenchmarkRegression> getSingleBenchmarkRegressionList() {
+        return singleBenchmarkRegressionList;
+    }
+
+    // ************************************************************************
+    // Smart getters
+    // ************************************************************************
+
+    public boolean hasRegression() {
+        return singleBenchmarkRegressionList.stream().anyMatch(SingleBenchmarkRegression::isRegressed);
+    }
+
+    public List<SingleBenchmarkRegression> getRegressedList() {
+        return singleBenchmarkRegressionList.stream()
+                .filter(SingleBenchmarkRegression::isRegressed)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return never null, one line per solver and problem combination, meant to be printed on the console
+     */
+    public String toSummaryString() {
+        return toSummaryString(Locale.US);
+    }
+
+    public String toSummaryString(Locale locale) {
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        DecimalFormat percentageFormat = new DecimalFormat("+0.00%;-0.00%", symbols);
+        DecimalFormat pValueFormat = new DecimalFormat("0.000", symbols);
+        StringBuilder summary = new StringBuilder();
+        summary.append("Comparing candidate (").append(candidateName)
+                .append(") with baseline (").append(baselineName).append("):\n");
+        for (SingleBenchmarkRegression regression : singleBenchmarkRegressionList) {
+            summary.append(regression.isRegressed() ? "  REGRESSED " : "  OK        ")
+                    .append(regression);
+            if (regression.getFailureReason() != null) {
+                summary.append(": ").append(regression.getFailureReason()).append("\n");
+                continue;
+            }
+            summary.append(": score calculation speed ")
+                    .append(regression.getBaselineScoreCalculationSpeed()).append("/s -> ")
+                    .append(regression.getCandidateScoreCalculationSpeed()).append("/s");
+            if (regression.getScoreCalculationSpeedDifferencePercentage() != null) {
+                summary.append(" (")
+                        .append(percentageFormat.format(regression.getScoreCalculationSpeedDifferencePercentage()));
+                if (regression.getScoreCalculationSpeedPValue() != null) {
+                    summary.append(", p=").append(pValueFormat.format(regression.getScoreCalculationSpeedPValue()));
+                }
+                summary.append(")");
+            }
+            summary.append(", best score ")
+                    .append(regression.getBaselineScore()).append(" -> ")
+                    .append(regression.getCandidateScore());
+            if (regression.getScoreDifferencePercentage() != null) {
+                summary.append(" (").append(percentageFormat.format(regression.getScoreDifferencePercentage()));
+                if (regression.getScorePValue() != null) {
+                    summary.append(", p=").append(pValueFormat.format(regression.getScorePValue()));
+                }
+                summary.append(")");
+            }
+            summary.append("\n");
+        }
+        long regressionCount = singleBenchmarkRegressionList.stream().filter(SingleBenchmarkRegression::isRegressed)
+                .count();
+        summary.append(regressionCount == 0L ? "No regressions."
+                : "Regressions (" + regressionCount + ") detected.");
+        return summary.toString();
+    }
+
+    @Override
+    public String toString() {
+        return baselineName + " -> " + candidateName;
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.regression;
+
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.core.api.score.Score;
+
+/**
+ * The comparison of a baseline {@link SingleBenchmarkResult} with the candidate {@link SingleBenchmarkResult}
+ * of the same solver and the same problem.
+ *
+ * @see BenchmarkRegressionGate
+ */
+public class SingleBenchmarkRegression {
+
+    private final String solverName;
+    private final String problemName;
+    private final SingleBenchmarkResult baselineResult;
+    private final SingleBenchmarkResult candidateResult;
+
+    private Double scoreCalculationSpeedDifferencePercentage = null;
+    private Double scoreCalculationSpeedPValue = null;
+    private boolean scoreCalculationSpeedRegressed = false;
+    private Double scoreDifferencePercentage = null;
+    private Double scorePValue = null;
+    private boolean scoreRegressed = false;
+    private String failureReason = null;
+
+    /**
+     * @param solverName never null
+     * @param problemName never null
+     * @param baselineResult never null
+     * @param candidateResult null if the candidate did not run this solver on this problem
+     */
+    public SingleBenchmarkRegression(String solverName, String problemName,
+            SingleBenchmarkResult baselineResult, SingleBenchmarkResult candidateResult) {
+        this.solverName = solverName;
+        this.problemName = problemName;
+        this.baselineResult = baselineResult;
+        this.candidateResult = candidateResult;
+    }
+
+    public String getSolverName() {
+        return solverName;
+    }
+
+    public String getProblemName() {
+        return problemName;
+    }
+
+    public SingleBenchmarkResult getBaselineResult() {
+        return baselineResult;
+    }
+
+    public SingleBenchmarkResult getCandidateResult() {
+        return candidateResult;
+    }
+
+    /**
+     * @return null if not compared, otherwise negative if the candidate is slower than the baseline
+     */
+    public Double getScoreCalculationSpeedDifferencePercentage() {
+        return scoreCalculationSpeedDifferencePercentage;
+    }
+
+    public void setScoreCalculationSpeedDifferencePercentage(Double scoreCalculationSpeedDifferencePercentage) {
+        this.scoreCalculationSpeedDifferencePercentage = scoreCalculationSpeedDifferencePercentage;
+    }
+
+    public Double getScoreCalculationSpeedPValue() {
+        return scoreCalculationSpeedPValue;
+    }
+
+    public void setScoreCalculationSpeedPValue(Double scoreCalculationSpeedPValue) {
+        this.scoreCalculationSpeedPValue = scoreCalculationSpeedPValue;
+    }
+
+    public boolean isScoreCalculationSpeedRegressed() {
+        return scoreCalculationSpeedRegressed;
+    }
+
+    public void setScoreCalculationSpeedRegressed(boolean scoreCalculationSpeedRegressed) {
+        this.scoreCalculationSpeedRegressed = scoreCalculationSpeedRegressed;
+    }
+
+    /**
+     * @return null if not compared, otherwise the difference percentage of the first score level that differs,
+     *         negative if the candidate's best score is worse than the baseline's
+     */
+    public Double getScoreDifferencePercentage() {
+        return scoreDifferencePercentage;
+    }
+
+    public void setScoreDifferencePercentage(Double scoreDifferencePercentage) {
+        this.scoreDifferencePercentage = scoreDifferencePercentage;
+    }
+
+    public Double getScorePValue() {
+        return scorePValue;
+    }
+
+    public void setScorePValue(Double scorePValue) {
+        this.scorePValue = scorePValue;
+    }
+
+    public boolean isScoreRegressed() {
+        return scoreRegressed;
+    }
+
+    public void setScoreRegressed(boolean scoreRegressed) {
+        this.scoreRegressed = scoreRegressed;
+    }
+
+    /**
+     * @return null if the candidate ran successfully
+     */
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    public void setFailureReason(String failureReason) {
+        this.failureReason = failureReason;
+    }
+
+    // ************************************************************************
+    // Smart getters
+    // ************************************************************************
+
+    public boolean isRegressed() {
+        return failureReason != null || scoreCalculationSpeedRegressed || scoreRegressed;
+    }
+
+    public Long getBaselineScoreCalculationSpeed() {
+        return baselineResult.hasAnyFailure() ? null : baselineResult.getScoreCalculationSpeed();
+    }
+
+    public Long getCandidateScoreCalculationSpeed() {
+        return candidateResult == null || candidateResult.hasAnyFailure() ? null
+                : candidateResult.getScoreCalculationSpeed();
+    }
+
+    public Score<?> getBaselineScore() {
+        return baselineResult.hasAnyFailure() ? null : baselineResult.getAverageScore();
+    }
+
+    public Score<?> getCandidateScore() {
+        return candidateResult == null || candidateResult.hasAnyFailure() ? null : candidateResult.getAverageScore();
+    }
+
+    @Override
+    public String toString() {
+        return solverName + " on " + problemName;
+    }
+
+}
@@ -59,6 +59,7 @@ import org.jfree.data.statistics.DefaultBoxAndWhiskerCategoryDataset;
 import org.jfree.data.xy.XYDataItem;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
+import org.optaplanner.benchmark.impl.measurement.BootstrapResampler;
 import org.optaplanner.benchmark.impl.ranking.SolverRankingWeightFactory;
 import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
@@ -83,9 +84,15 @@ public class BenchmarkReport {
     private static final Logger LOGGER = LoggerFactory.getLogger(BenchmarkReport.class);
 
     public static final int CHARTED_SCORE_LEVEL_SIZE = 15;
+    /**
+     * Statistics with more points are downsampled when they are charted, to render them in bounded memory.
+     * With 2 points per horizontal pixel, the downsampled chart looks the same.
+     */
+    public static final int CHARTED_POINT_MAXIMUM_SIZE = 2048;
     public static final int LOG_SCALE_MIN_DATASETS_COUNT = 5;
 
     private final PlannerBenchmarkResult plannerBenchmarkResult;
+    private final BootstrapResampler bootstrapResampler = new BootstrapResampler();
 
     private Locale locale = null;
     private ZoneId timezoneId = null;
@@ -116,6 +123,10 @@ public class BenchmarkReport {
         return plannerBenchmarkResult;
     }
 
+    public BootstrapResampler getBootstrapResampler() {
+        return bootstrapResampler;
+    }
+
     public Locale getLocale() {
         return locale;
     }
@@ -264,7 +275,7 @@ public class BenchmarkReport {
                     for (SubSingleStatistic subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap()
                             .values()) {
                         try {
-                            subSingleStatistic.unhibernatePointList();
+                            subSingleStatistic.unhibernatePointList(CHARTED_POINT_MAXIMUM_SIZE);
                         } catch (IllegalStateException e) {
                             if (!plannerBenchmarkResult.getAggregation()) {
                                 throw new IllegalStateException("Failed to unhibernate point list of SubSingleStatistic ("
@@ -305,11 +316,8 @@ public class BenchmarkReport {
                     }
                     for (SubSingleStatistic subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap()
                             .values()) {
-                        if (plannerBenchmarkResult.getAggregation()) {
-                            subSingleStatistic.setPointList(null);
-                        } else {
-                            subSingleStatistic.hibernatePointList();
-                        }
+                        // The CSV file is still intact, so don't overwrite it with the downsampled points
+                        subSingleStatistic.releasePointList();
                     }
                 }
             }
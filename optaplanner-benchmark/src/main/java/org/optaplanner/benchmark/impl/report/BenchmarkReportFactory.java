@@ -20,6 +20,7 @@ import java.time.ZoneId;
 import java.util.Comparator;
 
 import org.optaplanner.benchmark.config.report.BenchmarkReportConfig;
+import org.optaplanner.benchmark.impl.ranking.SignificantRankSolverRankingWeightFactory;
 import org.optaplanner.benchmark.impl.ranking.SolverRankingWeightFactory;
 import org.optaplanner.benchmark.impl.ranking.TotalRankSolverRankingWeightFactory;
 import org.optaplanner.benchmark.impl.ranking.TotalScoreSolverRankingComparator;
@@ -74,6 +75,9 @@ public class BenchmarkReportFactory {
                 case TOTAL_RANKING:
                     solverRankingWeightFactory = new TotalRankSolverRankingWeightFactory();
                     break;
+                case SIGNIFICANT_RANKING:
+                    solverRankingWeightFactory = new SignificantRankSolverRankingWeightFactory();
+                    break;
                 default:
                     throw new IllegalStateException("The solverRankingType ("
                             + config.getSolverRankingType() + ") is not implemented.");
@@ -42,7 +42,7 @@ import org.slf4j.LoggerFactory;
 public class BenchmarkResultIO {
     // BenchmarkResult contains <solverConfig/> element instead of the default SolverConfig.XML_ELEMENT_NAME.
     private static final String SOLVER_CONFIG_XML_ELEMENT_NAME = "solverConfig";
-    private static final String PLANNER_BENCHMARK_RESULT_FILENAME = "plannerBenchmarkResult.xml";
+    public static final String PLANNER_BENCHMARK_RESULT_FILENAME = "plannerBenchmarkResult.xml";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BenchmarkResultIO.class);
 
@@ -81,7 +81,7 @@ public class BenchmarkResultIO {
         return plannerBenchmarkResultList;
     }
 
-    protected PlannerBenchmarkResult readPlannerBenchmarkResult(File plannerBenchmarkResultFile) {
+    public PlannerBenchmarkResult readPlannerBenchmarkResult(File plannerBenchmarkResultFile) {
         if (!plannerBenchmarkResultFile.exists()) {
             throw new IllegalArgumentException("The plannerBenchmarkResultFile (" + plannerBenchmarkResultFile
                     + ") does not exist.");
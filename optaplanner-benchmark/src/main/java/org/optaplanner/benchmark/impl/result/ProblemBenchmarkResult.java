@@ -40,6 +40,7 @@ import org.optaplanner.benchmark.config.statistic.SingleStatisticType;
 import org.optaplanner.benchmark.impl.loader.FileProblemProvider;
 import org.optaplanner.benchmark.impl.loader.InstanceProblemProvider;
 import org.optaplanner.benchmark.impl.loader.ProblemProvider;
+import org.optaplanner.benchmark.impl.measurement.BootstrapResampler;
 import org.optaplanner.benchmark.impl.measurement.ScoreDifferencePercentage;
 import org.optaplanner.benchmark.impl.ranking.TotalScoreSingleBenchmarkRankingComparator;
 import org.optaplanner.benchmark.impl.report.BenchmarkReport;
@@ -48,6 +49,8 @@ import org.optaplanner.benchmark.impl.statistic.ProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.bestscore.BestScoreProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.bestsolutionmutation.BestSolutionMutationProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.garbagecollectiontimeshare.GarbageCollectionTimeShareProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.memoryallocationrate.MemoryAllocationRateProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.memoryuse.MemoryUseProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.movecountperstep.MoveCountPerStepProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.scorecalculationspeed.ScoreCalculationSpeedProblemStatistic;
@@ -85,6 +88,9 @@ public class ProblemBenchmarkResult<Solution_> {
             @XmlElement(name = "bestSolutionMutationProblemStatistic", type = BestSolutionMutationProblemStatistic.class),
             @XmlElement(name = "moveCountPerStepProblemStatistic", type = MoveCountPerStepProblemStatistic.class),
             @XmlElement(name = "memoryUseProblemStatistic", type = MemoryUseProblemStatistic.class),
+            @XmlElement(name = "memoryAllocationRateProblemStatistic", type = MemoryAllocationRateProblemStatistic.class),
+            @XmlElement(name = "garbageCollectionTimeShareProblemStatistic",
+                    type = GarbageCollectionTimeShareProblemStatistic.class),
     })
     private List<ProblemStatistic> problemStatisticList = null;
 
@@ -346,7 +352,7 @@ public class ProblemBenchmarkResult<Solution_> {
             singleBenchmarkResult.accumulateResults(benchmarkReport);
         }
         determineTotalsAndAveragesAndRanking();
-        determineWinningScoreDifference();
+        determineWinningScoreDifference(benchmarkReport.getBootstrapResampler());
         for (ProblemStatistic problemStatistic : problemStatisticList) {
             problemStatistic.accumulateResults(benchmarkReport);
         }
@@ -408,7 +414,7 @@ public class ProblemBenchmarkResult<Solution_> {
                 : rankedSingleBenchmarkResultList.get(rankedSingleBenchmarkResultList.size() - 1);
     }
 
-    private void determineWinningScoreDifference() {
+    private void determineWinningScoreDifference(BootstrapResampler bootstrapResampler) {
         for (SingleBenchmarkResult singleBenchmarkResult : singleBenchmarkResultList) {
             if (singleBenchmarkResult.hasAnyFailure()) {
                 continue;
@@ -422,6 +428,16 @@ public class ProblemBenchmarkResult<Solution_> {
                     ScoreDifferencePercentage.calculateDifferencePercentage(
                             (double) worstScoreCalculationSpeed,
                             (double) singleBenchmarkResult.getScoreCalculationSpeed()));
+            if (singleBenchmarkResult == winningSingleBenchmarkResult) {
+                singleBenchmarkResult.setWinningScorePValue(null);
+                singleBenchmarkResult.setWinningScoreCalculationSpeedPValue(null);
+            } else {
+                singleBenchmarkResult.setWinningScorePValue(singleBenchmarkResult.calculateScorePValue(
+                        winningSingleBenchmarkResult, bootstrapResampler, BootstrapResampler.DEFAULT_SIGNIFICANCE_LEVEL));
+                singleBenchmarkResult.setWinningScoreCalculationSpeedPValue(
+                        singleBenchmarkResult.calculateScoreCalculationSpeedPValue(
+                                winningSingleBenchmarkResult, bootstrapResampler));
+            }
         }
     }
 
@@ -30,16 +30,20 @@ import javax.xml.bind.annotation.XmlID;
 import javax.xml.bind.annotation.XmlTransient;
 
 import org.optaplanner.benchmark.config.statistic.ProblemStatisticType;
+import org.optaplanner.benchmark.impl.measurement.BootstrapResampler;
+import org.optaplanner.benchmark.impl.measurement.ConfidenceInterval;
 import org.optaplanner.benchmark.impl.measurement.ScoreDifferencePercentage;
 import org.optaplanner.benchmark.impl.ranking.ScoreSubSingleBenchmarkRankingComparator;
 import org.optaplanner.benchmark.impl.ranking.SubSingleBenchmarkRankBasedComparator;
 import org.optaplanner.benchmark.impl.report.BenchmarkReport;
 import org.optaplanner.benchmark.impl.report.ReportHelper;
+import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.StatisticUtils;
 import org.optaplanner.benchmark.impl.statistic.SubSingleStatistic;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.score.ScoreUtils;
 
 /**
  * Represents 1 benchmark for 1 {@link Solver} configuration for 1 problem instance (data set).
@@ -87,6 +91,16 @@ public class SingleBenchmarkResult implements BenchmarkResult {
     private Score<?> winningScoreDifference = null;
     private ScoreDifferencePercentage worstScoreDifferencePercentage = null;
     private Double worstScoreCalculationSpeedDifferencePercentage = null;
+    // Recalculated from the SubSingleBenchmarkResults, null if there are less than 2 successful ones
+    @XmlTransient
+    private ConfidenceInterval[] scoreConfidenceIntervals = null;
+    @XmlTransient
+    private ConfidenceInterval scoreCalculationSpeedConfidenceInterval = null;
+    // Compared to winningSingleBenchmarkResult, null if either has less than 2 successful SubSingleBenchmarkResults
+    @XmlTransient
+    private Double winningScorePValue = null;
+    @XmlTransient
+    private Double winningScoreCalculationSpeedPValue = null;
 
     // Ranking starts from 0
     private Integer ranking = null;
@@ -197,6 +211,30 @@ public class SingleBenchmarkResult implements BenchmarkResult {
         this.worstScoreCalculationSpeedDifferencePercentage = worstScoreCalculationSpeedDifferencePercentage;
     }
 
+    public ConfidenceInterval[] getScoreConfidenceIntervals() {
+        return scoreConfidenceIntervals;
+    }
+
+    public ConfidenceInterval getScoreCalculationSpeedConfidenceInterval() {
+        return scoreCalculationSpeedConfidenceInterval;
+    }
+
+    public Double getWinningScorePValue() {
+        return winningScorePValue;
+    }
+
+    public void setWinningScorePValue(Double winningScorePValue) {
+        this.winningScorePValue = winningScorePValue;
+    }
+
+    public Double getWinningScoreCalculationSpeedPValue() {
+        return winningScoreCalculationSpeedPValue;
+    }
+
+    public void setWinningScoreCalculationSpeedPValue(Double winningScoreCalculationSpeedPValue) {
+        this.winningScoreCalculationSpeedPValue = winningScoreCalculationSpeedPValue;
+    }
+
     public Integer getRanking() {
         return ranking;
     }
@@ -306,6 +344,162 @@ public class SingleBenchmarkResult implements BenchmarkResult {
         return StatisticUtils.getStandardDeviationString(standardDeviationDoubles);
     }
 
+    public String getScoreConfidenceIntervalString() {
+        if (scoreConfidenceIntervals == null) {
+            return null;
+        }
+        StringBuilder scoreConfidenceIntervalString = new StringBuilder(scoreConfidenceIntervals.length * 20);
+        for (int i = 0; i < scoreConfidenceIntervals.length; i++) {
+            if (i > 0) {
+                scoreConfidenceIntervalString.append("/");
+            }
+            scoreConfidenceIntervalString.append(scoreConfidenceIntervals[i]);
+        }
+        return scoreConfidenceIntervalString.toString();
+    }
+
+    /**
+     * @return true if the score differs from the winner's score with
+     *         {@link BootstrapResampler#DEFAULT_SIGNIFICANCE_LEVEL statistical significance}
+     */
+    public boolean isWinningScoreDifferenceSignificant() {
+        return winningScorePValue != null && winningScorePValue < BootstrapResampler.DEFAULT_SIGNIFICANCE_LEVEL;
+    }
+
+    /**
+     * @return true if the score calculation speed differs from the winner's score calculation speed with
+     *         {@link BootstrapResampler#DEFAULT_SIGNIFICANCE_LEVEL statistical significance}
+     */
+    public boolean isWinningScoreCalculationSpeedDifferenceSignificant() {
+        return winningScoreCalculationSpeedPValue != null
+                && winningScoreCalculationSpeedPValue < BootstrapResampler.DEFAULT_SIGNIFICANCE_LEVEL;
+    }
+
+    /**
+     * @return never null, the score levels (without the init score) of each successful {@link SubSingleBenchmarkResult},
+     *         indexed by score level first
+     */
+    public double[][] extractScoreLevelSamples() {
+        List<SubSingleBenchmarkResult> successResultList = getSuccessSubSingleBenchmarkResultList();
+        if (successResultList.isEmpty()) {
+            return new double[0][0];
+        }
+        double[][] scoreLevelSamples = null;
+        for (int i = 0; i < successResultList.size(); i++) {
+            double[] levelDoubles = ScoreUtils.extractLevelDoubles(successResultList.get(i).getAverageScore());
+            if (scoreLevelSamples == null) {
+                scoreLevelSamples = new double[levelDoubles.length][successResultList.size()];
+            }
+            for (int j = 0; j < levelDoubles.length; j++) {
+                scoreLevelSamples[j][i] = levelDoubles[j];
+            }
+        }
+        return scoreLevelSamples;
+    }
+
+    /**
+     * @return never null, the score calculation speed of each successful {@link SubSingleBenchmarkResult}
+     */
+    public double[] extractScoreCalculationSpeedSamples() {
+        List<SubSingleBenchmarkResult> successResultList = getSuccessSubSingleBenchmarkResultList();
+        double[] scoreCalculationSpeedSamples = new double[successResultList.size()];
+        for (int i = 0; i < successResultList.size(); i++) {
+            scoreCalculationSpeedSamples[i] = successResultList.get(i).getScoreCalculationSpeed();
+        }
+        return scoreCalculationSpeedSamples;
+    }
+
+    private List<SubSingleBenchmarkResult> getSuccessSubSingleBenchmarkResultList() {
+        List<SubSingleBenchmarkResult> successResultList = new ArrayList<>(subSingleBenchmarkResultList.size());
+        for (SubSingleBenchmarkResult subSingleBenchmarkResult : subSingleBenchmarkResultList) {
+            if (subSingleBenchmarkResult.hasAllSuccess()) {
+                successResultList.add(subSingleBenchmarkResult);
+            }
+        }
+        return successResultList;
+    }
+
+    /**
+     * The score levels are compared lexicographically, like the score itself,
+     * but a score level only differs if its difference is significant:
+     * a noisy hard score level doesn't hide a significant difference in a soft score level.
+     *
+     * @param other never null
+     * @param bootstrapResampler never null
+     * @param significanceLevel {@code 0.0 < significanceLevel < 1.0}
+     * @return null if either has less than 2 successful {@link SubSingleBenchmarkResult}s,
+     *         otherwise the p-value of the first score level that differs significantly,
+     *         or the lowest p-value of all score levels if none does
+     */
+    public Double calculateScorePValue(SingleBenchmarkResult other, BootstrapResampler bootstrapResampler,
+            double significanceLevel) {
+        double[][] scoreLevelSamples = extractScoreLevelSamples();
+        double[][] otherScoreLevelSamples = other.extractScoreLevelSamples();
+        if (scoreLevelSamples.length == 0 || scoreLevelSamples[0].length < 2
+                || otherScoreLevelSamples.length == 0 || otherScoreLevelSamples[0].length < 2) {
+            return null;
+        }
+        if (scoreLevelSamples.length != otherScoreLevelSamples.length) {
+            throw new IllegalStateException("The singleBenchmarkResult (" + this + ")'s levelsLength ("
+                    + scoreLevelSamples.length + ") is different from the other singleBenchmarkResult (" + other
+                    + ")'s levelsLength (" + otherScoreLevelSamples.length + ").");
+        }
+        double lowestPValue = 1.0;
+        for (int i = 0; i < scoreLevelSamples.length; i++) {
+            double pValue = bootstrapResampler.calculateMeanDifferencePValue(
+                    scoreLevelSamples[i], otherScoreLevelSamples[i]);
+            if (pValue < significanceLevel) {
+                return pValue;
+            }
+            lowestPValue = Math.min(lowestPValue, pValue);
+        }
+        return lowestPValue;
+    }
+
+    /**
+     * @param other never null
+     * @param bootstrapResampler never null
+     * @return null if either has less than 2 successful {@link SubSingleBenchmarkResult}s,
+     *         otherwise the p-value of the difference in score calculation speed
+     */
+    public Double calculateScoreCalculationSpeedPValue(SingleBenchmarkResult other,
+            BootstrapResampler bootstrapResampler) {
+        double[] scoreCalculationSpeedSamples = extractScoreCalculationSpeedSamples();
+        double[] otherScoreCalculationSpeedSamples = other.extractScoreCalculationSpeedSamples();
+        if (scoreCalculationSpeedSamples.length < 2 || otherScoreCalculationSpeedSamples.length < 2) {
+            return null;
+        }
+        return bootstrapResampler.calculateMeanDifferencePValue(
+                scoreCalculationSpeedSamples, otherScoreCalculationSpeedSamples);
+    }
+
+    /**
+     * Used to decide if more {@link SubSingleBenchmarkResult}s are needed.
+     *
+     * @param targetRelativePrecision {@code > 0.0}
+     * @param bootstrapResampler never null
+     * @return true if the confidence interval of the score calculation speed and of every score level
+     *         are within the target relative precision
+     */
+    public boolean isTargetRelativePrecisionReached(double targetRelativePrecision,
+            BootstrapResampler bootstrapResampler) {
+        double[] scoreCalculationSpeedSamples = extractScoreCalculationSpeedSamples();
+        if (scoreCalculationSpeedSamples.length < 2) {
+            return false;
+        }
+        if (!bootstrapResampler.calculateMeanConfidenceInterval(scoreCalculationSpeedSamples)
+                .isWithinRelativePrecision(targetRelativePrecision)) {
+            return false;
+        }
+        for (double[] scoreLevelSamples : extractScoreLevelSamples()) {
+            if (!bootstrapResampler.calculateMeanConfidenceInterval(scoreLevelSamples)
+                    .isWithinRelativePrecision(targetRelativePrecision)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     // ************************************************************************
     // Accumulate methods
     // ************************************************************************
@@ -340,6 +534,44 @@ public class SingleBenchmarkResult implements BenchmarkResult {
         standardDeviationDoubles = StatisticUtils.determineStandardDeviationDoubles(subSingleBenchmarkResultList, averageScore,
                 getSuccessCount());
         determineRepresentativeSubSingleBenchmarkResult();
+        determineConfidenceIntervals(benchmarkReport.getBootstrapResampler());
+    }
+
+    private void determineConfidenceIntervals(BootstrapResampler bootstrapResampler) {
+        double[] scoreCalculationSpeedSamples = extractScoreCalculationSpeedSamples();
+        if (scoreCalculationSpeedSamples.length < 2) {
+            scoreConfidenceIntervals = null;
+            scoreCalculationSpeedConfidenceInterval = null;
+            return;
+        }
+        scoreCalculationSpeedConfidenceInterval = bootstrapResampler.calculateMeanConfidenceInterval(
+                scoreCalculationSpeedSamples);
+        double[][] scoreLevelSamples = extractScoreLevelSamples();
+        scoreConfidenceIntervals = new ConfidenceInterval[scoreLevelSamples.length];
+        for (int i = 0; i < scoreLevelSamples.length; i++) {
+            scoreConfidenceIntervals[i] = bootstrapResampler.calculateMeanConfidenceInterval(scoreLevelSamples[i]);
+        }
+    }
+
+    /**
+     * Adds an extra {@link SubSingleBenchmarkResult}, with the same statistics as the existing ones,
+     * to improve the precision of this result.
+     *
+     * @return never null
+     */
+    public SubSingleBenchmarkResult addExtraSubSingleBenchmarkResult() {
+        SubSingleBenchmarkResult templateResult = subSingleBenchmarkResultList.get(0);
+        SubSingleBenchmarkResult newResult = new SubSingleBenchmarkResult(this, subSingleBenchmarkResultList.size());
+        List<PureSubSingleStatistic> pureSubSingleStatisticList = new ArrayList<>(
+                templateResult.getPureSubSingleStatisticList().size());
+        for (PureSubSingleStatistic pureSubSingleStatistic : templateResult.getPureSubSingleStatisticList()) {
+            pureSubSingleStatisticList.add(pureSubSingleStatistic.getStatisticType().buildPureSubSingleStatistic(newResult));
+        }
+        newResult.setPureSubSingleStatisticList(pureSubSingleStatisticList);
+        newResult.initSubSingleStatisticMap();
+        subSingleBenchmarkResultList.add(newResult);
+        newResult.makeDirs();
+        return newResult;
     }
 
     private void determineRepresentativeSubSingleBenchmarkResult() {
@@ -47,6 +47,8 @@ public class SolverBenchmarkResult {
     private String name = null;
 
     private Integer subSingleCount = null;
+    private Integer maximumSubSingleCount = null;
+    private Double targetRelativePrecision = null;
 
     @XmlElement(namespace = SolverConfig.XML_NAMESPACE)
     private SolverConfig solverConfig = null;
@@ -118,6 +120,29 @@ public class SolverBenchmarkResult {
         this.subSingleCount = subSingleCount;
     }
 
+    /**
+     * @return null if no extra {@link SubSingleBenchmarkResult}s are added to reach the
+     *         {@link #getTargetRelativePrecision()}
+     */
+    public Integer getMaximumSubSingleCount() {
+        return maximumSubSingleCount;
+    }
+
+    public void setMaximumSubSingleCount(Integer maximumSubSingleCount) {
+        this.maximumSubSingleCount = maximumSubSingleCount;
+    }
+
+    /**
+     * @return null if no extra {@link SubSingleBenchmarkResult}s are added
+     */
+    public Double getTargetRelativePrecision() {
+        return targetRelativePrecision;
+    }
+
+    public void setTargetRelativePrecision(Double targetRelativePrecision) {
+        this.targetRelativePrecision = targetRelativePrecision;
+    }
+
     public SolverConfig getSolverConfig() {
         return solverConfig;
     }
@@ -363,6 +388,8 @@ public class SolverBenchmarkResult {
                 }
                 nameCountMap.put(oldResult.name, nameCount);
                 newResult.subSingleCount = oldResult.subSingleCount;
+                newResult.maximumSubSingleCount = oldResult.maximumSubSingleCount;
+                newResult.targetRelativePrecision = oldResult.targetRelativePrecision;
                 newResult.solverConfig = oldResult.solverConfig;
                 newResult.scoreDefinition = oldResult.scoreDefinition;
                 newResult.singleBenchmarkResultList = new ArrayList<>(
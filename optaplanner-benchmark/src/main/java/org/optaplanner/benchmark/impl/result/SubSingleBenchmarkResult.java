@@ -35,6 +35,7 @@ import org.optaplanner.benchmark.impl.statistic.subsingle.constraintmatchtotalbe
 import org.optaplanner.benchmark.impl.statistic.subsingle.constraintmatchtotalstepscore.ConstraintMatchTotalStepScoreSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypebestscore.PickedMoveTypeBestScoreDiffSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypestepscore.PickedMoveTypeStepScoreDiffSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.subsingle.threadcpuuse.ThreadCpuUseSubSingleStatistic;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.solver.Solver;
 import org.slf4j.Logger;
@@ -60,7 +61,9 @@ public class SubSingleBenchmarkResult implements BenchmarkResult {
             @XmlElement(name = "pickedMoveTypeBestScoreDiffSubSingleStatistic",
                     type = PickedMoveTypeBestScoreDiffSubSingleStatistic.class),
             @XmlElement(name = "pickedMoveTypeStepScoreDiffSubSingleStatistic",
-                    type = PickedMoveTypeStepScoreDiffSubSingleStatistic.class)
+                    type = PickedMoveTypeStepScoreDiffSubSingleStatistic.class),
+            @XmlElement(name = "threadCpuUseSubSingleStatistic",
+                    type = ThreadCpuUseSubSingleStatistic.class)
     })
     private List<PureSubSingleStatistic> pureSubSingleStatisticList = null;
 
@@ -296,9 +299,10 @@ public class SubSingleBenchmarkResult implements BenchmarkResult {
                             + ") sub single statistic's (" + oldSubSingleStatistic + ") CSV file.");
                 }
             }
-            oldSubSingleStatistic.unhibernatePointList();
+            // The merged points are only used to chart the aggregated report
+            oldSubSingleStatistic.unhibernatePointList(BenchmarkReport.CHARTED_POINT_MAXIMUM_SIZE);
             newSubSingleStatistic.setPointList(oldSubSingleStatistic.getPointList());
-            oldSubSingleStatistic.hibernatePointList();
+            oldSubSingleStatistic.releasePointList();
         }
         // Skip oldResult.reportDirectory
         // Skip oldResult.usedMemoryAfterInputSolution
@@ -35,6 +35,8 @@ import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
 import org.optaplanner.benchmark.impl.statistic.bestscore.BestScoreProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.bestsolutionmutation.BestSolutionMutationProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.common.GraphSupport;
+import org.optaplanner.benchmark.impl.statistic.garbagecollectiontimeshare.GarbageCollectionTimeShareProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.memoryallocationrate.MemoryAllocationRateProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.memoryuse.MemoryUseProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.movecountperstep.MoveCountPerStepProblemStatistic;
 import org.optaplanner.benchmark.impl.statistic.scorecalculationspeed.ScoreCalculationSpeedProblemStatistic;
@@ -50,7 +52,9 @@ import org.optaplanner.benchmark.impl.statistic.stepscore.StepScoreProblemStatis
         ScoreCalculationSpeedProblemStatistic.class,
         BestSolutionMutationProblemStatistic.class,
         MoveCountPerStepProblemStatistic.class,
-        MemoryUseProblemStatistic.class
+        MemoryUseProblemStatistic.class,
+        MemoryAllocationRateProblemStatistic.class,
+        GarbageCollectionTimeShareProblemStatistic.class
 })
 public abstract class ProblemStatistic {
 
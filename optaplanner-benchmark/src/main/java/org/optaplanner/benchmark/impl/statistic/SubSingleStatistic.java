@@ -24,6 +24,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -58,6 +59,9 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
     @XmlTransient
     protected List<StatisticPoint_> pointList;
 
+    @XmlTransient
+    private BufferedWriter csvWriter = null;
+
     protected SubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
         this.subSingleBenchmarkResult = subSingleBenchmarkResult;
     }
@@ -117,6 +121,54 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
         pointList = new ArrayList<>();
     }
 
+    /**
+     * Instead of keeping every point in memory until {@link #hibernatePointList()},
+     * write every point to the CSV file as soon as it's {@link #addPoint(StatisticPoint) added}.
+     * Long benchmarks with a lot of steps otherwise run out of memory.
+     */
+    public void initPointStream() {
+        if (csvWriter != null) {
+            throw new IllegalStateException("The csvWriter of the statistic (" + getStatisticType()
+                    + ") of the single benchmark (" + subSingleBenchmarkResult + ") is already open.");
+        }
+        File csvFile = getCsvFile();
+        try {
+            csvWriter = Files.newBufferedWriter(csvFile.toPath(), StandardCharsets.UTF_8);
+            csvWriter.append(getCsvHeader());
+            csvWriter.newLine();
+        } catch (IOException e) {
+            closeCsvWriter();
+            throw new IllegalArgumentException("Failed writing csvFile (" + csvFile + ").", e);
+        }
+        pointList = null;
+    }
+
+    protected void addPoint(StatisticPoint_ point) {
+        if (csvWriter == null) {
+            pointList.add(point);
+            return;
+        }
+        try {
+            csvWriter.append(point.toCsvLine());
+            csvWriter.newLine();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing csvFile (" + getCsvFile() + ").", e);
+        }
+    }
+
+    private void closeCsvWriter() {
+        if (csvWriter == null) {
+            return;
+        }
+        try {
+            csvWriter.close();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing csvFile (" + getCsvFile() + ").", e);
+        } finally {
+            csvWriter = null;
+        }
+    }
+
     protected abstract String getCsvHeader();
 
     private void writeCsvStatisticFile() {
@@ -137,7 +189,7 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
         }
     }
 
-    private void readCsvStatisticFile() {
+    private void readCsvStatisticFile(int maximumPointCount) {
         File csvFile = getCsvFile();
         ScoreDefinition<?> scoreDefinition = subSingleBenchmarkResult.getSingleBenchmarkResult().getSolverBenchmarkResult()
                 .getScoreDefinition();
@@ -153,21 +205,26 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
             }
         }
 
-        try (BufferedReader reader = Files.newBufferedReader(csvFile.toPath(), StandardCharsets.UTF_8)) {
-            String line = reader.readLine();
-            if (!getCsvHeader().equals(line)) {
-                throw new IllegalStateException("The read line (" + line
-                        + ") is expected to be the header line (" + getCsvHeader()
-                        + ") for statisticType (" + getStatisticType() + ").");
+        Comparator<StatisticPoint_> downsamplingComparator = getDownsamplingComparator();
+        long bucketSize = 1L;
+        if (downsamplingComparator != null && maximumPointCount < Integer.MAX_VALUE) {
+            long pointCount = countCsvPoints(csvFile);
+            if (pointCount > maximumPointCount) {
+                // Every bucket keeps its minimum and maximum point (2 points), so the chart keeps its envelope
+                long bucketCount = Math.max(1L, (maximumPointCount - 2L) / 2L);
+                bucketSize = (pointCount + bucketCount - 1L) / bucketCount;
             }
-            for (line = reader.readLine(); line != null && !line.isEmpty(); line = reader.readLine()) {
-                if (line.equals(FAILED)) {
-                    if (subSingleBenchmarkResult.hasAnyFailure()) {
-                        continue;
-                    }
-                    throw new IllegalStateException("SubSingleStatistic (" + this + ") failed even though the "
-                            + "corresponding subSingleBenchmarkResult (" + subSingleBenchmarkResult + ") is a success.");
-                }
+        }
+        try (BufferedReader reader = Files.newBufferedReader(csvFile.toPath(), StandardCharsets.UTF_8)) {
+            readCsvHeader(reader);
+            StatisticPoint_ firstPoint = null;
+            StatisticPoint_ lastPoint = null;
+            StatisticPoint_ bucketMinimum = null;
+            long bucketMinimumIndex = -1L;
+            StatisticPoint_ bucketMaximum = null;
+            long bucketMaximumIndex = -1L;
+            long pointIndex = 0L;
+            for (String line = readCsvPointLine(reader); line != null; line = readCsvPointLine(reader)) {
                 // HACK
                 // Some statistics (such as CONSTRAINT_MATCH_TOTAL_STEP_SCORE) contain the same String many times
                 // During generation those are all the same instance to save memory.
@@ -176,14 +233,118 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
                         .stream()
                         .map(String::intern)
                         .collect(Collectors.toList());
-                pointList.add(createPointFromCsvLine(scoreDefinition, csvLine));
+                StatisticPoint_ point = createPointFromCsvLine(scoreDefinition, csvLine);
+                if (bucketSize == 1L) {
+                    pointList.add(point);
+                    pointIndex++;
+                    continue;
+                }
+                if (firstPoint == null) {
+                    firstPoint = point;
+                    pointList.add(point);
+                } else {
+                    if (bucketMinimum == null || downsamplingComparator.compare(point, bucketMinimum) < 0) {
+                        bucketMinimum = point;
+                        bucketMinimumIndex = pointIndex;
+                    }
+                    if (bucketMaximum == null || downsamplingComparator.compare(point, bucketMaximum) > 0) {
+                        bucketMaximum = point;
+                        bucketMaximumIndex = pointIndex;
+                    }
+                }
+                lastPoint = point;
+                pointIndex++;
+                if (pointIndex % bucketSize == 0L && bucketMinimum != null) {
+                    addBucketEnvelope(bucketMinimum, bucketMinimumIndex, bucketMaximum, bucketMaximumIndex, lastPoint);
+                    bucketMinimum = null;
+                    bucketMaximum = null;
+                }
+            }
+            if (bucketMinimum != null) {
+                addBucketEnvelope(bucketMinimum, bucketMinimumIndex, bucketMaximum, bucketMaximumIndex, lastPoint);
+            }
+            if (lastPoint != null && pointList.get(pointList.size() - 1) != lastPoint) {
+                // The last point is usually the most important one, such as the final best score
+                pointList.add(lastPoint);
             }
         } catch (IOException e) {
             throw new IllegalArgumentException("Failed reading csvFile (" + csvFile + ").", e);
         }
     }
 
+    private void addBucketEnvelope(StatisticPoint_ bucketMinimum, long bucketMinimumIndex,
+            StatisticPoint_ bucketMaximum, long bucketMaximumIndex, StatisticPoint_ lastPoint) {
+        // Keep the points in time order
+        StatisticPoint_ earlierPoint = bucketMinimumIndex <= bucketMaximumIndex ? bucketMinimum : bucketMaximum;
+        StatisticPoint_ laterPoint = bucketMinimumIndex <= bucketMaximumIndex ? bucketMaximum : bucketMinimum;
+        pointList.add(earlierPoint);
+        if (laterPoint != earlierPoint && laterPoint != lastPoint) {
+            // The last point is added at the end anyway
+            pointList.add(laterPoint);
+        }
+    }
+
+    private long countCsvPoints(File csvFile) {
+        try (BufferedReader reader = Files.newBufferedReader(csvFile.toPath(), StandardCharsets.UTF_8)) {
+            readCsvHeader(reader);
+            long pointCount = 0L;
+            while (readCsvPointLine(reader) != null) {
+                pointCount++;
+            }
+            return pointCount;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed reading csvFile (" + csvFile + ").", e);
+        }
+    }
+
+    private void readCsvHeader(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (!getCsvHeader().equals(line)) {
+            throw new IllegalStateException("The read line (" + line
+                    + ") is expected to be the header line (" + getCsvHeader()
+                    + ") for statisticType (" + getStatisticType() + ").");
+        }
+    }
+
+    /**
+     * @return null at the end of the points
+     */
+    private String readCsvPointLine(BufferedReader reader) throws IOException {
+        for (String line = reader.readLine(); line != null && !line.isEmpty(); line = reader.readLine()) {
+            if (line.equals(FAILED)) {
+                if (subSingleBenchmarkResult.hasAnyFailure()) {
+                    continue;
+                }
+                throw new IllegalStateException("SubSingleStatistic (" + this + ") failed even though the "
+                        + "corresponding subSingleBenchmarkResult (" + subSingleBenchmarkResult + ") is a success.");
+            }
+            return line;
+        }
+        return null;
+    }
+
+    /**
+     * Used to downsample the points when they are read for a chart: of every group of consecutive points,
+     * only the minimum and the maximum according to this {@link Comparator} are kept.
+     *
+     * @return null if the points cannot be downsampled,
+     *         for example because they belong to multiple series (such as one per constraint)
+     */
+    protected Comparator<StatisticPoint_> getDownsamplingComparator() {
+        return null;
+    }
+
     public void unhibernatePointList() {
+        unhibernatePointList(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Reads the points in bounded memory, regardless of the size of the CSV file.
+     *
+     * @param maximumPointCount {@code >= 4}, the maximum number of points to read,
+     *        ignored if {@link #getDownsamplingComparator()} returns null
+     */
+    public void unhibernatePointList(int maximumPointCount) {
         if (!getCsvFile().exists()) {
             throw new IllegalStateException("The csvFile (" + getCsvFile() + ") of the statistic (" + getStatisticType()
                     + ") of the single benchmark (" + subSingleBenchmarkResult + ") doesn't exist.");
@@ -192,11 +353,24 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
                     + ") of the single benchmark (" + subSingleBenchmarkResult + ") should be null when unhibernating.");
         }
         initPointList();
-        readCsvStatisticFile();
+        readCsvStatisticFile(maximumPointCount);
     }
 
     public void hibernatePointList() {
-        writeCsvStatisticFile();
+        if (csvWriter != null) {
+            // The points are already in the CSV file
+            closeCsvWriter();
+        } else {
+            writeCsvStatisticFile();
+        }
+        pointList = null;
+    }
+
+    /**
+     * Unlike {@link #hibernatePointList()}, it does not write the CSV file,
+     * because the points were {@link #unhibernatePointList(int) read} from it and might be downsampled.
+     */
+    public void releasePointList() {
         pointList = null;
     }
 
@@ -16,6 +16,7 @@
 
 package org.optaplanner.benchmark.impl.statistic.bestscore;
 
+import java.util.Comparator;
 import java.util.List;
 
 import org.optaplanner.benchmark.config.statistic.ProblemStatisticType;
@@ -44,7 +45,7 @@ public class BestScoreSubSingleStatistic<Solution_>
     public void open(StatisticRegistry<Solution_> registry, Tags runTag, Solver<Solution_> solver) {
         registry.addListener(SolverMetric.BEST_SCORE,
                 timestamp -> registry.extractScoreFromMeters(SolverMetric.BEST_SCORE, runTag,
-                        score -> pointList.add(new BestScoreStatisticPoint(timestamp, score))));
+                        score -> addPoint(new BestScoreStatisticPoint(timestamp, score))));
     }
 
     // ************************************************************************
@@ -63,4 +64,9 @@ public class BestScoreSubSingleStatistic<Solution_>
                 scoreDefinition.parseScore(csvLine.get(1)));
     }
 
+    @Override
+    protected Comparator<BestScoreStatisticPoint> getDownsamplingComparator() {
+        return (a, b) -> a.getScore().compareTo(b.getScore());
+    }
+
 }
@@ -16,6 +16,7 @@
 
 package org.optaplanner.benchmark.impl.statistic.bestsolutionmutation;
 
+import java.util.Comparator;
 import java.util.List;
 
 import org.optaplanner.benchmark.config.statistic.ProblemStatisticType;
@@ -44,8 +45,8 @@ public class BestSolutionMutationSubSingleStatistic<Solution_>
     public void open(StatisticRegistry<Solution_> registry, Tags runTag, Solver<Solution_> solver) {
         registry.addListener(SolverMetric.BEST_SOLUTION_MUTATION,
                 timestamp -> registry.getGaugeValue(SolverMetric.BEST_SOLUTION_MUTATION, runTag,
-                        mutationCount -> pointList
-                                .add(new BestSolutionMutationStatisticPoint(timestamp, mutationCount.intValue()))));
+                        mutationCount -> addPoint(
+                                new BestSolutionMutationStatisticPoint(timestamp, mutationCount.intValue()))));
     }
 
     // ************************************************************************
@@ -64,4 +65,9 @@ public class BestSolutionMutationSubSingleStatistic<Solution_>
                 Integer.parseInt(csvLine.get(1)));
     }
 
+    @Override
+    protected Comparator<BestSolutionMutationStatisticPoint> getDownsamplingComparator() {
+        return Comparator.comparingInt(BestSolutionMutationStatisticPoint::getMutationCount);
+    }
+
 }
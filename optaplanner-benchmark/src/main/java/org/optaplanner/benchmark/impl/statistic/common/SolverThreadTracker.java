@@ -0,0 +1,169 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.common;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+
+/**
+ * Measures the CPU time and the allocated bytes of the solver thread
+ * and its child threads (move threads and part threads) through the {@link ThreadMXBean}.
+ * <p>
+ * Only the child threads of its own solver are measured, as registered in {@link SolverScope#getChildThreadIdToNameMap()},
+ * so the child threads of other benchmarks that run in parallel are not.
+ * <p>
+ * Not thread-safe: create it and call it on the solver thread only.
+ * Only its child thread ending listener, registered by {@link #measureAllocatedBytesDelta()}, runs on the child threads.
+ */
+public class SolverThreadTracker {
+
+    private final ThreadMXBean threadMXBean;
+    private final com.sun.management.ThreadMXBean allocationThreadMXBean;
+    private final long solverThreadId;
+    private final String solverThreadName;
+    private final SolverScope<?> solverScope;
+    private final Map<Long, String> childThreadIdToNameMap;
+
+    private final Map<Long, Long> threadIdToLastAllocatedBytesMap = new HashMap<>();
+    /**
+     * The allocated bytes of each child thread at the moment it terminated, until the next measurement consumes it.
+     */
+    private final ConcurrentMap<Long, Long> threadIdToFinalAllocatedBytesMap = new ConcurrentHashMap<>();
+    private boolean allocatedBytesMeasured = false;
+
+    /**
+     * @param solverScope never null, of the solver that solves on the current thread
+     */
+    public SolverThreadTracker(SolverScope<?> solverScope) {
+        threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()) {
+            allocationThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+            if (!allocationThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+                allocationThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+            }
+        } else {
+            allocationThreadMXBean = null;
+        }
+        if (threadMXBean.isThreadCpuTimeSupported() && !threadMXBean.isThreadCpuTimeEnabled()) {
+            threadMXBean.setThreadCpuTimeEnabled(true);
+        }
+        Thread solverThread = Thread.currentThread();
+        solverThreadId = solverThread.getId();
+        solverThreadName = solverThread.getName();
+        this.solverScope = solverScope;
+        childThreadIdToNameMap = solverScope.getChildThreadIdToNameMap();
+    }
+
+    public boolean isAllocatedBytesSupported() {
+        return allocationThreadMXBean != null;
+    }
+
+    public boolean isCpuTimeSupported() {
+        return threadMXBean.isThreadCpuTimeSupported();
+    }
+
+    /**
+     * @return never null, the solver thread first, mapped to its thread name,
+     *         including child threads that died in the meantime
+     */
+    public Map<Long, String> findThreadIdToNameMap() {
+        Map<Long, String> threadIdToNameMap = new LinkedHashMap<>(childThreadIdToNameMap.size() + 1);
+        threadIdToNameMap.put(solverThreadId, solverThreadName);
+        threadIdToNameMap.putAll(childThreadIdToNameMap);
+        return threadIdToNameMap;
+    }
+
+    /**
+     * The first call only records the starting point, so call it before solving starts.
+     * It also registers a child thread ending listener on the {@link SolverScope},
+     * so the bytes that a child thread allocated between the previous call and its termination
+     * (such as a move thread at the end of its phase) are still included.
+     *
+     * @return {@code >= 0}, the bytes allocated by the solver thread and its child threads
+     *         since the previous call, always 0 on the first call
+     * @throws IllegalStateException if not {@link #isAllocatedBytesSupported()}
+     */
+    public long measureAllocatedBytesDelta() {
+        if (allocationThreadMXBean == null) {
+            throw new IllegalStateException("The threadMXBean (" + threadMXBean
+                    + ") does not support measuring the allocated bytes of a thread.");
+        }
+        if (!allocatedBytesMeasured) {
+            solverScope.addChildThreadEndingListener(this::recordFinalAllocatedBytes);
+        }
+        long[] threadIds = findThreadIdToNameMap().keySet().stream().mapToLong(Long::longValue).toArray();
+        long[] allocatedBytesArray = allocationThreadMXBean.getThreadAllocatedBytes(threadIds);
+        long allocatedBytesDelta = 0L;
+        Map<Long, Long> newThreadIdToLastAllocatedBytesMap = new HashMap<>(threadIds.length);
+        for (int i = 0; i < threadIds.length; i++) {
+            long allocatedBytes = allocatedBytesArray[i];
+            boolean alive = allocatedBytes >= 0L;
+            if (!alive) {
+                // The thread died in the meantime: its ending listener recorded its final allocated bytes
+                Long finalAllocatedBytes = threadIdToFinalAllocatedBytesMap.remove(threadIds[i]);
+                if (finalAllocatedBytes == null) {
+                    // Already consumed by a previous call, or it died before the listener was registered
+                    continue;
+                }
+                allocatedBytes = finalAllocatedBytes;
+            }
+            Long lastAllocatedBytes = threadIdToLastAllocatedBytesMap.get(threadIds[i]);
+            if (lastAllocatedBytes != null) {
+                allocatedBytesDelta += allocatedBytes - lastAllocatedBytes;
+            } else if (allocatedBytesMeasured) {
+                // A child thread that started since the previous call
+                allocatedBytesDelta += allocatedBytes;
+            }
+            if (alive) {
+                newThreadIdToLastAllocatedBytesMap.put(threadIds[i], allocatedBytes);
+            }
+        }
+        threadIdToLastAllocatedBytesMap.clear();
+        threadIdToLastAllocatedBytesMap.putAll(newThreadIdToLastAllocatedBytesMap);
+        allocatedBytesMeasured = true;
+        return allocatedBytesDelta;
+    }
+
+    /**
+     * Runs on the terminating child thread, which is still alive, so its allocated bytes are still readable.
+     *
+     * @param threadId the id of the terminating child thread
+     */
+    private void recordFinalAllocatedBytes(long threadId) {
+        long allocatedBytes = allocationThreadMXBean.getThreadAllocatedBytes(threadId);
+        if (allocatedBytes >= 0L) {
+            threadIdToFinalAllocatedBytesMap.put(threadId, allocatedBytes);
+        }
+    }
+
+    /**
+     * @param threadId a thread id returned by {@link #findThreadIdToNameMap()}
+     * @return the CPU time of that thread in nanoseconds, or -1 if it died or if it is not supported
+     */
+    public long measureCpuTimeNanos(long threadId) {
+        return threadMXBean.getThreadCpuTime(threadId);
+    }
+
+}
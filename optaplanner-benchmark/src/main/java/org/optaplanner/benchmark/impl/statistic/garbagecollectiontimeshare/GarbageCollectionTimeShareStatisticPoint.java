@@ -0,0 +1,59 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.benchmark.impl.statistic.garbagecollectiontimeshare;
+
+import org.optaplanner.benchmark.impl.statistic.StatisticPoint;
+
+public class GarbageCollectionTimeShareStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    private final long garbageCollectionCount;
+    private final double garbageCollectionTimeShare;
+
+    public GarbageCollectionTimeShareStatisticPoint(long timeMillisSpent, long garbageCollectionCount,
+            double garbageCollectionTimeShare) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.garbageCollectionCount = garbageCollectionCount;
+        this.garbageCollectionTimeShare = garbageCollectionTimeShare;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    /**
+     * @return {@code >= 0}, the number of garbage collections since the previous point
+     */
+    public long getGarbageCollectionCount() {
+        return garbageCollectionCount;
+    }
+
+    /**
+     * @return {@code 0.0 <= share}, the time spent in garbage collection since the previous point,
+     *         divided by the time spent since the previous point.
+     *         Can exceed {@code 1.0} with concurrent garbage collectors.
+     */
+    public double getGarbageCollectionTimeShare() {
+        return garbageCollectionTimeShare;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithStrings(timeMillisSpent, Long.toString(garbageCollectionCount),
+                Double.toString(garbageCollectionTimeShare));
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.benchmark.impl.statistic.garbagecollectiontimeshare;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.optaplanner.benchmark.config.statistic.ProblemStatisticType;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.ProblemBasedSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.StatisticPoint;
+import org.optaplanner.benchmark.impl.statistic.StatisticRegistry;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.config.solver.monitoring.SolverMetric;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+
+import io.micrometer.core.instrument.Tags;
+
+public class GarbageCollectionTimeShareSubSingleStatistic<Solution_>
+        extends ProblemBasedSubSingleStatistic<Solution_, GarbageCollectionTimeShareStatisticPoint> {
+
+    private final long timeMillisThresholdInterval;
+
+    public GarbageCollectionTimeShareSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        this(subSingleBenchmarkResult, 1000L);
+    }
+
+    public GarbageCollectionTimeShareSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult,
+            long timeMillisThresholdInterval) {
+        super(subSingleBenchmarkResult, ProblemStatisticType.GARBAGE_COLLECTION_TIME_SHARE);
+        if (timeMillisThresholdInterval <= 0L) {
+            throw new IllegalArgumentException("The timeMillisThresholdInterval (" + timeMillisThresholdInterval
+                    + ") must be bigger than 0.");
+        }
+        this.timeMillisThresholdInterval = timeMillisThresholdInterval;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(StatisticRegistry<Solution_> registry, Tags runTag, Solver<Solution_> solver) {
+        // Any step based metric will do: the garbage collectors are read directly
+        registry.addListener(SolverMetric.MEMORY_USE, new GarbageCollectionTimeShareSubSingleStatisticListener(
+                ManagementFactory.getGarbageCollectorMXBeans()));
+    }
+
+    private class GarbageCollectionTimeShareSubSingleStatisticListener implements Consumer<Long> {
+
+        private final List<GarbageCollectorMXBean> garbageCollectorMXBeanList;
+
+        private long nextTimeMillisThreshold = timeMillisThresholdInterval;
+        private long lastTimeMillisSpent = 0L;
+        private long lastCollectionCount;
+        private long lastCollectionTimeMillis;
+
+        public GarbageCollectionTimeShareSubSingleStatisticListener(
+                List<GarbageCollectorMXBean> garbageCollectorMXBeanList) {
+            this.garbageCollectorMXBeanList = garbageCollectorMXBeanList;
+            lastCollectionCount = sumCollectionCount();
+            lastCollectionTimeMillis = sumCollectionTimeMillis();
+        }
+
+        @Override
+        public void accept(Long timeMillisSpent) {
+            if (timeMillisSpent >= nextTimeMillisThreshold) {
+                long collectionCount = sumCollectionCount();
+                long collectionTimeMillis = sumCollectionTimeMillis();
+                long timeMillisSpentInterval = timeMillisSpent - lastTimeMillisSpent;
+                if (timeMillisSpentInterval == 0L) {
+                    // Avoid divide by zero exception on a fast CPU
+                    timeMillisSpentInterval = 1L;
+                }
+                double timeShare = ((double) (collectionTimeMillis - lastCollectionTimeMillis))
+                        / timeMillisSpentInterval;
+                addPoint(new GarbageCollectionTimeShareStatisticPoint(timeMillisSpent,
+                        collectionCount - lastCollectionCount, timeShare));
+                lastCollectionCount = collectionCount;
+                lastCollectionTimeMillis = collectionTimeMillis;
+                lastTimeMillisSpent = timeMillisSpent;
+                nextTimeMillisThreshold += timeMillisThresholdInterval;
+                if (nextTimeMillisThreshold < timeMillisSpent) {
+                    nextTimeMillisThreshold = timeMillisSpent;
+                }
+            }
+        }
+
+        private long sumCollectionCount() {
+            // A garbage collector returns -1 if it does not support it
+            return garbageCollectorMXBeanList.stream()
+                    .mapToLong(garbageCollectorMXBean -> Math.max(garbageCollectorMXBean.getCollectionCount(), 0L))
+                    .sum();
+        }
+
+        private long sumCollectionTimeMillis() {
+            return garbageCollectorMXBeanList.stream()
+                    .mapToLong(garbageCollectorMXBean -> Math.max(garbageCollectorMXBean.getCollectionTime(), 0L))
+                    .sum();
+        }
+
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return StatisticPoint.buildCsvLine("timeMillisSpent", "garbageCollectionCount", "garbageCollectionTimeShare");
+    }
+
+    @Override
+    protected GarbageCollectionTimeShareStatisticPoint createPointFromCsvLine(ScoreDefinition<?> scoreDefinition,
+            List<String> csvLine) {
+        return new GarbageCollectionTimeShareStatisticPoint(Long.parseLong(csvLine.get(0)),
+                Long.parseLong(csvLine.get(1)), Double.parseDouble(csvLine.get(2)));
+    }
+
+    @Override
+    protected Comparator<GarbageCollectionTimeShareStatisticPoint> getDownsamplingComparator() {
+        return Comparator.comparingDouble(GarbageCollectionTimeShareStatisticPoint::getGarbageCollectionTimeShare);
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.benchmark.impl.statistic.memoryallocationrate;
+
+import java.awt.BasicStroke;
+import java.io.File;
+import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToLongFunction;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.optaplanner.benchmark.config.statistic.ProblemStatisticType;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.ProblemStatistic;
+import org.optaplanner.benchmark.impl.statistic.SubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.common.MillisecondsSpentNumberFormat;
+
+public class MemoryAllocationRateProblemStatistic extends ProblemStatistic {
+
+    protected File perScoreCalculationGraphFile = null;
+    protected File perSecondGraphFile = null;
+
+    public MemoryAllocationRateProblemStatistic(ProblemBenchmarkResult problemBenchmarkResult) {
+        super(problemBenchmarkResult, ProblemStatisticType.MEMORY_ALLOCATION_RATE);
+    }
+
+    @Override
+    public SubSingleStatistic createSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        return new MemoryAllocationRateSubSingleStatistic(subSingleBenchmarkResult);
+    }
+
+    /**
+     * @return never null
+     */
+    @Override
+    public List<File> getGraphFileList() {
+        return Arrays.asList(perScoreCalculationGraphFile, perSecondGraphFile);
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void writeGraphFiles(BenchmarkReport benchmarkReport) {
+        XYPlot perScoreCalculationPlot = createPlot(benchmarkReport, "Allocated bytes per score calculation",
+                MemoryAllocationRateStatisticPoint::getAllocatedBytesPerScoreCalculation);
+        JFreeChart perScoreCalculationChart = new JFreeChart(
+                problemBenchmarkResult.getName() + " memory allocation per score calculation statistic",
+                JFreeChart.DEFAULT_TITLE_FONT, perScoreCalculationPlot, true);
+        perScoreCalculationGraphFile = writeChartToImageFile(perScoreCalculationChart,
+                problemBenchmarkResult.getName() + "MemoryAllocationPerScoreCalculationStatistic");
+        XYPlot perSecondPlot = createPlot(benchmarkReport, "Allocated bytes per second",
+                MemoryAllocationRateStatisticPoint::getAllocatedBytesPerSecond);
+        JFreeChart perSecondChart = new JFreeChart(
+                problemBenchmarkResult.getName() + " memory allocation rate statistic",
+                JFreeChart.DEFAULT_TITLE_FONT, perSecondPlot, true);
+        perSecondGraphFile = writeChartToImageFile(perSecondChart,
+                problemBenchmarkResult.getName() + "MemoryAllocationRateStatistic");
+    }
+
+    private XYPlot createPlot(BenchmarkReport benchmarkReport, String yAxisLabel,
+            ToLongFunction<MemoryAllocationRateStatisticPoint> valueFunction) {
+        Locale locale = benchmarkReport.getLocale();
+        NumberAxis xAxis = new NumberAxis("Time spent");
+        xAxis.setNumberFormatOverride(new MillisecondsSpentNumberFormat(locale));
+        NumberAxis yAxis = new NumberAxis(yAxisLabel);
+        yAxis.setNumberFormatOverride(NumberFormat.getInstance(locale));
+        XYPlot plot = new XYPlot(null, xAxis, yAxis, null);
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        int seriesIndex = 0;
+        for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+            XYSeries series = new XYSeries(singleBenchmarkResult.getSolverBenchmarkResult().getNameWithFavoriteSuffix());
+            XYItemRenderer renderer = new XYLineAndShapeRenderer();
+            if (singleBenchmarkResult.hasAllSuccess()) {
+                MemoryAllocationRateSubSingleStatistic subSingleStatistic =
+                        (MemoryAllocationRateSubSingleStatistic) singleBenchmarkResult
+                                .getSubSingleStatistic(problemStatisticType);
+                List<MemoryAllocationRateStatisticPoint> points = subSingleStatistic.getPointList();
+                for (MemoryAllocationRateStatisticPoint point : points) {
+                    series.add(point.getTimeMillisSpent(), valueFunction.applyAsLong(point));
+                }
+            }
+            plot.setDataset(seriesIndex, new XYSeriesCollection(series));
+
+            if (singleBenchmarkResult.getSolverBenchmarkResult().isFavorite()) {
+                // Make the favorite more obvious
+                renderer.setSeriesStroke(0, new BasicStroke(2.0f));
+            }
+            plot.setRenderer(seriesIndex, renderer);
+            seriesIndex++;
+        }
+        return plot;
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.benchmark.impl.statistic.memoryallocationrate;
+
+import org.optaplanner.benchmark.impl.statistic.StatisticPoint;
+
+public class MemoryAllocationRateStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    private final long allocatedBytesPerSecond;
+    private final long allocatedBytesPerScoreCalculation;
+
+    public MemoryAllocationRateStatisticPoint(long timeMillisSpent, long allocatedBytesPerSecond,
+            long allocatedBytesPerScoreCalculation) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.allocatedBytesPerSecond = allocatedBytesPerSecond;
+        this.allocatedBytesPerScoreCalculation = allocatedBytesPerScoreCalculation;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public long getAllocatedBytesPerSecond() {
+        return allocatedBytesPerSecond;
+    }
+
+    public long getAllocatedBytesPerScoreCalculation() {
+        return allocatedBytesPerScoreCalculation;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLineWithLongs(timeMillisSpent, allocatedBytesPerSecond, allocatedBytesPerScoreCalculation);
+    }
+
+}
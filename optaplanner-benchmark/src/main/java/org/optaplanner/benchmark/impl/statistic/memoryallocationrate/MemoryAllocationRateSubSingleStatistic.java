@@ -0,0 +1,141 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.benchmark.impl.statistic.memoryallocationrate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.optaplanner.benchmark.config.statistic.ProblemStatisticType;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.ProblemBasedSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.StatisticPoint;
+import org.optaplanner.benchmark.impl.statistic.StatisticRegistry;
+import org.optaplanner.benchmark.impl.statistic.common.SolverThreadTracker;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.config.solver.monitoring.SolverMetric;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+
+import io.micrometer.core.instrument.Tags;
+
+public class MemoryAllocationRateSubSingleStatistic<Solution_>
+        extends ProblemBasedSubSingleStatistic<Solution_, MemoryAllocationRateStatisticPoint> {
+
+    private final long timeMillisThresholdInterval;
+
+    public MemoryAllocationRateSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        this(subSingleBenchmarkResult, 1000L);
+    }
+
+    public MemoryAllocationRateSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult,
+            long timeMillisThresholdInterval) {
+        super(subSingleBenchmarkResult, ProblemStatisticType.MEMORY_ALLOCATION_RATE);
+        if (timeMillisThresholdInterval <= 0L) {
+            throw new IllegalArgumentException("The timeMillisThresholdInterval (" + timeMillisThresholdInterval
+                    + ") must be bigger than 0.");
+        }
+        this.timeMillisThresholdInterval = timeMillisThresholdInterval;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(StatisticRegistry<Solution_> registry, Tags runTag, Solver<Solution_> solver) {
+        SolverThreadTracker solverThreadTracker =
+                new SolverThreadTracker(((DefaultSolver<Solution_>) solver).getSolverScope());
+        if (!solverThreadTracker.isAllocatedBytesSupported()) {
+            logger.warn("The JVM does not support measuring the allocated bytes per thread,"
+                    + " so the statistic ({}) stays empty.", this);
+            return;
+        }
+        // Record the starting point, on the solver thread
+        solverThreadTracker.measureAllocatedBytesDelta();
+        registry.addListener(SolverMetric.SCORE_CALCULATION_COUNT,
+                new MemoryAllocationRateSubSingleStatisticListener(registry, runTag, solverThreadTracker));
+    }
+
+    private class MemoryAllocationRateSubSingleStatisticListener implements Consumer<Long> {
+
+        private final StatisticRegistry<?> registry;
+        private final Tags tags;
+        private final SolverThreadTracker solverThreadTracker;
+
+        private long nextTimeMillisThreshold = timeMillisThresholdInterval;
+        private long lastTimeMillisSpent = 0L;
+        private long lastScoreCalculationCount = 0L;
+
+        public MemoryAllocationRateSubSingleStatisticListener(StatisticRegistry<?> registry, Tags tags,
+                SolverThreadTracker solverThreadTracker) {
+            this.registry = registry;
+            this.tags = tags;
+            this.solverThreadTracker = solverThreadTracker;
+        }
+
+        @Override
+        public void accept(Long timeMillisSpent) {
+            if (timeMillisSpent >= nextTimeMillisThreshold) {
+                long allocatedBytes = solverThreadTracker.measureAllocatedBytesDelta();
+                registry.getGaugeValue(SolverMetric.SCORE_CALCULATION_COUNT, tags, scoreCalculationCountNumber -> {
+                    long scoreCalculationCount = scoreCalculationCountNumber.longValue();
+                    long calculationCountInterval = scoreCalculationCount - lastScoreCalculationCount;
+                    long timeMillisSpentInterval = timeMillisSpent - lastTimeMillisSpent;
+                    if (timeMillisSpentInterval == 0L) {
+                        // Avoid divide by zero exception on a fast CPU
+                        timeMillisSpentInterval = 1L;
+                    }
+                    long allocatedBytesPerSecond = allocatedBytes * 1000L / timeMillisSpentInterval;
+                    long allocatedBytesPerScoreCalculation = calculationCountInterval <= 0L ? allocatedBytes
+                            : allocatedBytes / calculationCountInterval;
+                    addPoint(new MemoryAllocationRateStatisticPoint(timeMillisSpent, allocatedBytesPerSecond,
+                            allocatedBytesPerScoreCalculation));
+                    lastScoreCalculationCount = scoreCalculationCount;
+                });
+                lastTimeMillisSpent = timeMillisSpent;
+                nextTimeMillisThreshold += timeMillisThresholdInterval;
+                if (nextTimeMillisThreshold < timeMillisSpent) {
+                    nextTimeMillisThreshold = timeMillisSpent;
+                }
+            }
+        }
+
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return StatisticPoint.buildCsvLine("timeMillisSpent", "allocatedBytesPerSecond",
+                "allocatedBytesPerScoreCalculation");
+    }
+
+    @Override
+    protected MemoryAllocationRateStatisticPoint createPointFromCsvLine(ScoreDefinition<?> scoreDefinition,
+            List<String> csvLine) {
+        return new MemoryAllocationRateStatisticPoint(Long.parseLong(csvLine.get(0)),
+                Long.parseLong(csvLine.get(1)), Long.parseLong(csvLine.get(2)));
+    }
+
+    @Override
+    protected Comparator<MemoryAllocationRateStatisticPoint> getDownsamplingComparator() {
+        return Comparator.comparingLong(MemoryAllocationRateStatisticPoint::getAllocatedBytesPerScoreCalculation);
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package org.optaplanner.benchmark.impl.statistic.memoryuse;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -72,7 +73,7 @@ public class MemoryUseSubSingleStatistic<Solution_>
         public void accept(Long timeMillisSpent) {
             if (timeMillisSpent >= nextTimeMillisThreshold) {
                 registry.getGaugeValue(SolverMetric.MEMORY_USE, tags,
-                        memoryUse -> pointList.add(
+                        memoryUse -> addPoint(
                                 new MemoryUseStatisticPoint(timeMillisSpent, new MemoryUseMeasurement(memoryUse.longValue(),
                                         (long) registry.find("jvm.memory.max").tags(tags).gauge().value()))));
 
@@ -101,4 +102,9 @@ public class MemoryUseSubSingleStatistic<Solution_>
                 new MemoryUseMeasurement(Long.parseLong(csvLine.get(1)), Long.parseLong(csvLine.get(2))));
     }
 
+    @Override
+    protected Comparator<MemoryUseStatisticPoint> getDownsamplingComparator() {
+        return Comparator.comparingLong(point -> point.getMemoryUseMeasurement().getUsedMemory());
+    }
+
 }
@@ -16,6 +16,7 @@
 
 package org.optaplanner.benchmark.impl.statistic.scorecalculationspeed;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
@@ -72,7 +73,7 @@ public class ScoreCalculationSpeedSubSingleStatistic<Solution_>
                             timeMillisSpentInterval = 1L;
                         }
                         long scoreCalculationSpeed = calculationCountInterval * 1000L / timeMillisSpentInterval;
-                        pointList.add(new ScoreCalculationSpeedStatisticPoint(timeMillisSpent, scoreCalculationSpeed));
+                        addPoint(new ScoreCalculationSpeedStatisticPoint(timeMillisSpent, scoreCalculationSpeed));
                         lastScoreCalculationCount.set(scoreCalculationCount);
                     });
                     lastTimeMillisSpent = timeMillisSpent;
@@ -101,4 +102,9 @@ public class ScoreCalculationSpeedSubSingleStatistic<Solution_>
                 Long.parseLong(csvLine.get(1)));
     }
 
+    @Override
+    protected Comparator<ScoreCalculationSpeedStatisticPoint> getDownsamplingComparator() {
+        return Comparator.comparingLong(ScoreCalculationSpeedStatisticPoint::getScoreCalculationSpeed);
+    }
+
 }
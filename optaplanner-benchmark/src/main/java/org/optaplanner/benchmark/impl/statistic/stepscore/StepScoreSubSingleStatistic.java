@@ -16,6 +16,7 @@
 
 package org.optaplanner.benchmark.impl.statistic.stepscore;
 
+import java.util.Comparator;
 import java.util.List;
 
 import org.optaplanner.benchmark.config.statistic.ProblemStatisticType;
@@ -44,7 +45,7 @@ public class StepScoreSubSingleStatistic<Solution_>
     public void open(StatisticRegistry<Solution_> registry, Tags runTag, Solver<Solution_> solver) {
         registry.addListener(SolverMetric.STEP_SCORE,
                 timeMillisSpent -> registry.extractScoreFromMeters(SolverMetric.STEP_SCORE, runTag,
-                        score -> pointList.add(new StepScoreStatisticPoint(timeMillisSpent, score))));
+                        score -> addPoint(new StepScoreStatisticPoint(timeMillisSpent, score))));
     }
 
     // ************************************************************************
@@ -63,4 +64,9 @@ public class StepScoreSubSingleStatistic<Solution_>
                 scoreDefinition.parseScore(csvLine.get(1)));
     }
 
+    @Override
+    protected Comparator<StepScoreStatisticPoint> getDownsamplingComparator() {
+        return (a, b) -> a.getScore().compareTo(b.getScore());
+    }
+
 }
@@ -77,7 +77,7 @@ public class ConstraintMatchTotalBestScoreSubSingleStatistic<Solution_>
         defaultSolver.getSolverScope().getScoreDirector().overwriteConstraintMatchEnabledPreference(true);
         registry.addListener(SolverMetric.CONSTRAINT_MATCH_TOTAL_BEST_SCORE,
                 timeMillisSpent -> registry.extractConstraintSummariesFromMeters(SolverMetric.CONSTRAINT_MATCH_TOTAL_BEST_SCORE,
-                        runTag, constraintSummary -> pointList.add(new ConstraintMatchTotalBestScoreStatisticPoint(
+                        runTag, constraintSummary -> addPoint(new ConstraintMatchTotalBestScoreStatisticPoint(
                                 timeMillisSpent,
                                 constraintSummary.getConstraintPackage(),
                                 constraintSummary.getConstraintName(),
@@ -77,7 +77,7 @@ public class ConstraintMatchTotalStepScoreSubSingleStatistic<Solution_>
         defaultSolver.getSolverScope().getScoreDirector().overwriteConstraintMatchEnabledPreference(true);
         registry.addListener(SolverMetric.CONSTRAINT_MATCH_TOTAL_STEP_SCORE,
                 timeMillisSpent -> registry.extractConstraintSummariesFromMeters(SolverMetric.CONSTRAINT_MATCH_TOTAL_STEP_SCORE,
-                        runTag, constraintSummary -> pointList.add(new ConstraintMatchTotalStepScoreStatisticPoint(
+                        runTag, constraintSummary -> addPoint(new ConstraintMatchTotalStepScoreStatisticPoint(
                                 timeMillisSpent,
                                 constraintSummary.getConstraintPackage(),
                                 constraintSummary.getConstraintName(),
@@ -78,7 +78,7 @@ public class PickedMoveTypeBestScoreDiffSubSingleStatistic<Solution_>
                 String moveType = ((LocalSearchStepScope<Solution_>) stepScope).getStep().getSimpleMoveTypeDescription();
                 registry.extractScoreFromMeters(SolverMetric.PICKED_MOVE_TYPE_BEST_SCORE_DIFF,
                         runTag.and(Tag.of("move.type", moveType)),
-                        score -> pointList.add(new PickedMoveTypeBestScoreDiffStatisticPoint(
+                        score -> addPoint(new PickedMoveTypeBestScoreDiffStatisticPoint(
                                 timeMillisSpent, moveType, score)));
             }
         });
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.benchmark.impl.statistic.subsingle.threadcpuuse;
+
+import org.optaplanner.benchmark.impl.statistic.StatisticPoint;
+
+public class ThreadCpuUseStatisticPoint extends StatisticPoint {
+
+    private final long timeMillisSpent;
+    private final String threadName;
+    private final double cpuUse;
+
+    public ThreadCpuUseStatisticPoint(long timeMillisSpent, String threadName, double cpuUse) {
+        this.timeMillisSpent = timeMillisSpent;
+        this.threadName = threadName;
+        this.cpuUse = cpuUse;
+    }
+
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    /**
+     * @return {@code 0.0 <= cpuUse}, the CPU time of the thread since the previous point,
+     *         divided by the wall clock time since the previous point. Normally at most {@code 1.0}.
+     */
+    public double getCpuUse() {
+        return cpuUse;
+    }
+
+    @Override
+    public String toCsvLine() {
+        return buildCsvLine(Long.toString(timeMillisSpent), threadName, Double.toString(cpuUse));
+    }
+
+}
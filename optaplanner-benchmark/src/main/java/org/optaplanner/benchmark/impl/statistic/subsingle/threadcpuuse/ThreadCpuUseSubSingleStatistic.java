@@ -0,0 +1,200 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.optaplanner.benchmark.impl.statistic.subsingle.threadcpuuse;
+
+import java.io.File;
+import java.text.NumberFormat;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.xml.bind.annotation.XmlTransient;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.optaplanner.benchmark.config.statistic.SingleStatisticType;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.StatisticRegistry;
+import org.optaplanner.benchmark.impl.statistic.common.MillisecondsSpentNumberFormat;
+import org.optaplanner.benchmark.impl.statistic.common.SolverThreadTracker;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.config.solver.monitoring.SolverMetric;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+
+import io.micrometer.core.instrument.Tags;
+
+public class ThreadCpuUseSubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, ThreadCpuUseStatisticPoint> {
+
+    private final long timeMillisThresholdInterval;
+
+    @XmlTransient
+    protected File graphFile = null;
+
+    public ThreadCpuUseSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        this(subSingleBenchmarkResult, 1000L);
+    }
+
+    public ThreadCpuUseSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult,
+            long timeMillisThresholdInterval) {
+        super(subSingleBenchmarkResult, SingleStatisticType.THREAD_CPU_USE);
+        if (timeMillisThresholdInterval <= 0L) {
+            throw new IllegalArgumentException("The timeMillisThresholdInterval (" + timeMillisThresholdInterval
+                    + ") must be bigger than 0.");
+        }
+        this.timeMillisThresholdInterval = timeMillisThresholdInterval;
+    }
+
+    /**
+     * @return never null
+     */
+    @Override
+    public List<File> getGraphFileList() {
+        return Collections.singletonList(graphFile);
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(StatisticRegistry<Solution_> registry, Tags runTag, Solver<Solution_> solver) {
+        SolverThreadTracker solverThreadTracker =
+                new SolverThreadTracker(((DefaultSolver<Solution_>) solver).getSolverScope());
+        if (!solverThreadTracker.isCpuTimeSupported()) {
+            logger.warn("The JVM does not support measuring the CPU time per thread,"
+                    + " so the statistic ({}) stays empty.", this);
+            return;
+        }
+        // Any step based metric will do: the threads are read directly
+        registry.addListener(SolverMetric.MOVE_COUNT_PER_STEP,
+                new ThreadCpuUseSubSingleStatisticListener(solverThreadTracker));
+    }
+
+    private class ThreadCpuUseSubSingleStatisticListener implements Consumer<Long> {
+
+        private final SolverThreadTracker solverThreadTracker;
+        private final Map<Long, Long> threadIdToLastCpuTimeNanosMap = new HashMap<>();
+
+        private long nextTimeMillisThreshold = timeMillisThresholdInterval;
+        private long lastTimeMillisSpent = 0L;
+
+        public ThreadCpuUseSubSingleStatisticListener(SolverThreadTracker solverThreadTracker) {
+            this.solverThreadTracker = solverThreadTracker;
+            // Record the starting point, on the solver thread
+            measureCpuTimeNanosDeltas();
+        }
+
+        @Override
+        public void accept(Long timeMillisSpent) {
+            if (timeMillisSpent >= nextTimeMillisThreshold) {
+                long timeMillisSpentInterval = timeMillisSpent - lastTimeMillisSpent;
+                if (timeMillisSpentInterval == 0L) {
+                    // Avoid divide by zero exception on a fast CPU
+                    timeMillisSpentInterval = 1L;
+                }
+                double timeNanosSpentInterval = timeMillisSpentInterval * 1_000_000.0;
+                measureCpuTimeNanosDeltas().forEach((threadName, cpuTimeNanosDelta) -> addPoint(
+                        new ThreadCpuUseStatisticPoint(timeMillisSpent, threadName,
+                                cpuTimeNanosDelta / timeNanosSpentInterval)));
+                lastTimeMillisSpent = timeMillisSpent;
+                nextTimeMillisThreshold += timeMillisThresholdInterval;
+                if (nextTimeMillisThreshold < timeMillisSpent) {
+                    nextTimeMillisThreshold = timeMillisSpent;
+                }
+            }
+        }
+
+        private Map<String, Long> measureCpuTimeNanosDeltas() {
+            Map<String, Long> threadNameToCpuTimeNanosDeltaMap = new LinkedHashMap<>();
+            Map<Long, Long> newThreadIdToLastCpuTimeNanosMap = new HashMap<>();
+            solverThreadTracker.findThreadIdToNameMap().forEach((threadId, threadName) -> {
+                long cpuTimeNanos = solverThreadTracker.measureCpuTimeNanos(threadId);
+                if (cpuTimeNanos < 0L) {
+                    // The thread died in the meantime
+                    return;
+                }
+                // A thread that started since the previous measurement started from zero
+                long lastCpuTimeNanos = threadIdToLastCpuTimeNanosMap.getOrDefault(threadId, 0L);
+                threadNameToCpuTimeNanosDeltaMap.put(threadName, cpuTimeNanos - lastCpuTimeNanos);
+                newThreadIdToLastCpuTimeNanosMap.put(threadId, cpuTimeNanos);
+            });
+            threadIdToLastCpuTimeNanosMap.clear();
+            threadIdToLastCpuTimeNanosMap.putAll(newThreadIdToLastCpuTimeNanosMap);
+            return threadNameToCpuTimeNanosDeltaMap;
+        }
+
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return ThreadCpuUseStatisticPoint.buildCsvLine("timeMillisSpent", "threadName", "cpuUse");
+    }
+
+    @Override
+    protected ThreadCpuUseStatisticPoint createPointFromCsvLine(ScoreDefinition<?> scoreDefinition,
+            List<String> csvLine) {
+        return new ThreadCpuUseStatisticPoint(Long.parseLong(csvLine.get(0)),
+                csvLine.get(1), Double.parseDouble(csvLine.get(2)));
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void writeGraphFiles(BenchmarkReport benchmarkReport) {
+        Map<String, XYSeries> threadNameToSeriesMap = new LinkedHashMap<>();
+        for (ThreadCpuUseStatisticPoint point : getPointList()) {
+            String threadName = point.getThreadName();
+            XYSeries series = threadNameToSeriesMap.computeIfAbsent(threadName, k -> new XYSeries(threadName));
+            series.add(point.getTimeMillisSpent(), point.getCpuUse());
+        }
+        Locale locale = benchmarkReport.getLocale();
+        NumberAxis xAxis = new NumberAxis("Time spent");
+        xAxis.setNumberFormatOverride(new MillisecondsSpentNumberFormat(locale));
+        NumberAxis yAxis = new NumberAxis("CPU use");
+        yAxis.setNumberFormatOverride(NumberFormat.getPercentInstance(locale));
+        XYPlot plot = new XYPlot(null, xAxis, yAxis, null);
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        XYSeriesCollection seriesCollection = new XYSeriesCollection();
+        for (XYSeries series : threadNameToSeriesMap.values()) {
+            seriesCollection.addSeries(series);
+        }
+        plot.setDataset(seriesCollection);
+        plot.setRenderer(new XYLineAndShapeRenderer());
+        JFreeChart chart = new JFreeChart(subSingleBenchmarkResult.getName() + " thread CPU use statistic",
+                JFreeChart.DEFAULT_TITLE_FONT, plot, true);
+        graphFile = writeChartToImageFile(chart, "ThreadCpuUseStatistic");
+    }
+
+}
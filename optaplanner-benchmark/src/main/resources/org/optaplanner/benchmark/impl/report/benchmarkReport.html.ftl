@@ -209,6 +209,14 @@
                                                                 <li>${singleBenchmarkResult.averageScore!""}</li>
                                                                 <li class="dropdown-header"><strong>Standard Deviation</strong></li>
                                                                 <li>${singleBenchmarkResult.standardDeviationString!""}</li>
+                                                                <#if singleBenchmarkResult.scoreConfidenceIntervalString??>
+                                                                    <li class="dropdown-header"><strong>95% confidence interval of the average</strong></li>
+                                                                    <li>${singleBenchmarkResult.scoreConfidenceIntervalString}</li>
+                                                                </#if>
+                                                                <#if singleBenchmarkResult.winningScorePValue??>
+                                                                    <li class="dropdown-header"><strong>P-value of the winning score difference</strong></li>
+                                                                    <li>${singleBenchmarkResult.winningScorePValue?string("0.0000")}<#if !singleBenchmarkResult.winningScoreDifferenceSignificant> (not significant)</#if></li>
+                                                                </#if>
                                                                 <li class="dropdown-header"><strong>Best</strong></li>
                                                                 <li>${singleBenchmarkResult.best.score!""}</li>
                                                                 <li class="dropdown-header"><strong>Worst</strong></li>
@@ -271,7 +279,7 @@
                                                 <#if !singleBenchmarkResult.hasAllSuccess()>
                                                     <td><span class="label label-important">Failed</span></td>
                                                 <#else>
-                                                    <td>${singleBenchmarkResult.winningScoreDifference}&nbsp;<@addSolverProblemBenchmarkResultBadges solverProblemBenchmarkResult=singleBenchmarkResult/></td>
+                                                    <td>${singleBenchmarkResult.winningScoreDifference}<#if singleBenchmarkResult.winningScorePValue?? && !singleBenchmarkResult.winningScoreDifferenceSignificant>&nbsp;<span class="label" data-toggle="tooltip" title="The p-value (${singleBenchmarkResult.winningScorePValue?string("0.0000")}) is too high to distinguish it from noise.">Not significant</span></#if>&nbsp;<@addSolverProblemBenchmarkResultBadges solverProblemBenchmarkResult=singleBenchmarkResult/></td>
                                                 </#if>
                                             </#if>
                                         </#list>
@@ -398,6 +406,15 @@
                                                                 <li class="dropdown-header"><strong>Run #${subSingleBenchmarkResult.getSubSingleBenchmarkIndex()}</strong></li>
                                                                 <li>${subSingleBenchmarkResult.scoreCalculationSpeed!""}/s</li>
                                                             </#list>
+                                                            <#if singleBenchmarkResult.scoreCalculationSpeedConfidenceInterval??>
+                                                                <li role="separator" class="divider"></li>
+                                                                <li class="dropdown-header"><strong>95% confidence interval of the average</strong></li>
+                                                                <li>${singleBenchmarkResult.scoreCalculationSpeedConfidenceInterval.toString(.locale_object)}/s</li>
+                                                            </#if>
+                                                            <#if singleBenchmarkResult.winningScoreCalculationSpeedPValue??>
+                                                                <li class="dropdown-header"><strong>P-value of the difference with the winner</strong></li>
+                                                                <li>${singleBenchmarkResult.winningScoreCalculationSpeedPValue?string("0.0000")}<#if !singleBenchmarkResult.winningScoreCalculationSpeedDifferenceSignificant> (not significant)</#if></li>
+                                                            </#if>
                                                         </ul>
                                                       </div></td>
                                                     </#if>
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class MemoryAwareBenchmarkSchedulerTest {
+
+    @Test
+    public void invalidArguments() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new MemoryAwareBenchmarkScheduler(0, 100L, () -> 0L));
+        assertThatIllegalArgumentException().isThrownBy(() -> new MemoryAwareBenchmarkScheduler(1, -1L, () -> 0L));
+    }
+
+    @Test
+    public void estimateSolvingFootprint() {
+        assertThat(MemoryAwareBenchmarkScheduler.estimateSolvingFootprint(0L)).isEqualTo(0L);
+        assertThat(MemoryAwareBenchmarkScheduler.estimateSolvingFootprint(10L))
+                .isEqualTo(10L * MemoryAwareBenchmarkScheduler.SOLVING_FOOTPRINT_MULTIPLIER);
+        assertThat(MemoryAwareBenchmarkScheduler.estimateSolvingFootprint(Long.MAX_VALUE / 2L))
+                .isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void firstAlwaysStarts() throws InterruptedException {
+        MemoryAwareBenchmarkScheduler scheduler = new MemoryAwareBenchmarkScheduler(2, 100L, () -> 0L);
+        scheduler.acquire(1000L);
+        assertThat(scheduler.getRunningCount()).isEqualTo(1);
+        scheduler.release(1000L);
+        assertThat(scheduler.getRunningCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void releaseWithoutAcquire() {
+        MemoryAwareBenchmarkScheduler scheduler = new MemoryAwareBenchmarkScheduler(2, 100L, () -> 0L);
+        assertThatIllegalStateException().isThrownBy(() -> scheduler.release(10L));
+    }
+
+    @Test
+    @Timeout(10)
+    public void parallelBenchmarkCountLimit() throws InterruptedException {
+        MemoryAwareBenchmarkScheduler scheduler = new MemoryAwareBenchmarkScheduler(2, Long.MAX_VALUE, () -> 0L);
+        scheduler.acquire(10L);
+        scheduler.acquire(10L);
+        assertBlockedUntilRelease(scheduler, 10L, 10L);
+    }
+
+    @Test
+    @Timeout(10)
+    public void memoryBudgetLimit() throws InterruptedException {
+        MemoryAwareBenchmarkScheduler scheduler = new MemoryAwareBenchmarkScheduler(4, 100L, () -> 20L);
+        scheduler.acquire(50L);
+        scheduler.acquire(30L);
+        assertThat(scheduler.getRunningCount()).isEqualTo(2);
+        // 50 + 30 + 20 shared leaves no room for 40
+        assertBlockedUntilRelease(scheduler, 40L, 50L);
+    }
+
+    private static void assertBlockedUntilRelease(MemoryAwareBenchmarkScheduler scheduler,
+            long solvingFootprint, long releasedSolvingFootprint) throws InterruptedException {
+        CountDownLatch acquiredLatch = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            try {
+                scheduler.acquire(solvingFootprint);
+                acquiredLatch.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.start();
+        assertThat(acquiredLatch.await(100L, TimeUnit.MILLISECONDS)).isFalse();
+        scheduler.release(releasedSolvingFootprint);
+        assertThat(acquiredLatch.await(5L, TimeUnit.SECONDS)).isTrue();
+        thread.join();
+        assertThat(scheduler.getRunningCount()).isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.measurement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.data.Offset.offset;
+
+import org.junit.jupiter.api.Test;
+
+public class BootstrapResamplerTest {
+
+    private static final double DELTA = 0.001;
+
+    private final BootstrapResampler bootstrapResampler = new BootstrapResampler();
+
+    @Test
+    public void meanConfidenceIntervalOfConstantSamples() {
+        ConfidenceInterval confidenceInterval = bootstrapResampler.calculateMeanConfidenceInterval(
+                new double[] { 7.0, 7.0, 7.0 });
+        assertThat(confidenceInterval.getMean()).isEqualTo(7.0, offset(DELTA));
+        assertThat(confidenceInterval.getLowerBound()).isEqualTo(7.0, offset(DELTA));
+        assertThat(confidenceInterval.getUpperBound()).isEqualTo(7.0, offset(DELTA));
+        assertThat(confidenceInterval.isWithinRelativePrecision(0.001)).isTrue();
+    }
+
+    @Test
+    public void meanConfidenceInterval() {
+        double[] samples = { 90.0, 95.0, 100.0, 105.0, 110.0, 98.0, 102.0, 101.0, 99.0, 100.0 };
+        ConfidenceInterval confidenceInterval = bootstrapResampler.calculateMeanConfidenceInterval(samples);
+        assertThat(confidenceInterval.getMean()).isEqualTo(100.0, offset(DELTA));
+        assertThat(confidenceInterval.getLowerBound()).isBetween(95.0, 100.0);
+        assertThat(confidenceInterval.getUpperBound()).isBetween(100.0, 105.0);
+        assertThat(confidenceInterval.isWithinRelativePrecision(0.10)).isTrue();
+        assertThat(confidenceInterval.isWithinRelativePrecision(0.001)).isFalse();
+    }
+
+    @Test
+    public void meanConfidenceIntervalIsReproducible() {
+        double[] samples = { 3.0, 1.0, 4.0, 1.0, 5.0, 9.0, 2.0, 6.0 };
+        ConfidenceInterval first = bootstrapResampler.calculateMeanConfidenceInterval(samples);
+        ConfidenceInterval second = bootstrapResampler.calculateMeanConfidenceInterval(samples);
+        assertThat(second.getLowerBound()).isEqualTo(first.getLowerBound());
+        assertThat(second.getUpperBound()).isEqualTo(first.getUpperBound());
+    }
+
+    @Test
+    public void meanDifferencePValueOfIdenticalSamples() {
+        double[] samples = { -100.0, -101.0, -99.0, -100.0 };
+        assertThat(bootstrapResampler.calculateMeanDifferencePValue(samples, samples.clone()))
+                .isEqualTo(1.0, offset(DELTA));
+    }
+
+    @Test
+    public void meanDifferencePValueOfNoise() {
+        double[] samples = { -100.0, -104.0, -96.0, -101.0, -99.0 };
+        double[] otherSamples = { -99.0, -103.0, -97.0, -100.0, -98.0 };
+        assertThat(bootstrapResampler.calculateMeanDifferencePValue(samples, otherSamples))
+                .isGreaterThan(BootstrapResampler.DEFAULT_SIGNIFICANCE_LEVEL);
+    }
+
+    @Test
+    public void meanDifferencePValueOfRealDifference() {
+        double[] samples = { -200.0, -201.0, -199.0, -200.0, -202.0 };
+        double[] otherSamples = { -100.0, -101.0, -99.0, -100.0, -98.0 };
+        assertThat(bootstrapResampler.calculateMeanDifferencePValue(samples, otherSamples))
+                .isLessThan(BootstrapResampler.DEFAULT_SIGNIFICANCE_LEVEL);
+    }
+
+    @Test
+    public void tooFewSamples() {
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> bootstrapResampler.calculateMeanConfidenceInterval(new double[] { 1.0 }));
+        assertThatIllegalArgumentException().isThrownBy(
+                () -> bootstrapResampler.calculateMeanDifferencePValue(new double[] { 1.0, 2.0 }, new double[] { 1.0 }));
+    }
+
+}
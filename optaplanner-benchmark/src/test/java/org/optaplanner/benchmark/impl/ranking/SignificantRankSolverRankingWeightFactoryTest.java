@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.benchmark.impl.ranking.TotalRankSolverRankingWeightFactory.TotalRankSolverRankingWeight;
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SolverBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.score.buildin.SimpleScoreDefinition;
+
+public class SignificantRankSolverRankingWeightFactoryTest extends AbstractSolverRankingComparatorTest {
+
+    private SignificantRankSolverRankingWeightFactory factory;
+    private List<SolverBenchmarkResult> solverBenchmarkResultList;
+    private SolverBenchmarkResult a;
+    private SolverBenchmarkResult b;
+    private List<SingleBenchmarkResult> aSingleBenchmarkResultList;
+    private List<SingleBenchmarkResult> bSingleBenchmarkResultList;
+
+    @BeforeEach
+    public void setUp() {
+        factory = new SignificantRankSolverRankingWeightFactory();
+        solverBenchmarkResultList = new ArrayList<>();
+        a = new SolverBenchmarkResult(null);
+        a.setScoreDefinition(new SimpleScoreDefinition());
+        b = new SolverBenchmarkResult(null);
+        b.setScoreDefinition(new SimpleScoreDefinition());
+        aSingleBenchmarkResultList = new ArrayList<>();
+        bSingleBenchmarkResultList = new ArrayList<>();
+        solverBenchmarkResultList.add(a);
+        solverBenchmarkResultList.add(b);
+    }
+
+    @Test
+    public void insignificantDifferenceIsEqual() {
+        addSingleBenchmarkWithSubSingles(a, aSingleBenchmarkResultList, -100, -104, -96, -101, -99);
+        addSingleBenchmarkWithSubSingles(b, bSingleBenchmarkResultList, -99, -103, -97, -100, -98);
+        addProblem();
+
+        TotalRankSolverRankingWeight aWeight =
+                (TotalRankSolverRankingWeight) factory.createRankingWeight(solverBenchmarkResultList, a);
+        TotalRankSolverRankingWeight bWeight =
+                (TotalRankSolverRankingWeight) factory.createRankingWeight(solverBenchmarkResultList, b);
+        assertThat(aWeight.getEqualCount()).isEqualTo(1);
+        assertThat(aWeight.getLowerCount()).isEqualTo(0);
+        assertThat(bWeight.getEqualCount()).isEqualTo(1);
+        assertThat(bWeight.getBetterCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void significantDifference() {
+        addSingleBenchmarkWithSubSingles(a, aSingleBenchmarkResultList, -200, -201, -199, -200, -202);
+        addSingleBenchmarkWithSubSingles(b, bSingleBenchmarkResultList, -100, -101, -99, -100, -98);
+        addProblem();
+
+        TotalRankSolverRankingWeight aWeight =
+                (TotalRankSolverRankingWeight) factory.createRankingWeight(solverBenchmarkResultList, a);
+        TotalRankSolverRankingWeight bWeight =
+                (TotalRankSolverRankingWeight) factory.createRankingWeight(solverBenchmarkResultList, b);
+        assertThat(aWeight.getLowerCount()).isEqualTo(1);
+        assertThat(bWeight.getBetterCount()).isEqualTo(1);
+        assertThat(aWeight).isLessThan(bWeight);
+    }
+
+    @Test
+    public void singleSubSingleFallsBackToTotalRanking() {
+        addSingleBenchmarkWithSubSingles(a, aSingleBenchmarkResultList, -100);
+        addSingleBenchmarkWithSubSingles(b, bSingleBenchmarkResultList, -99);
+        addProblem();
+
+        TotalRankSolverRankingWeight aWeight =
+                (TotalRankSolverRankingWeight) factory.createRankingWeight(solverBenchmarkResultList, a);
+        assertThat(aWeight.getLowerCount()).isEqualTo(1);
+    }
+
+    private void addProblem() {
+        a.setSingleBenchmarkResultList(aSingleBenchmarkResultList);
+        b.setSingleBenchmarkResultList(bSingleBenchmarkResultList);
+        List<SingleBenchmarkResult> totalSingleBenchmarkResultList = new ArrayList<>(aSingleBenchmarkResultList);
+        totalSingleBenchmarkResultList.addAll(bSingleBenchmarkResultList);
+        addProblemBenchmark(totalSingleBenchmarkResultList);
+    }
+
+    private void addSingleBenchmarkWithSubSingles(SolverBenchmarkResult solverBenchmarkResult,
+            List<SingleBenchmarkResult> singleBenchmarkResultList, int... subSingleScores) {
+        int total = 0;
+        for (int subSingleScore : subSingleScores) {
+            total += subSingleScore;
+        }
+        SimpleScore averageScore = SimpleScore.of(total / subSingleScores.length);
+        SingleBenchmarkResult singleBenchmarkResult = addSingleBenchmark(solverBenchmarkResult, singleBenchmarkResultList,
+                averageScore, averageScore, averageScore);
+        List<SubSingleBenchmarkResult> subSingleBenchmarkResultList = new ArrayList<>(subSingleScores.length);
+        for (int i = 0; i < subSingleScores.length; i++) {
+            SubSingleBenchmarkResult subSingleBenchmarkResult = new SubSingleBenchmarkResult(singleBenchmarkResult, i);
+            subSingleBenchmarkResult.setSucceeded(true);
+            subSingleBenchmarkResult.setScore(SimpleScore.of(subSingleScores[i]));
+            subSingleBenchmarkResult.setTimeMillisSpent(1000L);
+            subSingleBenchmarkResult.setScoreCalculationCount(1000L);
+            subSingleBenchmarkResultList.add(subSingleBenchmarkResult);
+        }
+        singleBenchmarkResult.setSubSingleBenchmarkResultList(subSingleBenchmarkResultList);
+    }
+
+}
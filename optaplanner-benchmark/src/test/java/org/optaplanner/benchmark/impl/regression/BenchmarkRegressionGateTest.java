@@ -0,0 +1,140 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.regression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SolverBenchmarkResult;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.score.buildin.SimpleScoreDefinition;
+
+public class BenchmarkRegressionGateTest {
+
+    private final BenchmarkRegressionGate regressionGate = new BenchmarkRegressionGate(0.05, 0.01);
+
+    @Test
+    public void identicalResults() {
+        PlannerBenchmarkResult baseline = createResult("baseline", new int[] { -100, -100, -100 },
+                new long[] { 1000L, 1010L, 990L });
+        PlannerBenchmarkResult candidate = createResult("candidate", new int[] { -100, -100, -100 },
+                new long[] { 1000L, 1010L, 990L });
+        BenchmarkRegressionReport report = regressionGate.compare(baseline, candidate);
+        assertThat(report.hasRegression()).isFalse();
+        assertThat(report.getSingleBenchmarkRegressionList()).hasSize(1);
+        SingleBenchmarkRegression regression = report.getSingleBenchmarkRegressionList().get(0);
+        assertThat(regression.getScoreCalculationSpeedDifferencePercentage()).isEqualTo(0.0);
+        assertThat(regression.getScoreDifferencePercentage()).isEqualTo(0.0);
+        assertThat(report.toSummaryString()).contains("No regressions.");
+    }
+
+    @Test
+    public void slowerScoreCalculationSpeed() {
+        PlannerBenchmarkResult baseline = createResult("baseline", new int[] { -100, -100, -100 },
+                new long[] { 1000L, 1010L, 990L });
+        PlannerBenchmarkResult candidate = createResult("candidate", new int[] { -100, -100, -100 },
+                new long[] { 800L, 810L, 790L });
+        BenchmarkRegressionReport report = regressionGate.compare(baseline, candidate);
+        assertThat(report.hasRegression()).isTrue();
+        SingleBenchmarkRegression regression = report.getSingleBenchmarkRegressionList().get(0);
+        assertThat(regression.isScoreCalculationSpeedRegressed()).isTrue();
+        assertThat(regression.isScoreRegressed()).isFalse();
+        assertThat(regression.getScoreCalculationSpeedDifferencePercentage()).isLessThan(-0.05);
+    }
+
+    @Test
+    public void noisyScoreCalculationSpeedIsNotARegression() {
+        PlannerBenchmarkResult baseline = createResult("baseline", new int[] { -100, -100, -100, -100, -100 },
+                new long[] { 1000L, 600L, 1400L, 800L, 1200L });
+        PlannerBenchmarkResult candidate = createResult("candidate", new int[] { -100, -100, -100, -100, -100 },
+                new long[] { 900L, 500L, 1300L, 700L, 1100L });
+        BenchmarkRegressionReport report = regressionGate.compare(baseline, candidate);
+        SingleBenchmarkRegression regression = report.getSingleBenchmarkRegressionList().get(0);
+        assertThat(regression.getScoreCalculationSpeedDifferencePercentage()).isLessThan(-0.05);
+        assertThat(regression.isScoreCalculationSpeedRegressed()).isFalse();
+    }
+
+    @Test
+    public void worseScore() {
+        PlannerBenchmarkResult baseline = createResult("baseline", new int[] { -100, -101, -99 },
+                new long[] { 1000L, 1000L, 1000L });
+        PlannerBenchmarkResult candidate = createResult("candidate", new int[] { -120, -121, -119 },
+                new long[] { 1000L, 1000L, 1000L });
+        BenchmarkRegressionReport report = regressionGate.compare(baseline, candidate);
+        assertThat(report.hasRegression()).isTrue();
+        SingleBenchmarkRegression regression = report.getSingleBenchmarkRegressionList().get(0);
+        assertThat(regression.isScoreRegressed()).isTrue();
+        assertThat(regression.isScoreCalculationSpeedRegressed()).isFalse();
+        assertThat(regression.getScoreDifferencePercentage()).isEqualTo(-0.2);
+    }
+
+    @Test
+    public void betterScoreIsNotARegression() {
+        PlannerBenchmarkResult baseline = createResult("baseline", new int[] { -120 }, new long[] { 1000L });
+        PlannerBenchmarkResult candidate = createResult("candidate", new int[] { -100 }, new long[] { 1000L });
+        assertThat(regressionGate.compare(baseline, candidate).hasRegression()).isFalse();
+    }
+
+    @Test
+    public void missingCandidate() {
+        PlannerBenchmarkResult baseline = createResult("baseline", new int[] { -100 }, new long[] { 1000L });
+        PlannerBenchmarkResult candidate = new PlannerBenchmarkResult();
+        candidate.setName("candidate");
+        candidate.setSolverBenchmarkResultList(Collections.emptyList());
+        BenchmarkRegressionReport report = regressionGate.compare(baseline, candidate);
+        assertThat(report.hasRegression()).isTrue();
+        assertThat(report.getRegressedList().get(0).getFailureReason()).isNotNull();
+    }
+
+    private static PlannerBenchmarkResult createResult(String name, int[] scores, long[] scoreCalculationCounts) {
+        PlannerBenchmarkResult plannerBenchmarkResult = new PlannerBenchmarkResult();
+        plannerBenchmarkResult.setName(name);
+        SolverBenchmarkResult solverBenchmarkResult = new SolverBenchmarkResult(plannerBenchmarkResult);
+        solverBenchmarkResult.setName("Solver X");
+        solverBenchmarkResult.setScoreDefinition(new SimpleScoreDefinition());
+        ProblemBenchmarkResult<Object> problemBenchmarkResult = new ProblemBenchmarkResult<>(plannerBenchmarkResult);
+        problemBenchmarkResult.setName("Problem A");
+        SingleBenchmarkResult singleBenchmarkResult = new SingleBenchmarkResult(solverBenchmarkResult,
+                problemBenchmarkResult);
+        List<SubSingleBenchmarkResult> subSingleBenchmarkResultList = new ArrayList<>(scores.length);
+        for (int i = 0; i < scores.length; i++) {
+            SubSingleBenchmarkResult subSingleBenchmarkResult = new SubSingleBenchmarkResult(singleBenchmarkResult, i);
+            subSingleBenchmarkResult.setSucceeded(true);
+            subSingleBenchmarkResult.setScore(SimpleScore.of(scores[i]));
+            subSingleBenchmarkResult.setTimeMillisSpent(1000L);
+            subSingleBenchmarkResult.setScoreCalculationCount(scoreCalculationCounts[i]);
+            subSingleBenchmarkResultList.add(subSingleBenchmarkResult);
+        }
+        singleBenchmarkResult.setSubSingleBenchmarkResultList(subSingleBenchmarkResultList);
+        singleBenchmarkResult.accumulateResults(new BenchmarkReport(plannerBenchmarkResult));
+        solverBenchmarkResult.setSingleBenchmarkResultList(Collections.singletonList(singleBenchmarkResult));
+        problemBenchmarkResult.setSingleBenchmarkResultList(Collections.singletonList(singleBenchmarkResult));
+        plannerBenchmarkResult.setSolverBenchmarkResultList(Collections.singletonList(solverBenchmarkResult));
+        plannerBenchmarkResult.setUnifiedProblemBenchmarkResultList(Collections.singletonList(problemBenchmarkResult));
+        return plannerBenchmarkResult;
+    }
+
+}
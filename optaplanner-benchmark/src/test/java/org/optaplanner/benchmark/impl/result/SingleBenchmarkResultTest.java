@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.benchmark.impl.measurement.BootstrapResampler;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+
+class SingleBenchmarkResultTest {
+
+    private static final double SIGNIFICANCE_LEVEL = BootstrapResampler.DEFAULT_SIGNIFICANCE_LEVEL;
+
+    private final BootstrapResampler bootstrapResampler = new BootstrapResampler();
+
+    @Test
+    void scorePValueOfSignificantSoftDifferenceBehindNoisyHardLevel() {
+        SingleBenchmarkResult a = createSingleBenchmarkResult(
+                HardSoftScore.of(0, -100), HardSoftScore.of(-10, -101), HardSoftScore.of(0, -99),
+                HardSoftScore.of(-10, -100), HardSoftScore.of(0, -100));
+        SingleBenchmarkResult b = createSingleBenchmarkResult(
+                HardSoftScore.of(-10, -200), HardSoftScore.of(0, -201), HardSoftScore.of(-10, -199),
+                HardSoftScore.of(0, -200), HardSoftScore.of(-5, -200));
+        assertThat(bootstrapResampler.calculateMeanDifferencePValue(
+                a.extractScoreLevelSamples()[0], b.extractScoreLevelSamples()[0]))
+                .isBetween(SIGNIFICANCE_LEVEL, 1.0);
+        assertThat(a.calculateScorePValue(b, bootstrapResampler, SIGNIFICANCE_LEVEL))
+                .isLessThan(SIGNIFICANCE_LEVEL);
+    }
+
+    @Test
+    void scorePValueOfSignificantHardDifference() {
+        SingleBenchmarkResult a = createSingleBenchmarkResult(
+                HardSoftScore.of(-1, -100), HardSoftScore.of(-2, -300), HardSoftScore.of(-1, -100));
+        SingleBenchmarkResult b = createSingleBenchmarkResult(
+                HardSoftScore.of(-20, -100), HardSoftScore.of(-21, -300), HardSoftScore.of(-20, -100));
+        assertThat(a.calculateScorePValue(b, bootstrapResampler, SIGNIFICANCE_LEVEL))
+                .isLessThan(SIGNIFICANCE_LEVEL);
+    }
+
+    @Test
+    void scorePValueWithoutSignificantDifference() {
+        SingleBenchmarkResult a = createSingleBenchmarkResult(
+                HardSoftScore.of(0, -100), HardSoftScore.of(-10, -104), HardSoftScore.of(0, -96));
+        SingleBenchmarkResult b = createSingleBenchmarkResult(
+                HardSoftScore.of(-10, -99), HardSoftScore.of(0, -103), HardSoftScore.of(-5, -97));
+        assertThat(a.calculateScorePValue(b, bootstrapResampler, SIGNIFICANCE_LEVEL))
+                .isBetween(SIGNIFICANCE_LEVEL, 1.0);
+        assertThat(a.calculateScorePValue(a, bootstrapResampler, SIGNIFICANCE_LEVEL))
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void scorePValueWithoutEnoughSamples() {
+        SingleBenchmarkResult a = createSingleBenchmarkResult(HardSoftScore.of(0, -100));
+        SingleBenchmarkResult b = createSingleBenchmarkResult(HardSoftScore.of(-10, -200), HardSoftScore.of(0, -201));
+        assertThat(a.calculateScorePValue(b, bootstrapResampler, SIGNIFICANCE_LEVEL)).isNull();
+    }
+
+    private static SingleBenchmarkResult createSingleBenchmarkResult(HardSoftScore... subSingleScores) {
+        SingleBenchmarkResult singleBenchmarkResult = new SingleBenchmarkResult(null, null);
+        List<SubSingleBenchmarkResult> subSingleBenchmarkResultList = new ArrayList<>(subSingleScores.length);
+        for (int i = 0; i < subSingleScores.length; i++) {
+            SubSingleBenchmarkResult subSingleBenchmarkResult = new SubSingleBenchmarkResult(singleBenchmarkResult, i);
+            subSingleBenchmarkResult.setSucceeded(true);
+            subSingleBenchmarkResult.setScore(subSingleScores[i]);
+            subSingleBenchmarkResultList.add(subSingleBenchmarkResult);
+        }
+        singleBenchmarkResult.setSubSingleBenchmarkResultList(subSingleBenchmarkResultList);
+        return singleBenchmarkResult;
+    }
+
+}
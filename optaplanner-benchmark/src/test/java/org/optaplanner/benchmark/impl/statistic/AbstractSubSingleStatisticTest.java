@@ -1,5 +1,7 @@
 package org.optaplanner.benchmark.impl.statistic;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.io.File;
 import java.nio.file.Path;
 import java.util.Collections;
@@ -10,6 +12,7 @@ import java.util.function.Function;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
 import org.optaplanner.benchmark.impl.result.PlannerBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.ProblemBenchmarkResult;
 import org.optaplanner.benchmark.impl.result.SingleBenchmarkResult;
@@ -36,13 +39,34 @@ public abstract class AbstractSubSingleStatisticTest<Point_ extends StatisticPoi
         SoftAssertions.assertSoftly(softly -> runTest(softly, subSingleStatisticUnhibernated.getPointList()));
     }
 
+    @Test
+    public void streamed(@TempDir Path tempDir) {
+        SubSingleBenchmarkResult subSingleBenchmarkResult = createSubStatistic(tempDir.toFile());
+        Function<SubSingleBenchmarkResult, SubSingleStatistic_> constructor = getSubSingleStatisticConstructor();
+        SubSingleStatistic_ subSingleStatistic = constructor.apply(subSingleBenchmarkResult);
+
+        // Stream the points to the CSV file while they are added.
+        subSingleStatistic.initPointStream();
+        for (Point_ point : getInputPoints()) {
+            subSingleStatistic.addPoint(point);
+        }
+        assertThat(subSingleStatistic.getPointList()).isNull();
+        subSingleStatistic.hibernatePointList();
+
+        // Re-read the point list.
+        SubSingleStatistic_ subSingleStatisticUnhibernated = constructor.apply(subSingleBenchmarkResult);
+        subSingleStatisticUnhibernated.unhibernatePointList(BenchmarkReport.CHARTED_POINT_MAXIMUM_SIZE);
+
+        SoftAssertions.assertSoftly(softly -> runTest(softly, subSingleStatisticUnhibernated.getPointList()));
+    }
+
     protected abstract Function<SubSingleBenchmarkResult, SubSingleStatistic_> getSubSingleStatisticConstructor();
 
     protected abstract List<Point_> getInputPoints();
 
     protected abstract void runTest(SoftAssertions assertions, List<Point_> outputPoints);
 
-    private SubSingleBenchmarkResult createSubStatistic(File tempDirectory) {
+    protected SubSingleBenchmarkResult createSubStatistic(File tempDirectory) {
         PlannerBenchmarkResult plannerBenchmarkResult = new PlannerBenchmarkResult();
         plannerBenchmarkResult.setBenchmarkReportDirectory(tempDirectory);
         ProblemBenchmarkResult<TestdataSolution> problemBenchmarkResult = new ProblemBenchmarkResult<>(plannerBenchmarkResult);
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.concurrent.ThreadFactory;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.solver.thread.DefaultSolverThreadFactory;
+
+class SolverThreadTrackerTest {
+
+    @Test
+    void onlyChildThreadsOfOwnSolver() {
+        SolverScope<Object> solverScope = new SolverScope<>();
+        SolverScope<Object> otherSolverScope = new SolverScope<>();
+        SolverThreadTracker solverThreadTracker = new SolverThreadTracker(solverScope);
+
+        ThreadFactory threadFactory = solverScope.trackChildThreads(new DefaultSolverThreadFactory("MoveThread"));
+        Thread childThread = threadFactory.newThread(() -> {
+        });
+        ThreadFactory otherThreadFactory =
+                otherSolverScope.trackChildThreads(new DefaultSolverThreadFactory("MoveThread"));
+        Thread otherChildThread = otherThreadFactory.newThread(() -> {
+        });
+
+        assertThat(solverThreadTracker.findThreadIdToNameMap())
+                .containsOnlyKeys(Thread.currentThread().getId(), childThread.getId())
+                .doesNotContainKey(otherChildThread.getId())
+                .containsEntry(childThread.getId(), childThread.getName());
+        // The solver thread comes first
+        assertThat(solverThreadTracker.findThreadIdToNameMap().keySet())
+                .first().isEqualTo(Thread.currentThread().getId());
+    }
+
+    @Test
+    void allocatedBytesOfChildThreadThatDiedAreMeasured() throws InterruptedException {
+        SolverScope<Object> solverScope = new SolverScope<>();
+        SolverThreadTracker solverThreadTracker = new SolverThreadTracker(solverScope);
+        assumeTrue(solverThreadTracker.isAllocatedBytesSupported());
+        solverThreadTracker.measureAllocatedBytesDelta();
+
+        int allocatedBytes = 10 * 1024 * 1024;
+        byte[][] holder = new byte[1][];
+        ThreadFactory threadFactory = solverScope.trackChildThreads(new DefaultSolverThreadFactory("MoveThread"));
+        Thread childThread = threadFactory.newThread(() -> holder[0] = new byte[allocatedBytes]);
+        childThread.start();
+        childThread.join();
+
+        assertThat(holder[0]).hasSize(allocatedBytes);
+        assertThat(solverThreadTracker.measureAllocatedBytesDelta()).isGreaterThanOrEqualTo(allocatedBytes);
+        // Not counted twice
+        assertThat(solverThreadTracker.measureAllocatedBytesDelta()).isLessThan(allocatedBytes);
+    }
+
+}
@@ -0,0 +1,37 @@
+package org.optaplanner.benchmark.impl.statistic.garbagecollectiontimeshare;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.assertj.core.api.SoftAssertions;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.AbstractSubSingleStatisticTest;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+public final class GarbageCollectionTimeShareSubSingleStatisticTest
+        extends
+        AbstractSubSingleStatisticTest<GarbageCollectionTimeShareStatisticPoint, GarbageCollectionTimeShareSubSingleStatistic<TestdataSolution>> {
+
+    @Override
+    protected Function<SubSingleBenchmarkResult, GarbageCollectionTimeShareSubSingleStatistic<TestdataSolution>>
+            getSubSingleStatisticConstructor() {
+        return GarbageCollectionTimeShareSubSingleStatistic::new;
+    }
+
+    @Override
+    protected List<GarbageCollectionTimeShareStatisticPoint> getInputPoints() {
+        return Collections.singletonList(new GarbageCollectionTimeShareStatisticPoint(Long.MAX_VALUE, 3L, 0.125));
+    }
+
+    @Override
+    protected void runTest(SoftAssertions assertions, List<GarbageCollectionTimeShareStatisticPoint> outputPoints) {
+        assertions.assertThat(outputPoints)
+                .hasSize(1)
+                .first()
+                .matches(s -> s.getGarbageCollectionCount() == 3L, "Garbage collection counts do not match.")
+                .matches(s -> s.getGarbageCollectionTimeShare() == 0.125, "Garbage collection time shares do not match.")
+                .matches(s -> s.getTimeMillisSpent() == Long.MAX_VALUE, "Millis do not match.");
+    }
+
+}
@@ -0,0 +1,38 @@
+package org.optaplanner.benchmark.impl.statistic.memoryallocationrate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.assertj.core.api.SoftAssertions;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.AbstractSubSingleStatisticTest;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+public final class MemoryAllocationRateSubSingleStatisticTest
+        extends
+        AbstractSubSingleStatisticTest<MemoryAllocationRateStatisticPoint, MemoryAllocationRateSubSingleStatistic<TestdataSolution>> {
+
+    @Override
+    protected Function<SubSingleBenchmarkResult, MemoryAllocationRateSubSingleStatistic<TestdataSolution>>
+            getSubSingleStatisticConstructor() {
+        return MemoryAllocationRateSubSingleStatistic::new;
+    }
+
+    @Override
+    protected List<MemoryAllocationRateStatisticPoint> getInputPoints() {
+        return Collections.singletonList(new MemoryAllocationRateStatisticPoint(Long.MAX_VALUE, 123_456_789L, 256L));
+    }
+
+    @Override
+    protected void runTest(SoftAssertions assertions, List<MemoryAllocationRateStatisticPoint> outputPoints) {
+        assertions.assertThat(outputPoints)
+                .hasSize(1)
+                .first()
+                .matches(s -> s.getAllocatedBytesPerSecond() == 123_456_789L, "Allocated bytes per second do not match.")
+                .matches(s -> s.getAllocatedBytesPerScoreCalculation() == 256L,
+                        "Allocated bytes per score calculation do not match.")
+                .matches(s -> s.getTimeMillisSpent() == Long.MAX_VALUE, "Millis do not match.");
+    }
+
+}
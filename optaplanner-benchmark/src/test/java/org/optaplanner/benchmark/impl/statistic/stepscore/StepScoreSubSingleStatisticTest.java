@@ -1,10 +1,16 @@
 package org.optaplanner.benchmark.impl.statistic.stepscore;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
 import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
 import org.optaplanner.benchmark.impl.statistic.AbstractSubSingleStatisticTest;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
@@ -33,4 +39,32 @@ public final class StepScoreSubSingleStatisticTest
                 .matches(s -> s.getTimeMillisSpent() == Long.MAX_VALUE, "Millis do not match.");
     }
 
+    @Test
+    public void downsampled(@TempDir Path tempDir) {
+        SubSingleBenchmarkResult subSingleBenchmarkResult = createSubStatistic(tempDir.toFile());
+        StepScoreSubSingleStatistic<TestdataSolution> subSingleStatistic =
+                new StepScoreSubSingleStatistic<>(subSingleBenchmarkResult);
+        int pointCount = 10_000;
+        List<StepScoreStatisticPoint> pointList = new ArrayList<>(pointCount);
+        for (int i = 0; i < pointCount; i++) {
+            // A sawtooth that slowly improves, with a spike in the middle
+            int score = i == 5_000 ? 1_000 : -pointCount + i - (i % 10) * 100;
+            pointList.add(new StepScoreStatisticPoint(i, SimpleScore.of(score)));
+        }
+        subSingleStatistic.setPointList(pointList);
+        subSingleStatistic.hibernatePointList();
+
+        StepScoreSubSingleStatistic<TestdataSolution> subSingleStatisticUnhibernated =
+                new StepScoreSubSingleStatistic<>(subSingleBenchmarkResult);
+        subSingleStatisticUnhibernated.unhibernatePointList(100);
+        List<StepScoreStatisticPoint> outputPointList = subSingleStatisticUnhibernated.getPointList();
+        assertThat(outputPointList).hasSizeLessThanOrEqualTo(100);
+        assertThat(outputPointList.get(0).getTimeMillisSpent()).isEqualTo(0L);
+        assertThat(outputPointList.get(outputPointList.size() - 1).getTimeMillisSpent()).isEqualTo(pointCount - 1L);
+        assertThat(outputPointList).extracting(StepScoreStatisticPoint::getTimeMillisSpent).isSorted();
+        // The envelope survives
+        assertThat(outputPointList).anyMatch(point -> point.getScore().equals(SimpleScore.of(1_000)));
+        assertThat(outputPointList).anyMatch(point -> point.getScore().equals(SimpleScore.of(-pointCount + 9 - 900)));
+    }
+
 }
@@ -0,0 +1,37 @@
+package org.optaplanner.benchmark.impl.statistic.subsingle.threadcpuuse;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.assertj.core.api.SoftAssertions;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.AbstractSubSingleStatisticTest;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+public final class ThreadCpuUseSubSingleStatisticTest
+        extends AbstractSubSingleStatisticTest<ThreadCpuUseStatisticPoint, ThreadCpuUseSubSingleStatistic<TestdataSolution>> {
+
+    @Override
+    protected Function<SubSingleBenchmarkResult, ThreadCpuUseSubSingleStatistic<TestdataSolution>>
+            getSubSingleStatisticConstructor() {
+        return ThreadCpuUseSubSingleStatistic::new;
+    }
+
+    @Override
+    protected List<ThreadCpuUseStatisticPoint> getInputPoints() {
+        return Collections.singletonList(new ThreadCpuUseStatisticPoint(Long.MAX_VALUE, "OptaPool-1-MoveThread-2", 0.75));
+    }
+
+    @Override
+    protected void runTest(SoftAssertions assertions, List<ThreadCpuUseStatisticPoint> outputPoints) {
+        assertions.assertThat(outputPoints)
+                .hasSize(1)
+                .first()
+                .matches(s -> Objects.equals(s.getThreadName(), "OptaPool-1-MoveThread-2"), "Thread names do not match.")
+                .matches(s -> s.getCpuUse() == 0.75, "CPU uses do not match.")
+                .matches(s -> s.getTimeMillisSpent() == Long.MAX_VALUE, "Millis do not match.");
+    }
+
+}
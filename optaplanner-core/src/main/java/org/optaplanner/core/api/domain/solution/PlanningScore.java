@@ -25,6 +25,7 @@ import java.lang.annotation.Target;
 
 import org.optaplanner.core.api.score.AbstractBendableScore;
 import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.hardsoftdecimal.HardSoftDecimalScore;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
@@ -62,6 +63,21 @@ public @interface PlanningScore {
     /** Workaround for annotation limitation in {@link #bendableHardLevelsSize()} and {@link #bendableSoftLevelsSize()}. */
     int NO_LEVEL_SIZE = -1;
 
+    /**
+     * Optional for a {@link HardSoftDecimalScore}: the number of digits after the decimal point of every score level.
+     * <p>
+     * Every constraint weight and every impact of a {@link java.math.BigDecimal} match weight must fit in that scale,
+     * otherwise score calculation fails fast instead of rounding.
+     * If this is not specified, the scale is the largest scale of the constraint weights.
+     *
+     * @return {@code 0 <= decimalScale <= }{@link HardSoftDecimalScore#MAX_SCALE}
+     *         if the {@link Score} is a {@link HardSoftDecimalScore}, not used otherwise
+     */
+    int decimalScale() default NO_DECIMAL_SCALE;
+
+    /** Workaround for annotation limitation in {@link #decimalScale()}. */
+    int NO_DECIMAL_SCALE = -1;
+
     /**
      * Overrides the default determined {@link ScoreDefinition} to implement a custom one.
      * <p>
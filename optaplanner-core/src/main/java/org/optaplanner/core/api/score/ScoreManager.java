@@ -16,7 +16,10 @@
 
 package org.optaplanner.core.api.score;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.optaplanner.core.api.domain.solution.PlanningScore;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
@@ -111,4 +114,55 @@ public interface ScoreManager<Solution_, Score_ extends Score<Score_>> {
      */
     ScoreExplanation<Solution_, Score_> explainScore(Solution_ solution);
 
+    /**
+     * As defined by {@link #explainScore(Object)}, but for many solutions at once.
+     * Every thread reuses its score calculation for the next solution.
+     * If the stream is {@link Stream#parallel() parallel}, the solutions are explained in parallel.
+     * <p>
+     * Every solution is still calculated from scratch:
+     * with a DRL score calculation, every solution still builds a new {@code KieSession},
+     * and with Drools constraint streams every solution still inserts all its facts again
+     * (and builds a new {@code KieSession} if its constraint weights differ from those of the previous solution).
+     * To calculate a series of solutions that only differ in their planning variables incrementally,
+     * use {@link #openSession()} instead.
+     * <p>
+     * The default implementation explains every solution separately with {@link #explainScore(Object)}.
+     *
+     * @param solutions never null, consumed by this method
+     * @return never null, in the encounter order of the solutions
+     * @throws IllegalStateException when constraint matching is disabled or not supported by the underlying score
+     *         calculator, such as {@link EasyScoreCalculator}.
+     */
+    default List<ScoreExplanation<Solution_, Score_>> explainScores(Stream<Solution_> solutions) {
+        return solutions.map(this::explainScore).collect(Collectors.toList());
+    }
+
+    /**
+     * Opens a {@link ScoreSession} which calculates a series of solutions that only differ in their planning
+     * variables, such as what-if variations of the same schedule, incrementally.
+     * <p>
+     * The default implementation returns a session that calculates every solution from scratch
+     * with {@link #updateScore(Object)} and {@link #explainScore(Object)}.
+     *
+     * @return never null, must be closed after use
+     */
+    default ScoreSession<Solution_, Score_> openSession() {
+        return new ScoreSession<>() {
+            @Override
+            public Score_ updateScore(Solution_ solution) {
+                return ScoreManager.this.updateScore(solution);
+            }
+
+            @Override
+            public ScoreExplanation<Solution_, Score_> explainScore(Solution_ solution) {
+                return ScoreManager.this.explainScore(solution);
+            }
+
+            @Override
+            public void close() {
+                // Nothing to release
+            }
+        };
+    }
+
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score;
+
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+import org.optaplanner.core.api.domain.solution.PlanningScore;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.variable.PlanningVariable;
+import org.optaplanner.core.api.score.calculator.EasyScoreCalculator;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
+
+/**
+ * A stateful session of a {@link ScoreManager} that reuses the same score calculation
+ * for a series of solutions that only differ in their {@link PlanningVariable planning variables},
+ * such as what-if variations of the same schedule.
+ * <p>
+ * The session works on its own planning clone of the first solution.
+ * For every next solution, it looks up every planning entity and planning value by its {@link PlanningId}
+ * and only changes the planning variables that differ, so the score is calculated incrementally.
+ * If the planning entities differ or if they or the planning values cannot be looked up,
+ * it starts over with a planning clone of that solution.
+ * With chained planning variables, it always starts over.
+ * The session does not detect changes in the problem facts:
+ * use a new session (or {@link ScoreManager#explainScore(Object)}) for a solution with other problem facts.
+ * <p>
+ * The {@link ConstraintMatch#getJustificationList() justifications} of a {@link ScoreExplanation}
+ * are the planning entities and problem facts of the session's planning clone,
+ * not those of the solution passed to this session, so look them up by their {@link PlanningId}.
+ * <p>
+ * To create a ScoreSession, use {@link ScoreManager#openSession()}.
+ * Close it after use, to release the resources of the score calculation.
+ * <p>
+ * This class is not thread-safe: use a separate session per thread.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <Score_> the actual score type
+ */
+public interface ScoreSession<Solution_, Score_ extends Score<Score_>> extends AutoCloseable {
+
+    /**
+     * As defined by {@link ScoreManager#updateScore(Object)}.
+     * Calculates the {@link Score} of a {@link PlanningSolution} and updates its {@link PlanningScore} member.
+     *
+     * @param solution never null, not modified by this session apart from its score
+     * @return never null
+     */
+    Score_ updateScore(Solution_ solution);
+
+    /**
+     * As defined by {@link ScoreManager#explainScore(Object)}.
+     * The returned {@link ScoreExplanation} does not change when this session calculates the next solution.
+     *
+     * @param solution never null, not modified by this session apart from its score
+     * @return never null
+     * @throws IllegalStateException when constraint matching is disabled or not supported by the underlying score
+     *         calculator, such as {@link EasyScoreCalculator}.
+     */
+    ScoreExplanation<Solution_, Score_> explainScore(Solution_ solution);
+
+    /**
+     * Releases the resources of the score calculation, such as a Drools session.
+     */
+    @Override
+    void close();
+
+}
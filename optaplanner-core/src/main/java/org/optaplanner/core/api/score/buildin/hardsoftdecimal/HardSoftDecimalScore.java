@@ -0,0 +1,416 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.buildin.hardsoftdecimal;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+import org.optaplanner.core.api.score.AbstractScore;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+
+/**
+ * This {@link Score} is based on 2 levels of fixed-scale decimal constraints: hard and soft.
+ * Hard constraints have priority over soft constraints.
+ * Hard constraints determine feasibility.
+ * <p>
+ * Unlike {@link HardSoftBigDecimalScore}, every level is stored as an unscaled {@code long}
+ * together with a scale (the number of digits after the decimal point), like {@link BigDecimal#unscaledValue()}.
+ * For example {@code -1.50hard/3.25soft} has the scale 2 and the unscaled scores -150 and 325.
+ * So score calculation with scores of the same scale never creates a {@link BigDecimal}.
+ * Adding scores with different scales uses the largest scale of both.
+ * <p>
+ * Every arithmetic operation detects overflow and throws an {@link ArithmeticException} instead of wrapping around.
+ * Use {@link HardSoftBigDecimalScore} if the scores don't fit in a {@code long}.
+ * <p>
+ * This class is immutable.
+ *
+ * @see Score
+ */
+public final class HardSoftDecimalScore extends AbstractScore<HardSoftDecimalScore> {
+
+    /**
+     * 10^18 is the largest power of 10 that fits in a {@code long}.
+     */
+    public static final int MAX_SCALE = 18;
+
+    public static final HardSoftDecimalScore ZERO = new HardSoftDecimalScore(0, 0L, 0L, 0);
+    public static final HardSoftDecimalScore ONE_HARD = new HardSoftDecimalScore(0, 1L, 0L, 0);
+    public static final HardSoftDecimalScore ONE_SOFT = new HardSoftDecimalScore(0, 0L, 1L, 0);
+    private static final String HARD_LABEL = "hard";
+    private static final String SOFT_LABEL = "soft";
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+        }
+    }
+
+    public static HardSoftDecimalScore parseScore(String scoreString) {
+        String[] scoreTokens = parseScoreTokens(HardSoftDecimalScore.class, scoreString, HARD_LABEL, SOFT_LABEL);
+        int initScore = parseInitScore(HardSoftDecimalScore.class, scoreString, scoreTokens[0]);
+        BigDecimal hardScore = parseLevelAsBigDecimal(HardSoftDecimalScore.class, scoreString, scoreTokens[1]);
+        BigDecimal softScore = parseLevelAsBigDecimal(HardSoftDecimalScore.class, scoreString, scoreTokens[2]);
+        return ofUninitialized(initScore, hardScore, softScore);
+    }
+
+    /**
+     * @param initScore see {@link Score#getInitScore()}
+     * @param hardScore never null
+     * @param softScore never null
+     * @return never null, with the largest scale of both levels (but at least 0)
+     * @throws ArithmeticException if a level doesn't fit in a {@code long} with that scale
+     */
+    public static HardSoftDecimalScore ofUninitialized(int initScore, BigDecimal hardScore, BigDecimal softScore) {
+        int scale = Math.max(0, Math.max(hardScore.scale(), softScore.scale()));
+        validateScale(scale);
+        return new HardSoftDecimalScore(initScore, toUnscaled(hardScore, scale), toUnscaled(softScore, scale), scale);
+    }
+
+    public static HardSoftDecimalScore of(BigDecimal hardScore, BigDecimal softScore) {
+        return ofUninitialized(0, hardScore, softScore);
+    }
+
+    public static HardSoftDecimalScore ofHard(BigDecimal hardScore) {
+        return of(hardScore, BigDecimal.ZERO);
+    }
+
+    public static HardSoftDecimalScore ofSoft(BigDecimal softScore) {
+        return of(BigDecimal.ZERO, softScore);
+    }
+
+    /**
+     * @param initScore see {@link Score#getInitScore()}
+     * @param hardUnscaledScore the hard score multiplied by 10^scale
+     * @param softUnscaledScore the soft score multiplied by 10^scale
+     * @param scale {@code 0 <= scale <= }{@link #MAX_SCALE}, the number of digits after the decimal point
+     * @return never null
+     */
+    public static HardSoftDecimalScore ofUninitializedUnscaled(int initScore, long hardUnscaledScore,
+            long softUnscaledScore, int scale) {
+        validateScale(scale);
+        return new HardSoftDecimalScore(initScore, hardUnscaledScore, softUnscaledScore, scale);
+    }
+
+    /**
+     * For example {@code ofUnscaled(-150L, 325L, 2)} is {@code -1.50hard/3.25soft}.
+     *
+     * @param hardUnscaledScore the hard score multiplied by 10^scale
+     * @param softUnscaledScore the soft score multiplied by 10^scale
+     * @param scale {@code 0 <= scale <= }{@link #MAX_SCALE}, the number of digits after the decimal point
+     * @return never null
+     */
+    public static HardSoftDecimalScore ofUnscaled(long hardUnscaledScore, long softUnscaledScore, int scale) {
+        return ofUninitializedUnscaled(0, hardUnscaledScore, softUnscaledScore, scale);
+    }
+
+    private static void validateScale(int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("The scale (" + scale + ") must be between 0 and "
+                    + MAX_SCALE + ".\n"
+                    + "Maybe use " + HardSoftBigDecimalScore.class.getSimpleName() + " instead.");
+        }
+    }
+
+    private static long toUnscaled(BigDecimal value, int scale) {
+        try {
+            // Never rounds, because the scale is at least the scale of the value
+            return value.setScale(scale).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("The value (" + value + ") with scale (" + scale
+                    + ") does not fit in a long.\n"
+                    + "Maybe use " + HardSoftBigDecimalScore.class.getSimpleName() + " instead.");
+        }
+    }
+
+    private static long rescale(long unscaled, int scale, int newScale) {
+        if (scale == newScale) {
+            return unscaled;
+        }
+        try {
+            return Math.multiplyExact(unscaled, POWERS_OF_TEN[newScale - scale]);
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("The value (" + BigDecimal.valueOf(unscaled, scale)
+                    + ") with scale (" + newScale + ") does not fit in a long.\n"
+                    + "Maybe use " + HardSoftBigDecimalScore.class.getSimpleName() + " instead.");
+        }
+    }
+
+    private static long addExact(long augend, long addend, int scale) {
+        try {
+            return Math.addExact(augend, addend);
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("The sum of (" + BigDecimal.valueOf(augend, scale)
+                    + ") and (" + BigDecimal.valueOf(addend, scale) + ") overflows a long with scale (" + scale + ").\n"
+                    + "Maybe use " + HardSoftBigDecimalScore.class.getSimpleName() + " instead.");
+        }
+    }
+
+    private static long subtractExact(long minuend, long subtrahend, int scale) {
+        try {
+            return Math.subtractExact(minuend, subtrahend);
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("The difference of (" + BigDecimal.valueOf(minuend, scale)
+                    + ") and (" + BigDecimal.valueOf(subtrahend, scale) + ") overflows a long with scale (" + scale
+                    + ").\n"
+                    + "Maybe use " + HardSoftBigDecimalScore.class.getSimpleName() + " instead.");
+        }
+    }
+
+    private static long toUnscaled(double value) {
+        if (Double.isNaN(value) || value >= 0x1p63 || value < -0x1p63) {
+            throw new ArithmeticException("The unscaled value (" + value + ") does not fit in a long.\n"
+                    + "Maybe use " + HardSoftBigDecimalScore.class.getSimpleName() + " instead.");
+        }
+        return (long) value;
+    }
+
+    // ************************************************************************
+    // Fields
+    // ************************************************************************
+
+    private final long hardScore;
+    private final long softScore;
+    private final int scale;
+
+    /**
+     * Private default constructor for default marshalling/unmarshalling of unknown frameworks that use reflection.
+     * Such integration is always inferior to the specialized integration modules, such as
+     * optaplanner-persistence-jpa, optaplanner-persistence-xstream, optaplanner-persistence-jaxb, ...
+     */
+    @SuppressWarnings("unused")
+    private HardSoftDecimalScore() {
+        this(Integer.MIN_VALUE, Long.MIN_VALUE, Long.MIN_VALUE, 0);
+    }
+
+    private HardSoftDecimalScore(int initScore, long hardScore, long softScore, int scale) {
+        super(initScore);
+        this.hardScore = hardScore;
+        this.softScore = softScore;
+        this.scale = scale;
+    }
+
+    /**
+     * The total of the broken negative hard constraints and fulfilled positive hard constraints.
+     * Their weight is included in the total.
+     * The hard score is usually a negative number because most use cases only have negative constraints.
+     * <p>
+     * This creates a new {@link BigDecimal}, see {@link #getHardUnscaledScore()} to avoid that.
+     *
+     * @return higher is better, usually negative, 0 if no hard constraints are broken/fulfilled
+     */
+    public BigDecimal getHardScore() {
+        return BigDecimal.valueOf(hardScore, scale);
+    }
+
+    /**
+     * The total of the broken negative soft constraints and fulfilled positive soft constraints.
+     * Their weight is included in the total.
+     * The soft score is usually a negative number because most use cases only have negative constraints.
+     * <p>
+     * In a normal score comparison, the soft score is irrelevant if the 2 scores don't have the same hard score.
+     * <p>
+     * This creates a new {@link BigDecimal}, see {@link #getSoftUnscaledScore()} to avoid that.
+     *
+     * @return higher is better, usually negative, 0 if no soft constraints are broken/fulfilled
+     */
+    public BigDecimal getSoftScore() {
+        return BigDecimal.valueOf(softScore, scale);
+    }
+
+    /**
+     * @return the {@link #getHardScore()} multiplied by 10^{@link #getScale()}
+     */
+    public long getHardUnscaledScore() {
+        return hardScore;
+    }
+
+    /**
+     * @return the {@link #getSoftScore()} multiplied by 10^{@link #getScale()}
+     */
+    public long getSoftUnscaledScore() {
+        return softScore;
+    }
+
+    /**
+     * @return {@code 0 <= scale <= }{@link #MAX_SCALE}, the number of digits after the decimal point of every level
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * @param newScale {@code 0 <= newScale <= }{@link #MAX_SCALE}
+     * @return never null, an equal score with that scale
+     * @throws ArithmeticException if that scale loses precision or if a level doesn't fit in a {@code long} with it
+     */
+    public HardSoftDecimalScore withScale(int newScale) {
+        validateScale(newScale);
+        if (newScale == scale) {
+            return this;
+        } else if (newScale > scale) {
+            return new HardSoftDecimalScore(initScore,
+                    rescale(hardScore, scale, newScale), rescale(softScore, scale, newScale), newScale);
+        }
+        long divisor = POWERS_OF_TEN[scale - newScale];
+        if (hardScore % divisor != 0L || softScore % divisor != 0L) {
+            throw new ArithmeticException("The score (" + this + ") cannot have the scale (" + newScale
+                    + ") without losing precision.");
+        }
+        return new HardSoftDecimalScore(initScore, hardScore / divisor, softScore / divisor, newScale);
+    }
+
+    @Override
+    public HardSoftDecimalScore withInitScore(int newInitScore) {
+        return new HardSoftDecimalScore(newInitScore, hardScore, softScore, scale);
+    }
+
+    @Override
+    public boolean isFeasible() {
+        return initScore >= 0 && hardScore >= 0L;
+    }
+
+    @Override
+    public HardSoftDecimalScore add(HardSoftDecimalScore addend) {
+        int newScale = Math.max(scale, addend.getScale());
+        return new HardSoftDecimalScore(
+                initScore + addend.getInitScore(),
+                addExact(rescale(hardScore, scale, newScale),
+                        rescale(addend.getHardUnscaledScore(), addend.getScale(), newScale), newScale),
+                addExact(rescale(softScore, scale, newScale),
+                        rescale(addend.getSoftUnscaledScore(), addend.getScale(), newScale), newScale),
+                newScale);
+    }
+
+    @Override
+    public HardSoftDecimalScore subtract(HardSoftDecimalScore subtrahend) {
+        int newScale = Math.max(scale, subtrahend.getScale());
+        return new HardSoftDecimalScore(
+                initScore - subtrahend.getInitScore(),
+                subtractExact(rescale(hardScore, scale, newScale),
+                        rescale(subtrahend.getHardUnscaledScore(), subtrahend.getScale(), newScale), newScale),
+                subtractExact(rescale(softScore, scale, newScale),
+                        rescale(subtrahend.getSoftUnscaledScore(), subtrahend.getScale(), newScale), newScale),
+                newScale);
+    }
+
+    @Override
+    public HardSoftDecimalScore multiply(double multiplicand) {
+        // The scale is kept, so the floor rounds to the last digit of that scale
+        return new HardSoftDecimalScore(
+                (int) Math.floor(initScore * multiplicand),
+                toUnscaled(Math.floor(hardScore * multiplicand)),
+                toUnscaled(Math.floor(softScore * multiplicand)),
+                scale);
+    }
+
+    @Override
+    public HardSoftDecimalScore divide(double divisor) {
+        return new HardSoftDecimalScore(
+                (int) Math.floor(initScore / divisor),
+                toUnscaled(Math.floor(hardScore / divisor)),
+                toUnscaled(Math.floor(softScore / divisor)),
+                scale);
+    }
+
+    @Override
+    public HardSoftDecimalScore power(double exponent) {
+        // The power applies to the decimal value, not to the unscaled value
+        double scaleFactor = POWERS_OF_TEN[scale];
+        return new HardSoftDecimalScore(
+                (int) Math.floor(Math.pow(initScore, exponent)),
+                toUnscaled(Math.floor(Math.pow(hardScore / scaleFactor, exponent) * scaleFactor)),
+                toUnscaled(Math.floor(Math.pow(softScore / scaleFactor, exponent) * scaleFactor)),
+                scale);
+    }
+
+    @Override
+    public HardSoftDecimalScore negate() {
+        return new HardSoftDecimalScore(-initScore,
+                subtractExact(0L, hardScore, scale), subtractExact(0L, softScore, scale), scale);
+    }
+
+    @Override
+    public HardSoftDecimalScore zero() {
+        return HardSoftDecimalScore.ZERO;
+    }
+
+    @Override
+    public Number[] toLevelNumbers() {
+        return new Number[] { getHardScore(), getSoftScore() };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof HardSoftDecimalScore) {
+            HardSoftDecimalScore other = (HardSoftDecimalScore) o;
+            // Like HardSoftBigDecimalScore, 1.5hard equals 1.50hard
+            return initScore == other.getInitScore()
+                    && compareLevel(hardScore, other.getHardUnscaledScore(), other.getScale()) == 0
+                    && compareLevel(softScore, other.getSoftUnscaledScore(), other.getScale()) == 0;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(initScore, getHardScore().stripTrailingZeros(), getSoftScore().stripTrailingZeros());
+    }
+
+    @Override
+    public int compareTo(HardSoftDecimalScore other) {
+        if (initScore != other.getInitScore()) {
+            return Integer.compare(initScore, other.getInitScore());
+        }
+        int hardScoreComparison = compareLevel(hardScore, other.getHardUnscaledScore(), other.getScale());
+        if (hardScoreComparison != 0) {
+            return hardScoreComparison;
+        } else {
+            return compareLevel(softScore, other.getSoftUnscaledScore(), other.getScale());
+        }
+    }
+
+    private int compareLevel(long unscaled, long otherUnscaled, int otherScale) {
+        if (scale == otherScale) {
+            return Long.compare(unscaled, otherUnscaled);
+        }
+        // Rescaling could overflow and different scales are rare during solving
+        return BigDecimal.valueOf(unscaled, scale).compareTo(BigDecimal.valueOf(otherUnscaled, otherScale));
+    }
+
+    @Override
+    public String toShortString() {
+        return buildShortString((n) -> ((BigDecimal) n).signum() != 0, HARD_LABEL, SOFT_LABEL);
+    }
+
+    @Override
+    public String toString() {
+        return getInitPrefix() + getHardScore().toPlainString() + HARD_LABEL
+                + "/" + getSoftScore().toPlainString() + SOFT_LABEL;
+    }
+
+}
@@ -22,6 +22,7 @@ import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.Period;
+import java.time.temporal.Temporal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -58,13 +59,27 @@ import org.optaplanner.core.api.function.ToLongTriFunction;
 import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.function.TriPredicate;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.api.score.stream.common.ConsecutiveInfo;
+import org.optaplanner.core.api.score.stream.common.ConsecutiveIntervalInfo;
+import org.optaplanner.core.api.score.stream.common.LoadBalanceInfo;
+import org.optaplanner.core.api.score.stream.common.SlidingWindowInfo;
 import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
 import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bi.DefaultBiConstraintCollector;
+import org.optaplanner.core.impl.score.stream.bi.DefaultReversibleBiConstraintCollector;
+import org.optaplanner.core.impl.score.stream.collector.ConsecutiveSetTree;
+import org.optaplanner.core.impl.score.stream.collector.Interval;
+import org.optaplanner.core.impl.score.stream.collector.IntervalTree;
+import org.optaplanner.core.impl.score.stream.collector.LoadBalanceCalculator;
+import org.optaplanner.core.impl.score.stream.collector.SlidingWindowTree;
+import org.optaplanner.core.impl.score.stream.collector.ValueCountMap;
 import org.optaplanner.core.impl.score.stream.quad.DefaultQuadConstraintCollector;
+import org.optaplanner.core.impl.score.stream.quad.DefaultReversibleQuadConstraintCollector;
+import org.optaplanner.core.impl.score.stream.tri.DefaultReversibleTriConstraintCollector;
 import org.optaplanner.core.impl.score.stream.tri.DefaultTriConstraintCollector;
+import org.optaplanner.core.impl.score.stream.uni.DefaultReversibleUniConstraintCollector;
 import org.optaplanner.core.impl.score.stream.uni.DefaultUniConstraintCollector;
 
 /**
@@ -93,12 +108,13 @@ public final class ConstraintCollectors {
      * @return never null
      */
     public static <A> UniConstraintCollector<A, ?, Integer> count() {
-        return new DefaultUniConstraintCollector<>(
+        return new DefaultReversibleUniConstraintCollector<>(
                 () -> new int[1],
                 (resultContainer, a) -> {
                     resultContainer[0]++;
-                    return () -> resultContainer[0]--;
+                    return 0L;
                 },
+                (resultContainer, undoToken) -> resultContainer[0]--,
                 resultContainer -> resultContainer[0]);
     }
 
@@ -106,12 +122,13 @@ public final class ConstraintCollectors {
      * As defined by {@link #count()}.
      */
     public static <A> UniConstraintCollector<A, ?, Long> countLong() {
-        return new DefaultUniConstraintCollector<>(
+        return new DefaultReversibleUniConstraintCollector<>(
                 () -> new long[1],
                 (resultContainer, a) -> {
                     resultContainer[0]++;
-                    return () -> resultContainer[0]--;
+                    return 0L;
                 },
+                (resultContainer, undoToken) -> resultContainer[0]--,
                 resultContainer -> resultContainer[0]);
     }
 
@@ -119,12 +136,13 @@ public final class ConstraintCollectors {
      * As defined by {@link #count()}.
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Integer> countBi() {
-        return new DefaultBiConstraintCollector<>(
+        return new DefaultReversibleBiConstraintCollector<>(
                 () -> new int[1],
                 (resultContainer, a, b) -> {
                     resultContainer[0]++;
-                    return (() -> resultContainer[0]--);
+                    return 0L;
                 },
+                (resultContainer, undoToken) -> resultContainer[0]--,
                 resultContainer -> resultContainer[0]);
     }
 
@@ -132,12 +150,13 @@ public final class ConstraintCollectors {
      * As defined by {@link #count()}.
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Long> countLongBi() {
-        return new DefaultBiConstraintCollector<>(
+        return new DefaultReversibleBiConstraintCollector<>(
                 () -> new long[1],
                 (resultContainer, a, b) -> {
                     resultContainer[0]++;
-                    return () -> resultContainer[0]--;
+                    return 0L;
                 },
+                (resultContainer, undoToken) -> resultContainer[0]--,
                 resultContainer -> resultContainer[0]);
     }
 
@@ -145,12 +164,13 @@ public final class ConstraintCollectors {
      * As defined by {@link #count()}.
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Integer> countTri() {
-        return new DefaultTriConstraintCollector<>(
+        return new DefaultReversibleTriConstraintCollector<>(
                 () -> new int[1],
                 (resultContainer, a, b, c) -> {
                     resultContainer[0]++;
-                    return (() -> resultContainer[0]--);
+                    return 0L;
                 },
+                (resultContainer, undoToken) -> resultContainer[0]--,
                 resultContainer -> resultContainer[0]);
     }
 
@@ -158,12 +178,13 @@ public final class ConstraintCollectors {
      * As defined by {@link #count()}.
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Long> countLongTri() {
-        return new DefaultTriConstraintCollector<>(
+        return new DefaultReversibleTriConstraintCollector<>(
                 () -> new long[1],
                 (resultContainer, a, b, c) -> {
                     resultContainer[0]++;
-                    return () -> resultContainer[0]--;
+                    return 0L;
                 },
+                (resultContainer, undoToken) -> resultContainer[0]--,
                 resultContainer -> resultContainer[0]);
     }
 
@@ -171,12 +192,13 @@ public final class ConstraintCollectors {
      * As defined by {@link #count()}.
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Integer> countQuad() {
-        return new DefaultQuadConstraintCollector<>(
+        return new DefaultReversibleQuadConstraintCollector<>(
                 () -> new int[1],
                 (resultContainer, a, b, c, d) -> {
                     resultContainer[0]++;
-                    return () -> resultContainer[0]--;
+                    return 0L;
                 },
+                (resultContainer, undoToken) -> resultContainer[0]--,
                 resultContainer -> resultContainer[0]);
     }
 
@@ -184,12 +206,13 @@ public final class ConstraintCollectors {
      * As defined by {@link #count()}.
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Long> countLongQuad() {
-        return new DefaultQuadConstraintCollector<>(
+        return new DefaultReversibleQuadConstraintCollector<>(
                 () -> new long[1],
                 (resultContainer, a, b, c, d) -> {
                     resultContainer[0]++;
-                    return () -> resultContainer[0]--;
+                    return 0L;
                 },
+                (resultContainer, undoToken) -> resultContainer[0]--,
                 resultContainer -> resultContainer[0]);
     }
 
@@ -217,25 +240,27 @@ public final class ConstraintCollectors {
      * @return never null
      */
     public static <A> UniConstraintCollector<A, ?, Integer> countDistinct(Function<A, ?> groupValueMapping) {
-        return new DefaultUniConstraintCollector<>(
-                (Supplier<Map<Object, int[]>>) HashMap::new,
+        return new DefaultReversibleUniConstraintCollector<>(
+                (Supplier<ValueCountMap<Object>>) ValueCountMap::hashed,
                 (resultContainer, a) -> {
                     Object value = groupValueMapping.apply(a);
-                    return innerCountDistinct(resultContainer, value);
+                    return resultContainer.add(value);
                 },
-                Map::size);
+                ValueCountMap::remove,
+                ValueCountMap::size);
     }
 
     /**
      * As defined by {@link #countDistinct(Function)}.
      */
     public static <A> UniConstraintCollector<A, ?, Long> countDistinctLong(Function<A, ?> groupValueMapping) {
-        return new DefaultUniConstraintCollector<>(
-                (Supplier<Map<Object, long[]>>) HashMap::new,
+        return new DefaultReversibleUniConstraintCollector<>(
+                (Supplier<ValueCountMap<Object>>) ValueCountMap::hashed,
                 (resultContainer, a) -> {
                     Object value = groupValueMapping.apply(a);
-                    return innerCountDistinctLong(resultContainer, value);
+                    return resultContainer.add(value);
                 },
+                ValueCountMap::remove,
                 resultContainer -> (long) resultContainer.size());
     }
 
@@ -244,13 +269,14 @@ public final class ConstraintCollectors {
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Integer> countDistinct(
             BiFunction<A, B, ?> groupValueMapping) {
-        return new DefaultBiConstraintCollector<>(
-                (Supplier<Map<Object, int[]>>) HashMap::new,
+        return new DefaultReversibleBiConstraintCollector<>(
+                (Supplier<ValueCountMap<Object>>) ValueCountMap::hashed,
                 (resultContainer, a, b) -> {
                     Object value = groupValueMapping.apply(a, b);
-                    return innerCountDistinct(resultContainer, value);
+                    return resultContainer.add(value);
                 },
-                Map::size);
+                ValueCountMap::remove,
+                ValueCountMap::size);
     }
 
     /**
@@ -258,12 +284,13 @@ public final class ConstraintCollectors {
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Long> countDistinctLong(
             BiFunction<A, B, ?> groupValueMapping) {
-        return new DefaultBiConstraintCollector<>(
-                (Supplier<Map<Object, long[]>>) HashMap::new,
+        return new DefaultReversibleBiConstraintCollector<>(
+                (Supplier<ValueCountMap<Object>>) ValueCountMap::hashed,
                 (resultContainer, a, b) -> {
                     Object value = groupValueMapping.apply(a, b);
-                    return innerCountDistinctLong(resultContainer, value);
+                    return resultContainer.add(value);
                 },
+                ValueCountMap::remove,
                 resultContainer -> (long) resultContainer.size());
     }
 
@@ -272,13 +299,14 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Integer> countDistinct(
             TriFunction<A, B, C, ?> groupValueMapping) {
-        return new DefaultTriConstraintCollector<>(
-                (Supplier<Map<Object, int[]>>) HashMap::new,
+        return new DefaultReversibleTriConstraintCollector<>(
+                (Supplier<ValueCountMap<Object>>) ValueCountMap::hashed,
                 (resultContainer, a, b, c) -> {
                     Object value = groupValueMapping.apply(a, b, c);
-                    return innerCountDistinct(resultContainer, value);
+                    return resultContainer.add(value);
                 },
-                Map::size);
+                ValueCountMap::remove,
+                ValueCountMap::size);
     }
 
     /**
@@ -286,12 +314,13 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Long> countDistinctLong(
             TriFunction<A, B, C, ?> groupValueMapping) {
-        return new DefaultTriConstraintCollector<>(
-                (Supplier<Map<Object, long[]>>) HashMap::new,
+        return new DefaultReversibleTriConstraintCollector<>(
+                (Supplier<ValueCountMap<Object>>) ValueCountMap::hashed,
                 (resultContainer, a, b, c) -> {
                     Object value = groupValueMapping.apply(a, b, c);
-                    return innerCountDistinctLong(resultContainer, value);
+                    return resultContainer.add(value);
                 },
+                ValueCountMap::remove,
                 resultContainer -> (long) resultContainer.size());
     }
 
@@ -300,13 +329,14 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Integer> countDistinct(
             QuadFunction<A, B, C, D, ?> groupValueMapping) {
-        return new DefaultQuadConstraintCollector<>(
-                (Supplier<Map<Object, int[]>>) HashMap::new,
+        return new DefaultReversibleQuadConstraintCollector<>(
+                (Supplier<ValueCountMap<Object>>) ValueCountMap::hashed,
                 (resultContainer, a, b, c, d) -> {
                     Object value = groupValueMapping.apply(a, b, c, d);
-                    return innerCountDistinct(resultContainer, value);
+                    return resultContainer.add(value);
                 },
-                Map::size);
+                ValueCountMap::remove,
+                ValueCountMap::size);
     }
 
     /**
@@ -314,12 +344,13 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Long> countDistinctLong(
             QuadFunction<A, B, C, D, ?> groupValueMapping) {
-        return new DefaultQuadConstraintCollector<>(
-                (Supplier<Map<Object, long[]>>) HashMap::new,
+        return new DefaultReversibleQuadConstraintCollector<>(
+                (Supplier<ValueCountMap<Object>>) ValueCountMap::hashed,
                 (resultContainer, a, b, c, d) -> {
                     Object value = groupValueMapping.apply(a, b, c, d);
-                    return innerCountDistinctLong(resultContainer, value);
+                    return resultContainer.add(value);
                 },
+                ValueCountMap::remove,
                 resultContainer -> (long) resultContainer.size());
     }
 
@@ -334,27 +365,6 @@ public final class ConstraintCollectors {
      * @param <Value_> generic type of the value being counted
      * @return never null, code to run to undo the operation
      */
-    private static <Value_> Runnable innerCountDistinct(Map<Value_, int[]> resultContainer, Value_ value) {
-        int[] valueCountContainer = resultContainer.computeIfAbsent(value, k -> new int[1]);
-        valueCountContainer[0]++;
-        return () -> {
-            int[] valueCountContainer2 = resultContainer.get(value);
-            if (valueCountContainer2 == null) {
-                throw new IllegalStateException("Impossible state: the value (" + value +
-                        ") is removed more times than it was added.");
-            }
-            int valueCount = valueCountContainer2[0];
-            if (valueCount == 1) {
-                resultContainer.remove(value);
-            } else {
-                valueCountContainer2[0] = valueCount - 1;
-            }
-        };
-    }
-
-    /**
-     * As defined by {@link #innerCountDistinct(Map, Object)}.
-     */
     private static <Value_> Runnable innerCountDistinctLong(Map<Value_, long[]> resultContainer, Value_ value) {
         long[] valueCountContainer = resultContainer.computeIfAbsent(value, k -> new long[1]);
         valueCountContainer[0]++;
@@ -389,13 +399,14 @@ public final class ConstraintCollectors {
      * @return never null
      */
     public static <A> UniConstraintCollector<A, ?, Integer> sum(ToIntFunction<? super A> groupValueMapping) {
-        return new DefaultUniConstraintCollector<>(
+        return new DefaultReversibleUniConstraintCollector<>(
                 () -> new int[1],
                 (resultContainer, a) -> {
                     int value = groupValueMapping.applyAsInt(a);
                     resultContainer[0] += value;
-                    return () -> resultContainer[0] -= value;
+                    return value;
                 },
+                (resultContainer, undoToken) -> resultContainer[0] -= (int) undoToken,
                 resultContainer -> resultContainer[0]);
     }
 
@@ -403,13 +414,14 @@ public final class ConstraintCollectors {
      * As defined by {@link #sum(ToIntFunction)}.
      */
     public static <A> UniConstraintCollector<A, ?, Long> sumLong(ToLongFunction<? super A> groupValueMapping) {
-        return new DefaultUniConstraintCollector<>(
+        return new DefaultReversibleUniConstraintCollector<>(
                 () -> new long[1],
                 (resultContainer, a) -> {
                     long value = groupValueMapping.applyAsLong(a);
                     resultContainer[0] += value;
-                    return () -> resultContainer[0] -= value;
+                    return value;
                 },
+                (resultContainer, undoToken) -> resultContainer[0] -= undoToken,
                 resultContainer -> resultContainer[0]);
     }
 
@@ -470,13 +482,14 @@ public final class ConstraintCollectors {
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Integer> sum(
             ToIntBiFunction<? super A, ? super B> groupValueMapping) {
-        return new DefaultBiConstraintCollector<>(
+        return new DefaultReversibleBiConstraintCollector<>(
                 () -> new int[1],
                 (resultContainer, a, b) -> {
                     int value = groupValueMapping.applyAsInt(a, b);
                     resultContainer[0] += value;
-                    return () -> resultContainer[0] -= value;
+                    return value;
                 },
+                (resultContainer, undoToken) -> resultContainer[0] -= (int) undoToken,
                 resultContainer -> resultContainer[0]);
     }
 
@@ -485,13 +498,14 @@ public final class ConstraintCollectors {
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Long> sumLong(
             ToLongBiFunction<? super A, ? super B> groupValueMapping) {
-        return new DefaultBiConstraintCollector<>(
+        return new DefaultReversibleBiConstraintCollector<>(
                 () -> new long[1],
                 (resultContainer, a, b) -> {
                     long value = groupValueMapping.applyAsLong(a, b);
                     resultContainer[0] += value;
-                    return () -> resultContainer[0] -= value;
+                    return value;
                 },
+                (resultContainer, undoToken) -> resultContainer[0] -= undoToken,
                 resultContainer -> resultContainer[0]);
     }
 
@@ -548,13 +562,14 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Integer> sum(
             ToIntTriFunction<? super A, ? super B, ? super C> groupValueMapping) {
-        return new DefaultTriConstraintCollector<>(
+        return new DefaultReversibleTriConstraintCollector<>(
                 () -> new int[1],
                 (resultContainer, a, b, c) -> {
                     int value = groupValueMapping.applyAsInt(a, b, c);
                     resultContainer[0] += value;
-                    return () -> resultContainer[0] -= value;
+                    return value;
                 },
+                (resultContainer, undoToken) -> resultContainer[0] -= (int) undoToken,
                 resultContainer -> resultContainer[0]);
     }
 
@@ -563,13 +578,14 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Long> sumLong(
             ToLongTriFunction<? super A, ? super B, ? super C> groupValueMapping) {
-        return new DefaultTriConstraintCollector<>(
+        return new DefaultReversibleTriConstraintCollector<>(
                 () -> new long[1],
                 (resultContainer, a, b, c) -> {
                     long value = groupValueMapping.applyAsLong(a, b, c);
                     resultContainer[0] += value;
-                    return () -> resultContainer[0] -= value;
+                    return value;
                 },
+                (resultContainer, undoToken) -> resultContainer[0] -= undoToken,
                 resultContainer -> resultContainer[0]);
     }
 
@@ -626,13 +642,14 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Integer> sum(
             ToIntQuadFunction<? super A, ? super B, ? super C, ? super D> groupValueMapping) {
-        return new DefaultQuadConstraintCollector<>(
+        return new DefaultReversibleQuadConstraintCollector<>(
                 () -> new int[1],
                 (resultContainer, a, b, c, d) -> {
                     int value = groupValueMapping.applyAsInt(a, b, c, d);
                     resultContainer[0] += value;
-                    return () -> resultContainer[0] -= value;
+                    return value;
                 },
+                (resultContainer, undoToken) -> resultContainer[0] -= (int) undoToken,
                 resultContainer -> resultContainer[0]);
     }
 
@@ -641,13 +658,14 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Long> sumLong(
             ToLongQuadFunction<? super A, ? super B, ? super C, ? super D> groupValueMapping) {
-        return new DefaultQuadConstraintCollector<>(
+        return new DefaultReversibleQuadConstraintCollector<>(
                 () -> new long[1],
                 (resultContainer, a, b, c, d) -> {
                     long value = groupValueMapping.applyAsLong(a, b, c, d);
                     resultContainer[0] += value;
-                    return () -> resultContainer[0] -= value;
+                    return value;
                 },
+                (resultContainer, undoToken) -> resultContainer[0] -= undoToken,
                 resultContainer -> resultContainer[0]);
     }
 
@@ -881,22 +899,23 @@ public final class ConstraintCollectors {
         return minOrMax(groupValueMapping, comparator, false);
     }
 
-    private static <A, Mapped> UniConstraintCollector<A, SortedMap<Mapped, long[]>, Mapped> minOrMax(
+    private static <A, Mapped> UniConstraintCollector<A, ValueCountMap<Mapped>, Mapped> minOrMax(
             Function<A, Mapped> groupValueMapping, Comparator<Mapped> comparator, boolean min) {
-        return new DefaultUniConstraintCollector<>(
-                () -> new TreeMap<>(comparator),
+        return new DefaultReversibleUniConstraintCollector<>(
+                () -> ValueCountMap.sorted(comparator),
                 (resultContainer, a) -> {
                     Mapped mapped = groupValueMapping.apply(a);
-                    return innerCountDistinctLong(resultContainer, mapped);
+                    return resultContainer.add(mapped);
                 },
+                ValueCountMap::remove,
                 getMinOrMaxFinisher(min));
     }
 
-    private static <Value_> Function<SortedMap<Value_, long[]>, Value_> getMinOrMaxFinisher(boolean returnMinimum) {
+    private static <Value_> Function<ValueCountMap<Value_>, Value_> getMinOrMaxFinisher(boolean returnMinimum) {
         if (returnMinimum) {
-            return resultContainer -> resultContainer.isEmpty() ? null : resultContainer.firstKey();
+            return ValueCountMap::getFirstValue;
         } else {
-            return resultContainer -> resultContainer.isEmpty() ? null : resultContainer.lastKey();
+            return ValueCountMap::getLastValue;
         }
     }
 
@@ -916,14 +935,15 @@ public final class ConstraintCollectors {
         return minOrMax(groupValueMapping, comparator, false);
     }
 
-    private static <A, B, Mapped> BiConstraintCollector<A, B, SortedMap<Mapped, long[]>, Mapped> minOrMax(
+    private static <A, B, Mapped> BiConstraintCollector<A, B, ValueCountMap<Mapped>, Mapped> minOrMax(
             BiFunction<A, B, Mapped> groupValueMapping, Comparator<Mapped> comparator, boolean min) {
-        return new DefaultBiConstraintCollector<>(
-                () -> new TreeMap<>(comparator),
+        return new DefaultReversibleBiConstraintCollector<>(
+                () -> ValueCountMap.sorted(comparator),
                 (resultContainer, a, b) -> {
                     Mapped mapped = groupValueMapping.apply(a, b);
-                    return innerCountDistinctLong(resultContainer, mapped);
+                    return resultContainer.add(mapped);
                 },
+                ValueCountMap::remove,
                 getMinOrMaxFinisher(min));
     }
 
@@ -943,14 +963,15 @@ public final class ConstraintCollectors {
         return minOrMax(groupValueMapping, comparator, false);
     }
 
-    private static <A, B, C, Mapped> TriConstraintCollector<A, B, C, SortedMap<Mapped, long[]>, Mapped> minOrMax(
+    private static <A, B, C, Mapped> TriConstraintCollector<A, B, C, ValueCountMap<Mapped>, Mapped> minOrMax(
             TriFunction<A, B, C, Mapped> groupValueMapping, Comparator<Mapped> comparator, boolean min) {
-        return new DefaultTriConstraintCollector<>(
-                () -> new TreeMap<>(comparator),
+        return new DefaultReversibleTriConstraintCollector<>(
+                () -> ValueCountMap.sorted(comparator),
                 (resultContainer, a, b, c) -> {
                     Mapped mapped = groupValueMapping.apply(a, b, c);
-                    return innerCountDistinctLong(resultContainer, mapped);
+                    return resultContainer.add(mapped);
                 },
+                ValueCountMap::remove,
                 getMinOrMaxFinisher(min));
     }
 
@@ -970,14 +991,15 @@ public final class ConstraintCollectors {
         return minOrMax(groupValueMapping, comparator, false);
     }
 
-    private static <A, B, C, D, Mapped> QuadConstraintCollector<A, B, C, D, SortedMap<Mapped, long[]>, Mapped> minOrMax(
+    private static <A, B, C, D, Mapped> QuadConstraintCollector<A, B, C, D, ValueCountMap<Mapped>, Mapped> minOrMax(
             QuadFunction<A, B, C, D, Mapped> groupValueMapping, Comparator<Mapped> comparator, boolean min) {
-        return new DefaultQuadConstraintCollector<>(
-                () -> new TreeMap<>(comparator),
+        return new DefaultReversibleQuadConstraintCollector<>(
+                () -> ValueCountMap.sorted(comparator),
                 (resultContainer, a, b, c, d) -> {
                     Mapped mapped = groupValueMapping.apply(a, b, c, d);
-                    return innerCountDistinctLong(resultContainer, mapped);
+                    return resultContainer.add(mapped);
                 },
+                ValueCountMap::remove,
                 getMinOrMaxFinisher(min));
     }
 
@@ -1006,26 +1028,32 @@ public final class ConstraintCollectors {
      * @return never null
      */
     public static <A> UniConstraintCollector<A, ?, Double> average(ToIntFunction<A> groupValueMapping) {
-        return compose(count(), sum(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new DefaultReversibleUniConstraintCollector<>(
+                () -> new long[2],
+                (resultContainer, a) -> {
+                    int value = groupValueMapping.applyAsInt(a);
+                    resultContainer[0]++;
+                    resultContainer[1] += value;
+                    return value;
+                },
+                ConstraintCollectors::reverseAverage,
+                ConstraintCollectors::calculateAverage);
     }
 
     /**
      * As defined by {@link #average(ToIntFunction)}.
      */
     public static <A> UniConstraintCollector<A, ?, Double> averageLong(ToLongFunction<A> groupValueMapping) {
-        return compose(count(), sumLong(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new DefaultReversibleUniConstraintCollector<>(
+                () -> new long[2],
+                (resultContainer, a) -> {
+                    long value = groupValueMapping.applyAsLong(a);
+                    resultContainer[0]++;
+                    resultContainer[1] += value;
+                    return value;
+                },
+                ConstraintCollectors::reverseAverage,
+                ConstraintCollectors::calculateAverage);
     }
 
     /**
@@ -1078,26 +1106,32 @@ public final class ConstraintCollectors {
      * As defined by {@link #average(ToIntFunction)}.
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Double> average(ToIntBiFunction<A, B> groupValueMapping) {
-        return compose(countBi(), sum(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new DefaultReversibleBiConstraintCollector<>(
+                () -> new long[2],
+                (resultContainer, a, b) -> {
+                    int value = groupValueMapping.applyAsInt(a, b);
+                    resultContainer[0]++;
+                    resultContainer[1] += value;
+                    return value;
+                },
+                ConstraintCollectors::reverseAverage,
+                ConstraintCollectors::calculateAverage);
     }
 
     /**
      * As defined by {@link #average(ToIntFunction)}.
      */
     public static <A, B> BiConstraintCollector<A, B, ?, Double> averageLong(ToLongBiFunction<A, B> groupValueMapping) {
-        return compose(countBi(), sumLong(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new DefaultReversibleBiConstraintCollector<>(
+                () -> new long[2],
+                (resultContainer, a, b) -> {
+                    long value = groupValueMapping.applyAsLong(a, b);
+                    resultContainer[0]++;
+                    resultContainer[1] += value;
+                    return value;
+                },
+                ConstraintCollectors::reverseAverage,
+                ConstraintCollectors::calculateAverage);
     }
 
     /**
@@ -1148,13 +1182,16 @@ public final class ConstraintCollectors {
      * As defined by {@link #average(ToIntFunction)}.
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Double> average(ToIntTriFunction<A, B, C> groupValueMapping) {
-        return compose(countTri(), sum(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new DefaultReversibleTriConstraintCollector<>(
+                () -> new long[2],
+                (resultContainer, a, b, c) -> {
+                    int value = groupValueMapping.applyAsInt(a, b, c);
+                    resultContainer[0]++;
+                    resultContainer[1] += value;
+                    return value;
+                },
+                ConstraintCollectors::reverseAverage,
+                ConstraintCollectors::calculateAverage);
     }
 
     /**
@@ -1162,13 +1199,16 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C> TriConstraintCollector<A, B, C, ?, Double>
             averageLong(ToLongTriFunction<A, B, C> groupValueMapping) {
-        return compose(countTri(), sumLong(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new DefaultReversibleTriConstraintCollector<>(
+                () -> new long[2],
+                (resultContainer, a, b, c) -> {
+                    long value = groupValueMapping.applyAsLong(a, b, c);
+                    resultContainer[0]++;
+                    resultContainer[1] += value;
+                    return value;
+                },
+                ConstraintCollectors::reverseAverage,
+                ConstraintCollectors::calculateAverage);
     }
 
     /**
@@ -1220,13 +1260,16 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Double>
             average(ToIntQuadFunction<A, B, C, D> groupValueMapping) {
-        return compose(countQuad(), sum(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new DefaultReversibleQuadConstraintCollector<>(
+                () -> new long[2],
+                (resultContainer, a, b, c, d) -> {
+                    int value = groupValueMapping.applyAsInt(a, b, c, d);
+                    resultContainer[0]++;
+                    resultContainer[1] += value;
+                    return value;
+                },
+                ConstraintCollectors::reverseAverage,
+                ConstraintCollectors::calculateAverage);
     }
 
     /**
@@ -1234,13 +1277,16 @@ public final class ConstraintCollectors {
      */
     public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, Double>
             averageLong(ToLongQuadFunction<A, B, C, D> groupValueMapping) {
-        return compose(countQuad(), sumLong(groupValueMapping), (count, sum) -> {
-            if (count == 0) {
-                return null;
-            } else {
-                return sum / (double) count;
-            }
-        });
+        return new DefaultReversibleQuadConstraintCollector<>(
+                () -> new long[2],
+                (resultContainer, a, b, c, d) -> {
+                    long value = groupValueMapping.applyAsLong(a, b, c, d);
+                    resultContainer[0]++;
+                    resultContainer[1] += value;
+                    return value;
+                },
+                ConstraintCollectors::reverseAverage,
+                ConstraintCollectors::calculateAverage);
     }
 
     /**
@@ -1287,6 +1333,24 @@ public final class ConstraintCollectors {
         });
     }
 
+    /**
+     * @param resultContainer the count and the sum
+     * @param undoToken the value to subtract from the sum
+     */
+    private static void reverseAverage(long[] resultContainer, long undoToken) {
+        resultContainer[0]--;
+        resultContainer[1] -= undoToken;
+    }
+
+    private static Double calculateAverage(long[] resultContainer) {
+        long count = resultContainer[0];
+        if (count == 0L) {
+            return null;
+        } else {
+            return resultContainer[1] / (double) count;
+        }
+    }
+
     // ************************************************************************
     // toCollection
     // ************************************************************************
@@ -2214,6 +2278,590 @@ public final class ConstraintCollectors {
                 ToSimpleMapResultContainer::getResult);
     }
 
+    // ************************************************************************
+    // consecutive
+    // ************************************************************************
+
+    /**
+     * Creates a constraint collector that returns {@link ConsecutiveInfo} about the first fact.
+     *
+     * For instance, {@code [Shift slot=1] [Shift slot=2] [Shift slot=4] [Shift slot=6]}
+     * returns the following information:
+     *
+     * <pre>
+     * {@code
+     * Consecutive Lengths: 2, 1, 1
+     * Break Lengths: 1, 2
+     * Consecutive Items: [[Shift slot=1] [Shift slot=2]], [[Shift slot=4]], [[Shift slot=6]]
+     * }
+     * </pre>
+     *
+     * @param indexMap Maps the fact to its position in the sequence
+     * @param <A> type of the first mapped fact
+     * @return never null
+     */
+    public static <A> UniConstraintCollector<A, ?, ConsecutiveInfo<A, Integer>>
+            consecutive(ToIntFunction<A> indexMap) {
+        return new DefaultUniConstraintCollector<>(
+                () -> newConsecutiveSetTree(indexMap),
+                (acc, a) -> {
+                    acc.add(a);
+                    return () -> acc.remove(a);
+                },
+                tree -> tree);
+    }
+
+    /**
+     * As defined by {@link #consecutive(ToIntFunction)}.
+     *
+     * @param resultMap Maps both facts to an item in the sequence
+     * @param indexMap Maps the item to its position in the sequence
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <Result> type of item in the sequence
+     * @return never null
+     */
+    public static <A, B, Result>
+            BiConstraintCollector<A, B, ?, ConsecutiveInfo<Result, Integer>>
+            consecutive(BiFunction<A, B, Result> resultMap, ToIntFunction<Result> indexMap) {
+        return new DefaultBiConstraintCollector<>(
+                () -> newConsecutiveSetTree(indexMap),
+                (acc, a, b) -> {
+                    Result result = resultMap.apply(a, b);
+                    acc.add(result);
+                    return () -> acc.remove(result);
+                },
+                tree -> tree);
+    }
+
+    /**
+     * As defined by {@link #consecutive(ToIntFunction)}.
+     *
+     * @param resultMap Maps the three facts to an item in the sequence
+     * @param indexMap Maps the item to its position in the sequence
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <Result> type of item in the sequence
+     * @return never null
+     */
+    public static <A, B, C, Result>
+            TriConstraintCollector<A, B, C, ?, ConsecutiveInfo<Result, Integer>>
+            consecutive(TriFunction<A, B, C, Result> resultMap, ToIntFunction<Result> indexMap) {
+        return new DefaultTriConstraintCollector<>(
+                () -> newConsecutiveSetTree(indexMap),
+                (acc, a, b, c) -> {
+                    Result result = resultMap.apply(a, b, c);
+                    acc.add(result);
+                    return () -> acc.remove(result);
+                },
+                tree -> tree);
+    }
+
+    /**
+     * As defined by {@link #consecutive(ToIntFunction)}.
+     *
+     * @param resultMap Maps the four facts to an item in the sequence
+     * @param indexMap Maps the item to its position in the sequence
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <D> type of the fourth mapped fact
+     * @param <Result> type of item in the sequence
+     * @return never null
+     */
+    public static <A, B, C, D, Result>
+            QuadConstraintCollector<A, B, C, D, ?, ConsecutiveInfo<Result, Integer>>
+            consecutive(QuadFunction<A, B, C, D, Result> resultMap, ToIntFunction<Result> indexMap) {
+        return new DefaultQuadConstraintCollector<>(
+                () -> newConsecutiveSetTree(indexMap),
+                (acc, a, b, c, d) -> {
+                    Result result = resultMap.apply(a, b, c, d);
+                    acc.add(result);
+                    return () -> acc.remove(result);
+                },
+                tree -> tree);
+    }
+
+    /**
+     * Creates a constraint collector that returns {@link ConsecutiveIntervalInfo} about the first fact.
+     *
+     * For instance, {@code [Shift from=2, to=4] [Shift from=3, to=5] [Shift from=6, to=7] [Shift from=7, to=8]}
+     * returns the following information:
+     *
+     * <pre>
+     * {@code
+     * IntervalClusters: [[Shift from=2, to=4] [Shift from=3, to=5]], [[Shift from=6, to=7] [Shift from=7, to=8]]
+     * Breaks: [[Break from=5, to=6, length=1]]
+     * }
+     * </pre>
+     *
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param differenceFunction Computes the difference between two points. The second argument is always
+     *        larger than the first (ex: {@link Duration#between}
+     *        or (a,b) -> b - a).
+     * @param <A> type of the first mapped fact
+     * @param <PointType_> type of the fact endpoints
+     * @param <DifferenceType_> type of difference between points
+     * @return never null
+     */
+    public static <A, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            UniConstraintCollector<A, ?, ConsecutiveIntervalInfo<A, PointType_, DifferenceType_>>
+            consecutiveIntervals(Function<A, PointType_> startMap, Function<A, PointType_> endMap,
+                    BiFunction<PointType_, PointType_, DifferenceType_> differenceFunction) {
+        return new DefaultUniConstraintCollector<>(
+                () -> new IntervalTree<A, PointType_, DifferenceType_>(startMap, endMap, differenceFunction),
+                (acc, a) -> {
+                    Interval<A, PointType_> interval = acc.getInterval(a);
+                    acc.add(interval);
+                    return () -> acc.remove(interval);
+                },
+                IntervalTree::getConsecutiveIntervalData);
+    }
+
+    /**
+     * Specialized version of {@link #consecutiveIntervals(Function,Function,BiFunction)} for
+     * {@link Temporal} types.
+     *
+     * @param <A> type of the first mapped fact
+     * @param <PointType_> temporal type of the endpoints
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @return never null
+     */
+    public static <A, PointType_ extends Temporal & Comparable<PointType_>>
+            UniConstraintCollector<A, ?, ConsecutiveIntervalInfo<A, PointType_, Duration>>
+            consecutiveTemporalIntervals(Function<A, PointType_> startMap, Function<A, PointType_> endMap) {
+        return consecutiveIntervals(startMap, endMap, Duration::between);
+    }
+
+    /**
+     * Specialized version of {@link #consecutiveIntervals(Function,Function,BiFunction)} for Long.
+     *
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param <A> type of the first mapped fact
+     * @return never null
+     */
+    public static <A> UniConstraintCollector<A, ?, ConsecutiveIntervalInfo<A, Long, Long>>
+            consecutiveIntervals(ToLongFunction<A> startMap, ToLongFunction<A> endMap) {
+        return consecutiveIntervals(startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
+    /**
+     * As defined by {@link #consecutiveIntervals(Function,Function,BiFunction)}.
+     *
+     * @param intervalMap Maps both facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param differenceFunction Computes the difference between two points. The second argument is always
+     *        larger than the first (ex: {@link Duration#between}
+     *        or (a,b) -> b - a).
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @param <PointType_> type of the item endpoints
+     * @param <DifferenceType_> type of difference between points
+     * @return never null
+     */
+    public static <A, B, IntervalType_, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            BiConstraintCollector<A, B, ?, ConsecutiveIntervalInfo<IntervalType_, PointType_, DifferenceType_>>
+            consecutiveIntervals(BiFunction<A, B, IntervalType_> intervalMap, Function<IntervalType_, PointType_> startMap,
+                    Function<IntervalType_, PointType_> endMap,
+                    BiFunction<PointType_, PointType_, DifferenceType_> differenceFunction) {
+        return new DefaultBiConstraintCollector<>(
+                () -> new IntervalTree<IntervalType_, PointType_, DifferenceType_>(startMap, endMap, differenceFunction),
+                (acc, a, b) -> {
+                    IntervalType_ intervalObj = intervalMap.apply(a, b);
+                    Interval<IntervalType_, PointType_> interval = acc.getInterval(intervalObj);
+                    acc.add(interval);
+                    return () -> acc.remove(interval);
+                },
+                IntervalTree::getConsecutiveIntervalData);
+    }
+
+    /**
+     * As defined by {@link #consecutiveTemporalIntervals(Function,Function)}.
+     *
+     * @param intervalMap Maps the three facts to an item in the cluster
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @param <PointType_> temporal type of the endpoints
+     * @return never null
+     */
+    public static <A, B, IntervalType_, PointType_ extends Temporal & Comparable<PointType_>>
+            BiConstraintCollector<A, B, ?, ConsecutiveIntervalInfo<IntervalType_, PointType_, Duration>>
+            consecutiveTemporalIntervals(BiFunction<A, B, IntervalType_> intervalMap,
+                    Function<IntervalType_, PointType_> startMap, Function<IntervalType_, PointType_> endMap) {
+        return consecutiveIntervals(intervalMap, startMap, endMap, Duration::between);
+    }
+
+    /**
+     * As defined by {@link #consecutiveIntervals(ToLongFunction, ToLongFunction)}.
+     *
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @return never null
+     */
+    public static <A, B, IntervalType_>
+            BiConstraintCollector<A, B, ?, ConsecutiveIntervalInfo<IntervalType_, Long, Long>>
+            consecutiveIntervals(BiFunction<A, B, IntervalType_> intervalMap, ToLongFunction<IntervalType_> startMap,
+                    ToLongFunction<IntervalType_> endMap) {
+        return consecutiveIntervals(intervalMap, startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
+    /**
+     * As defined by {@link #consecutiveIntervals(Function,Function,BiFunction)}.
+     *
+     * @param intervalMap Maps the three facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param differenceFunction Computes the difference between two points. The second argument is always
+     *        larger than the first (ex: {@link Duration#between}
+     *        or (a,b) -> b - a).
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @param <PointType_> type of the item endpoints
+     * @param <DifferenceType_> type of difference between points
+     * @return never null
+     */
+    public static <A, B, C, IntervalType_, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            TriConstraintCollector<A, B, C, ?, ConsecutiveIntervalInfo<IntervalType_, PointType_, DifferenceType_>>
+            consecutiveIntervals(TriFunction<A, B, C, IntervalType_> intervalMap, Function<IntervalType_, PointType_> startMap,
+                    Function<IntervalType_, PointType_> endMap,
+                    BiFunction<PointType_, PointType_, DifferenceType_> differenceFunction) {
+        return new DefaultTriConstraintCollector<>(
+                () -> new IntervalTree<IntervalType_, PointType_, DifferenceType_>(startMap, endMap, differenceFunction),
+                (acc, a, b, c) -> {
+                    IntervalType_ intervalObj = intervalMap.apply(a, b, c);
+                    Interval<IntervalType_, PointType_> interval = acc.getInterval(intervalObj);
+                    acc.add(interval);
+                    return () -> acc.remove(interval);
+                },
+                IntervalTree::getConsecutiveIntervalData);
+    }
+
+    /**
+     * As defined by {@link #consecutiveTemporalIntervals(Function,Function)}.
+     *
+     * @param intervalMap Maps the three facts to an item in the cluster
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @param <PointType_> temporal type of the endpoints
+     * @return never null
+     */
+    public static <A, B, C, IntervalType_, PointType_ extends Temporal & Comparable<PointType_>>
+            TriConstraintCollector<A, B, C, ?, ConsecutiveIntervalInfo<IntervalType_, PointType_, Duration>>
+            consecutiveTemporalIntervals(TriFunction<A, B, C, IntervalType_> intervalMap,
+                    Function<IntervalType_, PointType_> startMap, Function<IntervalType_, PointType_> endMap) {
+        return consecutiveIntervals(intervalMap, startMap, endMap, Duration::between);
+    }
+
+    /**
+     * As defined by {@link #consecutiveIntervals(ToLongFunction, ToLongFunction)}.
+     *
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @return never null
+     */
+    public static <A, B, C, IntervalType_>
+            TriConstraintCollector<A, B, C, ?, ConsecutiveIntervalInfo<IntervalType_, Long, Long>>
+            consecutiveIntervals(TriFunction<A, B, C, IntervalType_> intervalMap, ToLongFunction<IntervalType_> startMap,
+                    ToLongFunction<IntervalType_> endMap) {
+        return consecutiveIntervals(intervalMap, startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
+    /**
+     * As defined by {@link #consecutiveIntervals(Function,Function,BiFunction)}.
+     *
+     * @param intervalMap Maps the four facts to an item in the cluster
+     * @param startMap Maps the item to its start
+     * @param endMap Maps the item to its end
+     * @param differenceFunction Computes the difference between two points. The second argument is always
+     *        larger than the first (ex: {@link Duration#between}
+     *        or (a,b) -> b - a).
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <D> type of the fourth mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @param <PointType_> type of the item endpoints
+     * @param <DifferenceType_> type of difference between points
+     * @return never null
+     */
+    public static <A, B, C, D, IntervalType_, PointType_ extends Comparable<PointType_>, DifferenceType_ extends Comparable<DifferenceType_>>
+            QuadConstraintCollector<A, B, C, D, ?, ConsecutiveIntervalInfo<IntervalType_, PointType_, DifferenceType_>>
+            consecutiveIntervals(QuadFunction<A, B, C, D, IntervalType_> intervalMap,
+                    Function<IntervalType_, PointType_> startMap, Function<IntervalType_, PointType_> endMap,
+                    BiFunction<PointType_, PointType_, DifferenceType_> differenceFunction) {
+        return new DefaultQuadConstraintCollector<>(
+                () -> new IntervalTree<IntervalType_, PointType_, DifferenceType_>(startMap, endMap, differenceFunction),
+                (acc, a, b, c, d) -> {
+                    IntervalType_ intervalObj = intervalMap.apply(a, b, c, d);
+                    Interval<IntervalType_, PointType_> interval = acc.getInterval(intervalObj);
+                    acc.add(interval);
+                    return () -> acc.remove(interval);
+                },
+                IntervalTree::getConsecutiveIntervalData);
+    }
+
+    /**
+     * As defined by {@link #consecutiveTemporalIntervals(Function,Function)}.
+     *
+     * @param intervalMap Maps the three facts to an item in the cluster
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <D> type of the fourth mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @param <PointType_> temporal type of the endpoints
+     * @return never null
+     */
+    public static <A, B, C, D, IntervalType_, PointType_ extends Temporal & Comparable<PointType_>>
+            QuadConstraintCollector<A, B, C, D, ?, ConsecutiveIntervalInfo<IntervalType_, PointType_, Duration>>
+            consecutiveTemporalIntervals(QuadFunction<A, B, C, D, IntervalType_> intervalMap,
+                    Function<IntervalType_, PointType_> startMap, Function<IntervalType_, PointType_> endMap) {
+        return consecutiveIntervals(intervalMap, startMap, endMap, Duration::between);
+    }
+
+    /**
+     * As defined by {@link #consecutiveIntervals(ToLongFunction, ToLongFunction)}.
+     *
+     * @param startMap Maps the fact to its start
+     * @param endMap Maps the fact to its end
+     * @param <A> type of the first mapped fact
+     * @param <B> type of the second mapped fact
+     * @param <C> type of the third mapped fact
+     * @param <D> type of the fourth mapped fact
+     * @param <IntervalType_> type of the item in the cluster
+     * @return never null
+     */
+    public static <A, B, C, D, IntervalType_>
+            QuadConstraintCollector<A, B, C, D, ?, ConsecutiveIntervalInfo<IntervalType_, Long, Long>>
+            consecutiveIntervals(QuadFunction<A, B, C, D, IntervalType_> intervalMap, ToLongFunction<IntervalType_> startMap,
+                    ToLongFunction<IntervalType_> endMap) {
+        return consecutiveIntervals(intervalMap, startMap::applyAsLong, endMap::applyAsLong, (a, b) -> b - a);
+    }
+
+    private static <Result> ConsecutiveSetTree<Result, Integer, Integer> newConsecutiveSetTree(
+            ToIntFunction<Result> indexMap) {
+        return new ConsecutiveSetTree<>(indexMap::applyAsInt, (Integer a, Integer b) -> b - a, Integer::sum, 1, 0);
+    }
+
+    // ************************************************************************
+    // sliding window
+    // ************************************************************************
+
+    /**
+     * Returns a collector that sums the weights of the facts in every time window of a fixed size,
+     * for example to limit the number of working hours in any 7 consecutive days.
+     * A window starting at {@code t} contains every fact with a position {@code p} such that
+     * {@code t <= p < t + windowSize}.
+     * <p>
+     * For example, {@code [Shift(day = 1, hours = 8), Shift(day = 2, hours = 8), Shift(day = 8, hours = 4)]}
+     * with {@code .groupBy(slidingWindowSum(Shift::getDay, Shift::getHours, 7))}
+     * returns a {@link SlidingWindowInfo} with a {@link SlidingWindowInfo#getMaximumWindowSum() maximum window sum}
+     * of {@code 16} for the window starting at day {@code 1}.
+     * <p>
+     * Adding or retracting a fact takes O(log n) time, regardless of the window size.
+     * Every weight should be non-negative.
+     *
+     * @param positionMap never null, maps the fact to its position, for instance its day or its start minute
+     * @param weightMap never null, maps the fact to its weight, for instance its duration
+     * @param windowSize {@code > 0}, in the same unit as the position
+     * @param <A> type of the matched fact
+     * @return never null
+     */
+    public static <A> UniConstraintCollector<A, ?, SlidingWindowInfo> slidingWindowSum(ToLongFunction<A> positionMap,
+            ToLongFunction<A> weightMap, long windowSize) {
+        assertWindowSize(windowSize);
+        return new DefaultUniConstraintCollector<>(
+                () -> new SlidingWindowTree(windowSize),
+                (tree, a) -> {
+                    long position = positionMap.applyAsLong(a);
+                    long weight = weightMap.applyAsLong(a);
+                    tree.add(position, weight);
+                    return () -> tree.remove(position, weight);
+                },
+                tree -> tree);
+    }
+
+    /**
+     * As defined by {@link #slidingWindowSum(ToLongFunction, ToLongFunction, long)}.
+     */
+    public static <A, B> BiConstraintCollector<A, B, ?, SlidingWindowInfo> slidingWindowSum(
+            ToLongBiFunction<A, B> positionMap, ToLongBiFunction<A, B> weightMap, long windowSize) {
+        assertWindowSize(windowSize);
+        return new DefaultBiConstraintCollector<>(
+                () -> new SlidingWindowTree(windowSize),
+                (tree, a, b) -> {
+                    long position = positionMap.applyAsLong(a, b);
+                    long weight = weightMap.applyAsLong(a, b);
+                    tree.add(position, weight);
+                    return () -> tree.remove(position, weight);
+                },
+                tree -> tree);
+    }
+
+    /**
+     * As defined by {@link #slidingWindowSum(ToLongFunction, ToLongFunction, long)}.
+     */
+    public static <A, B, C> TriConstraintCollector<A, B, C, ?, SlidingWindowInfo> slidingWindowSum(
+            ToLongTriFunction<A, B, C> positionMap, ToLongTriFunction<A, B, C> weightMap, long windowSize) {
+        assertWindowSize(windowSize);
+        return new DefaultTriConstraintCollector<>(
+                () -> new SlidingWindowTree(windowSize),
+                (tree, a, b, c) -> {
+                    long position = positionMap.applyAsLong(a, b, c);
+                    long weight = weightMap.applyAsLong(a, b, c);
+                    tree.add(position, weight);
+                    return () -> tree.remove(position, weight);
+                },
+                tree -> tree);
+    }
+
+    /**
+     * As defined by {@link #slidingWindowSum(ToLongFunction, ToLongFunction, long)}.
+     */
+    public static <A, B, C, D> QuadConstraintCollector<A, B, C, D, ?, SlidingWindowInfo> slidingWindowSum(
+            ToLongQuadFunction<A, B, C, D> positionMap, ToLongQuadFunction<A, B, C, D> weightMap, long windowSize) {
+        assertWindowSize(windowSize);
+        return new DefaultQuadConstraintCollector<>(
+                () -> new SlidingWindowTree(windowSize),
+                (tree, a, b, c, d) -> {
+                    long position = positionMap.applyAsLong(a, b, c, d);
+                    long weight = weightMap.applyAsLong(a, b, c, d);
+                    tree.add(position, weight);
+                    return () -> tree.remove(position, weight);
+                },
+                tree -> tree);
+    }
+
+    private static void assertWindowSize(long windowSize) {
+        if (windowSize <= 0L) {
+            throw new IllegalArgumentException("The windowSize (" + windowSize + ") must be positive.");
+        }
+    }
+
+    // ************************************************************************
+    // load balance
+    // ************************************************************************
+
+    /**
+     * Returns a collector that measures how evenly the facts are spread over the balanced items,
+     * for example how fair the shifts are spread over the employees.
+     * <p>
+     * For example, {@code [Shift(employee = Ann), Shift(employee = Ann), Shift(employee = Beth)]}
+     * with {@code .groupBy(loadBalance(Shift::getEmployee))}
+     * returns a {@link LoadBalanceInfo} with the loads {@code Ann = 2, Beth = 1}
+     * and a {@link LoadBalanceInfo#getSquaredDeviation() squared deviation} of {@code 0.5}.
+     * Only balanced items that have at least one fact are in the {@link LoadBalanceInfo#getLoadMap() load map}.
+     * So {@link LoadBalanceInfo#getSquaredDeviation()} rewards moving all the load away from an item.
+     * To take the balanced items without any fact into account too,
+     * join the number of all balanced items and use {@link LoadBalanceInfo#getSquaredDeviation(long)},
+     * for example {@code .join(constraintFactory.forEach(Employee.class).groupBy(count()))}.
+     * <p>
+     * Adding or retracting a fact takes O(1) time.
+     *
+     * @param balancedMap never null, maps the fact to the item that carries its load
+     * @param <A> type of the matched fact
+     * @param <Balanced_> type of the balanced item
+     * @return never null
+     */
+    public static <A, Balanced_> UniConstraintCollector<A, ?, LoadBalanceInfo<Balanced_>> loadBalance(
+            Function<A, Balanced_> balancedMap) {
+        return loadBalance(balancedMap, a -> 1L);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function)}, but every fact carries a load of the given size.
+     *
+     * @param balancedMap never null, maps the fact to the item that carries its load
+     * @param loadMap never null, maps the fact to its load, for instance its duration
+     * @param <A> type of the matched fact
+     * @param <Balanced_> type of the balanced item
+     * @return never null
+     */
+    public static <A, Balanced_> UniConstraintCollector<A, ?, LoadBalanceInfo<Balanced_>> loadBalance(
+            Function<A, Balanced_> balancedMap, ToLongFunction<A> loadMap) {
+        return new DefaultUniConstraintCollector<>(
+                LoadBalanceCalculator<Balanced_>::new,
+                (calculator, a) -> {
+                    Balanced_ balanced = balancedMap.apply(a);
+                    long load = loadMap.applyAsLong(a);
+                    calculator.add(balanced, load);
+                    return () -> calculator.remove(balanced, load);
+                },
+                calculator -> calculator);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function, ToLongFunction)}.
+     */
+    public static <A, B, Balanced_> BiConstraintCollector<A, B, ?, LoadBalanceInfo<Balanced_>> loadBalance(
+            BiFunction<A, B, Balanced_> balancedMap, ToLongBiFunction<A, B> loadMap) {
+        return new DefaultBiConstraintCollector<>(
+                LoadBalanceCalculator<Balanced_>::new,
+                (calculator, a, b) -> {
+                    Balanced_ balanced = balancedMap.apply(a, b);
+                    long load = loadMap.applyAsLong(a, b);
+                    calculator.add(balanced, load);
+                    return () -> calculator.remove(balanced, load);
+                },
+                calculator -> calculator);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function, ToLongFunction)}.
+     */
+    public static <A, B, C, Balanced_> TriConstraintCollector<A, B, C, ?, LoadBalanceInfo<Balanced_>> loadBalance(
+            TriFunction<A, B, C, Balanced_> balancedMap, ToLongTriFunction<A, B, C> loadMap) {
+        return new DefaultTriConstraintCollector<>(
+                LoadBalanceCalculator<Balanced_>::new,
+                (calculator, a, b, c) -> {
+                    Balanced_ balanced = balancedMap.apply(a, b, c);
+                    long load = loadMap.applyAsLong(a, b, c);
+                    calculator.add(balanced, load);
+                    return () -> calculator.remove(balanced, load);
+                },
+                calculator -> calculator);
+    }
+
+    /**
+     * As defined by {@link #loadBalance(Function, ToLongFunction)}.
+     */
+    public static <A, B, C, D, Balanced_> QuadConstraintCollector<A, B, C, D, ?, LoadBalanceInfo<Balanced_>> loadBalance(
+            QuadFunction<A, B, C, D, Balanced_> balancedMap, ToLongQuadFunction<A, B, C, D> loadMap) {
+        return new DefaultQuadConstraintCollector<>(
+                LoadBalanceCalculator<Balanced_>::new,
+                (calculator, a, b, c, d) -> {
+                    Balanced_ balanced = balancedMap.apply(a, b, c, d);
+                    long load = loadMap.applyAsLong(a, b, c, d);
+                    calculator.add(balanced, load);
+                    return () -> calculator.remove(balanced, load);
+                },
+                calculator -> calculator);
+    }
+
     // ************************************************************************
     // conditional collectors
     // ************************************************************************
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.core.api.score.stream.bi;
+
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.core.api.score.stream.ConstraintCollectors;
+
+/**
+ * A {@link BiConstraintCollector} that can undo an accumulation without an undo {@link Runnable}.
+ * <p>
+ * Instead of a new undo operation for every accumulation, {@link #accumulateReversibly} returns a primitive undo token
+ * that the constraint stream implementation keeps for the matched facts
+ * and passes to {@link #reverse(Object, long)} when the facts no longer match.
+ * Combined with a result container that is reused, accumulating and undoing then allocates no memory at all.
+ * <p>
+ * The count, sum, average, minimum and maximum collectors of {@link ConstraintCollectors} implement this interface.
+ * A constraint stream implementation that doesn't support it falls back to {@link #accumulator()}.
+ *
+ * @param <A> the type of the first fact of the tuple in the source {@link BiConstraintStream}
+ * @param <B> the type of the second fact of the tuple in the source {@link BiConstraintStream}
+ * @param <ResultContainer_> the mutable accumulation type (often hidden as an implementation detail)
+ * @param <Result_> the type of the fact of the tuple in the destination constraint stream
+ * @see ConstraintCollectors
+ */
+public interface ReversibleBiConstraintCollector<A, B, ResultContainer_, Result_>
+        extends BiConstraintCollector<A, B, ResultContainer_, Result_> {
+
+    /**
+     * Extracts data from the matched facts and accumulates it in the result container.
+     *
+     * @param resultContainer never null, created by {@link #supplier()}
+     * @param a the first matched fact
+     * @param b the second matched fact
+     * @return the undo token to pass to {@link #reverse(Object, long)} to undo this accumulation
+     */
+    long accumulateReversibly(ResultContainer_ resultContainer, A a, B b);
+
+    /**
+     * Undoes an earlier accumulation in the same result container.
+     * Every undo token is reversed at most once.
+     *
+     * @param resultContainer never null, the same instance that was passed to {@link #accumulateReversibly}
+     * @param undoToken the return value of that {@link #accumulateReversibly} call
+     */
+    void reverse(ResultContainer_ resultContainer, long undoToken);
+
+    /**
+     * Wraps {@link #accumulateReversibly} and {@link #reverse(Object, long)} into an undo operation,
+     * which does allocate memory for every accumulation.
+     *
+     * @return never null
+     */
+    @Override
+    default TriFunction<ResultContainer_, A, B, Runnable> accumulator() {
+        return (resultContainer, a, b) -> {
+            long undoToken = accumulateReversibly(resultContainer, a, b);
+            return () -> reverse(resultContainer, undoToken);
+        };
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.core.api.score.stream.common;
+
+import java.util.Map;
+
+/**
+ * Contains info regarding how evenly a load is spread over a number of balanced items,
+ * for instance the number of shifts per employee.
+ *
+ * @param <Balanced_> The type of the items that share the load
+ */
+public interface LoadBalanceInfo<Balanced_> {
+
+    /**
+     * @return never null, an unmodifiable snapshot of the load of every balanced item that has any value
+     */
+    Map<Balanced_, Long> getLoadMap();
+
+    /**
+     * @return the sum of the loads of all balanced items
+     */
+    long getTotalLoad();
+
+    /**
+     * The squared deviation is the sum of the squared differences between each load and the mean load.
+     * It is 0 if the load is perfectly balanced and grows quadratically with the imbalance,
+     * so penalizing it prefers many small differences over one big difference.
+     *
+     * Only the balanced items that have any value are taken into account,
+     * so moving all the load away from an item lowers the squared deviation.
+     * Use {@link #getSquaredDeviation(long)} to take the balanced items without any value into account too.
+     *
+     * @return {@code >= 0}, 0 if there are no balanced items
+     */
+    double getSquaredDeviation();
+
+    /**
+     * As defined by {@link #getSquaredDeviation()},
+     * but the balanced items that have no value (and therefore no load) are taken into account too.
+     *
+     * @param balancedCount {@code >= } the number of balanced items in {@link #getLoadMap()},
+     *        the number of all balanced items, including those without any value
+     * @return {@code >= 0}, 0 if balancedCount is 0
+     * @throws IllegalArgumentException if balancedCount is lower than the number of balanced items that have a value
+     */
+    double getSquaredDeviation(long balancedCount);
+
+}
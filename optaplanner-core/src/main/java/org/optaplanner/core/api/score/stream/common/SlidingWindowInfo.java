@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.core.api.score.stream.common;
+
+/**
+ * Contains info regarding the sums of the weights of the values in every time window of a fixed size.
+ * A window starting at <i>t</i> contains every value with a position <i>p</i> such that <i>t &le; p &lt; t + size</i>.
+ * For instance, for the positions [1,2,4,8] with weight 1 and a window size of 4,
+ * the window starting at 1 has a sum of 3 and the window starting at 8 has a sum of 1.
+ */
+public interface SlidingWindowInfo {
+
+    /**
+     * @return {@code > 0}, the size of every window
+     */
+    long getWindowSize();
+
+    /**
+     * @param windowStart the position at which the window starts
+     * @return the sum of the weights of the values in the window starting at windowStart
+     */
+    long getWindowSum(long windowStart);
+
+    /**
+     * With non-negative weights, no window has a higher sum than the windows that start at the position of a value,
+     * so only those are considered.
+     *
+     * @return the highest sum of all windows that start at the position of a value, 0 if there are no values
+     */
+    long getMaximumWindowSum();
+
+    /**
+     * @return the start of the first window with {@link #getMaximumWindowSum()},
+     *         which is always the position of a value, null if there are no values
+     */
+    Long getMaximumWindowStart();
+
+}
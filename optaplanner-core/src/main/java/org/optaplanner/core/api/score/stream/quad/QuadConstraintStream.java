@@ -546,6 +546,44 @@ public interface QuadConstraintStream<A, B, C, D> extends ConstraintStream {
             QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping,
             QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector);
 
+    /**
+     * As defined by {@link #groupBy(QuadFunction, QuadConstraintCollector)},
+     * with a group key that is an int, such as a day index or a timeslot ordinal.
+     * <p>
+     * Unlike {@link UniConstraintStream#groupByInt(java.util.function.ToIntFunction,
+     * org.optaplanner.core.api.score.stream.uni.UniConstraintCollector)},
+     * this always boxes the group key to find the group of a tuple, in every implementation.
+     * It exists for consistency with the other stream cardinalities.
+     *
+     * @param groupKeyMapping never null, function to convert the facts in the original tuple to an int group key
+     * @param collector never null, the collector to perform the grouping operation with
+     *        See {@link ConstraintCollectors} for common operations, such as {@code count()}, {@code sum()} and others.
+     * @param <ResultContainer_> the mutable accumulation type (often hidden as an implementation detail)
+     * @param <Result_> the type of the second fact in the destination {@link BiConstraintStream}'s tuple
+     * @return never null
+     */
+    default <ResultContainer_, Result_> BiConstraintStream<Integer, Result_> groupByInt(
+            ToIntQuadFunction<A, B, C, D> groupKeyMapping,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        return groupBy((a, b, c, d) -> groupKeyMapping.applyAsInt(a, b, c, d), collector);
+    }
+
+    /**
+     * As defined by {@link #groupByInt(ToIntQuadFunction, QuadConstraintCollector)}, with a group key that is a long.
+     *
+     * @param groupKeyMapping never null, function to convert the facts in the original tuple to a long group key
+     * @param collector never null, the collector to perform the grouping operation with
+     *        See {@link ConstraintCollectors} for common operations, such as {@code count()}, {@code sum()} and others.
+     * @param <ResultContainer_> the mutable accumulation type (often hidden as an implementation detail)
+     * @param <Result_> the type of the second fact in the destination {@link BiConstraintStream}'s tuple
+     * @return never null
+     */
+    default <ResultContainer_, Result_> BiConstraintStream<Long, Result_> groupByLong(
+            ToLongQuadFunction<A, B, C, D> groupKeyMapping,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        return groupBy((a, b, c, d) -> groupKeyMapping.applyAsLong(a, b, c, d), collector);
+    }
+
     /**
      * Convert the {@link QuadConstraintStream} to a {@link TriConstraintStream}, consisting of unique tuples with three
      * facts.
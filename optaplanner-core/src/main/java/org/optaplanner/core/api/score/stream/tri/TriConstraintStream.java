@@ -764,6 +764,44 @@ public interface TriConstraintStream<A, B, C> extends ConstraintStream {
             TriFunction<A, B, C, GroupKey_> groupKeyMapping,
             TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector);
 
+    /**
+     * As defined by {@link #groupBy(TriFunction, TriConstraintCollector)},
+     * with a group key that is an int, such as a day index or a timeslot ordinal.
+     * <p>
+     * Unlike {@link UniConstraintStream#groupByInt(java.util.function.ToIntFunction,
+     * org.optaplanner.core.api.score.stream.uni.UniConstraintCollector)},
+     * this always boxes the group key to find the group of a tuple, in every implementation.
+     * It exists for consistency with the other stream cardinalities.
+     *
+     * @param groupKeyMapping never null, function to convert the facts in the original tuple to an int group key
+     * @param collector never null, the collector to perform the grouping operation with
+     *        See {@link ConstraintCollectors} for common operations, such as {@code count()}, {@code sum()} and others.
+     * @param <ResultContainer_> the mutable accumulation type (often hidden as an implementation detail)
+     * @param <Result_> the type of the second fact in the destination {@link BiConstraintStream}'s tuple
+     * @return never null
+     */
+    default <ResultContainer_, Result_> BiConstraintStream<Integer, Result_> groupByInt(
+            ToIntTriFunction<A, B, C> groupKeyMapping,
+            TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
+        return groupBy((a, b, c) -> groupKeyMapping.applyAsInt(a, b, c), collector);
+    }
+
+    /**
+     * As defined by {@link #groupByInt(ToIntTriFunction, TriConstraintCollector)}, with a group key that is a long.
+     *
+     * @param groupKeyMapping never null, function to convert the facts in the original tuple to a long group key
+     * @param collector never null, the collector to perform the grouping operation with
+     *        See {@link ConstraintCollectors} for common operations, such as {@code count()}, {@code sum()} and others.
+     * @param <ResultContainer_> the mutable accumulation type (often hidden as an implementation detail)
+     * @param <Result_> the type of the second fact in the destination {@link BiConstraintStream}'s tuple
+     * @return never null
+     */
+    default <ResultContainer_, Result_> BiConstraintStream<Long, Result_> groupByLong(
+            ToLongTriFunction<A, B, C> groupKeyMapping,
+            TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
+        return groupBy((a, b, c) -> groupKeyMapping.applyAsLong(a, b, c), collector);
+    }
+
     /**
      * Convert the {@link TriConstraintStream} to a {@link TriConstraintStream}, consisting of unique tuples with three
      * facts.
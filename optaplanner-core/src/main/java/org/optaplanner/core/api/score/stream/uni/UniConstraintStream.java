@@ -33,6 +33,7 @@ import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.api.score.stream.ConstraintCollectors;
 import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
 import org.optaplanner.core.api.score.stream.ConstraintStream;
 import org.optaplanner.core.api.score.stream.Joiners;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
@@ -1150,6 +1151,47 @@ public interface UniConstraintStream<A> extends ConstraintStream {
             Function<A, GroupKey_> groupKeyMapping,
             UniConstraintCollector<A, ResultContainer_, Result_> collector);
 
+    /**
+     * As defined by {@link #groupBy(Function, UniConstraintCollector)},
+     * with a group key that is an int, such as a day index or a timeslot ordinal.
+     * <p>
+     * Unlike {@link #groupBy(Function, UniConstraintCollector)}, {@link ConstraintStreamImplType#BAVET} finds
+     * the group of a tuple without boxing the group key, which avoids an allocation on every tuple update.
+     * The group key is then only boxed once per group, in the destination {@link BiConstraintStream}'s tuple.
+     * {@link ConstraintStreamImplType#DROOLS} falls back to {@link #groupBy(Function, UniConstraintCollector)}
+     * and boxes the group key on every tuple update.
+     * Only this stream cardinality avoids the boxing:
+     * the {@code groupByInt()} and {@code groupByLong()} of {@link BiConstraintStream} and higher always box.
+     *
+     * @param groupKeyMapping never null, function to convert the fact in the original tuple to an int group key
+     * @param collector never null, the collector to perform the grouping operation with
+     *        See {@link ConstraintCollectors} for common operations, such as {@code count()}, {@code sum()} and others.
+     * @param <ResultContainer_> the mutable accumulation type (often hidden as an implementation detail)
+     * @param <Result_> the type of the second fact in the destination {@link BiConstraintStream}'s tuple
+     * @return never null
+     */
+    default <ResultContainer_, Result_> BiConstraintStream<Integer, Result_> groupByInt(
+            ToIntFunction<A> groupKeyMapping,
+            UniConstraintCollector<A, ResultContainer_, Result_> collector) {
+        return groupBy(a -> groupKeyMapping.applyAsInt(a), collector);
+    }
+
+    /**
+     * As defined by {@link #groupByInt(ToIntFunction, UniConstraintCollector)}, with a group key that is a long.
+     *
+     * @param groupKeyMapping never null, function to convert the fact in the original tuple to a long group key
+     * @param collector never null, the collector to perform the grouping operation with
+     *        See {@link ConstraintCollectors} for common operations, such as {@code count()}, {@code sum()} and others.
+     * @param <ResultContainer_> the mutable accumulation type (often hidden as an implementation detail)
+     * @param <Result_> the type of the second fact in the destination {@link BiConstraintStream}'s tuple
+     * @return never null
+     */
+    default <ResultContainer_, Result_> BiConstraintStream<Long, Result_> groupByLong(
+            ToLongFunction<A> groupKeyMapping,
+            UniConstraintCollector<A, ResultContainer_, Result_> collector) {
+        return groupBy(a -> groupKeyMapping.applyAsLong(a), collector);
+    }
+
     /**
      * Convert the {@link UniConstraintStream} to a {@link TriConstraintStream}, consisting of unique tuples with three
      * facts.
@@ -47,6 +47,11 @@ import org.optaplanner.core.impl.solver.DefaultSolverManager;
  */
 public interface SolverManager<Solution_, ProblemId_> extends AutoCloseable {
 
+    /**
+     * The priority of a submitted planning problem if none is specified.
+     */
+    int DEFAULT_PRIORITY = 0;
+
     // ************************************************************************
     // Static creation methods: SolverConfig and SolverFactory
     // ************************************************************************
@@ -214,6 +219,38 @@ public interface SolverManager<Solution_, ProblemId_> extends AutoCloseable {
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler);
 
+    /**
+     * As defined by {@link #solve(Object, Function, Consumer)}.
+     * <p>
+     * Scheduled problems with a higher priority are solved first,
+     * those with the same priority in the order they were submitted.
+     * If no solver thread is available, the active job with the lowest priority lower than this priority
+     * is preempted: it terminates early and is scheduled again, to resume from its best solution
+     * as soon as a solver thread is available for its priority.
+     * The time spent and the score calculation count of the solver termination continue where they were preempted,
+     * so preemption doesn't extend those limits.
+     * Phase terminations and unimproved terminations do start anew.
+     * <p>
+     * An implementation that doesn't support priorities ignores it.
+     *
+     * @param problemId never null, a ID for each planning problem. This must be unique.
+     *        Use this problemId to {@link #terminateEarly(Object) terminate} the solver early,
+     *        {@link #getSolverStatus(Object) to get the status} or if the problem changes while solving.
+     * @param problemFinder never null, function that returns a {@link PlanningSolution}, usually with uninitialized planning
+     *        variables
+     * @param finalBestSolutionConsumer sometimes null, called only once, at the end, on a consumer thread
+     * @param exceptionHandler sometimes null, called if an exception or error occurs.
+     *        If null it defaults to logging the exception as an error.
+     * @param priority higher is more urgent, defaults to {@link #DEFAULT_PRIORITY}
+     * @return never null
+     */
+    default SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler, int priority) {
+        return solve(problemId, problemFinder, finalBestSolutionConsumer, exceptionHandler);
+    }
+
     /**
      * Submits a planning problem to solve and returns immediately.
      * The planning problem is solved on a solver {@link Thread}, as soon as one is available.
@@ -287,6 +324,35 @@ public interface SolverManager<Solution_, ProblemId_> extends AutoCloseable {
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler);
 
+    /**
+     * As defined by {@link #solveAndListen(Object, Function, Consumer, Consumer, BiConsumer)},
+     * with a priority as defined by {@link #solve(Object, Function, Consumer, BiConsumer, int)}.
+     * <p>
+     * A preempted problem keeps calling the {@code bestSolutionConsumer} when it resumes,
+     * but calls the {@code finalBestSolutionConsumer} only once, when it really terminates.
+     *
+     * @param problemId never null, an ID for each planning problem. This must be unique.
+     *        Use this problemId to {@link #terminateEarly(Object) terminate} the solver early,
+     *        {@link #getSolverStatus(Object) to get the status} or if the problem changes while solving.
+     * @param problemFinder never null, function that returns a {@link PlanningSolution}, usually with uninitialized planning
+     *        variables
+     * @param bestSolutionConsumer never null, called multiple times, on a consumer thread
+     * @param finalBestSolutionConsumer sometimes null, called only once, at the end, on a consumer thread.
+     *        That final best solution is already consumed by the bestSolutionConsumer earlier.
+     * @param exceptionHandler sometimes null, called if an exception or error occurs.
+     *        If null it defaults to logging the exception as an error.
+     * @param priority higher is more urgent, defaults to {@link #DEFAULT_PRIORITY}
+     * @return never null
+     */
+    default SolverJob<Solution_, ProblemId_> solveAndListen(ProblemId_ problemId,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> bestSolutionConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler, int priority) {
+        return solveAndListen(problemId, problemFinder, bestSolutionConsumer, finalBestSolutionConsumer,
+                exceptionHandler);
+    }
+
     /**
      * Returns if the {@link Solver} is scheduled to solve, actively solving or not.
      * <p>
@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.function.Consumer;
 
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlElements;
 import javax.xml.bind.annotation.XmlType;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
@@ -35,13 +36,19 @@ import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.config.phase.custom.CustomPhaseConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.io.jaxb.adapter.JaxbCustomPropertiesAdapter;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import org.optaplanner.core.impl.partitionedsearch.partitioner.NearbySolutionPartitioner;
 import org.optaplanner.core.impl.partitionedsearch.partitioner.SolutionPartitioner;
 
 @XmlType(propOrder = {
         "solutionPartitionerClass",
         "solutionPartitionerCustomProperties",
+        "nearbyDistanceMeterClass",
         "runnablePartThreadLimit",
-        "phaseConfigList"
+        "roundCountLimit",
+        "partitionChangeBatchWindowMillis",
+        "phaseConfigList",
+        "mergePhaseConfigList"
 })
 public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchPhaseConfig> {
 
@@ -56,6 +63,8 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
     @XmlJavaTypeAdapter(JaxbCustomPropertiesAdapter.class)
     protected Map<String, String> solutionPartitionerCustomProperties = null;
 
+    protected Class<? extends NearbyDistanceMeter> nearbyDistanceMeterClass = null;
+
     protected String runnablePartThreadLimit = null;
 
     @XmlElements({
@@ -69,6 +78,21 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
     })
     protected List<PhaseConfig> phaseConfigList = null;
 
+    protected Integer roundCountLimit = null;
+
+    protected Long partitionChangeBatchWindowMillis = null;
+
+    @XmlElementWrapper(name = "mergePhases")
+    @XmlElements({
+            @XmlElement(name = ConstructionHeuristicPhaseConfig.XML_ELEMENT_NAME,
+                    type = ConstructionHeuristicPhaseConfig.class),
+            @XmlElement(name = CustomPhaseConfig.XML_ELEMENT_NAME, type = CustomPhaseConfig.class),
+            @XmlElement(name = ExhaustiveSearchPhaseConfig.XML_ELEMENT_NAME, type = ExhaustiveSearchPhaseConfig.class),
+            @XmlElement(name = LocalSearchPhaseConfig.XML_ELEMENT_NAME, type = LocalSearchPhaseConfig.class),
+            @XmlElement(name = NoChangePhaseConfig.XML_ELEMENT_NAME, type = NoChangePhaseConfig.class)
+    })
+    protected List<PhaseConfig> mergePhaseConfigList = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -89,6 +113,22 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
         this.solutionPartitionerCustomProperties = solutionPartitionerCustomProperties;
     }
 
+    /**
+     * If there is no {@link #getSolutionPartitionerClass() solutionPartitionerClass},
+     * the planning entities are partitioned by a {@link NearbySolutionPartitioner},
+     * which puts planning entities that are near each other according to this meter in the same partition.
+     * The meter measures the distance from one planning entity to another one.
+     *
+     * @return sometimes null
+     */
+    public Class<? extends NearbyDistanceMeter> getNearbyDistanceMeterClass() {
+        return nearbyDistanceMeterClass;
+    }
+
+    public void setNearbyDistanceMeterClass(Class<? extends NearbyDistanceMeter> nearbyDistanceMeterClass) {
+        this.nearbyDistanceMeterClass = nearbyDistanceMeterClass;
+    }
+
     /**
      * Similar to a thread pool size, but instead of limiting the number of {@link Thread}s,
      * it limits the number of {@link java.lang.Thread.State#RUNNABLE runnable} {@link Thread}s to avoid consuming all
@@ -126,6 +166,65 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
         this.phaseConfigList = phaseConfigList;
     }
 
+    /**
+     * The maximum number of rounds.
+     * Every round splits the working solution again, so the borders between the partitions can move,
+     * solves every partition with the {@link #getPhaseConfigList() phases}
+     * and then solves the entire working solution with the {@link #getMergePhaseConfigList() merge phases}.
+     * <p/>
+     * A round ends when the phases of all partitions have ended,
+     * so those phases need a termination of their own for a next round to start.
+     * No round starts after this phase has terminated.
+     * <p/>
+     * Defaults to 1, which splits the working solution only once.
+     *
+     * @return null or at least 1
+     */
+    public Integer getRoundCountLimit() {
+        return roundCountLimit;
+    }
+
+    public void setRoundCountLimit(Integer roundCountLimit) {
+        this.roundCountLimit = roundCountLimit;
+    }
+
+    /**
+     * Every time a partition finds a new best solution, its changes are applied on the working solution
+     * as a step of this phase.
+     * If this is set, the changes of multiple partitions are applied together in one step,
+     * so the score is calculated only once for all of them:
+     * a step waits this long after the first partition change to collect the changes of the other partitions.
+     * A partition that improves again in the meantime only has its newest changes applied.
+     * <p/>
+     * Use 0 to apply all partition changes that are available at the start of a step, without waiting.
+     * With many partitions that improve fast, this stops the solver thread from becoming the bottleneck.
+     * <p/>
+     * Defaults to null, which applies the changes of every partition in a separate step.
+     *
+     * @return null or at least 0
+     */
+    public Long getPartitionChangeBatchWindowMillis() {
+        return partitionChangeBatchWindowMillis;
+    }
+
+    public void setPartitionChangeBatchWindowMillis(Long partitionChangeBatchWindowMillis) {
+        this.partitionChangeBatchWindowMillis = partitionChangeBatchWindowMillis;
+    }
+
+    /**
+     * The phases that run on the entire working solution at the end of every round,
+     * to improve it across the borders between the partitions.
+     *
+     * @return null or empty if there are no merge phases
+     */
+    public List<PhaseConfig> getMergePhaseConfigList() {
+        return mergePhaseConfigList;
+    }
+
+    public void setMergePhaseConfigList(List<PhaseConfig> mergePhaseConfigList) {
+        this.mergePhaseConfigList = mergePhaseConfigList;
+    }
+
     @Override
     public PartitionedSearchPhaseConfig inherit(PartitionedSearchPhaseConfig inheritedConfig) {
         super.inherit(inheritedConfig);
@@ -133,10 +232,18 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
                 inheritedConfig.getSolutionPartitionerClass());
         solutionPartitionerCustomProperties = ConfigUtils.inheritMergeableMapProperty(
                 solutionPartitionerCustomProperties, inheritedConfig.getSolutionPartitionerCustomProperties());
+        nearbyDistanceMeterClass = ConfigUtils.inheritOverwritableProperty(nearbyDistanceMeterClass,
+                inheritedConfig.getNearbyDistanceMeterClass());
         runnablePartThreadLimit = ConfigUtils.inheritOverwritableProperty(runnablePartThreadLimit,
                 inheritedConfig.getRunnablePartThreadLimit());
         phaseConfigList = ConfigUtils.inheritMergeableListConfig(
                 phaseConfigList, inheritedConfig.getPhaseConfigList());
+        roundCountLimit = ConfigUtils.inheritOverwritableProperty(roundCountLimit,
+                inheritedConfig.getRoundCountLimit());
+        partitionChangeBatchWindowMillis = ConfigUtils.inheritOverwritableProperty(partitionChangeBatchWindowMillis,
+                inheritedConfig.getPartitionChangeBatchWindowMillis());
+        mergePhaseConfigList = ConfigUtils.inheritMergeableListConfig(
+                mergePhaseConfigList, inheritedConfig.getMergePhaseConfigList());
         return this;
     }
 
@@ -151,9 +258,13 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
             getTerminationConfig().visitReferencedClasses(classVisitor);
         }
         classVisitor.accept(solutionPartitionerClass);
+        classVisitor.accept(nearbyDistanceMeterClass);
         if (phaseConfigList != null) {
             phaseConfigList.forEach(pc -> pc.visitReferencedClasses(classVisitor));
         }
+        if (mergePhaseConfigList != null) {
+            mergePhaseConfigList.forEach(pc -> pc.visitReferencedClasses(classVisitor));
+        }
     }
 
 }
@@ -43,6 +43,7 @@ import org.optaplanner.core.api.domain.common.DomainAccessType;
 import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
 import org.optaplanner.core.api.score.calculator.EasyScoreCalculator;
 import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.api.solver.ProblemFactChange;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.AbstractConfig;
@@ -72,6 +73,7 @@ import org.optaplanner.core.impl.solver.random.RandomFactory;
 @XmlType(name = SolverConfig.XML_TYPE_NAME, propOrder = {
         "environmentMode",
         "daemon",
+        "problemFactChangeBatchWindowMillis",
         "randomType",
         "randomSeed",
         "randomFactoryClass",
@@ -231,6 +233,7 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
 
     protected EnvironmentMode environmentMode = null;
     protected Boolean daemon = null;
+    protected Long problemFactChangeBatchWindowMillis = null;
     protected RandomType randomType = null;
     protected Long randomSeed = null;
     protected Class<? extends RandomFactory> randomFactoryClass = null;
@@ -321,6 +324,20 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.daemon = daemon;
     }
 
+    /**
+     * While solving, a {@link ProblemFactChange} waits up to this long for other problem fact changes,
+     * so they are all processed in a single restart of the solver.
+     *
+     * @return null or {@code >= 0}, defaults to 0 (no waiting)
+     */
+    public Long getProblemFactChangeBatchWindowMillis() {
+        return problemFactChangeBatchWindowMillis;
+    }
+
+    public void setProblemFactChangeBatchWindowMillis(Long problemFactChangeBatchWindowMillis) {
+        this.problemFactChangeBatchWindowMillis = problemFactChangeBatchWindowMillis;
+    }
+
     public RandomType getRandomType() {
         return randomType;
     }
@@ -455,6 +472,11 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withProblemFactChangeBatchWindowMillis(Long problemFactChangeBatchWindowMillis) {
+        this.problemFactChangeBatchWindowMillis = problemFactChangeBatchWindowMillis;
+        return this;
+    }
+
     public SolverConfig withRandomType(RandomType randomType) {
         this.randomType = randomType;
         return this;
@@ -623,6 +645,8 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         classLoader = ConfigUtils.inheritOverwritableProperty(classLoader, inheritedConfig.getClassLoader());
         environmentMode = ConfigUtils.inheritOverwritableProperty(environmentMode, inheritedConfig.getEnvironmentMode());
         daemon = ConfigUtils.inheritOverwritableProperty(daemon, inheritedConfig.getDaemon());
+        problemFactChangeBatchWindowMillis = ConfigUtils.inheritOverwritableProperty(problemFactChangeBatchWindowMillis,
+                inheritedConfig.getProblemFactChangeBatchWindowMillis());
         randomType = ConfigUtils.inheritOverwritableProperty(randomType, inheritedConfig.getRandomType());
         randomSeed = ConfigUtils.inheritOverwritableProperty(randomSeed, inheritedConfig.getRandomSeed());
         randomFactoryClass = ConfigUtils.inheritOverwritableProperty(randomFactoryClass,
@@ -28,7 +28,8 @@ import org.slf4j.LoggerFactory;
 
 @XmlType(propOrder = {
         "parallelSolverCount",
-        "threadFactoryClass"
+        "threadFactoryClass",
+        "asyncConsumption"
 })
 public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
@@ -38,10 +39,10 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
     protected String parallelSolverCount = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
+    protected Boolean asyncConsumption = null;
 
     // Future features:
     // throttlingDelay
-    // congestionStrategy
 
     // ************************************************************************
     // Constructors and simple getters/setters
@@ -66,6 +67,23 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    /**
+     * If true, the best solution consumers are called on separate consumer threads,
+     * so a slow consumer (for example one that writes to a database) doesn't stall the solver thread.
+     * Intermediate best solutions that arrive while the consumer is busy are skipped,
+     * so it only receives the latest one.
+     * Defaults to false, which calls every consumer on the solver thread.
+     *
+     * @return sometimes null
+     */
+    public Boolean getAsyncConsumption() {
+        return asyncConsumption;
+    }
+
+    public void setAsyncConsumption(Boolean asyncConsumption) {
+        this.asyncConsumption = asyncConsumption;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -80,6 +98,11 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return this;
     }
 
+    public SolverManagerConfig withAsyncConsumption(Boolean asyncConsumption) {
+        this.asyncConsumption = asyncConsumption;
+        return this;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -126,6 +149,8 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
                 inheritedConfig.getParallelSolverCount());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
+        asyncConsumption = ConfigUtils.inheritOverwritableProperty(asyncConsumption,
+                inheritedConfig.getAsyncConsumption());
         return this;
     }
 
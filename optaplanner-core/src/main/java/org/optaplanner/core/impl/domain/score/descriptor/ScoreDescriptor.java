@@ -31,6 +31,7 @@ import org.optaplanner.core.api.score.buildin.hardmediumsoftbigdecimal.HardMediu
 import org.optaplanner.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+import org.optaplanner.core.api.score.buildin.hardsoftdecimal.HardSoftDecimalScore;
 import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.buildin.simplebigdecimal.SimpleBigDecimalScore;
@@ -46,6 +47,7 @@ import org.optaplanner.core.impl.score.buildin.HardMediumSoftBigDecimalScoreDefi
 import org.optaplanner.core.impl.score.buildin.HardMediumSoftLongScoreDefinition;
 import org.optaplanner.core.impl.score.buildin.HardMediumSoftScoreDefinition;
 import org.optaplanner.core.impl.score.buildin.HardSoftBigDecimalScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.HardSoftDecimalScoreDefinition;
 import org.optaplanner.core.impl.score.buildin.HardSoftLongScoreDefinition;
 import org.optaplanner.core.impl.score.buildin.HardSoftScoreDefinition;
 import org.optaplanner.core.impl.score.buildin.SimpleBigDecimalScoreDefinition;
@@ -127,6 +129,15 @@ public class ScoreDescriptor {
         Class<? extends ScoreDefinition> scoreDefinitionClass = annotation.scoreDefinitionClass();
         int bendableHardLevelsSize = annotation.bendableHardLevelsSize();
         int bendableSoftLevelsSize = annotation.bendableSoftLevelsSize();
+        int decimalScale = annotation.decimalScale();
+        if (decimalScale != PlanningScore.NO_DECIMAL_SCALE && !scoreType.equals(HardSoftDecimalScore.class)) {
+            throw new IllegalArgumentException("The solutionClass (" + solutionClass
+                    + ") has a @" + PlanningScore.class.getSimpleName()
+                    + " annotated member (" + scoreMemberAccessor
+                    + ") that returns a scoreType (" + scoreType
+                    + ") that must not have a decimalScale (" + decimalScale + ").\n"
+                    + "Maybe make it return " + HardSoftDecimalScore.class.getSimpleName() + ".");
+        }
         if (scoreDefinitionClass != PlanningScore.NullScoreDefinition.class) {
             if (bendableHardLevelsSize != PlanningScore.NO_LEVEL_SIZE
                     || bendableSoftLevelsSize != PlanningScore.NO_LEVEL_SIZE) {
@@ -162,6 +173,18 @@ public class ScoreDescriptor {
                 return new HardSoftLongScoreDefinition();
             } else if (scoreType.equals(HardSoftBigDecimalScore.class)) {
                 return new HardSoftBigDecimalScoreDefinition();
+            } else if (scoreType.equals(HardSoftDecimalScore.class)) {
+                if (decimalScale == PlanningScore.NO_DECIMAL_SCALE) {
+                    return new HardSoftDecimalScoreDefinition();
+                }
+                if (decimalScale < 0 || decimalScale > HardSoftDecimalScore.MAX_SCALE) {
+                    throw new IllegalArgumentException("The solutionClass (" + solutionClass
+                            + ") has a @" + PlanningScore.class.getSimpleName()
+                            + " annotated member (" + scoreMemberAccessor
+                            + ") with a decimalScale (" + decimalScale + ") that must be between 0 and "
+                            + HardSoftDecimalScore.MAX_SCALE + ".");
+                }
+                return new HardSoftDecimalScoreDefinition(decimalScale);
             } else if (scoreType.equals(HardMediumSoftScore.class)) {
                 return new HardMediumSoftScoreDefinition();
             } else if (scoreType.equals(HardMediumSoftLongScore.class)) {
@@ -19,6 +19,7 @@ package org.optaplanner.core.impl.heuristic.thread;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.optaplanner.core.api.score.Score;
@@ -39,6 +40,10 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
     private final BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
     private final OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
     private final CyclicBarrier moveThreadBarrier;
+    /**
+     * Null if the number of concurrently evaluating move threads is not capped.
+     */
+    private final Semaphore moveThreadCapSemaphore;
 
     private final boolean assertMoveScoreFromScratch;
     private final boolean assertExpectedUndoMoveScore;
@@ -52,7 +57,7 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
     public MoveThreadRunner(String logIndentation, int moveThreadIndex, boolean evaluateDoable,
             BlockingQueue<MoveThreadOperation<Solution_>> operationQueue,
             OrderByMoveIndexBlockingQueue<Solution_> resultQueue,
-            CyclicBarrier moveThreadBarrier,
+            CyclicBarrier moveThreadBarrier, Semaphore moveThreadCapSemaphore,
             boolean assertMoveScoreFromScratch, boolean assertExpectedUndoMoveScore,
             boolean assertStepScoreFromScratch, boolean assertExpectedStepScore,
             boolean assertShadowVariablesAreNotStaleAfterStep) {
@@ -62,6 +67,7 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
         this.operationQueue = operationQueue;
         this.resultQueue = resultQueue;
         this.moveThreadBarrier = moveThreadBarrier;
+        this.moveThreadCapSemaphore = moveThreadCapSemaphore;
         this.assertMoveScoreFromScratch = assertMoveScoreFromScratch;
         this.assertExpectedUndoMoveScore = assertExpectedUndoMoveScore;
         this.assertStepScoreFromScratch = assertStepScoreFromScratch;
@@ -130,28 +136,43 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                         break;
                     }
                 } else if (operation instanceof MoveEvaluationOperation) {
-                    MoveEvaluationOperation<Solution_> moveEvaluationOperation = (MoveEvaluationOperation<Solution_>) operation;
-                    int moveIndex = moveEvaluationOperation.getMoveIndex();
-                    if (stepIndex != moveEvaluationOperation.getStepIndex()) {
-                        throw new IllegalStateException("Impossible situation: the moveThread's stepIndex ("
-                                + stepIndex + ") differs from the operation's stepIndex ("
-                                + moveEvaluationOperation.getStepIndex() + ") with moveIndex ("
-                                + moveIndex + ").");
+                    // Only the move evaluations are capped: every move thread must still take its step operations
+                    if (moveThreadCapSemaphore != null) {
+                        try {
+                            moveThreadCapSemaphore.acquire();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            break;
+                        }
                     }
-                    Move<Solution_> move = moveEvaluationOperation.getMove().rebase(scoreDirector);
-                    if (evaluateDoable && !move.isMoveDoable(scoreDirector)) {
-                        LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), not doable.",
-                                logIndentation, moveThreadIndex, stepIndex, moveIndex);
-                        resultQueue.addUndoableMove(moveThreadIndex, stepIndex, moveIndex, move);
-                    } else {
-                        Score<?> score = scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch);
-                        if (assertExpectedUndoMoveScore) {
-                            scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
+                    try {
+                        MoveEvaluationOperation<Solution_> moveEvaluationOperation = (MoveEvaluationOperation<Solution_>) operation;
+                        int moveIndex = moveEvaluationOperation.getMoveIndex();
+                        if (stepIndex != moveEvaluationOperation.getStepIndex()) {
+                            throw new IllegalStateException("Impossible situation: the moveThread's stepIndex ("
+                                    + stepIndex + ") differs from the operation's stepIndex ("
+                                    + moveEvaluationOperation.getStepIndex() + ") with moveIndex ("
+                                    + moveIndex + ").");
+                        }
+                        Move<Solution_> move = moveEvaluationOperation.getMove().rebase(scoreDirector);
+                        if (evaluateDoable && !move.isMoveDoable(scoreDirector)) {
+                            LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), not doable.",
+                                    logIndentation, moveThreadIndex, stepIndex, moveIndex);
+                            resultQueue.addUndoableMove(moveThreadIndex, stepIndex, moveIndex, move);
+                        } else {
+                            Score<?> score = scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch);
+                            if (assertExpectedUndoMoveScore) {
+                                scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
+                            }
+                            LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), score ({}).",
+                                    logIndentation, moveThreadIndex, stepIndex, moveIndex, score);
+                            // Deliberately add to fail fast if there is not enough capacity (which is impossible)
+                            resultQueue.addMove(moveThreadIndex, stepIndex, moveIndex, move, score);
+                        }
+                    } finally {
+                        if (moveThreadCapSemaphore != null) {
+                            moveThreadCapSemaphore.release();
                         }
-                        LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), score ({}).",
-                                logIndentation, moveThreadIndex, stepIndex, moveIndex, score);
-                        // Deliberately add to fail fast if there is not enough capacity (which is impossible)
-                        resultQueue.addMove(moveThreadIndex, stepIndex, moveIndex, move, score);
                     }
                 } else {
                     throw new IllegalStateException("Unknown operation (" + operation + ").");
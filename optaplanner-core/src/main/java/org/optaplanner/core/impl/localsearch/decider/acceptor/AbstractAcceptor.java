@@ -17,6 +17,8 @@
 package org.optaplanner.core.impl.localsearch.decider.acceptor;
 
 import org.optaplanner.core.impl.localsearch.event.LocalSearchPhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,4 +36,20 @@ public abstract class AbstractAcceptor<Solution_> extends LocalSearchPhaseLifecy
     // Worker methods
     // ************************************************************************
 
+    /**
+     * After processing real-time problem fact changes, the solver restarts and so this phase starts again.
+     * An acceptor can then resume with the state it had at the end of the previous run of this phase,
+     * instead of starting from scratch.
+     *
+     * @param phaseScope never null, of the phase that is starting
+     * @param endedStartingSolverCount the {@link SolverScope#getStartingSolverCount()} when this phase last ended,
+     *        or -1 if it never ended
+     * @return true if this phase ended in the solver run right before this restart
+     */
+    protected boolean isRestartedAfterProblemFactChanges(LocalSearchPhaseScope<Solution_> phaseScope,
+            int endedStartingSolverCount) {
+        int startingSolverCount = phaseScope.getSolverScope().getStartingSolverCount();
+        return startingSolverCount > 1 && endedStartingSolverCount == startingSolverCount - 1;
+    }
+
 }
@@ -22,6 +22,11 @@ import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 
+/**
+ * When the solver restarts after real-time problem fact changes,
+ * the late scores of the previous run of this phase are kept,
+ * shifted by the difference that those changes made to the best score.
+ */
 public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
 
     protected int lateAcceptanceSize = -1;
@@ -30,6 +35,12 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
     protected Score[] previousScores;
     protected int lateScoreIndex = -1;
 
+    /**
+     * The late scores are kept when the phase ends, until it starts again, in case it restarts after problem fact changes.
+     */
+    protected int endedStartingSolverCount = -1;
+    protected Score endedBestScore = null;
+
     public void setLateAcceptanceSize(int lateAcceptanceSize) {
         this.lateAcceptanceSize = lateAcceptanceSize;
     }
@@ -46,8 +57,16 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
         validate();
-        previousScores = new Score[lateAcceptanceSize];
         Score initialScore = phaseScope.getBestScore();
+        if (previousScores != null && isRestartedAfterProblemFactChanges(phaseScope, endedStartingSolverCount)) {
+            Score scoreShift = initialScore.subtract(endedBestScore);
+            for (int i = 0; i < previousScores.length; i++) {
+                previousScores[i] = previousScores[i].add(scoreShift);
+            }
+            // Keep the lateScoreIndex
+            return;
+        }
+        previousScores = new Score[lateAcceptanceSize];
         for (int i = 0; i < previousScores.length; i++) {
             previousScores[i] = initialScore;
         }
@@ -87,8 +106,9 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
-        previousScores = null;
-        lateScoreIndex = -1;
+        // The previousScores and lateScoreIndex are kept for a restart after problem fact changes
+        endedStartingSolverCount = phaseScope.getSolverScope().getStartingSolverCount();
+        endedBestScore = phaseScope.getBestScore();
     }
 
 }
@@ -37,6 +37,11 @@ public class SimulatedAnnealingAcceptor<Solution_> extends AbstractAcceptor<Solu
 
     protected double temperatureMinimum = 1.0E-100; // Double.MIN_NORMAL is E-308
 
+    // Reused for every evaluated move, instead of Score.subtract() which creates a new Score (and arrays if bendable)
+    protected Score extractedLastStepScore;
+    protected double[] lastStepScoreLevels;
+    protected double[] moveScoreLevels;
+
     public void setStartingTemperature(Score startingTemperature) {
         this.startingTemperature = startingTemperature;
     }
@@ -57,6 +62,9 @@ public class SimulatedAnnealingAcceptor<Solution_> extends AbstractAcceptor<Solu
         startingTemperatureLevels = ScoreUtils.extractLevelDoubles(startingTemperature);
         temperatureLevels = startingTemperatureLevels;
         levelsLength = startingTemperatureLevels.length;
+        extractedLastStepScore = null;
+        lastStepScoreLevels = new double[levelsLength];
+        moveScoreLevels = new double[levelsLength];
     }
 
     @Override
@@ -65,6 +73,9 @@ public class SimulatedAnnealingAcceptor<Solution_> extends AbstractAcceptor<Solu
         startingTemperatureLevels = null;
         temperatureLevels = null;
         levelsLength = -1;
+        extractedLastStepScore = null;
+        lastStepScoreLevels = null;
+        moveScoreLevels = null;
     }
 
     @Override
@@ -75,11 +86,14 @@ public class SimulatedAnnealingAcceptor<Solution_> extends AbstractAcceptor<Solu
         if (moveScore.compareTo(lastStepScore) >= 0) {
             return true;
         }
-        Score moveScoreDifference = lastStepScore.subtract(moveScore);
-        double[] moveScoreDifferenceLevels = ScoreUtils.extractLevelDoubles(moveScoreDifference);
+        if (lastStepScore != extractedLastStepScore) {
+            ScoreUtils.extractLevelDoubles(lastStepScore, lastStepScoreLevels);
+            extractedLastStepScore = lastStepScore;
+        }
+        ScoreUtils.extractLevelDoubles(moveScore, moveScoreLevels);
         double acceptChance = 1.0;
         for (int i = 0; i < levelsLength; i++) {
-            double moveScoreDifferenceLevel = moveScoreDifferenceLevels[i];
+            double moveScoreDifferenceLevel = lastStepScoreLevels[i] - moveScoreLevels[i];
             double temperatureLevel = temperatureLevels[i];
             double acceptChanceLevel;
             if (moveScoreDifferenceLevel <= 0.0) {
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
+import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.size.TabuSizeStrategy;
@@ -32,6 +33,9 @@ import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 
 /**
  * Abstract superclass for all Tabu Acceptors.
+ * <p>
+ * When the solver restarts after real-time problem fact changes,
+ * the tabu list of the previous run of this phase is rebased onto the new working solution and kept.
  *
  * @see Acceptor
  */
@@ -51,6 +55,12 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
     protected int workingTabuSize = -1;
     protected int workingFadingTabuSize = -1;
 
+    /**
+     * The tabu list is kept when the phase ends, until it starts again, in case it restarts after problem fact changes.
+     */
+    protected int endedStartingSolverCount = -1;
+    protected int endedNextStepIndex = -1;
+
     public AbstractTabuAcceptor(String logIndentation) {
         this.logIndentation = logIndentation;
     }
@@ -84,15 +94,60 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
         workingFadingTabuSize = fadingTabuSizeStrategy == null ? 0
                 : fadingTabuSizeStrategy.determineTabuSize(lastCompletedStepScope);
         int totalTabuListSize = workingTabuSize + workingFadingTabuSize; // is at least 1
+        Map<Object, Integer> endedTabuToStepIndexMap = tabuToStepIndexMap;
+        Deque<Object> endedTabuSequenceDeque = tabuSequenceDeque;
         tabuToStepIndexMap = new HashMap<>(totalTabuListSize);
         tabuSequenceDeque = new ArrayDeque<>();
+        if (endedTabuSequenceDeque != null && isRestartedAfterProblemFactChanges(phaseScope, endedStartingSolverCount)) {
+            resumeTabuList(phaseScope.getScoreDirector(), endedTabuToStepIndexMap, endedTabuSequenceDeque);
+        }
+    }
+
+    private void resumeTabuList(ScoreDirector<Solution_> scoreDirector,
+            Map<Object, Integer> endedTabuToStepIndexMap, Deque<Object> endedTabuSequenceDeque) {
+        // From the oldest to the newest tabu, just like adjustTabuList()
+        for (Object endedTabu : endedTabuSequenceDeque) {
+            Object tabu;
+            try {
+                tabu = rebaseTabu(endedTabu, scoreDirector);
+            } catch (IllegalArgumentException | IllegalStateException | UnsupportedOperationException e) {
+                // For example, it has no planning id or it is a custom move that does not implement rebase()
+                logger.trace("{}    Tabu ({}) cannot be rebased, so it is not kept.", logIndentation, endedTabu, e);
+                continue;
+            }
+            if (tabu == null && endedTabu != null) {
+                // A problem fact change removed it
+                continue;
+            }
+            // Negative step indexes, so the step index count continues where the previous run stopped
+            int tabuStepIndex = endedTabuToStepIndexMap.get(endedTabu) - endedNextStepIndex;
+            if (tabuToStepIndexMap.containsKey(tabu)) {
+                tabuSequenceDeque.remove(tabu);
+            }
+            tabuToStepIndexMap.put(tabu, tabuStepIndex);
+            tabuSequenceDeque.add(tabu);
+        }
+        logger.debug("{}    Kept {} of {} tabus after the problem fact changes.",
+                logIndentation, tabuSequenceDeque.size(), endedTabuSequenceDeque.size());
+    }
+
+    /**
+     * Look up the tabu in the working solution of the restarted solver.
+     *
+     * @param tabu sometimes null, a tabu returned by {@link #findNewTabu(LocalSearchStepScope)} in the previous run
+     * @param destinationScoreDirector never null
+     * @return null if tabu is null or if it no longer exists in the working solution
+     */
+    protected Object rebaseTabu(Object tabu, ScoreDirector<Solution_> destinationScoreDirector) {
+        return destinationScoreDirector.lookUpWorkingObjectOrReturnNull(tabu);
     }
 
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
-        tabuToStepIndexMap = null;
-        tabuSequenceDeque = null;
+        // The tabuToStepIndexMap and tabuSequenceDeque are kept for a restart after problem fact changes
+        endedStartingSolverCount = phaseScope.getSolverScope().getStartingSolverCount();
+        endedNextStepIndex = phaseScope.getNextStepIndex();
         workingTabuSize = -1;
         workingFadingTabuSize = -1;
     }
@@ -139,7 +194,7 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
     @Override
     public boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope) {
         int maximumTabuStepIndex = locateMaximumTabStepIndex(moveScope);
-        if (maximumTabuStepIndex < 0) {
+        if (maximumTabuStepIndex == Integer.MIN_VALUE) {
             // The move isn't tabu at all
             return true;
         }
@@ -175,7 +230,8 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
 
     private int locateMaximumTabStepIndex(LocalSearchMoveScope<Solution_> moveScope) {
         Collection<? extends Object> checkingTabus = findTabu(moveScope);
-        int maximumTabuStepIndex = -1;
+        // A tabu kept after problem fact changes has a negative step index
+        int maximumTabuStepIndex = Integer.MIN_VALUE;
         for (Object checkingTabu : checkingTabus) {
             Integer tabuStepIndexInteger = tabuToStepIndexMap.get(checkingTabu);
             if (tabuStepIndexInteger != null) {
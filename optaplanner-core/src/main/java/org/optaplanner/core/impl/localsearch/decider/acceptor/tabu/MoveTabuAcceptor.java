@@ -19,6 +19,7 @@ package org.optaplanner.core.impl.localsearch.decider.acceptor.tabu;
 import java.util.Collection;
 import java.util.Collections;
 
+import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
@@ -55,4 +56,9 @@ public class MoveTabuAcceptor<Solution_> extends AbstractTabuAcceptor<Solution_>
         return Collections.singletonList(tabuMove);
     }
 
+    @Override
+    protected Object rebaseTabu(Object tabu, ScoreDirector<Solution_> destinationScoreDirector) {
+        return ((Move<Solution_>) tabu).rebase(destinationScoreDirector);
+    }
+
 }
@@ -17,6 +17,8 @@
 package org.optaplanner.core.impl.partitionedsearch;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.concurrent.ExecutorService;
@@ -26,8 +28,10 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.solver.event.SolverEventListener;
 import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.heuristic.move.CompositeMove;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.partitionedsearch.event.PartitionedSearchPhaseLifecycleListener;
 import org.optaplanner.core.impl.partitionedsearch.partitioner.SolutionPartitioner;
@@ -39,6 +43,7 @@ import org.optaplanner.core.impl.phase.AbstractPhase;
 import org.optaplanner.core.impl.phase.Phase;
 import org.optaplanner.core.impl.phase.PhaseFactory;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.AbstractSolver;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecallerFactory;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
@@ -59,17 +64,25 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
     protected final SolutionPartitioner<Solution_> solutionPartitioner;
     protected final ThreadFactory threadFactory;
     protected final Integer runnablePartThreadLimit;
+    protected final int roundCountLimit;
+    protected final Long partitionChangeBatchWindowMillis;
 
     protected final List<PhaseConfig> phaseConfigList;
     protected final HeuristicConfigPolicy<Solution_> configPolicy;
+    protected final MergePhaseTermination<Solution_> mergePhaseTermination;
+    protected final List<Phase<Solution_>> mergePhaseList;
 
     private DefaultPartitionedSearchPhase(Builder<Solution_> builder) {
         super(builder);
         solutionPartitioner = builder.solutionPartitioner;
         threadFactory = builder.threadFactory;
         runnablePartThreadLimit = builder.runnablePartThreadLimit;
+        roundCountLimit = builder.roundCountLimit;
+        partitionChangeBatchWindowMillis = builder.partitionChangeBatchWindowMillis;
         phaseConfigList = builder.phaseConfigList;
         configPolicy = builder.configPolicy;
+        mergePhaseTermination = builder.mergePhaseTermination;
+        mergePhaseList = builder.mergePhaseList;
     }
 
     @Override
@@ -77,6 +90,12 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
         return "Partitioned Search";
     }
 
+    @Override
+    public void setSolver(AbstractSolver<Solution_> solver) {
+        super.setSolver(solver);
+        mergePhaseList.forEach(mergePhase -> ((AbstractPhase<Solution_>) mergePhase).setSolver(solver));
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -84,35 +103,81 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
     @Override
     public void solve(SolverScope<Solution_> solverScope) {
         PartitionedSearchPhaseScope<Solution_> phaseScope = new PartitionedSearchPhaseScope<>(solverScope);
+        int roundIndex = 0;
         List<Solution_> partList = solutionPartitioner.splitWorkingSolution(
-                solverScope.getScoreDirector(), runnablePartThreadLimit);
-        int partCount = partList.size();
-        phaseScope.setPartCount(partCount);
+                solverScope.getScoreDirector(), runnablePartThreadLimit, roundIndex);
+        phaseScope.setPartCount(partList.size());
         phaseStarted(phaseScope);
-        ExecutorService executor = createThreadPoolExecutor(partCount);
+        ThreadPoolExecutor executor = createThreadPoolExecutor(solverScope, partList.size());
         ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination =
                 new ChildThreadPlumbingTermination<>();
-        PartitionQueue<Solution_> partitionQueue = new PartitionQueue<>(partCount);
         Semaphore runnablePartThreadSemaphore = runnablePartThreadLimit == null ? null
                 : new Semaphore(runnablePartThreadLimit, true);
+        // The partition solvers are reused by every round, so their phases and score directors are built only once
+        List<PartitionSolver<Solution_>> partitionSolverList = new ArrayList<>(partList.size());
+        try {
+            while (true) {
+                solveRound(phaseScope, partList, executor, partitionSolverList,
+                        childThreadPlumbingTermination, runnablePartThreadSemaphore);
+                if (!phaseTermination.isPhaseTerminated(phaseScope)) {
+                    runMergePhases(solverScope);
+                }
+                roundIndex++;
+                phaseScope.setRoundCount(roundIndex);
+                if (roundIndex >= roundCountLimit || phaseTermination.isPhaseTerminated(phaseScope)) {
+                    break;
+                }
+                // The next round starts from the best solution, which might differ from the working solution
+                solverScope.setWorkingSolutionFromBestSolution();
+                partList = solutionPartitioner.splitWorkingSolution(
+                        solverScope.getScoreDirector(), runnablePartThreadLimit, roundIndex);
+                phaseScope.setPartCount(partList.size());
+                growThreadPoolExecutor(executor, partList.size());
+            }
+        } finally {
+            // In case one of the partition threads threw an Exception, it is propagated here
+            // but the other partition threads are not aware of the failure and may continue solving for a long time,
+            // so we need to ask them to terminate. In case no exception was thrown, this does nothing.
+            childThreadPlumbingTermination.terminateChildren();
+            ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Partitioned Search");
+            partitionSolverList.forEach(PartitionSolver::close);
+        }
+        phaseEnded(phaseScope);
+    }
+
+    private void solveRound(PartitionedSearchPhaseScope<Solution_> phaseScope, List<Solution_> partList,
+            ExecutorService executor, List<PartitionSolver<Solution_>> partitionSolverList,
+            ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination,
+            Semaphore runnablePartThreadSemaphore) {
+        SolverScope<Solution_> solverScope = phaseScope.getSolverScope();
+        int partCount = partList.size();
+        while (partitionSolverList.size() < partCount) {
+            partitionSolverList.add(buildPartitionSolver(
+                    childThreadPlumbingTermination, runnablePartThreadSemaphore, solverScope));
+        }
+        PartitionQueue<Solution_> partitionQueue = new PartitionQueue<>(partCount);
+        List<SolverEventListener<Solution_>> eventListenerList = new ArrayList<>(partCount);
         try {
             for (ListIterator<Solution_> it = partList.listIterator(); it.hasNext();) {
                 int partIndex = it.nextIndex();
                 Solution_ part = it.next();
-                PartitionSolver<Solution_> partitionSolver = buildPartitionSolver(
-                        childThreadPlumbingTermination, runnablePartThreadSemaphore, solverScope);
-                partitionSolver.addEventListener(event -> {
+                PartitionSolver<Solution_> partitionSolver = partitionSolverList.get(partIndex);
+                SolverEventListener<Solution_> eventListener = event -> {
                     InnerScoreDirector<Solution_, ?> childScoreDirector =
                             partitionSolver.solverScope.getScoreDirector();
                     PartitionChangeMove<Solution_> move = PartitionChangeMove.createMove(childScoreDirector, partIndex);
                     InnerScoreDirector<Solution_, ?> parentScoreDirector = solverScope.getScoreDirector();
                     move = move.rebase(parentScoreDirector);
                     partitionQueue.addMove(partIndex, move);
-                });
+                };
+                partitionSolver.addEventListener(eventListener);
+                eventListenerList.add(eventListener);
                 executor.submit(() -> {
                     try {
+                        // A reused partition solver still counts the score calculations of the previous rounds
+                        long previousCalculationCount = partitionSolver.getScoreCalculationCount();
                         partitionSolver.solve(part);
-                        long partCalculationCount = partitionSolver.getScoreCalculationCount();
+                        long partCalculationCount = partitionSolver.getScoreCalculationCount() - previousCalculationCount;
                         partitionQueue.addFinish(partIndex, partCalculationCount);
                     } catch (Throwable throwable) {
                         // Any Exception or even Error that happens here (on a partition thread) must be stored
@@ -123,30 +188,55 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
                     }
                 });
             }
-            for (PartitionChangeMove<Solution_> step : partitionQueue) {
-                PartitionedSearchStepScope<Solution_> stepScope = new PartitionedSearchStepScope<>(phaseScope);
-                stepStarted(stepScope);
-                stepScope.setStep(step);
-                if (logger.isDebugEnabled()) {
-                    stepScope.setStepString(step.toString());
+            if (partitionChangeBatchWindowMillis == null) {
+                for (PartitionChangeMove<Solution_> step : partitionQueue) {
+                    solveStep(phaseScope, step, childThreadPlumbingTermination);
+                }
+            } else {
+                for (Iterator<List<PartitionChangeMove<Solution_>>> it =
+                        partitionQueue.batchIterator(partitionChangeBatchWindowMillis); it.hasNext();) {
+                    solveStep(phaseScope, CompositeMove.buildMove(it.next()), childThreadPlumbingTermination);
                 }
-                doStep(stepScope);
-                stepEnded(stepScope);
-                phaseScope.setLastCompletedStepScope(stepScope);
             }
             phaseScope.addChildThreadsScoreCalculationCount(partitionQueue.getPartsCalculationCount());
         } finally {
-            // In case one of the partition threads threw an Exception, it is propagated here
-            // but the other partition threads are not aware of the failure and may continue solving for a long time,
-            // so we need to ask them to terminate. In case no exception was thrown, this does nothing.
+            for (int i = 0; i < eventListenerList.size(); i++) {
+                partitionSolverList.get(i).removeEventListener(eventListenerList.get(i));
+            }
+        }
+    }
+
+    private void solveStep(PartitionedSearchPhaseScope<Solution_> phaseScope, Move<Solution_> step,
+            ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination) {
+        PartitionedSearchStepScope<Solution_> stepScope = new PartitionedSearchStepScope<>(phaseScope);
+        stepStarted(stepScope);
+        stepScope.setStep(step);
+        if (logger.isDebugEnabled()) {
+            stepScope.setStepString(step.toString());
+        }
+        doStep(stepScope);
+        stepEnded(stepScope);
+        phaseScope.setLastCompletedStepScope(stepScope);
+        // The part threads cannot evaluate the step based terminations of this phase, because only this thread
+        // does the steps, so it terminates them instead. Any remaining partition changes are still applied.
+        if (phaseTermination.isPhaseTerminated(phaseScope)) {
             childThreadPlumbingTermination.terminateChildren();
-            ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Partitioned Search");
         }
-        phaseEnded(phaseScope);
     }
 
-    private ExecutorService createThreadPoolExecutor(int partCount) {
-        ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(partCount, threadFactory);
+    private void runMergePhases(SolverScope<Solution_> solverScope) {
+        for (Iterator<Phase<Solution_>> it = mergePhaseList.iterator(); it.hasNext();) {
+            Phase<Solution_> mergePhase = it.next();
+            mergePhase.solve(solverScope);
+            if (it.hasNext()) {
+                solverScope.setWorkingSolutionFromBestSolution();
+            }
+        }
+    }
+
+    private ThreadPoolExecutor createThreadPoolExecutor(SolverScope<Solution_> solverScope, int partCount) {
+        ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(partCount,
+                solverScope.trackChildThreads(threadFactory));
         if (threadPoolExecutor.getMaximumPoolSize() < partCount) {
             throw new IllegalStateException(
                     "The threadPoolExecutor's maximumPoolSize (" + threadPoolExecutor.getMaximumPoolSize()
@@ -158,6 +248,14 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
         return threadPoolExecutor;
     }
 
+    private void growThreadPoolExecutor(ThreadPoolExecutor threadPoolExecutor, int partCount) {
+        // Every partition needs its own thread, for the same reason as in createThreadPoolExecutor()
+        if (threadPoolExecutor.getMaximumPoolSize() < partCount) {
+            threadPoolExecutor.setMaximumPoolSize(partCount);
+            threadPoolExecutor.setCorePoolSize(partCount);
+        }
+    }
+
     public PartitionSolver<Solution_> buildPartitionSolver(
             ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination,
             Semaphore runnablePartThreadSemaphore, SolverScope<Solution_> solverScope) {
@@ -182,14 +280,40 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
 
     protected void doStep(PartitionedSearchStepScope<Solution_> stepScope) {
         Move<Solution_> nextStep = stepScope.getStep();
-        nextStep.doMoveOnly(stepScope.getScoreDirector());
+        if (nextStep instanceof CompositeMove) {
+            // A batch of partition changes: apply them all, then calculate the score once, incrementally
+            for (Move<Solution_> partitionChangeMove : ((CompositeMove<Solution_>) nextStep).getMoves()) {
+                partitionChangeMove.doMoveOnly(stepScope.getScoreDirector());
+            }
+        } else {
+            nextStep.doMoveOnly(stepScope.getScoreDirector());
+        }
         calculateWorkingStepScore(stepScope, nextStep);
         solver.getBestSolutionRecaller().processWorkingSolutionDuringStep(stepScope);
     }
 
+    @Override
+    public void solvingStarted(SolverScope<Solution_> solverScope) {
+        super.solvingStarted(solverScope);
+        for (Phase<Solution_> mergePhase : mergePhaseList) {
+            mergePhase.solvingStarted(solverScope);
+        }
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        for (Phase<Solution_> mergePhase : mergePhaseList) {
+            mergePhase.solvingEnded(solverScope);
+        }
+        super.solvingEnded(solverScope);
+    }
+
     @Override
     public void phaseStarted(PartitionedSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
+        if (mergePhaseTermination != null) {
+            mergePhaseTermination.phaseStarted(phaseScope);
+        }
     }
 
     @Override
@@ -215,9 +339,13 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
     @Override
     public void phaseEnded(PartitionedSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
+        if (mergePhaseTermination != null) {
+            mergePhaseTermination.phaseEnded(phaseScope);
+        }
         phaseScope.endingNow();
         logger.info("{}Partitioned Search phase ({}) ended: time spent ({}), best score ({}),"
-                + " score calculation speed ({}/sec), step total ({}), partCount ({}), runnablePartThreadLimit ({}).",
+                + " score calculation speed ({}/sec), step total ({}), partCount ({}), round total ({}),"
+                + " runnablePartThreadLimit ({}).",
                 logIndentation,
                 phaseIndex,
                 phaseScope.calculateSolverTimeMillisSpentUpToNow(),
@@ -225,6 +353,7 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
                 phaseScope.getPhaseScoreCalculationSpeed(),
                 phaseScope.getNextStepIndex(),
                 phaseScope.getPartCount(),
+                phaseScope.getRoundCount(),
                 runnablePartThreadLimit);
     }
 
@@ -237,6 +366,11 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
         private final List<PhaseConfig> phaseConfigList;
         private final HeuristicConfigPolicy<Solution_> configPolicy;
 
+        private int roundCountLimit = 1;
+        private Long partitionChangeBatchWindowMillis = null;
+        private MergePhaseTermination<Solution_> mergePhaseTermination = null;
+        private List<Phase<Solution_>> mergePhaseList = Collections.emptyList();
+
         public Builder(int phaseIndex, String logIndentation, Termination<Solution_> phaseTermination,
                 SolutionPartitioner<Solution_> solutionPartitioner, ThreadFactory threadFactory,
                 Integer runnablePartThreadLimit, List<PhaseConfig> phaseConfigList,
@@ -249,6 +383,24 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
             this.configPolicy = configPolicy;
         }
 
+        public void setRoundCountLimit(int roundCountLimit) {
+            this.roundCountLimit = roundCountLimit;
+        }
+
+        public void setPartitionChangeBatchWindowMillis(Long partitionChangeBatchWindowMillis) {
+            this.partitionChangeBatchWindowMillis = partitionChangeBatchWindowMillis;
+        }
+
+        /**
+         * @param mergePhaseTermination never null, the solver termination of every merge phase
+         * @param mergePhaseList never null
+         */
+        public void setMergePhases(MergePhaseTermination<Solution_> mergePhaseTermination,
+                List<Phase<Solution_>> mergePhaseList) {
+            this.mergePhaseTermination = mergePhaseTermination;
+            this.mergePhaseList = List.copyOf(mergePhaseList);
+        }
+
         @Override
         public DefaultPartitionedSearchPhase<Solution_> build() {
             return new DefaultPartitionedSearchPhase<>(this);
@@ -19,7 +19,9 @@ package org.optaplanner.core.impl.partitionedsearch;
 import static org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig.ACTIVE_THREAD_COUNT_AUTO;
 import static org.optaplanner.core.config.partitionedsearch.PartitionedSearchPhaseConfig.ACTIVE_THREAD_COUNT_UNLIMITED;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ThreadFactory;
 
@@ -30,8 +32,12 @@ import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.config.util.ConfigUtils;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import org.optaplanner.core.impl.partitionedsearch.partitioner.NearbySolutionPartitioner;
 import org.optaplanner.core.impl.partitionedsearch.partitioner.SolutionPartitioner;
 import org.optaplanner.core.impl.phase.AbstractPhaseFactory;
+import org.optaplanner.core.impl.phase.Phase;
+import org.optaplanner.core.impl.phase.PhaseFactory;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 import org.optaplanner.core.impl.solver.termination.Termination;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
@@ -69,6 +75,23 @@ public class DefaultPartitionedSearchPhaseFactory<Solution_>
                 resolvedActiveThreadCount,
                 phaseConfigList_,
                 phaseConfigPolicy.createChildThreadConfigPolicy(ChildThreadType.PART_THREAD));
+        Integer roundCountLimit = phaseConfig.getRoundCountLimit();
+        if (roundCountLimit != null) {
+            if (roundCountLimit < 1) {
+                throw new IllegalArgumentException("The roundCountLimit (" + roundCountLimit
+                        + ") must be at least 1.");
+            }
+            builder.setRoundCountLimit(roundCountLimit);
+        }
+        Long partitionChangeBatchWindowMillis = phaseConfig.getPartitionChangeBatchWindowMillis();
+        if (partitionChangeBatchWindowMillis != null && partitionChangeBatchWindowMillis < 0L) {
+            throw new IllegalArgumentException("The partitionChangeBatchWindowMillis ("
+                    + partitionChangeBatchWindowMillis + ") cannot be negative.");
+        }
+        builder.setPartitionChangeBatchWindowMillis(partitionChangeBatchWindowMillis);
+        MergePhaseTermination<Solution_> mergePhaseTermination = new MergePhaseTermination<>(phaseTermination);
+        builder.setMergePhases(mergePhaseTermination,
+                buildMergePhaseList(solverConfigPolicy, bestSolutionRecaller, mergePhaseTermination));
 
         EnvironmentMode environmentMode = phaseConfigPolicy.getEnvironmentMode();
         if (environmentMode.isNonIntrusiveFullAsserted()) {
@@ -81,8 +104,31 @@ public class DefaultPartitionedSearchPhaseFactory<Solution_>
         return builder.build();
     }
 
+    private List<Phase<Solution_>> buildMergePhaseList(HeuristicConfigPolicy<Solution_> solverConfigPolicy,
+            BestSolutionRecaller<Solution_> bestSolutionRecaller, MergePhaseTermination<Solution_> mergePhaseTermination) {
+        List<PhaseConfig> mergePhaseConfigList = phaseConfig.getMergePhaseConfigList();
+        if (ConfigUtils.isEmptyCollection(mergePhaseConfigList)) {
+            return Collections.emptyList();
+        }
+        List<Phase<Solution_>> mergePhaseList = new ArrayList<>(mergePhaseConfigList.size());
+        int mergePhaseIndex = 0;
+        for (PhaseConfig mergePhaseConfig : mergePhaseConfigList) {
+            // The merge phases stop when this partitioned search phase terminates
+            Phase<Solution_> mergePhase = PhaseFactory.<Solution_> create(mergePhaseConfig)
+                    .buildPhase(mergePhaseIndex, solverConfigPolicy, bestSolutionRecaller, mergePhaseTermination);
+            mergePhaseList.add(mergePhase);
+            mergePhaseIndex++;
+        }
+        return mergePhaseList;
+    }
+
     private SolutionPartitioner<Solution_> buildSolutionPartitioner() {
         if (phaseConfig.getSolutionPartitionerClass() != null) {
+            if (phaseConfig.getNearbyDistanceMeterClass() != null) {
+                throw new IllegalArgumentException("The solutionPartitionerClass ("
+                        + phaseConfig.getSolutionPartitionerClass() + ") and the nearbyDistanceMeterClass ("
+                        + phaseConfig.getNearbyDistanceMeterClass() + ") cannot be both configured.");
+            }
             SolutionPartitioner<?> solutionPartitioner =
                     ConfigUtils.newInstance(phaseConfig, "solutionPartitionerClass", phaseConfig.getSolutionPartitionerClass());
             ConfigUtils.applyCustomProperties(solutionPartitioner, "solutionPartitionerClass",
@@ -95,8 +141,14 @@ public class DefaultPartitionedSearchPhaseFactory<Solution_>
                                 + "), then there can be no solutionPartitionerCustomProperties ("
                                 + phaseConfig.getSolutionPartitionerCustomProperties() + ") either.");
             }
-            // TODO Implement generic partitioner
-            throw new UnsupportedOperationException();
+            if (phaseConfig.getNearbyDistanceMeterClass() == null) {
+                throw new IllegalArgumentException("The partitionedSearch phase needs either a solutionPartitionerClass ("
+                        + phaseConfig.getSolutionPartitionerClass() + ") or a nearbyDistanceMeterClass ("
+                        + phaseConfig.getNearbyDistanceMeterClass() + ") to split the working solution.");
+            }
+            NearbyDistanceMeter<?, ?> nearbyDistanceMeter =
+                    ConfigUtils.newInstance(phaseConfig, "nearbyDistanceMeterClass", phaseConfig.getNearbyDistanceMeterClass());
+            return new NearbySolutionPartitioner<>(nearbyDistanceMeter);
         }
     }
 
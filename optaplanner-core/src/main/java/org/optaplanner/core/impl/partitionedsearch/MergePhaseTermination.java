@@ -0,0 +1,121 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.solver.termination.AbstractTermination;
+import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.solver.thread.ChildThreadType;
+
+/**
+ * The solver termination of the merge phases of a {@link PartitionedSearchPhase}.
+ * <p>
+ * The merge phases terminate when the partitioned search phase terminates.
+ * Its phase termination already includes the solver termination,
+ * and it is measured against the partitioned search phase's own phase scope,
+ * so phase-only terminations (such as a step count limit) and phase time limits work as expected.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class MergePhaseTermination<Solution_> extends AbstractTermination<Solution_> {
+
+    private final Termination<Solution_> partitionedSearchPhaseTermination;
+
+    private AbstractPhaseScope<Solution_> partitionedSearchPhaseScope = null;
+
+    public MergePhaseTermination(Termination<Solution_> partitionedSearchPhaseTermination) {
+        this.partitionedSearchPhaseTermination = partitionedSearchPhaseTermination;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    // Only the phase events of the partitioned search phase itself are received,
+    // the partitionedSearchPhaseTermination already gets all its lifecycle events from that phase
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        partitionedSearchPhaseScope = phaseScope;
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        partitionedSearchPhaseScope = null;
+    }
+
+    // ************************************************************************
+    // Terminated methods
+    // ************************************************************************
+
+    @Override
+    public boolean isSolverTerminated(SolverScope<Solution_> solverScope) {
+        return partitionedSearchPhaseTermination.isPhaseTerminated(getPartitionedSearchPhaseScope());
+    }
+
+    @Override
+    public boolean isPhaseTerminated(AbstractPhaseScope<Solution_> phaseScope) {
+        throw new UnsupportedOperationException(
+                getClass().getSimpleName() + " can only be used for solver termination.");
+    }
+
+    // ************************************************************************
+    // Time gradient methods
+    // ************************************************************************
+
+    @Override
+    public double calculateSolverTimeGradient(SolverScope<Solution_> solverScope) {
+        return partitionedSearchPhaseTermination.calculatePhaseTimeGradient(getPartitionedSearchPhaseScope());
+    }
+
+    @Override
+    public double calculatePhaseTimeGradient(AbstractPhaseScope<Solution_> phaseScope) {
+        throw new UnsupportedOperationException(
+                getClass().getSimpleName() + " can only be used for solver termination.");
+    }
+
+    private AbstractPhaseScope<Solution_> getPartitionedSearchPhaseScope() {
+        if (partitionedSearchPhaseScope == null) {
+            throw new IllegalStateException("Impossible state: the merge phases run outside of their "
+                    + "partitioned search phase (" + partitionedSearchPhaseTermination + ").");
+        }
+        return partitionedSearchPhaseScope;
+    }
+
+    // ************************************************************************
+    // Other methods
+    // ************************************************************************
+
+    @Override
+    public Termination<Solution_> createChildThreadTermination(SolverScope<Solution_> solverScope,
+            ChildThreadType childThreadType) {
+        if (childThreadType == ChildThreadType.PART_THREAD) {
+            // A merge phase that is itself a partitioned search phase
+            return partitionedSearchPhaseTermination.createChildThreadTermination(solverScope, childThreadType);
+        } else {
+            throw new IllegalStateException("The childThreadType (" + childThreadType + ") is not implemented.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MergePhase(" + partitionedSearchPhaseTermination + ")";
+    }
+
+}
@@ -104,10 +104,17 @@ public class PartitionSolver<Solution_> extends AbstractSolver<Solution_> {
     @Override
     public void solvingEnded(SolverScope<Solution_> solverScope) {
         super.solvingEnded(solverScope);
-        solverScope.getScoreDirector().close();
         // TODO log?
     }
 
+    /**
+     * Closes the score director, after which this instance can no longer {@link #solve(Object) solve}.
+     * Until then, it can solve multiple partitions one after the other.
+     */
+    public void close() {
+        solverScope.getScoreDirector().close();
+    }
+
     public long getScoreCalculationCount() {
         return solverScope.getScoreCalculationCount();
     }
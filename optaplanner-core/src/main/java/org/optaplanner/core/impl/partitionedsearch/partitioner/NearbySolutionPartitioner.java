@@ -0,0 +1,345 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch.partitioner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.inverserelation.InverseRelationShadowVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Splits the planning entities into balanced partitions of planning entities that are near each other,
+ * according to a {@link NearbyDistanceMeter} between planning entities, so few neighbours end up in different partitions.
+ * <p>
+ * It connects every planning entity to its nearest neighbours and grows every partition from a seed entity
+ * by repeatedly adding the unassigned entity nearest to that partition, until the partition has its share of entities.
+ * The next seed is an unassigned neighbour of the previous partition, so the partitions lie next to each other.
+ * Every round of a partitioned search that repartitions starts from another seed, which moves the borders.
+ * <p>
+ * The number of partitions is the runnablePartThreadLimit (or the number of available processors if it's unlimited),
+ * so every runnable part thread gets an equally large partition.
+ * <p>
+ * Every partition is a planning clone of the working solution
+ * with only its own planning entities in its planning entity collections.
+ * This requires a {@link List} for every planning entity collection property.
+ * Only the planning entities are split: every partition keeps all planning values and problem facts.
+ * So a partition does not see the planning entities of the other partitions,
+ * and neither do its constraints that span multiple planning entities, such as a capacity constraint.
+ * The merged solution can therefore break hard constraints that every partition satisfies on its own.
+ * Use merge phases or a custom {@link SolutionPartitioner} that also splits the planning values
+ * if such constraints matter.
+ * <p>
+ * This partitioner supports only one planning entity class, without chained planning variables
+ * or inverse relation shadow variables, because those would refer to planning entities of other partitions.
+ * <p>
+ * Measuring the distances is quadratic in the number of planning entities.
+ * Later rounds of the same partitioned search phase reuse the nearest neighbours of the first round,
+ * so the {@link NearbyDistanceMeter} must not depend on the planning variables.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class NearbySolutionPartitioner<Solution_> implements SolutionPartitioner<Solution_> {
+
+    public static final int DEFAULT_NEIGHBOR_COUNT = 10;
+
+    private final NearbyDistanceMeter<Object, Object> nearbyDistanceMeter;
+    private final int neighborCount;
+
+    private NeighborGraph cachedNeighborGraph = null;
+
+    public NearbySolutionPartitioner(NearbyDistanceMeter<?, ?> nearbyDistanceMeter) {
+        this(nearbyDistanceMeter, DEFAULT_NEIGHBOR_COUNT);
+    }
+
+    /**
+     * @param nearbyDistanceMeter never null, measures the distance from one planning entity to another one
+     * @param neighborCount {@code >= 1}, the number of nearest neighbours that every planning entity is connected to
+     */
+    public NearbySolutionPartitioner(NearbyDistanceMeter<?, ?> nearbyDistanceMeter, int neighborCount) {
+        if (neighborCount < 1) {
+            throw new IllegalArgumentException("The neighborCount (" + neighborCount + ") must be at least 1.");
+        }
+        this.nearbyDistanceMeter = (NearbyDistanceMeter<Object, Object>) nearbyDistanceMeter;
+        this.neighborCount = neighborCount;
+    }
+
+    @Override
+    public List<Solution_> splitWorkingSolution(ScoreDirector<Solution_> scoreDirector, Integer runnablePartThreadLimit) {
+        return splitWorkingSolution(scoreDirector, runnablePartThreadLimit, 0);
+    }
+
+    @Override
+    public List<Solution_> splitWorkingSolution(ScoreDirector<Solution_> scoreDirector, Integer runnablePartThreadLimit,
+            int roundIndex) {
+        SolutionDescriptor<Solution_> solutionDescriptor =
+                ((InnerScoreDirector<Solution_, ?>) scoreDirector).getSolutionDescriptor();
+        assertSupported(solutionDescriptor);
+        Solution_ workingSolution = scoreDirector.getWorkingSolution();
+        List<Object> entityList = solutionDescriptor.getEntityList(workingSolution);
+        int partCount = runnablePartThreadLimit == null ? Runtime.getRuntime().availableProcessors()
+                : runnablePartThreadLimit;
+        partCount = Math.max(1, Math.min(partCount, entityList.size()));
+        int[] entityPartIndexes = assignPartIndexes(entityList, partCount, roundIndex);
+        List<Solution_> partList = new ArrayList<>(partCount);
+        for (int partIndex = 0; partIndex < partCount; partIndex++) {
+            partList.add(buildPart(solutionDescriptor, workingSolution, entityPartIndexes, partIndex));
+        }
+        return partList;
+    }
+
+    private void assertSupported(SolutionDescriptor<Solution_> solutionDescriptor) {
+        Collection<EntityDescriptor<Solution_>> entityDescriptors = solutionDescriptor.getEntityDescriptors();
+        if (entityDescriptors.size() > 1) {
+            throw new IllegalStateException("The solutionClass (" + solutionDescriptor.getSolutionClass()
+                    + ") has multiple planning entity classes (" + solutionDescriptor.getEntityClassSet()
+                    + "), so the " + getClass().getSimpleName() + " cannot measure the distance between them.\n"
+                    + "Maybe configure a custom solutionPartitionerClass instead.");
+        }
+        for (EntityDescriptor<Solution_> entityDescriptor : entityDescriptors) {
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getGenuineVariableDescriptorList()) {
+                if (variableDescriptor.isChained()) {
+                    throw new IllegalStateException("The planning variable ("
+                            + variableDescriptor.getSimpleEntityAndVariableName()
+                            + ") is chained, so the " + getClass().getSimpleName()
+                            + " cannot split its chains into partitions.\n"
+                            + "Maybe configure a custom solutionPartitionerClass instead.");
+                }
+            }
+            for (ShadowVariableDescriptor<Solution_> shadowVariableDescriptor : entityDescriptor
+                    .getShadowVariableDescriptors()) {
+                if (shadowVariableDescriptor instanceof InverseRelationShadowVariableDescriptor) {
+                    throw new IllegalStateException("The shadow variable ("
+                            + shadowVariableDescriptor.getSimpleEntityAndVariableName()
+                            + ") is an inverse relation shadow variable, so the " + getClass().getSimpleName()
+                            + " cannot split it into partitions.\n"
+                            + "Maybe configure a custom solutionPartitionerClass instead.");
+                }
+            }
+        }
+    }
+
+    /**
+     * @param entityList never null
+     * @param partCount {@code 1 <= partCount <= max(1, entityList.size())}
+     * @param roundIndex {@code >= 0}
+     * @return never null, the partIndex of every entity in the entityList
+     */
+    protected int[] assignPartIndexes(List<Object> entityList, int partCount, int roundIndex) {
+        int entityCount = entityList.size();
+        int[] entityPartIndexes = new int[entityCount];
+        if (entityCount == 0) {
+            return entityPartIndexes;
+        }
+        Arrays.fill(entityPartIndexes, -1);
+        if (roundIndex == 0 || cachedNeighborGraph == null || cachedNeighborGraph.getEntityCount() != entityCount) {
+            // The planning entities are the same in every round of a partitioned search phase
+            cachedNeighborGraph = buildNeighborGraph(entityList);
+        }
+        int[][] neighborIndexesArray = cachedNeighborGraph.getNeighborIndexesArray();
+        double[][] neighborDistancesArray = cachedNeighborGraph.getNeighborDistancesArray();
+        // Move the first seed by half a partition every round, so the borders move too
+        int seedIndex = (int) ((roundIndex * ((long) entityCount / partCount / 2L + 1L)) % entityCount);
+        int assignedCount = 0;
+        for (int partIndex = 0; partIndex < partCount; partIndex++) {
+            int partSize = (entityCount - assignedCount) / (partCount - partIndex);
+            PriorityQueue<Candidate> frontier = new PriorityQueue<>(Comparator.comparingDouble(Candidate::getDistance));
+            frontier.add(new Candidate(seedIndex, 0.0));
+            int partAssignedCount = 0;
+            while (partAssignedCount < partSize) {
+                Candidate candidate = frontier.poll();
+                if (candidate == null) {
+                    // The neighbour graph is disconnected, so continue with any unassigned entity
+                    candidate = new Candidate(findUnassignedIndex(entityPartIndexes, seedIndex), 0.0);
+                }
+                int entityIndex = candidate.getEntityIndex();
+                if (entityPartIndexes[entityIndex] >= 0) {
+                    continue;
+                }
+                entityPartIndexes[entityIndex] = partIndex;
+                partAssignedCount++;
+                int[] neighborIndexes = neighborIndexesArray[entityIndex];
+                for (int i = 0; i < neighborIndexes.length; i++) {
+                    if (entityPartIndexes[neighborIndexes[i]] < 0) {
+                        frontier.add(new Candidate(neighborIndexes[i], neighborDistancesArray[entityIndex][i]));
+                    }
+                }
+            }
+            assignedCount += partAssignedCount;
+            if (assignedCount < entityCount) {
+                seedIndex = findNextSeedIndex(frontier, entityPartIndexes, seedIndex);
+            }
+        }
+        return entityPartIndexes;
+    }
+
+    private NeighborGraph buildNeighborGraph(List<Object> entityList) {
+        int entityCount = entityList.size();
+        int neighborCount_ = Math.min(neighborCount, entityCount - 1);
+        int[][] neighborIndexesArray = new int[entityCount][];
+        double[][] neighborDistancesArray = new double[entityCount][];
+        for (int i = 0; i < entityCount; i++) {
+            Object origin = entityList.get(i);
+            // Keeps the nearest neighbours, with the farthest one of those at the head
+            PriorityQueue<Candidate> nearestQueue = new PriorityQueue<>(neighborCount_ + 1,
+                    Comparator.comparingDouble(Candidate::getDistance).reversed());
+            for (int j = 0; j < entityCount; j++) {
+                if (i == j) {
+                    continue;
+                }
+                double distance = nearbyDistanceMeter.getNearbyDistance(origin, entityList.get(j));
+                nearestQueue.add(new Candidate(j, distance));
+                if (nearestQueue.size() > neighborCount_) {
+                    nearestQueue.poll();
+                }
+            }
+            neighborIndexesArray[i] = nearestQueue.stream().mapToInt(Candidate::getEntityIndex).toArray();
+            neighborDistancesArray[i] = nearestQueue.stream().mapToDouble(Candidate::getDistance).toArray();
+        }
+        return new NeighborGraph(neighborIndexesArray, neighborDistancesArray);
+    }
+
+    private static int findNextSeedIndex(PriorityQueue<Candidate> frontier, int[] entityPartIndexes, int seedIndex) {
+        // Prefer a neighbour of the previous partition
+        Candidate candidate = frontier.poll();
+        while (candidate != null) {
+            if (entityPartIndexes[candidate.getEntityIndex()] < 0) {
+                return candidate.getEntityIndex();
+            }
+            candidate = frontier.poll();
+        }
+        return findUnassignedIndex(entityPartIndexes, seedIndex);
+    }
+
+    private static int findUnassignedIndex(int[] entityPartIndexes, int startIndex) {
+        for (int i = 0; i < entityPartIndexes.length; i++) {
+            int entityIndex = (startIndex + i) % entityPartIndexes.length;
+            if (entityPartIndexes[entityIndex] < 0) {
+                return entityIndex;
+            }
+        }
+        throw new IllegalStateException("Impossible state: all entities (" + entityPartIndexes.length
+                + ") are already assigned to a partition.");
+    }
+
+    private Solution_ buildPart(SolutionDescriptor<Solution_> solutionDescriptor, Solution_ workingSolution,
+            int[] entityPartIndexes, int partIndex) {
+        Solution_ part = solutionDescriptor.getSolutionCloner().cloneSolution(workingSolution);
+        // A planning clone keeps the order of the planning entities
+        List<Object> clonedEntityList = solutionDescriptor.getEntityList(part);
+        if (clonedEntityList.size() != entityPartIndexes.length) {
+            throw new IllegalStateException("The planning clone of the workingSolution (" + workingSolution
+                    + ") has " + clonedEntityList.size() + " planning entities instead of "
+                    + entityPartIndexes.length + ".");
+        }
+        Set<Object> partEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < entityPartIndexes.length; i++) {
+            if (entityPartIndexes[i] == partIndex) {
+                partEntitySet.add(clonedEntityList.get(i));
+            }
+        }
+        for (MemberAccessor entityMemberAccessor : solutionDescriptor.getEntityMemberAccessorMap().values()) {
+            Object entity = entityMemberAccessor.executeGetter(part);
+            if (entity != null && !partEntitySet.contains(entity)) {
+                entityMemberAccessor.executeSetter(part, null);
+            }
+        }
+        for (MemberAccessor entityCollectionMemberAccessor : solutionDescriptor.getEntityCollectionMemberAccessorMap()
+                .values()) {
+            if (!List.class.isAssignableFrom(entityCollectionMemberAccessor.getType())) {
+                throw new IllegalStateException("The planningEntityCollectionProperty ("
+                        + entityCollectionMemberAccessor.getName() + ") has a type ("
+                        + entityCollectionMemberAccessor.getType() + ") that is not a " + List.class.getSimpleName()
+                        + ", so the " + getClass().getSimpleName() + " cannot partition it.\n"
+                        + "Maybe configure a custom solutionPartitionerClass instead.");
+            }
+            List<Object> entityCollection = (List<Object>) entityCollectionMemberAccessor.executeGetter(part);
+            if (entityCollection == null) {
+                continue;
+            }
+            List<Object> partEntityCollection = new ArrayList<>(partEntitySet.size());
+            for (Object entity : entityCollection) {
+                if (partEntitySet.contains(entity)) {
+                    partEntityCollection.add(entity);
+                }
+            }
+            entityCollectionMemberAccessor.executeSetter(part, partEntityCollection);
+        }
+        return part;
+    }
+
+    private static final class NeighborGraph {
+
+        private final int[][] neighborIndexesArray;
+        private final double[][] neighborDistancesArray;
+
+        private NeighborGraph(int[][] neighborIndexesArray, double[][] neighborDistancesArray) {
+            this.neighborIndexesArray = neighborIndexesArray;
+            this.neighborDistancesArray = neighborDistancesArray;
+        }
+
+        public int getEntityCount() {
+            return neighborIndexesArray.length;
+        }
+
+        public int[][] getNeighborIndexesArray() {
+            return neighborIndexesArray;
+        }
+
+        public double[][] getNeighborDistancesArray() {
+            return neighborDistancesArray;
+        }
+
+    }
+
+    private static final class Candidate {
+
+        private final int entityIndex;
+        private final double distance;
+
+        private Candidate(int entityIndex, double distance) {
+            this.entityIndex = entityIndex;
+            this.distance = distance;
+        }
+
+        public int getEntityIndex() {
+            return entityIndex;
+        }
+
+        public double getDistance() {
+            return distance;
+        }
+
+    }
+
+}
@@ -49,4 +49,23 @@ public interface SolutionPartitioner<Solution_> {
      */
     List<Solution_> splitWorkingSolution(ScoreDirector<Solution_> scoreDirector, Integer runnablePartThreadLimit);
 
+    /**
+     * As defined by {@link #splitWorkingSolution(ScoreDirector, Integer)},
+     * but called for every round of a partitioned search that repartitions.
+     * Override it to move the borders between the partitions from one round to the next one,
+     * so the planning entities near a border in one round are solved together in the next round.
+     * <p>
+     * Defaults to ignoring the roundIndex, so every round uses the same borders.
+     *
+     * @param scoreDirector never null, the {@link ScoreDirector}
+     *        which has the {@link ScoreDirector#getWorkingSolution()} that needs to be split up
+     * @param runnablePartThreadLimit null if unlimited, never negative
+     * @param roundIndex {@code >= 0}, 0 for the first round
+     * @return never null, {@link List#size()} of at least 1.
+     */
+    default List<Solution_> splitWorkingSolution(ScoreDirector<Solution_> scoreDirector, Integer runnablePartThreadLimit,
+            int roundIndex) {
+        return splitWorkingSolution(scoreDirector, runnablePartThreadLimit);
+    }
+
 }
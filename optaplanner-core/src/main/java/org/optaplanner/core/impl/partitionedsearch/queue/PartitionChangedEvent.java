@@ -17,7 +17,6 @@
 package org.optaplanner.core.impl.partitionedsearch.queue;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
-import org.optaplanner.core.impl.partitionedsearch.scope.PartitionChangeMove;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
@@ -25,35 +24,33 @@ import org.optaplanner.core.impl.partitionedsearch.scope.PartitionChangeMove;
 public final class PartitionChangedEvent<Solution_> {
 
     private final int partIndex;
-    private final long eventIndex;
     private final PartitionChangedEventType type;
-    private final PartitionChangeMove<Solution_> move;
     private final Long partCalculationCount;
     private final Throwable throwable;
 
-    public PartitionChangedEvent(int partIndex, long eventIndex, long partCalculationCount) {
+    /**
+     * Signals that the mailbox of the partition is no longer empty.
+     * The move itself stays in the mailbox, so a newer move can still replace it.
+     *
+     * @param partIndex {@code 0 <= partIndex < partCount}
+     */
+    public PartitionChangedEvent(int partIndex) {
         this.partIndex = partIndex;
-        this.eventIndex = eventIndex;
-        this.type = PartitionChangedEventType.FINISHED;
-        move = null;
-        this.partCalculationCount = partCalculationCount;
+        type = PartitionChangedEventType.MOVE;
+        partCalculationCount = null;
         throwable = null;
     }
 
-    public PartitionChangedEvent(int partIndex, long eventIndex, PartitionChangeMove<Solution_> move) {
+    public PartitionChangedEvent(int partIndex, long partCalculationCount) {
         this.partIndex = partIndex;
-        this.eventIndex = eventIndex;
-        type = PartitionChangedEventType.MOVE;
-        this.move = move;
-        partCalculationCount = null;
+        this.type = PartitionChangedEventType.FINISHED;
+        this.partCalculationCount = partCalculationCount;
         throwable = null;
     }
 
-    public PartitionChangedEvent(int partIndex, long eventIndex, Throwable throwable) {
+    public PartitionChangedEvent(int partIndex, Throwable throwable) {
         this.partIndex = partIndex;
-        this.eventIndex = eventIndex;
         type = PartitionChangedEventType.EXCEPTION_THROWN;
-        move = null;
         partCalculationCount = null;
         this.throwable = throwable;
     }
@@ -62,18 +59,10 @@ public final class PartitionChangedEvent<Solution_> {
         return partIndex;
     }
 
-    public Long getEventIndex() {
-        return eventIndex;
-    }
-
     public PartitionChangedEventType getType() {
         return type;
     }
 
-    public PartitionChangeMove<Solution_> getMove() {
-        return move;
-    }
-
     public Long getPartCalculationCount() {
         return partCalculationCount;
     }
@@ -16,14 +16,14 @@
 
 package org.optaplanner.core.impl.partitionedsearch.queue;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
@@ -32,6 +32,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Every partition has a mailbox that holds only its newest move:
+ * a newer move replaces the previous move if the consumer hasn't taken that one yet.
+ * Only a move into an empty mailbox signals the consumer, so the signals don't pile up if the partitions
+ * improve faster than the consumer can apply their moves.
+ * <p>
+ * The producers never block nor lock: they only park the consumer thread when it waits for a signal.
+ * <p>
  * This class is thread-safe.
  *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
@@ -40,49 +47,35 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PartitionQueue.class);
 
-    private BlockingQueue<PartitionChangedEvent<Solution_>> queue;
-    private Map<Integer, PartitionChangedEvent<Solution_>> moveEventMap; // Key is partIndex
-
-    // Only used by producers
-    private final Map<Integer, AtomicLong> nextEventIndexMap;
+    private final AtomicReferenceArray<PartitionChangeMove<Solution_>> moveMailbox; // Index is partIndex
+    private final Queue<PartitionChangedEvent<Solution_>> eventQueue = new ConcurrentLinkedQueue<>();
+    private volatile Thread consumerThread = null;
 
     // Only used by consumer
     private int openPartCount;
     private long partsCalculationCount;
-    private final Map<Integer, Long> processedEventIndexMap; // Key is partIndex
+    private Throwable relayedThrowable = null;
+    private int relayedThrowablePartIndex = -1;
 
     public PartitionQueue(int partCount) {
-        // TODO partCount * 100 is pulled from thin air
-        queue = new ArrayBlockingQueue<>(partCount * 100);
-        moveEventMap = new ConcurrentHashMap<>(partCount);
-        Map<Integer, AtomicLong> nextEventIndexMap = new HashMap<>(partCount);
-        for (int i = 0; i < partCount; i++) {
-            nextEventIndexMap.put(i, new AtomicLong(0));
-        }
-        this.nextEventIndexMap = Collections.unmodifiableMap(nextEventIndexMap);
+        moveMailbox = new AtomicReferenceArray<>(partCount);
         openPartCount = partCount;
         partsCalculationCount = 0L;
-        // HashMap because only the consumer thread uses it
-        processedEventIndexMap = new HashMap<>(partCount);
-        for (int i = 0; i < partCount; i++) {
-            processedEventIndexMap.put(i, -1L);
-        }
     }
 
     /**
      * This method is thread-safe.
-     * The previous move(s) for this partIndex (if it hasn't been consumed yet), will be skipped during iteration.
+     * The previous move for this partIndex (if it hasn't been consumed yet), will be skipped during iteration.
      *
      * @param partIndex {@code 0 <= partIndex < partCount}
      * @param move never null
-     * @see BlockingQueue#add(Object)
      */
     public void addMove(int partIndex, PartitionChangeMove<Solution_> move) {
-        long eventIndex = nextEventIndexMap.get(partIndex).getAndIncrement();
-        PartitionChangedEvent<Solution_> event = new PartitionChangedEvent<>(
-                partIndex, eventIndex, move);
-        moveEventMap.put(event.getPartIndex(), event);
-        queue.add(event);
+        PartitionChangeMove<Solution_> previousMove = moveMailbox.getAndSet(partIndex, move);
+        if (previousMove == null) {
+            // The consumer hasn't been signalled yet since it emptied this mailbox
+            addEvent(new PartitionChangedEvent<>(partIndex));
+        }
     }
 
     /**
@@ -91,13 +84,9 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
      *
      * @param partIndex {@code 0 <= partIndex < partCount}
      * @param partCalculationCount at least 0
-     * @see BlockingQueue#add(Object)
      */
     public void addFinish(int partIndex, long partCalculationCount) {
-        long eventIndex = nextEventIndexMap.get(partIndex).getAndIncrement();
-        PartitionChangedEvent<Solution_> event = new PartitionChangedEvent<>(
-                partIndex, eventIndex, partCalculationCount);
-        queue.add(event);
+        addEvent(new PartitionChangedEvent<>(partIndex, partCalculationCount));
     }
 
     /**
@@ -107,58 +96,118 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
      *
      * @param partIndex {@code 0 <= partIndex < partCount}
      * @param throwable never null
-     * @see BlockingQueue#add(Object)
      */
     public void addExceptionThrown(int partIndex, Throwable throwable) {
-        long eventIndex = nextEventIndexMap.get(partIndex).getAndIncrement();
-        PartitionChangedEvent<Solution_> event = new PartitionChangedEvent<>(
-                partIndex, eventIndex, throwable);
-        queue.add(event);
+        addEvent(new PartitionChangedEvent<>(partIndex, throwable));
     }
 
+    private void addEvent(PartitionChangedEvent<Solution_> event) {
+        eventQueue.add(event);
+        Thread consumerThread_ = consumerThread;
+        if (consumerThread_ != null) {
+            LockSupport.unpark(consumerThread_);
+        }
+    }
+
+    /**
+     * Returns the newest move of every partition, one at a time, in the order in which their mailboxes filled up.
+     * It must be called by the consumer thread.
+     *
+     * @return never null
+     */
     @Override
     public Iterator<PartitionChangeMove<Solution_>> iterator() {
         // TODO Currently doesn't be support to be called twice on the same instance
+        consumerThread = Thread.currentThread();
         return new PartitionQueueIterator();
     }
 
+    /**
+     * Like {@link #iterator()}, but returns the newest moves of multiple partitions together,
+     * so the consumer can apply them all before it calculates the score once.
+     * A batch starts when a mailbox fills up and waits for the batch window to elapse,
+     * so the other partitions can fill their mailboxes too.
+     * At the end of the batch window, it takes the newest move of every filled mailbox.
+     * It must be called by the consumer thread.
+     *
+     * @param batchWindowMillis {@code >= 0}, 0 to take only the moves that are immediately available
+     * @return never null, every batch is never empty and has at most one move per partition
+     */
+    public Iterator<List<PartitionChangeMove<Solution_>>> batchIterator(long batchWindowMillis) {
+        if (batchWindowMillis < 0L) {
+            throw new IllegalArgumentException("The batchWindowMillis (" + batchWindowMillis
+                    + ") cannot be negative.");
+        }
+        consumerThread = Thread.currentThread();
+        return new PartitionQueueBatchIterator(TimeUnit.MILLISECONDS.toNanos(batchWindowMillis));
+    }
+
+    /**
+     * Waits for the next event.
+     *
+     * @param deadlineNanos the {@link System#nanoTime()} to stop waiting at, ignored if not timed
+     * @return null if timed and the deadline has passed
+     */
+    private PartitionChangedEvent<Solution_> pollEvent(boolean timed, long deadlineNanos) {
+        while (true) {
+            PartitionChangedEvent<Solution_> event = eventQueue.poll();
+            if (event != null) {
+                return event;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("Solver thread was interrupted in Partitioned Search.",
+                        new InterruptedException());
+            }
+            if (timed) {
+                long remainingNanos = deadlineNanos - System.nanoTime();
+                if (remainingNanos <= 0L) {
+                    return null;
+                }
+                LockSupport.parkNanos(this, remainingNanos);
+            } else {
+                // A producer unparks the consumer thread after adding an event, so a wake-up can't get lost
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    private void processFinish(PartitionChangedEvent<Solution_> event) {
+        openPartCount--;
+        partsCalculationCount += event.getPartCalculationCount();
+    }
+
+    private IllegalStateException createRelayedException(int partIndex, Throwable throwable) {
+        return new IllegalStateException("The partition child thread with partIndex ("
+                + partIndex + ") has thrown an exception."
+                + " Relayed here in the parent thread.",
+                throwable);
+    }
+
     private class PartitionQueueIterator extends UpcomingSelectionIterator<PartitionChangeMove<Solution_>> {
 
         @Override
         protected PartitionChangeMove<Solution_> createUpcomingSelection() {
             while (true) {
-                PartitionChangedEvent<Solution_> triggerEvent;
-                try {
-                    triggerEvent = queue.take();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new IllegalStateException("Solver thread was interrupted in Partitioned Search.", e);
-                }
+                PartitionChangedEvent<Solution_> triggerEvent = pollEvent(false, 0L);
                 switch (triggerEvent.getType()) {
                     case MOVE:
                         int partIndex = triggerEvent.getPartIndex();
-                        long processedEventIndex = processedEventIndexMap.get(partIndex);
-                        if (triggerEvent.getEventIndex() <= processedEventIndex) {
-                            // Skip this one because it or a better version was already processed
+                        PartitionChangeMove<Solution_> move = moveMailbox.getAndSet(partIndex, null);
+                        if (move == null) {
+                            // Impossible because only the consumer empties a mailbox and every signal empties it
                             LOGGER.trace("    Skipped event of partIndex ({}).", partIndex);
                             continue;
                         }
-                        PartitionChangedEvent<Solution_> latestMoveEvent = moveEventMap.get(partIndex);
-                        processedEventIndexMap.put(partIndex, latestMoveEvent.getEventIndex());
-                        return latestMoveEvent.getMove();
+                        return move;
                     case FINISHED:
-                        openPartCount--;
-                        partsCalculationCount += triggerEvent.getPartCalculationCount();
+                        processFinish(triggerEvent);
                         if (openPartCount <= 0) {
                             return noUpcomingSelection();
                         } else {
                             continue;
                         }
                     case EXCEPTION_THROWN:
-                        throw new IllegalStateException("The partition child thread with partIndex ("
-                                + triggerEvent.getPartIndex() + ") has thrown an exception."
-                                + " Relayed here in the parent thread.",
-                                triggerEvent.getThrowable());
+                        throw createRelayedException(triggerEvent.getPartIndex(), triggerEvent.getThrowable());
                     default:
                         throw new IllegalStateException("The partitionChangedEventType ("
                                 + triggerEvent.getType() + ") is not implemented.");
@@ -168,6 +217,75 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
 
     }
 
+    private class PartitionQueueBatchIterator extends UpcomingSelectionIterator<List<PartitionChangeMove<Solution_>>> {
+
+        private final long batchWindowNanos;
+
+        public PartitionQueueBatchIterator(long batchWindowNanos) {
+            this.batchWindowNanos = batchWindowNanos;
+        }
+
+        @Override
+        protected List<PartitionChangeMove<Solution_>> createUpcomingSelection() {
+            if (relayedThrowable != null) {
+                throw createRelayedException(relayedThrowablePartIndex, relayedThrowable);
+            }
+            if (openPartCount <= 0) {
+                return noUpcomingSelection();
+            }
+            // The mailboxes of these partitions aren't emptied until the end of the batch window,
+            // so a partition that improves again in the meantime replaces its move without a new signal
+            List<Integer> filledPartIndexList = new ArrayList<>();
+            long deadlineNanos = 0L;
+            while (true) {
+                boolean timed = !filledPartIndexList.isEmpty();
+                PartitionChangedEvent<Solution_> triggerEvent = pollEvent(timed, deadlineNanos);
+                if (triggerEvent == null) {
+                    return takeMoves(filledPartIndexList);
+                }
+                switch (triggerEvent.getType()) {
+                    case MOVE:
+                        if (filledPartIndexList.isEmpty()) {
+                            deadlineNanos = System.nanoTime() + batchWindowNanos;
+                        }
+                        filledPartIndexList.add(triggerEvent.getPartIndex());
+                        continue;
+                    case FINISHED:
+                        processFinish(triggerEvent);
+                        if (openPartCount <= 0) {
+                            return filledPartIndexList.isEmpty() ? noUpcomingSelection()
+                                    : takeMoves(filledPartIndexList);
+                        } else {
+                            continue;
+                        }
+                    case EXCEPTION_THROWN:
+                        if (filledPartIndexList.isEmpty()) {
+                            throw createRelayedException(triggerEvent.getPartIndex(), triggerEvent.getThrowable());
+                        }
+                        // Return the moves that preceded the exception first
+                        relayedThrowable = triggerEvent.getThrowable();
+                        relayedThrowablePartIndex = triggerEvent.getPartIndex();
+                        return takeMoves(filledPartIndexList);
+                    default:
+                        throw new IllegalStateException("The partitionChangedEventType ("
+                                + triggerEvent.getType() + ") is not implemented.");
+                }
+            }
+        }
+
+        private List<PartitionChangeMove<Solution_>> takeMoves(List<Integer> filledPartIndexList) {
+            List<PartitionChangeMove<Solution_>> moveList = new ArrayList<>(filledPartIndexList.size());
+            for (int partIndex : filledPartIndexList) {
+                PartitionChangeMove<Solution_> move = moveMailbox.getAndSet(partIndex, null);
+                if (move != null) {
+                    moveList.add(move);
+                }
+            }
+            return moveList;
+        }
+
+    }
+
     public long getPartsCalculationCount() {
         return partsCalculationCount;
     }
@@ -26,6 +26,7 @@ import org.optaplanner.core.impl.solver.scope.SolverScope;
 public class PartitionedSearchPhaseScope<Solution_> extends AbstractPhaseScope<Solution_> {
 
     private Integer partCount;
+    private int roundCount = 0;
 
     private PartitionedSearchStepScope<Solution_> lastCompletedStepScope;
 
@@ -42,6 +43,14 @@ public class PartitionedSearchPhaseScope<Solution_> extends AbstractPhaseScope<S
         this.partCount = partCount;
     }
 
+    public int getRoundCount() {
+        return roundCount;
+    }
+
+    public void setRoundCount(int roundCount) {
+        this.roundCount = roundCount;
+    }
+
     @Override
     public PartitionedSearchStepScope<Solution_> getLastCompletedStepScope() {
         return lastCompletedStepScope;
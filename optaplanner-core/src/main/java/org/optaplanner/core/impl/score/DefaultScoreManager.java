@@ -16,12 +16,26 @@
 
 package org.optaplanner.core.impl.score;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.ScoreExplanation;
 import org.optaplanner.core.api.score.ScoreManager;
+import org.optaplanner.core.api.score.ScoreSession;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.api.solver.SolverManager;
+import org.optaplanner.core.impl.score.constraint.DefaultConstraintMatchTotal;
+import org.optaplanner.core.impl.score.constraint.DefaultIndictment;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
 import org.optaplanner.core.impl.solver.DefaultSolverFactory;
@@ -68,13 +82,89 @@ public final class DefaultScoreManager<Solution_, Score_ extends Score<Score_>>
         try (InnerScoreDirector<Solution_, Score_> scoreDirector =
                 scoreDirectorFactory.buildScoreDirector(false, true)) {
             scoreDirector.setWorkingSolution(solution); // Init the ScoreDirector first, else NPEs may be thrown.
-            boolean constraintMatchEnabled = scoreDirector.isConstraintMatchEnabled();
-            if (!constraintMatchEnabled) {
-                throw new IllegalStateException("When constraintMatchEnabled (" + constraintMatchEnabled
-                        + ") is disabled, this method should not be called.");
-            }
-            return new DefaultScoreExplanation<>(solution, scoreDirector.calculateScore(),
+            return explainWorkingSolution(solution, scoreDirector, false);
+        }
+    }
+
+    @Override
+    public List<ScoreExplanation<Solution_, Score_>> explainScores(Stream<Solution_> solutions) {
+        // A score director is reused for the next solution, but never by 2 threads at the same time
+        Queue<InnerScoreDirector<Solution_, Score_>> idleScoreDirectorQueue = new ConcurrentLinkedQueue<>();
+        try {
+            return solutions.map(solution -> {
+                InnerScoreDirector<Solution_, Score_> scoreDirector = idleScoreDirectorQueue.poll();
+                if (scoreDirector == null) {
+                    scoreDirector = scoreDirectorFactory.buildScoreDirector(false, true);
+                }
+                ScoreExplanation<Solution_, Score_> scoreExplanation;
+                try {
+                    scoreDirector.setWorkingSolution(solution);
+                    // The next solution resets the score director, which might reuse its constraint match totals
+                    scoreExplanation = explainWorkingSolution(solution, scoreDirector, true);
+                } catch (RuntimeException | Error e) {
+                    // Its state is unknown, so never reuse it for the next solution
+                    scoreDirector.close();
+                    throw e;
+                }
+                idleScoreDirectorQueue.add(scoreDirector);
+                return scoreExplanation;
+            }).collect(Collectors.toList());
+        } finally {
+            idleScoreDirectorQueue.forEach(InnerScoreDirector::close);
+        }
+    }
+
+    @Override
+    public ScoreSession<Solution_, Score_> openSession() {
+        return new DefaultScoreSession<>(scoreDirectorFactory.buildScoreDirector(true, true));
+    }
+
+    /**
+     * @param solution never null, the solution that is explained
+     * @param scoreDirector never null, with a working solution that has the same score as the solution
+     * @param copied true to copy the constraint matches, so the explanation doesn't change with the score director
+     * @return never null
+     */
+    static <Solution_, Score_ extends Score<Score_>> ScoreExplanation<Solution_, Score_> explainWorkingSolution(
+            Solution_ solution, InnerScoreDirector<Solution_, Score_> scoreDirector, boolean copied) {
+        boolean constraintMatchEnabled = scoreDirector.isConstraintMatchEnabled();
+        if (!constraintMatchEnabled) {
+            throw new IllegalStateException("When constraintMatchEnabled (" + constraintMatchEnabled
+                    + ") is disabled, this method should not be called.");
+        }
+        Score_ score = scoreDirector.calculateScore();
+        if (!copied) {
+            return new DefaultScoreExplanation<>(solution, score,
                     scoreDirector.getConstraintMatchTotalMap(), scoreDirector.getIndictmentMap());
         }
+        Map<String, ConstraintMatchTotal<Score_>> workingConstraintMatchTotalMap =
+                scoreDirector.getConstraintMatchTotalMap();
+        Map<String, ConstraintMatchTotal<Score_>> constraintMatchTotalMap =
+                new LinkedHashMap<>(workingConstraintMatchTotalMap.size());
+        Map<Object, Indictment<Score_>> indictmentMap = new LinkedHashMap<>();
+        Score_ zeroScore = scoreDirector.getScoreDefinition().getZeroScore();
+        for (ConstraintMatchTotal<Score_> workingConstraintMatchTotal : workingConstraintMatchTotalMap.values()) {
+            String constraintPackage = workingConstraintMatchTotal.getConstraintPackage();
+            String constraintName = workingConstraintMatchTotal.getConstraintName();
+            Score_ constraintWeight = workingConstraintMatchTotal.getConstraintWeight();
+            DefaultConstraintMatchTotal<Score_> constraintMatchTotal = constraintWeight == null
+                    ? new DefaultConstraintMatchTotal<>(constraintPackage, constraintName)
+                    : new DefaultConstraintMatchTotal<>(constraintPackage, constraintName, constraintWeight);
+            for (ConstraintMatch<Score_> workingConstraintMatch : workingConstraintMatchTotal.getConstraintMatchSet()) {
+                ConstraintMatch<Score_> constraintMatch = constraintMatchTotal.addConstraintMatch(
+                        workingConstraintMatch.getJustificationList(), workingConstraintMatch.getScore());
+                constraintMatch.getJustificationList().stream()
+                        .distinct() // One match might have the same justification twice
+                        .forEach(justification -> {
+                            DefaultIndictment<Score_> indictment = (DefaultIndictment<Score_>) indictmentMap
+                                    .computeIfAbsent(justification,
+                                            k -> new DefaultIndictment<>(justification, zeroScore));
+                            indictment.addConstraintMatch(constraintMatch);
+                        });
+            }
+            constraintMatchTotalMap.put(workingConstraintMatchTotal.getConstraintId(), constraintMatchTotal);
+        }
+        return new DefaultScoreExplanation<>(solution, score, constraintMatchTotalMap, indictmentMap);
     }
+
 }
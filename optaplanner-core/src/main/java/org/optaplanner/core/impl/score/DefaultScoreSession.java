@@ -0,0 +1,166 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.ScoreExplanation;
+import org.optaplanner.core.api.score.ScoreSession;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <Score_> the actual score type
+ */
+public final class DefaultScoreSession<Solution_, Score_ extends Score<Score_>>
+        implements ScoreSession<Solution_, Score_> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultScoreSession.class);
+
+    private final InnerScoreDirector<Solution_, Score_> scoreDirector;
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final boolean incrementalEnabled;
+
+    private boolean workingSolutionSet = false;
+    private boolean closed = false;
+
+    /**
+     * @param scoreDirector never null, with lookUpEnabled, closed by this session
+     */
+    public DefaultScoreSession(InnerScoreDirector<Solution_, Score_> scoreDirector) {
+        this.scoreDirector = scoreDirector;
+        solutionDescriptor = scoreDirector.getSolutionDescriptor();
+        // Changing chained variables one by one breaks the chains (and their inverse and anchor shadow variables)
+        // in between, so those always start over with a planning clone
+        incrementalEnabled = solutionDescriptor.getGenuineEntityDescriptors().stream()
+                .flatMap(entityDescriptor -> entityDescriptor.getGenuineVariableDescriptorList().stream())
+                .noneMatch(GenuineVariableDescriptor::isChained);
+    }
+
+    @Override
+    public Score_ updateScore(Solution_ solution) {
+        loadSolution(solution);
+        Score_ score = scoreDirector.calculateScore();
+        solutionDescriptor.setScore(solution, score);
+        return score;
+    }
+
+    @Override
+    public ScoreExplanation<Solution_, Score_> explainScore(Solution_ solution) {
+        loadSolution(solution);
+        // The next solution changes the constraint match totals of the score director
+        ScoreExplanation<Solution_, Score_> scoreExplanation =
+                DefaultScoreManager.explainWorkingSolution(solution, scoreDirector, true);
+        solutionDescriptor.setScore(solution, scoreExplanation.getScore());
+        return scoreExplanation;
+    }
+
+    private void loadSolution(Solution_ solution) {
+        if (closed) {
+            throw new IllegalStateException("The " + ScoreSession.class.getSimpleName() + " is already closed.");
+        }
+        if (workingSolutionSet && incrementalEnabled && applyVariableChanges(solution)) {
+            return;
+        }
+        LOGGER.trace("    Resetting the working solution with a planning clone of the solution ({}).", solution);
+        // Never modify the solution itself
+        scoreDirector.setWorkingSolution(scoreDirector.cloneSolution(solution));
+        workingSolutionSet = true;
+    }
+
+    /**
+     * Changes the genuine planning variables of the working solution to those of the solution,
+     * without touching the working solution if it can't do that.
+     *
+     * @param solution never null
+     * @return false if the planning entities of the solution differ from those of the working solution
+     *         or if they or the planning values can't be looked up
+     */
+    private boolean applyVariableChanges(Solution_ solution) {
+        List<Object> entityList = solutionDescriptor.getEntityList(solution);
+        if (entityList.size() != scoreDirector.getWorkingEntityCount()) {
+            return false;
+        }
+        List<VariableChange<Solution_>> variableChangeList = new ArrayList<>();
+        try {
+            for (Object entity : entityList) {
+                Object workingEntity = scoreDirector.lookUpWorkingObjectOrReturnNull(entity);
+                if (workingEntity == null) {
+                    return false;
+                }
+                EntityDescriptor<Solution_> entityDescriptor =
+                        solutionDescriptor.findEntityDescriptorOrFail(entity.getClass());
+                for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                        .getGenuineVariableDescriptorList()) {
+                    Object value = variableDescriptor.getValue(entity);
+                    Object workingValue = scoreDirector.lookUpWorkingObjectOrReturnNull(value);
+                    if (workingValue == null && value != null) {
+                        // For example, a new planning value that the working solution doesn't have yet
+                        return false;
+                    }
+                    if (workingValue != variableDescriptor.getValue(workingEntity)) {
+                        variableChangeList.add(new VariableChange<>(variableDescriptor, workingEntity, workingValue));
+                    }
+                }
+            }
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            // For example, a planning entity or planning value without a @PlanningId
+            LOGGER.trace("    Cannot look up the planning entities and planning values of the solution ({}).",
+                    solution, e);
+            return false;
+        }
+        for (VariableChange<Solution_> variableChange : variableChangeList) {
+            scoreDirector.changeVariableFacade(variableChange.variableDescriptor, variableChange.workingEntity,
+                    variableChange.workingValue);
+        }
+        scoreDirector.triggerVariableListeners();
+        LOGGER.trace("    Applied {} variable changes of the solution ({}).", variableChangeList.size(), solution);
+        return true;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            scoreDirector.close();
+        }
+    }
+
+    private static final class VariableChange<Solution_> {
+
+        private final GenuineVariableDescriptor<Solution_> variableDescriptor;
+        private final Object workingEntity;
+        private final Object workingValue;
+
+        private VariableChange(GenuineVariableDescriptor<Solution_> variableDescriptor, Object workingEntity,
+                Object workingValue) {
+            this.variableDescriptor = variableDescriptor;
+            this.workingEntity = workingEntity;
+            this.workingValue = workingValue;
+        }
+
+    }
+
+}
@@ -25,6 +25,7 @@ import org.optaplanner.core.api.score.buildin.hardmediumsoftbigdecimal.HardMediu
 import org.optaplanner.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+import org.optaplanner.core.api.score.buildin.hardsoftdecimal.HardSoftDecimalScore;
 import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.buildin.simplebigdecimal.SimpleBigDecimalScore;
@@ -53,6 +54,8 @@ public class ScoreUtils {
             return HardSoftLongScore.parseScore(scoreString);
         } else if (HardSoftBigDecimalScore.class.equals(scoreClass)) {
             return HardSoftBigDecimalScore.parseScore(scoreString);
+        } else if (HardSoftDecimalScore.class.equals(scoreClass)) {
+            return HardSoftDecimalScore.parseScore(scoreString);
         } else if (HardMediumSoftScore.class.equals(scoreClass)) {
             return HardMediumSoftScore.parseScore(scoreString);
         } else if (HardMediumSoftLongScore.class.equals(scoreClass)) {
@@ -80,6 +83,32 @@ public class ScoreUtils {
         return levelDoubles;
     }
 
+    /**
+     * As defined by {@link #extractLevelDoubles(Score)}, but it fills an existing array.
+     * For a {@link BendableScore} or a {@link BendableLongScore}, it doesn't create any objects.
+     *
+     * @param score never null
+     * @param levelDoubles never null, its length must be the number of levels of the score
+     */
+    public static void extractLevelDoubles(Score score, double[] levelDoubles) {
+        if (score instanceof BendableScore) {
+            BendableScore bendableScore = (BendableScore) score;
+            for (int i = 0; i < levelDoubles.length; i++) {
+                levelDoubles[i] = bendableScore.getHardOrSoftScore(i);
+            }
+        } else if (score instanceof BendableLongScore) {
+            BendableLongScore bendableScore = (BendableLongScore) score;
+            for (int i = 0; i < levelDoubles.length; i++) {
+                levelDoubles[i] = bendableScore.getHardOrSoftScore(i);
+            }
+        } else {
+            Number[] levelNumbers = score.toLevelNumbers();
+            for (int i = 0; i < levelDoubles.length; i++) {
+                levelDoubles[i] = levelNumbers[i].doubleValue();
+            }
+        }
+    }
+
     /**
      *
      * @param totalDiffNumbers never null
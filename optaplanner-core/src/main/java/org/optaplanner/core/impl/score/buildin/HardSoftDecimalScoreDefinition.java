@@ -0,0 +1,144 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.buildin;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.optaplanner.core.api.domain.solution.PlanningScore;
+import org.optaplanner.core.api.score.buildin.hardsoftdecimal.HardSoftDecimalScore;
+import org.optaplanner.core.config.score.trend.InitializingScoreTrendLevel;
+import org.optaplanner.core.impl.score.definition.AbstractScoreDefinition;
+import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
+
+public class HardSoftDecimalScoreDefinition extends AbstractScoreDefinition<HardSoftDecimalScore> {
+
+    private final int scale;
+
+    /**
+     * The scale is determined by the constraint weights.
+     */
+    public HardSoftDecimalScoreDefinition() {
+        super(new String[] { "hard score", "soft score" });
+        this.scale = PlanningScore.NO_DECIMAL_SCALE;
+    }
+
+    /**
+     * @param scale {@code 0 <= scale <= }{@link HardSoftDecimalScore#MAX_SCALE}, see {@link PlanningScore#decimalScale()}
+     */
+    public HardSoftDecimalScoreDefinition(int scale) {
+        super(new String[] { "hard score", "soft score" });
+        if (scale < 0 || scale > HardSoftDecimalScore.MAX_SCALE) {
+            throw new IllegalArgumentException("The scale (" + scale + ") must be between 0 and "
+                    + HardSoftDecimalScore.MAX_SCALE + ".");
+        }
+        this.scale = scale;
+    }
+
+    /**
+     * @return {@link PlanningScore#NO_DECIMAL_SCALE} if the scale is determined by the constraint weights
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    public boolean isScaleConfigured() {
+        return scale != PlanningScore.NO_DECIMAL_SCALE;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public int getLevelsSize() {
+        return 2;
+    }
+
+    @Override
+    public int getFeasibleLevelsSize() {
+        return 1;
+    }
+
+    @Override
+    public Class<HardSoftDecimalScore> getScoreClass() {
+        return HardSoftDecimalScore.class;
+    }
+
+    @Override
+    public HardSoftDecimalScore getZeroScore() {
+        return isScaleConfigured() ? HardSoftDecimalScore.ofUnscaled(0L, 0L, scale) : HardSoftDecimalScore.ZERO;
+    }
+
+    @Override
+    public HardSoftDecimalScore getOneSoftestScore() {
+        // With the scale 2, the softest one is 0.01soft
+        return isScaleConfigured() ? HardSoftDecimalScore.ofUnscaled(0L, 1L, scale) : HardSoftDecimalScore.ONE_SOFT;
+    }
+
+    @Override
+    public HardSoftDecimalScore parseScore(String scoreString) {
+        return HardSoftDecimalScore.parseScore(scoreString);
+    }
+
+    @Override
+    public HardSoftDecimalScore fromLevelNumbers(int initScore, Number[] levelNumbers) {
+        if (levelNumbers.length != getLevelsSize()) {
+            throw new IllegalStateException("The levelNumbers (" + Arrays.toString(levelNumbers)
+                    + ")'s length (" + levelNumbers.length + ") must equal the levelSize (" + getLevelsSize() + ").");
+        }
+        return HardSoftDecimalScore.ofUninitialized(initScore, (BigDecimal) levelNumbers[0], (BigDecimal) levelNumbers[1]);
+    }
+
+    @Override
+    public HardSoftDecimalScore buildOptimisticBound(InitializingScoreTrend initializingScoreTrend,
+            HardSoftDecimalScore score) {
+        // Unlike a BigDecimal, a scaled long does have a maximum
+        InitializingScoreTrendLevel[] trendLevels = initializingScoreTrend.getTrendLevels();
+        return HardSoftDecimalScore.ofUninitializedUnscaled(0,
+                trendLevels[0] == InitializingScoreTrendLevel.ONLY_DOWN ? score.getHardUnscaledScore() : Long.MAX_VALUE,
+                trendLevels[1] == InitializingScoreTrendLevel.ONLY_DOWN ? score.getSoftUnscaledScore() : Long.MAX_VALUE,
+                score.getScale());
+    }
+
+    @Override
+    public HardSoftDecimalScore buildPessimisticBound(InitializingScoreTrend initializingScoreTrend,
+            HardSoftDecimalScore score) {
+        InitializingScoreTrendLevel[] trendLevels = initializingScoreTrend.getTrendLevels();
+        return HardSoftDecimalScore.ofUninitializedUnscaled(0,
+                trendLevels[0] == InitializingScoreTrendLevel.ONLY_UP ? score.getHardUnscaledScore() : Long.MIN_VALUE,
+                trendLevels[1] == InitializingScoreTrendLevel.ONLY_UP ? score.getSoftUnscaledScore() : Long.MIN_VALUE,
+                score.getScale());
+    }
+
+    @Override
+    public HardSoftDecimalScore divideBySanitizedDivisor(HardSoftDecimalScore dividend,
+            HardSoftDecimalScore divisor) {
+        int dividendInitScore = dividend.getInitScore();
+        int divisorInitScore = sanitize(divisor.getInitScore());
+        BigDecimal dividendHardScore = dividend.getHardScore();
+        BigDecimal divisorHardScore = sanitize(divisor.getHardScore());
+        BigDecimal dividendSoftScore = dividend.getSoftScore();
+        BigDecimal divisorSoftScore = sanitize(divisor.getSoftScore());
+        return fromLevelNumbers(
+                divide(dividendInitScore, divisorInitScore),
+                new Number[] {
+                        divide(dividendHardScore, divisorHardScore),
+                        divide(dividendSoftScore, divisorSoftScore)
+                });
+    }
+}
@@ -351,6 +351,12 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         variableListenerSupport.clearWorkingSolution();
     }
 
+    @Override
+    public void clearWorkingSolution() {
+        // Most implementations have nothing worth keeping
+        close();
+    }
+
     // ************************************************************************
     // Entity/variable add/change/remove methods
     // ************************************************************************
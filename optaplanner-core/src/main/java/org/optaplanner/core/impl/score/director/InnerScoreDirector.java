@@ -300,6 +300,14 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
     @Override
     void close();
 
+    /**
+     * Like {@link #close()}, forgets the {@link #getWorkingSolution() working solution},
+     * but keeps the resources that are expensive to build, such as a Drools {@code KieSession},
+     * so a later {@link #setWorkingSolution(Object)} can reuse them.
+     * Call {@link #close()} once this score director won't be used anymore.
+     */
+    void clearWorkingSolution();
+
     void beforeVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity);
 
     void afterVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity);
@@ -107,17 +107,10 @@ public final class BendableLongScoreHolderImpl extends AbstractScoreHolder<Benda
                                     kcontext, level, levelWeight * matchWeight);
                 }
             } else {
-                matchExecutor = (RuleContext kcontext, long matchWeight) -> {
-                    long[] hardWeights = new long[hardScores.length];
-                    long[] softWeights = new long[softScores.length];
-                    for (int i = 0; i < hardWeights.length; i++) {
-                        hardWeights[i] = constraintWeight.getHardScore(i) * matchWeight;
-                    }
-                    for (int i = 0; i < softWeights.length; i++) {
-                        softWeights[i] = constraintWeight.getSoftScore(i) * matchWeight;
-                    }
-                    addMultiConstraintMatch(kcontext, hardWeights, softWeights);
-                };
+                long[] hardWeights = constraintWeight.getHardScores();
+                long[] softWeights = constraintWeight.getSoftScores();
+                matchExecutor = (RuleContext kcontext, long matchWeight) -> addMultiConstraintMatch(
+                        kcontext, hardWeights, softWeights, matchWeight);
             }
         }
         matchExecutorByNumberMap.put(rule, matchExecutor);
@@ -287,6 +280,36 @@ public final class BendableLongScoreHolderImpl extends AbstractScoreHolder<Benda
                 () -> BendableLongScore.of(hardWeights, softWeights));
     }
 
+    /**
+     * Impacts the levels in place and recalculates the impacts on undo,
+     * to avoid creating arrays per match when constraint matching is disabled.
+     */
+    private void addMultiConstraintMatch(RuleContext kcontext, long[] hardWeights, long[] softWeights,
+            long matchWeight) {
+        impactLevels(hardWeights, softWeights, matchWeight);
+        registerConstraintMatch(kcontext,
+                () -> impactLevels(hardWeights, softWeights, -matchWeight),
+                () -> BendableLongScore.of(multiplyLevels(hardWeights, matchWeight),
+                        multiplyLevels(softWeights, matchWeight)));
+    }
+
+    private void impactLevels(long[] hardWeights, long[] softWeights, long matchWeight) {
+        for (int i = 0; i < hardScores.length; i++) {
+            hardScores[i] += hardWeights[i] * matchWeight;
+        }
+        for (int i = 0; i < softScores.length; i++) {
+            softScores[i] += softWeights[i] * matchWeight;
+        }
+    }
+
+    private static long[] multiplyLevels(long[] weights, long matchWeight) {
+        long[] impacts = new long[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            impacts[i] = weights[i] * matchWeight;
+        }
+        return impacts;
+    }
+
     @Override
     public BendableLongScore extractScore(int initScore) {
         return BendableLongScore.ofUninitialized(initScore,
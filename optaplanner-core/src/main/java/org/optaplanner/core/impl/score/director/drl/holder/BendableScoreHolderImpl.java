@@ -104,17 +104,10 @@ public final class BendableScoreHolderImpl extends AbstractScoreHolder<BendableS
                             kcontext, level, levelWeight * matchWeight);
                 }
             } else {
-                matchExecutor = (RuleContext kcontext, int matchWeight) -> {
-                    int[] hardWeights = new int[hardScores.length];
-                    int[] softWeights = new int[softScores.length];
-                    for (int i = 0; i < hardWeights.length; i++) {
-                        hardWeights[i] = constraintWeight.getHardScore(i) * matchWeight;
-                    }
-                    for (int i = 0; i < softWeights.length; i++) {
-                        softWeights[i] = constraintWeight.getSoftScore(i) * matchWeight;
-                    }
-                    addMultiConstraintMatch(kcontext, hardWeights, softWeights);
-                };
+                int[] hardWeights = constraintWeight.getHardScores();
+                int[] softWeights = constraintWeight.getSoftScores();
+                matchExecutor = (RuleContext kcontext, int matchWeight) -> addMultiConstraintMatch(
+                        kcontext, hardWeights, softWeights, matchWeight);
             }
         }
         matchExecutorByNumberMap.put(rule, matchExecutor);
@@ -287,6 +280,36 @@ public final class BendableScoreHolderImpl extends AbstractScoreHolder<BendableS
                 () -> BendableScore.of(hardWeights, softWeights));
     }
 
+    /**
+     * Impacts the levels in place and recalculates the impacts on undo,
+     * to avoid creating arrays per match when constraint matching is disabled.
+     */
+    private void addMultiConstraintMatch(RuleContext kcontext, int[] hardWeights, int[] softWeights,
+            int matchWeight) {
+        impactLevels(hardWeights, softWeights, matchWeight);
+        registerConstraintMatch(kcontext,
+                () -> impactLevels(hardWeights, softWeights, -matchWeight),
+                () -> BendableScore.of(multiplyLevels(hardWeights, matchWeight),
+                        multiplyLevels(softWeights, matchWeight)));
+    }
+
+    private void impactLevels(int[] hardWeights, int[] softWeights, int matchWeight) {
+        for (int i = 0; i < hardScores.length; i++) {
+            hardScores[i] += hardWeights[i] * matchWeight;
+        }
+        for (int i = 0; i < softScores.length; i++) {
+            softScores[i] += softWeights[i] * matchWeight;
+        }
+    }
+
+    private static int[] multiplyLevels(int[] weights, int matchWeight) {
+        int[] impacts = new int[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            impacts[i] = weights[i] * matchWeight;
+        }
+        return impacts;
+    }
+
     @Override
     public BendableScore extractScore(int initScore) {
         return BendableScore.ofUninitialized(initScore,
@@ -46,6 +46,13 @@ public final class ConstraintStreamsScoreDirectorFactoryService<Solution_, Score
                             return new DroolsConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
                                     config.getGizmoKieBaseSupplier(), isDroolsAlphaNetworkEnabled);
                         }
+                        if (config.getConstraintProviderCustomProperties() == null) {
+                            // Without custom properties, every instance of the provider yields the same constraints.
+                            return new DroolsConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
+                                    KieBaseDescriptorCache.computeIfAbsent(solutionDescriptor, constraintProvider,
+                                            isDroolsAlphaNetworkEnabled),
+                                    isDroolsAlphaNetworkEnabled);
+                        }
                         return new DroolsConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider,
                                 isDroolsAlphaNetworkEnabled);
                     default:
@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.score.director.stream;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 
@@ -33,6 +34,7 @@ import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
 import org.optaplanner.core.impl.score.stream.common.inliner.AbstractScoreInliner;
+import org.optaplanner.core.impl.score.stream.drools.DroolsConstraint;
 import org.optaplanner.core.impl.score.stream.drools.SessionDescriptor;
 
 /**
@@ -51,6 +53,7 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
     private KieSession session;
     private AgendaFilter agendaFilter;
     private AbstractScoreInliner<Score_> scoreInliner;
+    private Map<DroolsConstraint<Solution_>, Score_> constraintToWeightMap;
 
     public DroolsConstraintStreamScoreDirector(
             DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory,
@@ -59,6 +62,14 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
         this.solutionDescriptor = scoreDirectorFactory.getSolutionDescriptor();
     }
 
+    /**
+     * @return null if there is no working solution yet or after {@link #close()},
+     *         the same instance across working solutions with the same constraint weights
+     */
+    public KieSession getKieSession() {
+        return session;
+    }
+
     // ************************************************************************
     // Complex methods
     // ************************************************************************
@@ -70,20 +81,41 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
     }
 
     private void resetConstraintStreamingSession() {
-        if (session != null) {
-            session.dispose();
+        Map<DroolsConstraint<Solution_>, Score_> newConstraintToWeightMap =
+                scoreDirectorFactory.extractConstraintWeights(workingSolution);
+        if (session != null && newConstraintToWeightMap.equals(constraintToWeightMap)) {
+            // Reusing the session is far cheaper than building a new one from the KieBase.
+            // The impacters are reused too, as they carry the same constraint weights.
+            retractAllFacts();
+        } else {
+            if (session != null) {
+                session.dispose();
+            }
+            SessionDescriptor<Score_> sessionDescriptor = scoreDirectorFactory.newConstraintStreamingSessionWithWeights(
+                    constraintMatchEnabledPreference, newConstraintToWeightMap);
+            session = sessionDescriptor.getSession();
+            agendaFilter = sessionDescriptor.getAgendaFilter();
+            scoreInliner = sessionDescriptor.getScoreInliner();
+            constraintToWeightMap = newConstraintToWeightMap;
         }
-        SessionDescriptor<Score_> sessionDescriptor =
-                scoreDirectorFactory.newConstraintStreamingSession(constraintMatchEnabledPreference, workingSolution);
-        session = sessionDescriptor.getSession();
-        agendaFilter = sessionDescriptor.getAgendaFilter();
-        scoreInliner = sessionDescriptor.getScoreInliner();
         Collection<Object> workingFacts = getSolutionDescriptor().getAllFacts(workingSolution);
         for (Object fact : workingFacts) {
             session.insert(fact);
         }
     }
 
+    /**
+     * Leaves the session as if it was just built:
+     * every match gets undone through its callback, so the score inliner returns to its initial state too.
+     */
+    private void retractAllFacts() {
+        for (FactHandle factHandle : new ArrayList<>(session.getFactHandles())) {
+            session.delete(factHandle);
+        }
+        // Flush the deletions, so the session no longer references the facts.
+        session.fireAllRules(agendaFilter);
+    }
+
     @Override
     public Score_ calculateScore() {
         variableListenerSupport.assertNotificationQueuesAreEmpty();
@@ -123,6 +155,14 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
         return true; // Drools propagation queue is only flushed during fireAllRules().
     }
 
+    @Override
+    public void clearWorkingSolution() {
+        if (session != null) {
+            retractAllFacts();
+        }
+        super.close();
+    }
+
     @Override
     public void close() {
         super.close();
@@ -131,6 +171,7 @@ public final class DroolsConstraintStreamScoreDirector<Solution_, Score_ extends
             session = null;
             agendaFilter = null;
             scoreInliner = null;
+            constraintToWeightMap = null;
         }
     }
 
@@ -136,11 +136,28 @@ public final class DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_
 
     public SessionDescriptor<Score_> newConstraintStreamingSession(boolean constraintMatchEnabled,
             Solution_ workingSolution) {
-        // Extract constraint weights.
-        Map<DroolsConstraint<Solution_>, Score_> constraintToWeightMap = kieBaseDescriptor.getConstraintToGlobalMap()
+        return newConstraintStreamingSessionWithWeights(constraintMatchEnabled,
+                extractConstraintWeights(workingSolution));
+    }
+
+    /**
+     * @param workingSolution sometimes null
+     * @return never null, equal for 2 solutions if and only if a session built for one can score the other
+     */
+    public Map<DroolsConstraint<Solution_>, Score_> extractConstraintWeights(Solution_ workingSolution) {
+        return kieBaseDescriptor.getConstraintToGlobalMap()
                 .keySet()
                 .stream()
                 .collect(toMap(Function.identity(), constraint -> constraint.extractConstraintWeight(workingSolution)));
+    }
+
+    /**
+     * @param constraintMatchEnabled whether the session tracks constraint matches
+     * @param constraintToWeightMap never null, from {@link #extractConstraintWeights(Object)}
+     * @return never null
+     */
+    public SessionDescriptor<Score_> newConstraintStreamingSessionWithWeights(boolean constraintMatchEnabled,
+            Map<DroolsConstraint<Solution_>, Score_> constraintToWeightMap) {
         // Create the session itself.
         KieSession kieSession = buildKieSessionFromKieBase(kieBaseDescriptor.get());
         ((RuleEventManager) kieSession).addEventListener(new OptaPlannerRuleEventListener()); // Enables undo in rules.
@@ -172,6 +189,10 @@ public final class DroolsConstraintStreamScoreDirectorFactory<Solution_, Score_
         return kieBase.newKieSession(config, environment);
     }
 
+    public KieBaseDescriptor<Solution_> getKieBaseDescriptor() {
+        return kieBaseDescriptor;
+    }
+
     @Override
     public Constraint[] getConstraints() {
         return kieBaseDescriptor.getConstraintToGlobalMap()
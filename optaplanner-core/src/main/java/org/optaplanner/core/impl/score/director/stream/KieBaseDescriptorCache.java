@@ -0,0 +1,175 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.stream;
+
+import java.lang.ref.SoftReference;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import org.optaplanner.core.api.domain.common.DomainAccessType;
+import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+/**
+ * Keeps the {@link KieBaseDescriptor} of every {@link ConstraintProvider} class that was built in this JVM,
+ * so that every {@link org.optaplanner.core.api.solver.SolverFactory} and
+ * {@link org.optaplanner.core.api.score.ScoreManager} for the same domain only pays the price of building the KieBase once.
+ * This is a per-JVM cache: it does not help a newly started JVM, which still builds every KieBase once.
+ * <p>
+ * A cached KieBase references the lambdas of its {@link ConstraintProvider},
+ * so it keeps the constraint provider class and its class loader alive.
+ * Therefore the cache only holds it through a {@link SoftReference}:
+ * once no score director factory uses it anymore, the garbage collector may reclaim it,
+ * and with it the class loader of a reloaded constraint provider class.
+ * Call {@link #clear()} to release them immediately, for example on a hot reload.
+ * <p>
+ * A cached KieBase keeps the {@link SolutionDescriptor} it was built with, for as long as it is cached.
+ * That is only reused for a {@link SolutionDescriptor} with the same classes and the same {@link DomainAccessType}.
+ * <p>
+ * A {@link ConstraintProvider} with custom properties may produce a different set of constraints per instance,
+ * so those are never cached.
+ */
+public final class KieBaseDescriptorCache {
+
+    // Weak, so it doesn't keep the constraint provider classes (and their class loaders) alive either
+    private static final Set<Class<?>> CACHED_CLASS_SET = Collections.newSetFromMap(new WeakHashMap<>());
+    private static final ClassValue<ConcurrentMap<CacheKey, SoftReference<FutureTask<KieBaseDescriptor<?>>>>> CACHE =
+            new ClassValue<>() {
+                @Override
+                protected ConcurrentMap<CacheKey, SoftReference<FutureTask<KieBaseDescriptor<?>>>> computeValue(
+                        Class<?> constraintProviderClass) {
+                    synchronized (CACHED_CLASS_SET) {
+                        CACHED_CLASS_SET.add(constraintProviderClass);
+                    }
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /**
+     * Build the {@link KieBaseDescriptor} eagerly, for example during application startup,
+     * so that the first {@link org.optaplanner.core.api.solver.Solver} does not wait for it.
+     * <p>
+     * Concurrent callers for the same key wait for a single build, which happens outside of any map lock.
+     *
+     * @param solutionDescriptor never null
+     * @param constraintProvider never null, must not use custom properties
+     * @param droolsAlphaNetworkCompilationEnabled whether to compile the alpha network
+     * @param <Solution_> the solution type, the class with the
+     *        {@link org.optaplanner.core.api.domain.solution.PlanningSolution} annotation
+     * @return never null
+     */
+    @SuppressWarnings("unchecked")
+    public static <Solution_> KieBaseDescriptor<Solution_> computeIfAbsent(
+            SolutionDescriptor<Solution_> solutionDescriptor, ConstraintProvider constraintProvider,
+            boolean droolsAlphaNetworkCompilationEnabled) {
+        CacheKey key = new CacheKey(solutionDescriptor, droolsAlphaNetworkCompilationEnabled);
+        ConcurrentMap<CacheKey, SoftReference<FutureTask<KieBaseDescriptor<?>>>> kieBaseMap =
+                CACHE.get(constraintProvider.getClass());
+        FutureTask<KieBaseDescriptor<?>> newTask = new FutureTask<>(
+                () -> DroolsConstraintStreamScoreDirectorFactory.buildKieBase(solutionDescriptor, constraintProvider,
+                        droolsAlphaNetworkCompilationEnabled));
+        // Only swapping the reference happens under the map's lock, the build itself does not.
+        // A strong reference to the task is kept while building, so the soft reference can't be cleared meanwhile.
+        FutureTask<KieBaseDescriptor<?>>[] taskHolder = new FutureTask[1];
+        SoftReference<FutureTask<KieBaseDescriptor<?>>> taskReference = kieBaseMap.compute(key, (k, oldReference) -> {
+            FutureTask<KieBaseDescriptor<?>> oldTask = oldReference == null ? null : oldReference.get();
+            if (oldTask != null) {
+                taskHolder[0] = oldTask;
+                return oldReference;
+            }
+            taskHolder[0] = newTask;
+            return new SoftReference<>(newTask);
+        });
+        FutureTask<KieBaseDescriptor<?>> task = taskHolder[0];
+        task.run(); // Does nothing if another thread already runs or ran it.
+        try {
+            return (KieBaseDescriptor<Solution_>) task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the KieBase of the constraintProvider ("
+                    + constraintProvider + ") to be built.", e);
+        } catch (ExecutionException e) {
+            // Don't cache the failure, so the next call can try again.
+            kieBaseMap.remove(key, taskReference);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Building the KieBase of the constraintProvider ("
+                    + constraintProvider + ") failed.", cause);
+        }
+    }
+
+    /**
+     * Forget all cached KieBases, for example between tests or when the constraint provider classes are reloaded.
+     */
+    public static void clear() {
+        synchronized (CACHED_CLASS_SET) {
+            for (Class<?> constraintProviderClass : CACHED_CLASS_SET) {
+                CACHE.remove(constraintProviderClass);
+            }
+            CACHED_CLASS_SET.clear();
+        }
+    }
+
+    private KieBaseDescriptorCache() {
+    }
+
+    private static final class CacheKey {
+
+        private final Class<?> solutionClass;
+        private final Set<Class<?>> entityClassSet;
+        private final DomainAccessType domainAccessType;
+        private final boolean droolsAlphaNetworkCompilationEnabled;
+
+        public CacheKey(SolutionDescriptor<?> solutionDescriptor, boolean droolsAlphaNetworkCompilationEnabled) {
+            this.solutionClass = solutionDescriptor.getSolutionClass();
+            this.entityClassSet = Set.copyOf(solutionDescriptor.getEntityClassSet());
+            this.domainAccessType = solutionDescriptor.getDomainAccessType();
+            this.droolsAlphaNetworkCompilationEnabled = droolsAlphaNetworkCompilationEnabled;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return droolsAlphaNetworkCompilationEnabled == other.droolsAlphaNetworkCompilationEnabled
+                    && domainAccessType == other.domainAccessType
+                    && solutionClass.equals(other.solutionClass)
+                    && entityClassSet.equals(other.entityClassSet);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(solutionClass, entityClassSet, domainAccessType, droolsAlphaNetworkCompilationEnabled);
+        }
+    }
+
+}
@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.function.BiFunction;
 
 import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.api.score.stream.bi.ReversibleBiConstraintCollector;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
@@ -29,6 +30,10 @@ public class BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> extends
 
     private final BiFunction<A, B, NewA> groupKeyMapping;
     private final BiConstraintCollector<A, B, ResultContainer_, NewB> collector;
+    /**
+     * Null if the collector isn't reversible, in which case it creates an undo operation for every accumulation.
+     */
+    private final ReversibleBiConstraintCollector<A, B, ResultContainer_, NewB> reversibleCollector;
     private BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode;
 
     private final Map<NewA, BavetGroupBiTuple<NewA, ResultContainer_, NewB>> tupleMap;
@@ -38,6 +43,9 @@ public class BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> extends
         super(session, nodeIndex);
         this.groupKeyMapping = groupKeyMapping;
         this.collector = collector;
+        reversibleCollector = collector instanceof ReversibleBiConstraintCollector
+                ? (ReversibleBiConstraintCollector<A, B, ResultContainer_, NewB>) collector
+                : null;
         tupleMap = new HashMap<>();
     }
 
@@ -62,10 +70,9 @@ public class BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> extends
             BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple = tuple.getChildTuple();
             NewA oldGroupKey = childTuple.getGroupKey();
             int parentCount = childTuple.decreaseParentCount();
-            tuple.getUndoAccumulator().run();
+            undoAccumulate(tuple, childTuple.getResultContainer());
             childTuple.clearResult();
             tuple.setChildTuple(null);
-            tuple.setUndoAccumulator(null);
             if (parentCount == 0) {
                 // Clean up tupleMap
                 tupleMap.remove(oldGroupKey);
@@ -82,8 +89,7 @@ public class BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> extends
                     k -> groupNode.createTuple(groupKey, collector.supplier().get()));
             int parentCount = childTuple.increaseParentCount();
 
-            Runnable undoAccumulator = collector.accumulator().apply(childTuple.getResultContainer(), a, b);
-            tuple.setUndoAccumulator(undoAccumulator);
+            accumulate(tuple, childTuple.getResultContainer(), a, b);
             childTuple.clearResult();
             tuple.setChildTuple(childTuple);
             if (parentCount == 1) {
@@ -97,6 +103,25 @@ public class BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> extends
         }
     }
 
+    private void accumulate(BavetGroupBridgeBiTuple<A, B, NewA, ResultContainer_, NewB> tuple,
+            ResultContainer_ resultContainer, A a, B b) {
+        if (reversibleCollector != null) {
+            tuple.setUndoToken(reversibleCollector.accumulateReversibly(resultContainer, a, b));
+        } else {
+            tuple.setUndoAccumulator(collector.accumulator().apply(resultContainer, a, b));
+        }
+    }
+
+    private void undoAccumulate(BavetGroupBridgeBiTuple<A, B, NewA, ResultContainer_, NewB> tuple,
+            ResultContainer_ resultContainer) {
+        if (reversibleCollector != null) {
+            reversibleCollector.reverse(resultContainer, tuple.getUndoToken());
+        } else {
+            tuple.getUndoAccumulator().run();
+            tuple.setUndoAccumulator(null);
+        }
+    }
+
     @Override
     public String toString() {
         return "GroupBridge()";
@@ -26,6 +26,7 @@ public final class BavetGroupBridgeBiTuple<A, B, NewA, ResultContainer_, NewB> e
     private final BavetAbstractBiTuple<A, B> parentTuple;
 
     private Runnable undoAccumulator;
+    private long undoToken;
     private BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple;
 
     public BavetGroupBridgeBiTuple(BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> node,
@@ -71,6 +72,14 @@ public final class BavetGroupBridgeBiTuple<A, B, NewA, ResultContainer_, NewB> e
         this.undoAccumulator = undoAccumulator;
     }
 
+    public long getUndoToken() {
+        return undoToken;
+    }
+
+    public void setUndoToken(long undoToken) {
+        this.undoToken = undoToken;
+    }
+
     public BavetGroupBiTuple<NewA, ResultContainer_, NewB> getChildTuple() {
         return childTuple;
     }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.core.impl.score.stream.bavet.common;
+
+import java.util.Arrays;
+
+/**
+ * A hash map with primitive long keys, for group keys that are ints or longs,
+ * so a lookup doesn't box its key.
+ * <p>
+ * It uses open addressing with linear probing in arrays, so it doesn't create an entry instance per key either.
+ * Null values are not supported.
+ *
+ * @param <Value_> the type of the values
+ */
+public final class BavetLongGroupMap<Value_> {
+
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size = 0;
+
+    public BavetLongGroupMap() {
+        keys = new long[MINIMUM_CAPACITY];
+        values = new Object[MINIMUM_CAPACITY];
+        mask = MINIMUM_CAPACITY - 1;
+    }
+
+    /**
+     * @param key any
+     * @return null if there is no value for that key
+     */
+    public Value_ get(long key) {
+        int index = hash(key) & mask;
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                return (Value_) values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * @param key any
+     * @param value never null
+     * @return null if there was no value for that key yet, otherwise the old value
+     */
+    public Value_ put(long key, Value_ value) {
+        if (value == null) {
+            throw new IllegalArgumentException("The value (" + value + ") for key (" + key + ") cannot be null.");
+        }
+        int index = hash(key) & mask;
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                Value_ oldValue = (Value_) values[index];
+                values[index] = value;
+                return oldValue;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        size++;
+        // Keep the load factor at most 1/2, so probe sequences stay short
+        if (size * 2 > values.length) {
+            resize(values.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * @param key any
+     * @return null if there was no value for that key
+     */
+    public Value_ remove(long key) {
+        int index = hash(key) & mask;
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                Value_ oldValue = (Value_) values[index];
+                shiftBack(index);
+                size--;
+                return oldValue;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Fills the gap at the removed index with a later entry of the same probe sequence, if any, and repeats,
+     * so no tombstones are needed and lookups can stop at the first empty slot.
+     */
+    private void shiftBack(int removedIndex) {
+        int gapIndex = removedIndex;
+        int index = (gapIndex + 1) & mask;
+        while (values[index] != null) {
+            int homeIndex = hash(keys[index]) & mask;
+            // Move the entry only if its home index does not lie cyclically in (gapIndex, index]
+            if (((index - homeIndex) & mask) >= ((index - gapIndex) & mask)) {
+                keys[gapIndex] = keys[index];
+                values[gapIndex] = values[index];
+                gapIndex = index;
+            }
+            index = (index + 1) & mask;
+        }
+        values[gapIndex] = null;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = hash(oldKeys[i]) & mask;
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        // Fibonacci hashing spreads consecutive keys (such as day indexes) over the whole table
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+}
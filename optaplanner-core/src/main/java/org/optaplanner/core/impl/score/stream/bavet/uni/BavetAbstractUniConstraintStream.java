@@ -232,8 +232,27 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
     public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
             Function<A, GroupKey_> groupKeyMapping,
             UniConstraintCollector<A, ResultContainer_, Result_> collector) {
+        return buildGroupBy(groupKeyMapping, null, collector);
+    }
+
+    @Override
+    public <ResultContainer_, Result_> BiConstraintStream<Integer, Result_> groupByInt(ToIntFunction<A> groupKeyMapping,
+            UniConstraintCollector<A, ResultContainer_, Result_> collector) {
+        return buildGroupBy(a -> groupKeyMapping.applyAsInt(a), groupKeyMapping::applyAsInt, collector);
+    }
+
+    @Override
+    public <ResultContainer_, Result_> BiConstraintStream<Long, Result_> groupByLong(ToLongFunction<A> groupKeyMapping,
+            UniConstraintCollector<A, ResultContainer_, Result_> collector) {
+        return buildGroupBy(a -> groupKeyMapping.applyAsLong(a), groupKeyMapping, collector);
+    }
+
+    private <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> buildGroupBy(
+            Function<A, GroupKey_> groupKeyMapping, ToLongFunction<A> primitiveGroupKeyMapping,
+            UniConstraintCollector<A, ResultContainer_, Result_> collector) {
         BavetGroupBridgeUniConstraintStream<Solution_, A, GroupKey_, ResultContainer_, Result_> bridge =
-                new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+                new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this, groupKeyMapping,
+                        primitiveGroupKeyMapping, collector);
         childStreamList.add(bridge);
         BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, Result_> groupStream =
                 new BavetGroupBiConstraintStream<>(constraintFactory, bridge, collector.finisher());
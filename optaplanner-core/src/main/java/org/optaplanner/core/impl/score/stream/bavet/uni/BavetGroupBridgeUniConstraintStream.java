@@ -18,6 +18,7 @@ package org.optaplanner.core.impl.score.stream.bavet.uni;
 
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
@@ -31,15 +32,21 @@ public final class BavetGroupBridgeUniConstraintStream<Solution_, A, NewA, Resul
 
     private final BavetAbstractUniConstraintStream<Solution_, A> parent;
     private final Function<A, NewA> groupKeyMapping;
+    private final ToLongFunction<A> primitiveGroupKeyMapping;
     private final UniConstraintCollector<A, ResultContainer_, NewB> collector;
     private BavetGroupBiConstraintStream<Solution_, NewA, ResultContainer_, NewB> groupStream;
 
+    /**
+     * @param groupKeyMapping never null, boxes the primitive group key if primitiveGroupKeyMapping isn't null
+     * @param primitiveGroupKeyMapping null if the group key is not an int or a long
+     */
     public BavetGroupBridgeUniConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
             BavetAbstractUniConstraintStream<Solution_, A> parent, Function<A, NewA> groupKeyMapping,
-            UniConstraintCollector<A, ResultContainer_, NewB> collector) {
+            ToLongFunction<A> primitiveGroupKeyMapping, UniConstraintCollector<A, ResultContainer_, NewB> collector) {
         super(constraintFactory, parent.getRetrievalSemantics());
         this.parent = parent;
         this.groupKeyMapping = groupKeyMapping;
+        this.primitiveGroupKeyMapping = primitiveGroupKeyMapping;
         this.collector = collector;
     }
 
@@ -65,7 +72,7 @@ public final class BavetGroupBridgeUniConstraintStream<Solution_, A, NewA, Resul
     protected BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, BavetAbstractUniNode<A> parentNode) {
         return new BavetGroupBridgeUniNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode,
-                groupKeyMapping, collector);
+                groupKeyMapping, primitiveGroupKeyMapping, collector);
     }
 
     @Override
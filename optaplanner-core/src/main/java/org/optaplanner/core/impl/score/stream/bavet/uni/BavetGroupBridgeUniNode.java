@@ -21,29 +21,53 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
+import org.optaplanner.core.api.score.stream.uni.ReversibleUniConstraintCollector;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiNode;
 import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetLongGroupMap;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
 public final class BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> extends BavetAbstractUniNode<A> {
 
     private final BavetAbstractUniNode<A> parentNode;
     private final Function<A, NewA> groupKeyMapping;
+    /**
+     * Null if the group key is not a primitive.
+     * Otherwise, the groupKeyMapping only boxes the group key when a new group is created.
+     */
+    private final ToLongFunction<A> primitiveGroupKeyMapping;
     private final UniConstraintCollector<A, ResultContainer_, NewB> collector;
+    /**
+     * Null if the collector isn't reversible, in which case it creates an undo operation for every accumulation.
+     */
+    private final ReversibleUniConstraintCollector<A, ResultContainer_, NewB> reversibleCollector;
     private final Map<NewA, BavetGroupBiTuple<NewA, ResultContainer_, NewB>> tupleMap;
+    private final BavetLongGroupMap<BavetGroupBiTuple<NewA, ResultContainer_, NewB>> primitiveTupleMap;
     private BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode;
 
     public BavetGroupBridgeUniNode(BavetConstraintSession session, int nodeIndex, BavetAbstractUniNode<A> parentNode,
-            Function<A, NewA> groupKeyMapping, UniConstraintCollector<A, ResultContainer_, NewB> collector) {
+            Function<A, NewA> groupKeyMapping, ToLongFunction<A> primitiveGroupKeyMapping,
+            UniConstraintCollector<A, ResultContainer_, NewB> collector) {
         super(session, nodeIndex);
         this.parentNode = parentNode;
         this.groupKeyMapping = groupKeyMapping;
+        this.primitiveGroupKeyMapping = primitiveGroupKeyMapping;
         this.collector = collector;
-        tupleMap = new HashMap<>();
+        reversibleCollector = collector instanceof ReversibleUniConstraintCollector
+                ? (ReversibleUniConstraintCollector<A, ResultContainer_, NewB>) collector
+                : null;
+        if (primitiveGroupKeyMapping == null) {
+            tupleMap = new HashMap<>();
+            primitiveTupleMap = null;
+        } else {
+            tupleMap = null;
+            primitiveTupleMap = new BavetLongGroupMap<>();
+        }
     }
 
     @Override
@@ -72,13 +96,16 @@ public final class BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> exte
             BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple = tuple.getChildTuple();
             NewA oldGroupKey = childTuple.getGroupKey();
             int parentCount = childTuple.decreaseParentCount();
-            tuple.getUndoAccumulator().run();
+            undoAccumulate(tuple, childTuple.getResultContainer());
             childTuple.clearResult();
             tuple.setChildTuple(null);
-            tuple.setUndoAccumulator(null);
             if (parentCount == 0) {
                 // Clean up tupleMap
-                tupleMap.remove(oldGroupKey);
+                if (primitiveTupleMap == null) {
+                    tupleMap.remove(oldGroupKey);
+                } else {
+                    primitiveTupleMap.remove(((Number) oldGroupKey).longValue());
+                }
                 session.transitionTuple(childTuple, BavetTupleState.DYING);
             } else {
                 session.transitionTuple(childTuple, BavetTupleState.UPDATING);
@@ -86,13 +113,10 @@ public final class BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> exte
         }
         if (tuple.isActive()) {
             A a = tuple.getFactA();
-            NewA groupKey = groupKeyMapping.apply(a);
-            BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple = tupleMap.computeIfAbsent(groupKey,
-                    k -> groupNode.createTuple(groupKey, collector.supplier().get()));
+            BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple = findOrCreateChildTuple(a);
             int parentCount = childTuple.increaseParentCount();
 
-            Runnable undoAccumulator = collector.accumulator().apply(childTuple.getResultContainer(), a);
-            tuple.setUndoAccumulator(undoAccumulator);
+            accumulate(tuple, childTuple.getResultContainer(), a);
             childTuple.clearResult();
             tuple.setChildTuple(childTuple);
             if (parentCount == 1) {
@@ -106,6 +130,40 @@ public final class BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> exte
         }
     }
 
+    private void accumulate(BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB> tuple,
+            ResultContainer_ resultContainer, A a) {
+        if (reversibleCollector != null) {
+            tuple.setUndoToken(reversibleCollector.accumulateReversibly(resultContainer, a));
+        } else {
+            tuple.setUndoAccumulator(collector.accumulator().apply(resultContainer, a));
+        }
+    }
+
+    private void undoAccumulate(BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB> tuple,
+            ResultContainer_ resultContainer) {
+        if (reversibleCollector != null) {
+            reversibleCollector.reverse(resultContainer, tuple.getUndoToken());
+        } else {
+            tuple.getUndoAccumulator().run();
+            tuple.setUndoAccumulator(null);
+        }
+    }
+
+    private BavetGroupBiTuple<NewA, ResultContainer_, NewB> findOrCreateChildTuple(A a) {
+        if (primitiveTupleMap == null) {
+            NewA groupKey = groupKeyMapping.apply(a);
+            return tupleMap.computeIfAbsent(groupKey,
+                    k -> groupNode.createTuple(groupKey, collector.supplier().get()));
+        }
+        long primitiveGroupKey = primitiveGroupKeyMapping.applyAsLong(a);
+        BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple = primitiveTupleMap.get(primitiveGroupKey);
+        if (childTuple == null) {
+            childTuple = groupNode.createTuple(groupKeyMapping.apply(a), collector.supplier().get());
+            primitiveTupleMap.put(primitiveGroupKey, childTuple);
+        }
+        return childTuple;
+    }
+
     @Override
     public String toString() {
         return "GroupBridge()";
@@ -27,6 +27,7 @@ public final class BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB> ext
     private final BavetAbstractUniTuple<A> parentTuple;
 
     private Runnable undoAccumulator;
+    private long undoToken;
     private BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple;
 
     public BavetGroupBridgeUniTuple(BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> node,
@@ -67,6 +68,14 @@ public final class BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB> ext
         this.undoAccumulator = undoAccumulator;
     }
 
+    public long getUndoToken() {
+        return undoToken;
+    }
+
+    public void setUndoToken(long undoToken) {
+        this.undoToken = undoToken;
+    }
+
     public BavetGroupBiTuple<NewA, ResultContainer_, NewB> getChildTuple() {
         return childTuple;
     }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.core.impl.score.stream.collector;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.optaplanner.core.api.score.stream.common.LoadBalanceInfo;
+
+/**
+ * Keeps the load of every balanced item together with the sum and the sum of squares of those loads,
+ * so adding or removing a value and calculating the squared deviation takes O(1) time.
+ *
+ * @param <Balanced_> The type of the items that share the load
+ */
+public final class LoadBalanceCalculator<Balanced_> implements LoadBalanceInfo<Balanced_> {
+
+    private final Map<Balanced_, BalancedLoad> balancedLoadMap = new HashMap<>();
+    private long totalLoad = 0L;
+    private long loadSquaredSum = 0L;
+
+    public void add(Balanced_ balanced, long load) {
+        BalancedLoad balancedLoad = balancedLoadMap.computeIfAbsent(balanced, key -> new BalancedLoad());
+        balancedLoad.count++;
+        changeLoad(balancedLoad, load);
+    }
+
+    public void remove(Balanced_ balanced, long load) {
+        BalancedLoad balancedLoad = balancedLoadMap.get(balanced);
+        if (balancedLoad == null) {
+            throw new IllegalStateException("Impossible state: the balanced (" + balanced
+                    + ") is removed more often than it was added.");
+        }
+        changeLoad(balancedLoad, -load);
+        balancedLoad.count--;
+        if (balancedLoad.count == 0) {
+            balancedLoadMap.remove(balanced);
+        }
+    }
+
+    private void changeLoad(BalancedLoad balancedLoad, long loadDelta) {
+        long oldLoad = balancedLoad.load;
+        long newLoad = oldLoad + loadDelta;
+        balancedLoad.load = newLoad;
+        totalLoad += loadDelta;
+        loadSquaredSum += (newLoad * newLoad) - (oldLoad * oldLoad);
+    }
+
+    public boolean isEmpty() {
+        return balancedLoadMap.isEmpty();
+    }
+
+    @Override
+    public Map<Balanced_, Long> getLoadMap() {
+        Map<Balanced_, Long> loadMap = new LinkedHashMap<>(balancedLoadMap.size());
+        balancedLoadMap.forEach((balanced, balancedLoad) -> loadMap.put(balanced, balancedLoad.load));
+        return Collections.unmodifiableMap(loadMap);
+    }
+
+    @Override
+    public long getTotalLoad() {
+        return totalLoad;
+    }
+
+    @Override
+    public double getSquaredDeviation() {
+        return calculateSquaredDeviation(balancedLoadMap.size());
+    }
+
+    @Override
+    public double getSquaredDeviation(long balancedCount) {
+        if (balancedCount < balancedLoadMap.size()) {
+            throw new IllegalArgumentException("The balancedCount (" + balancedCount
+                    + ") cannot be lower than the number of balanced items with a load (" + balancedLoadMap.size()
+                    + ").");
+        }
+        return calculateSquaredDeviation(balancedCount);
+    }
+
+    private double calculateSquaredDeviation(long balancedCount) {
+        if (balancedCount == 0L) {
+            return 0.0;
+        }
+        // Sum of (load - mean)^2 equals the sum of load^2 minus totalLoad^2 / n,
+        // the balanced items without a load add nothing to the sum of load^2
+        double squaredDeviation = loadSquaredSum - ((double) totalLoad * totalLoad / balancedCount);
+        // Avoid a tiny negative number caused by the floating point rounding
+        return Math.max(0.0, squaredDeviation);
+    }
+
+    @Override
+    public String toString() {
+        return "LoadBalanceCalculator(totalLoad=" + totalLoad + ", squaredDeviation=" + getSquaredDeviation() + ")";
+    }
+
+    private static final class BalancedLoad {
+
+        private int count = 0;
+        private long load = 0L;
+
+    }
+
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.core.impl.score.stream.collector;
+
+import org.optaplanner.core.api.score.stream.common.SlidingWindowInfo;
+
+/**
+ * A {@code SlidingWindowTree} keeps the sum of the weights in the window starting at every distinct position,
+ * in a treap (a randomized balanced binary search tree) ordered by position.
+ * Adding or removing a value adds its weight to the windows of every position in
+ * <i>(position &minus; windowSize, position]</i> at once through a lazily propagated addition,
+ * so both take O(log n) expected time and the maximum window sum is always known.
+ */
+public final class SlidingWindowTree implements SlidingWindowInfo {
+
+    private final long windowSize;
+
+    private Node root = null;
+    private int priorityState = 0x2545F491;
+    // Results of split(), to avoid allocating a pair on every split
+    private Node splitLeft = null;
+    private Node splitRight = null;
+
+    public SlidingWindowTree(long windowSize) {
+        if (windowSize <= 0L) {
+            throw new IllegalArgumentException("The windowSize (" + windowSize + ") must be positive.");
+        }
+        this.windowSize = windowSize;
+    }
+
+    public void add(long position, long weight) {
+        // Every window that starts in (position - windowSize, position] contains the value
+        addToWindowSums(position - windowSize + 1L, position + 1L, weight);
+        split(root, position);
+        Node left = splitLeft;
+        split(splitRight, position + 1L);
+        Node middle = splitLeft;
+        Node right = splitRight;
+        if (middle == null) {
+            middle = new Node(position, nextPriority());
+            middle.windowSum = weight + sumWeightsBefore(right, position + windowSize);
+        }
+        middle.count++;
+        middle.weight += weight;
+        update(middle);
+        root = merge(merge(left, middle), right);
+    }
+
+    public void remove(long position, long weight) {
+        addToWindowSums(position - windowSize + 1L, position + 1L, -weight);
+        split(root, position);
+        Node left = splitLeft;
+        split(splitRight, position + 1L);
+        Node middle = splitLeft;
+        Node right = splitRight;
+        if (middle == null) {
+            throw new IllegalStateException("Impossible state: the position (" + position
+                    + ") is removed more often than it was added.");
+        }
+        middle.count--;
+        middle.weight -= weight;
+        if (middle.count == 0) {
+            middle = null;
+        } else {
+            update(middle);
+        }
+        root = merge(merge(left, middle), right);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public long getWindowSize() {
+        return windowSize;
+    }
+
+    @Override
+    public long getWindowSum(long windowStart) {
+        return sumWeightsBefore(root, windowStart + windowSize) - sumWeightsBefore(root, windowStart);
+    }
+
+    @Override
+    public long getMaximumWindowSum() {
+        return root == null ? 0L : root.subtreeMaximum;
+    }
+
+    @Override
+    public Long getMaximumWindowStart() {
+        if (root == null) {
+            return null;
+        }
+        long maximum = root.subtreeMaximum;
+        Node node = root;
+        while (true) {
+            push(node);
+            if (node.left != null && node.left.subtreeMaximum == maximum) {
+                node = node.left;
+            } else if (node.windowSum == maximum) {
+                return node.position;
+            } else {
+                node = node.right;
+            }
+        }
+    }
+
+    private void addToWindowSums(long fromPosition, long toPosition, long delta) {
+        split(root, fromPosition);
+        Node left = splitLeft;
+        split(splitRight, toPosition);
+        Node middle = splitLeft;
+        Node right = splitRight;
+        if (middle != null) {
+            apply(middle, delta);
+        }
+        root = merge(merge(left, middle), right);
+    }
+
+    /**
+     * @param node sometimes null
+     * @param toPosition exclusive
+     * @return the sum of the weights of all positions before toPosition
+     */
+    private static long sumWeightsBefore(Node node, long toPosition) {
+        long sum = 0L;
+        while (node != null) {
+            if (node.position < toPosition) {
+                sum += node.weight + subtreeWeight(node.left);
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Splits the subtree into {@link #splitLeft} with the positions before the given position
+     * and {@link #splitRight} with the others.
+     */
+    private void split(Node node, long position) {
+        if (node == null) {
+            splitLeft = null;
+            splitRight = null;
+            return;
+        }
+        push(node);
+        if (node.position < position) {
+            split(node.right, position);
+            node.right = splitLeft;
+            update(node);
+            splitLeft = node;
+        } else {
+            split(node.left, position);
+            node.left = splitRight;
+            update(node);
+            splitRight = node;
+        }
+    }
+
+    /**
+     * Every position in the left subtree must be before every position in the right subtree.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        } else if (left.priority > right.priority) {
+            push(left);
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        } else {
+            push(right);
+            right.left = merge(left, right.left);
+            update(right);
+            return right;
+        }
+    }
+
+    private static void apply(Node node, long delta) {
+        node.windowSum += delta;
+        node.subtreeMaximum += delta;
+        node.pendingDelta += delta;
+    }
+
+    private static void push(Node node) {
+        if (node.pendingDelta != 0L) {
+            if (node.left != null) {
+                apply(node.left, node.pendingDelta);
+            }
+            if (node.right != null) {
+                apply(node.right, node.pendingDelta);
+            }
+            node.pendingDelta = 0L;
+        }
+    }
+
+    private static void update(Node node) {
+        long subtreeMaximum = node.windowSum;
+        long subtreeWeight = node.weight;
+        if (node.left != null) {
+            subtreeMaximum = Math.max(subtreeMaximum, node.left.subtreeMaximum);
+            subtreeWeight += node.left.subtreeWeight;
+        }
+        if (node.right != null) {
+            subtreeMaximum = Math.max(subtreeMaximum, node.right.subtreeMaximum);
+            subtreeWeight += node.right.subtreeWeight;
+        }
+        node.subtreeMaximum = subtreeMaximum;
+        node.subtreeWeight = subtreeWeight;
+    }
+
+    private static long subtreeWeight(Node node) {
+        return node == null ? 0L : node.subtreeWeight;
+    }
+
+    private int nextPriority() {
+        // Xorshift, deterministic and cheaper than java.util.Random
+        priorityState ^= priorityState << 13;
+        priorityState ^= priorityState >>> 17;
+        priorityState ^= priorityState << 5;
+        return priorityState;
+    }
+
+    @Override
+    public String toString() {
+        return "SlidingWindowTree(windowSize=" + windowSize + ", maximumWindowSum=" + getMaximumWindowSum() + ")";
+    }
+
+    private static final class Node {
+
+        private final long position;
+        private final int priority;
+
+        private int count = 0;
+        private long weight = 0L;
+        private long subtreeWeight = 0L;
+        // The sum of the weights in [position, position + windowSize), already including pendingDelta
+        private long windowSum = 0L;
+        private long subtreeMaximum = 0L;
+        // Not yet added to the windowSum of the descendants
+        private long pendingDelta = 0L;
+
+        private Node left = null;
+        private Node right = null;
+
+        private Node(long position, int priority) {
+            this.position = position;
+            this.priority = priority;
+        }
+
+    }
+
+}
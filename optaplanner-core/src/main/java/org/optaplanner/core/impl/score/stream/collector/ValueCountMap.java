@@ -0,0 +1,150 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.core.impl.score.stream.collector;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Counts how many times every distinct value is present, for the countDistinct, min and max collectors.
+ * <p>
+ * Every distinct value gets a slot, and {@link #add(Object)} returns the index of that slot as the undo token,
+ * so {@link #remove(long)} doesn't need the value and no undo operation needs to be created.
+ * The slot of a value that is no longer present is reused for the next new value,
+ * so adding a value that is already present, or that replaces an earlier one, doesn't allocate memory.
+ *
+ * @param <Value_> the type of the counted values
+ */
+public final class ValueCountMap<Value_> {
+
+    /**
+     * @return never null, the values are compared by {@link Object#equals(Object)}
+     * @param <Value_> the type of the counted values
+     */
+    public static <Value_> ValueCountMap<Value_> hashed() {
+        return new ValueCountMap<>(new HashMap<>());
+    }
+
+    /**
+     * @param comparator never null, must be consistent with equals
+     * @return never null, supports {@link #getFirstValue()} and {@link #getLastValue()}
+     * @param <Value_> the type of the counted values
+     */
+    public static <Value_> ValueCountMap<Value_> sorted(Comparator<? super Value_> comparator) {
+        return new ValueCountMap<>(new TreeMap<>(comparator));
+    }
+
+    private final Map<Value_, Slot<Value_>> slotMap;
+    private Slot<Value_>[] slots = new Slot[4];
+    private int slotCount = 0;
+    private Slot<Value_> firstFreeSlot = null;
+
+    private ValueCountMap(Map<Value_, Slot<Value_>> slotMap) {
+        this.slotMap = slotMap;
+    }
+
+    /**
+     * @param value sometimes null
+     * @return the undo token to pass to {@link #remove(long)}
+     */
+    public long add(Value_ value) {
+        Slot<Value_> slot = slotMap.get(value);
+        if (slot == null) {
+            slot = claimSlot();
+            slot.value = value;
+            slotMap.put(value, slot);
+        }
+        slot.count++;
+        return slot.index;
+    }
+
+    private Slot<Value_> claimSlot() {
+        if (firstFreeSlot != null) {
+            Slot<Value_> slot = firstFreeSlot;
+            firstFreeSlot = slot.nextFreeSlot;
+            slot.nextFreeSlot = null;
+            return slot;
+        }
+        if (slotCount == slots.length) {
+            Slot<Value_>[] newSlots = new Slot[slots.length * 2];
+            System.arraycopy(slots, 0, newSlots, 0, slotCount);
+            slots = newSlots;
+        }
+        Slot<Value_> slot = new Slot<>(slotCount);
+        slots[slotCount] = slot;
+        slotCount++;
+        return slot;
+    }
+
+    /**
+     * @param undoToken the return value of an earlier {@link #add(Object)} call that hasn't been removed yet
+     */
+    public void remove(long undoToken) {
+        if (undoToken < 0L || undoToken >= slotCount || slots[(int) undoToken].count == 0) {
+            throw new IllegalStateException("Impossible state: the undoToken (" + undoToken
+                    + ") is removed more times than it was added.");
+        }
+        Slot<Value_> slot = slots[(int) undoToken];
+        slot.count--;
+        if (slot.count == 0) {
+            slotMap.remove(slot.value);
+            slot.value = null;
+            slot.nextFreeSlot = firstFreeSlot;
+            firstFreeSlot = slot;
+        }
+    }
+
+    /**
+     * @return {@code >= 0}, the number of distinct values
+     */
+    public int size() {
+        return slotMap.size();
+    }
+
+    /**
+     * @return null if empty, the smallest value of a {@link #sorted(Comparator)} instance
+     */
+    public Value_ getFirstValue() {
+        TreeMap<Value_, Slot<Value_>> sortedSlotMap = (TreeMap<Value_, Slot<Value_>>) slotMap;
+        return sortedSlotMap.isEmpty() ? null : sortedSlotMap.firstKey();
+    }
+
+    /**
+     * @return null if empty, the largest value of a {@link #sorted(Comparator)} instance
+     */
+    public Value_ getLastValue() {
+        TreeMap<Value_, Slot<Value_>> sortedSlotMap = (TreeMap<Value_, Slot<Value_>>) slotMap;
+        return sortedSlotMap.isEmpty() ? null : sortedSlotMap.lastKey();
+    }
+
+    private static final class Slot<Value_> {
+
+        private final int index;
+        private Value_ value;
+        private int count = 0;
+        private Slot<Value_> nextFreeSlot = null;
+
+        private Slot(int index) {
+            this.index = index;
+        }
+
+    }
+
+}
@@ -32,6 +32,7 @@ import org.optaplanner.core.api.score.buildin.hardmediumsoftbigdecimal.HardMediu
 import org.optaplanner.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+import org.optaplanner.core.api.score.buildin.hardsoftdecimal.HardSoftDecimalScore;
 import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.buildin.simplebigdecimal.SimpleBigDecimalScore;
@@ -47,6 +48,7 @@ import org.optaplanner.core.impl.score.buildin.HardMediumSoftBigDecimalScoreDefi
 import org.optaplanner.core.impl.score.buildin.HardMediumSoftLongScoreDefinition;
 import org.optaplanner.core.impl.score.buildin.HardMediumSoftScoreDefinition;
 import org.optaplanner.core.impl.score.buildin.HardSoftBigDecimalScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.HardSoftDecimalScoreDefinition;
 import org.optaplanner.core.impl.score.buildin.HardSoftLongScoreDefinition;
 import org.optaplanner.core.impl.score.buildin.HardSoftScoreDefinition;
 import org.optaplanner.core.impl.score.buildin.SimpleBigDecimalScoreDefinition;
@@ -83,6 +85,11 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
         } else if (scoreDefinition instanceof HardSoftBigDecimalScoreDefinition) {
             return (ScoreInliner_) new HardSoftBigDecimalScoreInliner(
                     (Map<Constraint, HardSoftBigDecimalScore>) constraintIdToWeightMap, constraintMatchEnabled);
+        } else if (scoreDefinition instanceof HardSoftDecimalScoreDefinition) {
+            HardSoftDecimalScoreDefinition decimalScoreDefinition = (HardSoftDecimalScoreDefinition) scoreDefinition;
+            return (ScoreInliner_) new HardSoftDecimalScoreInliner(
+                    (Map<Constraint, HardSoftDecimalScore>) constraintIdToWeightMap, constraintMatchEnabled,
+                    decimalScoreDefinition.getScale());
         } else if (scoreDefinition instanceof HardMediumSoftScoreDefinition) {
             return (ScoreInliner_) new HardMediumSoftScoreInliner(
                     (Map<Constraint, HardMediumSoftScore>) constraintIdToWeightMap, constraintMatchEnabled);
@@ -138,15 +145,16 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
 
     private final Map<String, Score_> constraintIdToWeightMap;
     protected final boolean constraintMatchEnabled;
-    private final Map<String, DefaultConstraintMatchTotal<Score_>> constraintMatchTotalMap;
-    private final Map<Object, DefaultIndictment<Score_>> indictmentMap;
+    private final Map<String, ConstraintMatchTracker> constraintMatchTrackerMap;
+    // Built lazily from the constraintMatchTrackerMap and discarded on every constraint match change
+    private Map<String, DefaultConstraintMatchTotal<Score_>> constraintMatchTotalMap = null;
+    private Map<Object, DefaultIndictment<Score_>> indictmentMap = null;
 
     protected AbstractScoreInliner(Map<Constraint, Score_> constraintToWeightMap, boolean constraintMatchEnabled) {
         this.constraintIdToWeightMap = Objects.requireNonNull(constraintToWeightMap).entrySet().stream()
                 .collect(Collectors.toMap(e -> e.getKey().getConstraintId(), Map.Entry::getValue));
         this.constraintMatchEnabled = constraintMatchEnabled;
-        this.constraintMatchTotalMap = constraintMatchEnabled ? new LinkedHashMap<>() : null;
-        this.indictmentMap = constraintMatchEnabled ? new LinkedHashMap<>() : null;
+        this.constraintMatchTrackerMap = constraintMatchEnabled ? new LinkedHashMap<>() : null;
     }
 
     public abstract Score_ extractScore(int initScore);
@@ -159,46 +167,74 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
      */
     public abstract WeightedScoreImpacter buildWeightedScoreImpacter(Constraint constraint);
 
+    /**
+     * Only remembers the score and the justificationsSupplier of the match.
+     * The {@link ConstraintMatch} and its {@link Indictment}s are only created
+     * when {@link #getConstraintMatchTotalMap()} or {@link #getIndictmentMap()} is called,
+     * so the justifications aren't created for matches that are undone before that.
+     *
+     * @param constraint never null
+     * @param constraintWeight never null
+     * @param score never null
+     * @param justificationsSupplier never null, must return the same justifications when called later
+     * @return never null, undoes the match
+     */
     protected final Runnable addConstraintMatch(Constraint constraint, Score_ constraintWeight, Score_ score,
-            List<Object> justificationList) {
-        String constraintPackage = constraint.getConstraintPackage();
-        String constraintName = constraint.getConstraintName();
-        DefaultConstraintMatchTotal<Score_> constraintMatchTotal = constraintMatchTotalMap.computeIfAbsent(
-                constraint.getConstraintId(),
-                key -> new DefaultConstraintMatchTotal<>(constraintPackage, constraintName, constraintWeight));
-        ConstraintMatch<Score_> constraintMatch = constraintMatchTotal.addConstraintMatch(justificationList, score);
-        DefaultIndictment<Score_>[] indictments = justificationList.stream()
-                .distinct() // One match might have the same justification twice
-                .map(justification -> {
-                    DefaultIndictment<Score_> indictment = indictmentMap.computeIfAbsent(justification,
-                            key -> new DefaultIndictment<>(justification, constraintMatch.getScore().zero()));
-                    indictment.addConstraintMatch(constraintMatch);
-                    return indictment;
-                }).toArray(DefaultIndictment[]::new);
-        return () -> {
-            constraintMatchTotal.removeConstraintMatch(constraintMatch);
-            if (constraintMatchTotal.getConstraintMatchSet().isEmpty()) {
-                constraintMatchTotalMap.remove(constraint.getConstraintId());
-            }
-            for (DefaultIndictment<Score_> indictment : indictments) {
-                indictment.removeConstraintMatch(constraintMatch);
-                if (indictment.getConstraintMatchSet().isEmpty()) {
-                    indictmentMap.remove(indictment.getJustification());
-                }
-            }
-        };
+            JustificationsSupplier justificationsSupplier) {
+        ConstraintMatchTracker constraintMatchTracker = constraintMatchTrackerMap.computeIfAbsent(
+                constraint.getConstraintId(), key -> new ConstraintMatchTracker(constraint, constraintWeight));
+        return constraintMatchTracker.add(score, justificationsSupplier);
     }
 
     public final Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap() {
+        materializeConstraintMatches();
         // Unchecked assignment necessary as CMT and DefaultCMT incompatible in the Map generics.
         return (Map) constraintMatchTotalMap;
     }
 
     public final Map<Object, Indictment<Score_>> getIndictmentMap() {
+        materializeConstraintMatches();
         // Unchecked assignment necessary as Indictment and DefaultIndictment incompatible in the Map generics.
         return (Map) indictmentMap;
     }
 
+    private void materializeConstraintMatches() {
+        if (!constraintMatchEnabled || constraintMatchTotalMap != null) {
+            return;
+        }
+        Map<String, DefaultConstraintMatchTotal<Score_>> newConstraintMatchTotalMap =
+                new LinkedHashMap<>(constraintMatchTrackerMap.size());
+        Map<Object, DefaultIndictment<Score_>> newIndictmentMap = new LinkedHashMap<>();
+        for (ConstraintMatchTracker constraintMatchTracker : constraintMatchTrackerMap.values()) {
+            if (constraintMatchTracker.matchCount == 0) {
+                continue;
+            }
+            Constraint constraint = constraintMatchTracker.constraint;
+            DefaultConstraintMatchTotal<Score_> constraintMatchTotal = new DefaultConstraintMatchTotal<>(
+                    constraint.getConstraintPackage(), constraint.getConstraintName(),
+                    constraintMatchTracker.constraintWeight);
+            newConstraintMatchTotalMap.put(constraint.getConstraintId(), constraintMatchTotal);
+            for (TrackedConstraintMatch trackedConstraintMatch = constraintMatchTracker.first;
+                    trackedConstraintMatch != null; trackedConstraintMatch = trackedConstraintMatch.next) {
+                List<Object> justificationList = trackedConstraintMatch.justificationsSupplier.get();
+                ConstraintMatch<Score_> constraintMatch =
+                        constraintMatchTotal.addConstraintMatch(justificationList, trackedConstraintMatch.score);
+                justificationList.stream()
+                        .distinct() // One match might have the same justification twice
+                        .forEach(justification -> newIndictmentMap.computeIfAbsent(justification,
+                                key -> new DefaultIndictment<>(justification, constraintMatch.getScore().zero()))
+                                .addConstraintMatch(constraintMatch));
+            }
+        }
+        constraintMatchTotalMap = newConstraintMatchTotalMap;
+        indictmentMap = newIndictmentMap;
+    }
+
+    private void discardMaterializedConstraintMatches() {
+        constraintMatchTotalMap = null;
+        indictmentMap = null;
+    }
+
     protected final Score_ getConstraintWeight(Constraint constraint) {
         Score_ constraintWeight = constraintIdToWeightMap.get(constraint.getConstraintId());
         if (constraintWeight == null || constraintWeight.isZero()) {
@@ -209,4 +245,87 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
         return constraintWeight;
     }
 
+    /**
+     * Keeps the matches of one constraint in a doubly linked list,
+     * so adding and undoing a match is cheap and needs no hashing.
+     */
+    private final class ConstraintMatchTracker {
+
+        private final Constraint constraint;
+        private final Score_ constraintWeight;
+
+        private TrackedConstraintMatch first = null;
+        private TrackedConstraintMatch last = null;
+        private int matchCount = 0;
+
+        private ConstraintMatchTracker(Constraint constraint, Score_ constraintWeight) {
+            this.constraint = constraint;
+            this.constraintWeight = constraintWeight;
+        }
+
+        private TrackedConstraintMatch add(Score_ score, JustificationsSupplier justificationsSupplier) {
+            TrackedConstraintMatch trackedConstraintMatch =
+                    new TrackedConstraintMatch(this, score, justificationsSupplier);
+            trackedConstraintMatch.previous = last;
+            if (last == null) {
+                first = trackedConstraintMatch;
+            } else {
+                last.next = trackedConstraintMatch;
+            }
+            last = trackedConstraintMatch;
+            matchCount++;
+            discardMaterializedConstraintMatches();
+            return trackedConstraintMatch;
+        }
+
+        private void remove(TrackedConstraintMatch trackedConstraintMatch) {
+            if (trackedConstraintMatch.previous == null) {
+                first = trackedConstraintMatch.next;
+            } else {
+                trackedConstraintMatch.previous.next = trackedConstraintMatch.next;
+            }
+            if (trackedConstraintMatch.next == null) {
+                last = trackedConstraintMatch.previous;
+            } else {
+                trackedConstraintMatch.next.previous = trackedConstraintMatch.previous;
+            }
+            matchCount--;
+            discardMaterializedConstraintMatches();
+        }
+
+    }
+
+    /**
+     * Its {@link #run()} undoes the match.
+     */
+    private final class TrackedConstraintMatch implements Runnable {
+
+        private final ConstraintMatchTracker constraintMatchTracker;
+        private final Score_ score;
+        private final JustificationsSupplier justificationsSupplier;
+
+        private TrackedConstraintMatch previous = null;
+        private TrackedConstraintMatch next = null;
+        private boolean removed = false;
+
+        private TrackedConstraintMatch(ConstraintMatchTracker constraintMatchTracker, Score_ score,
+                JustificationsSupplier justificationsSupplier) {
+            this.constraintMatchTracker = constraintMatchTracker;
+            this.score = score;
+            this.justificationsSupplier = justificationsSupplier;
+        }
+
+        @Override
+        public void run() {
+            if (removed) {
+                throw new IllegalStateException("Impossible state: the constraint match with score (" + score
+                        + ") of constraint (" + constraintMatchTracker.constraint.getConstraintId()
+                        + ") is undone twice.");
+            }
+            removed = true;
+            constraintMatchTracker.remove(this);
+        }
+
+    }
+
 }
@@ -65,7 +65,7 @@ final class BendableBigDecimalScoreInliner extends AbstractScoreInliner<Bendable
                             }
                             Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                                     BendableBigDecimalScore.ofHard(hardScores.length, softScores.length, level, hardImpact),
-                                    justificationsSupplier.get());
+                                    justificationsSupplier);
                             return () -> {
                                 undoScoreImpact.run();
                                 undoConstraintMatch.run();
@@ -84,7 +84,7 @@ final class BendableBigDecimalScoreInliner extends AbstractScoreInliner<Bendable
                             }
                             Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                                     BendableBigDecimalScore.ofSoft(hardScores.length, softScores.length, level, softImpact),
-                                    justificationsSupplier.get());
+                                    justificationsSupplier);
                             return () -> {
                                 undoScoreImpact.run();
                                 undoConstraintMatch.run();
@@ -117,7 +117,7 @@ final class BendableBigDecimalScoreInliner extends AbstractScoreInliner<Bendable
                         }
                         Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                                 BendableBigDecimalScore.of(hardImpacts, softImpacts),
-                                justificationsSupplier.get());
+                                justificationsSupplier);
                         return () -> {
                             undoScoreImpact.run();
                             undoConstraintMatch.run();
@@ -60,7 +60,7 @@ public final class BendableLongScoreInliner extends AbstractScoreInliner<Bendabl
                     }
                     Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                             BendableLongScore.ofHard(hardScores.length, softScores.length, level, hardImpact),
-                            justificationsSupplier.get());
+                            justificationsSupplier);
                     return () -> {
                         undoScoreImpact.run();
                         undoConstraintMatch.run();
@@ -77,7 +77,7 @@ public final class BendableLongScoreInliner extends AbstractScoreInliner<Bendabl
                     }
                     Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                             BendableLongScore.ofSoft(hardScores.length, softScores.length, level, softImpact),
-                            justificationsSupplier.get());
+                            justificationsSupplier);
                     return () -> {
                         undoScoreImpact.run();
                         undoConstraintMatch.run();
@@ -85,30 +85,19 @@ public final class BendableLongScoreInliner extends AbstractScoreInliner<Bendabl
                 });
             }
         } else {
+            long[] hardWeights = constraintWeight.getHardScores();
+            long[] softWeights = constraintWeight.getSoftScores();
             return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                long[] hardImpacts = new long[hardScores.length];
-                long[] softImpacts = new long[softScores.length];
-                for (int i = 0; i < hardImpacts.length; i++) {
-                    hardImpacts[i] = constraintWeight.getHardScore(i) * matchWeight;
-                    this.hardScores[i] += hardImpacts[i];
-                }
-                for (int i = 0; i < softImpacts.length; i++) {
-                    softImpacts[i] = constraintWeight.getSoftScore(i) * matchWeight;
-                    this.softScores[i] += softImpacts[i];
-                }
-                UndoScoreImpacter undoScoreImpact = () -> {
-                    for (int i = 0; i < hardImpacts.length; i++) {
-                        this.hardScores[i] -= hardImpacts[i];
-                    }
-                    for (int i = 0; i < softImpacts.length; i++) {
-                        this.softScores[i] -= softImpacts[i];
-                    }
-                };
+                // Impact the levels in place and recalculate the impacts on undo, to avoid creating arrays per match
+                impactLevels(hardWeights, softWeights, matchWeight);
+                UndoScoreImpacter undoScoreImpact = () -> impactLevels(hardWeights, softWeights, -matchWeight);
                 if (!constraintMatchEnabled) {
                     return undoScoreImpact;
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        BendableLongScore.of(hardImpacts, softImpacts), justificationsSupplier.get());
+                        BendableLongScore.of(multiplyLevels(hardWeights, matchWeight),
+                                multiplyLevels(softWeights, matchWeight)),
+                        justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -117,6 +106,23 @@ public final class BendableLongScoreInliner extends AbstractScoreInliner<Bendabl
         }
     }
 
+    private void impactLevels(long[] hardWeights, long[] softWeights, long matchWeight) {
+        for (int i = 0; i < hardScores.length; i++) {
+            hardScores[i] += hardWeights[i] * matchWeight;
+        }
+        for (int i = 0; i < softScores.length; i++) {
+            softScores[i] += softWeights[i] * matchWeight;
+        }
+    }
+
+    private static long[] multiplyLevels(long[] weights, long matchWeight) {
+        long[] impacts = new long[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            impacts[i] = weights[i] * matchWeight;
+        }
+        return impacts;
+    }
+
     @Override
     public BendableLongScore extractScore(int initScore) {
         return BendableLongScore.ofUninitialized(initScore,
@@ -60,7 +60,7 @@ final class BendableScoreInliner extends AbstractScoreInliner<BendableScore> {
                     }
                     Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                             BendableScore.ofHard(hardScores.length, softScores.length, level, hardImpact),
-                            justificationsSupplier.get());
+                            justificationsSupplier);
                     return () -> {
                         undoScoreImpact.run();
                         undoConstraintMatch.run();
@@ -77,7 +77,7 @@ final class BendableScoreInliner extends AbstractScoreInliner<BendableScore> {
                     }
                     Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                             BendableScore.ofSoft(hardScores.length, softScores.length, level, softImpact),
-                            justificationsSupplier.get());
+                            justificationsSupplier);
                     return () -> {
                         undoScoreImpact.run();
                         undoConstraintMatch.run();
@@ -85,30 +85,19 @@ final class BendableScoreInliner extends AbstractScoreInliner<BendableScore> {
                 });
             }
         } else {
+            int[] hardWeights = constraintWeight.getHardScores();
+            int[] softWeights = constraintWeight.getSoftScores();
             return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
-                int[] hardImpacts = new int[hardScores.length];
-                int[] softImpacts = new int[softScores.length];
-                for (int i = 0; i < hardImpacts.length; i++) {
-                    hardImpacts[i] = constraintWeight.getHardScore(i) * matchWeight;
-                    this.hardScores[i] += hardImpacts[i];
-                }
-                for (int i = 0; i < softImpacts.length; i++) {
-                    softImpacts[i] = constraintWeight.getSoftScore(i) * matchWeight;
-                    this.softScores[i] += softImpacts[i];
-                }
-                UndoScoreImpacter undoScoreImpact = () -> {
-                    for (int i = 0; i < hardImpacts.length; i++) {
-                        this.hardScores[i] -= hardImpacts[i];
-                    }
-                    for (int i = 0; i < softImpacts.length; i++) {
-                        this.softScores[i] -= softImpacts[i];
-                    }
-                };
+                // Impact the levels in place and recalculate the impacts on undo, to avoid creating arrays per match
+                impactLevels(hardWeights, softWeights, matchWeight);
+                UndoScoreImpacter undoScoreImpact = () -> impactLevels(hardWeights, softWeights, -matchWeight);
                 if (!constraintMatchEnabled) {
                     return undoScoreImpact;
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        BendableScore.of(hardImpacts, softImpacts), justificationsSupplier.get());
+                        BendableScore.of(multiplyLevels(hardWeights, matchWeight),
+                                multiplyLevels(softWeights, matchWeight)),
+                        justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -117,6 +106,23 @@ final class BendableScoreInliner extends AbstractScoreInliner<BendableScore> {
         }
     }
 
+    private void impactLevels(int[] hardWeights, int[] softWeights, int matchWeight) {
+        for (int i = 0; i < hardScores.length; i++) {
+            hardScores[i] += hardWeights[i] * matchWeight;
+        }
+        for (int i = 0; i < softScores.length; i++) {
+            softScores[i] += softWeights[i] * matchWeight;
+        }
+    }
+
+    private static int[] multiplyLevels(int[] weights, int matchWeight) {
+        int[] impacts = new int[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            impacts[i] = weights[i] * matchWeight;
+        }
+        return impacts;
+    }
+
     @Override
     public BendableScore extractScore(int initScore) {
         return BendableScore.ofUninitialized(initScore,
@@ -49,7 +49,7 @@ final class HardMediumSoftBigDecimalScoreInliner extends AbstractScoreInliner<Ha
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardMediumSoftBigDecimalScore.ofHard(hardImpact),
-                        justificationsSupplier.get());
+                        justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -65,7 +65,7 @@ final class HardMediumSoftBigDecimalScoreInliner extends AbstractScoreInliner<Ha
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardMediumSoftBigDecimalScore.ofMedium(mediumImpact),
-                        justificationsSupplier.get());
+                        justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -81,7 +81,7 @@ final class HardMediumSoftBigDecimalScoreInliner extends AbstractScoreInliner<Ha
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardMediumSoftBigDecimalScore.ofSoft(softImpact),
-                        justificationsSupplier.get());
+                        justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -105,7 +105,7 @@ final class HardMediumSoftBigDecimalScoreInliner extends AbstractScoreInliner<Ha
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardMediumSoftBigDecimalScore.of(hardImpact, mediumImpact, softImpact),
-                        justificationsSupplier.get());
+                        justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -46,7 +46,7 @@ final class HardSoftBigDecimalScoreInliner extends AbstractScoreInliner<HardSoft
                     return undoScoreImpact;
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardSoftBigDecimalScore.ofHard(hardImpact), justificationsSupplier.get());
+                        HardSoftBigDecimalScore.ofHard(hardImpact), justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -61,7 +61,7 @@ final class HardSoftBigDecimalScoreInliner extends AbstractScoreInliner<HardSoft
                     return undoScoreImpact;
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardSoftBigDecimalScore.ofSoft(softImpact), justificationsSupplier.get());
+                        HardSoftBigDecimalScore.ofSoft(softImpact), justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -82,7 +82,7 @@ final class HardSoftBigDecimalScoreInliner extends AbstractScoreInliner<HardSoft
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardSoftBigDecimalScore.of(hardImpact, softImpact),
-                        justificationsSupplier.get());
+                        justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
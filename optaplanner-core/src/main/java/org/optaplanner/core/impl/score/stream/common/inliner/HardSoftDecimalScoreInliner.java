@@ -0,0 +1,163 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.common.inliner;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import org.optaplanner.core.api.domain.solution.PlanningScore;
+import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+import org.optaplanner.core.api.score.buildin.hardsoftdecimal.HardSoftDecimalScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+
+final class HardSoftDecimalScoreInliner extends AbstractScoreInliner<HardSoftDecimalScore> {
+
+    private final int scale;
+    private long hardScore;
+    private long softScore;
+
+    /**
+     * @param constraintToWeightMap never null
+     * @param constraintMatchEnabled true if constraint matches are tracked
+     * @param configuredScale {@link PlanningScore#NO_DECIMAL_SCALE} to use the largest scale of the constraint weights
+     */
+    HardSoftDecimalScoreInliner(Map<Constraint, HardSoftDecimalScore> constraintToWeightMap,
+            boolean constraintMatchEnabled, int configuredScale) {
+        super(constraintToWeightMap, constraintMatchEnabled);
+        if (configuredScale == PlanningScore.NO_DECIMAL_SCALE) {
+            // All constraint weights get the same scale, so every impact is a long addition without rescaling
+            scale = constraintToWeightMap.values().stream()
+                    .mapToInt(HardSoftDecimalScore::getScale)
+                    .max()
+                    .orElse(0);
+        } else {
+            scale = configuredScale;
+            for (Map.Entry<Constraint, HardSoftDecimalScore> entry : constraintToWeightMap.entrySet()) {
+                try {
+                    entry.getValue().withScale(configuredScale);
+                } catch (ArithmeticException e) {
+                    throw new IllegalStateException("The constraint (" + entry.getKey().getConstraintId()
+                            + ")'s weight (" + entry.getValue() + ") does not fit in the scale (" + configuredScale
+                            + ").\n"
+                            + "Maybe increase the decimalScale of the @" + PlanningScore.class.getSimpleName()
+                            + " annotation.", e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public WeightedScoreImpacter buildWeightedScoreImpacter(Constraint constraint) {
+        HardSoftDecimalScore constraintWeight = getConstraintWeight(constraint);
+        HardSoftDecimalScore scaledConstraintWeight = constraintWeight.withScale(scale);
+        long hardConstraintWeight = scaledConstraintWeight.getHardUnscaledScore();
+        long softConstraintWeight = scaledConstraintWeight.getSoftUnscaledScore();
+        return new WeightedScoreImpacter() {
+
+            @Override
+            public UndoScoreImpacter impactScore(int matchWeight, JustificationsSupplier justificationsSupplier) {
+                return impactScore((long) matchWeight, justificationsSupplier);
+            }
+
+            @Override
+            public UndoScoreImpacter impactScore(long matchWeight, JustificationsSupplier justificationsSupplier) {
+                long hardImpact;
+                long softImpact;
+                try {
+                    hardImpact = Math.multiplyExact(hardConstraintWeight, matchWeight);
+                    softImpact = Math.multiplyExact(softConstraintWeight, matchWeight);
+                } catch (ArithmeticException e) {
+                    throw buildOverflowException(constraint);
+                }
+                return impact(constraint, constraintWeight, hardImpact, softImpact, justificationsSupplier);
+            }
+
+            @Override
+            public UndoScoreImpacter impactScore(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) {
+                long hardImpact = toUnscaledImpact(constraint, hardConstraintWeight, matchWeight);
+                long softImpact = toUnscaledImpact(constraint, softConstraintWeight, matchWeight);
+                return impact(constraint, constraintWeight, hardImpact, softImpact, justificationsSupplier);
+            }
+
+        };
+    }
+
+    private long toUnscaledImpact(Constraint constraint, long unscaledConstraintWeight, BigDecimal matchWeight) {
+        BigDecimal unscaledImpact = BigDecimal.valueOf(unscaledConstraintWeight).multiply(matchWeight);
+        // Never round, that would lose the precision this score type exists for
+        if (unscaledImpact.stripTrailingZeros().scale() > 0) {
+            throw new IllegalArgumentException("The constraint (" + constraint.getConstraintId()
+                    + ")'s impact (" + BigDecimal.valueOf(unscaledConstraintWeight, scale).multiply(matchWeight)
+                    + ") with the matchWeight (" + matchWeight
+                    + ") has more digits after the decimal point than the scale (" + scale + ").\n"
+                    + "Maybe set or increase the decimalScale of the @" + PlanningScore.class.getSimpleName()
+                    + " annotation.");
+        }
+        try {
+            return unscaledImpact.longValueExact();
+        } catch (ArithmeticException e) {
+            throw buildOverflowException(constraint);
+        }
+    }
+
+    private UndoScoreImpacter impact(Constraint constraint, HardSoftDecimalScore constraintWeight,
+            long hardImpact, long softImpact, JustificationsSupplier justificationsSupplier) {
+        updateScore(constraint, hardImpact, softImpact, false);
+        UndoScoreImpacter undoScoreImpact = () -> updateScore(constraint, hardImpact, softImpact, true);
+        if (!constraintMatchEnabled) {
+            return undoScoreImpact;
+        }
+        Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
+                HardSoftDecimalScore.ofUnscaled(hardImpact, softImpact, scale), justificationsSupplier);
+        return () -> {
+            undoScoreImpact.run();
+            undoConstraintMatch.run();
+        };
+    }
+
+    private void updateScore(Constraint constraint, long hardImpact, long softImpact, boolean undo) {
+        long newHardScore;
+        long newSoftScore;
+        try {
+            // Not negating the impact on undo, because -Long.MIN_VALUE overflows
+            newHardScore = undo ? Math.subtractExact(hardScore, hardImpact) : Math.addExact(hardScore, hardImpact);
+            newSoftScore = undo ? Math.subtractExact(softScore, softImpact) : Math.addExact(softScore, softImpact);
+        } catch (ArithmeticException e) {
+            throw buildOverflowException(constraint);
+        }
+        // Only change the score if neither level overflows
+        hardScore = newHardScore;
+        softScore = newSoftScore;
+    }
+
+    private ArithmeticException buildOverflowException(Constraint constraint) {
+        return new ArithmeticException("The score impact of the constraint (" + constraint.getConstraintId()
+                + ") overflows a long with the scale (" + scale + ").\n"
+                + "Maybe use " + HardSoftBigDecimalScore.class.getSimpleName() + " instead.");
+    }
+
+    @Override
+    public HardSoftDecimalScore extractScore(int initScore) {
+        return HardSoftDecimalScore.ofUninitializedUnscaled(initScore, hardScore, softScore, scale);
+    }
+
+    @Override
+    public String toString() {
+        return HardSoftDecimalScore.class.getSimpleName() + " inliner";
+    }
+
+}
@@ -86,9 +86,18 @@ abstract class AbstractAccumulator<ResultContainer_, Result_> implements Accumul
         return accumulate((ResultContainer_) context, leftTuple, handle, innerDeclarations);
     }
 
-    protected abstract Runnable accumulate(ResultContainer_ context, Tuple leftTuple, InternalFactHandle handle,
+    /**
+     * @return never null, the undo operation {@link Runnable}
+     *         or the boxed undo token of a reversible constraint collector
+     */
+    protected abstract Object accumulate(ResultContainer_ context, Tuple leftTuple, InternalFactHandle handle,
             Declaration[] innerDeclarations);
 
+    /**
+     * @param undo never null, the return value of {@link #accumulate(Object, Tuple, InternalFactHandle, Declaration[])}
+     */
+    protected abstract void reverse(ResultContainer_ context, Object undo);
+
     protected abstract void initialize(Tuple leftTuple, Declaration[] innerDeclarations);
 
     @Override
@@ -100,7 +109,7 @@ abstract class AbstractAccumulator<ResultContainer_, Result_> implements Accumul
     public final boolean tryReverse(Object workingMemoryContext, Object context, Tuple leftTuple,
             InternalFactHandle handle, Object value, Declaration[] declarations, Declaration[] innerDeclarations,
             ReteEvaluator reteEvaluator) {
-        ((Runnable) value).run();
+        reverse((ResultContainer_) context, value);
         return true;
     }
 
@@ -25,12 +25,14 @@ import org.drools.core.spi.Tuple;
 import org.drools.model.Variable;
 import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.api.score.stream.bi.ReversibleBiConstraintCollector;
 
 final class BiAccumulator<A, B, ResultContainer_, Result_> extends AbstractAccumulator<ResultContainer_, Result_> {
 
     private final String varA;
     private final String varB;
     private final TriFunction<ResultContainer_, A, B, Runnable> accumulator;
+    private final ReversibleBiConstraintCollector<A, B, ResultContainer_, Result_> reversibleCollector;
 
     private Function<Tuple, A> valueExtractorA;
     private Function<Tuple, B> valueExtractorB;
@@ -39,18 +41,34 @@ final class BiAccumulator<A, B, ResultContainer_, Result_> extends AbstractAccum
             BiConstraintCollector<A, B, ResultContainer_, Result_> collector) {
         super(collector.supplier(), collector.finisher());
         this.accumulator = Objects.requireNonNull(collector.accumulator());
+        this.reversibleCollector = collector instanceof ReversibleBiConstraintCollector
+                ? (ReversibleBiConstraintCollector<A, B, ResultContainer_, Result_>) collector
+                : null;
         this.varA = varA.getName();
         this.varB = varB.getName();
     }
 
     @Override
-    protected Runnable accumulate(ResultContainer_ context, Tuple leftTuple, InternalFactHandle handle,
+    protected Object accumulate(ResultContainer_ context, Tuple leftTuple, InternalFactHandle handle,
             Declaration[] innerDeclarations) {
         A a = valueExtractorA.apply(leftTuple);
         B b = valueExtractorB.apply(leftTuple);
+        if (reversibleCollector != null) {
+            // Drools keeps the undo token per match, so it is boxed, but small tokens such as counts are cached
+            return reversibleCollector.accumulateReversibly(context, a, b);
+        }
         return accumulator.apply(context, a, b);
     }
 
+    @Override
+    protected void reverse(ResultContainer_ context, Object undo) {
+        if (reversibleCollector != null) {
+            reversibleCollector.reverse(context, (Long) undo);
+        } else {
+            ((Runnable) undo).run();
+        }
+    }
+
     @Override
     protected void initialize(Tuple leftTuple, Declaration[] innerDeclarations) {
         for (Declaration declaration : innerDeclarations) {
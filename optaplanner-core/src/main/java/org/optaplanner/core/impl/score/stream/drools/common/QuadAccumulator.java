@@ -25,6 +25,7 @@ import org.drools.core.spi.Tuple;
 import org.drools.model.Variable;
 import org.optaplanner.core.api.function.PentaFunction;
 import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
+import org.optaplanner.core.api.score.stream.quad.ReversibleQuadConstraintCollector;
 
 final class QuadAccumulator<A, B, C, D, ResultContainer_, Result_>
         extends AbstractAccumulator<ResultContainer_, Result_> {
@@ -34,6 +35,7 @@ final class QuadAccumulator<A, B, C, D, ResultContainer_, Result_>
     private final String varC;
     private final String varD;
     private final PentaFunction<ResultContainer_, A, B, C, D, Runnable> accumulator;
+    private final ReversibleQuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> reversibleCollector;
 
     private Function<Tuple, A> valueExtractorA;
     private Function<Tuple, B> valueExtractorB;
@@ -44,6 +46,9 @@ final class QuadAccumulator<A, B, C, D, ResultContainer_, Result_>
             QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
         super(collector.supplier(), collector.finisher());
         this.accumulator = Objects.requireNonNull(collector.accumulator());
+        this.reversibleCollector = collector instanceof ReversibleQuadConstraintCollector
+                ? (ReversibleQuadConstraintCollector<A, B, C, D, ResultContainer_, Result_>) collector
+                : null;
         this.varA = varA.getName();
         this.varB = varB.getName();
         this.varC = varC.getName();
@@ -51,15 +56,28 @@ final class QuadAccumulator<A, B, C, D, ResultContainer_, Result_>
     }
 
     @Override
-    protected Runnable accumulate(ResultContainer_ context, Tuple leftTuple, InternalFactHandle handle,
+    protected Object accumulate(ResultContainer_ context, Tuple leftTuple, InternalFactHandle handle,
             Declaration[] innerDeclarations) {
         A a = valueExtractorA.apply(leftTuple);
         B b = valueExtractorB.apply(leftTuple);
         C c = valueExtractorC.apply(leftTuple);
         D d = valueExtractorD.apply(leftTuple);
+        if (reversibleCollector != null) {
+            // Drools keeps the undo token per match, so it is boxed, but small tokens such as counts are cached
+            return reversibleCollector.accumulateReversibly(context, a, b, c, d);
+        }
         return accumulator.apply(context, a, b, c, d);
     }
 
+    @Override
+    protected void reverse(ResultContainer_ context, Object undo) {
+        if (reversibleCollector != null) {
+            reversibleCollector.reverse(context, (Long) undo);
+        } else {
+            ((Runnable) undo).run();
+        }
+    }
+
     @Override
     protected void initialize(Tuple leftTuple, Declaration[] innerDeclarations) {
         for (Declaration declaration : innerDeclarations) {
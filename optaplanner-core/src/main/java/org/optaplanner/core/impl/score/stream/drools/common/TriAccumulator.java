@@ -24,6 +24,7 @@ import org.drools.core.rule.Declaration;
 import org.drools.core.spi.Tuple;
 import org.drools.model.Variable;
 import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.score.stream.tri.ReversibleTriConstraintCollector;
 import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
 
 final class TriAccumulator<A, B, C, ResultContainer_, Result_> extends AbstractAccumulator<ResultContainer_, Result_> {
@@ -32,6 +33,7 @@ final class TriAccumulator<A, B, C, ResultContainer_, Result_> extends AbstractA
     private final String varB;
     private final String varC;
     private final QuadFunction<ResultContainer_, A, B, C, Runnable> accumulator;
+    private final ReversibleTriConstraintCollector<A, B, C, ResultContainer_, Result_> reversibleCollector;
 
     private Function<Tuple, A> valueExtractorA;
     private Function<Tuple, B> valueExtractorB;
@@ -41,20 +43,36 @@ final class TriAccumulator<A, B, C, ResultContainer_, Result_> extends AbstractA
             TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
         super(collector.supplier(), collector.finisher());
         this.accumulator = Objects.requireNonNull(collector.accumulator());
+        this.reversibleCollector = collector instanceof ReversibleTriConstraintCollector
+                ? (ReversibleTriConstraintCollector<A, B, C, ResultContainer_, Result_>) collector
+                : null;
         this.varA = varA.getName();
         this.varB = varB.getName();
         this.varC = varC.getName();
     }
 
     @Override
-    protected Runnable accumulate(ResultContainer_ context, Tuple leftTuple, InternalFactHandle handle,
+    protected Object accumulate(ResultContainer_ context, Tuple leftTuple, InternalFactHandle handle,
             Declaration[] innerDeclarations) {
         A a = valueExtractorA.apply(leftTuple);
         B b = valueExtractorB.apply(leftTuple);
         C c = valueExtractorC.apply(leftTuple);
+        if (reversibleCollector != null) {
+            // Drools keeps the undo token per match, so it is boxed, but small tokens such as counts are cached
+            return reversibleCollector.accumulateReversibly(context, a, b, c);
+        }
         return accumulator.apply(context, a, b, c);
     }
 
+    @Override
+    protected void reverse(ResultContainer_ context, Object undo) {
+        if (reversibleCollector != null) {
+            reversibleCollector.reverse(context, (Long) undo);
+        } else {
+            ((Runnable) undo).run();
+        }
+    }
+
     @Override
     protected void initialize(Tuple leftTuple, Declaration[] innerDeclarations) {
         for (Declaration declaration : innerDeclarations) {
@@ -25,12 +25,14 @@ import org.drools.core.reteoo.SubnetworkTuple;
 import org.drools.core.rule.Declaration;
 import org.drools.core.spi.Tuple;
 import org.drools.model.Variable;
+import org.optaplanner.core.api.score.stream.uni.ReversibleUniConstraintCollector;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
 
 final class UniAccumulator<A, ResultContainer_, Result_> extends AbstractAccumulator<ResultContainer_, Result_> {
 
     private final String varA;
     private final BiFunction<ResultContainer_, A, Runnable> accumulator;
+    private final ReversibleUniConstraintCollector<A, ResultContainer_, Result_> reversibleCollector;
 
     private Declaration declaration;
     private UnaryOperator<Tuple> tupleExtractor;
@@ -40,16 +42,32 @@ final class UniAccumulator<A, ResultContainer_, Result_> extends AbstractAccumul
         super(collector.supplier(), collector.finisher());
         this.varA = varA.getName();
         this.accumulator = Objects.requireNonNull(collector.accumulator());
+        this.reversibleCollector = collector instanceof ReversibleUniConstraintCollector
+                ? (ReversibleUniConstraintCollector<A, ResultContainer_, Result_>) collector
+                : null;
     }
 
     @Override
-    protected Runnable accumulate(ResultContainer_ context, Tuple leftTuple, InternalFactHandle handle,
+    protected Object accumulate(ResultContainer_ context, Tuple leftTuple, InternalFactHandle handle,
             Declaration[] innerDeclarations) {
         InternalFactHandle factHandle = getInternalFactHandle(leftTuple, handle);
         A a = (A) declaration.getValue(null, factHandle.getObject());
+        if (reversibleCollector != null) {
+            // Drools keeps the undo token per match, so it is boxed, but small tokens such as counts are cached
+            return reversibleCollector.accumulateReversibly(context, a);
+        }
         return accumulator.apply(context, a);
     }
 
+    @Override
+    protected void reverse(ResultContainer_ context, Object undo) {
+        if (reversibleCollector != null) {
+            reversibleCollector.reverse(context, (Long) undo);
+        } else {
+            ((Runnable) undo).run();
+        }
+    }
+
     private InternalFactHandle getInternalFactHandle(Tuple leftTuple, InternalFactHandle handle) {
         if (tupleExtractor == null) { // Happens either when the tuple offset is 0, or when not a subnetwork.
             if (isSubnetwork) {
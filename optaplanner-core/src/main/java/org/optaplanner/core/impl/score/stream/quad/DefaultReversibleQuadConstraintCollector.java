@@ -0,0 +1,65 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.core.impl.score.stream.quad;
+
+import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+import org.optaplanner.core.api.function.ToLongPentaFunction;
+import org.optaplanner.core.api.score.stream.quad.ReversibleQuadConstraintCollector;
+
+public final class DefaultReversibleQuadConstraintCollector<A, B, C, D, ResultContainer_, Result_>
+        implements ReversibleQuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> {
+
+    private final Supplier<ResultContainer_> supplier;
+    private final ToLongPentaFunction<ResultContainer_, A, B, C, D> reversibleAccumulator;
+    private final ObjLongConsumer<ResultContainer_> reverser;
+    private final Function<ResultContainer_, Result_> finisher;
+
+    public DefaultReversibleQuadConstraintCollector(Supplier<ResultContainer_> supplier,
+            ToLongPentaFunction<ResultContainer_, A, B, C, D> reversibleAccumulator,
+            ObjLongConsumer<ResultContainer_> reverser,
+            Function<ResultContainer_, Result_> finisher) {
+        this.supplier = supplier;
+        this.reversibleAccumulator = reversibleAccumulator;
+        this.reverser = reverser;
+        this.finisher = finisher;
+    }
+
+    @Override
+    public Supplier<ResultContainer_> supplier() {
+        return supplier;
+    }
+
+    @Override
+    public long accumulateReversibly(ResultContainer_ resultContainer, A a, B b, C c, D d) {
+        return reversibleAccumulator.applyAsLong(resultContainer, a, b, c, d);
+    }
+
+    @Override
+    public void reverse(ResultContainer_ resultContainer, long undoToken) {
+        reverser.accept(resultContainer, undoToken);
+    }
+
+    @Override
+    public Function<ResultContainer_, Result_> finisher() {
+        return finisher;
+    }
+
+}
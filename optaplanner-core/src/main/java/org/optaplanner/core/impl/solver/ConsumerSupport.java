@@ -0,0 +1,157 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+
+/**
+ * Calls the best solution consumers of a {@link DefaultSolverJob},
+ * either on the solver thread or on a consumer thread.
+ * <p>
+ * On a consumer thread, a slow best solution consumer doesn't stall the solver:
+ * the intermediate best solutions that arrive while it's busy are coalesced,
+ * so it only receives the latest one (skip ahead).
+ * The final best solution is always consumed, after the last intermediate best solution.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+final class ConsumerSupport<Solution_> {
+
+    private final Consumer<? super Solution_> bestSolutionConsumer;
+    private final Consumer<? super Solution_> finalBestSolutionConsumer;
+    /**
+     * Null to consume on the solver thread.
+     */
+    private final Executor consumerExecutor;
+
+    private final Object lock = new Object();
+    /**
+     * The latest intermediate best solution that is not consumed yet. Guarded by {@link #lock}.
+     */
+    private Solution_ pendingBestSolution = null;
+    /**
+     * True while a consumer thread is consuming intermediate best solutions. Guarded by {@link #lock}.
+     */
+    private boolean consuming = false;
+    /**
+     * The first exception thrown by the intermediate best solution consumer. Guarded by {@link #lock}.
+     */
+    private RuntimeException consumptionException = null;
+
+    public ConsumerSupport(Consumer<? super Solution_> bestSolutionConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer, Executor consumerExecutor) {
+        this.bestSolutionConsumer = bestSolutionConsumer;
+        this.finalBestSolutionConsumer = finalBestSolutionConsumer;
+        this.consumerExecutor = consumerExecutor;
+    }
+
+    public boolean hasBestSolutionConsumer() {
+        return bestSolutionConsumer != null;
+    }
+
+    /**
+     * Called on the solver thread for every new best solution.
+     *
+     * @param bestSolution never null
+     */
+    public void consumeIntermediateBestSolution(Solution_ bestSolution) {
+        if (consumerExecutor == null) {
+            bestSolutionConsumer.accept(bestSolution);
+            return;
+        }
+        synchronized (lock) {
+            // Overwrites an older pending best solution that the consumer didn't get to yet
+            pendingBestSolution = bestSolution;
+            if (consuming) {
+                return;
+            }
+            consuming = true;
+        }
+        consumerExecutor.execute(this::consumePendingBestSolutions);
+    }
+
+    private void consumePendingBestSolutions() {
+        while (true) {
+            Solution_ bestSolution;
+            synchronized (lock) {
+                bestSolution = pendingBestSolution;
+                pendingBestSolution = null;
+                if (bestSolution == null) {
+                    consuming = false;
+                    lock.notifyAll();
+                    return;
+                }
+            }
+            try {
+                bestSolutionConsumer.accept(bestSolution);
+            } catch (RuntimeException e) {
+                synchronized (lock) {
+                    if (consumptionException == null) {
+                        consumptionException = e;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Called on the solver thread when solving ended normally.
+     * On a consumer thread, the pending intermediate best solution is skipped,
+     * because the final best solution supersedes it.
+     *
+     * @param finalBestSolution never null
+     * @return never null, completes exceptionally if a best solution consumer threw an exception
+     */
+    public CompletableFuture<Void> consumeFinalBestSolution(Solution_ finalBestSolution) {
+        if (consumerExecutor == null) {
+            if (finalBestSolutionConsumer != null) {
+                finalBestSolutionConsumer.accept(finalBestSolution);
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+        synchronized (lock) {
+            pendingBestSolution = null;
+        }
+        return CompletableFuture.runAsync(() -> {
+            awaitIntermediateConsumption();
+            if (finalBestSolutionConsumer != null) {
+                finalBestSolutionConsumer.accept(finalBestSolution);
+            }
+        }, consumerExecutor);
+    }
+
+    private void awaitIntermediateConsumption() {
+        synchronized (lock) {
+            while (consuming) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the best solution consumer.", e);
+                }
+            }
+            if (consumptionException != null) {
+                throw consumptionException;
+            }
+        }
+    }
+
+}
@@ -212,6 +212,8 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
     public void solvingStarted(SolverScope<Solution_> solverScope) {
         solverScope.startingNow();
         solverScope.getScoreDirector().resetCalculationCount();
+        // The child threads of an earlier solve are dead
+        solverScope.getChildThreadIdToNameMap().clear();
         super.solvingStarted(solverScope);
         int startingSolverCount = solverScope.getStartingSolverCount() + 1;
         solverScope.setStartingSolverCount(startingSolverCount);
@@ -233,7 +235,8 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
 
     public void outerSolvingEnded(SolverScope<Solution_> solverScope) {
         // Must be kept open for doProblemFactChange
-        solverScope.getScoreDirector().close();
+        // Keeps the expensive resources, such as a Drools session, for the next solve() of this solver
+        solverScope.getScoreDirector().clearWorkingSolution();
         logger.info("Solving ended: time spent ({}), best score ({}), score calculation speed ({}/sec), "
                 + "phase total ({}), environment mode ({}), move thread count ({}).",
                 solverScope.getTimeMillisSpent(),
@@ -253,14 +256,15 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
             BlockingQueue<ProblemFactChange<Solution_>> problemFactChangeQueue = basicPlumbingTermination
                     .startProblemFactChangesProcessing();
             solverScope.setWorkingSolutionFromBestSolution();
-            Score score = null;
             int stepIndex = 0;
             ProblemFactChange<Solution_> problemFactChange = problemFactChangeQueue.poll();
             while (problemFactChange != null) {
-                score = doProblemFactChange(problemFactChange, stepIndex);
+                doProblemFactChange(problemFactChange, stepIndex);
                 stepIndex++;
                 problemFactChange = problemFactChangeQueue.poll();
             }
+            // Calculate the score only once for the whole batch of problem fact changes
+            Score score = solverScope.calculateScore();
             // All PFCs are processed, fail fast if any of the new facts have null planning IDs.
             InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
             scoreDirector.assertNonNullPlanningIds();
@@ -273,11 +277,12 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         }
     }
 
-    private Score doProblemFactChange(ProblemFactChange<Solution_> problemFactChange, int stepIndex) {
-        problemFactChange.doChange(solverScope.getScoreDirector());
-        Score score = solverScope.calculateScore();
-        logger.debug("    Step index ({}), new score ({}) for real-time problem fact change.", stepIndex, score);
-        return score;
+    private void doProblemFactChange(ProblemFactChange<Solution_> problemFactChange, int stepIndex) {
+        InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
+        problemFactChange.doChange(scoreDirector);
+        // The next problem fact change must see up-to-date shadow variables
+        scoreDirector.triggerVariableListeners();
+        logger.debug("    Step index ({}), real-time problem fact change ({}) done.", stepIndex, problemFactChange);
     }
 
 }
@@ -84,6 +84,13 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         return (InnerScoreDirectorFactory<Solution_, Score_>) scoreDirectorFactory;
     }
 
+    /**
+     * @return null if no move threads are used
+     */
+    public Integer resolveMoveThreadCount() {
+        return new MoveThreadCountResolver().resolveMoveThreadCount(solverConfig.getMoveThreadCount());
+    }
+
     @Override
     public Solver<Solution_> buildSolver() {
         boolean daemon_ = Objects.requireNonNullElse(solverConfig.getDaemon(), false);
@@ -109,7 +116,7 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
                     SolverMetric.CONSTRAINT_MATCH_TOTAL_BEST_SCORE.getMeterId());
         }
 
-        Integer moveThreadCount_ = new MoveThreadCountResolver().resolveMoveThreadCount(solverConfig.getMoveThreadCount());
+        Integer moveThreadCount_ = resolveMoveThreadCount();
         BestSolutionRecaller<Solution_> bestSolutionRecaller =
                 BestSolutionRecallerFactory.create().buildBestSolutionRecaller(environmentMode_);
         HeuristicConfigPolicy<Solution_> configPolicy = new HeuristicConfigPolicy.Builder<>(environmentMode_,
@@ -117,7 +124,10 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
                 scoreDirectorFactory).build();
         TerminationConfig terminationConfig_ =
                 Objects.requireNonNullElseGet(solverConfig.getTerminationConfig(), TerminationConfig::new);
-        BasicPlumbingTermination<Solution_> basicPlumbingTermination = new BasicPlumbingTermination<>(daemon_);
+        long problemFactChangeBatchWindowMillis_ =
+                Objects.requireNonNullElse(solverConfig.getProblemFactChangeBatchWindowMillis(), 0L);
+        BasicPlumbingTermination<Solution_> basicPlumbingTermination =
+                new BasicPlumbingTermination<>(daemon_, problemFactChangeBatchWindowMillis_);
         Termination<Solution_> termination = TerminationFactory.<Solution_> create(terminationConfig_)
                 .buildTermination(configPolicy, basicPlumbingTermination);
         List<Phase<Solution_>> phaseList = buildPhaseList(configPolicy, bestSolutionRecaller, termination);
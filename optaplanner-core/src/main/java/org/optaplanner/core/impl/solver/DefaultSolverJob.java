@@ -17,20 +17,22 @@
 package org.optaplanner.core.impl.solver;
 
 import java.time.Duration;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
-import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
-import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverJob;
 import org.optaplanner.core.api.solver.SolverStatus;
+import org.optaplanner.core.api.solver.event.SolverEventListener;
 import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.slf4j.Logger;
@@ -45,37 +47,54 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultSolverJob.class);
 
     private final DefaultSolverManager<Solution_, ProblemId_> solverManager;
-    private final DefaultSolver<Solution_> solver;
     private final ProblemId_ problemId;
     private final Function<? super ProblemId_, ? extends Solution_> problemFinder;
-    private final Consumer<? super Solution_> finalBestSolutionConsumer;
+    private final ConsumerSupport<Solution_> consumerSupport;
     private final BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler;
+    private final int priority;
+    private final long sequence;
 
     private volatile SolverStatus solverStatus;
     private final CountDownLatch terminatedLatch;
     private final ReentrantLock solverStatusModifyingLock;
+    private final CompletableFuture<Solution_> finalBestSolutionFuture;
 
+    /**
+     * The future of the current run on the solver thread pool, which changes when this job is preempted.
+     */
     private Future<Solution_> future;
+    /**
+     * Borrowed from the {@link DefaultSolverManager} when solving starts, null before that.
+     */
+    private volatile DefaultSolver<Solution_> solver;
+    /**
+     * The best solution when this job was preempted, to resume from. Null if it was never preempted.
+     */
+    private volatile Solution_ preemptedBestSolution;
+    private volatile boolean preemptionRequested = false;
+    private volatile boolean terminateEarlyRequested = false;
+    private volatile Duration previousRunsSolvingDuration = Duration.ZERO;
+    private volatile long previousRunsScoreCalculationCount = 0L;
+    private volatile Duration solvingDuration;
 
     public DefaultSolverJob(
             DefaultSolverManager<Solution_, ProblemId_> solverManager,
-            Solver<Solution_> solver, ProblemId_ problemId,
+            ProblemId_ problemId,
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
-            Consumer<? super Solution_> finalBestSolutionConsumer,
-            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
+            ConsumerSupport<Solution_> consumerSupport,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            int priority, long sequence) {
         this.solverManager = solverManager;
         this.problemId = problemId;
-        if (!(solver instanceof DefaultSolver)) {
-            throw new IllegalStateException("Impossible state: solver is not instance of " +
-                    DefaultSolver.class.getSimpleName() + ".");
-        }
-        this.solver = (DefaultSolver<Solution_>) solver;
         this.problemFinder = problemFinder;
-        this.finalBestSolutionConsumer = finalBestSolutionConsumer;
+        this.consumerSupport = consumerSupport;
         this.exceptionHandler = exceptionHandler;
+        this.priority = priority;
+        this.sequence = sequence;
         solverStatus = SolverStatus.SOLVING_SCHEDULED;
         terminatedLatch = new CountDownLatch(1);
         solverStatusModifyingLock = new ReentrantLock();
+        finalBestSolutionFuture = new CompletableFuture<>();
     }
 
     public void setFuture(Future<Solution_> future) {
@@ -92,6 +111,21 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         return solverStatus;
     }
 
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * @return the submission order, to solve jobs with the same priority first in, first out
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public boolean isPreemptionRequested() {
+        return preemptionRequested;
+    }
+
     @Override
     public Solution_ call() {
         solverStatusModifyingLock.lock();
@@ -101,20 +135,49 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
             solverStatusModifyingLock.unlock();
             return problemFinder.apply(problemId);
         }
+        SolverEventListener<Solution_> bestSolutionListener = null;
+        UnlockLockPhaseLifecycleListener unlockLockPhaseLifecycleListener = null;
+        boolean solverReusable = false;
+        boolean rescheduled = false;
+        DefaultSolver<Solution_> borrowedSolver = null;
+        Solution_ finalBestSolution = null;
+        CompletableFuture<Void> finalBestSolutionConsumption = null;
+        boolean succeeded = false;
+        Throwable finalBestSolutionFailure = null;
         try {
+            borrowedSolver = solverManager.borrowSolver(problemId);
+            // A resumed job continues the termination budget of its earlier runs
+            borrowedSolver.getSolverScope().setPreviousRuns(previousRunsSolvingDuration.toMillis(),
+                    previousRunsScoreCalculationCount);
+            solver = borrowedSolver;
             solverStatus = SolverStatus.SOLVING_ACTIVE;
-            Solution_ problem = problemFinder.apply(problemId);
+            Solution_ problem = preemptedBestSolution != null ? preemptedBestSolution : problemFinder.apply(problemId);
+            if (consumerSupport.hasBestSolutionConsumer()) {
+                bestSolutionListener = event -> consumerSupport.consumeIntermediateBestSolution(event.getNewBestSolution());
+                borrowedSolver.addEventListener(bestSolutionListener);
+            }
             // add a phase lifecycle listener that unlock the solver status lock when solving started
-            solver.addPhaseLifecycleListener(new UnlockLockPhaseLifecycleListener());
-            final Solution_ finalBestSolution = solver.solve(problem);
-            if (finalBestSolutionConsumer != null) {
-                // TODO consumption should happen on different thread than solver thread
-                finalBestSolutionConsumer.accept(finalBestSolution);
+            unlockLockPhaseLifecycleListener = new UnlockLockPhaseLifecycleListener();
+            borrowedSolver.addPhaseLifecycleListener(unlockLockPhaseLifecycleListener);
+            finalBestSolution = borrowedSolver.solve(problem);
+            Duration totalSolvingDuration = calculateSolvingDuration(borrowedSolver);
+            // The solver ended normally, so it can be reused by another job.
+            solverReusable = true;
+            rescheduled = rescheduleIfPreempted(finalBestSolution, totalSolvingDuration,
+                    previousRunsScoreCalculationCount + borrowedSolver.getSolverScope().getScoreCalculationCount());
+            if (rescheduled) {
+                return finalBestSolution;
             }
+            solvingDuration = totalSolvingDuration;
+            finalBestSolutionConsumption = consumerSupport.consumeFinalBestSolution(finalBestSolution);
+            succeeded = true;
             return finalBestSolution;
         } catch (Exception e) {
             exceptionHandler.accept(problemId, e);
-            throw new IllegalStateException("Solving failed for problemId (" + problemId + ").", e);
+            IllegalStateException exception =
+                    new IllegalStateException("Solving failed for problemId (" + problemId + ").", e);
+            finalBestSolutionFailure = exception;
+            throw exception;
         } finally {
             if (solverStatusModifyingLock.isHeldByCurrentThread()) {
                 // release the lock if we have it (due to solver raising an exception before solving starts);
@@ -125,7 +188,92 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
                 // 3. The case NOT_SOLVING does nothing
                 solverStatusModifyingLock.unlock();
             }
-            solvingTerminated();
+            if (solverReusable) {
+                if (bestSolutionListener != null) {
+                    borrowedSolver.removeEventListener(bestSolutionListener);
+                }
+                borrowedSolver.removePhaseLifecycleListener(unlockLockPhaseLifecycleListener);
+            } else if (borrowedSolver != null && solvingDuration == null) {
+                solvingDuration = calculateSolvingDuration(borrowedSolver);
+            }
+            if (!rescheduled) {
+                solvingTerminated();
+                // Only after solvingTerminated(), so getFinalBestSolution() callers see the NOT_SOLVING status.
+                if (succeeded) {
+                    completeAfterConsumption(finalBestSolution, finalBestSolutionConsumption);
+                } else {
+                    finalBestSolutionFuture.completeExceptionally(Objects.requireNonNullElseGet(finalBestSolutionFailure,
+                            () -> new IllegalStateException("Solving failed for problemId (" + problemId + ").")));
+                }
+            }
+            if (borrowedSolver != null) {
+                // Only after solvingTerminated() or rescheduling,
+                // so a terminateEarly() call can't reach a solver of another job.
+                solverManager.returnSolver(borrowedSolver, solverReusable);
+            }
+        }
+    }
+
+    private void completeAfterConsumption(Solution_ finalBestSolution,
+            CompletableFuture<Void> finalBestSolutionConsumption) {
+        finalBestSolutionConsumption.whenComplete((ignored, throwable) -> {
+            if (throwable == null) {
+                finalBestSolutionFuture.complete(finalBestSolution);
+                return;
+            }
+            Throwable cause = (throwable instanceof CompletionException) ? throwable.getCause() : throwable;
+            exceptionHandler.accept(problemId, cause);
+            finalBestSolutionFuture.completeExceptionally(
+                    new IllegalStateException("Solving failed for problemId (" + problemId + ").", cause));
+        });
+    }
+
+    /**
+     * Preempting a job terminates it early and schedules it again, to resume from its best solution
+     * once a solver thread is available for its priority.
+     *
+     * @return true if this job will be preempted
+     */
+    public boolean preempt() {
+        if (!solverStatusModifyingLock.tryLock()) {
+            // Solving is starting or terminating, so it's a bad candidate
+            return false;
+        }
+        try {
+            if (solverStatus != SolverStatus.SOLVING_ACTIVE || preemptionRequested || terminateEarlyRequested) {
+                return false;
+            }
+            preemptionRequested = true;
+            solver.terminateEarly();
+            return true;
+        } finally {
+            solverStatusModifyingLock.unlock();
+        }
+    }
+
+    private boolean rescheduleIfPreempted(Solution_ bestSolution, Duration totalSolvingDuration,
+            long totalScoreCalculationCount) {
+        if (!preemptionRequested) {
+            return false;
+        }
+        solverStatusModifyingLock.lock();
+        try {
+            if (terminateEarlyRequested) {
+                // The user terminated this job too, so it's really done
+                return false;
+            }
+            LOGGER.debug("Preempted problemId ({}) with priority ({}), it will resume from its best solution.",
+                    problemId, priority);
+            preemptionRequested = false;
+            preemptedBestSolution = bestSolution;
+            previousRunsSolvingDuration = totalSolvingDuration;
+            previousRunsScoreCalculationCount = totalScoreCalculationCount;
+            solverStatus = SolverStatus.SOLVING_SCHEDULED;
+            solver = null;
+            solverManager.reschedule(this);
+            return true;
+        } finally {
+            solverStatusModifyingLock.unlock();
         }
     }
 
@@ -149,9 +297,11 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
 
     @Override
     public void terminateEarly() {
+        solverStatusModifyingLock.lock();
         try {
-            solverStatusModifyingLock.lock();
+            terminateEarlyRequested = true;
             future.cancel(false);
+            finalBestSolutionFuture.cancel(false);
             switch (solverStatus) {
                 case SOLVING_SCHEDULED:
                     solvingTerminated();
@@ -166,37 +316,57 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
                 default:
                     throw new IllegalStateException("Unsupported solverStatus (" + solverStatus + ").");
             }
-            try {
-                // Don't return until bestSolutionConsumer won't be called any more
-                terminatedLatch.await();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                LOGGER.warn("The terminateEarly() call is interrupted.", e);
-            }
         } finally {
+            // Unlock before waiting, because a preempted job needs the lock to decide that it's done.
             solverStatusModifyingLock.unlock();
         }
+        try {
+            // Don't return until bestSolutionConsumer won't be called any more on the solver thread
+            // (on a consumer thread, the last intermediate best solution might still be consumed)
+            terminatedLatch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("The terminateEarly() call is interrupted.", e);
+        }
     }
 
     @Override
     public Solution_ getFinalBestSolution() throws InterruptedException, ExecutionException {
-        return future.get();
+        return finalBestSolutionFuture.get();
     }
 
     @Override
     public Duration getSolvingDuration() {
+        Duration solvingDuration_ = solvingDuration;
+        if (solvingDuration_ != null) {
+            // The solver has ended and might be solving another job already
+            return solvingDuration_;
+        }
+        DefaultSolver<Solution_> solver_ = solver;
+        if (solver_ == null || !solver_.isSolving()) {
+            // The solver hasn't (re)started yet (a reused solver still holds the times of its previous job)
+            return previousRunsSolvingDuration;
+        }
+        return calculateSolvingDuration(solver_);
+    }
+
+    /**
+     * @param solver never null, borrowed by this job
+     * @return never null, including the previous runs of this job
+     */
+    private Duration calculateSolvingDuration(DefaultSolver<Solution_> solver) {
         SolverScope<Solution_> solverScope = solver.getSolverScope();
         Long startingSystemTimeMillis = solverScope.getStartingSystemTimeMillis();
         if (startingSystemTimeMillis == null) {
             // The solver hasn't started yet
-            return Duration.ZERO;
+            return previousRunsSolvingDuration;
         }
         Long endingSystemTimeMillis = solverScope.getEndingSystemTimeMillis();
         if (endingSystemTimeMillis == null) {
             // The solver hasn't ended yet
             endingSystemTimeMillis = System.currentTimeMillis();
         }
-        return Duration.ofMillis(endingSystemTimeMillis - startingSystemTimeMillis);
+        return previousRunsSolvingDuration.plusMillis(endingSystemTimeMillis - startingSystemTimeMillis);
     }
 
     /**
@@ -16,24 +16,36 @@
 
 package org.optaplanner.core.impl.solver;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
-import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.api.solver.SolverJob;
 import org.optaplanner.core.api.solver.SolverManager;
 import org.optaplanner.core.api.solver.SolverStatus;
 import org.optaplanner.core.config.solver.SolverManagerConfig;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.solver.thread.AdjustableSemaphore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,20 +56,65 @@ import org.slf4j.LoggerFactory;
 public final class DefaultSolverManager<Solution_, ProblemId_> implements SolverManager<Solution_, ProblemId_> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultSolverManager.class);
+    /**
+     * Preempts the lowest priority first, and of those the most recently submitted one.
+     */
+    private static final Comparator<DefaultSolverJob<?, ?>> PREEMPTION_COMPARATOR =
+            Comparator.<DefaultSolverJob<?, ?>> comparingInt(DefaultSolverJob::getPriority)
+                    .thenComparing(Comparator.<DefaultSolverJob<?, ?>> comparingLong(DefaultSolverJob::getSequence)
+                            .reversed());
 
     private final BiConsumer<ProblemId_, Throwable> defaultExceptionHandler;
     private final SolverFactory<Solution_> solverFactory;
-    private final ExecutorService solverThreadPool;
+    private final int parallelSolverCount;
+    /**
+     * Runs the highest priority job first, and jobs with the same priority first in, first out.
+     */
+    private final ThreadPoolExecutor solverThreadPool;
+    private final AtomicLong jobSequence = new AtomicLong(0L);
+    /**
+     * Null if the best solution consumers are called on the solver threads.
+     */
+    private final ExecutorService consumerThreadPool;
+    /**
+     * Solvers of terminated jobs, kept for reuse so short solves don't spend their time building phases,
+     * move selectors and score directors.
+     * Their constraint streams score directors keep their Drools session, which is reset rather than rebuilt for the next job.
+     * Bounded by the parallelSolverCount, because no more solvers than that can be solving at the same time.
+     */
+    private final BlockingQueue<DefaultSolver<Solution_>> idleSolverQueue;
     private final ConcurrentMap<Object, DefaultSolverJob<Solution_, ProblemId_>> problemIdToSolverJobMap;
+    /**
+     * Null if the solvers don't use move threads.
+     * Otherwise, the maximum number of move threads one job evaluates moves with.
+     */
+    private final Integer moveThreadCount;
+    /**
+     * The CPU budget that caps the move threads of all active jobs together.
+     */
+    private final int availableProcessorCount;
+    /**
+     * The borrowed solvers of which the move threads are capped. Only used if the solvers use move threads.
+     */
+    private final Set<DefaultSolver<Solution_>> activeSolverSet = ConcurrentHashMap.newKeySet();
 
     public DefaultSolverManager(SolverFactory<Solution_> solverFactory,
             SolverManagerConfig solverManagerConfig) {
         defaultExceptionHandler = (problemId, throwable) -> LOGGER.error(
                 "Solving failed for problemId ({}).", problemId, throwable);
         this.solverFactory = solverFactory;
+        parallelSolverCount = solverManagerConfig.resolveParallelSolverCount();
+        idleSolverQueue = new ArrayBlockingQueue<>(parallelSolverCount);
+        moveThreadCount = (solverFactory instanceof DefaultSolverFactory)
+                ? ((DefaultSolverFactory<Solution_>) solverFactory).resolveMoveThreadCount()
+                : null;
+        availableProcessorCount = Runtime.getRuntime().availableProcessors();
         validateSolverFactory();
-        int parallelSolverCount = solverManagerConfig.resolveParallelSolverCount();
-        solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount);
+        solverThreadPool = new ThreadPoolExecutor(parallelSolverCount, parallelSolverCount, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>());
+        consumerThreadPool = Objects.requireNonNullElse(solverManagerConfig.getAsyncConsumption(), false)
+                ? Executors.newCachedThreadPool()
+                : null;
         problemIdToSolverJobMap = new ConcurrentHashMap<>(parallelSolverCount * 10);
     }
 
@@ -66,7 +123,8 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
     }
 
     private void validateSolverFactory() {
-        solverFactory.buildSolver();
+        // The solver built for validation is the first one to be reused.
+        idleSolverQueue.offer((DefaultSolver<Solution_>) solverFactory.buildSolver());
     }
 
     private ProblemId_ getProblemIdOrThrow(ProblemId_ problemId) {
@@ -85,7 +143,16 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
-        return solve(getProblemIdOrThrow(problemId), problemFinder, null, finalBestSolutionConsumer, exceptionHandler);
+        return solve(problemId, problemFinder, finalBestSolutionConsumer, exceptionHandler, DEFAULT_PRIORITY);
+    }
+
+    @Override
+    public SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler, int priority) {
+        return solve(getProblemIdOrThrow(problemId), problemFinder, null, finalBestSolutionConsumer, exceptionHandler,
+                priority);
     }
 
     @Override
@@ -94,21 +161,25 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
             Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
+        return solveAndListen(problemId, problemFinder, bestSolutionConsumer, finalBestSolutionConsumer,
+                exceptionHandler, DEFAULT_PRIORITY);
+    }
+
+    @Override
+    public SolverJob<Solution_, ProblemId_> solveAndListen(ProblemId_ problemId,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> bestSolutionConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler, int priority) {
         return solve(getProblemIdOrThrow(problemId), problemFinder, bestSolutionConsumer, finalBestSolutionConsumer,
-                exceptionHandler);
+                exceptionHandler, priority);
     }
 
     protected SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId,
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
             Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
-            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
-        Solver<Solution_> solver = solverFactory.buildSolver();
-        ((DefaultSolver<Solution_>) solver).setMonitorTagMap(Map.of("problem.id", problemId.toString()));
-        // TODO consumption should happen on different thread than solver thread, doing skipAhead and throttling
-        if (bestSolutionConsumer != null) {
-            solver.addEventListener(event -> bestSolutionConsumer.accept(event.getNewBestSolution()));
-        }
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler, int priority) {
         BiConsumer<? super ProblemId_, ? super Throwable> finalExceptionHandler = (exceptionHandler != null)
                 ? exceptionHandler
                 : defaultExceptionHandler;
@@ -118,15 +189,78 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
                         // TODO Future features: automatically restart solving by calling reloadProblem()
                         throw new IllegalStateException("The problemId (" + problemId + ") is already solving.");
                     } else {
-                        return new DefaultSolverJob<>(this, solver, problemId, problemFinder, finalBestSolutionConsumer,
-                                finalExceptionHandler);
+                        ConsumerSupport<Solution_> consumerSupport = new ConsumerSupport<>(bestSolutionConsumer,
+                                finalBestSolutionConsumer, consumerThreadPool);
+                        return new DefaultSolverJob<>(this, problemId, problemFinder, consumerSupport,
+                                finalExceptionHandler, priority, jobSequence.getAndIncrement());
                     }
                 });
-        Future<Solution_> future = solverThreadPool.submit(solverJob);
-        solverJob.setFuture(future);
+        schedule(solverJob);
+        preemptLowerPriorityJobIfNeeded(solverJob);
         return solverJob;
     }
 
+    private void schedule(DefaultSolverJob<Solution_, ProblemId_> solverJob) {
+        SolverJobFutureTask<Solution_, ProblemId_> future = new SolverJobFutureTask<>(solverJob);
+        solverJob.setFuture(future);
+        solverThreadPool.execute(future);
+    }
+
+    protected void reschedule(DefaultSolverJob<Solution_, ProblemId_> solverJob) {
+        schedule(solverJob);
+    }
+
+    /**
+     * If the given job can't start because all solver threads are taken,
+     * preempt the active job with the lowest priority, if that is lower than the given job's priority.
+     * <p>
+     * Synchronized, so concurrent submissions don't all pick the same job to preempt:
+     * a job that is already asked to preempt counts as a free solver thread for the next submission.
+     *
+     * @param solverJob never null, just scheduled
+     */
+    private synchronized void preemptLowerPriorityJobIfNeeded(DefaultSolverJob<Solution_, ProblemId_> solverJob) {
+        int priority = solverJob.getPriority();
+        int activeCount = 0;
+        int scheduledAheadCount = 0;
+        List<DefaultSolverJob<Solution_, ProblemId_>> preemptionCandidateList = new ArrayList<>();
+        for (DefaultSolverJob<Solution_, ProblemId_> otherSolverJob : problemIdToSolverJobMap.values()) {
+            switch (otherSolverJob.getSolverStatus()) {
+                case SOLVING_ACTIVE:
+                    if (otherSolverJob.isPreemptionRequested()) {
+                        // Its solver thread will be available soon
+                        break;
+                    }
+                    activeCount++;
+                    if (otherSolverJob.getPriority() < priority) {
+                        preemptionCandidateList.add(otherSolverJob);
+                    }
+                    break;
+                case SOLVING_SCHEDULED:
+                    if (otherSolverJob.getPriority() >= priority) {
+                        scheduledAheadCount++;
+                    }
+                    break;
+                case NOT_SOLVING:
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported solverStatus (" + otherSolverJob.getSolverStatus()
+                            + ").");
+            }
+        }
+        // The scheduledAheadCount includes the given job itself
+        if (activeCount + scheduledAheadCount <= parallelSolverCount) {
+            return;
+        }
+        preemptionCandidateList.sort(PREEMPTION_COMPARATOR);
+        for (DefaultSolverJob<Solution_, ProblemId_> preemptionCandidate : preemptionCandidateList) {
+            // A job that is starting or terminating refuses, so try the next one
+            if (preemptionCandidate.preempt()) {
+                return;
+            }
+        }
+    }
+
     @Override
     public SolverStatus getSolverStatus(ProblemId_ problemId) {
         DefaultSolverJob<Solution_, ProblemId_> solverJob = getSolverJob(problemId);
@@ -174,10 +308,106 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
     @Override
     public void close() {
         solverThreadPool.shutdownNow();
+        if (consumerThreadPool != null) {
+            consumerThreadPool.shutdownNow();
+        }
+        DefaultSolver<Solution_> idleSolver = idleSolverQueue.poll();
+        while (idleSolver != null) {
+            idleSolver.getSolverScope().getScoreDirector().close();
+            idleSolver = idleSolverQueue.poll();
+        }
+    }
+
+    protected DefaultSolver<Solution_> borrowSolver(ProblemId_ problemId) {
+        DefaultSolver<Solution_> solver = idleSolverQueue.poll();
+        if (solver == null) {
+            solver = (DefaultSolver<Solution_>) solverFactory.buildSolver();
+        }
+        solver.setMonitorTagMap(Map.of("problem.id", problemId.toString()));
+        if (moveThreadCount != null) {
+            SolverScope<Solution_> solverScope = solver.getSolverScope();
+            if (solverScope.getMoveThreadCapSemaphore() == null) {
+                solverScope.setMoveThreadCapSemaphore(new AdjustableSemaphore(moveThreadCount));
+            }
+            activeSolverSet.add(solver);
+            capMoveThreads();
+        }
+        return solver;
+    }
+
+    /**
+     * @param solver never null
+     * @param reusable false if the solver failed, in which case it is discarded
+     */
+    protected void returnSolver(DefaultSolver<Solution_> solver, boolean reusable) {
+        if (moveThreadCount != null) {
+            activeSolverSet.remove(solver);
+            capMoveThreads();
+        }
+        SolverScope<Solution_> solverScope = solver.getSolverScope();
+        if (!reusable) {
+            solverScope.getScoreDirector().close();
+            return;
+        }
+        // Don't keep the last problem reachable while the solver is idle.
+        solverScope.setBestSolution(null);
+        // Solving clears the score director already, but only when it ended normally, so be certain.
+        // The score director keeps its Drools session, so the next job only inserts its facts into it.
+        solverScope.getScoreDirector().clearWorkingSolution();
+        if (!idleSolverQueue.offer(solver)) {
+            // The queue is full, so the solver is discarded.
+            solverScope.getScoreDirector().close();
+        }
+    }
+
+    /**
+     * Caps the move threads of every active job to an even share of the available processors,
+     * so many parallel jobs don't oversubscribe the CPU, while a lone job still evaluates with all its move threads.
+     * Every job keeps at least 1 move thread evaluating.
+     * <p>
+     * This only lowers and restores caps: a job never evaluates with more than its moveThreadCount,
+     * so the processors a job leaves unused are not handed to other jobs.
+     * Jobs that don't use move threads (moveThreadCount NONE) are not capped at all.
+     */
+    private synchronized void capMoveThreads() {
+        int activeSolverCount = activeSolverSet.size();
+        if (activeSolverCount == 0) {
+            return;
+        }
+        int share = availableProcessorCount / activeSolverCount;
+        int remainder = availableProcessorCount % activeSolverCount;
+        int solverIndex = 0;
+        for (DefaultSolver<Solution_> solver : activeSolverSet) {
+            int permitCount = share + (solverIndex < remainder ? 1 : 0);
+            permitCount = Math.max(1, Math.min(permitCount, moveThreadCount));
+            solver.getSolverScope().getMoveThreadCapSemaphore().setPermitCount(permitCount);
+            solverIndex++;
+        }
     }
 
     protected void unregisterSolverJob(ProblemId_ problemId) {
         problemIdToSolverJobMap.remove(getProblemIdOrThrow(problemId));
     }
 
+    private static final class SolverJobFutureTask<Solution_, ProblemId_> extends FutureTask<Solution_>
+            implements Comparable<SolverJobFutureTask<Solution_, ProblemId_>> {
+
+        private final DefaultSolverJob<Solution_, ProblemId_> solverJob;
+
+        public SolverJobFutureTask(DefaultSolverJob<Solution_, ProblemId_> solverJob) {
+            super(solverJob);
+            this.solverJob = solverJob;
+        }
+
+        @Override
+        public int compareTo(SolverJobFutureTask<Solution_, ProblemId_> other) {
+            // Higher priority first, then first in, first out
+            int comparison = Integer.compare(other.solverJob.getPriority(), solverJob.getPriority());
+            if (comparison != 0) {
+                return comparison;
+            }
+            return Long.compare(solverJob.getSequence(), other.solverJob.getSequence());
+        }
+    }
+
 }
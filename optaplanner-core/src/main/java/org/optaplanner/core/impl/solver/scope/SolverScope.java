@@ -22,8 +22,12 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
@@ -34,6 +38,7 @@ import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.solver.thread.AdjustableSemaphore;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 
 import io.micrometer.core.instrument.Tags;
@@ -51,10 +56,31 @@ public class SolverScope<Solution_> {
      * Used for capping CPU power usage in multithreaded scenarios.
      */
     protected Semaphore runnableThreadSemaphore = null;
+    /**
+     * Used for capping the number of move threads that evaluate moves at the same time,
+     * so the move threads of multiple solvers don't oversubscribe the CPU.
+     * Null if the move threads are not capped, which is always the case if no move threads are used.
+     */
+    protected AdjustableSemaphore moveThreadCapSemaphore = null;
+    /**
+     * The child threads (move threads and part threads) started by this solver, mapped to their thread name.
+     * Shared with the child thread solver scopes, so it includes the move threads of the part threads too.
+     */
+    protected ConcurrentMap<Long, String> childThreadIdToNameMap = new ConcurrentHashMap<>();
+    /**
+     * Notified on each child thread just before it terminates, with its thread id.
+     * Shared with the child thread solver scopes, like {@link #childThreadIdToNameMap}.
+     */
+    protected List<LongConsumer> childThreadEndingListenerList = new CopyOnWriteArrayList<>();
 
     protected volatile Long startingSystemTimeMillis;
     protected volatile Long endingSystemTimeMillis;
     protected long childThreadsScoreCalculationCount = 0;
+    /**
+     * The budget spent by earlier runs of the same problem, such as a preempted job that resumes.
+     */
+    protected long previousRunsTimeMillisSpent = 0L;
+    protected long previousRunsScoreCalculationCount = 0L;
 
     protected Score startingInitializedScore;
 
@@ -118,6 +144,55 @@ public class SolverScope<Solution_> {
         this.runnableThreadSemaphore = runnableThreadSemaphore;
     }
 
+    public AdjustableSemaphore getMoveThreadCapSemaphore() {
+        return moveThreadCapSemaphore;
+    }
+
+    public void setMoveThreadCapSemaphore(AdjustableSemaphore moveThreadCapSemaphore) {
+        this.moveThreadCapSemaphore = moveThreadCapSemaphore;
+    }
+
+    /**
+     * @return never null, the child threads started by this solver since it started solving,
+     *         mapped to their thread name, including the threads that died since
+     */
+    public Map<Long, String> getChildThreadIdToNameMap() {
+        return childThreadIdToNameMap;
+    }
+
+    /**
+     * Called on the child thread that is terminating, after its runnable ended (even exceptionally),
+     * so the listener can still read that thread's own {@code ThreadMXBean} statistics.
+     *
+     * @param childThreadEndingListener never null, receives the thread id of the terminating child thread
+     */
+    public void addChildThreadEndingListener(LongConsumer childThreadEndingListener) {
+        childThreadEndingListenerList.add(childThreadEndingListener);
+    }
+
+    /**
+     * @param threadFactory never null
+     * @return never null, registers every thread it creates in {@link #getChildThreadIdToNameMap()}
+     *         and notifies the {@link #addChildThreadEndingListener(LongConsumer) child thread ending listeners}
+     *         when such a thread terminates
+     */
+    public ThreadFactory trackChildThreads(ThreadFactory threadFactory) {
+        return runnable -> {
+            Thread thread = threadFactory.newThread(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    long threadId = Thread.currentThread().getId();
+                    for (LongConsumer childThreadEndingListener : childThreadEndingListenerList) {
+                        childThreadEndingListener.accept(threadId);
+                    }
+                }
+            });
+            childThreadIdToNameMap.put(thread.getId(), thread.getName());
+            return thread;
+        };
+    }
+
     public Long getStartingSystemTimeMillis() {
         return startingSystemTimeMillis;
     }
@@ -170,10 +245,40 @@ public class SolverScope<Solution_> {
         childThreadsScoreCalculationCount += addition;
     }
 
+    /**
+     * @return at least 0, of this run only, so excluding {@link #getPreviousRunsScoreCalculationCount()}
+     */
     public long getScoreCalculationCount() {
         return scoreDirector.getCalculationCount() + childThreadsScoreCalculationCount;
     }
 
+    public long getPreviousRunsTimeMillisSpent() {
+        return previousRunsTimeMillisSpent;
+    }
+
+    public long getPreviousRunsScoreCalculationCount() {
+        return previousRunsScoreCalculationCount;
+    }
+
+    /**
+     * Continues the budget of earlier runs of the same problem, such as a preempted job that resumes,
+     * so the terminations based on the time spent or the score calculation count include those runs.
+     * The starting time, the time spent and the score calculation count of this scope remain those of this run,
+     * so statistics, metrics and logging are not affected.
+     * Call it before solving starts, with 0 for both for a new problem,
+     * which also forgets the times and counts of the previous problem of this solver.
+     *
+     * @param previousRunsTimeMillisSpent {@code >= 0}
+     * @param previousRunsScoreCalculationCount {@code >= 0}
+     */
+    public void setPreviousRuns(long previousRunsTimeMillisSpent, long previousRunsScoreCalculationCount) {
+        this.previousRunsTimeMillisSpent = previousRunsTimeMillisSpent;
+        this.previousRunsScoreCalculationCount = previousRunsScoreCalculationCount;
+        childThreadsScoreCalculationCount = 0L;
+        startingSystemTimeMillis = null;
+        endingSystemTimeMillis = null;
+    }
+
     public Solution_ getBestSolution() {
         return bestSolution;
     }
@@ -255,6 +360,8 @@ public class SolverScope<Solution_> {
     public SolverScope<Solution_> createChildThreadSolverScope(ChildThreadType childThreadType) {
         SolverScope<Solution_> childThreadSolverScope = new SolverScope<>();
         childThreadSolverScope.monitoringTags = monitoringTags;
+        childThreadSolverScope.childThreadIdToNameMap = childThreadIdToNameMap;
+        childThreadSolverScope.childThreadEndingListenerList = childThreadEndingListenerList;
         childThreadSolverScope.solverMetricSet = solverMetricSet;
         childThreadSolverScope.startingSolverCount = startingSolverCount;
         // TODO FIXME use RandomFactory
@@ -29,18 +29,38 @@ import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 /**
  * Concurrency notes:
  * Condition predicate on ({@link #problemFactChangeQueue} is not empty or {@link #terminatedEarly} is true).
+ * <p>
+ * If {@link #batchWindowMillis} is positive, problem fact changes are batched:
+ * the solver only terminates for a problem fact change once the oldest queued one has waited that long,
+ * so the problem fact changes that arrive in the meantime are processed in the same restart.
  */
 public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Solution_> {
 
     protected final boolean daemon;
+    protected final long batchWindowMillis;
 
     protected boolean terminatedEarly = false;
     protected BlockingQueue<ProblemFactChange<Solution_>> problemFactChangeQueue = new LinkedBlockingQueue<>();
 
+    protected long firstQueuedProblemFactChangeTimeMillis = -1L;
+
     protected boolean problemFactChangesBeingProcessed = false;
 
     public BasicPlumbingTermination(boolean daemon) {
+        this(daemon, 0L);
+    }
+
+    /**
+     * @param daemon true if the solver waits for problem fact changes instead of returning
+     * @param batchWindowMillis {@code >= 0}, how long a problem fact change waits for others before it is processed
+     */
+    public BasicPlumbingTermination(boolean daemon, long batchWindowMillis) {
+        if (batchWindowMillis < 0L) {
+            throw new IllegalArgumentException("The batchWindowMillis (" + batchWindowMillis
+                    + ") cannot be negative.");
+        }
         this.daemon = daemon;
+        this.batchWindowMillis = batchWindowMillis;
     }
 
     // ************************************************************************
@@ -79,6 +99,7 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
      * If this returns true, then the problemFactChangeQueue is definitely not empty.
      * <p>
      * Concurrency note: Blocks until {@link #problemFactChangeQueue} is not empty or {@link #terminatedEarly} is true.
+     * In daemon mode, it then also blocks until the batch window of the oldest problem fact change has passed.
      *
      * @return true if the solver needs to be restarted
      */
@@ -87,17 +108,37 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
             return !problemFactChangeQueue.isEmpty() && !terminatedEarly;
         } else {
             while (problemFactChangeQueue.isEmpty() && !terminatedEarly) {
-                try {
-                    wait();
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    throw new IllegalStateException("Solver thread was interrupted during Object.wait().", e);
-                }
+                waitUninterruptedly(0L);
+            }
+            long remainingBatchWindowMillis = calculateRemainingBatchWindowMillis();
+            while (remainingBatchWindowMillis > 0L && !terminatedEarly) {
+                waitUninterruptedly(remainingBatchWindowMillis);
+                remainingBatchWindowMillis = calculateRemainingBatchWindowMillis();
             }
             return !terminatedEarly;
         }
     }
 
+    private void waitUninterruptedly(long timeoutMillis) {
+        try {
+            wait(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Solver thread was interrupted during Object.wait().", e);
+        }
+    }
+
+    /**
+     * @return {@code >= 0}, 0 if the problem fact changes can be processed now or if there are none
+     */
+    private long calculateRemainingBatchWindowMillis() {
+        if (batchWindowMillis == 0L || problemFactChangeQueue.isEmpty()) {
+            return 0L;
+        }
+        long waitedMillis = System.currentTimeMillis() - firstQueuedProblemFactChangeTimeMillis;
+        return Math.max(batchWindowMillis - waitedMillis, 0L);
+    }
+
     /**
      * Concurrency note: unblocks {@link #waitForRestartSolverDecision()}.
      *
@@ -105,6 +146,7 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
      * @return as specified by {@link Collection#add}
      */
     public synchronized boolean addProblemFactChange(ProblemFactChange<Solution_> problemFactChange) {
+        markFirstQueuedProblemFactChange();
         boolean added = problemFactChangeQueue.add(problemFactChange);
         notifyAll();
         return added;
@@ -117,11 +159,18 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
      * @return as specified by {@link Collection#add}
      */
     public synchronized boolean addProblemFactChanges(List<ProblemFactChange<Solution_>> problemFactChangeList) {
+        markFirstQueuedProblemFactChange();
         boolean added = problemFactChangeQueue.addAll(problemFactChangeList);
         notifyAll();
         return added;
     }
 
+    private void markFirstQueuedProblemFactChange() {
+        if (problemFactChangeQueue.isEmpty()) {
+            firstQueuedProblemFactChangeTimeMillis = System.currentTimeMillis();
+        }
+    }
+
     public synchronized BlockingQueue<ProblemFactChange<Solution_>> startProblemFactChangesProcessing() {
         problemFactChangesBeingProcessed = true;
         return problemFactChangeQueue;
@@ -151,7 +200,7 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
             logger.info("The solver thread got interrupted, so this solver is terminating early.");
             terminatedEarly = true;
         }
-        return terminatedEarly || !problemFactChangeQueue.isEmpty();
+        return terminatedEarly || (!problemFactChangeQueue.isEmpty() && calculateRemainingBatchWindowMillis() == 0L);
     }
 
     @Override
@@ -17,7 +17,6 @@
 package org.optaplanner.core.impl.solver.termination;
 
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
-import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 
@@ -39,35 +38,38 @@ public class ScoreCalculationCountTermination<Solution_> extends AbstractTermina
 
     @Override
     public boolean isSolverTerminated(SolverScope<Solution_> solverScope) {
-        return isTerminated(solverScope.getScoreDirector());
+        return isTerminated(calculateSolverScoreCalculationCount(solverScope));
     }
 
     @Override
     public boolean isPhaseTerminated(AbstractPhaseScope<Solution_> phaseScope) {
-        return isTerminated(phaseScope.getScoreDirector());
+        return isTerminated(phaseScope.getScoreDirector().getCalculationCount());
     }
 
-    protected boolean isTerminated(InnerScoreDirector<Solution_, ?> scoreDirector) {
-        long scoreCalculationCount = scoreDirector.getCalculationCount();
+    protected boolean isTerminated(long scoreCalculationCount) {
         return scoreCalculationCount >= scoreCalculationCountLimit;
     }
 
+    private static long calculateSolverScoreCalculationCount(SolverScope<?> solverScope) {
+        // A resumed solver continues the count of its previous runs
+        return solverScope.getScoreDirector().getCalculationCount() + solverScope.getPreviousRunsScoreCalculationCount();
+    }
+
     // ************************************************************************
     // Time gradient methods
     // ************************************************************************
 
     @Override
     public double calculateSolverTimeGradient(SolverScope<Solution_> solverScope) {
-        return calculateTimeGradient(solverScope.getScoreDirector());
+        return calculateTimeGradient(calculateSolverScoreCalculationCount(solverScope));
     }
 
     @Override
     public double calculatePhaseTimeGradient(AbstractPhaseScope<Solution_> phaseScope) {
-        return calculateTimeGradient(phaseScope.getScoreDirector());
+        return calculateTimeGradient(phaseScope.getScoreDirector().getCalculationCount());
     }
 
-    protected double calculateTimeGradient(InnerScoreDirector<Solution_, ?> scoreDirector) {
-        long scoreCalculationCount = scoreDirector.getCalculationCount();
+    protected double calculateTimeGradient(long scoreCalculationCount) {
         double timeGradient = scoreCalculationCount / ((double) scoreCalculationCountLimit);
         return Math.min(timeGradient, 1.0);
     }
@@ -16,6 +16,8 @@
 
 package org.optaplanner.core.impl.solver.termination;
 
+import java.util.Collections;
+
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
@@ -74,8 +76,13 @@ public class StepCountTermination<Solution_> extends AbstractTermination<Solutio
     // ************************************************************************
 
     @Override
-    public StepCountTermination<Solution_> createChildThreadTermination(SolverScope<Solution_> solverScope,
+    public Termination<Solution_> createChildThreadTermination(SolverScope<Solution_> solverScope,
             ChildThreadType childThreadType) {
+        if (childThreadType == ChildThreadType.PART_THREAD) {
+            // Only the partitioned search phase does steps, on the solver thread,
+            // so it terminates the part threads itself once this limit is reached
+            return new OrCompositeTermination<>(Collections.emptyList());
+        }
         return new StepCountTermination<>(stepCountLimit);
     }
 
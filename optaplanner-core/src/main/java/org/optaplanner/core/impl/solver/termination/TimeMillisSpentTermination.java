@@ -42,7 +42,7 @@ public class TimeMillisSpentTermination<Solution_> extends AbstractTermination<S
 
     @Override
     public boolean isSolverTerminated(SolverScope<Solution_> solverScope) {
-        long solverTimeMillisSpent = solverScope.calculateTimeMillisSpentUpToNow();
+        long solverTimeMillisSpent = calculateSolverTimeMillisSpent(solverScope);
         return isTerminated(solverTimeMillisSpent);
     }
 
@@ -52,6 +52,11 @@ public class TimeMillisSpentTermination<Solution_> extends AbstractTermination<S
         return isTerminated(phaseTimeMillisSpent);
     }
 
+    private static long calculateSolverTimeMillisSpent(SolverScope<?> solverScope) {
+        // A resumed solver continues the time spent of its previous runs
+        return solverScope.calculateTimeMillisSpentUpToNow() + solverScope.getPreviousRunsTimeMillisSpent();
+    }
+
     protected boolean isTerminated(long timeMillisSpent) {
         return timeMillisSpent >= timeMillisSpentLimit;
     }
@@ -62,7 +67,7 @@ public class TimeMillisSpentTermination<Solution_> extends AbstractTermination<S
 
     @Override
     public double calculateSolverTimeGradient(SolverScope<Solution_> solverScope) {
-        long solverTimeMillisSpent = solverScope.calculateTimeMillisSpentUpToNow();
+        long solverTimeMillisSpent = calculateSolverTimeMillisSpent(solverScope);
         return calculateTimeGradient(solverTimeMillisSpent);
     }
 
@@ -16,6 +16,8 @@
 
 package org.optaplanner.core.impl.solver.termination;
 
+import java.util.Collections;
+
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
@@ -80,8 +82,13 @@ public class UnimprovedStepCountTermination<Solution_> extends AbstractTerminati
     // ************************************************************************
 
     @Override
-    public UnimprovedStepCountTermination<Solution_> createChildThreadTermination(SolverScope<Solution_> solverScope,
+    public Termination<Solution_> createChildThreadTermination(SolverScope<Solution_> solverScope,
             ChildThreadType childThreadType) {
+        if (childThreadType == ChildThreadType.PART_THREAD) {
+            // Only the partitioned search phase does steps, on the solver thread,
+            // so it terminates the part threads itself once this limit is reached
+            return new OrCompositeTermination<>(Collections.emptyList());
+        }
         return new UnimprovedStepCountTermination<>(unimprovedStepCountLimit);
     }
 
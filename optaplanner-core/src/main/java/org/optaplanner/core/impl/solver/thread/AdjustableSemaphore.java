@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.thread;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * A {@link Semaphore} of which the total number of permits can change while permits are acquired.
+ * Lowering the permit count below the number of acquired permits doesn't interrupt their holders:
+ * the surplus disappears as they release.
+ */
+public class AdjustableSemaphore extends Semaphore {
+
+    private int permitCount;
+
+    public AdjustableSemaphore(int permitCount) {
+        super(permitCount);
+        this.permitCount = permitCount;
+    }
+
+    public synchronized int getPermitCount() {
+        return permitCount;
+    }
+
+    /**
+     * @param permitCount at least 1
+     */
+    public synchronized void setPermitCount(int permitCount) {
+        if (permitCount < 1) {
+            throw new IllegalArgumentException("The permitCount (" + permitCount + ") must be at least 1.");
+        }
+        int delta = permitCount - this.permitCount;
+        if (delta > 0) {
+            release(delta);
+        } else if (delta < 0) {
+            reducePermits(-delta);
+        }
+        this.permitCount = permitCount;
+    }
+
+}
@@ -20,12 +20,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.api.solver.SolverManager;
@@ -67,6 +72,53 @@ class ScoreManagerTest {
         });
     }
 
+    @ParameterizedTest
+    @EnumSource(ScoreManagerSource.class)
+    public void explainScores(ScoreManagerSource scoreManagerSource) {
+        ScoreManager<TestdataSolution, SimpleScore> scoreManager = scoreManagerSource.createScoreManager(SOLVER_FACTORY);
+        List<TestdataSolution> solutionList = IntStream.range(1, 20)
+                .mapToObj(entityCount -> TestdataSolution.generateSolution(3, entityCount))
+                .collect(Collectors.toList());
+        List<ScoreExplanation<TestdataSolution, SimpleScore>> scoreExplanationList =
+                scoreManager.explainScores(solutionList.parallelStream());
+        assertThat(scoreExplanationList).hasSameSizeAs(solutionList);
+        for (int i = 0; i < solutionList.size(); i++) {
+            TestdataSolution solution = solutionList.get(i);
+            ScoreExplanation<TestdataSolution, SimpleScore> scoreExplanation = scoreExplanationList.get(i);
+            assertThat(scoreExplanation.getSolution()).isSameAs(solution);
+            assertThat(scoreExplanation.getScore()).isEqualTo(scoreManager.explainScore(solution).getScore());
+            assertThat(scoreExplanation.getConstraintMatchTotalMap().values())
+                    .extracting(ConstraintMatchTotal::getScore)
+                    .containsExactly(scoreExplanation.getScore());
+        }
+    }
+
+    @Test
+    public void sessionAppliesVariableChanges() {
+        ScoreManager<TestdataSolution, SimpleScore> scoreManager = ScoreManager.create(SOLVER_FACTORY);
+        try (ScoreSession<TestdataSolution, SimpleScore> scoreSession = scoreManager.openSession()) {
+            TestdataSolution solution = TestdataSolution.generateSolution(2, 4);
+            ScoreExplanation<TestdataSolution, SimpleScore> scoreExplanation = scoreSession.explainScore(solution);
+            assertThat(scoreExplanation.getScore()).isEqualTo(SimpleScore.of(-8));
+            assertThat(solution.getScore()).isEqualTo(SimpleScore.of(-8));
+
+            TestdataSolution variation = TestdataSolution.generateSolution(2, 4);
+            variation.getEntityList().get(1).setValue(variation.getValueList().get(0));
+            assertThat(scoreSession.updateScore(variation)).isEqualTo(SimpleScore.of(-10));
+            assertThat(variation.getScore()).isEqualTo(SimpleScore.of(-10));
+            // Neither the previous solution nor its explanation change
+            assertThat(solution.getEntityList().get(1).getValue()).isSameAs(solution.getValueList().get(1));
+            assertThat(scoreExplanation.getConstraintMatchTotalMap().values())
+                    .extracting(ConstraintMatchTotal::getScore)
+                    .containsExactly(SimpleScore.of(-8));
+
+            assertThat(scoreSession.explainScore(solution).getScore()).isEqualTo(SimpleScore.of(-8));
+            // Other planning entities start over
+            assertThat(scoreSession.updateScore(TestdataSolution.generateSolution(2, 5)))
+                    .isEqualTo(SimpleScore.of(-13));
+        }
+    }
+
     @ParameterizedTest
     @EnumSource(ConstraintStreamImplType.class)
     public void indictmentsPresentOnFreshExplanation(ConstraintStreamImplType constraintStreamImplType) {
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.buildin.hardsoftdecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.AbstractScoreTest;
+import org.optaplanner.core.impl.testdata.util.PlannerAssert;
+
+public class HardSoftDecimalScoreTest extends AbstractScoreTest {
+
+    @Test
+    public void of() {
+        assertThat(HardSoftDecimalScore.ofHard(new BigDecimal("-147.2")))
+                .isEqualTo(HardSoftDecimalScore.of(new BigDecimal("-147.2"), BigDecimal.ZERO));
+        assertThat(HardSoftDecimalScore.ofSoft(new BigDecimal("-258.3")))
+                .isEqualTo(HardSoftDecimalScore.of(BigDecimal.ZERO, new BigDecimal("-258.3")));
+        HardSoftDecimalScore score = HardSoftDecimalScore.of(new BigDecimal("-1.5"), new BigDecimal("3.25"));
+        assertThat(score.getScale()).isEqualTo(2);
+        assertThat(score.getHardUnscaledScore()).isEqualTo(-150L);
+        assertThat(score.getSoftUnscaledScore()).isEqualTo(325L);
+        assertThat(score.getHardScore()).isEqualTo(new BigDecimal("-1.50"));
+        assertThat(score.getSoftScore()).isEqualTo(new BigDecimal("3.25"));
+        assertThat(HardSoftDecimalScore.ofUnscaled(-150L, 325L, 2)).isEqualTo(score);
+    }
+
+    @Test
+    public void ofIllegalScale() {
+        assertThatIllegalArgumentException().isThrownBy(() -> HardSoftDecimalScore.ofUnscaled(0L, 0L, -1));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> HardSoftDecimalScore.ofUnscaled(0L, 0L, HardSoftDecimalScore.MAX_SCALE + 1));
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> HardSoftDecimalScore.ofSoft(new BigDecimal("92233720368547758.08")));
+    }
+
+    @Test
+    public void parseScore() {
+        assertThat(HardSoftDecimalScore.parseScore("-147.2hard/-258.3soft"))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(-1472L, -2583L, 1));
+        assertThat(HardSoftDecimalScore.parseScore("-7init/-147.2hard/-258.3soft"))
+                .isEqualTo(HardSoftDecimalScore.ofUninitializedUnscaled(-7, -1472L, -2583L, 1));
+        assertThat(HardSoftDecimalScore.parseScore("0hard/1E+2soft"))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(0L, 100L, 0));
+    }
+
+    @Test
+    public void toShortString() {
+        assertThat(HardSoftDecimalScore.ofUnscaled(0L, 0L, 2).toShortString()).isEqualTo("0");
+        assertThat(HardSoftDecimalScore.ofUnscaled(0L, -25830L, 2).toShortString()).isEqualTo("-258.30soft");
+        assertThat(HardSoftDecimalScore.ofUnscaled(-14720L, 0L, 2).toShortString()).isEqualTo("-147.20hard");
+        assertThat(HardSoftDecimalScore.ofUnscaled(-14720L, -25830L, 2).toShortString())
+                .isEqualTo("-147.20hard/-258.30soft");
+        assertThat(HardSoftDecimalScore.ofUninitializedUnscaled(-7, 0L, 0L, 2).toShortString()).isEqualTo("-7init");
+        assertThat(HardSoftDecimalScore.ofUninitializedUnscaled(-7, -14720L, -25830L, 2).toShortString())
+                .isEqualTo("-7init/-147.20hard/-258.30soft");
+    }
+
+    @Test
+    public void testToString() {
+        assertThat(HardSoftDecimalScore.ofUnscaled(0L, -25830L, 2).toString()).isEqualTo("0.00hard/-258.30soft");
+        assertThat(HardSoftDecimalScore.ofUnscaled(-14720L, -25830L, 2).toString()).isEqualTo("-147.20hard/-258.30soft");
+        assertThat(HardSoftDecimalScore.ofUninitializedUnscaled(-7, -14720L, -25830L, 2).toString())
+                .isEqualTo("-7init/-147.20hard/-258.30soft");
+        assertThat(HardSoftDecimalScore.ofUnscaled(0L, 1L, 8).toString()).isEqualTo("0.00000000hard/0.00000001soft");
+    }
+
+    @Test
+    public void parseScoreIllegalArgument() {
+        assertThatIllegalArgumentException().isThrownBy(() -> HardSoftDecimalScore.parseScore("-147.2"));
+        assertThatIllegalArgumentException().isThrownBy(() -> HardSoftDecimalScore.parseScore("-147.2hard/*soft"));
+    }
+
+    @Test
+    public void withInitScore() {
+        assertThat(HardSoftDecimalScore.ofUnscaled(-1472L, -2583L, 1).withInitScore(-7))
+                .isEqualTo(HardSoftDecimalScore.ofUninitializedUnscaled(-7, -1472L, -2583L, 1));
+    }
+
+    @Test
+    public void withScale() {
+        HardSoftDecimalScore score = HardSoftDecimalScore.ofUnscaled(-150L, 325L, 2);
+        assertThat(score.withScale(4).getHardUnscaledScore()).isEqualTo(-15000L);
+        assertThat(score.withScale(4).getScale()).isEqualTo(4);
+        assertThat(score.withScale(4).withScale(2)).isEqualTo(score);
+        assertThatExceptionOfType(ArithmeticException.class).isThrownBy(() -> score.withScale(1));
+    }
+
+    @Test
+    public void feasible() {
+        assertScoreNotFeasible(
+                HardSoftDecimalScore.ofUnscaled(-5L, -300L, 1),
+                HardSoftDecimalScore.ofUninitializedUnscaled(-7, -5L, -300L, 1),
+                HardSoftDecimalScore.ofUninitializedUnscaled(-7, 0L, -300L, 1));
+        assertScoreFeasible(
+                HardSoftDecimalScore.ofUnscaled(0L, -300L, 1),
+                HardSoftDecimalScore.ofUnscaled(2L, -300L, 1),
+                HardSoftDecimalScore.ofUninitializedUnscaled(0, 0L, -300L, 1));
+    }
+
+    @Test
+    public void add() {
+        assertThat(HardSoftDecimalScore.ofUnscaled(200L, -200L, 1).add(
+                HardSoftDecimalScore.ofUnscaled(-10L, -3000L, 1)))
+                        .isEqualTo(HardSoftDecimalScore.ofUnscaled(190L, -3200L, 1));
+        assertThat(HardSoftDecimalScore.ofUninitializedUnscaled(-70, 200L, -200L, 1).add(
+                HardSoftDecimalScore.ofUninitializedUnscaled(-7, -10L, -3000L, 1)))
+                        .isEqualTo(HardSoftDecimalScore.ofUninitializedUnscaled(-77, 190L, -3200L, 1));
+        // Different scales
+        HardSoftDecimalScore sum = HardSoftDecimalScore.ofUnscaled(15L, -15L, 1).add(
+                HardSoftDecimalScore.ofUnscaled(1L, 0L, 3));
+        assertThat(sum.getScale()).isEqualTo(3);
+        assertThat(sum.getHardUnscaledScore()).isEqualTo(1501L);
+        assertThat(sum.getSoftUnscaledScore()).isEqualTo(-1500L);
+    }
+
+    @Test
+    public void addOverflow() {
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> HardSoftDecimalScore.ofUnscaled(Long.MAX_VALUE, 0L, 2)
+                        .add(HardSoftDecimalScore.ofUnscaled(1L, 0L, 2)));
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> HardSoftDecimalScore.ofUnscaled(Long.MAX_VALUE / 5L, 0L, 0)
+                        .add(HardSoftDecimalScore.ofUnscaled(0L, 1L, 1)));
+    }
+
+    @Test
+    public void subtract() {
+        assertThat(HardSoftDecimalScore.ofUnscaled(200L, -200L, 1).subtract(
+                HardSoftDecimalScore.ofUnscaled(-10L, -3000L, 1)))
+                        .isEqualTo(HardSoftDecimalScore.ofUnscaled(210L, 2800L, 1));
+        assertThat(HardSoftDecimalScore.ofUninitializedUnscaled(-70, 200L, -200L, 1).subtract(
+                HardSoftDecimalScore.ofUninitializedUnscaled(-7, -10L, -3000L, 1)))
+                        .isEqualTo(HardSoftDecimalScore.ofUninitializedUnscaled(-63, 210L, 2800L, 1));
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> HardSoftDecimalScore.ofUnscaled(Long.MIN_VALUE, 0L, 2)
+                        .subtract(HardSoftDecimalScore.ofUnscaled(1L, 0L, 2)));
+    }
+
+    @Test
+    public void multiply() {
+        assertThat(HardSoftDecimalScore.ofUnscaled(500L, -500L, 2).multiply(1.2))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(600L, -600L, 2));
+        assertThat(HardSoftDecimalScore.ofUnscaled(1L, -1L, 2).multiply(1.2))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(1L, -2L, 2));
+        assertThat(HardSoftDecimalScore.ofUninitializedUnscaled(-7, 4L, -5L, 2).multiply(2.0))
+                .isEqualTo(HardSoftDecimalScore.ofUninitializedUnscaled(-14, 8L, -10L, 2));
+    }
+
+    @Test
+    public void divide() {
+        assertThat(HardSoftDecimalScore.ofUnscaled(2500L, -2500L, 2).divide(5.0))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(500L, -500L, 2));
+        assertThat(HardSoftDecimalScore.ofUnscaled(21L, -21L, 2).divide(5.0))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(4L, -5L, 2));
+        assertThat(HardSoftDecimalScore.ofUninitializedUnscaled(-14, 8L, -10L, 2).divide(2.0))
+                .isEqualTo(HardSoftDecimalScore.ofUninitializedUnscaled(-7, 4L, -5L, 2));
+    }
+
+    @Test
+    public void power() {
+        assertThat(HardSoftDecimalScore.ofUnscaled(-150L, 250L, 2).power(2.0))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(225L, 625L, 2));
+        assertThat(HardSoftDecimalScore.ofUnscaled(-15L, 25L, 1).power(2.0))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(22L, 62L, 1));
+        assertThat(HardSoftDecimalScore.ofUnscaled(16L, 25L, 0).power(0.5))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(4L, 5L, 0));
+        assertThat(HardSoftDecimalScore.ofUninitializedUnscaled(-7, -4L, 5L, 0).power(3.0))
+                .isEqualTo(HardSoftDecimalScore.ofUninitializedUnscaled(-343, -64L, 125L, 0));
+    }
+
+    @Test
+    public void negate() {
+        assertThat(HardSoftDecimalScore.ofUnscaled(4L, -5L, 2).negate())
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(-4L, 5L, 2));
+        assertThat(HardSoftDecimalScore.ofUnscaled(-4L, 5L, 2).negate())
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(4L, -5L, 2));
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> HardSoftDecimalScore.ofUnscaled(Long.MIN_VALUE, 0L, 2).negate());
+    }
+
+    @Test
+    public void equalsAndHashCode() {
+        PlannerAssert.assertObjectsAreEqual(
+                HardSoftDecimalScore.ofUnscaled(-100L, -2000L, 1),
+                HardSoftDecimalScore.ofUnscaled(-100L, -2000L, 1),
+                HardSoftDecimalScore.ofUninitializedUnscaled(0, -100L, -2000L, 1),
+                HardSoftDecimalScore.ofUnscaled(-1000L, -20000L, 2),
+                HardSoftDecimalScore.ofUnscaled(-10L, -200L, 0));
+        PlannerAssert.assertObjectsAreEqual(
+                HardSoftDecimalScore.ofUninitializedUnscaled(-7, -100L, -2000L, 1),
+                HardSoftDecimalScore.ofUninitializedUnscaled(-7, -100L, -2000L, 1));
+        PlannerAssert.assertObjectsAreNotEqual(
+                HardSoftDecimalScore.ofUnscaled(-100L, -2000L, 1),
+                HardSoftDecimalScore.ofUnscaled(-300L, -2000L, 1),
+                HardSoftDecimalScore.ofUnscaled(-100L, -4000L, 1),
+                HardSoftDecimalScore.ofUnscaled(-100L, -2000L, 2),
+                HardSoftDecimalScore.ofUninitializedUnscaled(-7, -100L, -2000L, 1));
+    }
+
+    @Test
+    public void compareTo() {
+        PlannerAssert.assertCompareToOrder(
+                HardSoftDecimalScore.ofUninitializedUnscaled(-8, 0L, 0L, 1),
+                HardSoftDecimalScore.ofUninitializedUnscaled(-7, -200L, -200L, 1),
+                HardSoftDecimalScore.ofUninitializedUnscaled(-7, -10L, -3000L, 1),
+                HardSoftDecimalScore.ofUninitializedUnscaled(-7, 0L, 0L, 1),
+                HardSoftDecimalScore.ofUninitializedUnscaled(-7, 0L, 10L, 1),
+                HardSoftDecimalScore.ofUnscaled(-200L, Long.MIN_VALUE, 1),
+                HardSoftDecimalScore.ofUnscaled(-200L, -200L, 1),
+                HardSoftDecimalScore.ofUnscaled(-10L, -3000L, 1),
+                HardSoftDecimalScore.ofUnscaled(-10L, 40000L, 1),
+                HardSoftDecimalScore.ofUnscaled(0L, -10L, 1),
+                HardSoftDecimalScore.ofUnscaled(0L, -9L, 2),
+                HardSoftDecimalScore.ofUnscaled(0L, 0L, 1),
+                HardSoftDecimalScore.ofUnscaled(0L, 1L, 2),
+                HardSoftDecimalScore.ofUnscaled(0L, 1L, 1));
+    }
+}
@@ -25,6 +25,8 @@ import static java.util.Collections.emptySortedSet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.*;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.countLongBi;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.countLongQuad;
@@ -55,9 +57,19 @@ import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.function.QuadFunction;
 import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
+import org.optaplanner.core.api.score.stream.bi.ReversibleBiConstraintCollector;
+import org.optaplanner.core.api.score.stream.common.ConsecutiveInfo;
+import org.optaplanner.core.api.score.stream.common.ConsecutiveIntervalInfo;
+import org.optaplanner.core.api.score.stream.common.LoadBalanceInfo;
+import org.optaplanner.core.api.score.stream.common.SlidingWindowInfo;
 import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
+import org.optaplanner.core.api.score.stream.quad.ReversibleQuadConstraintCollector;
+import org.optaplanner.core.api.score.stream.tri.ReversibleTriConstraintCollector;
 import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
+import org.optaplanner.core.api.score.stream.uni.ReversibleUniConstraintCollector;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
+import org.optaplanner.core.impl.score.stream.collector.ConsecutiveSetTree;
+import org.optaplanner.core.impl.score.stream.collector.IntervalTree;
 import org.optaplanner.core.impl.util.Pair;
 
 public class ConstraintCollectorsTest {
@@ -3898,6 +3910,238 @@ public class ConstraintCollectorsTest {
         assertResult(collector, container, Quadruple.of(0, null, null, null));
     }
 
+    // ************************************************************************
+    // consecutive
+    // ************************************************************************
+
+    @Test
+    public void consecutive() {
+        // Do a basic test w/o edge cases; edge cases are covered in ConsecutiveSetTreeTest
+        UniConstraintCollector<Integer, ?, ConsecutiveInfo<Integer, Integer>> collector =
+                ConstraintCollectors.consecutive(Integer::intValue);
+        Object container = collector.supplier().get();
+        // Add first value, sequence is [2]
+        int firstValue = 2;
+        Runnable firstRetractor = accumulate(collector, container, firstValue);
+        assertRecursiveResult(collector, container, consecutiveData(2));
+        // Add second value, sequence is [1,2]
+        int secondValue = 1;
+        Runnable secondRetractor = accumulate(collector, container, secondValue);
+        assertRecursiveResult(collector, container, consecutiveData(1, 2));
+        // Add third value, same as the second. Sequence is [{1,1},2}]
+        Runnable thirdRetractor = accumulate(collector, container, secondValue);
+        assertRecursiveResult(collector, container, consecutiveData(1, 1, 2));
+        // Retract one instance of the second value; we only have two values now.
+        secondRetractor.run();
+        assertRecursiveResult(collector, container, consecutiveData(1, 2));
+        // Retract final instance of the second value; we only have one value now.
+        thirdRetractor.run();
+        assertRecursiveResult(collector, container, consecutiveData(2));
+        // Retract last value; there are no values now.
+        firstRetractor.run();
+        assertRecursiveResult(collector, container, consecutiveData());
+    }
+
+    @Test
+    public void consecutiveIntervals() {
+        // Do a basic test w/o edge cases; edge cases are covered in IntervalTreeTest
+        UniConstraintCollector<Interval, ?, ConsecutiveIntervalInfo<Interval, Integer, Integer>> collector =
+                ConstraintCollectors.consecutiveIntervals(Interval::getStart, Interval::getEnd, (a, b) -> b - a);
+        Object container = collector.supplier().get();
+        // Add first value, sequence is [(1,3)]
+        Interval firstValue = new Interval(1, 3);
+        Runnable firstRetractor = accumulate(collector, container, firstValue);
+        assertRecursiveResult(collector, container, consecutiveIntervalData(firstValue));
+        // Add second value, sequence is [(1,3),(2,4)]
+        Interval secondValue = new Interval(2, 4);
+        Runnable secondRetractor = accumulate(collector, container, secondValue);
+        assertRecursiveResult(collector, container, consecutiveIntervalData(firstValue, secondValue));
+        // Add third value, same as the second. Sequence is [(1,3),{(2,4),(2,4)}]
+        Runnable thirdRetractor = accumulate(collector, container, secondValue);
+        assertRecursiveResult(collector, container, consecutiveIntervalData(firstValue, secondValue, secondValue));
+        // Retract one instance of the second value; we only have two values now.
+        secondRetractor.run();
+        assertRecursiveResult(collector, container, consecutiveIntervalData(firstValue, secondValue));
+        // Retract final instance of the second value; we only have one value now.
+        thirdRetractor.run();
+        assertRecursiveResult(collector, container, consecutiveIntervalData(firstValue));
+        // Retract last value; there are no values now.
+        firstRetractor.run();
+        assertRecursiveResult(collector, container, consecutiveIntervalData());
+    }
+
+    private static ConsecutiveInfo<Integer, Integer> consecutiveData(Integer... data) {
+        ConsecutiveSetTree<Integer, Integer, Integer> tree =
+                new ConsecutiveSetTree<>(Integer::intValue, (a, b) -> b - a, Integer::sum, 1, 0);
+        asList(data).forEach(tree::add);
+        return tree;
+    }
+
+    private static ConsecutiveIntervalInfo<Interval, Integer, Integer> consecutiveIntervalData(Interval... data) {
+        IntervalTree<Interval, Integer, Integer> tree =
+                new IntervalTree<>(Interval::getStart, Interval::getEnd, (a, b) -> b - a);
+        asList(data).forEach(tree::add);
+        return tree.getConsecutiveIntervalData();
+    }
+
+    private static <A, Container_, Result_> void assertRecursiveResult(
+            UniConstraintCollector<A, Container_, Result_> collector, Object container, Result_ expectedResult) {
+        Result_ actualResult = collector.finisher().apply((Container_) container);
+        assertThat(actualResult)
+                .as("Collector (" + collector + ") did not produce expected result.")
+                .usingRecursiveComparison()
+                .ignoringFields("sourceTree", "indexFunction", "sequenceList", "startItemToSequence")
+                .isEqualTo(expectedResult);
+    }
+
+    private static final class Interval {
+
+        private final int start;
+        private final int end;
+
+        public Interval(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        public int getStart() {
+            return start;
+        }
+
+        public int getEnd() {
+            return end;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            Interval interval = (Interval) o;
+            return start == interval.start && end == interval.end;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(start, end);
+        }
+    }
+
+    // ************************************************************************
+    // sliding window
+    // ************************************************************************
+
+    @Test
+    public void slidingWindowSum() {
+        UniConstraintCollector<int[], ?, SlidingWindowInfo> collector =
+                ConstraintCollectors.slidingWindowSum(dayAndHours -> dayAndHours[0], dayAndHours -> dayAndHours[1], 7L);
+        Object container = collector.supplier().get();
+        SlidingWindowInfo result = finish(collector, container);
+        assertThat(result.getMaximumWindowSum()).isEqualTo(0L);
+        assertThat(result.getMaximumWindowStart()).isNull();
+        // Add first value, the window starting at day 1 has 8 hours.
+        Runnable firstRetractor = accumulate(collector, container, new int[] { 1, 8 });
+        result = finish(collector, container);
+        assertThat(result.getMaximumWindowSum()).isEqualTo(8L);
+        assertThat(result.getMaximumWindowStart()).isEqualTo(1L);
+        // Add second value, the window starting at day 1 has 16 hours.
+        Runnable secondRetractor = accumulate(collector, container, new int[] { 2, 8 });
+        result = finish(collector, container);
+        assertThat(result.getMaximumWindowSum()).isEqualTo(16L);
+        assertThat(result.getMaximumWindowStart()).isEqualTo(1L);
+        // Add third value, just outside of the window starting at day 1, but inside the one starting at day 2.
+        Runnable thirdRetractor = accumulate(collector, container, new int[] { 8, 10 });
+        result = finish(collector, container);
+        assertThat(result.getMaximumWindowSum()).isEqualTo(18L);
+        assertThat(result.getMaximumWindowStart()).isEqualTo(2L);
+        assertThat(result.getWindowSum(1L)).isEqualTo(16L);
+        assertThat(result.getWindowSum(-5L)).isEqualTo(8L);
+        // Retract the second value.
+        secondRetractor.run();
+        result = finish(collector, container);
+        assertThat(result.getMaximumWindowSum()).isEqualTo(10L);
+        assertThat(result.getMaximumWindowStart()).isEqualTo(8L);
+        // Retract the other values; there are no values now.
+        thirdRetractor.run();
+        firstRetractor.run();
+        result = finish(collector, container);
+        assertThat(result.getMaximumWindowSum()).isEqualTo(0L);
+        assertThat(result.getMaximumWindowStart()).isNull();
+    }
+
+    // ************************************************************************
+    // load balance
+    // ************************************************************************
+
+    @Test
+    public void loadBalance() {
+        UniConstraintCollector<String, ?, LoadBalanceInfo<String>> collector =
+                ConstraintCollectors.loadBalance(employee -> employee);
+        Object container = collector.supplier().get();
+        LoadBalanceInfo<String> result = finish(collector, container);
+        assertThat(result.getLoadMap()).isEmpty();
+        assertThat(result.getSquaredDeviation()).isEqualTo(0.0);
+        // Add first value, Ann carries the whole load.
+        Runnable firstRetractor = accumulate(collector, container, "Ann");
+        result = finish(collector, container);
+        assertThat(result.getLoadMap()).isEqualTo(asMap("Ann", 1L));
+        assertThat(result.getSquaredDeviation()).isEqualTo(0.0);
+        // Add second value, Ann carries twice the load of Beth.
+        Runnable secondRetractor = accumulate(collector, container, "Beth");
+        Runnable thirdRetractor = accumulate(collector, container, "Ann");
+        result = finish(collector, container);
+        assertThat(result.getLoadMap()).isEqualTo(asMap("Ann", 2L, "Beth", 1L));
+        assertThat(result.getTotalLoad()).isEqualTo(3L);
+        assertThat(result.getSquaredDeviation()).isEqualTo(0.5);
+        // Cathy has no value, so her load is 0. Mean 1: (2 - 1)^2 + (1 - 1)^2 + (0 - 1)^2
+        assertThat(result.getSquaredDeviation(3L)).isEqualTo(2.0);
+        LoadBalanceInfo<String> finalResult = result;
+        assertThatIllegalArgumentException().isThrownBy(() -> finalResult.getSquaredDeviation(1L));
+        assertThatThrownBy(() -> finalResult.getLoadMap().put("Cathy", 0L))
+                .isInstanceOf(UnsupportedOperationException.class);
+        // Retract one instance of Ann; the load is balanced.
+        thirdRetractor.run();
+        result = finish(collector, container);
+        assertThat(result.getLoadMap()).isEqualTo(asMap("Ann", 1L, "Beth", 1L));
+        assertThat(result.getSquaredDeviation()).isEqualTo(0.0);
+        // Retract the other values; there are no values now.
+        firstRetractor.run();
+        secondRetractor.run();
+        result = finish(collector, container);
+        assertThat(result.getLoadMap()).isEmpty();
+        assertThat(result.getTotalLoad()).isEqualTo(0L);
+        assertThat(result.getSquaredDeviation(0L)).isEqualTo(0.0);
+    }
+
+    @Test
+    public void loadBalanceWithLoad() {
+        BiConstraintCollector<String, Integer, ?, LoadBalanceInfo<String>> collector =
+                ConstraintCollectors.loadBalance((employee, hours) -> employee, (employee, hours) -> hours);
+        Object container = collector.supplier().get();
+        Runnable firstRetractor = accumulate(collector, container, "Ann", 8);
+        accumulate(collector, container, "Beth", 4);
+        accumulate(collector, container, "Cathy", 6);
+        LoadBalanceInfo<String> result = finish(collector, container);
+        assertThat(result.getTotalLoad()).isEqualTo(18L);
+        // Mean 6: (8 - 6)^2 + (4 - 6)^2 + (6 - 6)^2
+        assertThat(result.getSquaredDeviation()).isEqualTo(8.0);
+        firstRetractor.run();
+        result = finish(collector, container);
+        assertThat(result.getLoadMap()).isEqualTo(asMap("Beth", 4L, "Cathy", 6L));
+        assertThat(result.getSquaredDeviation()).isEqualTo(2.0);
+    }
+
+    private static <A, Container_, Result_> Result_ finish(UniConstraintCollector<A, Container_, Result_> collector,
+            Object container) {
+        return collector.finisher().apply((Container_) container);
+    }
+
+    private static <A, B, Container_, Result_> Result_ finish(
+            BiConstraintCollector<A, B, Container_, Result_> collector, Object container) {
+        return collector.finisher().apply((Container_) container);
+    }
+
     private static final class Quadruple<A, B, C, D> {
 
         public static <A, B, C, D> Quadruple<A, B, C, D> of(A a, B b, C c, D d) {
@@ -3938,6 +4182,39 @@ public class ConstraintCollectorsTest {
         }
     }
 
+    @Test
+    public void reversible() {
+        assertThat(ConstraintCollectors.count()).isInstanceOf(ReversibleUniConstraintCollector.class);
+        assertThat(ConstraintCollectors.countBi()).isInstanceOf(ReversibleBiConstraintCollector.class);
+        assertThat(ConstraintCollectors.countTri()).isInstanceOf(ReversibleTriConstraintCollector.class);
+        assertThat(ConstraintCollectors.countQuad()).isInstanceOf(ReversibleQuadConstraintCollector.class);
+
+        ReversibleUniConstraintCollector<Integer, Object, Integer> sumCollector =
+                (ReversibleUniConstraintCollector<Integer, Object, Integer>) ConstraintCollectors.sum((Integer i) -> i);
+        Object sumContainer = sumCollector.supplier().get();
+        long firstUndoToken = sumCollector.accumulateReversibly(sumContainer, 2);
+        long secondUndoToken = sumCollector.accumulateReversibly(sumContainer, 1_000_000);
+        assertThat(sumCollector.finisher().apply(sumContainer)).isEqualTo(1_000_002);
+        sumCollector.reverse(sumContainer, secondUndoToken);
+        assertThat(sumCollector.finisher().apply(sumContainer)).isEqualTo(2);
+        sumCollector.reverse(sumContainer, firstUndoToken);
+        assertThat(sumCollector.finisher().apply(sumContainer)).isZero();
+
+        ReversibleUniConstraintCollector<String, Object, String> minCollector =
+                (ReversibleUniConstraintCollector<String, Object, String>) ConstraintCollectors.<String> min();
+        Object minContainer = minCollector.supplier().get();
+        long bUndoToken = minCollector.accumulateReversibly(minContainer, "b");
+        long aUndoToken = minCollector.accumulateReversibly(minContainer, "a");
+        long secondAUndoToken = minCollector.accumulateReversibly(minContainer, "a");
+        assertThat(minCollector.finisher().apply(minContainer)).isEqualTo("a");
+        minCollector.reverse(minContainer, aUndoToken);
+        assertThat(minCollector.finisher().apply(minContainer)).isEqualTo("a");
+        minCollector.reverse(minContainer, secondAUndoToken);
+        assertThat(minCollector.finisher().apply(minContainer)).isEqualTo("b");
+        minCollector.reverse(minContainer, bUndoToken);
+        assertThat(minCollector.finisher().apply(minContainer)).isNull();
+    }
+
     private static <A, B, C, Container_, Result_> Runnable accumulate(
             TriConstraintCollector<A, B, C, Container_, Result_> collector, Object container, A valueA, B valueB,
             C valueC) {
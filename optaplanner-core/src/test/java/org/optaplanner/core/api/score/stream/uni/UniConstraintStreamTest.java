@@ -1034,6 +1034,58 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest implem
                 assertMatchWithScore(-1, solution.getFirstEntityGroup(), 1));
     }
 
+    @TestTemplate
+    public void groupByInt_1Collector() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
+        solution.getEntityList().get(1).setIntegerProperty(2);
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
+            return factory.forEach(TestdataLavishEntity.class)
+                    .groupByInt(TestdataLavishEntity::getIntegerProperty, count())
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE, (key, count) -> key * count);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-2, 1, 2),
+                assertMatchWithScore(-2, 2, 1));
+
+        // Incremental
+        Stream.of(solution.getEntityList().get(0), solution.getEntityList().get(1))
+                .forEach(entity -> {
+                    scoreDirector.beforeEntityRemoved(entity);
+                    solution.getEntityList().remove(entity);
+                    scoreDirector.afterEntityRemoved(entity);
+                });
+        assertScore(scoreDirector,
+                assertMatchWithScore(-1, 1, 1));
+    }
+
+    @TestTemplate
+    public void groupByLong_1Collector() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 3);
+        solution.getEntityList().get(1).setLongProperty(-5L);
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector(factory -> {
+            return factory.forEach(TestdataLavishEntity.class)
+                    .groupByLong(TestdataLavishEntity::getLongProperty, count())
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-1, 1L, 2),
+                assertMatchWithScore(-1, -5L, 1));
+
+        // Incremental
+        TestdataLavishEntity entity = solution.getEntityList().get(1);
+        scoreDirector.beforeEntityRemoved(entity);
+        solution.getEntityList().remove(entity);
+        scoreDirector.afterEntityRemoved(entity);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-1, 1L, 2));
+    }
+
     @Override
     @TestTemplate
     public void groupBy_1Mapping2Collector() {
@@ -33,6 +33,7 @@ import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -194,6 +195,55 @@ public class SolverManagerTest {
         solverManager.close();
     }
 
+    @Test
+    @Timeout(60)
+    public void exceptionInAsyncConsumer() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig());
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(
+                solverConfig, new SolverManagerConfig().withParallelSolverCount("1").withAsyncConsumption(true));
+
+        AtomicInteger exceptionCount = new AtomicInteger();
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solveAndListen(1L,
+                problemId -> PlannerTestUtils.generateTestdataSolution("s1"),
+                bestSolution -> {
+                    throw new IllegalStateException("exceptionInAsyncConsumer");
+                }, finalBestSolution -> fail("The final best solution must not be consumed."),
+                (problemId, throwable) -> exceptionCount.incrementAndGet());
+        assertThatThrownBy(solverJob1::getFinalBestSolution)
+                .isInstanceOf(ExecutionException.class)
+                .hasRootCauseMessage("exceptionInAsyncConsumer");
+        assertThat(exceptionCount.get()).isEqualTo(1);
+        assertThat(solverJob1.getSolverStatus()).isEqualTo(NOT_SOLVING);
+        solverManager.close();
+    }
+
+    @Test
+    @Timeout(60)
+    public void solveSequentially_reusedSolverDoesNotLeakConsumers() throws ExecutionException, InterruptedException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig());
+        // Only 1 solver can run at the same time, so the second job reuses the solver of the first job.
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(
+                solverConfig, new SolverManagerConfig().withParallelSolverCount("1"));
+
+        AtomicInteger bestSolutionCount1 = new AtomicInteger();
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solveAndListen(1L,
+                problemId -> PlannerTestUtils.generateTestdataSolution("s1"),
+                bestSolution -> bestSolutionCount1.incrementAndGet());
+        assertSolutionInitialized(solverJob1.getFinalBestSolution());
+        int bestSolutionCountAfterJob1 = bestSolutionCount1.get();
+        assertThat(bestSolutionCountAfterJob1).isPositive();
+
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solve(2L,
+                PlannerTestUtils.generateTestdataSolution("s2"));
+        assertSolutionInitialized(solverJob2.getFinalBestSolution());
+        assertThat(bestSolutionCount1.get()).isEqualTo(bestSolutionCountAfterJob1);
+        assertThat(solverJob1.getSolverStatus()).isEqualTo(NOT_SOLVING);
+        assertThat(solverJob2.getSolverStatus()).isEqualTo(NOT_SOLVING);
+        solverManager.close();
+    }
+
     @Test
     @Timeout(60)
     public void solveGenerics() throws ExecutionException, InterruptedException {
@@ -214,11 +264,11 @@ public class SolverManagerTest {
         solverManager.close();
     }
 
-    @Disabled("Skip ahead not yet supported")
     @Test
     @Timeout(60)
     public void skipAhead() throws ExecutionException, InterruptedException {
-        CountDownLatch latch = new CountDownLatch(1);
+        CountDownLatch consumerBlockedLatch = new CountDownLatch(1);
+        CountDownLatch skippedAheadLatch = new CountDownLatch(1);
         SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
                 TestdataEntity.class)
                 .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(
@@ -244,43 +294,44 @@ public class SolverManagerTest {
                             scoreDirector.afterVariableChanged(entity, "value");
                             scoreDirector.triggerVariableListeners();
                         }, (ScoreDirector<TestdataSolution> scoreDirector) -> {
-                            // In the next best solution event, both e1 and e2 are definitely not null (but e3 might be).
-                            latch.countDown();
-                            TestdataSolution solution = scoreDirector.getWorkingSolution();
-                            TestdataEntity entity = solution.getEntityList().get(3);
-                            scoreDirector.beforeVariableChanged(entity, "value");
-                            entity.setValue(solution.getValueList().get(3));
-                            scoreDirector.afterVariableChanged(entity, "value");
-                            scoreDirector.triggerVariableListeners();
+                            // No change, so no best solution event: only unblock the consumer and wait for it.
+                            // The best solutions with 2 and 3 initialized entities are both pending by now.
+                            consumerBlockedLatch.countDown();
+                            try {
+                                skippedAheadLatch.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                throw new IllegalStateException("Interrupted while waiting for the consumer.", e);
+                            }
                         }));
         SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(
-                solverConfig, new SolverManagerConfig().withParallelSolverCount("1"));
-        AtomicInteger bestSolutionCount = new AtomicInteger();
+                solverConfig, new SolverManagerConfig().withParallelSolverCount("1").withAsyncConsumption(true));
+        List<Long> initializedEntityCountList = Collections.synchronizedList(new ArrayList<>());
         AtomicInteger finalBestSolutionCount = new AtomicInteger();
         AtomicInteger exceptionCount = new AtomicInteger();
         SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solveAndListen(1L,
-                problemId -> PlannerTestUtils.generateTestdataSolution("s1", 4),
+                problemId -> PlannerTestUtils.generateTestdataSolution("s1", 3),
                 bestSolution -> {
-                    if (bestSolution.getEntityList().get(1).getValue() == null) {
-                        // The problem itself causes a best solution event. TODO Do we really want that behavior?
-                        return;
-                    }
-                    bestSolutionCount.incrementAndGet();
-                    if (bestSolution.getEntityList().get(2).getValue() == null) {
+                    long initializedEntityCount = bestSolution.getEntityList().stream()
+                            .filter(entity -> entity.getValue() != null)
+                            .count();
+                    initializedEntityCountList.add(initializedEntityCount);
+                    if (initializedEntityCountList.size() == 1) {
+                        // Block the consumer thread, without blocking the solver thread.
                         try {
-                            latch.await();
+                            consumerBlockedLatch.await();
                         } catch (InterruptedException e) {
                             fail("Latch failed.");
                         }
-                    } else if (bestSolution.getEntityList().get(3).getValue() == null) {
-                        fail("No skip ahead occurred: both e2 and e3 are null in a best solution event.");
+                    } else if (initializedEntityCount == 3L) {
+                        skippedAheadLatch.countDown();
                     }
                 },
                 finalBestSolution -> finalBestSolutionCount.incrementAndGet(),
                 (problemId, throwable) -> exceptionCount.incrementAndGet());
         assertSolutionInitialized(solverJob1.getFinalBestSolution());
-        // EventCount can be 2 or 3, depending on the race, but it can never be 4.
-        assertThat(bestSolutionCount).hasValueLessThan(4);
+        // The best solution with 2 initialized entities is skipped.
+        assertThat(initializedEntityCountList).containsExactly(1L, 3L);
         assertThat(finalBestSolutionCount).hasValue(1);
         assertThat(exceptionCount).hasValue(0);
         solverManager.close();
@@ -347,6 +398,82 @@ public class SolverManagerTest {
         solverManager.close();
     }
 
+    @Test
+    @Timeout(60)
+    public void solveHigherPriorityFirst() throws InterruptedException, ExecutionException {
+        CountDownLatch firstJobReleaseLatch = new CountDownLatch(1);
+        List<String> startedCodeList = Collections.synchronizedList(new ArrayList<>());
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(
+                        (ScoreDirector<TestdataSolution> scoreDirector) -> {
+                            String code = scoreDirector.getWorkingSolution().getCode();
+                            startedCodeList.add(code);
+                            if (code.equals("s1")) {
+                                try {
+                                    firstJobReleaseLatch.await();
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                    fail("The firstJobReleaseLatch was interrupted.");
+                                }
+                            }
+                        }), new ConstructionHeuristicPhaseConfig());
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(
+                solverConfig, new SolverManagerConfig().withParallelSolverCount("1"));
+
+        // The highest priority, so it isn't preempted.
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solve(1L,
+                problemId -> PlannerTestUtils.generateTestdataSolution("s1"), null, null, 10);
+        while (solverJob1.getSolverStatus() != SOLVING_ACTIVE) {
+            Thread.onSpinWait();
+        }
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solve(2L,
+                problemId -> PlannerTestUtils.generateTestdataSolution("s2"), null, null, 0);
+        SolverJob<TestdataSolution, Long> solverJob3 = solverManager.solve(3L,
+                problemId -> PlannerTestUtils.generateTestdataSolution("s3"), null, null, 5);
+        firstJobReleaseLatch.countDown();
+
+        assertSolutionInitialized(solverJob1.getFinalBestSolution());
+        assertSolutionInitialized(solverJob2.getFinalBestSolution());
+        assertSolutionInitialized(solverJob3.getFinalBestSolution());
+        assertThat(startedCodeList).containsExactly("s1", "s3", "s2");
+        solverManager.close();
+    }
+
+    @Test
+    @Timeout(60)
+    public void preemptLowerPriorityJob() throws InterruptedException, ExecutionException {
+        Semaphore startedSemaphore = new Semaphore(0);
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withTerminationConfig(new TerminationConfig())
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands(
+                        scoreDirector -> startedSemaphore.release()),
+                        new ConstructionHeuristicPhaseConfig(),
+                        new LocalSearchPhaseConfig());
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(
+                solverConfig, new SolverManagerConfig().withParallelSolverCount("1"));
+
+        SolverJob<TestdataSolution, Long> lowPriorityJob = solverManager.solve(1L,
+                problemId -> PlannerTestUtils.generateTestdataSolution("s1", 4), null, null, 0);
+        startedSemaphore.acquire();
+        assertThat(lowPriorityJob.getSolverStatus()).isEqualTo(SOLVING_ACTIVE);
+
+        SolverJob<TestdataSolution, Long> highPriorityJob = solverManager.solve(2L,
+                problemId -> PlannerTestUtils.generateTestdataSolution("s2", 4), null, null, 1);
+        startedSemaphore.acquire();
+        assertThat(highPriorityJob.getSolverStatus()).isEqualTo(SOLVING_ACTIVE);
+        assertThat(lowPriorityJob.getSolverStatus()).isEqualTo(SOLVING_SCHEDULED);
+
+        // The preempted job resumes when the solver thread is available again
+        solverManager.terminateEarly(2L);
+        assertThat(highPriorityJob.getSolverStatus()).isEqualTo(NOT_SOLVING);
+        startedSemaphore.acquire();
+        assertThat(lowPriorityJob.getSolverStatus()).isEqualTo(SOLVING_ACTIVE);
+
+        solverManager.terminateEarly(1L);
+        assertThat(lowPriorityJob.getSolverStatus()).isEqualTo(NOT_SOLVING);
+        solverManager.close();
+    }
+
     /**
      * Tests whether SolverManager can solve on multiple threads problems that use multiple thread counts.
      */
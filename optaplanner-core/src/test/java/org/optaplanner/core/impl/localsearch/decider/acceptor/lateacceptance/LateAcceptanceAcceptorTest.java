@@ -256,6 +256,49 @@ public class LateAcceptanceAcceptorTest extends AbstractAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    @Test
+    public void lateScoresAreKeptAfterProblemFactChanges() {
+        LateAcceptanceAcceptor<TestdataSolution> acceptor = new LateAcceptanceAcceptor<>();
+        acceptor.setLateAcceptanceSize(2);
+        acceptor.setHillClimbingEnabled(false);
+
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setBestScore(SimpleScore.of(-1000));
+        solverScope.setStartingSolverCount(1);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        acceptor.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        LocalSearchMoveScope<TestdataSolution> moveScope0 = buildMoveScope(stepScope0, -500);
+        stepScope0.setStep(moveScope0.getMove());
+        stepScope0.setScore(moveScope0.getScore());
+        solverScope.setBestScore(moveScope0.getScore());
+        acceptor.stepEnded(stepScope0);
+        phaseScope.setLastCompletedStepScope(stepScope0);
+        acceptor.phaseEnded(phaseScope);
+
+        // The problem fact changes made the best score 100 worse
+        solverScope.setBestScore(SimpleScore.of(-600));
+        solverScope.setStartingSolverCount(2);
+        LocalSearchPhaseScope<TestdataSolution> restartedPhaseScope = new LocalSearchPhaseScope<>(solverScope);
+        acceptor.phaseStarted(restartedPhaseScope);
+
+        // lateScore = -1000 - 100
+        LocalSearchStepScope<TestdataSolution> restartedStepScope0 = new LocalSearchStepScope<>(restartedPhaseScope);
+        assertThat(acceptor.isAccepted(buildMoveScope(restartedStepScope0, -1100))).isTrue();
+        assertThat(acceptor.isAccepted(buildMoveScope(restartedStepScope0, -1101))).isFalse();
+        LocalSearchMoveScope<TestdataSolution> restartedMoveScope0 = buildMoveScope(restartedStepScope0, -900);
+        restartedStepScope0.setStep(restartedMoveScope0.getMove());
+        restartedStepScope0.setScore(restartedMoveScope0.getScore());
+        acceptor.stepEnded(restartedStepScope0);
+        restartedPhaseScope.setLastCompletedStepScope(restartedStepScope0);
+
+        // lateScore = -500 - 100
+        LocalSearchStepScope<TestdataSolution> restartedStepScope1 = new LocalSearchStepScope<>(restartedPhaseScope);
+        assertThat(acceptor.isAccepted(buildMoveScope(restartedStepScope1, -600))).isTrue();
+        assertThat(acceptor.isAccepted(buildMoveScope(restartedStepScope1, -601))).isFalse();
+        acceptor.phaseEnded(restartedPhaseScope);
+    }
+
     @Test
     public void zeroLateAcceptanceSize() {
         LateAcceptanceAcceptor acceptor = new LateAcceptanceAcceptor();
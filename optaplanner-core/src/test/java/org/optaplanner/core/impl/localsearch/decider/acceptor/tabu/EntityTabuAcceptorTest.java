@@ -29,6 +29,7 @@ import org.optaplanner.core.impl.localsearch.decider.acceptor.tabu.size.FixedTab
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
@@ -253,6 +254,67 @@ public class EntityTabuAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    @Test
+    public void tabuListIsKeptAfterProblemFactChanges() {
+        EntityTabuAcceptor<TestdataSolution> acceptor = new EntityTabuAcceptor<>("");
+        acceptor.setTabuSizeStrategy(new FixedTabuSizeStrategy(2));
+        acceptor.setAspirationEnabled(false);
+
+        TestdataEntity e0 = new TestdataEntity("e0");
+        TestdataEntity e1 = new TestdataEntity("e1");
+        TestdataEntity e2 = new TestdataEntity("e2");
+
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        solverScope.setBestScore(SimpleScore.of(0));
+        solverScope.setStartingSolverCount(1);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        acceptor.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        stepScope0.setStep(buildMoveScope(stepScope0, e0).getMove());
+        acceptor.stepEnded(stepScope0);
+        phaseScope.setLastCompletedStepScope(stepScope0);
+        LocalSearchStepScope<TestdataSolution> stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        stepScope1.setStep(buildMoveScope(stepScope1, e1).getMove());
+        acceptor.stepEnded(stepScope1);
+        phaseScope.setLastCompletedStepScope(stepScope1);
+        acceptor.phaseEnded(phaseScope);
+
+        // The solver restarts on a planning clone, from which a problem fact change removed e0
+        TestdataEntity e1Clone = new TestdataEntity("e1");
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.lookUpWorkingObjectOrReturnNull(e1)).thenReturn(e1Clone);
+        solverScope.setScoreDirector(scoreDirector);
+        solverScope.setStartingSolverCount(2);
+        LocalSearchPhaseScope<TestdataSolution> restartedPhaseScope = new LocalSearchPhaseScope<>(solverScope);
+        acceptor.phaseStarted(restartedPhaseScope);
+
+        // e1 became tabu 1 step before the restart
+        LocalSearchStepScope<TestdataSolution> restartedStepScope0 = new LocalSearchStepScope<>(restartedPhaseScope);
+        assertThat(acceptor.isAccepted(buildMoveScope(restartedStepScope0, e1Clone))).isFalse();
+        assertThat(acceptor.isAccepted(buildMoveScope(restartedStepScope0, e2))).isTrue();
+        restartedStepScope0.setStep(buildMoveScope(restartedStepScope0, e2).getMove());
+        acceptor.stepEnded(restartedStepScope0);
+        restartedPhaseScope.setLastCompletedStepScope(restartedStepScope0);
+
+        LocalSearchStepScope<TestdataSolution> restartedStepScope1 = new LocalSearchStepScope<>(restartedPhaseScope);
+        assertThat(acceptor.isAccepted(buildMoveScope(restartedStepScope1, e1Clone))).isFalse();
+        restartedStepScope1.setStep(buildMoveScope(restartedStepScope1, e0).getMove());
+        acceptor.stepEnded(restartedStepScope1);
+        restartedPhaseScope.setLastCompletedStepScope(restartedStepScope1);
+
+        LocalSearchStepScope<TestdataSolution> restartedStepScope2 = new LocalSearchStepScope<>(restartedPhaseScope);
+        assertThat(acceptor.isAccepted(buildMoveScope(restartedStepScope2, e1Clone))).isTrue();
+        acceptor.phaseEnded(restartedPhaseScope);
+
+        // A new solve starts from scratch
+        solverScope.setStartingSolverCount(1);
+        LocalSearchPhaseScope<TestdataSolution> newPhaseScope = new LocalSearchPhaseScope<>(solverScope);
+        acceptor.phaseStarted(newPhaseScope);
+        LocalSearchStepScope<TestdataSolution> newStepScope0 = new LocalSearchStepScope<>(newPhaseScope);
+        assertThat(acceptor.isAccepted(buildMoveScope(newStepScope0, e0))).isTrue();
+        acceptor.phaseEnded(newPhaseScope);
+    }
+
     private <Solution_> LocalSearchMoveScope<Solution_> buildMoveScope(
             LocalSearchStepScope<Solution_> stepScope, TestdataEntity... entities) {
         return buildMoveScope(stepScope, 0, entities);
@@ -28,6 +28,8 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -81,7 +83,107 @@ public class DefaultPartitionedSearchPhaseTest {
         solver.solve(createSolution(partCount * partSize, 2));
     }
 
+    @Test
+    @Timeout(5)
+    public void roundCountLimitWithMergePhase() {
+        final int partSize = 3;
+        final int partCount = 4;
+        SolverFactory<TestdataSolution> solverFactory = createSolverFactory(false, SolverConfig.MOVE_THREAD_COUNT_NONE,
+                partSize, partitionedSearchPhaseConfig -> {
+                    partitionedSearchPhaseConfig.setRoundCountLimit(3);
+                    LocalSearchPhaseConfig mergePhaseConfig = new LocalSearchPhaseConfig();
+                    mergePhaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(2));
+                    partitionedSearchPhaseConfig.setMergePhaseConfigList(Arrays.asList(mergePhaseConfig));
+                });
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        AtomicInteger roundCount = recordRoundCount(solver);
+        TestdataSolution bestSolution = solver.solve(createSolution(partCount * partSize, 2));
+        assertThat(roundCount).hasValue(3);
+        assertThat(bestSolution.getEntityList()).allMatch(entity -> entity.getValue() != null);
+    }
+
+    @Test
+    @Timeout(5)
+    public void roundCountLimitWithPhaseStepCountLimitAndMergePhase() {
+        final int partSize = 3;
+        final int partCount = 4;
+        SolverFactory<TestdataSolution> solverFactory = createSolverFactory(false, SolverConfig.MOVE_THREAD_COUNT_NONE,
+                partSize, partitionedSearchPhaseConfig -> {
+                    partitionedSearchPhaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(1000));
+                    partitionedSearchPhaseConfig.setRoundCountLimit(3);
+                    LocalSearchPhaseConfig mergePhaseConfig = new LocalSearchPhaseConfig();
+                    mergePhaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(2));
+                    partitionedSearchPhaseConfig.setMergePhaseConfigList(Arrays.asList(mergePhaseConfig));
+                });
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        AtomicInteger roundCount = recordRoundCount(solver);
+        TestdataSolution bestSolution = solver.solve(createSolution(partCount * partSize, 2));
+        assertThat(roundCount).hasValue(3);
+        assertThat(bestSolution.getEntityList()).allMatch(entity -> entity.getValue() != null);
+    }
+
+    @Test
+    @Timeout(5)
+    public void phaseStepCountLimitTerminatesInfinitePartsAndRounds() {
+        final int partSize = 3;
+        final int partCount = 4;
+        final int stepCountLimit = 2;
+        SolverFactory<TestdataSolution> solverFactory = createSolverFactory(true, SolverConfig.MOVE_THREAD_COUNT_NONE,
+                partSize, partitionedSearchPhaseConfig -> {
+                    partitionedSearchPhaseConfig.setTerminationConfig(
+                            new TerminationConfig().withStepCountLimit(stepCountLimit));
+                    partitionedSearchPhaseConfig.setRoundCountLimit(3);
+                    partitionedSearchPhaseConfig.setMergePhaseConfigList(Arrays.asList(new LocalSearchPhaseConfig()));
+                });
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        PartitionedSearchPhase<TestdataSolution> phase = (PartitionedSearchPhase<TestdataSolution>) solver.getPhaseList()
+                .get(0);
+        AtomicInteger stepCount = new AtomicInteger(-1);
+        phase.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<TestdataSolution>() {
+            @Override
+            public void phaseEnded(AbstractPhaseScope<TestdataSolution> phaseScope) {
+                stepCount.set(phaseScope.getNextStepIndex());
+            }
+        });
+        AtomicInteger roundCount = recordRoundCount(solver);
+        solver.solve(createSolution(partCount * partSize, 2));
+        // The infinite merge phase never runs, because the step count limit is reached in the first round
+        assertThat(roundCount).hasValue(1);
+        assertThat(stepCount.get()).isGreaterThanOrEqualTo(stepCountLimit);
+    }
+
+    @Test
+    @Timeout(5)
+    public void partitionChangeBatchWindow() {
+        final int partSize = 3;
+        final int partCount = 7;
+        SolverFactory<TestdataSolution> solverFactory = createSolverFactory(false, SolverConfig.MOVE_THREAD_COUNT_NONE,
+                partSize, partitionedSearchPhaseConfig -> partitionedSearchPhaseConfig
+                        .setPartitionChangeBatchWindowMillis(10L));
+        TestdataSolution bestSolution = solverFactory.buildSolver().solve(createSolution(partCount * partSize, 2));
+        assertThat(bestSolution.getEntityList()).allMatch(entity -> entity.getValue() != null);
+    }
+
+    private static AtomicInteger recordRoundCount(DefaultSolver<TestdataSolution> solver) {
+        PartitionedSearchPhase<TestdataSolution> phase = (PartitionedSearchPhase<TestdataSolution>) solver.getPhaseList()
+                .get(0);
+        AtomicInteger roundCount = new AtomicInteger(-1);
+        phase.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<TestdataSolution>() {
+            @Override
+            public void phaseEnded(AbstractPhaseScope<TestdataSolution> phaseScope) {
+                roundCount.set(((PartitionedSearchPhaseScope<TestdataSolution>) phaseScope).getRoundCount());
+            }
+        });
+        return roundCount;
+    }
+
     private static SolverFactory<TestdataSolution> createSolverFactory(boolean infinite, String moveThreadCount, int partSize) {
+        return createSolverFactory(infinite, moveThreadCount, partSize, partitionedSearchPhaseConfig -> {
+        });
+    }
+
+    private static SolverFactory<TestdataSolution> createSolverFactory(boolean infinite, String moveThreadCount, int partSize,
+            Consumer<PartitionedSearchPhaseConfig> partitionedSearchPhaseConfigCustomizer) {
         SolverConfig solverConfig = PlannerTestUtils
                 .buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
         solverConfig.setMoveThreadCount(moveThreadCount);
@@ -98,6 +200,7 @@ public class DefaultPartitionedSearchPhaseTest {
         }
         partitionedSearchPhaseConfig.setPhaseConfigList(
                 Arrays.asList(constructionHeuristicPhaseConfig, localSearchPhaseConfig));
+        partitionedSearchPhaseConfigCustomizer.accept(partitionedSearchPhaseConfig);
         return SolverFactory.create(solverConfig);
     }
 
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.data.Offset.offset;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.solver.termination.StepCountTermination;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+public class MergePhaseTerminationTest {
+
+    @Test
+    public void partitionedSearchPhaseStepCountLimit() {
+        MergePhaseTermination<TestdataSolution> termination =
+                new MergePhaseTermination<>(new StepCountTermination<>(4));
+        SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
+        AbstractPhaseScope<TestdataSolution> partitionedSearchPhaseScope = mock(AbstractPhaseScope.class);
+        termination.phaseStarted(partitionedSearchPhaseScope);
+
+        when(partitionedSearchPhaseScope.getNextStepIndex()).thenReturn(2);
+        assertThat(termination.isSolverTerminated(solverScope)).isFalse();
+        assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(0.5, offset(0.0));
+        when(partitionedSearchPhaseScope.getNextStepIndex()).thenReturn(4);
+        assertThat(termination.isSolverTerminated(solverScope)).isTrue();
+        assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(1.0, offset(0.0));
+    }
+
+    @Test
+    public void outsidePartitionedSearchPhase() {
+        MergePhaseTermination<TestdataSolution> termination =
+                new MergePhaseTermination<>(new StepCountTermination<>(4));
+        SolverScope<TestdataSolution> solverScope = mock(SolverScope.class);
+        AbstractPhaseScope<TestdataSolution> partitionedSearchPhaseScope = mock(AbstractPhaseScope.class);
+        termination.phaseStarted(partitionedSearchPhaseScope);
+        termination.phaseEnded(partitionedSearchPhaseScope);
+        assertThatIllegalStateException().isThrownBy(() -> termination.isSolverTerminated(solverScope));
+    }
+
+}
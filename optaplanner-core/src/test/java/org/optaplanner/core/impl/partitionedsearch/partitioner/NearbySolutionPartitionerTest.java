@@ -0,0 +1,143 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.partitionedsearch.partitioner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+import org.optaplanner.core.impl.testdata.domain.multientity.TestdataMultiEntitySolution;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+public class NearbySolutionPartitionerTest {
+
+    private static final NearbyDistanceMeter<TestdataEntity, TestdataEntity> ENTITY_INDEX_DISTANCE_METER =
+            (origin, destination) -> Math.abs(parseEntityIndex(origin) - parseEntityIndex(destination));
+
+    private static int parseEntityIndex(TestdataEntity entity) {
+        String code = entity.getCode();
+        return Integer.parseInt(code.substring(code.lastIndexOf(' ') + 1));
+    }
+
+    @Test
+    public void splitIntoBalancedNeighbourhoods() {
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 12);
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                PlannerTestUtils.mockScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+
+        List<TestdataSolution> partList = new NearbySolutionPartitioner<TestdataSolution>(ENTITY_INDEX_DISTANCE_METER, 3)
+                .splitWorkingSolution(scoreDirector, 3);
+        assertThat(partList).hasSize(3);
+        assertThat(partIndexes(partList.get(0))).containsExactly(0, 1, 2, 3);
+        assertThat(partIndexes(partList.get(1))).containsExactly(4, 5, 6, 7);
+        assertThat(partIndexes(partList.get(2))).containsExactly(8, 9, 10, 11);
+        for (TestdataSolution part : partList) {
+            // Problem facts are shared, planning entities are cloned
+            assertThat(part.getValueList()).isSameAs(solution.getValueList());
+            assertThat(part.getEntityList()).doesNotContainAnyElementsOf(solution.getEntityList());
+        }
+        assertThat(solution.getEntityList()).hasSize(12);
+    }
+
+    @Test
+    public void partCountLimitedByEntityCount() {
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 2);
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                PlannerTestUtils.mockScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+
+        List<TestdataSolution> partList = new NearbySolutionPartitioner<TestdataSolution>(ENTITY_INDEX_DISTANCE_METER)
+                .splitWorkingSolution(scoreDirector, 8);
+        assertThat(partList).hasSize(2);
+        assertThat(partList).allSatisfy(part -> assertThat(part.getEntityList()).hasSize(1));
+    }
+
+    @Test
+    public void laterRoundMovesBorders() {
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 12);
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                PlannerTestUtils.mockScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+
+        NearbySolutionPartitioner<TestdataSolution> partitioner =
+                new NearbySolutionPartitioner<>(ENTITY_INDEX_DISTANCE_METER, 3);
+        List<TestdataSolution> firstRoundPartList = partitioner.splitWorkingSolution(scoreDirector, 3, 0);
+        List<TestdataSolution> secondRoundPartList = partitioner.splitWorkingSolution(scoreDirector, 3, 1);
+        assertThat(partIndexes(secondRoundPartList.get(0)))
+                .isNotEqualTo(partIndexes(firstRoundPartList.get(0)));
+        assertThat(secondRoundPartList).allSatisfy(part -> assertThat(part.getEntityList()).hasSize(4));
+    }
+
+    @Test
+    public void laterRoundReusesNeighbors() {
+        TestdataSolution solution = TestdataSolution.generateSolution(2, 12);
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                PlannerTestUtils.mockScoreDirector(TestdataSolution.buildSolutionDescriptor());
+        scoreDirector.setWorkingSolution(solution);
+
+        AtomicInteger distanceCount = new AtomicInteger(0);
+        NearbyDistanceMeter<TestdataEntity, TestdataEntity> countingDistanceMeter = (origin, destination) -> {
+            distanceCount.incrementAndGet();
+            return ENTITY_INDEX_DISTANCE_METER.getNearbyDistance(origin, destination);
+        };
+        NearbySolutionPartitioner<TestdataSolution> partitioner = new NearbySolutionPartitioner<>(countingDistanceMeter, 3);
+        partitioner.splitWorkingSolution(scoreDirector, 3, 0);
+        assertThat(distanceCount).hasValue(12 * 11);
+        partitioner.splitWorkingSolution(scoreDirector, 3, 1);
+        partitioner.splitWorkingSolution(scoreDirector, 3, 2);
+        assertThat(distanceCount).hasValue(12 * 11);
+    }
+
+    @Test
+    public void chainedVariableIsNotSupported() {
+        InnerScoreDirector<TestdataChainedSolution, SimpleScore> scoreDirector =
+                PlannerTestUtils.mockScoreDirector(TestdataChainedSolution.buildSolutionDescriptor());
+        assertThatIllegalStateException()
+                .isThrownBy(() -> new NearbySolutionPartitioner<TestdataChainedSolution>((origin, destination) -> 0.0)
+                        .splitWorkingSolution(scoreDirector, 2))
+                .withMessageContaining("chained");
+    }
+
+    @Test
+    public void multipleEntityClassesAreNotSupported() {
+        InnerScoreDirector<TestdataMultiEntitySolution, SimpleScore> scoreDirector =
+                PlannerTestUtils.mockScoreDirector(TestdataMultiEntitySolution.buildSolutionDescriptor());
+        assertThatIllegalStateException()
+                .isThrownBy(() -> new NearbySolutionPartitioner<TestdataMultiEntitySolution>((origin, destination) -> 0.0)
+                        .splitWorkingSolution(scoreDirector, 2))
+                .withMessageContaining("multiple planning entity classes");
+    }
+
+    private static List<Integer> partIndexes(TestdataSolution part) {
+        return part.getEntityList().stream()
+                .map(NearbySolutionPartitionerTest::parseEntityIndex)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+}
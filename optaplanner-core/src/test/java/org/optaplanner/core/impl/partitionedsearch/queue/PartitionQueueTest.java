@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -143,6 +144,62 @@ public class PartitionQueueTest {
         assertThatIllegalStateException().isThrownBy(it::hasNext).withCause(exception);
     }
 
+    @Test
+    public void batchIterator() throws ExecutionException, InterruptedException {
+        PartitionQueue<TestdataSolution> partitionQueue = new PartitionQueue<>(3);
+        Iterator<List<PartitionChangeMove<TestdataSolution>>> it = partitionQueue.batchIterator(0L);
+
+        PartitionChangeMove<TestdataSolution> moveA1 = buildMove();
+        executorService.submit(() -> partitionQueue.addMove(0, moveA1)).get(); // Skipped
+        PartitionChangeMove<TestdataSolution> moveB1 = buildMove();
+        executorService.submit(() -> partitionQueue.addMove(1, moveB1)).get();
+        PartitionChangeMove<TestdataSolution> moveA2 = buildMove();
+        executorService.submit(() -> partitionQueue.addMove(0, moveA2)).get();
+        assertThat(it.next()).containsExactly(moveA2, moveB1);
+
+        PartitionChangeMove<TestdataSolution> moveC1 = buildMove();
+        executorService.submit(() -> partitionQueue.addMove(2, moveC1)).get();
+        assertThat(it.next()).containsExactly(moveC1);
+
+        PartitionChangeMove<TestdataSolution> moveB2 = buildMove();
+        executorService.submit(() -> partitionQueue.addMove(1, moveB2)).get();
+        executorService.submit(() -> partitionQueue.addFinish(0, 123)).get();
+        executorService.submit(() -> partitionQueue.addFinish(1, 123)).get();
+        executorService.submit(() -> partitionQueue.addFinish(2, 123)).get();
+        assertThat(it.next()).containsExactly(moveB2);
+        assertThat(it.hasNext()).isFalse();
+        assertThat(partitionQueue.getPartsCalculationCount()).isEqualTo(369L);
+    }
+
+    @Test
+    public void batchIteratorWaitsForBatchWindow() throws ExecutionException, InterruptedException {
+        PartitionQueue<TestdataSolution> partitionQueue = new PartitionQueue<>(2);
+        Iterator<List<PartitionChangeMove<TestdataSolution>>> it = partitionQueue.batchIterator(200L);
+
+        PartitionChangeMove<TestdataSolution> moveA1 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveB1 = buildMove();
+        executorService.submit(() -> partitionQueue.addMove(0, moveA1)).get();
+        executorService.submit(() -> {
+            Thread.sleep(20L);
+            partitionQueue.addMove(1, moveB1);
+            return null;
+        });
+        assertThat(it.next()).containsExactly(moveA1, moveB1);
+    }
+
+    @Test
+    public void batchIteratorWithException() throws ExecutionException, InterruptedException {
+        PartitionQueue<TestdataSolution> partitionQueue = new PartitionQueue<>(2);
+        Iterator<List<PartitionChangeMove<TestdataSolution>>> it = partitionQueue.batchIterator(0L);
+
+        PartitionChangeMove<TestdataSolution> moveA1 = buildMove();
+        executorService.submit(() -> partitionQueue.addMove(0, moveA1)).get();
+        IllegalArgumentException exception = new IllegalArgumentException();
+        executorService.submit(() -> partitionQueue.addExceptionThrown(1, exception)).get();
+        assertThat(it.next()).containsExactly(moveA1);
+        assertThatIllegalStateException().isThrownBy(it::hasNext).withCause(exception);
+    }
+
     public PartitionChangeMove<TestdataSolution> buildMove() {
         return new PartitionChangeMove<>(null, -1);
     }
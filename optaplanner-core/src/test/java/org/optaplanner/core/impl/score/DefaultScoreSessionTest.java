@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.calculator.EasyScoreCalculator;
+import org.optaplanner.core.config.score.trend.InitializingScoreTrendLevel;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.easy.EasyScoreDirectorFactory;
+import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedAnchor;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
+
+public class DefaultScoreSessionTest {
+
+    @Test
+    public void variableChangesAreAppliedIncrementally() {
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = spyScoreDirector(
+                TestdataSolution.buildSolutionDescriptor(), DefaultScoreSessionTest::countEntitiesOnFirstValue);
+        try (DefaultScoreSession<TestdataSolution, SimpleScore> scoreSession = new DefaultScoreSession<>(scoreDirector)) {
+            TestdataSolution solution = TestdataSolution.generateSolution(2, 4);
+            assertThat(scoreSession.updateScore(solution)).isEqualTo(SimpleScore.of(-2));
+            TestdataSolution variation = TestdataSolution.generateSolution(2, 4);
+            variation.getEntityList().get(1).setValue(variation.getValueList().get(0));
+            assertThat(scoreSession.updateScore(variation)).isEqualTo(SimpleScore.of(-3));
+        }
+        verify(scoreDirector, times(1)).setWorkingSolution(any());
+        verify(scoreDirector, times(1)).changeVariableFacade(any(), any(), any());
+    }
+
+    @Test
+    public void unknownValueStartsOver() {
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = spyScoreDirector(
+                TestdataSolution.buildSolutionDescriptor(), DefaultScoreSessionTest::countEntitiesOnFirstValue);
+        try (DefaultScoreSession<TestdataSolution, SimpleScore> scoreSession = new DefaultScoreSession<>(scoreDirector)) {
+            TestdataSolution solution = TestdataSolution.generateSolution(2, 4);
+            assertThat(scoreSession.updateScore(solution)).isEqualTo(SimpleScore.of(-2));
+            // The working solution doesn't have this planning value, so it cannot be looked up
+            TestdataValue newValue = new TestdataValue("Generated Value new");
+            solution.getValueList().add(0, newValue);
+            solution.getEntityList().get(0).setValue(newValue);
+            assertThat(scoreSession.updateScore(solution)).isEqualTo(SimpleScore.of(-1));
+        }
+        verify(scoreDirector, times(2)).setWorkingSolution(any());
+        verify(scoreDirector, never()).changeVariableFacade(any(), any(), any());
+    }
+
+    @Test
+    public void chainedVariablesStartOver() {
+        InnerScoreDirector<TestdataChainedSolution, SimpleScore> scoreDirector = spyScoreDirector(
+                TestdataChainedSolution.buildSolutionDescriptor(), solution -> SimpleScore.ZERO);
+        try (DefaultScoreSession<TestdataChainedSolution, SimpleScore> scoreSession =
+                new DefaultScoreSession<>(scoreDirector)) {
+            TestdataChainedAnchor anchor = new TestdataChainedAnchor("a0");
+            TestdataChainedEntity firstEntity = new TestdataChainedEntity("e0", anchor);
+            TestdataChainedEntity secondEntity = new TestdataChainedEntity("e1", firstEntity);
+            TestdataChainedSolution solution = new TestdataChainedSolution("s1");
+            solution.setChainedAnchorList(Arrays.asList(anchor));
+            solution.setChainedEntityList(Arrays.asList(firstEntity, secondEntity));
+            scoreSession.updateScore(solution);
+            // Swap the entities within the chain
+            secondEntity.setChainedObject(anchor);
+            firstEntity.setChainedObject(secondEntity);
+            scoreSession.updateScore(solution);
+        }
+        verify(scoreDirector, times(2)).setWorkingSolution(any());
+        verify(scoreDirector, never()).changeVariableFacade(any(), any(), any());
+    }
+
+    private static SimpleScore countEntitiesOnFirstValue(TestdataSolution solution) {
+        TestdataValue firstValue = solution.getValueList().get(0);
+        return SimpleScore.of(-(int) solution.getEntityList().stream()
+                .filter(entity -> entity.getValue() == firstValue)
+                .count());
+    }
+
+    private static <Solution_> InnerScoreDirector<Solution_, SimpleScore> spyScoreDirector(
+            SolutionDescriptor<Solution_> solutionDescriptor,
+            EasyScoreCalculator<Solution_, SimpleScore> easyScoreCalculator) {
+        EasyScoreDirectorFactory<Solution_, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(solutionDescriptor, easyScoreCalculator);
+        scoreDirectorFactory.setInitializingScoreTrend(
+                InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ONLY_DOWN, 1));
+        return mock(InnerScoreDirector.class,
+                AdditionalAnswers.delegatesTo(scoreDirectorFactory.buildScoreDirector(true, false)));
+    }
+
+}
@@ -28,6 +28,7 @@ import org.optaplanner.core.api.score.buildin.hardmediumsoft.HardMediumSoftScore
 import org.optaplanner.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+import org.optaplanner.core.api.score.buildin.hardsoftdecimal.HardSoftDecimalScore;
 import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.buildin.simplebigdecimal.SimpleBigDecimalScore;
@@ -50,6 +51,8 @@ public class ScoreUtilsTest {
         assertThat(ScoreUtils.parseScore(HardSoftBigDecimalScore.class, "-1000hard/-200soft"))
                 .isEqualTo(HardSoftBigDecimalScore.of(new BigDecimal("-1000"),
                         new BigDecimal("-200")));
+        assertThat(ScoreUtils.parseScore(HardSoftDecimalScore.class, "-1000.5hard/-200soft"))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(-10005L, -2000L, 1));
         assertThat(ScoreUtils.parseScore(HardMediumSoftScore.class, "-1000hard/-200medium/-30soft"))
                 .isEqualTo(HardMediumSoftScore.of(-1000, -200, -30));
         assertThat(ScoreUtils.parseScore(HardMediumSoftLongScore.class, "-1000hard/-200medium/-30soft"))
@@ -63,4 +66,15 @@ public class ScoreUtilsTest {
                         new BigDecimal[] { new BigDecimal("-200"), new BigDecimal("-30") }));
     }
 
+    @Test
+    public void extractLevelDoublesIntoArray() {
+        double[] levelDoubles = new double[3];
+        ScoreUtils.extractLevelDoubles(BendableScore.of(new int[] { -1000 }, new int[] { -200, -30 }), levelDoubles);
+        assertThat(levelDoubles).containsExactly(-1000.0, -200.0, -30.0);
+        ScoreUtils.extractLevelDoubles(BendableLongScore.of(new long[] { -4L }, new long[] { -5L, -6L }), levelDoubles);
+        assertThat(levelDoubles).containsExactly(-4.0, -5.0, -6.0);
+        ScoreUtils.extractLevelDoubles(HardMediumSoftScore.of(-7, -8, -9), levelDoubles);
+        assertThat(levelDoubles).containsExactly(-7.0, -8.0, -9.0);
+    }
+
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.buildin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.hardsoftdecimal.HardSoftDecimalScore;
+import org.optaplanner.core.config.score.trend.InitializingScoreTrendLevel;
+import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
+
+public class HardSoftDecimalScoreDefinitionTest {
+
+    @Test
+    public void getZeroScore() {
+        HardSoftDecimalScore score = new HardSoftDecimalScoreDefinition().getZeroScore();
+        assertThat(score).isEqualTo(HardSoftDecimalScore.ZERO);
+    }
+
+    @Test
+    public void getSoftestOneScore() {
+        HardSoftDecimalScore score = new HardSoftDecimalScoreDefinition().getOneSoftestScore();
+        assertThat(score).isEqualTo(HardSoftDecimalScore.ONE_SOFT);
+    }
+
+    @Test
+    public void getSoftestOneScoreWithConfiguredScale() {
+        HardSoftDecimalScore score = new HardSoftDecimalScoreDefinition(2).getOneSoftestScore();
+        assertThat(score).isEqualTo(HardSoftDecimalScore.ofSoft(new BigDecimal("0.01")));
+        assertThat(score.getScale()).isEqualTo(2);
+    }
+
+    @Test
+    public void invalidScale() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new HardSoftDecimalScoreDefinition(-1));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new HardSoftDecimalScoreDefinition(HardSoftDecimalScore.MAX_SCALE + 1));
+    }
+
+    @Test
+    public void getLevelSize() {
+        assertThat(new HardSoftDecimalScoreDefinition().getLevelsSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void getLevelLabels() {
+        assertThat(new HardSoftDecimalScoreDefinition().getLevelLabels())
+                .isEqualTo(new String[] { "hard score", "soft score" });
+    }
+
+    @Test
+    public void getFeasibleLevelsSize() {
+        assertThat(new HardSoftDecimalScoreDefinition().getFeasibleLevelsSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void buildOptimisticBoundOnlyUp() {
+        HardSoftDecimalScoreDefinition scoreDefinition = new HardSoftDecimalScoreDefinition();
+        HardSoftDecimalScore optimisticBound = scoreDefinition.buildOptimisticBound(
+                InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ONLY_UP, 2),
+                HardSoftDecimalScore.ofUnscaled(-10L, -20L, 1));
+        assertThat(optimisticBound.getInitScore()).isEqualTo(0);
+        assertThat(optimisticBound.getHardUnscaledScore()).isEqualTo(Long.MAX_VALUE);
+        assertThat(optimisticBound.getSoftUnscaledScore()).isEqualTo(Long.MAX_VALUE);
+        assertThat(optimisticBound.getScale()).isEqualTo(1);
+    }
+
+    @Test
+    public void buildOptimisticBoundOnlyDown() {
+        HardSoftDecimalScoreDefinition scoreDefinition = new HardSoftDecimalScoreDefinition();
+        HardSoftDecimalScore optimisticBound = scoreDefinition.buildOptimisticBound(
+                InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ONLY_DOWN, 2),
+                HardSoftDecimalScore.ofUnscaled(-10L, -20L, 1));
+        assertThat(optimisticBound.getInitScore()).isEqualTo(0);
+        assertThat(optimisticBound.getHardUnscaledScore()).isEqualTo(-10L);
+        assertThat(optimisticBound.getSoftUnscaledScore()).isEqualTo(-20L);
+        assertThat(optimisticBound.getScale()).isEqualTo(1);
+    }
+
+    @Test
+    public void buildPessimisticBoundOnlyUp() {
+        HardSoftDecimalScoreDefinition scoreDefinition = new HardSoftDecimalScoreDefinition();
+        HardSoftDecimalScore pessimisticBound = scoreDefinition.buildPessimisticBound(
+                InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ONLY_UP, 2),
+                HardSoftDecimalScore.ofUnscaled(-10L, -20L, 1));
+        assertThat(pessimisticBound.getInitScore()).isEqualTo(0);
+        assertThat(pessimisticBound.getHardUnscaledScore()).isEqualTo(-10L);
+        assertThat(pessimisticBound.getSoftUnscaledScore()).isEqualTo(-20L);
+    }
+
+    @Test
+    public void buildPessimisticBoundOnlyDown() {
+        HardSoftDecimalScoreDefinition scoreDefinition = new HardSoftDecimalScoreDefinition();
+        HardSoftDecimalScore pessimisticBound = scoreDefinition.buildPessimisticBound(
+                InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ONLY_DOWN, 2),
+                HardSoftDecimalScore.ofUnscaled(-10L, -20L, 1));
+        assertThat(pessimisticBound.getInitScore()).isEqualTo(0);
+        assertThat(pessimisticBound.getHardUnscaledScore()).isEqualTo(Long.MIN_VALUE);
+        assertThat(pessimisticBound.getSoftUnscaledScore()).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    public void divideBySanitizedDivisor() {
+        HardSoftDecimalScoreDefinition scoreDefinition = new HardSoftDecimalScoreDefinition();
+        HardSoftDecimalScore dividend = scoreDefinition.fromLevelNumbers(2,
+                new Number[] { new BigDecimal("0.0"), new BigDecimal("10.0") });
+        HardSoftDecimalScore zeroDivisor = scoreDefinition.getZeroScore();
+        assertThat(scoreDefinition.divideBySanitizedDivisor(dividend, zeroDivisor))
+                .isEqualTo(dividend);
+        HardSoftDecimalScore oneDivisor = scoreDefinition.getOneSoftestScore();
+        assertThat(scoreDefinition.divideBySanitizedDivisor(dividend, oneDivisor))
+                .isEqualTo(dividend);
+        HardSoftDecimalScore tenDivisor = scoreDefinition.fromLevelNumbers(10,
+                new Number[] { BigDecimal.TEN, BigDecimal.TEN });
+        assertThat(scoreDefinition.divideBySanitizedDivisor(dividend, tenDivisor))
+                .isEqualTo(scoreDefinition.fromLevelNumbers(0, new Number[] { new BigDecimal("0.0"), BigDecimal.ONE }));
+    }
+
+}
@@ -21,8 +21,15 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
@@ -40,10 +47,17 @@ import org.optaplanner.core.impl.score.director.stream.AbstractConstraintStreamS
 import org.optaplanner.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.stream.ConstraintStreamsScoreDirectorFactoryService;
 import org.optaplanner.core.impl.score.director.stream.DroolsConstraintStreamScoreDirectorFactory;
+import org.optaplanner.core.impl.score.director.stream.KieBaseDescriptor;
+import org.optaplanner.core.impl.score.director.stream.KieBaseDescriptorCache;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 
 class ScoreDirectorFactoryFactoryTest {
 
+    @AfterEach
+    void clearKieBaseDescriptorCache() {
+        KieBaseDescriptorCache.clear();
+    }
+
     @Test
     void easyScoreCalculatorWithCustomProperties() {
         ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig();
@@ -194,6 +208,49 @@ class ScoreDirectorFactoryFactoryTest {
         assertThat(scoreDirectorFactory.isDroolsAlphaNetworkCompilationEnabled()).isFalse();
     }
 
+    @Test
+    void constraintStreamsDroolsReusesKieBase() {
+        ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig()
+                .withConstraintProviderClass(TestdataConstraintProvider.class);
+        ConstraintStreamsScoreDirectorFactoryService<TestdataSolution, SimpleScore> service =
+                new ConstraintStreamsScoreDirectorFactoryService<>();
+        DroolsConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory1 =
+                (DroolsConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>) service
+                        .buildScoreDirectorFactory(null, TestdataSolution.buildSolutionDescriptor(), config)
+                        .get();
+        DroolsConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory2 =
+                (DroolsConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>) service
+                        .buildScoreDirectorFactory(null, TestdataSolution.buildSolutionDescriptor(), config)
+                        .get();
+        assertThat(scoreDirectorFactory2.getKieBaseDescriptor()).isSameAs(scoreDirectorFactory1.getKieBaseDescriptor());
+
+        KieBaseDescriptorCache.clear();
+        DroolsConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory3 =
+                (DroolsConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>) service
+                        .buildScoreDirectorFactory(null, TestdataSolution.buildSolutionDescriptor(), config)
+                        .get();
+        assertThat(scoreDirectorFactory3.getKieBaseDescriptor()).isNotSameAs(scoreDirectorFactory1.getKieBaseDescriptor());
+    }
+
+    @Test
+    void constraintStreamsDroolsBuildsKieBaseOnceConcurrently() throws InterruptedException, ExecutionException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<KieBaseDescriptor<TestdataSolution>>> futureList = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futureList.add(executorService.submit(
+                        () -> KieBaseDescriptorCache.computeIfAbsent(TestdataSolution.buildSolutionDescriptor(),
+                                new TestdataConstraintProvider(), false)));
+            }
+            KieBaseDescriptor<TestdataSolution> kieBaseDescriptor = futureList.get(0).get();
+            for (Future<KieBaseDescriptor<TestdataSolution>> future : futureList) {
+                assertThat(future.get()).isSameAs(kieBaseDescriptor);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     @Test
     void constraintStreamsBavet() {
         ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig()
@@ -133,6 +133,21 @@ public class BendableLongScoreHolderImplTest extends AbstractScoreHolderTest<Ben
         scoreHolder.reward(mockRuleContext(soft2), 3L);
         assertThat(scoreHolder.extractScore(0))
                 .isEqualTo(BendableLongScore.of(new long[] { -210L }, new long[] { -90L, 310L }));
+
+        Rule multi1 = mockRule("multi1");
+        scoreHolder.configureConstraintWeight(multi1,
+                BendableLongScore.of(new long[] { 1L }, new long[] { 10L, 100L }));
+        RuleContext multi1Context = mockRuleContext(multi1);
+        scoreHolder.penalize(multi1Context, 2L);
+        assertThat(scoreHolder.extractScore(0))
+                .isEqualTo(BendableLongScore.of(new long[] { -212L }, new long[] { -110L, 110L }));
+        if (constraintMatchEnabled) {
+            assertThat(findConstraintMatchTotal(scoreHolder, "multi1").getScore())
+                    .isEqualTo(BendableLongScore.of(new long[] { -2L }, new long[] { -20L, -200L }));
+        }
+        callOnDelete(multi1Context);
+        assertThat(scoreHolder.extractScore(0))
+                .isEqualTo(BendableLongScore.of(new long[] { -210L }, new long[] { -90L, 310L }));
     }
 
     @Test
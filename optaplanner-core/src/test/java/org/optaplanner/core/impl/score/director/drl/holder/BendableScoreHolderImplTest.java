@@ -132,6 +132,18 @@ public class BendableScoreHolderImplTest extends AbstractScoreHolderTest {
 
         scoreHolder.reward(mockRuleContext(soft2), 3);
         assertThat(scoreHolder.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -210 }, new int[] { -90, 310 }));
+
+        Rule multi1 = mockRule("multi1");
+        scoreHolder.configureConstraintWeight(multi1, BendableScore.of(new int[] { 1 }, new int[] { 10, 100 }));
+        RuleContext multi1Context = mockRuleContext(multi1);
+        scoreHolder.penalize(multi1Context, 2);
+        assertThat(scoreHolder.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -212 }, new int[] { -110, 110 }));
+        if (constraintMatchEnabled) {
+            assertThat(findConstraintMatchTotal(scoreHolder, "multi1").getScore())
+                    .isEqualTo(BendableScore.of(new int[] { -2 }, new int[] { -20, -200 }));
+        }
+        callOnDelete(multi1Context);
+        assertThat(scoreHolder.extractScore(0)).isEqualTo(BendableScore.of(new int[] { -210 }, new int[] { -90, 310 }));
     }
 
     @Test
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.core.impl.score.stream.bavet.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class BavetLongGroupMapTest {
+
+    @Test
+    void putGetRemove() {
+        BavetLongGroupMap<String> map = new BavetLongGroupMap<>();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.put(1L, "a")).isNull();
+        assertThat(map.put(-1L, "b")).isNull();
+        assertThat(map.put(0L, "c")).isNull();
+        assertThat(map.put(1L, "d")).isEqualTo("a");
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.get(1L)).isEqualTo("d");
+        assertThat(map.get(-1L)).isEqualTo("b");
+        assertThat(map.get(0L)).isEqualTo("c");
+        assertThat(map.get(2L)).isNull();
+
+        assertThat(map.remove(-1L)).isEqualTo("b");
+        assertThat(map.remove(-1L)).isNull();
+        assertThat(map.get(-1L)).isNull();
+        assertThat(map.size()).isEqualTo(2);
+
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get(1L)).isNull();
+    }
+
+    @Test
+    void randomOperationsMatchHashMap() {
+        Random random = new Random(37);
+        BavetLongGroupMap<Long> map = new BavetLongGroupMap<>();
+        Map<Long, Long> expectedMap = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            // Few distinct keys, some far apart, so both collisions and resizes happen
+            long key = random.nextBoolean() ? random.nextInt(500) : (random.nextInt(50) * (1L << 40));
+            switch (random.nextInt(3)) {
+                case 0:
+                    long value = random.nextLong();
+                    assertThat(map.put(key, value)).isEqualTo(expectedMap.put(key, value));
+                    break;
+                case 1:
+                    assertThat(map.remove(key)).isEqualTo(expectedMap.remove(key));
+                    break;
+                case 2:
+                    assertThat(map.get(key)).isEqualTo(expectedMap.get(key));
+                    break;
+                default:
+                    throw new IllegalStateException("Impossible state.");
+            }
+            assertThat(map.size()).isEqualTo(expectedMap.size());
+        }
+        for (Map.Entry<Long, Long> entry : expectedMap.entrySet()) {
+            assertThat(map.get(entry.getKey())).isEqualTo(entry.getValue());
+        }
+    }
+
+}
@@ -14,7 +14,7 @@
  * limitations under the License.
  */
 
-package org.optaplanner.examples.common.experimental.impl;
+package org.optaplanner.core.impl.score.stream.collector;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -29,8 +29,8 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
-import org.optaplanner.examples.common.experimental.api.IntervalBreak;
-import org.optaplanner.examples.common.experimental.api.IntervalCluster;
+import org.optaplanner.core.api.score.stream.common.IntervalBreak;
+import org.optaplanner.core.api.score.stream.common.IntervalCluster;
 
 public class IntervalTreeTest {
     private static class Interval {
@@ -286,8 +286,8 @@ public class IntervalTreeTest {
                 int from = random.nextInt(5);
                 int to = from + random.nextInt(5);
                 Interval interval = intervalToInstanceMap.computeIfAbsent(new Interval(from, to), Function.identity());
-                org.optaplanner.examples.common.experimental.impl.Interval<Interval, Integer> treeInterval =
-                        new org.optaplanner.examples.common.experimental.impl.Interval<>(interval, Interval::getStart,
+                org.optaplanner.core.impl.score.stream.collector.Interval<Interval, Integer> treeInterval =
+                        new org.optaplanner.core.impl.score.stream.collector.Interval<>(interval, Interval::getStart,
                                 Interval::getEnd);
                 splitPoints.add(treeInterval.getStartSplitPoint());
                 splitPoints.add(treeInterval.getEndSplitPoint());
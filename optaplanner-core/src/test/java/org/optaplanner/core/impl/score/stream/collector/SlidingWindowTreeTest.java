@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.core.impl.score.stream.collector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class SlidingWindowTreeTest {
+
+    @Test
+    public void addAndRemove() {
+        SlidingWindowTree tree = new SlidingWindowTree(3L);
+        assertThat(tree.isEmpty()).isTrue();
+        tree.add(5L, 2L);
+        tree.add(7L, 3L);
+        tree.add(7L, 1L);
+        tree.add(8L, 10L);
+        assertThat(tree.getWindowSum(5L)).isEqualTo(6L);
+        assertThat(tree.getWindowSum(6L)).isEqualTo(14L);
+        assertThat(tree.getMaximumWindowSum()).isEqualTo(14L);
+        assertThat(tree.getMaximumWindowStart()).isEqualTo(7L);
+        tree.remove(8L, 10L);
+        assertThat(tree.getMaximumWindowSum()).isEqualTo(6L);
+        assertThat(tree.getMaximumWindowStart()).isEqualTo(5L);
+        tree.remove(7L, 3L);
+        tree.remove(7L, 1L);
+        tree.remove(5L, 2L);
+        assertThat(tree.isEmpty()).isTrue();
+        assertThat(tree.getMaximumWindowSum()).isEqualTo(0L);
+        assertThat(tree.getMaximumWindowStart()).isNull();
+    }
+
+    @Test
+    public void removeUnknownPosition() {
+        SlidingWindowTree tree = new SlidingWindowTree(3L);
+        tree.add(5L, 2L);
+        assertThatIllegalStateException().isThrownBy(() -> tree.remove(6L, 2L));
+    }
+
+    @Test
+    public void nonPositiveWindowSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SlidingWindowTree(0L));
+    }
+
+    @Test
+    public void randomAgainstBruteForce() {
+        Random random = new Random(37);
+        long windowSize = 10L;
+        SlidingWindowTree tree = new SlidingWindowTree(windowSize);
+        List<long[]> valueList = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (valueList.isEmpty() || random.nextInt(3) > 0) {
+                long[] value = { random.nextInt(100), random.nextInt(20) };
+                tree.add(value[0], value[1]);
+                valueList.add(value);
+            } else {
+                long[] value = valueList.remove(random.nextInt(valueList.size()));
+                tree.remove(value[0], value[1]);
+            }
+            long expectedMaximum = 0L;
+            Long expectedMaximumStart = null;
+            for (long[] windowStartValue : valueList) {
+                long windowStart = windowStartValue[0];
+                long windowSum = 0L;
+                for (long[] value : valueList) {
+                    if (windowStart <= value[0] && value[0] < windowStart + windowSize) {
+                        windowSum += value[1];
+                    }
+                }
+                assertThat(tree.getWindowSum(windowStart)).isEqualTo(windowSum);
+                if (expectedMaximumStart == null || windowSum > expectedMaximum
+                        || (windowSum == expectedMaximum && windowStart < expectedMaximumStart)) {
+                    expectedMaximum = windowSum;
+                    expectedMaximumStart = windowStart;
+                }
+            }
+            assertThat(tree.getMaximumWindowSum()).isEqualTo(expectedMaximum);
+            assertThat(tree.getMaximumWindowStart()).isEqualTo(expectedMaximumStart);
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.core.impl.score.stream.collector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+
+class ValueCountMapTest {
+
+    @Test
+    void hashed() {
+        ValueCountMap<String> valueCountMap = ValueCountMap.hashed();
+        long aToken = valueCountMap.add("a");
+        long bToken = valueCountMap.add("b");
+        long secondAToken = valueCountMap.add("a");
+        assertThat(secondAToken).isEqualTo(aToken);
+        assertThat(valueCountMap.size()).isEqualTo(2);
+
+        valueCountMap.remove(aToken);
+        assertThat(valueCountMap.size()).isEqualTo(2);
+        valueCountMap.remove(secondAToken);
+        assertThat(valueCountMap.size()).isEqualTo(1);
+
+        // The slot of "a" is reused
+        assertThat(valueCountMap.add("c")).isEqualTo(aToken);
+        assertThat(valueCountMap.size()).isEqualTo(2);
+        valueCountMap.remove(bToken);
+        assertThat(valueCountMap.size()).isEqualTo(1);
+        assertThatIllegalStateException().isThrownBy(() -> valueCountMap.remove(bToken));
+    }
+
+    @Test
+    void sorted() {
+        ValueCountMap<Integer> valueCountMap = ValueCountMap.sorted(Comparator.naturalOrder());
+        assertThat(valueCountMap.getFirstValue()).isNull();
+        assertThat(valueCountMap.getLastValue()).isNull();
+        long fiveToken = valueCountMap.add(5);
+        long oneToken = valueCountMap.add(1);
+        long nineToken = valueCountMap.add(9);
+        assertThat(valueCountMap.getFirstValue()).isEqualTo(1);
+        assertThat(valueCountMap.getLastValue()).isEqualTo(9);
+
+        valueCountMap.remove(oneToken);
+        assertThat(valueCountMap.getFirstValue()).isEqualTo(5);
+        valueCountMap.remove(nineToken);
+        assertThat(valueCountMap.getLastValue()).isEqualTo(5);
+        valueCountMap.remove(fiveToken);
+        assertThat(valueCountMap.size()).isZero();
+        assertThat(valueCountMap.getFirstValue()).isNull();
+    }
+
+}
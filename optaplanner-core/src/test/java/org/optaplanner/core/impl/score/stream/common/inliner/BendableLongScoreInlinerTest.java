@@ -140,6 +140,28 @@ public class BendableLongScoreInlinerTest
                 .isEqualTo(buildScore(0, 0, 0));
     }
 
+    @Test
+    public void impactAllWithoutConstraintMatch() {
+        TestConstraint<TestdataBendableLongScoreSolution, BendableLongScore> constraint =
+                buildConstraint(buildScore(10, 100, 1_000));
+        BendableLongScoreInliner scoreInliner =
+                new BendableLongScoreInliner(getConstaintToWeightMap(constraint), false, 1, 2);
+
+        WeightedScoreImpacter hardImpacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        UndoScoreImpacter undo1 = hardImpacter.impactScore(10, EMPTY_JUSTIFICATIONS_SUPPLIER);
+        UndoScoreImpacter undo2 = hardImpacter.impactScore(-3, EMPTY_JUSTIFICATIONS_SUPPLIER);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(buildScore(70, 700, 7_000));
+
+        undo1.run();
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(buildScore(-30, -300, -3_000));
+
+        undo2.run();
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(buildScore(0, 0, 0));
+    }
+
     @Override
     protected SolutionDescriptor<TestdataBendableLongScoreSolution> buildSolutionDescriptor() {
         return TestdataBendableLongScoreSolution.buildSolutionDescriptor();
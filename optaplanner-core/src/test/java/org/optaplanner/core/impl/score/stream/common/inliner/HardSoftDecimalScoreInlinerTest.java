@@ -0,0 +1,219 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.common.inliner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.domain.solution.PlanningScore;
+import org.optaplanner.core.api.score.buildin.hardsoftdecimal.HardSoftDecimalScore;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.buildin.AbstractScoreInlinerTest;
+import org.optaplanner.core.impl.testdata.domain.score.TestdataHardSoftDecimalScoreSolution;
+
+public class HardSoftDecimalScoreInlinerTest
+        extends AbstractScoreInlinerTest<TestdataHardSoftDecimalScoreSolution, HardSoftDecimalScore> {
+
+    private static final JustificationsSupplier EMPTY_JUSTIFICATIONS_SUPPLIER = Collections::emptyList;
+
+    @Test
+    public void defaultScore() {
+        TestConstraint<TestdataHardSoftDecimalScoreSolution, HardSoftDecimalScore> constraint =
+                buildConstraint(HardSoftDecimalScore.ONE_HARD);
+        HardSoftDecimalScoreInliner scoreInliner =
+                new HardSoftDecimalScoreInliner(getConstaintToWeightMap(constraint), constraintMatchEnabled,
+                        PlanningScore.NO_DECIMAL_SCALE);
+        assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftDecimalScore.ZERO);
+    }
+
+    @Test
+    public void impactHard() {
+        TestConstraint<TestdataHardSoftDecimalScoreSolution, HardSoftDecimalScore> constraint =
+                buildConstraint(HardSoftDecimalScore.ofHard(new BigDecimal("0.90")));
+        HardSoftDecimalScoreInliner scoreInliner =
+                new HardSoftDecimalScoreInliner(getConstaintToWeightMap(constraint), constraintMatchEnabled,
+                        PlanningScore.NO_DECIMAL_SCALE);
+
+        WeightedScoreImpacter hardImpacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        UndoScoreImpacter undo1 = hardImpacter.impactScore(1, EMPTY_JUSTIFICATIONS_SUPPLIER);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(90L, 0L, 2));
+
+        UndoScoreImpacter undo2 = hardImpacter.impactScore(2, EMPTY_JUSTIFICATIONS_SUPPLIER);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(270L, 0L, 2));
+
+        undo2.run();
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(90L, 0L, 2));
+
+        undo1.run();
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(0L, 0L, 2));
+    }
+
+    @Test
+    public void impactSoft() {
+        TestConstraint<TestdataHardSoftDecimalScoreSolution, HardSoftDecimalScore> constraint =
+                buildConstraint(HardSoftDecimalScore.ofSoft(new BigDecimal("0.90")));
+        HardSoftDecimalScoreInliner scoreInliner =
+                new HardSoftDecimalScoreInliner(getConstaintToWeightMap(constraint), constraintMatchEnabled,
+                        PlanningScore.NO_DECIMAL_SCALE);
+
+        WeightedScoreImpacter softImpacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        UndoScoreImpacter undo1 = softImpacter.impactScore(1L, EMPTY_JUSTIFICATIONS_SUPPLIER);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(0L, 90L, 2));
+
+        UndoScoreImpacter undo2 = softImpacter.impactScore(2L, EMPTY_JUSTIFICATIONS_SUPPLIER);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(0L, 270L, 2));
+
+        undo2.run();
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(0L, 90L, 2));
+
+        undo1.run();
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(0L, 0L, 2));
+    }
+
+    @Test
+    public void impactAll() {
+        TestConstraint<TestdataHardSoftDecimalScoreSolution, HardSoftDecimalScore> constraint =
+                buildConstraint(HardSoftDecimalScore.of(new BigDecimal("0.1"), new BigDecimal("1.25")));
+        HardSoftDecimalScoreInliner scoreInliner =
+                new HardSoftDecimalScoreInliner(getConstaintToWeightMap(constraint), constraintMatchEnabled,
+                        PlanningScore.NO_DECIMAL_SCALE);
+
+        WeightedScoreImpacter impacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        UndoScoreImpacter undo1 = impacter.impactScore(10, EMPTY_JUSTIFICATIONS_SUPPLIER);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftDecimalScore.of(new BigDecimal("1.00"), new BigDecimal("12.50")));
+
+        UndoScoreImpacter undo2 = impacter.impactScore(20, EMPTY_JUSTIFICATIONS_SUPPLIER);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftDecimalScore.of(new BigDecimal("3.00"), new BigDecimal("37.50")));
+
+        undo2.run();
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftDecimalScore.of(new BigDecimal("1.00"), new BigDecimal("12.50")));
+
+        undo1.run();
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftDecimalScore.ZERO);
+    }
+
+    @Test
+    public void impactBigDecimal() {
+        TestConstraint<TestdataHardSoftDecimalScoreSolution, HardSoftDecimalScore> constraint =
+                buildConstraint(HardSoftDecimalScore.ofSoft(new BigDecimal("0.10")));
+        HardSoftDecimalScoreInliner scoreInliner =
+                new HardSoftDecimalScoreInliner(getConstaintToWeightMap(constraint), constraintMatchEnabled,
+                        PlanningScore.NO_DECIMAL_SCALE);
+
+        WeightedScoreImpacter softImpacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        UndoScoreImpacter undo1 = softImpacter.impactScore(new BigDecimal("1.50"), EMPTY_JUSTIFICATIONS_SUPPLIER);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(0L, 15L, 2));
+
+        UndoScoreImpacter undo2 = softImpacter.impactScore(new BigDecimal("1.3"), EMPTY_JUSTIFICATIONS_SUPPLIER);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(0L, 28L, 2));
+
+        // 0.10 * 1.25 = 0.125 is not rounded to the scale of the score
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> softImpacter.impactScore(new BigDecimal("1.25"), EMPTY_JUSTIFICATIONS_SUPPLIER))
+                .withMessageContaining("0.125")
+                .withMessageContaining("decimalScale");
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(0L, 28L, 2));
+
+        undo1.run();
+        undo2.run();
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(0L, 0L, 2));
+    }
+
+    @Test
+    public void impactBigDecimalWithConfiguredScale() {
+        TestConstraint<TestdataHardSoftDecimalScoreSolution, HardSoftDecimalScore> constraint =
+                buildConstraint(HardSoftDecimalScore.ONE_SOFT);
+        HardSoftDecimalScoreInliner scoreInliner =
+                new HardSoftDecimalScoreInliner(getConstaintToWeightMap(constraint), constraintMatchEnabled, 2);
+
+        WeightedScoreImpacter softImpacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        UndoScoreImpacter undo1 = softImpacter.impactScore(new BigDecimal("12.34"), EMPTY_JUSTIFICATIONS_SUPPLIER);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(0L, 1234L, 2));
+
+        UndoScoreImpacter undo2 = softImpacter.impactScore(3, EMPTY_JUSTIFICATIONS_SUPPLIER);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(0L, 1534L, 2));
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> softImpacter.impactScore(new BigDecimal("0.001"), EMPTY_JUSTIFICATIONS_SUPPLIER));
+
+        undo2.run();
+        undo1.run();
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftDecimalScore.ofUnscaled(0L, 0L, 2));
+    }
+
+    @Test
+    public void constraintWeightExceedsConfiguredScale() {
+        TestConstraint<TestdataHardSoftDecimalScoreSolution, HardSoftDecimalScore> constraint =
+                buildConstraint(HardSoftDecimalScore.ofSoft(new BigDecimal("0.125")));
+        assertThatIllegalStateException()
+                .isThrownBy(() -> new HardSoftDecimalScoreInliner(getConstaintToWeightMap(constraint),
+                        constraintMatchEnabled, 2))
+                .withMessageContaining("0.125")
+                .withMessageContaining("decimalScale");
+        // Trailing zeros don't need the scale
+        HardSoftDecimalScoreInliner scoreInliner = new HardSoftDecimalScoreInliner(
+                getConstaintToWeightMap(buildConstraint(HardSoftDecimalScore.ofSoft(new BigDecimal("0.500")))),
+                constraintMatchEnabled, 1);
+        assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftDecimalScore.ofUnscaled(0L, 0L, 1));
+    }
+
+    @Test
+    public void impactOverflow() {
+        TestConstraint<TestdataHardSoftDecimalScoreSolution, HardSoftDecimalScore> constraint =
+                buildConstraint(HardSoftDecimalScore.ofUnscaled(0L, Long.MAX_VALUE / 2L, 2));
+        HardSoftDecimalScoreInliner scoreInliner =
+                new HardSoftDecimalScoreInliner(getConstaintToWeightMap(constraint), constraintMatchEnabled,
+                        PlanningScore.NO_DECIMAL_SCALE);
+
+        WeightedScoreImpacter softImpacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> softImpacter.impactScore(3, EMPTY_JUSTIFICATIONS_SUPPLIER));
+        softImpacter.impactScore(2, EMPTY_JUSTIFICATIONS_SUPPLIER);
+        assertThatExceptionOfType(ArithmeticException.class)
+                .isThrownBy(() -> softImpacter.impactScore(1, EMPTY_JUSTIFICATIONS_SUPPLIER));
+    }
+
+    @Override
+    protected SolutionDescriptor<TestdataHardSoftDecimalScoreSolution> buildSolutionDescriptor() {
+        return TestdataHardSoftDecimalScoreSolution.buildSolutionDescriptor();
+    }
+}
@@ -19,9 +19,14 @@ package org.optaplanner.core.impl.score.stream.common.inliner;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.score.buildin.AbstractScoreInlinerTest;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
@@ -65,6 +70,55 @@ public class SimpleScoreInlinerTest
                 .isEqualTo(SimpleScore.of(0));
     }
 
+    @Test
+    public void constraintMatchesMaterializedLazily() {
+        TestConstraint<TestdataSolution, SimpleScore> constraint =
+                buildConstraint(SimpleScore.of(10));
+        SimpleScoreInliner scoreInliner =
+                new SimpleScoreInliner(getConstaintToWeightMap(constraint), constraintMatchEnabled);
+        AtomicInteger justificationsCount = new AtomicInteger();
+        Object justificationA = "A";
+        Object justificationB = "B";
+
+        WeightedScoreImpacter impacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        impacter.impactScore(1, () -> {
+            justificationsCount.incrementAndGet();
+            return List.of(justificationA, justificationB);
+        });
+        UndoScoreImpacter undo2 = impacter.impactScore(2, () -> {
+            justificationsCount.incrementAndGet();
+            return List.of(justificationB);
+        });
+        impacter.impactScore(3, () -> {
+            justificationsCount.incrementAndGet();
+            return List.of(justificationA, justificationA);
+        });
+        undo2.run();
+        assertThat(justificationsCount).hasValue(0);
+
+        Map<String, ConstraintMatchTotal<SimpleScore>> constraintMatchTotalMap =
+                scoreInliner.getConstraintMatchTotalMap();
+        assertThat(justificationsCount).hasValue(2);
+        ConstraintMatchTotal<SimpleScore> constraintMatchTotal =
+                constraintMatchTotalMap.get(constraint.getConstraintId());
+        assertThat(constraintMatchTotal.getConstraintMatchCount()).isEqualTo(2);
+        assertThat(constraintMatchTotal.getScore()).isEqualTo(SimpleScore.of(40));
+        Map<Object, Indictment<SimpleScore>> indictmentMap = scoreInliner.getIndictmentMap();
+        assertThat(indictmentMap.get(justificationA).getScore()).isEqualTo(SimpleScore.of(40));
+        assertThat(indictmentMap.get(justificationB).getScore()).isEqualTo(SimpleScore.of(10));
+        assertThat(justificationsCount).hasValue(2);
+
+        // Undoing the last match discards the materialized constraint matches
+        impacter.impactScore(4, () -> {
+            justificationsCount.incrementAndGet();
+            return List.of(justificationB);
+        }).run();
+        assertThat(scoreInliner.getConstraintMatchTotalMap().get(constraint.getConstraintId()).getScore())
+                .isEqualTo(SimpleScore.of(40));
+        assertThat(scoreInliner.getIndictmentMap().get(justificationB).getScore()).isEqualTo(SimpleScore.of(10));
+        assertThat(justificationsCount).hasValue(4);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataSolution> buildSolutionDescriptor() {
         return TestdataSolution.buildSolutionDescriptor();
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.kie.api.runtime.KieSession;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.solver.SolverManager;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.SolverManagerConfig;
+import org.optaplanner.core.impl.score.director.stream.DroolsConstraintStreamScoreDirector;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.solver.thread.AdjustableSemaphore;
+import org.optaplanner.core.impl.testdata.domain.TestdataConstraintProvider;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
+
+class DefaultSolverManagerTest {
+
+    @Test
+    void returnedSolverDoesNotHoldItsLastSolution() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig());
+        try (DefaultSolverManager<TestdataSolution, Long> solverManager =
+                (DefaultSolverManager<TestdataSolution, Long>) SolverManager.<TestdataSolution, Long> create(
+                        solverConfig, new SolverManagerConfig().withParallelSolverCount("1"))) {
+            DefaultSolver<TestdataSolution> solver = solverManager.borrowSolver(1L);
+            TestdataSolution solution = PlannerTestUtils.generateTestdataSolution("s1");
+            SolverScope<TestdataSolution> solverScope = solver.getSolverScope();
+            solverScope.setBestSolution(solution);
+            solverScope.getScoreDirector().setWorkingSolution(solverScope.getScoreDirector().cloneSolution(solution));
+
+            solverManager.returnSolver(solver, true);
+            assertThat(solverScope.getBestSolution()).isNull();
+            assertThat(solverScope.getScoreDirector().getWorkingSolution()).isNull();
+            assertThat(solverManager.borrowSolver(2L)).isSameAs(solver);
+        }
+    }
+
+    @Test
+    void returnedSolverReusesItsKieSession() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withScoreDirectorFactory(new ScoreDirectorFactoryConfig()
+                        .withConstraintProviderClass(TestdataConstraintProvider.class))
+                .withPhases(new ConstructionHeuristicPhaseConfig());
+        try (DefaultSolverManager<TestdataSolution, Long> solverManager =
+                (DefaultSolverManager<TestdataSolution, Long>) SolverManager.<TestdataSolution, Long> create(
+                        solverConfig, new SolverManagerConfig().withParallelSolverCount("1"))) {
+            DefaultSolver<TestdataSolution> solver = solverManager.borrowSolver(1L);
+            DroolsConstraintStreamScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                    (DroolsConstraintStreamScoreDirector<TestdataSolution, SimpleScore>) solver.getSolverScope()
+                            .getScoreDirector();
+            TestdataSolution solution1 = solver.solve(PlannerTestUtils.generateTestdataSolution("s1", 2));
+            assertThat(solution1.getScore()).isEqualTo(SimpleScore.of(-2));
+            KieSession kieSession = scoreDirector.getKieSession();
+            assertThat(kieSession).isNotNull();
+            solverManager.returnSolver(solver, true);
+            // The idle session doesn't hold the facts of the last problem
+            assertThat(kieSession.getFactCount()).isZero();
+
+            assertThat(solverManager.borrowSolver(2L)).isSameAs(solver);
+            TestdataSolution solution2 = solver.solve(PlannerTestUtils.generateTestdataSolution("s2", 3));
+            assertThat(solution2.getScore()).isEqualTo(SimpleScore.of(-3));
+            assertThat(scoreDirector.getKieSession()).isSameAs(kieSession);
+            solverManager.returnSolver(solver, true);
+        }
+    }
+
+    @Test
+    void moveThreadCapsAreRaisedAgainWhenAJobEnds() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withMoveThreadCount("4");
+        int uncappedPermitCount = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), 4));
+        try (DefaultSolverManager<TestdataSolution, Long> solverManager =
+                (DefaultSolverManager<TestdataSolution, Long>) SolverManager.<TestdataSolution, Long> create(
+                        solverConfig, new SolverManagerConfig().withParallelSolverCount("2"))) {
+            DefaultSolver<TestdataSolution> solver1 = solverManager.borrowSolver(1L);
+            AdjustableSemaphore semaphore1 = solver1.getSolverScope().getMoveThreadCapSemaphore();
+            assertThat(semaphore1.getPermitCount()).isEqualTo(uncappedPermitCount);
+
+            DefaultSolver<TestdataSolution> solver2 = solverManager.borrowSolver(2L);
+            AdjustableSemaphore semaphore2 = solver2.getSolverScope().getMoveThreadCapSemaphore();
+            assertThat(semaphore1.getPermitCount()).isBetween(1, uncappedPermitCount);
+            assertThat(semaphore2.getPermitCount()).isBetween(1, uncappedPermitCount);
+            assertThat(semaphore1.getPermitCount() + semaphore2.getPermitCount())
+                    .isLessThanOrEqualTo(Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+            solverManager.returnSolver(solver2, true);
+            assertThat(semaphore1.getPermitCount()).isEqualTo(uncappedPermitCount);
+            solverManager.returnSolver(solver1, true);
+        }
+    }
+
+}
@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.solver.termination;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -59,4 +60,34 @@ public class BasicPlumbingTerminationTest {
         assertThat(basicPlumbingTermination.waitForRestartSolverDecision()).isFalse();
         assertThat(count).hasValue(21);
     }
+
+    @Test
+    public void problemFactChangesAreBatchedDuringBatchWindow() throws InterruptedException {
+        BasicPlumbingTermination<TestdataSolution> basicPlumbingTermination = new BasicPlumbingTermination<>(false, 200L);
+        assertThat(basicPlumbingTermination.isSolverTerminated(null)).isFalse();
+        basicPlumbingTermination.addProblemFactChange(scoreDirector -> {
+        });
+        // The solver keeps solving until the batch window of the oldest problem fact change has passed
+        assertThat(basicPlumbingTermination.isSolverTerminated(null)).isFalse();
+        basicPlumbingTermination.addProblemFactChange(scoreDirector -> {
+        });
+        Thread.sleep(250L);
+        assertThat(basicPlumbingTermination.isSolverTerminated(null)).isTrue();
+        assertThat(basicPlumbingTermination.startProblemFactChangesProcessing()).hasSize(2);
+    }
+
+    @Test
+    public void negativeBatchWindow() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BasicPlumbingTermination<TestdataSolution>(false, -1L));
+    }
+
+    @Test
+    public void daemonWaitsForBatchWindow() {
+        BasicPlumbingTermination<TestdataSolution> basicPlumbingTermination = new BasicPlumbingTermination<>(true, 100L);
+        basicPlumbingTermination.addProblemFactChange(scoreDirector -> {
+        });
+        long startTimeMillis = System.currentTimeMillis();
+        assertThat(basicPlumbingTermination.waitForRestartSolverDecision()).isTrue();
+        assertThat(System.currentTimeMillis() - startTimeMillis).isGreaterThanOrEqualTo(90L);
+    }
 }
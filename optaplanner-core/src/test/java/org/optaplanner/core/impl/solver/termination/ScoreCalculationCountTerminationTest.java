@@ -55,6 +55,24 @@ public class ScoreCalculationCountTerminationTest {
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(1.0, offset(0.0));
     }
 
+    @Test
+    public void solveTerminationContinuesPreviousRuns() {
+        Termination termination = new ScoreCalculationCountTermination(1000L);
+        SolverScope solverScope = new SolverScope();
+        InnerScoreDirector scoreDirector = mock(InnerScoreDirector.class);
+        solverScope.setScoreDirector(scoreDirector);
+        solverScope.setPreviousRuns(0L, 600L);
+
+        when(scoreDirector.getCalculationCount()).thenReturn(300L);
+        assertThat(termination.isSolverTerminated(solverScope)).isFalse();
+        assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(0.9, offset(0.0));
+        // Statistics only count this run
+        assertThat(solverScope.getScoreCalculationCount()).isEqualTo(300L);
+        when(scoreDirector.getCalculationCount()).thenReturn(400L);
+        assertThat(termination.isSolverTerminated(solverScope)).isTrue();
+        assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(1.0, offset(0.0));
+    }
+
     @Test
     public void phaseTermination() {
         Termination termination = new ScoreCalculationCountTermination(1000L);
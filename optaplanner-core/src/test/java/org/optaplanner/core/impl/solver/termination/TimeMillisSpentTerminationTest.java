@@ -52,6 +52,23 @@ public class TimeMillisSpentTerminationTest {
         assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(1.0, offset(0.0));
     }
 
+    @Test
+    public void solveTerminationContinuesPreviousRuns() {
+        Termination<TestdataSolution> termination = new TimeMillisSpentTermination<>(60_000L);
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+
+        solverScope.setPreviousRuns(60_000L, 0L);
+        solverScope.startingNow();
+        // The starting time isn't back-dated, only the termination includes the previous runs
+        assertThat(solverScope.calculateTimeMillisSpentUpToNow()).isLessThan(60_000L);
+        assertThat(termination.isSolverTerminated(solverScope)).isTrue();
+        assertThat(termination.calculateSolverTimeGradient(solverScope)).isEqualTo(1.0, offset(0.0));
+        // Another problem starts anew
+        solverScope.setPreviousRuns(0L, 0L);
+        solverScope.startingNow();
+        assertThat(termination.isSolverTerminated(solverScope)).isFalse();
+    }
+
     @Test
     public void phaseTermination() {
         Termination<TestdataSolution> termination = new TimeMillisSpentTermination<>(1000L);
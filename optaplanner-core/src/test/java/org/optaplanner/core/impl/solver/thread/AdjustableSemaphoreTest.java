@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.solver.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+class AdjustableSemaphoreTest {
+
+    @Test
+    void increasePermitCount() {
+        AdjustableSemaphore semaphore = new AdjustableSemaphore(1);
+        assertThat(semaphore.tryAcquire()).isTrue();
+        assertThat(semaphore.tryAcquire()).isFalse();
+        semaphore.setPermitCount(3);
+        assertThat(semaphore.getPermitCount()).isEqualTo(3);
+        assertThat(semaphore.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void decreasePermitCountWhileAcquired() {
+        AdjustableSemaphore semaphore = new AdjustableSemaphore(3);
+        assertThat(semaphore.tryAcquire(3)).isTrue();
+        semaphore.setPermitCount(1);
+        assertThat(semaphore.availablePermits()).isEqualTo(-2);
+        semaphore.release(2);
+        assertThat(semaphore.tryAcquire()).isFalse();
+        semaphore.release();
+        assertThat(semaphore.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void permitCountMustBePositive() {
+        AdjustableSemaphore semaphore = new AdjustableSemaphore(2);
+        assertThatIllegalArgumentException().isThrownBy(() -> semaphore.setPermitCount(0));
+    }
+
+}
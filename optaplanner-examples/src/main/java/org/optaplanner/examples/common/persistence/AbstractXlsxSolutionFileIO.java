@@ -18,6 +18,11 @@ package org.optaplanner.examples.common.persistence;
 
 import static org.optaplanner.examples.common.persistence.XSSFColorUtil.getXSSFColor;
 
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -25,28 +30,33 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
-import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.CreationHelper;
 import org.apache.poi.ss.usermodel.Drawing;
 import org.apache.poi.ss.usermodel.FillPatternType;
 import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.HorizontalAlignment;
-import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellReference;
-import org.apache.poi.xssf.usermodel.XSSFCell;
+import org.apache.poi.xssf.streaming.SXSSFCell;
+import org.apache.poi.xssf.streaming.SXSSFRow;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFCellStyle;
 import org.apache.poi.xssf.usermodel.XSSFColor;
-import org.apache.poi.xssf.usermodel.XSSFRow;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.ScoreExplanation;
 import org.optaplanner.core.api.score.ScoreManager;
@@ -58,6 +68,9 @@ import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.ScoreDirectorFactory;
 import org.optaplanner.core.impl.solver.DefaultSolverFactory;
+import org.optaplanner.examples.common.persistence.ReadOnlyXlsxWorkbook.ReadOnlyXlsxCell;
+import org.optaplanner.examples.common.persistence.ReadOnlyXlsxWorkbook.ReadOnlyXlsxRow;
+import org.optaplanner.examples.common.persistence.ReadOnlyXlsxWorkbook.ReadOnlyXlsxSheet;
 import org.optaplanner.persistence.common.api.domain.solution.SolutionFileIO;
 import org.optaplanner.swing.impl.TangoColorFactory;
 
@@ -81,27 +94,99 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
     protected static final XSSFColor PLANNING_VARIABLE_COLOR = getXSSFColor(TangoColorFactory.BUTTER_1);
     protected static final XSSFColor REPUBLISHED_COLOR = getXSSFColor(TangoColorFactory.MAGENTA);
 
+    private static final int WRITE_BUFFER_SIZE = 65536;
+
+    /**
+     * Per instance, so the {@link SolverFactory} instances (and their class loaders) are garbage collected with it.
+     */
+    private final ConcurrentMap<String, SolverFactory<?>> solverFactoryMap = new ConcurrentHashMap<>();
+
     @Override
     public String getInputFileExtension() {
         return "xlsx";
     }
 
+    /**
+     * Parses the sheets of the file in parallel through SAX, instead of loading the XSSFWorkbook DOM,
+     * and meanwhile builds the {@link SolverFactory} of the solverConfigResource on the calling thread.
+     *
+     * @param inputFile never null
+     * @param solverConfigResource never null, the solverConfigResource that the reader uses
+     * @param workbookReader never null, reads the solution from the workbook
+     * @param <Result_> the result type
+     * @return the result of the workbookReader
+     * @throws IOException if the file cannot be read
+     */
+    protected <Result_> Result_ readWorkbook(File inputFile, String solverConfigResource,
+            BiFunction<ReadOnlyXlsxWorkbook, SolverFactory<Solution_>, Result_> workbookReader) throws IOException {
+        OPCPackage opcPackage;
+        try {
+            opcPackage = OPCPackage.open(inputFile, PackageAccess.READ);
+        } catch (InvalidFormatException e) {
+            throw new IllegalArgumentException("The inputFile (" + inputFile + ") is not a valid xlsx file.", e);
+        }
+        try {
+            CompletableFuture<ReadOnlyXlsxWorkbook> workbookFuture = ReadOnlyXlsxWorkbook.readAsync(opcPackage);
+            SolverFactory<Solution_> solverFactory;
+            ReadOnlyXlsxWorkbook workbook;
+            try {
+                solverFactory = getSolverFactory(solverConfigResource);
+            } finally {
+                // Wait for the sheets even if the solverFactory fails, because reverting the package closes their streams
+                workbook = ReadOnlyXlsxWorkbook.join(workbookFuture);
+            }
+            return workbookReader.apply(workbook, solverFactory);
+        } finally {
+            // Closing a read-only package would try to save it
+            opcPackage.revert();
+        }
+    }
+
+    /**
+     * @param workbook never null, closed afterwards
+     * @param outputFile never null
+     * @throws IOException if the file cannot be written
+     */
+    protected static void writeWorkbook(Workbook workbook, File outputFile) throws IOException {
+        try (Workbook closedWorkbook = workbook;
+                OutputStream out = new BufferedOutputStream(new FileOutputStream(outputFile), WRITE_BUFFER_SIZE)) {
+            closedWorkbook.write(out);
+        } finally {
+            if (workbook instanceof SXSSFWorkbook) {
+                // Closing doesn't delete the temporary files of the flushed rows
+                ((SXSSFWorkbook) workbook).dispose();
+            }
+        }
+    }
+
+    /**
+     * Builds the {@link SolverFactory} (and therefore its score director factory) only once per solverConfigResource
+     * for this instance, so reading and writing multiple files doesn't rebuild the constraints every time.
+     *
+     * @param solverConfigResource never null
+     * @return never null
+     */
+    protected SolverFactory<Solution_> getSolverFactory(String solverConfigResource) {
+        // A failure isn't cached, so the next call tries again
+        return (SolverFactory<Solution_>) solverFactoryMap.computeIfAbsent(solverConfigResource,
+                SolverFactory::createFromXmlResource);
+    }
+
     public static abstract class AbstractXlsxReader<Solution_, Score_ extends Score<Score_>> {
 
-        protected final XSSFWorkbook workbook;
+        protected final ReadOnlyXlsxWorkbook workbook;
         protected final ScoreDefinition<Score_> scoreDefinition;
 
         protected Solution_ solution;
 
-        protected XSSFSheet currentSheet;
-        protected Iterator<Row> currentRowIterator;
-        protected XSSFRow currentRow;
+        protected ReadOnlyXlsxSheet currentSheet;
+        protected Iterator<ReadOnlyXlsxRow> currentRowIterator;
+        protected ReadOnlyXlsxRow currentRow;
         protected int currentRowNumber;
         protected int currentColumnNumber;
 
-        public AbstractXlsxReader(XSSFWorkbook workbook, String solverConfigResource) {
+        public AbstractXlsxReader(ReadOnlyXlsxWorkbook workbook, SolverFactory<Solution_> solverFactory) {
             this.workbook = workbook;
-            SolverFactory<Solution_> solverFactory = SolverFactory.createFromXmlResource(solverConfigResource);
             ScoreDirectorFactory<Solution_> scoreDirectorFactory =
                     ((DefaultSolverFactory<Solution_>) solverFactory).getScoreDirectorFactory();
             scoreDefinition = ((InnerScoreDirectorFactory<Solution_, Score_>) scoreDirectorFactory).getScoreDefinition();
@@ -112,7 +197,7 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
         protected void readIntConstraintParameterLine(String name, Consumer<Integer> consumer, String constraintDescription) {
             nextRow();
             readHeaderCell(name);
-            XSSFCell weightCell = nextCell();
+            ReadOnlyXlsxCell weightCell = nextCell();
             if (consumer != null) {
                 if (weightCell.getCellType() != CellType.NUMERIC) {
                     throw new IllegalArgumentException(currentPosition() + ": The value ("
@@ -139,7 +224,7 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
         protected void readLongConstraintParameterLine(String name, Consumer<Long> consumer, String constraintDescription) {
             nextRow();
             readHeaderCell(name);
-            XSSFCell weightCell = nextCell();
+            ReadOnlyXlsxCell weightCell = nextCell();
             if (consumer != null) {
                 if (weightCell.getCellType() != CellType.NUMERIC) {
                     throw new IllegalArgumentException(currentPosition() + ": The value ("
@@ -211,13 +296,13 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
                 currentRow = null;
                 return false;
             }
-            currentRow = (XSSFRow) currentRowIterator.next();
+            currentRow = currentRowIterator.next();
             while (skipEmptyRows && currentRowIsEmpty()) {
                 if (!currentRowIterator.hasNext()) {
                     currentRow = null;
                     return false;
                 }
-                currentRow = (XSSFRow) currentRowIterator.next();
+                currentRow = currentRowIterator.next();
             }
             if (currentRow.getRowNum() != currentRowNumber) {
                 if (currentRow.getRowNum() == currentRowNumber + 1) {
@@ -234,7 +319,7 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
             if (currentRow.getPhysicalNumberOfCells() == 0) {
                 return true;
             }
-            for (Cell cell : currentRow) {
+            for (ReadOnlyXlsxCell cell : currentRow) {
                 if (cell.getCellType() == CellType.STRING) {
                     if (!cell.getStringCellValue().isEmpty()) {
                         return false;
@@ -247,7 +332,7 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
         }
 
         protected void readHeaderCell(String value) {
-            XSSFCell cell = currentRow == null ? null : nextStringCell();
+            ReadOnlyXlsxCell cell = currentRow == null ? null : nextStringCell();
             if (cell == null || !cell.getStringCellValue().equals(value)) {
                 throw new IllegalStateException(currentPosition() + ": The cell ("
                         + (cell == null ? null : cell.getStringCellValue())
@@ -256,15 +341,15 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
         }
 
         protected void readHeaderCell(double value) {
-            XSSFCell cell = currentRow == null ? null : nextNumericCell();
+            ReadOnlyXlsxCell cell = currentRow == null ? null : nextNumericCell();
             if (cell == null || cell.getNumericCellValue() != value) {
                 throw new IllegalStateException(currentPosition() + ": The cell does not contain the expected value ("
                         + value + ").");
             }
         }
 
-        protected XSSFCell nextStringCell() {
-            XSSFCell cell = nextCell();
+        protected ReadOnlyXlsxCell nextStringCell() {
+            ReadOnlyXlsxCell cell = nextCell();
             if (cell.getCellType() == CellType.NUMERIC) {
                 throw new IllegalStateException(currentPosition() + ": The cell with value ("
                         + cell.getNumericCellValue() + ") has a numeric type but should be a string.");
@@ -272,8 +357,8 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
             return cell;
         }
 
-        protected XSSFCell nextNumericCell() {
-            XSSFCell cell = nextCell();
+        protected ReadOnlyXlsxCell nextNumericCell() {
+            ReadOnlyXlsxCell cell = nextCell();
             if (cell.getCellType() == CellType.STRING) {
                 throw new IllegalStateException(currentPosition() + ": The cell with value ("
                         + cell.getStringCellValue() + ") has a string type but should be numeric.");
@@ -281,8 +366,8 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
             return cell;
         }
 
-        protected XSSFCell nextNumericCellOrBlank() {
-            XSSFCell cell = nextCell();
+        protected ReadOnlyXlsxCell nextNumericCellOrBlank() {
+            ReadOnlyXlsxCell cell = nextCell();
             if (cell.getCellType() == CellType.BLANK
                     || (cell.getCellType() == CellType.STRING && cell.getStringCellValue().isEmpty())) {
                 return null;
@@ -294,8 +379,8 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
             return cell;
         }
 
-        protected XSSFCell nextBooleanCell() {
-            XSSFCell cell = nextCell();
+        protected ReadOnlyXlsxCell nextBooleanCell() {
+            ReadOnlyXlsxCell cell = nextCell();
             if (cell.getCellType() == CellType.STRING) {
                 throw new IllegalStateException(currentPosition() + ": The cell with value ("
                         + cell.getStringCellValue() + ") has a string type but should be boolean.");
@@ -307,19 +392,17 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
             return cell;
         }
 
-        protected XSSFCell nextCell() {
+        protected ReadOnlyXlsxCell nextCell() {
             currentColumnNumber++;
-            XSSFCell cell = currentRow.getCell(currentColumnNumber);
             // TODO HACK to workaround the fact that LibreOffice and Excel automatically remove empty trailing cells
-            if (cell == null) {
-                // Return dummy cell
-                return currentRow.createCell(currentColumnNumber);
-            }
-            return cell;
+            return currentRow.getCellOrBlank(currentColumnNumber);
         }
 
-        protected XSSFColor extractColor(XSSFCell cell, XSSFColor... acceptableColors) {
-            XSSFCellStyle cellStyle = cell.getCellStyle();
+        protected XSSFColor extractColor(ReadOnlyXlsxCell cell, XSSFColor... acceptableColors) {
+            XSSFCellStyle cellStyle = workbook.getCellStyle(cell);
+            if (cellStyle == null) {
+                return null;
+            }
             FillPatternType fillPattern = cellStyle.getFillPatternEnum();
             if (fillPattern == null || fillPattern == FillPatternType.NO_FILL) {
                 return null;
@@ -342,12 +425,23 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
 
     public static abstract class AbstractXlsxWriter<Solution_, Score_ extends Score<Score_>> {
 
+        /**
+         * The number of rows per sheet that are kept in memory, the others are flushed to a temporary file.
+         */
+        protected static final int ROW_ACCESS_WINDOW_SIZE = SXSSFWorkbook.DEFAULT_WINDOW_SIZE;
+
         protected final Solution_ solution;
         protected final Score_ score;
         protected final Map<String, ConstraintMatchTotal<Score_>> constraintMatchTotalsMap;
         protected final Map<Object, Indictment<Score_>> indictmentMap;
 
-        protected XSSFWorkbook workbook;
+        /**
+         * Streams the rows to a temporary file, so only the {@link #ROW_ACCESS_WINDOW_SIZE} last rows of a sheet
+         * are kept in memory, unless that sheet keeps all its rows.
+         *
+         * @see #nextSheet(String, int, int, boolean, boolean)
+         */
+        protected SXSSFWorkbook workbook;
         protected CreationHelper creationHelper;
 
         protected XSSFCellStyle headerStyle;
@@ -363,16 +457,15 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
         protected XSSFCellStyle planningVariableStyle;
         protected XSSFCellStyle republishedStyle;
 
-        protected XSSFSheet currentSheet;
+        protected SXSSFSheet currentSheet;
         protected Drawing currentDrawing;
-        protected XSSFRow currentRow;
+        protected SXSSFRow currentRow;
         protected int currentRowNumber;
         protected int currentColumnNumber;
         protected int headerCellCount;
 
-        public AbstractXlsxWriter(Solution_ solution, String solverConfigResource) {
+        public AbstractXlsxWriter(Solution_ solution, SolverFactory<Solution_> solverFactory) {
             this.solution = solution;
-            SolverFactory<Solution_> solverFactory = SolverFactory.createFromXmlResource(solverConfigResource);
             ScoreManager<Solution_, Score_> scoreManager = ScoreManager.create(solverFactory);
             ScoreExplanation<Solution_, Score_> scoreExplanation = scoreManager.explainScore(solution);
             score = scoreExplanation.getScore();
@@ -383,7 +476,7 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
         public abstract Workbook write();
 
         public void writeSetup() {
-            workbook = new XSSFWorkbook();
+            workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
             creationHelper = workbook.getCreationHelper();
             createStyles();
         }
@@ -409,7 +502,7 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
         }
 
         protected XSSFCellStyle createStyle(XSSFColor color) {
-            XSSFCellStyle style = workbook.createCellStyle();
+            XSSFCellStyle style = workbook.getXSSFWorkbook().createCellStyle();
             if (color != null) {
                 style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
                 style.setFillForegroundColor(color);
@@ -422,7 +515,7 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
         protected void writeIntConstraintParameterLine(String name, int value, String constraintDescription) {
             nextRow();
             nextHeaderCell(name);
-            XSSFCell weightCell = nextCell();
+            SXSSFCell weightCell = nextCell();
             weightCell.setCellValue(value);
             nextHeaderCell(constraintDescription);
         }
@@ -430,7 +523,7 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
         protected void writeIntConstraintParameterLine(String name, Supplier<Integer> supplier, String constraintDescription) {
             nextRow();
             nextHeaderCell(name);
-            XSSFCell weightCell = nextCell();
+            SXSSFCell weightCell = nextCell();
             if (supplier != null) {
                 weightCell.setCellValue(supplier.get());
             } else {
@@ -442,7 +535,7 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
         protected void writeLongConstraintParameterLine(String name, Supplier<Long> supplier, String constraintDescription) {
             nextRow();
             nextHeaderCell(name);
-            XSSFCell weightCell = nextCell();
+            SXSSFCell weightCell = nextCell();
             if (supplier != null) {
                 weightCell.setCellValue(supplier.get());
             } else {
@@ -539,13 +632,31 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
         }
 
         protected void nextSheet(String sheetName, int colSplit, int rowSplit, boolean view) {
+            nextSheet(sheetName, colSplit, rowSplit, view, false);
+        }
+
+        /**
+         * @param sheetName never null
+         * @param colSplit the number of frozen columns
+         * @param rowSplit the number of frozen rows
+         * @param view true if the sheet is a view of the solution instead of input data
+         * @param keepAllRows true to keep every row of the sheet in memory,
+         *        so {@link #nextCellVertically()} can revisit rows outside of the {@link #ROW_ACCESS_WINDOW_SIZE}
+         */
+        protected void nextSheet(String sheetName, int colSplit, int rowSplit, boolean view, boolean keepAllRows) {
             currentSheet = workbook.createSheet(sheetName);
+            if (keepAllRows) {
+                currentSheet.setRandomAccessWindowSize(-1);
+            }
+            // The column widths of the flushed rows are needed to auto-size a column
+            currentSheet.trackAllColumnsForAutoSizing();
             currentDrawing = currentSheet.createDrawingPatriarch();
             currentSheet.createFreezePane(colSplit, rowSplit);
             currentRowNumber = -1;
             headerCellCount = 0;
             if (view) {
-                currentSheet.setTabColor(VIEW_TAB_COLOR);
+                // The underlying XSSFSheet, because only it supports an XSSFColor
+                workbook.getXSSFWorkbook().getSheet(sheetName).setTabColor(VIEW_TAB_COLOR);
             }
         }
 
@@ -565,13 +676,13 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
             headerCellCount++;
         }
 
-        protected XSSFCell nextCell() {
+        protected SXSSFCell nextCell() {
             return nextCell(defaultStyle);
         }
 
-        protected XSSFCell nextCell(XSSFCellStyle cellStyle) {
+        protected SXSSFCell nextCell(XSSFCellStyle cellStyle) {
             currentColumnNumber++;
-            XSSFCell cell = currentRow.createCell(currentColumnNumber);
+            SXSSFCell cell = currentRow.createCell(currentColumnNumber);
             cell.setCellStyle(cellStyle);
             return cell;
         }
@@ -581,14 +692,19 @@ public abstract class AbstractXlsxSolutionFileIO<Solution_> implements SolutionF
             headerCellCount++;
         }
 
-        protected XSSFCell nextCellVertically() {
+        protected SXSSFCell nextCellVertically() {
             return nextCellVertically(defaultStyle);
         }
 
-        protected XSSFCell nextCellVertically(XSSFCellStyle cellStyle) {
+        protected SXSSFCell nextCellVertically(XSSFCellStyle cellStyle) {
             currentRowNumber++;
             currentRow = currentSheet.getRow(currentRowNumber);
-            XSSFCell cell = currentRow.createCell(currentColumnNumber);
+            if (currentRow == null) {
+                throw new IllegalStateException("The row (" + currentRowNumber + ") of the sheet ("
+                        + currentSheet.getSheetName() + ") is already flushed to disk or doesn't exist.\n"
+                        + "Maybe create that sheet with keepAllRows true.");
+            }
+            SXSSFCell cell = currentRow.createCell(currentColumnNumber);
             cell.setCellStyle(cellStyle);
             return cell;
         }
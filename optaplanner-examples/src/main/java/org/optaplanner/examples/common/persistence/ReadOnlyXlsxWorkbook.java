@@ -0,0 +1,615 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.examples.common.persistence;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFRelation;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * The cell values and cell style indexes of an xlsx file, read through {@link XSSFReader} with SAX,
+ * instead of the {@link org.apache.poi.xssf.usermodel.XSSFWorkbook} DOM, which holds an XMLBeans object per cell.
+ * The sheets are independent, so they are parsed in parallel.
+ * <p>
+ * The cell getters behave like those of {@link org.apache.poi.xssf.usermodel.XSSFCell},
+ * except that a formula cell has the type of its cached result.
+ * The cell styles are shared with the {@link StylesTable} of the file, so their fill colors are available.
+ */
+public final class ReadOnlyXlsxWorkbook {
+
+    /**
+     * Reads the sheets in parallel, in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+     *
+     * @param opcPackage never null, only reverted after the returned future is done
+     * @return never null
+     * @throws IOException if the package cannot be read
+     */
+    public static CompletableFuture<ReadOnlyXlsxWorkbook> readAsync(OPCPackage opcPackage) throws IOException {
+        XSSFReader xssfReader;
+        StylesTable stylesTable;
+        List<String> sharedStringList;
+        try {
+            xssfReader = new XSSFReader(opcPackage);
+            stylesTable = xssfReader.getStylesTable();
+            sharedStringList = readSharedStringList(opcPackage);
+        } catch (OpenXML4JException e) {
+            throw new IllegalArgumentException("The opcPackage (" + opcPackage + ") is not a valid xlsx file.", e);
+        }
+        XSSFReader.SheetIterator sheetIterator;
+        try {
+            sheetIterator = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+        } catch (OpenXML4JException e) {
+            throw new IllegalArgumentException("The opcPackage (" + opcPackage + ") is not a valid xlsx file.", e);
+        }
+        List<String> sheetNameList = new ArrayList<>();
+        List<CompletableFuture<ReadOnlyXlsxSheet>> sheetFutureList = new ArrayList<>();
+        while (sheetIterator.hasNext()) {
+            // The iterator opens the stream of each sheet, so it is not shared with the parsing threads
+            InputStream sheetStream = sheetIterator.next();
+            String sheetName = sheetIterator.getSheetName();
+            sheetNameList.add(sheetName);
+            sheetFutureList.add(CompletableFuture.supplyAsync(
+                    () -> readSheet(sheetName, sheetStream, sharedStringList)));
+        }
+        return CompletableFuture.allOf(sheetFutureList.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    Map<String, ReadOnlyXlsxSheet> sheetMap = new LinkedHashMap<>(sheetFutureList.size() * 2);
+                    for (CompletableFuture<ReadOnlyXlsxSheet> sheetFuture : sheetFutureList) {
+                        ReadOnlyXlsxSheet sheet = sheetFuture.join();
+                        sheetMap.put(sheet.getSheetName(), sheet);
+                    }
+                    return new ReadOnlyXlsxWorkbook(sheetMap, stylesTable);
+                });
+    }
+
+    /**
+     * @param inputFile never null
+     * @return never null
+     * @throws IOException if the file cannot be read
+     * @see #readAsync(OPCPackage)
+     */
+    public static ReadOnlyXlsxWorkbook read(File inputFile) throws IOException {
+        OPCPackage opcPackage;
+        try {
+            opcPackage = OPCPackage.open(inputFile, PackageAccess.READ);
+        } catch (InvalidFormatException e) {
+            throw new IllegalArgumentException("The inputFile (" + inputFile + ") is not a valid xlsx file.", e);
+        }
+        try {
+            return join(readAsync(opcPackage));
+        } finally {
+            // Closing a read-only package would try to save it
+            opcPackage.revert();
+        }
+    }
+
+    /**
+     * @param workbookFuture never null
+     * @return never null
+     * @throws IOException if a sheet cannot be read
+     */
+    public static ReadOnlyXlsxWorkbook join(CompletableFuture<ReadOnlyXlsxWorkbook> workbookFuture) throws IOException {
+        try {
+            return workbookFuture.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static List<String> readSharedStringList(OPCPackage opcPackage) throws IOException {
+        List<PackagePart> partList = opcPackage.getPartsByContentType(XSSFRelation.SHARED_STRINGS.getContentType());
+        if (partList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        SharedStringsHandler handler = new SharedStringsHandler();
+        try (InputStream in = partList.get(0).getInputStream()) {
+            parse(in, handler);
+        } catch (SAXException e) {
+            throw new IllegalArgumentException("The shared strings of the opcPackage (" + opcPackage
+                    + ") are not valid xlsx XML.", e);
+        }
+        return handler.sharedStringList;
+    }
+
+    private static ReadOnlyXlsxSheet readSheet(String sheetName, InputStream sheetStream,
+            List<String> sharedStringList) {
+        SheetHandler handler = new SheetHandler(sharedStringList);
+        try (InputStream in = sheetStream) {
+            parse(in, handler);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed reading the sheet (" + sheetName + ").", e);
+        } catch (SAXException e) {
+            throw new IllegalArgumentException("The sheet (" + sheetName + ") is not valid xlsx XML.", e);
+        }
+        return new ReadOnlyXlsxSheet(sheetName, handler.rowList);
+    }
+
+    private static void parse(InputStream in, DefaultHandler handler) throws IOException, SAXException {
+        SAXParser parser;
+        try {
+            SAXParserFactory parserFactory = SAXParserFactory.newInstance();
+            parserFactory.setNamespaceAware(true);
+            parserFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            // An xlsx file never has a DTD, so forbid one to avoid XML external entities
+            parserFactory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            parser = parserFactory.newSAXParser();
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("The SAX parser does not support secure processing.", e);
+        }
+        parser.parse(in, handler);
+    }
+
+    private final Map<String, ReadOnlyXlsxSheet> sheetMap;
+    private final List<String> sheetNameList;
+    private final StylesTable stylesTable;
+
+    private ReadOnlyXlsxWorkbook(Map<String, ReadOnlyXlsxSheet> sheetMap, StylesTable stylesTable) {
+        this.sheetMap = sheetMap;
+        this.sheetNameList = new ArrayList<>(sheetMap.keySet());
+        this.stylesTable = stylesTable;
+    }
+
+    public int getNumberOfSheets() {
+        return sheetNameList.size();
+    }
+
+    /**
+     * @param sheetName never null
+     * @return -1 if there is no such sheet
+     */
+    public int getSheetIndex(String sheetName) {
+        return sheetNameList.indexOf(sheetName);
+    }
+
+    public String getSheetName(int sheetIndex) {
+        return sheetNameList.get(sheetIndex);
+    }
+
+    /**
+     * @param sheetName never null
+     * @return null if there is no such sheet
+     */
+    public ReadOnlyXlsxSheet getSheet(String sheetName) {
+        return sheetMap.get(sheetName);
+    }
+
+    /**
+     * @param cell never null
+     * @return null if the file has no styles
+     */
+    public XSSFCellStyle getCellStyle(ReadOnlyXlsxCell cell) {
+        return stylesTable == null ? null : stylesTable.getStyleAt(cell.styleIndex);
+    }
+
+    public static final class ReadOnlyXlsxSheet {
+
+        private final String sheetName;
+        private final List<ReadOnlyXlsxRow> rowList;
+
+        private ReadOnlyXlsxSheet(String sheetName, List<ReadOnlyXlsxRow> rowList) {
+            this.sheetName = sheetName;
+            this.rowList = rowList;
+        }
+
+        public String getSheetName() {
+            return sheetName;
+        }
+
+        /**
+         * @return 0-based, 0 if the sheet has no rows
+         */
+        public int getLastRowNum() {
+            return rowList.isEmpty() ? 0 : rowList.get(rowList.size() - 1).getRowNum();
+        }
+
+        /**
+         * @return never null, only the rows in the file, in order
+         */
+        public Iterator<ReadOnlyXlsxRow> rowIterator() {
+            return Collections.unmodifiableList(rowList).iterator();
+        }
+
+        @Override
+        public String toString() {
+            return sheetName;
+        }
+
+    }
+
+    public static final class ReadOnlyXlsxRow implements Iterable<ReadOnlyXlsxCell> {
+
+        private final int rowNum;
+        /**
+         * Indexed by column, null for a column without a cell.
+         */
+        private final ReadOnlyXlsxCell[] cells;
+        private final int physicalNumberOfCells;
+
+        private ReadOnlyXlsxRow(int rowNum, List<ReadOnlyXlsxCell> cellList) {
+            this.rowNum = rowNum;
+            int lastColumnIndex = cellList.stream().mapToInt(cell -> cell.columnIndex).max().orElse(-1);
+            cells = new ReadOnlyXlsxCell[lastColumnIndex + 1];
+            for (ReadOnlyXlsxCell cell : cellList) {
+                cells[cell.columnIndex] = cell;
+            }
+            physicalNumberOfCells = cellList.size();
+        }
+
+        /**
+         * @return 0-based
+         */
+        public int getRowNum() {
+            return rowNum;
+        }
+
+        public int getPhysicalNumberOfCells() {
+            return physicalNumberOfCells;
+        }
+
+        /**
+         * @return the index of the last cell plus 1, -1 if the row has no cells
+         */
+        public short getLastCellNum() {
+            return (short) (cells.length == 0 ? -1 : cells.length);
+        }
+
+        /**
+         * @param columnIndex 0-based
+         * @return null if the row has no cell in that column
+         */
+        public ReadOnlyXlsxCell getCell(int columnIndex) {
+            return columnIndex < cells.length ? cells[columnIndex] : null;
+        }
+
+        /**
+         * @param columnIndex 0-based
+         * @return never null, the cell in that column, or else a blank cell that is not added to this row
+         */
+        public ReadOnlyXlsxCell getCellOrBlank(int columnIndex) {
+            ReadOnlyXlsxCell cell = getCell(columnIndex);
+            return cell == null ? new ReadOnlyXlsxCell(columnIndex, 0, CellType.BLANK, null, 0.0) : cell;
+        }
+
+        /**
+         * @return never null, only the cells in the file, in order
+         */
+        @Override
+        public Iterator<ReadOnlyXlsxCell> iterator() {
+            return Arrays.stream(cells).filter(Objects::nonNull).iterator();
+        }
+
+    }
+
+    public static final class ReadOnlyXlsxCell {
+
+        private final int columnIndex;
+        private final int styleIndex;
+        private final CellType cellType;
+        private final String stringValue;
+        private final double numericValue;
+
+        private ReadOnlyXlsxCell(int columnIndex, int styleIndex, CellType cellType, String stringValue,
+                double numericValue) {
+            this.columnIndex = columnIndex;
+            this.styleIndex = styleIndex;
+            this.cellType = cellType;
+            this.stringValue = stringValue;
+            this.numericValue = numericValue;
+        }
+
+        /**
+         * @return 0-based
+         */
+        public int getColumnIndex() {
+            return columnIndex;
+        }
+
+        /**
+         * @return never null, never {@link CellType#FORMULA}
+         */
+        public CellType getCellType() {
+            return cellType;
+        }
+
+        /**
+         * @return never null, empty for a blank cell
+         * @throws IllegalStateException if the cell is not a string
+         */
+        public String getStringCellValue() {
+            switch (cellType) {
+                case BLANK:
+                    return "";
+                case STRING:
+                    return stringValue;
+                default:
+                    throw new IllegalStateException("Cannot get a " + CellType.STRING + " value from a "
+                            + cellType + " cell.");
+            }
+        }
+
+        /**
+         * @return 0.0 for a blank cell
+         * @throws IllegalStateException if the cell is not numeric
+         */
+        public double getNumericCellValue() {
+            switch (cellType) {
+                case BLANK:
+                case NUMERIC:
+                    return numericValue;
+                default:
+                    throw new IllegalStateException("Cannot get a " + CellType.NUMERIC + " value from a "
+                            + cellType + " cell.");
+            }
+        }
+
+        /**
+         * @return false for a blank cell
+         * @throws IllegalStateException if the cell is not a boolean
+         */
+        public boolean getBooleanCellValue() {
+            switch (cellType) {
+                case BLANK:
+                case BOOLEAN:
+                    return numericValue != 0.0;
+                default:
+                    throw new IllegalStateException("Cannot get a " + CellType.BOOLEAN + " value from a "
+                            + cellType + " cell.");
+            }
+        }
+
+        @Override
+        public String toString() {
+            return cellType == CellType.NUMERIC || cellType == CellType.BOOLEAN
+                    ? Double.toString(numericValue) : String.valueOf(stringValue);
+        }
+
+    }
+
+    // ************************************************************************
+    // SAX handlers
+    // ************************************************************************
+
+    private static final class SharedStringsHandler extends DefaultHandler {
+
+        private final List<String> sharedStringList = new ArrayList<>();
+        private final StringBuilder text = new StringBuilder();
+        private boolean inText = false;
+        private boolean inPhoneticRun = false;
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "si":
+                    text.setLength(0);
+                    break;
+                case "rPh":
+                    // The pronunciation of East Asian text is not part of the value
+                    inPhoneticRun = true;
+                    break;
+                case "t":
+                    inText = !inPhoneticRun;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inText) {
+                text.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "si":
+                    sharedStringList.add(text.toString());
+                    break;
+                case "rPh":
+                    inPhoneticRun = false;
+                    break;
+                case "t":
+                    inText = false;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+    }
+
+    private static final class SheetHandler extends DefaultHandler {
+
+        private final List<String> sharedStringList;
+        private final List<ReadOnlyXlsxRow> rowList = new ArrayList<>();
+
+        private int rowNum = -1;
+        private List<ReadOnlyXlsxCell> cellList;
+        private int columnIndex = -1;
+        private int styleIndex;
+        private String cellTypeCode;
+        private boolean hasValue;
+        private final StringBuilder value = new StringBuilder();
+        private boolean inValue = false;
+        private boolean inInlineString = false;
+        private boolean inPhoneticRun = false;
+
+        private SheetHandler(List<String> sharedStringList) {
+            this.sharedStringList = sharedStringList;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "row":
+                    String rowReference = attributes.getValue("r");
+                    rowNum = rowReference == null ? rowNum + 1 : Integer.parseInt(rowReference) - 1;
+                    cellList = new ArrayList<>();
+                    columnIndex = -1;
+                    break;
+                case "c":
+                    String cellReference = attributes.getValue("r");
+                    columnIndex = cellReference == null ? columnIndex + 1 : parseColumnIndex(cellReference);
+                    String styleReference = attributes.getValue("s");
+                    styleIndex = styleReference == null ? 0 : Integer.parseInt(styleReference);
+                    cellTypeCode = attributes.getValue("t");
+                    hasValue = false;
+                    value.setLength(0);
+                    break;
+                case "v":
+                    inValue = true;
+                    hasValue = true;
+                    break;
+                case "is":
+                    inInlineString = true;
+                    break;
+                case "rPh":
+                    inPhoneticRun = true;
+                    break;
+                case "t":
+                    if (inInlineString && !inPhoneticRun) {
+                        inValue = true;
+                        hasValue = true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inValue) {
+                value.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "row":
+                    rowList.add(new ReadOnlyXlsxRow(rowNum, cellList));
+                    cellList = null;
+                    break;
+                case "c":
+                    cellList.add(buildCell());
+                    break;
+                case "v":
+                case "t":
+                    inValue = false;
+                    break;
+                case "is":
+                    inInlineString = false;
+                    break;
+                case "rPh":
+                    inPhoneticRun = false;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private ReadOnlyXlsxCell buildCell() {
+            if (!hasValue) {
+                return new ReadOnlyXlsxCell(columnIndex, styleIndex, CellType.BLANK, null, 0.0);
+            }
+            String valueString = value.toString();
+            switch (cellTypeCode == null ? "n" : cellTypeCode) {
+                case "n":
+                    if (valueString.isEmpty()) {
+                        return new ReadOnlyXlsxCell(columnIndex, styleIndex, CellType.BLANK, null, 0.0);
+                    }
+                    return new ReadOnlyXlsxCell(columnIndex, styleIndex, CellType.NUMERIC, null,
+                            Double.parseDouble(valueString));
+                case "s":
+                    return new ReadOnlyXlsxCell(columnIndex, styleIndex, CellType.STRING,
+                            sharedStringList.get(Integer.parseInt(valueString.trim())), 0.0);
+                case "inlineStr":
+                case "str":
+                case "d":
+                    return new ReadOnlyXlsxCell(columnIndex, styleIndex, CellType.STRING, valueString, 0.0);
+                case "b":
+                    return new ReadOnlyXlsxCell(columnIndex, styleIndex, CellType.BOOLEAN, null,
+                            valueString.equals("1") || valueString.equalsIgnoreCase("true") ? 1.0 : 0.0);
+                case "e":
+                    return new ReadOnlyXlsxCell(columnIndex, styleIndex, CellType.ERROR, valueString, 0.0);
+                default:
+                    throw new IllegalStateException("The cell type (" + cellTypeCode + ") in row (" + (rowNum + 1)
+                            + ") is not supported.");
+            }
+        }
+
+        /**
+         * @param cellReference never null, for example "AB12"
+         * @return 0-based
+         */
+        private static int parseColumnIndex(String cellReference) {
+            int columnNumber = 0;
+            for (int i = 0; i < cellReference.length(); i++) {
+                char c = cellReference.charAt(i);
+                if (c < 'A' || c > 'Z') {
+                    break;
+                }
+                columnNumber = columnNumber * 26 + (c - 'A' + 1);
+            }
+            return columnNumber - 1;
+        }
+
+    }
+
+}
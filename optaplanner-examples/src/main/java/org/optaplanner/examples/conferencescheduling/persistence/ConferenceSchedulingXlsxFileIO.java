@@ -67,12 +67,8 @@ import static org.optaplanner.examples.conferencescheduling.domain.ConferenceCon
 import static org.optaplanner.examples.conferencescheduling.domain.ConferenceConstraintConfiguration.THEME_TRACK_CONFLICT;
 import static org.optaplanner.examples.conferencescheduling.domain.ConferenceConstraintConfiguration.THEME_TRACK_ROOM_STABILITY;
 
-import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -97,13 +93,15 @@ import org.apache.poi.ss.usermodel.ClientAnchor;
 import org.apache.poi.ss.usermodel.Comment;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFCell;
+import org.apache.poi.xssf.streaming.SXSSFCell;
 import org.apache.poi.xssf.usermodel.XSSFCellStyle;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.optaplanner.core.api.score.buildin.hardmediumsoft.HardMediumSoftScore;
 import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.examples.common.persistence.AbstractXlsxSolutionFileIO;
+import org.optaplanner.examples.common.persistence.ReadOnlyXlsxWorkbook;
+import org.optaplanner.examples.common.persistence.ReadOnlyXlsxWorkbook.ReadOnlyXlsxCell;
 import org.optaplanner.examples.common.util.Pair;
 import org.optaplanner.examples.conferencescheduling.app.ConferenceSchedulingApp;
 import org.optaplanner.examples.conferencescheduling.domain.ConferenceConstraintConfiguration;
@@ -211,9 +209,9 @@ public class ConferenceSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<C
 
     @Override
     public ConferenceSolution read(File inputSolutionFile) {
-        try (InputStream in = new BufferedInputStream(new FileInputStream(inputSolutionFile))) {
-            XSSFWorkbook workbook = new XSSFWorkbook(in);
-            return new ConferenceSchedulingXlsxReader(workbook).read();
+        try {
+            return readWorkbook(inputSolutionFile, ConferenceSchedulingApp.SOLVER_CONFIG,
+                    (workbook, solverFactory) -> new ConferenceSchedulingXlsxReader(workbook, solverFactory).read());
         } catch (IOException | RuntimeException e) {
             throw new IllegalStateException("Failed reading inputSolutionFile ("
                     + inputSolutionFile + ").", e);
@@ -227,8 +225,8 @@ public class ConferenceSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<C
         private Set<String> totalRoomTagSet;
         private Map<String, Talk> totalTalkCodeMap;
 
-        public ConferenceSchedulingXlsxReader(XSSFWorkbook workbook) {
-            super(workbook, ConferenceSchedulingApp.SOLVER_CONFIG);
+        public ConferenceSchedulingXlsxReader(ReadOnlyXlsxWorkbook workbook, SolverFactory<ConferenceSolution> solverFactory) {
+            super(workbook, solverFactory);
         }
 
         @Override
@@ -475,7 +473,7 @@ public class ConferenceSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<C
                 totalRoomTagSet.addAll(room.getTagSet());
                 Set<Timeslot> unavailableTimeslotSet = new LinkedHashSet<>();
                 for (Timeslot timeslot : solution.getTimeslotList()) {
-                    XSSFCell cell = nextStringCell();
+                    ReadOnlyXlsxCell cell = nextStringCell();
                     if (Objects.equals(extractColor(cell, UNAVAILABLE_COLOR), UNAVAILABLE_COLOR)) {
                         unavailableTimeslotSet.add(timeslot);
                     }
@@ -551,7 +549,7 @@ public class ConferenceSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<C
                 verifyRoomTags(speaker.getUndesiredRoomTagSet());
                 Set<Timeslot> unavailableTimeslotSet = new LinkedHashSet<>();
                 for (Timeslot timeslot : solution.getTimeslotList()) {
-                    XSSFCell cell = nextStringCell();
+                    ReadOnlyXlsxCell cell = nextStringCell();
                     if (Objects.equals(extractColor(cell, UNAVAILABLE_COLOR), UNAVAILABLE_COLOR)) {
                         unavailableTimeslotSet.add(timeslot);
                     }
@@ -845,9 +843,9 @@ public class ConferenceSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<C
 
     @Override
     public void write(ConferenceSolution solution, File outputSolutionFile) {
-        try (FileOutputStream out = new FileOutputStream(outputSolutionFile)) {
-            Workbook workbook = new ConferenceSchedulingXlsxWriter(solution).write();
-            workbook.write(out);
+        try {
+            SolverFactory<ConferenceSolution> solverFactory = getSolverFactory(ConferenceSchedulingApp.SOLVER_CONFIG);
+            writeWorkbook(new ConferenceSchedulingXlsxWriter(solution, solverFactory).write(), outputSolutionFile);
         } catch (IOException | RuntimeException e) {
             throw new IllegalStateException("Failed writing outputSolutionFile ("
                     + outputSolutionFile + ") for solution (" + solution + ").", e);
@@ -858,8 +856,8 @@ public class ConferenceSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<C
 
         private Map<String, XSSFCellStyle> themeTrackToStyleMap;
 
-        public ConferenceSchedulingXlsxWriter(ConferenceSolution solution) {
-            super(solution, ConferenceSchedulingApp.SOLVER_CONFIG);
+        public ConferenceSchedulingXlsxWriter(ConferenceSolution solution, SolverFactory<ConferenceSolution> solverFactory) {
+            super(solution, solverFactory);
         }
 
         @Override
@@ -1521,7 +1519,8 @@ public class ConferenceSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<C
         }
 
         private void writeDaySheet(LocalDate day, List<Timeslot> timeslotList, List<Talk> talkList) {
-            nextSheet(DAY_FORMATTER.format(day), 1, 1, true);
+            // Keeps all rows, because every room column revisits all rows
+            nextSheet(DAY_FORMATTER.format(day), 1, 1, true, true);
             nextRow();
             nextHeaderCell(DAY_FORMATTER.format(day));
             writeTimeslotHoursVertically(timeslotList);
@@ -1661,7 +1660,7 @@ public class ConferenceSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<C
                     .filter(indictmentScore -> !(indictmentScore.getHardScore() >= 0 && indictmentScore.getMediumScore() >= 0
                             && indictmentScore.getSoftScore() >= 0))
                     .reduce(HardMediumSoftScore::add).orElse(HardMediumSoftScore.ZERO);
-            XSSFCell cell;
+            SXSSFCell cell;
             if (isPrintedView) {
                 cell = nextCellVertically(talkList.isEmpty() || talkList.get(0).getThemeTrackTagSet().isEmpty() ? wrappedStyle
                         : themeTrackToStyleMap.get(talkList.get(0).getThemeTrackTagSet().iterator().next()));
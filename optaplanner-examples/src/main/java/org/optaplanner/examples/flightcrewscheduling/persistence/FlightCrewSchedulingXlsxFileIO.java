@@ -25,12 +25,8 @@ import static org.optaplanner.examples.flightcrewscheduling.domain.FlightCrewPar
 import static org.optaplanner.examples.flightcrewscheduling.domain.FlightCrewParametrization.REQUIRED_SKILL;
 import static org.optaplanner.examples.flightcrewscheduling.domain.FlightCrewParametrization.TRANSFER_BETWEEN_TWO_FLIGHTS;
 
-import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -49,10 +45,11 @@ import java.util.TreeSet;
 
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFCell;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
+import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.examples.common.persistence.AbstractXlsxSolutionFileIO;
+import org.optaplanner.examples.common.persistence.ReadOnlyXlsxWorkbook;
+import org.optaplanner.examples.common.persistence.ReadOnlyXlsxWorkbook.ReadOnlyXlsxCell;
 import org.optaplanner.examples.flightcrewscheduling.app.FlightCrewSchedulingApp;
 import org.optaplanner.examples.flightcrewscheduling.domain.Airport;
 import org.optaplanner.examples.flightcrewscheduling.domain.Employee;
@@ -68,9 +65,9 @@ public class FlightCrewSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<F
 
     @Override
     public FlightCrewSolution read(File inputSolutionFile) {
-        try (InputStream in = new BufferedInputStream(new FileInputStream(inputSolutionFile))) {
-            XSSFWorkbook workbook = new XSSFWorkbook(in);
-            return new FlightCrewSchedulingXlsxReader(workbook).read();
+        try {
+            return readWorkbook(inputSolutionFile, FlightCrewSchedulingApp.SOLVER_CONFIG,
+                    (workbook, solverFactory) -> new FlightCrewSchedulingXlsxReader(workbook, solverFactory).read());
         } catch (IOException | RuntimeException e) {
             throw new IllegalStateException("Failed reading inputSolutionFile ("
                     + inputSolutionFile + ").", e);
@@ -79,9 +76,9 @@ public class FlightCrewSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<F
 
     @Override
     public void write(FlightCrewSolution solution, File outputSolutionFile) {
-        try (FileOutputStream out = new FileOutputStream(outputSolutionFile)) {
-            Workbook workbook = new FlightCrewSchedulingXlsxWriter(solution).write();
-            workbook.write(out);
+        try {
+            SolverFactory<FlightCrewSolution> solverFactory = getSolverFactory(FlightCrewSchedulingApp.SOLVER_CONFIG);
+            writeWorkbook(new FlightCrewSchedulingXlsxWriter(solution, solverFactory).write(), outputSolutionFile);
         } catch (IOException | RuntimeException e) {
             throw new IllegalStateException("Failed writing outputSolutionFile ("
                     + outputSolutionFile + ") for solution (" + solution + ").", e);
@@ -94,8 +91,8 @@ public class FlightCrewSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<F
         private Map<String, Employee> nameToEmployeeMap;
         private Map<String, Airport> airportMap;
 
-        public FlightCrewSchedulingXlsxReader(XSSFWorkbook workbook) {
-            super(workbook, FlightCrewSchedulingApp.SOLVER_CONFIG);
+        public FlightCrewSchedulingXlsxReader(ReadOnlyXlsxWorkbook workbook, SolverFactory<FlightCrewSolution> solverFactory) {
+            super(workbook, solverFactory);
         }
 
         @Override
@@ -195,7 +192,7 @@ public class FlightCrewSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<F
                 nextRow();
                 readHeaderCell(a.getCode());
                 for (Airport b : airportList) {
-                    XSSFCell taxiTimeCell = nextNumericCellOrBlank();
+                    ReadOnlyXlsxCell taxiTimeCell = nextNumericCellOrBlank();
                     if (taxiTimeCell != null) {
                         a.getTaxiTimeInMinutesMap().put(b, (long) taxiTimeCell.getNumericCellValue());
                     }
@@ -255,7 +252,7 @@ public class FlightCrewSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<F
                 employee.setSkillSet(skillSet);
                 Set<LocalDate> unavailableDaySet = new LinkedHashSet<>();
                 for (LocalDate date = firstDate; date.compareTo(lastDate) <= 0; date = date.plusDays(1)) {
-                    XSSFCell cell = nextStringCell();
+                    ReadOnlyXlsxCell cell = nextStringCell();
                     if (Objects.equals(extractColor(cell, UNAVAILABLE_COLOR), UNAVAILABLE_COLOR)) {
                         unavailableDaySet.add(date);
                     }
@@ -356,8 +353,8 @@ public class FlightCrewSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<F
                 .thenComparing(a -> a.getFlight().getArrivalUTCDateTime())
                 .thenComparingLong(FlightAssignment::getId);
 
-        public FlightCrewSchedulingXlsxWriter(FlightCrewSolution solution) {
-            super(solution, FlightCrewSchedulingApp.SOLVER_CONFIG);
+        public FlightCrewSchedulingXlsxWriter(FlightCrewSolution solution, SolverFactory<FlightCrewSolution> solverFactory) {
+            super(solution, solverFactory);
         }
 
         @Override
@@ -33,12 +33,8 @@ import static org.optaplanner.examples.meetingscheduling.domain.MeetingConstrain
 import static org.optaplanner.examples.meetingscheduling.domain.MeetingConstraintConfiguration.ROOM_STABILITY;
 import static org.optaplanner.examples.meetingscheduling.domain.MeetingConstraintConfiguration.START_AND_END_ON_SAME_DAY;
 
-import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -60,12 +56,13 @@ import org.apache.poi.ss.usermodel.ClientAnchor;
 import org.apache.poi.ss.usermodel.Comment;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFCell;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFCell;
 import org.optaplanner.core.api.score.buildin.hardmediumsoft.HardMediumSoftScore;
 import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.examples.common.persistence.AbstractXlsxSolutionFileIO;
+import org.optaplanner.examples.common.persistence.ReadOnlyXlsxWorkbook;
 import org.optaplanner.examples.meetingscheduling.app.MeetingSchedulingApp;
 import org.optaplanner.examples.meetingscheduling.domain.Attendance;
 import org.optaplanner.examples.meetingscheduling.domain.Day;
@@ -83,9 +80,9 @@ public class MeetingSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<Meet
 
     @Override
     public MeetingSchedule read(File inputScheduleFile) {
-        try (InputStream in = new BufferedInputStream(new FileInputStream(inputScheduleFile))) {
-            XSSFWorkbook workbook = new XSSFWorkbook(in);
-            return new MeetingSchedulingXlsxReader(workbook).read();
+        try {
+            return readWorkbook(inputScheduleFile, MeetingSchedulingApp.SOLVER_CONFIG,
+                    (workbook, solverFactory) -> new MeetingSchedulingXlsxReader(workbook, solverFactory).read());
         } catch (IOException | RuntimeException e) {
             throw new IllegalStateException("Failed reading inputScheduleFile ("
                     + inputScheduleFile + ").", e);
@@ -94,8 +91,8 @@ public class MeetingSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<Meet
 
     private static class MeetingSchedulingXlsxReader extends AbstractXlsxReader<MeetingSchedule, HardMediumSoftScore> {
 
-        MeetingSchedulingXlsxReader(XSSFWorkbook workbook) {
-            super(workbook, MeetingSchedulingApp.SOLVER_CONFIG);
+        MeetingSchedulingXlsxReader(ReadOnlyXlsxWorkbook workbook, SolverFactory<MeetingSchedule> solverFactory) {
+            super(workbook, solverFactory);
         }
 
         @Override
@@ -490,9 +487,9 @@ public class MeetingSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<Meet
 
     @Override
     public void write(MeetingSchedule solution, File outputScheduleFile) {
-        try (FileOutputStream out = new FileOutputStream(outputScheduleFile)) {
-            Workbook workbook = new MeetingSchedulingXlsxWriter(solution).write();
-            workbook.write(out);
+        try {
+            SolverFactory<MeetingSchedule> solverFactory = getSolverFactory(MeetingSchedulingApp.SOLVER_CONFIG);
+            writeWorkbook(new MeetingSchedulingXlsxWriter(solution, solverFactory).write(), outputScheduleFile);
         } catch (IOException | RuntimeException e) {
             throw new IllegalStateException("Failed writing outputScheduleFile (" + outputScheduleFile
                     + ") for schedule (" + solution + ").", e);
@@ -502,15 +499,13 @@ public class MeetingSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<Meet
     private static final class MeetingSchedulingXlsxWriter
             extends AbstractXlsxWriter<MeetingSchedule, HardMediumSoftScore> {
 
-        MeetingSchedulingXlsxWriter(MeetingSchedule solution) {
-            super(solution, MeetingSchedulingApp.SOLVER_CONFIG);
+        MeetingSchedulingXlsxWriter(MeetingSchedule solution, SolverFactory<MeetingSchedule> solverFactory) {
+            super(solution, solverFactory);
         }
 
         @Override
         public Workbook write() {
-            workbook = new XSSFWorkbook();
-            creationHelper = workbook.getCreationHelper();
-            createStyles();
+            writeSetup();
             writeConfiguration();
             writeDays();
             writeRooms();
@@ -741,7 +736,8 @@ public class MeetingSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<Meet
         }
 
         private void writePrintedFormView() {
-            nextSheet("Printed form view", 1, 1, true);
+            // Keeps all rows, because every room column revisits all rows
+            nextSheet("Printed form view", 1, 1, true, true);
             nextRow();
             nextHeaderCell("");
             writeTimeGrainsHoursVertically(30);
@@ -936,7 +932,7 @@ public class MeetingSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<Meet
                     .filter(indictmentScore -> !(indictmentScore.getHardScore() >= 0 && indictmentScore.getSoftScore() >= 0))
                     .reduce(HardMediumSoftScore::add).orElse(HardMediumSoftScore.ZERO);
 
-            XSSFCell cell = getXSSFCellOfScore(score);
+            SXSSFCell cell = getXSSFCellOfScore(score);
 
             if (!meetingAssignmentList.isEmpty()) {
                 ClientAnchor anchor = creationHelper.createClientAnchor();
@@ -996,8 +992,8 @@ public class MeetingSchedulingXlsxFileIO extends AbstractXlsxSolutionFileIO<Meet
             return commentString.toString();
         }
 
-        private XSSFCell getXSSFCellOfScore(HardMediumSoftScore score) {
-            XSSFCell cell;
+        private SXSSFCell getXSSFCellOfScore(HardMediumSoftScore score) {
+            SXSSFCell cell;
             if (!score.isFeasible()) {
                 cell = nextCell(hardPenaltyStyle);
             } else if (score.getMediumScore() < 0) {
@@ -32,12 +32,8 @@ import static org.optaplanner.examples.rocktour.domain.RockTourConstraintConfigu
 import static org.optaplanner.examples.rocktour.domain.RockTourConstraintConfiguration.SHORTEN_DRIVING_TIME_PER_MILLISECOND_SQUARED;
 import static org.optaplanner.examples.rocktour.domain.RockTourConstraintConfiguration.UNASSIGNED_SHOW;
 
-import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
@@ -55,10 +51,11 @@ import java.util.stream.Stream;
 
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFCell;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.optaplanner.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
+import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.examples.common.persistence.AbstractXlsxSolutionFileIO;
+import org.optaplanner.examples.common.persistence.ReadOnlyXlsxWorkbook;
+import org.optaplanner.examples.common.persistence.ReadOnlyXlsxWorkbook.ReadOnlyXlsxCell;
 import org.optaplanner.examples.common.util.Pair;
 import org.optaplanner.examples.rocktour.app.RockTourApp;
 import org.optaplanner.examples.rocktour.domain.RockBus;
@@ -71,9 +68,9 @@ public class RockTourXlsxFileIO extends AbstractXlsxSolutionFileIO<RockTourSolut
 
     @Override
     public RockTourSolution read(File inputSolutionFile) {
-        try (InputStream in = new BufferedInputStream(new FileInputStream(inputSolutionFile))) {
-            XSSFWorkbook workbook = new XSSFWorkbook(in);
-            return new RockTourXlsxReader(workbook).read();
+        try {
+            return readWorkbook(inputSolutionFile, RockTourApp.SOLVER_CONFIG,
+                    (workbook, solverFactory) -> new RockTourXlsxReader(workbook, solverFactory).read());
         } catch (IOException | RuntimeException e) {
             throw new IllegalStateException("Failed reading inputSolutionFile ("
                     + inputSolutionFile + ").", e);
@@ -82,8 +79,8 @@ public class RockTourXlsxFileIO extends AbstractXlsxSolutionFileIO<RockTourSolut
 
     private static class RockTourXlsxReader extends AbstractXlsxReader<RockTourSolution, HardMediumSoftLongScore> {
 
-        public RockTourXlsxReader(XSSFWorkbook workbook) {
-            super(workbook, RockTourApp.SOLVER_CONFIG);
+        public RockTourXlsxReader(ReadOnlyXlsxWorkbook workbook, SolverFactory<RockTourSolution> solverFactory) {
+            super(workbook, solverFactory);
         }
 
         @Override
@@ -236,7 +233,7 @@ public class RockTourXlsxFileIO extends AbstractXlsxSolutionFileIO<RockTourSolut
                 show.setRequired(nextBooleanCell().getBooleanCellValue());
                 NavigableSet<LocalDate> availableDateSet = new TreeSet<>();
                 for (LocalDate date = startDate; date.compareTo(endDate) < 0; date = date.plusDays(1)) {
-                    XSSFCell cell = nextStringCell();
+                    ReadOnlyXlsxCell cell = nextStringCell();
                     if (!Objects.equals(extractColor(cell, UNAVAILABLE_COLOR), UNAVAILABLE_COLOR)) {
                         availableDateSet.add(date);
                     }
@@ -325,9 +322,9 @@ public class RockTourXlsxFileIO extends AbstractXlsxSolutionFileIO<RockTourSolut
 
     @Override
     public void write(RockTourSolution solution, File outputSolutionFile) {
-        try (FileOutputStream out = new FileOutputStream(outputSolutionFile)) {
-            Workbook workbook = new RockTourXlsxWriter(solution).write();
-            workbook.write(out);
+        try {
+            SolverFactory<RockTourSolution> solverFactory = getSolverFactory(RockTourApp.SOLVER_CONFIG);
+            writeWorkbook(new RockTourXlsxWriter(solution, solverFactory).write(), outputSolutionFile);
         } catch (IOException | RuntimeException e) {
             throw new IllegalStateException("Failed writing outputSolutionFile ("
                     + outputSolutionFile + ") for solution (" + solution + ").", e);
@@ -336,8 +333,8 @@ public class RockTourXlsxFileIO extends AbstractXlsxSolutionFileIO<RockTourSolut
 
     private static class RockTourXlsxWriter extends AbstractXlsxWriter<RockTourSolution, HardMediumSoftLongScore> {
 
-        public RockTourXlsxWriter(RockTourSolution solution) {
-            super(solution, RockTourApp.SOLVER_CONFIG);
+        public RockTourXlsxWriter(RockTourSolution solution, SolverFactory<RockTourSolution> solverFactory) {
+            super(solution, solverFactory);
         }
 
         @Override
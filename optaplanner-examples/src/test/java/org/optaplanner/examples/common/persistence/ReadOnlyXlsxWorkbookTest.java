@@ -0,0 +1,61 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.examples.common.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.examples.common.persistence.ReadOnlyXlsxWorkbook.ReadOnlyXlsxRow;
+import org.optaplanner.examples.common.persistence.ReadOnlyXlsxWorkbook.ReadOnlyXlsxSheet;
+
+public class ReadOnlyXlsxWorkbookTest {
+
+    @Test
+    public void read() throws IOException {
+        ReadOnlyXlsxWorkbook workbook = ReadOnlyXlsxWorkbook.read(new File("data/rocktour/unsolved/47shows.xlsx"));
+        assertThat(workbook.getNumberOfSheets()).isEqualTo(6);
+        assertThat(workbook.getSheetName(0)).isEqualTo("Configuration");
+        assertThat(workbook.getSheetIndex("Shows")).isEqualTo(2);
+        assertThat(workbook.getSheetIndex("Missing")).isEqualTo(-1);
+        assertThat(workbook.getSheet("Missing")).isNull();
+
+        ReadOnlyXlsxSheet busSheet = workbook.getSheet("Bus");
+        assertThat(busSheet.getLastRowNum()).isEqualTo(2);
+        Iterator<ReadOnlyXlsxRow> rowIterator = busSheet.rowIterator();
+        rowIterator.next();
+        ReadOnlyXlsxRow row = rowIterator.next();
+        assertThat(row.getRowNum()).isEqualTo(1);
+        assertThat(row.getCell(0).getStringCellValue()).isEqualTo("Bus start");
+        assertThat(row.getCell(1).getStringCellValue()).isEqualTo("Montgomery, Alabama");
+        assertThat(row.getCell(2).getCellType()).isEqualTo(CellType.NUMERIC);
+        assertThat(row.getCell(2).getNumericCellValue()).isEqualTo(32.377716);
+        assertThatIllegalStateException().isThrownBy(() -> row.getCell(2).getStringCellValue());
+        // Excel and LibreOffice remove empty trailing cells
+        assertThat(row.getCell(100)).isNull();
+        assertThat(row.getCellOrBlank(100).getCellType()).isEqualTo(CellType.BLANK);
+        assertThat(row.getCellOrBlank(100).getStringCellValue()).isEmpty();
+        assertThat(workbook.getCellStyle(row.getCell(0))).isNotNull();
+    }
+
+}
@@ -19,11 +19,8 @@ package org.optaplanner.examples.conferencescheduling.optional.score;
 import static org.optaplanner.examples.common.persistence.AbstractXlsxSolutionFileIO.DAY_FORMATTER;
 import static org.optaplanner.examples.common.persistence.AbstractXlsxSolutionFileIO.TIME_FORMATTER;
 
-import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -37,8 +34,6 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
-import org.apache.poi.xssf.usermodel.XSSFCell;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.optaplanner.core.api.domain.constraintweight.ConstraintWeight;
@@ -49,6 +44,8 @@ import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.impl.domain.constraintweight.descriptor.ConstraintWeightDescriptor;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.examples.common.persistence.AbstractXlsxSolutionFileIO;
+import org.optaplanner.examples.common.persistence.ReadOnlyXlsxWorkbook;
+import org.optaplanner.examples.common.persistence.ReadOnlyXlsxWorkbook.ReadOnlyXlsxCell;
 import org.optaplanner.examples.common.util.Pair;
 import org.optaplanner.examples.conferencescheduling.app.ConferenceSchedulingApp;
 import org.optaplanner.examples.conferencescheduling.domain.ConferenceSolution;
@@ -62,8 +59,8 @@ public class ConferenceSchedulingConstraintsXlsxTest {
 
     public static Collection<Object[]> testSheetParameters() {
         File testFile = new File(ConferenceSchedulingConstraintsXlsxTest.class.getResource(testFileName).getFile());
-        try (InputStream in = new BufferedInputStream(new FileInputStream(testFile))) {
-            XSSFWorkbook workbook = new XSSFWorkbook(in);
+        try {
+            ReadOnlyXlsxWorkbook workbook = ReadOnlyXlsxWorkbook.read(testFile);
             ConferenceSolution initialSolution = new ConferenceSchedulingXlsxFileIO(false).read(testFile);
             TestConferenceSchedulingConstraintsReader reader = new TestConferenceSchedulingConstraintsReader(workbook,
                     initialSolution);
@@ -115,8 +112,9 @@ public class ConferenceSchedulingConstraintsXlsxTest {
         private Map<Integer, LocalTime> columnIndexToStartTimeMap;
         private Map<Integer, LocalTime> columnIndexToEndTimeMap;
 
-        private TestConferenceSchedulingConstraintsReader(XSSFWorkbook workbook, ConferenceSolution initialSolution) {
-            super(workbook, ConferenceSchedulingApp.SOLVER_CONFIG);
+        private TestConferenceSchedulingConstraintsReader(ReadOnlyXlsxWorkbook workbook,
+                ConferenceSolution initialSolution) {
+            super(workbook, SolverFactory.createFromXmlResource(ConferenceSchedulingApp.SOLVER_CONFIG));
             this.numberOfSheets = workbook.getNumberOfSheets();
             this.currentTestSheetIndex = workbook.getSheetIndex("Talks") + 1;
             this.initialSolution = initialSolution;
@@ -237,7 +235,7 @@ public class ConferenceSchedulingConstraintsXlsxTest {
             columnIndexToDateMap.clear();
             String previousDateString = null;
             for (int i = 0; i < currentRow.getLastCellNum(); i++) {
-                XSSFCell cell = currentRow.getCell(i);
+                ReadOnlyXlsxCell cell = currentRow.getCell(i);
                 if (!cell.getStringCellValue().isEmpty() || previousDateString != null) {
                     if (!cell.getStringCellValue().isEmpty()) {
                         previousDateString = cell.getStringCellValue();
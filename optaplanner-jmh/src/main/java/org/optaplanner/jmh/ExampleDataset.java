@@ -0,0 +1,105 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.jmh;
+
+import java.io.File;
+
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicType;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.examples.cloudbalancing.app.CloudBalancingApp;
+import org.optaplanner.examples.cloudbalancing.domain.CloudProcess;
+import org.optaplanner.examples.cloudbalancing.persistence.CloudBalancingGenerator;
+import org.optaplanner.examples.common.app.CommonApp;
+import org.optaplanner.examples.nurserostering.app.NurseRosteringApp;
+import org.optaplanner.examples.nurserostering.domain.ShiftAssignment;
+import org.optaplanner.examples.nurserostering.persistence.NurseRosterXmlSolutionFileIO;
+import org.optaplanner.examples.vehiclerouting.app.VehicleRoutingApp;
+import org.optaplanner.examples.vehiclerouting.domain.Customer;
+import org.optaplanner.examples.vehiclerouting.persistence.VehicleRoutingXmlSolutionFileIO;
+
+/**
+ * The example datasets the microbenchmarks run on.
+ * The datasets of nurse rostering and vehicle routing are read from the examples data directory,
+ * see {@link CommonApp#DATA_DIR_SYSTEM_PROPERTY}.
+ */
+public enum ExampleDataset {
+    CLOUD_BALANCING(CloudBalancingApp.SOLVER_CONFIG, CloudProcess.class) {
+        @Override
+        public Object loadSolution() {
+            return new CloudBalancingGenerator(true).createCloudBalance(400, 1200);
+        }
+    },
+    NURSE_ROSTERING(NurseRosteringApp.SOLVER_CONFIG, ShiftAssignment.class) {
+        @Override
+        public Object loadSolution() {
+            return new NurseRosterXmlSolutionFileIO().read(new File(
+                    CommonApp.determineDataDir(NurseRosteringApp.DATA_DIR_NAME), "unsolved/medium01.xml"));
+        }
+    },
+    VEHICLE_ROUTING(VehicleRoutingApp.SOLVER_CONFIG, Customer.class) {
+        @Override
+        public Object loadSolution() {
+            return new VehicleRoutingXmlSolutionFileIO().read(new File(
+                    CommonApp.determineDataDir(VehicleRoutingApp.DATA_DIR_NAME), "unsolved/cvrptw-400customers.xml"));
+        }
+    };
+
+    private final String solverConfigResource;
+    private final Class<?> movedEntityClass;
+
+    ExampleDataset(String solverConfigResource, Class<?> movedEntityClass) {
+        this.solverConfigResource = solverConfigResource;
+        this.movedEntityClass = movedEntityClass;
+    }
+
+    /**
+     * @return never null, a new instance every time, so it can be modified
+     */
+    public SolverConfig buildSolverConfig() {
+        return SolverConfig.createFromXmlResource(solverConfigResource);
+    }
+
+    /**
+     * @return never null, the planning entity class that the move selectors move
+     */
+    public Class<?> getMovedEntityClass() {
+        return movedEntityClass;
+    }
+
+    /**
+     * @return never null, uninitialized
+     */
+    public abstract Object loadSolution();
+
+    /**
+     * Initializes the solution with a fast construction heuristic,
+     * so the moves of the microbenchmarks change an initialized solution, like in local search.
+     *
+     * @return never null, initialized
+     */
+    public Object loadInitializedSolution() {
+        SolverConfig solverConfig = buildSolverConfig()
+                .withTerminationConfig(new TerminationConfig())
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(ConstructionHeuristicType.FIRST_FIT));
+        return SolverFactory.<Object> create(solverConfig).buildSolver().solve(loadSolution());
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.jmh;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.optaplanner.examples.common.app.CommonApp;
+
+/**
+ * Runs the JMH microbenchmarks, accepting the usual JMH command line options.
+ * <p>
+ * Unlike the default JMH main class, the results are written as JSON to {@value #DEFAULT_RESULT_FILE},
+ * so 2 runs can be compared, for example with {@code https://jmh.morethan.io}.
+ * The examples data directory is passed on to the forked JVMs.
+ * It defaults to the one of the git clone that contains this module, regardless of the working directory,
+ * unless the system property {@value CommonApp#DATA_DIR_SYSTEM_PROPERTY} is set.
+ */
+public class OptaPlannerJmhMain {
+
+    public static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+    /**
+     * Relative to the directory of this module.
+     */
+    private static final String MODULE_RELATIVE_DATA_DIR = "../optaplanner-examples/data/";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        String dataDir = determineDataDir();
+        Options options = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .resultFormat(commandLineOptions.getResultFormat().orElse(ResultFormatType.JSON))
+                .result(commandLineOptions.getResult().orElse(DEFAULT_RESULT_FILE))
+                .jvmArgsAppend("-D" + CommonApp.DATA_DIR_SYSTEM_PROPERTY + "=" + dataDir)
+                .build();
+        new Runner(options).run();
+    }
+
+    private static String determineDataDir() {
+        String dataDirProperty = System.getProperty(CommonApp.DATA_DIR_SYSTEM_PROPERTY);
+        if (dataDirProperty != null) {
+            return new File(dataDirProperty).getAbsolutePath();
+        }
+        File dataDir = determineModuleDir().resolve(MODULE_RELATIVE_DATA_DIR).normalize().toFile();
+        if (!dataDir.exists()) {
+            throw new IllegalStateException("The examples data directory (" + dataDir.getAbsolutePath()
+                    + ") does not exist.\n"
+                    + "Maybe the benchmarks jar was moved out of the optaplanner-jmh/target directory.\n"
+                    + "Set the system property " + CommonApp.DATA_DIR_SYSTEM_PROPERTY
+                    + " to the optaplanner-examples/data directory.");
+        }
+        return dataDir.getAbsolutePath();
+    }
+
+    /**
+     * @return never null, the optaplanner-jmh directory,
+     *         because the classes are in either optaplanner-jmh/target/benchmarks.jar or optaplanner-jmh/target/classes
+     */
+    private static Path determineModuleDir() {
+        Path classesLocation;
+        try {
+            classesLocation = Paths.get(OptaPlannerJmhMain.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Failed to determine the location of the class ("
+                    + OptaPlannerJmhMain.class.getName() + ").", e);
+        }
+        return classesLocation.toAbsolutePath().getParent().getParent();
+    }
+
+    private OptaPlannerJmhMain() {
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.jmh;
+
+import java.util.EnumSet;
+import java.util.Random;
+
+import org.optaplanner.core.api.solver.SolverFactory;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
+import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
+import org.optaplanner.core.config.localsearch.decider.acceptor.LocalSearchAcceptorConfig;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.monitoring.SolverMetric;
+import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelectorFactory;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.AcceptorFactory;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
+import org.optaplanner.core.impl.solver.DefaultSolverFactory;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * The score director and the solver, phase and step scopes of a local search phase,
+ * without the solver and the decider around them,
+ * so a microbenchmark can drive a single component, such as a move selector or an acceptor.
+ *
+ * @param <Solution_> the solution type, the class with the
+ *        {@link org.optaplanner.core.api.domain.solution.PlanningSolution} annotation
+ */
+public final class SolvingContext<Solution_> {
+
+    private final InnerScoreDirector<Solution_, ?> scoreDirector;
+    private final HeuristicConfigPolicy<Solution_> configPolicy;
+    private final SolverScope<Solution_> solverScope;
+    private final LocalSearchPhaseScope<Solution_> phaseScope;
+    private final LocalSearchStepScope<Solution_> stepScope;
+
+    /**
+     * @param solverConfig never null, only its domain and score director configuration are used
+     * @param solution never null, becomes the working solution
+     */
+    public SolvingContext(SolverConfig solverConfig, Solution_ solution) {
+        DefaultSolverFactory<Solution_> solverFactory =
+                (DefaultSolverFactory<Solution_>) SolverFactory.<Solution_> create(solverConfig);
+        InnerScoreDirectorFactory<Solution_, ?> scoreDirectorFactory = solverFactory.getScoreDirectorFactory();
+        scoreDirector = scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(solution);
+        configPolicy = new HeuristicConfigPolicy.Builder<>(EnvironmentMode.REPRODUCIBLE, null, null, null,
+                scoreDirectorFactory).build();
+        solverScope = new SolverScope<>();
+        solverScope.setMonitoringTags(Tags.empty());
+        solverScope.setSolverMetricSet(EnumSet.noneOf(SolverMetric.class));
+        solverScope.setScoreDirector(scoreDirector);
+        solverScope.setWorkingRandom(new Random(0L));
+        solverScope.setBestSolution(solution);
+        solverScope.setBestScore(scoreDirector.calculateScore());
+        phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        phaseScope.reset();
+        stepScope = new LocalSearchStepScope<>(phaseScope);
+    }
+
+    public InnerScoreDirector<Solution_, ?> getScoreDirector() {
+        return scoreDirector;
+    }
+
+    public LocalSearchPhaseScope<Solution_> getPhaseScope() {
+        return phaseScope;
+    }
+
+    public LocalSearchStepScope<Solution_> getStepScope() {
+        return stepScope;
+    }
+
+    /**
+     * @param moveSelectorConfig never null
+     * @return never null, started, selecting randomly
+     */
+    public MoveSelector<Solution_> buildMoveSelector(MoveSelectorConfig<?> moveSelectorConfig) {
+        MoveSelector<Solution_> moveSelector = MoveSelectorFactory.<Solution_> create(moveSelectorConfig)
+                .buildMoveSelector(configPolicy, SelectionCacheType.JUST_IN_TIME, SelectionOrder.RANDOM);
+        moveSelector.solvingStarted(solverScope);
+        moveSelector.phaseStarted(phaseScope);
+        moveSelector.stepStarted(stepScope);
+        return moveSelector;
+    }
+
+    /**
+     * @param acceptorConfig never null
+     * @return never null, started
+     */
+    public Acceptor<Solution_> buildAcceptor(LocalSearchAcceptorConfig acceptorConfig) {
+        Acceptor<Solution_> acceptor = AcceptorFactory.<Solution_> create(acceptorConfig).buildAcceptor(configPolicy);
+        acceptor.solvingStarted(solverScope);
+        acceptor.phaseStarted(phaseScope);
+        acceptor.stepStarted(stepScope);
+        return acceptor;
+    }
+
+    public void close() {
+        scoreDirector.close();
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.jmh.acceptor;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import org.optaplanner.core.config.localsearch.decider.acceptor.AcceptorType;
+import org.optaplanner.core.config.localsearch.decider.acceptor.LocalSearchAcceptorConfig;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.jmh.ExampleDataset;
+import org.optaplanner.jmh.SolvingContext;
+
+/**
+ * Measures the acceptors on the cloud balancing example,
+ * with pre-scored moves, so the score calculation isn't measured.
+ * Every benchmark invocation evaluates the moves of 1 step and then ends that step.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AcceptorBenchmark {
+
+    private static final int SCORED_MOVE_COUNT = 10_000;
+    private static final int MOVE_COUNT_PER_STEP = 100;
+
+    public enum BenchmarkedAcceptorType {
+        HILL_CLIMBING,
+        ENTITY_TABU,
+        SIMULATED_ANNEALING,
+        LATE_ACCEPTANCE
+    }
+
+    @Param
+    public BenchmarkedAcceptorType acceptorType;
+
+    private SolvingContext<Object> context;
+    private LocalSearchPhaseScope<Object> phaseScope;
+    private LocalSearchMoveScope<Object>[] moveScopes;
+    private Acceptor<Object> acceptor;
+    private int moveIndex;
+    private int stepIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ExampleDataset dataset = ExampleDataset.CLOUD_BALANCING;
+        context = new SolvingContext<>(dataset.buildSolverConfig(), dataset.loadInitializedSolution());
+        phaseScope = context.getPhaseScope();
+        ChangeMoveSelectorConfig moveSelectorConfig = new ChangeMoveSelectorConfig();
+        moveSelectorConfig.setEntitySelectorConfig(new EntitySelectorConfig(dataset.getMovedEntityClass()));
+        Iterator<Move<Object>> moveIterator = context.buildMoveSelector(moveSelectorConfig).iterator();
+        LocalSearchStepScope<Object> stepScope = context.getStepScope();
+        moveScopes = new LocalSearchMoveScope[SCORED_MOVE_COUNT];
+        for (int i = 0; i < SCORED_MOVE_COUNT; i++) {
+            Move<Object> move = moveIterator.next();
+            LocalSearchMoveScope<Object> moveScope = new LocalSearchMoveScope<>(stepScope, i, move);
+            moveScope.setScore(context.getScoreDirector().doAndProcessMove(move, false));
+            moveScopes[i] = moveScope;
+        }
+        acceptor = context.buildAcceptor(buildAcceptorConfig());
+        moveIndex = 0;
+        stepIndex = stepScope.getStepIndex() + 1;
+    }
+
+    private LocalSearchAcceptorConfig buildAcceptorConfig() {
+        switch (acceptorType) {
+            case HILL_CLIMBING:
+                return new LocalSearchAcceptorConfig()
+                        .withAcceptorTypeList(Collections.singletonList(AcceptorType.HILL_CLIMBING));
+            case ENTITY_TABU:
+                return new LocalSearchAcceptorConfig().withEntityTabuSize(7);
+            case SIMULATED_ANNEALING:
+                return new LocalSearchAcceptorConfig().withSimulatedAnnealingStartingTemperature("0hard/400soft");
+            case LATE_ACCEPTANCE:
+                return new LocalSearchAcceptorConfig().withLateAcceptanceSize(400);
+            default:
+                throw new IllegalStateException("The acceptorType (" + acceptorType + ") is not implemented.");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int acceptStep() {
+        int acceptedCount = 0;
+        LocalSearchMoveScope<Object> lastAcceptedMoveScope = null;
+        for (int i = 0; i < MOVE_COUNT_PER_STEP; i++) {
+            LocalSearchMoveScope<Object> moveScope = moveScopes[moveIndex];
+            moveIndex = (moveIndex + 1) % moveScopes.length;
+            if (acceptor.isAccepted(moveScope)) {
+                acceptedCount++;
+                lastAcceptedMoveScope = moveScope;
+            }
+        }
+        if (lastAcceptedMoveScope != null) {
+            // The step isn't done on the working solution, because only the acceptor state matters
+            LocalSearchStepScope<Object> stepScope = new LocalSearchStepScope<>(phaseScope, stepIndex++);
+            stepScope.setStep(lastAcceptedMoveScope.getMove());
+            stepScope.setScore(lastAcceptedMoveScope.getScore());
+            acceptor.stepEnded(stepScope);
+            acceptor.stepStarted(new LocalSearchStepScope<>(phaseScope, stepIndex));
+        }
+        return acceptedCount;
+    }
+
+}
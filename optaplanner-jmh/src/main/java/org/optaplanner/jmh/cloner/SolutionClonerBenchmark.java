@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.jmh.cloner;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.core.api.domain.common.DomainAccessType;
+import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.jmh.ExampleDataset;
+
+/**
+ * Compares the reflection based {@link org.optaplanner.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner}
+ * with the generated Gizmo solution cloner.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SolutionClonerBenchmark {
+
+    @Param
+    public ExampleDataset dataset;
+    @Param({ "REFLECTION", "GIZMO" })
+    public DomainAccessType domainAccessType;
+
+    private Object solution;
+    private SolutionCloner<Object> solutionCloner;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SolverConfig solverConfig = dataset.buildSolverConfig();
+        SolutionDescriptor<Object> solutionDescriptor = SolutionDescriptor.buildSolutionDescriptor(domainAccessType,
+                (Class<Object>) solverConfig.getSolutionClass(), null, null, solverConfig.getEntityClassList());
+        solutionCloner = solutionDescriptor.getSolutionCloner();
+        solution = dataset.loadInitializedSolution();
+    }
+
+    @Benchmark
+    public Object cloneSolution() {
+        return solutionCloner.cloneSolution(solution);
+    }
+
+}
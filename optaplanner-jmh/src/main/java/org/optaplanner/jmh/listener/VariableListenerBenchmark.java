@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.jmh.listener;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
+import org.optaplanner.core.api.score.calculator.EasyScoreCalculator;
+import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.examples.vehiclerouting.domain.VehicleRoutingSolution;
+import org.optaplanner.jmh.ExampleDataset;
+import org.optaplanner.jmh.SolvingContext;
+
+/**
+ * Measures triggering the variable listeners of the shadow variables of the vehicle routing example
+ * (the inverse, anchor and arrival time shadow variables), when doing and undoing a chained change move.
+ * The score calculator ignores the solution, so the score calculation isn't measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class VariableListenerBenchmark {
+
+    private SolvingContext<Object> context;
+    private InnerScoreDirector<Object, ?> scoreDirector;
+    private Iterator<Move<Object>> moveIterator;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ExampleDataset dataset = ExampleDataset.VEHICLE_ROUTING;
+        SolverConfig solverConfig = dataset.buildSolverConfig()
+                .withScoreDirectorFactory(new ScoreDirectorFactoryConfig()
+                        .withEasyScoreCalculatorClass(ZeroEasyScoreCalculator.class));
+        context = new SolvingContext<>(solverConfig, dataset.loadInitializedSolution());
+        scoreDirector = context.getScoreDirector();
+        ChangeMoveSelectorConfig moveSelectorConfig = new ChangeMoveSelectorConfig();
+        moveSelectorConfig.setEntitySelectorConfig(new EntitySelectorConfig(dataset.getMovedEntityClass()));
+        moveIterator = context.buildMoveSelector(moveSelectorConfig).iterator();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Move<Object> doAndUndoMove() {
+        Move<Object> move = moveIterator.next();
+        if (!move.isMoveDoable(scoreDirector)) {
+            return move;
+        }
+        Move<Object> undoMove = move.doMove(scoreDirector);
+        undoMove.doMoveOnly(scoreDirector);
+        scoreDirector.triggerVariableListeners();
+        return undoMove;
+    }
+
+    public static class ZeroEasyScoreCalculator
+            implements EasyScoreCalculator<VehicleRoutingSolution, HardSoftLongScore> {
+
+        @Override
+        public HardSoftLongScore calculateScore(VehicleRoutingSolution solution) {
+            return HardSoftLongScore.ZERO;
+        }
+
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.jmh.nearby;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistanceMatrix;
+import org.optaplanner.examples.vehiclerouting.domain.Customer;
+import org.optaplanner.examples.vehiclerouting.domain.Standstill;
+import org.optaplanner.examples.vehiclerouting.domain.VehicleRoutingSolution;
+import org.optaplanner.examples.vehiclerouting.domain.solver.nearby.CustomerNearbyDistanceMeter;
+import org.optaplanner.jmh.ExampleDataset;
+
+/**
+ * Measures building the complete {@link NearbyDistanceMatrix} of the vehicle routing example,
+ * from every customer to every vehicle and customer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class NearbyDistanceMatrixBenchmark {
+
+    private final CustomerNearbyDistanceMeter nearbyDistanceMeter = new CustomerNearbyDistanceMeter();
+    private List<Customer> originList;
+    private List<Standstill> destinationList;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        VehicleRoutingSolution solution = (VehicleRoutingSolution) ExampleDataset.VEHICLE_ROUTING.loadSolution();
+        originList = solution.getCustomerList();
+        destinationList = new ArrayList<>(solution.getVehicleList().size() + originList.size());
+        destinationList.addAll(solution.getVehicleList());
+        destinationList.addAll(originList);
+    }
+
+    @Benchmark
+    public NearbyDistanceMatrix<Customer, Standstill> buildMatrix() {
+        NearbyDistanceMatrix<Customer, Standstill> nearbyDistanceMatrix = new NearbyDistanceMatrix<>(
+                nearbyDistanceMeter, originList.size(),
+                origin -> destinationList.iterator(), origin -> destinationList.size());
+        for (Customer origin : originList) {
+            nearbyDistanceMatrix.addAllDestinations(origin);
+        }
+        return nearbyDistanceMatrix;
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.jmh.score;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
+import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.jmh.ExampleDataset;
+import org.optaplanner.jmh.SolvingContext;
+
+/**
+ * Measures a constraint streams score director on an initialized example dataset.
+ * Every {@link ConstraintStreamImplType} has its own subclass,
+ * because Bavet doesn't support every constraint stream building block yet,
+ * so it can only run on the datasets of which it can build the constraints.
+ *
+ * @see DroolsScoreDirectorBenchmark
+ * @see BavetScoreDirectorBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public abstract class AbstractScoreDirectorBenchmark {
+
+    private Object solution;
+    private List<Object> entityList;
+    private SolvingContext<Object> context;
+    private InnerScoreDirector<Object, ?> scoreDirector;
+    private Iterator<Move<Object>> moveIterator;
+    private int entityIndex;
+
+    /**
+     * @return never null
+     */
+    protected abstract ExampleDataset getDataset();
+
+    /**
+     * @return never null
+     */
+    protected abstract ConstraintStreamImplType getConstraintStreamImplType();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ExampleDataset dataset = getDataset();
+        SolverConfig solverConfig = dataset.buildSolverConfig();
+        solverConfig.getScoreDirectorFactoryConfig().setConstraintStreamImplType(getConstraintStreamImplType());
+        solution = dataset.loadInitializedSolution();
+        context = new SolvingContext<>(solverConfig, solution);
+        scoreDirector = context.getScoreDirector();
+        entityList = scoreDirector.getSolutionDescriptor()
+                .getEntityListByEntityClass(solution, dataset.getMovedEntityClass());
+        ChangeMoveSelectorConfig moveSelectorConfig = new ChangeMoveSelectorConfig();
+        moveSelectorConfig.setEntitySelectorConfig(new EntitySelectorConfig(dataset.getMovedEntityClass()));
+        moveIterator = context.buildMoveSelector(moveSelectorConfig).iterator();
+        entityIndex = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Inserts every fact and entity into a new session and calculates the score from scratch.
+     */
+    @Benchmark
+    public Score<?> insertAll() {
+        scoreDirector.setWorkingSolution(solution);
+        return scoreDirector.calculateScore();
+    }
+
+    /**
+     * Updates an entity with a random change move, calculates the score incrementally and undoes the move.
+     * A move that isn't doable is skipped, like local search does, because doing it can corrupt a chain.
+     * Moves are drawn until one is doable, so every invocation measures a real do and undo,
+     * and the doability checks are measured too, as local search pays for them as well.
+     */
+    @Benchmark
+    public Score<?> updateEntity() {
+        Move<Object> move = moveIterator.next();
+        while (!move.isMoveDoable(scoreDirector)) {
+            move = moveIterator.next();
+        }
+        return scoreDirector.doAndProcessMove(move, false);
+    }
+
+    /**
+     * Retracts an entity, calculates the score incrementally, and inserts it again.
+     */
+    @Benchmark
+    public Score<?> retractAndInsertEntity() {
+        Object entity = entityList.get(entityIndex);
+        entityIndex = (entityIndex + 1) % entityList.size();
+        scoreDirector.beforeEntityRemoved(entity);
+        scoreDirector.afterEntityRemoved(entity);
+        scoreDirector.calculateScore();
+        scoreDirector.beforeEntityAdded(entity);
+        scoreDirector.afterEntityAdded(entity);
+        return scoreDirector.calculateScore();
+    }
+
+}
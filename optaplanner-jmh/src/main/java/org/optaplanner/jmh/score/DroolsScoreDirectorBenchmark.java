@@ -0,0 +1,45 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.jmh.score;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
+import org.optaplanner.jmh.ExampleDataset;
+
+/**
+ * Measures the {@link ConstraintStreamImplType#DROOLS} score director.
+ * It runs on every dataset.
+ */
+@State(Scope.Benchmark)
+public class DroolsScoreDirectorBenchmark extends AbstractScoreDirectorBenchmark {
+
+    @Param
+    public ExampleDataset dataset;
+
+    @Override
+    protected ExampleDataset getDataset() {
+        return dataset;
+    }
+
+    @Override
+    protected ConstraintStreamImplType getConstraintStreamImplType() {
+        return ConstraintStreamImplType.DROOLS;
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.jmh.selector;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.optaplanner.core.config.heuristic.selector.entity.EntitySelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.jmh.ExampleDataset;
+import org.optaplanner.jmh.SolvingContext;
+
+/**
+ * Measures selecting random moves, without doing them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MoveSelectorBenchmark {
+
+    public enum MoveSelectorType {
+        CHANGE,
+        SWAP
+    }
+
+    @Param
+    public ExampleDataset dataset;
+    @Param
+    public MoveSelectorType moveSelectorType;
+
+    private SolvingContext<Object> context;
+    private Iterator<Move<Object>> moveIterator;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SolvingContext<>(dataset.buildSolverConfig(), dataset.loadInitializedSolution());
+        moveIterator = context.buildMoveSelector(buildMoveSelectorConfig()).iterator();
+    }
+
+    private MoveSelectorConfig<?> buildMoveSelectorConfig() {
+        EntitySelectorConfig entitySelectorConfig = new EntitySelectorConfig(dataset.getMovedEntityClass());
+        switch (moveSelectorType) {
+            case CHANGE:
+                ChangeMoveSelectorConfig changeMoveSelectorConfig = new ChangeMoveSelectorConfig();
+                changeMoveSelectorConfig.setEntitySelectorConfig(entitySelectorConfig);
+                return changeMoveSelectorConfig;
+            case SWAP:
+                SwapMoveSelectorConfig swapMoveSelectorConfig = new SwapMoveSelectorConfig();
+                swapMoveSelectorConfig.setEntitySelectorConfig(entitySelectorConfig);
+                return swapMoveSelectorConfig;
+            default:
+                throw new IllegalStateException("The moveSelectorType (" + moveSelectorType + ") is not implemented.");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Move<Object> selectMove() {
+        return moveIterator.next();
+    }
+
+}
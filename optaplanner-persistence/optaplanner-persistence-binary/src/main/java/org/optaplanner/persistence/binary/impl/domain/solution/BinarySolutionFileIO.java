@@ -0,0 +1,121 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.binary.impl.domain.solution;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.persistence.common.api.domain.solution.SolutionFileIO;
+
+/**
+ * Reads and writes a {@link PlanningSolution} in a compact, columnar binary format,
+ * which loads large datasets many times faster than an XML or JSON file
+ * and without the memory overhead of parsing text.
+ * <p>
+ * It writes every object that is reachable from the solution through its non-static, non-transient fields,
+ * so it needs no annotations or configuration.
+ * The instances of every class are written together, one field at a time,
+ * and every reference becomes an index in the object table, so shared and cyclic references are kept.
+ * A file is read through a memory-mapped {@link FileChannel}, so it is not copied into the heap first.
+ * <p>
+ * Strings, boxed primitives, enums, {@link java.math.BigDecimal}, {@link java.math.BigInteger},
+ * {@code java.time} values, {@link java.util.UUID}, {@link java.util.Locale},
+ * arrays, collections and maps are supported out of the box.
+ * Every other class needs a no-arg constructor (which can be private) and can't be a JDK class.
+ * A JDK collection or map without a public no-arg constructor (such as an unmodifiable list)
+ * is read as an {@link java.util.ArrayList}, {@link java.util.LinkedHashSet}, {@link java.util.TreeSet},
+ * {@link java.util.LinkedHashMap} or {@link java.util.TreeMap}.
+ * A sorted collection or map with a comparator is not supported, only the natural ordering of its elements.
+ * <p>
+ * A file is only meant to be read by the same version of the domain classes that wrote it:
+ * it fails fast if a field has been removed or changed its type.
+ * <p>
+ * Security warning: only use this class with files from a trusted source,
+ * because reading a file instantiates any class that the file names.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class BinarySolutionFileIO<Solution_> implements SolutionFileIO<Solution_> {
+
+    private final Class<Solution_> solutionClass;
+
+    /**
+     * @param solutionClass never null, also determines the {@link ClassLoader} to load the domain classes
+     */
+    public BinarySolutionFileIO(Class<Solution_> solutionClass) {
+        this.solutionClass = solutionClass;
+    }
+
+    @Override
+    public String getInputFileExtension() {
+        return "dat";
+    }
+
+    @Override
+    public Solution_ read(File inputSolutionFile) {
+        try (FileChannel channel = FileChannel.open(inputSolutionFile.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("The inputSolutionFile (" + inputSolutionFile + ") has a size ("
+                        + size + ") that is larger than a single memory mapped buffer supports.");
+            }
+            // The mapping remains valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+            return read(buffer);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Failed reading inputSolutionFile (" + inputSolutionFile + ").", e);
+        }
+    }
+
+    /**
+     * @param inputSolutionBuffer never null, its position is at the start of the file, it is not modified
+     * @return never null
+     */
+    public Solution_ read(ByteBuffer inputSolutionBuffer) {
+        Object solution;
+        try {
+            solution = new BinarySolutionReader(solutionClass.getClassLoader()).read(inputSolutionBuffer);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("The inputSolutionBuffer is truncated.", e);
+        }
+        if (!solutionClass.isInstance(solution)) {
+            throw new IllegalArgumentException("The read solution (" + solution + ") of class ("
+                    + solution.getClass() + ") is not an instance of the solutionClass (" + solutionClass + ").");
+        }
+        return solutionClass.cast(solution);
+    }
+
+    @Override
+    public void write(Solution_ solution, File outputSolutionFile) {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(outputSolutionFile.toPath())))) {
+            new BinarySolutionWriter().write(solution, out);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing outputSolutionFile (" + outputSolutionFile + ").", e);
+        }
+    }
+
+}
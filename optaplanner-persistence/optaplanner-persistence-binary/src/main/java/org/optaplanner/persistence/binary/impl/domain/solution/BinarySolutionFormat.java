@@ -0,0 +1,337 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.binary.impl.domain.solution;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * The constants and the class metadata shared by {@link BinarySolutionWriter} and {@link BinarySolutionReader}.
+ * <p>
+ * A file starts with a header (magic number, version, section count, object count and the root object id),
+ * followed by one section per class. Every section starts with the class name, its kind and its instance count.
+ * The instances of all sections together form the object table, in section order,
+ * so an object is referenced by its index in that table, or -1 for null.
+ * <ul>
+ * <li>{@link #KIND_BEAN}: the field names and types, followed by one column per field with the value of every instance.
+ * A primitive field is written as is, any other field as a reference.</li>
+ * <li>{@link #KIND_STRING}, {@link #KIND_TEXT} and {@link #KIND_ENUM}: one length-prefixed UTF-8 string per instance.</li>
+ * <li>{@link #KIND_BOXED}: one primitive value per instance.</li>
+ * <li>{@link #KIND_ARRAY}: the component type, a column with the length of every instance
+ * and then all elements.</li>
+ * <li>{@link #KIND_COLLECTION} and {@link #KIND_MAP}: a column with the size of every instance
+ * and then all element references, or all key and value reference pairs.</li>
+ * </ul>
+ * Every size is known before the elements, so a reader can create every instance before it fills in any reference.
+ */
+final class BinarySolutionFormat {
+
+    static final int MAGIC_NUMBER = 0x4F505342; // "OPSB"
+    static final int VERSION = 1;
+
+    static final byte KIND_BEAN = 0;
+    static final byte KIND_STRING = 1;
+    static final byte KIND_BOXED = 2;
+    static final byte KIND_TEXT = 3;
+    static final byte KIND_ENUM = 4;
+    static final byte KIND_ARRAY = 5;
+    static final byte KIND_COLLECTION = 6;
+    static final byte KIND_MAP = 7;
+
+    static final byte TYPE_REFERENCE = 0;
+    static final byte TYPE_BOOLEAN = 1;
+    static final byte TYPE_BYTE = 2;
+    static final byte TYPE_CHAR = 3;
+    static final byte TYPE_SHORT = 4;
+    static final byte TYPE_INT = 5;
+    static final byte TYPE_LONG = 6;
+    static final byte TYPE_FLOAT = 7;
+    static final byte TYPE_DOUBLE = 8;
+
+    static final int NULL_REFERENCE = -1;
+
+    private static final Map<Class<?>, Byte> PRIMITIVE_TYPE_MAP = new HashMap<>(16);
+    private static final Map<Class<?>, Byte> BOXED_TYPE_MAP = new HashMap<>(16);
+    /** Ordered, because a subclass (such as {@link ZoneOffset}) must come before its superclass. */
+    private static final Map<Class<?>, TextCodec> TEXT_CODEC_MAP = new LinkedHashMap<>(32);
+
+    static {
+        putPrimitiveType(boolean.class, Boolean.class, TYPE_BOOLEAN);
+        putPrimitiveType(byte.class, Byte.class, TYPE_BYTE);
+        putPrimitiveType(char.class, Character.class, TYPE_CHAR);
+        putPrimitiveType(short.class, Short.class, TYPE_SHORT);
+        putPrimitiveType(int.class, Integer.class, TYPE_INT);
+        putPrimitiveType(long.class, Long.class, TYPE_LONG);
+        putPrimitiveType(float.class, Float.class, TYPE_FLOAT);
+        putPrimitiveType(double.class, Double.class, TYPE_DOUBLE);
+        putTextCodec(BigDecimal.class, BigDecimal::new);
+        putTextCodec(BigInteger.class, BigInteger::new);
+        putTextCodec(LocalDate.class, LocalDate::parse);
+        putTextCodec(LocalTime.class, LocalTime::parse);
+        putTextCodec(LocalDateTime.class, LocalDateTime::parse);
+        putTextCodec(OffsetTime.class, OffsetTime::parse);
+        putTextCodec(OffsetDateTime.class, OffsetDateTime::parse);
+        putTextCodec(ZonedDateTime.class, ZonedDateTime::parse);
+        putTextCodec(Instant.class, Instant::parse);
+        putTextCodec(Duration.class, Duration::parse);
+        putTextCodec(Period.class, Period::parse);
+        putTextCodec(Year.class, Year::parse);
+        putTextCodec(YearMonth.class, YearMonth::parse);
+        putTextCodec(MonthDay.class, MonthDay::parse);
+        putTextCodec(ZoneOffset.class, ZoneOffset::of);
+        putTextCodec(ZoneId.class, ZoneId::of);
+        putTextCodec(UUID.class, UUID::fromString);
+        TEXT_CODEC_MAP.put(Locale.class,
+                new TextCodec(value -> ((Locale) value).toLanguageTag(), Locale::forLanguageTag));
+    }
+
+    private static void putPrimitiveType(Class<?> primitiveClass, Class<?> boxedClass, byte type) {
+        PRIMITIVE_TYPE_MAP.put(primitiveClass, type);
+        BOXED_TYPE_MAP.put(boxedClass, type);
+    }
+
+    private static void putTextCodec(Class<?> valueClass, Function<String, Object> parser) {
+        TEXT_CODEC_MAP.put(valueClass, new TextCodec(Object::toString, parser));
+    }
+
+    /**
+     * @param type never null
+     * @return {@link #TYPE_REFERENCE} if the type is not primitive
+     */
+    static byte determineFieldType(Class<?> type) {
+        Byte primitiveType = PRIMITIVE_TYPE_MAP.get(type);
+        return primitiveType == null ? TYPE_REFERENCE : primitiveType;
+    }
+
+    /**
+     * @param boxedClass never null
+     * @return null if the class is not a boxed primitive
+     */
+    static Byte determineBoxedType(Class<?> boxedClass) {
+        return BOXED_TYPE_MAP.get(boxedClass);
+    }
+
+    /**
+     * @param type a field type
+     * @return {@code >= 1}, the number of bytes of one value in a column
+     */
+    static int determineTypeSize(byte type) {
+        switch (type) {
+            case TYPE_BOOLEAN:
+            case TYPE_BYTE:
+                return 1;
+            case TYPE_CHAR:
+            case TYPE_SHORT:
+                return 2;
+            case TYPE_REFERENCE:
+            case TYPE_INT:
+            case TYPE_FLOAT:
+                return 4;
+            case TYPE_LONG:
+            case TYPE_DOUBLE:
+                return 8;
+            default:
+                throw new IllegalStateException("The type (" + type + ") is not implemented.");
+        }
+    }
+
+    /**
+     * @param valueClass never null
+     * @return null if instances of that class are not written as text,
+     *         otherwise the class (or superclass) that is written in the file
+     */
+    static Class<?> determineTextClass(Class<?> valueClass) {
+        if (TEXT_CODEC_MAP.containsKey(valueClass)) {
+            return valueClass;
+        }
+        for (Class<?> textClass : TEXT_CODEC_MAP.keySet()) {
+            if (textClass.isAssignableFrom(valueClass)) {
+                return textClass;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param textClass never null, returned by {@link #determineTextClass(Class)}
+     * @return never null
+     */
+    static TextCodec getTextCodec(Class<?> textClass) {
+        TextCodec textCodec = TEXT_CODEC_MAP.get(textClass);
+        if (textCodec == null) {
+            throw new IllegalStateException("The class (" + textClass + ") is not written as text.");
+        }
+        return textCodec;
+    }
+
+    /**
+     * @param clazz never null
+     * @return never null, the non-static and non-transient fields of the class and its superclasses,
+     *         with the superclass fields first
+     */
+    static List<Field> collectFields(Class<?> clazz) {
+        Deque<Class<?>> classHierarchy = new ArrayDeque<>();
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            classHierarchy.push(c);
+        }
+        List<Field> fieldList = new ArrayList<>();
+        for (Class<?> c : classHierarchy) {
+            for (Field field : c.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)) {
+                    field.setAccessible(true);
+                    fieldList.add(field);
+                }
+            }
+        }
+        return fieldList;
+    }
+
+    /**
+     * @param clazz never null
+     * @return true if it's a JDK class, which this format can only handle if it has a specific kind
+     */
+    static boolean isJdkClass(Class<?> clazz) {
+        String className = clazz.getName();
+        return className.startsWith("java.") || className.startsWith("javax.") || className.startsWith("jdk.")
+                || className.startsWith("sun.");
+    }
+
+    /**
+     * A JDK collection that can't be created through a public no-arg constructor,
+     * such as {@code Arrays.asList(...)} or {@code Collections.unmodifiableList(...)},
+     * is read as the general purpose collection of the same interface.
+     *
+     * @param collectionClass never null
+     * @return never null, the collection class that is written in the file
+     */
+    static Class<?> determineCollectionClass(Class<?> collectionClass) {
+        if (hasUsableNoArgConstructor(collectionClass)) {
+            return collectionClass;
+        } else if (SortedSet.class.isAssignableFrom(collectionClass)) {
+            return TreeSet.class;
+        } else if (Set.class.isAssignableFrom(collectionClass)) {
+            return LinkedHashSet.class;
+        } else {
+            return ArrayList.class;
+        }
+    }
+
+    /**
+     * @param mapClass never null
+     * @return never null, the map class that is written in the file
+     * @see #determineCollectionClass(Class)
+     */
+    static Class<?> determineMapClass(Class<?> mapClass) {
+        if (hasUsableNoArgConstructor(mapClass)) {
+            return mapClass;
+        } else if (SortedMap.class.isAssignableFrom(mapClass)) {
+            return TreeMap.class;
+        } else {
+            return LinkedHashMap.class;
+        }
+    }
+
+    private static boolean hasUsableNoArgConstructor(Class<?> clazz) {
+        if (Modifier.isAbstract(clazz.getModifiers()) || clazz.isAnonymousClass()) {
+            return false;
+        }
+        try {
+            Constructor<?> constructor = clazz.getDeclaredConstructor();
+            return !isJdkClass(clazz)
+                    || (Modifier.isPublic(clazz.getModifiers()) && Modifier.isPublic(constructor.getModifiers()));
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @param clazz never null
+     * @param <C> the class type
+     * @return never null
+     */
+    static <C> Constructor<C> retrieveNoArgConstructor(Class<C> clazz) {
+        Constructor<C> constructor;
+        try {
+            constructor = clazz.getDeclaredConstructor();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("The class (" + clazz
+                    + ") should have a no-arg constructor to read it from a binary file.", e);
+        }
+        if (!isJdkClass(clazz)) {
+            constructor.setAccessible(true);
+        }
+        return constructor;
+    }
+
+    static final class TextCodec {
+
+        private final Function<Object, String> formatter;
+        private final Function<String, Object> parser;
+
+        private TextCodec(Function<Object, String> formatter, Function<String, Object> parser) {
+            this.formatter = formatter;
+            this.parser = parser;
+        }
+
+        String format(Object value) {
+            return formatter.apply(value);
+        }
+
+        Object parse(String text) {
+            return parser.apply(text);
+        }
+
+    }
+
+    private BinarySolutionFormat() {
+    }
+
+}
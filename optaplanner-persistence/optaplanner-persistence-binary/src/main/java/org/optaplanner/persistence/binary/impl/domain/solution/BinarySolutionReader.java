@@ -0,0 +1,537 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.binary.impl.domain.solution;
+
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.KIND_ARRAY;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.KIND_BEAN;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.KIND_BOXED;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.KIND_COLLECTION;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.KIND_ENUM;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.KIND_MAP;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.KIND_STRING;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.KIND_TEXT;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.MAGIC_NUMBER;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.NULL_REFERENCE;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TYPE_BOOLEAN;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TYPE_BYTE;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TYPE_CHAR;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TYPE_DOUBLE;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TYPE_FLOAT;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TYPE_INT;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TYPE_LONG;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TYPE_REFERENCE;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TYPE_SHORT;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.VERSION;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TextCodec;
+
+/**
+ * Reads an object graph in the format described by {@link BinarySolutionFormat}
+ * directly from a (typically memory-mapped) {@link ByteBuffer}, without copying it first.
+ * <p>
+ * It first creates every instance and then fills in the fields and the arrays,
+ * column by column, so cyclic references need no special treatment.
+ * The collections and maps are filled in last, so the hash codes of their elements are stable by then.
+ * <p>
+ * Not thread-safe: use a new instance for every read.
+ */
+final class BinarySolutionReader {
+
+    private final ClassLoader classLoader;
+
+    private ByteBuffer buffer;
+    private Object[] objects;
+
+    /**
+     * @param classLoader never null, to load the classes named in the file
+     */
+    BinarySolutionReader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * @param inputBuffer never null, its position is at the start of the file, it is not modified
+     * @return never null, the root object
+     */
+    Object read(ByteBuffer inputBuffer) {
+        // The writer uses the big-endian byte order of a DataOutputStream
+        buffer = inputBuffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        int magicNumber = buffer.getInt();
+        if (magicNumber != MAGIC_NUMBER) {
+            throw new IllegalArgumentException("The magicNumber (" + Integer.toHexString(magicNumber)
+                    + ") is not the magicNumber (" + Integer.toHexString(MAGIC_NUMBER)
+                    + ") of a binary solution file.");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("The version (" + version
+                    + ") of the binary solution file is not supported. Only version (" + VERSION + ") is.");
+        }
+        int sectionCount = buffer.getInt();
+        int objectCount = buffer.getInt();
+        if (sectionCount < 0 || objectCount < 0) {
+            throw new IllegalArgumentException("The sectionCount (" + sectionCount + ") or the objectCount ("
+                    + objectCount + ") is negative.");
+        }
+        objects = new Object[objectCount];
+        int rootId = buffer.getInt();
+        List<Section> sectionList = new ArrayList<>(sectionCount);
+        int baseId = 0;
+        for (int i = 0; i < sectionCount; i++) {
+            Section section = readSection(baseId);
+            sectionList.add(section);
+            baseId += section.count;
+        }
+        if (baseId != objectCount) {
+            throw new IllegalArgumentException("The sections have " + baseId
+                    + " objects instead of the objectCount (" + objectCount + ").");
+        }
+        for (Section section : sectionList) {
+            if (section.kind == KIND_BEAN) {
+                fillBeans(section);
+            } else if (section.kind == KIND_ARRAY) {
+                fillArrays(section);
+            }
+        }
+        for (Section section : sectionList) {
+            if (section.kind == KIND_COLLECTION) {
+                fillCollections(section);
+            } else if (section.kind == KIND_MAP) {
+                fillMaps(section);
+            }
+        }
+        Object root = resolve(rootId);
+        if (root == null) {
+            throw new IllegalArgumentException("The binary solution file has no root object.");
+        }
+        return root;
+    }
+
+    // ************************************************************************
+    // Create the instances
+    // ************************************************************************
+
+    private Section readSection(int baseId) {
+        String className = readString();
+        Class<?> clazz = loadClass(className);
+        byte kind = buffer.get();
+        int count = buffer.getInt();
+        if (count < 0 || count > objects.length - baseId) {
+            throw new IllegalArgumentException("The class (" + className + ") has an invalid count (" + count + ").");
+        }
+        Section section = new Section(clazz, kind, baseId, count);
+        switch (kind) {
+            case KIND_BEAN:
+                readBeanSection(section);
+                break;
+            case KIND_STRING:
+                for (int i = 0; i < count; i++) {
+                    objects[baseId + i] = readString();
+                }
+                break;
+            case KIND_BOXED:
+                Byte boxedType = BinarySolutionFormat.determineBoxedType(clazz);
+                if (boxedType == null) {
+                    throw new IllegalArgumentException("The class (" + className + ") is not a boxed primitive.");
+                }
+                for (int i = 0; i < count; i++) {
+                    objects[baseId + i] = readBoxedValue(boxedType);
+                }
+                break;
+            case KIND_TEXT:
+                if (BinarySolutionFormat.determineTextClass(clazz) != clazz) {
+                    throw new IllegalArgumentException("The class (" + className + ") is not written as text.");
+                }
+                TextCodec textCodec = BinarySolutionFormat.getTextCodec(clazz);
+                for (int i = 0; i < count; i++) {
+                    objects[baseId + i] = textCodec.parse(readString());
+                }
+                break;
+            case KIND_ENUM:
+                if (!clazz.isEnum()) {
+                    throw new IllegalArgumentException("The class (" + className + ") is not an enum.");
+                }
+                for (int i = 0; i < count; i++) {
+                    objects[baseId + i] = readEnumConstant(clazz, readString());
+                }
+                break;
+            case KIND_ARRAY:
+                readArraySection(section);
+                break;
+            case KIND_COLLECTION:
+            case KIND_MAP:
+                readContainerSection(section);
+                break;
+            default:
+                throw new IllegalArgumentException("The class (" + className + ") has an unsupported kind ("
+                        + kind + ").");
+        }
+        return section;
+    }
+
+    private void readBeanSection(Section section) {
+        Class<?> clazz = section.clazz;
+        if (clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers())
+                || BinarySolutionFormat.isJdkClass(clazz)) {
+            throw new IllegalArgumentException("The class (" + clazz + ") can not be read as a bean.");
+        }
+        int fieldCount = buffer.getInt();
+        section.fields = new Field[fieldCount];
+        section.fieldTypes = new byte[fieldCount];
+        int rowSize = 0;
+        for (int i = 0; i < fieldCount; i++) {
+            Class<?> declaringClass = loadClass(readString());
+            String fieldName = readString();
+            byte fieldType = buffer.get();
+            section.fields[i] = resolveField(clazz, declaringClass, fieldName, fieldType);
+            section.fieldTypes[i] = fieldType;
+            rowSize += BinarySolutionFormat.determineTypeSize(fieldType);
+        }
+        Constructor<?> constructor = BinarySolutionFormat.retrieveNoArgConstructor(clazz);
+        for (int i = 0; i < section.count; i++) {
+            objects[section.baseId + i] = newInstance(constructor);
+        }
+        section.dataPosition = buffer.position();
+        skip((long) rowSize * section.count);
+    }
+
+    private static Field resolveField(Class<?> clazz, Class<?> declaringClass, String fieldName, byte fieldType) {
+        if (!declaringClass.isAssignableFrom(clazz)) {
+            throw new IllegalArgumentException("The class (" + clazz + ") does not extend the declaringClass ("
+                    + declaringClass + ") of its field (" + fieldName + ").");
+        }
+        Field field;
+        try {
+            field = declaringClass.getDeclaredField(fieldName);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("The class (" + declaringClass + ") has no field (" + fieldName
+                    + ") anymore.\n"
+                    + "Maybe the binary solution file was written by an older version of that class.", e);
+        }
+        if (Modifier.isStatic(field.getModifiers())) {
+            throw new IllegalStateException("The field (" + fieldName + ") of class (" + declaringClass
+                    + ") is static.");
+        }
+        if (BinarySolutionFormat.determineFieldType(field.getType()) != fieldType) {
+            throw new IllegalStateException("The field (" + fieldName + ") of class (" + declaringClass
+                    + ") has a type (" + field.getType() + ") that differs from the type in the file.\n"
+                    + "Maybe the binary solution file was written by an older version of that class.");
+        }
+        field.setAccessible(true);
+        return field;
+    }
+
+    private void readArraySection(Section section) {
+        Class<?> componentClass = section.clazz.getComponentType();
+        if (componentClass == null) {
+            throw new IllegalArgumentException("The class (" + section.clazz + ") is not an array class.");
+        }
+        byte componentType = buffer.get();
+        if (BinarySolutionFormat.determineFieldType(componentClass) != componentType) {
+            throw new IllegalArgumentException("The class (" + section.clazz
+                    + ") has a componentType that differs from the componentType (" + componentType
+                    + ") in the file.");
+        }
+        section.componentType = componentType;
+        long elementCount = 0L;
+        for (int i = 0; i < section.count; i++) {
+            int length = buffer.getInt();
+            objects[section.baseId + i] = Array.newInstance(componentClass, length);
+            elementCount += length;
+        }
+        section.dataPosition = buffer.position();
+        skip(elementCount * BinarySolutionFormat.determineTypeSize(componentType));
+    }
+
+    private void readContainerSection(Section section) {
+        Class<?> expectedClass = section.kind == KIND_COLLECTION ? Collection.class : Map.class;
+        if (!expectedClass.isAssignableFrom(section.clazz)) {
+            throw new IllegalArgumentException("The class (" + section.clazz + ") is not a "
+                    + expectedClass.getSimpleName() + ".");
+        }
+        Constructor<?> constructor = BinarySolutionFormat.retrieveNoArgConstructor(section.clazz);
+        section.sizes = new int[section.count];
+        long referenceCount = 0L;
+        for (int i = 0; i < section.count; i++) {
+            int size = buffer.getInt();
+            section.sizes[i] = size;
+            objects[section.baseId + i] = newInstance(constructor);
+            referenceCount += size;
+        }
+        section.dataPosition = buffer.position();
+        skip(referenceCount * (section.kind == KIND_MAP ? 8L : 4L));
+    }
+
+    // ************************************************************************
+    // Fill in the references
+    // ************************************************************************
+
+    private void fillBeans(Section section) {
+        ByteBuffer data = buffer.duplicate();
+        data.position(section.dataPosition);
+        for (int i = 0; i < section.fields.length; i++) {
+            Field field = section.fields[i];
+            byte fieldType = section.fieldTypes[i];
+            for (int j = 0; j < section.count; j++) {
+                setFieldValue(field, fieldType, objects[section.baseId + j], data);
+            }
+        }
+    }
+
+    private void setFieldValue(Field field, byte fieldType, Object bean, ByteBuffer data) {
+        try {
+            switch (fieldType) {
+                case TYPE_REFERENCE:
+                    field.set(bean, resolve(data.getInt()));
+                    break;
+                case TYPE_BOOLEAN:
+                    field.setBoolean(bean, data.get() != 0);
+                    break;
+                case TYPE_BYTE:
+                    field.setByte(bean, data.get());
+                    break;
+                case TYPE_CHAR:
+                    field.setChar(bean, data.getChar());
+                    break;
+                case TYPE_SHORT:
+                    field.setShort(bean, data.getShort());
+                    break;
+                case TYPE_INT:
+                    field.setInt(bean, data.getInt());
+                    break;
+                case TYPE_LONG:
+                    field.setLong(bean, data.getLong());
+                    break;
+                case TYPE_FLOAT:
+                    field.setFloat(bean, data.getFloat());
+                    break;
+                case TYPE_DOUBLE:
+                    field.setDouble(bean, data.getDouble());
+                    break;
+                default:
+                    throw new IllegalStateException("The fieldType (" + fieldType + ") is not implemented.");
+            }
+        } catch (IllegalAccessException | IllegalArgumentException e) {
+            throw new IllegalStateException("The field (" + field.getName() + ") of class ("
+                    + field.getDeclaringClass() + ") can not be set.", e);
+        }
+    }
+
+    private void fillArrays(Section section) {
+        ByteBuffer data = buffer.duplicate();
+        data.position(section.dataPosition);
+        for (int i = 0; i < section.count; i++) {
+            Object array = objects[section.baseId + i];
+            int length = Array.getLength(array);
+            switch (section.componentType) {
+                case TYPE_REFERENCE:
+                    Object[] objectArray = (Object[]) array;
+                    for (int j = 0; j < length; j++) {
+                        try {
+                            objectArray[j] = resolve(data.getInt());
+                        } catch (ArrayStoreException e) {
+                            throw new IllegalStateException("The array class (" + section.clazz
+                                    + ") can not hold element (" + j + ").", e);
+                        }
+                    }
+                    break;
+                case TYPE_BOOLEAN:
+                    boolean[] booleanArray = (boolean[]) array;
+                    for (int j = 0; j < length; j++) {
+                        booleanArray[j] = data.get() != 0;
+                    }
+                    break;
+                case TYPE_BYTE:
+                    data.get((byte[]) array);
+                    break;
+                case TYPE_CHAR:
+                    data.asCharBuffer().get((char[]) array);
+                    skipElements(data, length, section.componentType);
+                    break;
+                case TYPE_SHORT:
+                    data.asShortBuffer().get((short[]) array);
+                    skipElements(data, length, section.componentType);
+                    break;
+                case TYPE_INT:
+                    data.asIntBuffer().get((int[]) array);
+                    skipElements(data, length, section.componentType);
+                    break;
+                case TYPE_LONG:
+                    data.asLongBuffer().get((long[]) array);
+                    skipElements(data, length, section.componentType);
+                    break;
+                case TYPE_FLOAT:
+                    data.asFloatBuffer().get((float[]) array);
+                    skipElements(data, length, section.componentType);
+                    break;
+                case TYPE_DOUBLE:
+                    data.asDoubleBuffer().get((double[]) array);
+                    skipElements(data, length, section.componentType);
+                    break;
+                default:
+                    throw new IllegalStateException("The componentType (" + section.componentType
+                            + ") is not implemented.");
+            }
+        }
+    }
+
+    private static void skipElements(ByteBuffer data, int length, byte componentType) {
+        // A view buffer does not move the position of the buffer it views
+        data.position(data.position() + length * BinarySolutionFormat.determineTypeSize(componentType));
+    }
+
+    private void fillCollections(Section section) {
+        ByteBuffer data = buffer.duplicate();
+        data.position(section.dataPosition);
+        for (int i = 0; i < section.count; i++) {
+            Collection<Object> collection = (Collection<Object>) objects[section.baseId + i];
+            for (int j = 0; j < section.sizes[i]; j++) {
+                collection.add(resolve(data.getInt()));
+            }
+        }
+    }
+
+    private void fillMaps(Section section) {
+        ByteBuffer data = buffer.duplicate();
+        data.position(section.dataPosition);
+        for (int i = 0; i < section.count; i++) {
+            Map<Object, Object> map = (Map<Object, Object>) objects[section.baseId + i];
+            for (int j = 0; j < section.sizes[i]; j++) {
+                Object key = resolve(data.getInt());
+                map.put(key, resolve(data.getInt()));
+            }
+        }
+    }
+
+    // ************************************************************************
+    // Helper methods
+    // ************************************************************************
+
+    private Object resolve(int id) {
+        if (id == NULL_REFERENCE) {
+            return null;
+        }
+        if (id < 0 || id >= objects.length) {
+            throw new IllegalArgumentException("The reference (" + id + ") is not between 0 and the objectCount ("
+                    + objects.length + ").");
+        }
+        return objects[id];
+    }
+
+    private Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("The class (" + className
+                    + ") of the binary solution file is not on the classpath.", e);
+        }
+    }
+
+    private static Object newInstance(Constructor<?> constructor) {
+        try {
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("The class (" + constructor.getDeclaringClass()
+                    + ") can not be instantiated with its no-arg constructor.", e);
+        }
+    }
+
+    private static Object readEnumConstant(Class<?> enumClass, String name) {
+        for (Object enumConstant : enumClass.getEnumConstants()) {
+            if (((Enum<?>) enumConstant).name().equals(name)) {
+                return enumConstant;
+            }
+        }
+        throw new IllegalStateException("The enum class (" + enumClass + ") has no constant (" + name + ") anymore.");
+    }
+
+    private Object readBoxedValue(byte type) {
+        switch (type) {
+            case TYPE_BOOLEAN:
+                return buffer.get() != 0;
+            case TYPE_BYTE:
+                return buffer.get();
+            case TYPE_CHAR:
+                return buffer.getChar();
+            case TYPE_SHORT:
+                return buffer.getShort();
+            case TYPE_INT:
+                return buffer.getInt();
+            case TYPE_LONG:
+                return buffer.getLong();
+            case TYPE_FLOAT:
+                return buffer.getFloat();
+            case TYPE_DOUBLE:
+                return buffer.getDouble();
+            default:
+                throw new IllegalStateException("The type (" + type + ") is not implemented.");
+        }
+    }
+
+    private String readString() {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("The string length (" + length + ") is invalid.");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void skip(long byteCount) {
+        if (byteCount > buffer.remaining()) {
+            throw new IllegalArgumentException("The binary solution file is truncated: it needs " + byteCount
+                    + " more bytes, but only has " + buffer.remaining() + ".");
+        }
+        buffer.position(buffer.position() + (int) byteCount);
+    }
+
+    private static final class Section {
+
+        private final Class<?> clazz;
+        private final byte kind;
+        private final int baseId;
+        private final int count;
+
+        private int dataPosition = -1;
+        private Field[] fields = null;
+        private byte[] fieldTypes = null;
+        private byte componentType = TYPE_REFERENCE;
+        private int[] sizes = null;
+
+        private Section(Class<?> clazz, byte kind, int baseId, int count) {
+            this.clazz = clazz;
+            this.kind = kind;
+            this.baseId = baseId;
+            this.count = count;
+        }
+
+    }
+
+}
@@ -0,0 +1,429 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.binary.impl.domain.solution;
+
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.KIND_ARRAY;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.KIND_BEAN;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.KIND_BOXED;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.KIND_COLLECTION;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.KIND_ENUM;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.KIND_MAP;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.KIND_STRING;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.KIND_TEXT;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.MAGIC_NUMBER;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.NULL_REFERENCE;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TYPE_BOOLEAN;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TYPE_BYTE;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TYPE_CHAR;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TYPE_DOUBLE;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TYPE_FLOAT;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TYPE_INT;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TYPE_LONG;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TYPE_REFERENCE;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TYPE_SHORT;
+import static org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.VERSION;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+import org.optaplanner.persistence.binary.impl.domain.solution.BinarySolutionFormat.TextCodec;
+
+/**
+ * Writes an object graph in the format described by {@link BinarySolutionFormat}.
+ * <p>
+ * Not thread-safe: use a new instance for every write.
+ */
+final class BinarySolutionWriter {
+
+    private final Map<Class<?>, Section> sectionMap = new LinkedHashMap<>();
+    /** Immutable values are deduplicated by equality, all other objects by identity. */
+    private final Map<Object, Integer> valueIndexMap = new HashMap<>();
+    private final Map<Object, Integer> objectIndexMap = new IdentityHashMap<>();
+    private final Queue<Object> unprocessedQueue = new ArrayDeque<>();
+
+    /**
+     * @param root never null
+     * @param out never null
+     * @throws IOException if writing fails
+     */
+    void write(Object root, DataOutputStream out) throws IOException {
+        register(root);
+        while (!unprocessedQueue.isEmpty()) {
+            processReferences(unprocessedQueue.remove());
+        }
+        long objectCount = 0L;
+        for (Section section : sectionMap.values()) {
+            section.baseId = (int) objectCount;
+            objectCount += section.instanceList.size();
+            if (objectCount > Integer.MAX_VALUE) {
+                throw new IllegalStateException("The object graph has more than " + Integer.MAX_VALUE
+                        + " objects, which is more than a binary file supports.");
+            }
+        }
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(VERSION);
+        out.writeInt(sectionMap.size());
+        out.writeInt((int) objectCount);
+        out.writeInt(findId(root));
+        for (Section section : sectionMap.values()) {
+            writeSection(section, out);
+        }
+    }
+
+    // ************************************************************************
+    // Collect the object graph
+    // ************************************************************************
+
+    private void register(Object value) {
+        if (value == null) {
+            return;
+        }
+        Section section = sectionMap.computeIfAbsent(value.getClass(), key -> buildSection(value));
+        Map<Object, Integer> indexMap = section.isValueKind() ? valueIndexMap : objectIndexMap;
+        if (indexMap.containsKey(value)) {
+            return;
+        }
+        indexMap.put(value, section.instanceList.size());
+        section.instanceList.add(value);
+        if (!section.isValueKind()) {
+            unprocessedQueue.add(value);
+        }
+    }
+
+    private Section buildSection(Object value) {
+        Class<?> clazz = value.getClass();
+        if (clazz == String.class) {
+            return new Section(clazz, KIND_STRING);
+        }
+        if (BinarySolutionFormat.determineBoxedType(clazz) != null) {
+            return new Section(clazz, KIND_BOXED);
+        }
+        if (value instanceof Enum) {
+            // An enum constant with a body is an instance of an anonymous subclass
+            return new Section(((Enum<?>) value).getDeclaringClass(), KIND_ENUM);
+        }
+        Class<?> textClass = BinarySolutionFormat.determineTextClass(clazz);
+        if (textClass != null) {
+            Section section = new Section(textClass, KIND_TEXT);
+            section.textCodec = BinarySolutionFormat.getTextCodec(textClass);
+            return section;
+        }
+        if (clazz.isArray()) {
+            Section section = new Section(clazz, KIND_ARRAY);
+            section.componentType = BinarySolutionFormat.determineFieldType(clazz.getComponentType());
+            return section;
+        }
+        if (value instanceof Collection) {
+            return new Section(BinarySolutionFormat.determineCollectionClass(clazz), KIND_COLLECTION);
+        }
+        if (value instanceof Map) {
+            return new Section(BinarySolutionFormat.determineMapClass(clazz), KIND_MAP);
+        }
+        if (BinarySolutionFormat.isJdkClass(clazz)) {
+            throw new IllegalArgumentException("The class (" + clazz + ") of the value (" + value
+                    + ") is not supported by the " + BinarySolutionFileIO.class.getSimpleName() + ".\n"
+                    + "Maybe make the field that references it transient.");
+        }
+        // Fail fast instead of writing a file that can't be read
+        BinarySolutionFormat.retrieveNoArgConstructor(clazz);
+        Section section = new Section(clazz, KIND_BEAN);
+        section.fieldList = BinarySolutionFormat.collectFields(clazz);
+        return section;
+    }
+
+    private void processReferences(Object value) {
+        Section section = sectionMap.get(value.getClass());
+        switch (section.kind) {
+            case KIND_BEAN:
+                for (Field field : section.fieldList) {
+                    if (BinarySolutionFormat.determineFieldType(field.getType()) == TYPE_REFERENCE) {
+                        register(getFieldValue(field, value));
+                    }
+                }
+                break;
+            case KIND_ARRAY:
+                if (section.componentType == TYPE_REFERENCE) {
+                    for (Object element : (Object[]) value) {
+                        register(element);
+                    }
+                }
+                break;
+            case KIND_COLLECTION:
+                if (value instanceof SortedSet) {
+                    assertNaturalOrdering(value, ((SortedSet<?>) value).comparator());
+                }
+                for (Object element : (Collection<?>) value) {
+                    register(element);
+                }
+                break;
+            case KIND_MAP:
+                if (value instanceof SortedMap) {
+                    assertNaturalOrdering(value, ((SortedMap<?, ?>) value).comparator());
+                }
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    register(entry.getKey());
+                    register(entry.getValue());
+                }
+                break;
+            default:
+                throw new IllegalStateException("The kind (" + section.kind + ") is not implemented.");
+        }
+    }
+
+    private static void assertNaturalOrdering(Object value, Comparator<?> comparator) {
+        // The reader creates it with the no-arg constructor, so it would silently sort the elements differently
+        if (comparator != null) {
+            throw new IllegalArgumentException("The sorted collection or map (" + value.getClass()
+                    + ") has a comparator (" + comparator + "), which is not supported by the "
+                    + BinarySolutionFileIO.class.getSimpleName() + ".\n"
+                    + "Maybe use the natural ordering of its elements or make the field that references it transient.");
+        }
+    }
+
+    private int findId(Object value) {
+        if (value == null) {
+            return NULL_REFERENCE;
+        }
+        Section section = sectionMap.get(value.getClass());
+        Integer index = (section.isValueKind() ? valueIndexMap : objectIndexMap).get(value);
+        return section.baseId + index;
+    }
+
+    // ************************************************************************
+    // Write the sections
+    // ************************************************************************
+
+    private void writeSection(Section section, DataOutputStream out) throws IOException {
+        List<Object> instanceList = section.instanceList;
+        writeString(section.clazz.getName(), out);
+        out.writeByte(section.kind);
+        out.writeInt(instanceList.size());
+        switch (section.kind) {
+            case KIND_BEAN:
+                writeBeanSection(section, out);
+                break;
+            case KIND_STRING:
+                for (Object instance : instanceList) {
+                    writeString((String) instance, out);
+                }
+                break;
+            case KIND_BOXED:
+                byte boxedType = BinarySolutionFormat.determineBoxedType(section.clazz);
+                for (Object instance : instanceList) {
+                    writeBoxedValue(boxedType, instance, out);
+                }
+                break;
+            case KIND_TEXT:
+                for (Object instance : instanceList) {
+                    writeString(section.textCodec.format(instance), out);
+                }
+                break;
+            case KIND_ENUM:
+                for (Object instance : instanceList) {
+                    writeString(((Enum<?>) instance).name(), out);
+                }
+                break;
+            case KIND_ARRAY:
+                out.writeByte(section.componentType);
+                for (Object instance : instanceList) {
+                    out.writeInt(Array.getLength(instance));
+                }
+                for (Object instance : instanceList) {
+                    writeArrayElements(section.componentType, instance, out);
+                }
+                break;
+            case KIND_COLLECTION:
+                for (Object instance : instanceList) {
+                    out.writeInt(((Collection<?>) instance).size());
+                }
+                for (Object instance : instanceList) {
+                    for (Object element : (Collection<?>) instance) {
+                        out.writeInt(findId(element));
+                    }
+                }
+                break;
+            case KIND_MAP:
+                for (Object instance : instanceList) {
+                    out.writeInt(((Map<?, ?>) instance).size());
+                }
+                for (Object instance : instanceList) {
+                    for (Map.Entry<?, ?> entry : ((Map<?, ?>) instance).entrySet()) {
+                        out.writeInt(findId(entry.getKey()));
+                        out.writeInt(findId(entry.getValue()));
+                    }
+                }
+                break;
+            default:
+                throw new IllegalStateException("The kind (" + section.kind + ") is not implemented.");
+        }
+    }
+
+    private void writeBeanSection(Section section, DataOutputStream out) throws IOException {
+        List<Field> fieldList = section.fieldList;
+        out.writeInt(fieldList.size());
+        for (Field field : fieldList) {
+            writeString(field.getDeclaringClass().getName(), out);
+            writeString(field.getName(), out);
+            out.writeByte(BinarySolutionFormat.determineFieldType(field.getType()));
+        }
+        // Column by column, so the reader fills in one field of all instances at a time
+        for (Field field : fieldList) {
+            byte type = BinarySolutionFormat.determineFieldType(field.getType());
+            for (Object instance : section.instanceList) {
+                if (type == TYPE_REFERENCE) {
+                    out.writeInt(findId(getFieldValue(field, instance)));
+                } else {
+                    writeBoxedValue(type, getFieldValue(field, instance), out);
+                }
+            }
+        }
+    }
+
+    private static void writeBoxedValue(byte type, Object value, DataOutputStream out) throws IOException {
+        switch (type) {
+            case TYPE_BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case TYPE_BYTE:
+                out.writeByte((Byte) value);
+                break;
+            case TYPE_CHAR:
+                out.writeChar((Character) value);
+                break;
+            case TYPE_SHORT:
+                out.writeShort((Short) value);
+                break;
+            case TYPE_INT:
+                out.writeInt((Integer) value);
+                break;
+            case TYPE_LONG:
+                out.writeLong((Long) value);
+                break;
+            case TYPE_FLOAT:
+                out.writeFloat((Float) value);
+                break;
+            case TYPE_DOUBLE:
+                out.writeDouble((Double) value);
+                break;
+            default:
+                throw new IllegalStateException("The type (" + type + ") is not implemented.");
+        }
+    }
+
+    private void writeArrayElements(byte componentType, Object array, DataOutputStream out) throws IOException {
+        switch (componentType) {
+            case TYPE_REFERENCE:
+                for (Object element : (Object[]) array) {
+                    out.writeInt(findId(element));
+                }
+                break;
+            case TYPE_BOOLEAN:
+                for (boolean element : (boolean[]) array) {
+                    out.writeBoolean(element);
+                }
+                break;
+            case TYPE_BYTE:
+                out.write((byte[]) array);
+                break;
+            case TYPE_CHAR:
+                for (char element : (char[]) array) {
+                    out.writeChar(element);
+                }
+                break;
+            case TYPE_SHORT:
+                for (short element : (short[]) array) {
+                    out.writeShort(element);
+                }
+                break;
+            case TYPE_INT:
+                for (int element : (int[]) array) {
+                    out.writeInt(element);
+                }
+                break;
+            case TYPE_LONG:
+                for (long element : (long[]) array) {
+                    out.writeLong(element);
+                }
+                break;
+            case TYPE_FLOAT:
+                for (float element : (float[]) array) {
+                    out.writeFloat(element);
+                }
+                break;
+            case TYPE_DOUBLE:
+                for (double element : (double[]) array) {
+                    out.writeDouble(element);
+                }
+                break;
+            default:
+                throw new IllegalStateException("The componentType (" + componentType + ") is not implemented.");
+        }
+    }
+
+    private static void writeString(String value, DataOutputStream out) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static Object getFieldValue(Field field, Object bean) {
+        try {
+            return field.get(bean);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("The field (" + field.getName() + ") of class ("
+                    + field.getDeclaringClass() + ") can not be read.", e);
+        }
+    }
+
+    private static final class Section {
+
+        private final Class<?> clazz;
+        private final byte kind;
+        private final List<Object> instanceList = new ArrayList<>();
+
+        private List<Field> fieldList = null;
+        private byte componentType = TYPE_REFERENCE;
+        private TextCodec textCodec = null;
+        private int baseId = -1;
+
+        private Section(Class<?> clazz, byte kind) {
+            this.clazz = clazz;
+            this.kind = kind;
+        }
+
+        private boolean isValueKind() {
+            return kind == KIND_STRING || kind == KIND_BOXED || kind == KIND_TEXT || kind == KIND_ENUM;
+        }
+
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.binary.impl.domain.solution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertAllCodesOfIterator;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.bendable.BendableScore;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+public class BinarySolutionFileIOTest {
+
+    private static File solutionTestDir;
+
+    @BeforeAll
+    public static void setup() {
+        solutionTestDir = new File("target/solutionTest/");
+        solutionTestDir.mkdirs();
+    }
+
+    @Test
+    public void readAndWrite() {
+        BinarySolutionFileIO<TestdataSolution> solutionFileIO = new BinarySolutionFileIO<>(TestdataSolution.class);
+        File file = new File(solutionTestDir, "testdataSolution.dat");
+
+        TestdataSolution original = new TestdataSolution("s1");
+        TestdataValue originalV1 = new TestdataValue("v1");
+        original.setValueList(Arrays.asList(originalV1, new TestdataValue("v2")));
+        original.setEntityList(Arrays.asList(
+                new TestdataEntity("e1"), new TestdataEntity("e2", originalV1), new TestdataEntity("e3")));
+        original.setScore(SimpleScore.of(-321));
+        solutionFileIO.write(original, file);
+        TestdataSolution copy = solutionFileIO.read(file);
+
+        assertThat(copy).isNotSameAs(original);
+        assertCode("s1", copy);
+        assertAllCodesOfIterator(copy.getValueList().iterator(), "v1", "v2");
+        assertAllCodesOfIterator(copy.getEntityList().iterator(), "e1", "e2", "e3");
+        TestdataValue copyV1 = copy.getValueList().get(0);
+        TestdataEntity copyE2 = copy.getEntityList().get(1);
+        assertCode("v1", copyE2.getValue());
+        assertThat(copyE2.getValue()).isSameAs(copyV1);
+        assertThat(copy.getEntityList().get(0).getValue()).isNull();
+        assertThat(copy.getScore()).isEqualTo(SimpleScore.of(-321));
+    }
+
+    @Test
+    public void readAndWriteValueTypes() {
+        BinarySolutionFileIO<BinaryTestdataBean> solutionFileIO = new BinarySolutionFileIO<>(BinaryTestdataBean.class);
+        File file = new File(solutionTestDir, "valueTypes.dat");
+
+        BinaryTestdataBean original = new BinaryTestdataBean();
+        original.intValue = -7;
+        original.longValue = Long.MAX_VALUE;
+        original.doubleValue = 0.25;
+        original.booleanValue = true;
+        original.charValue = '\u00e9';
+        original.boxedValue = 42;
+        original.stringValue = "Zo\u00eb";
+        original.decimalValue = new BigDecimal("123.4500");
+        original.dateValue = LocalDate.of(2021, 12, 31);
+        original.zoneValue = ZoneId.of("Europe/Brussels");
+        original.enumValue = DayOfWeek.FRIDAY;
+        original.intArray = new int[] { 3, -2, 1 };
+        original.stringArray = new String[] { "a", null, "a" };
+        original.immutableList = Collections.unmodifiableList(Arrays.asList("x", "y"));
+        original.map = new HashMap<>();
+        original.map.put("one", 1);
+        original.map.put("none", null);
+        original.sortedSet = new TreeSet<>(Arrays.asList(5L, 3L));
+        original.score = BendableScore.of(new int[] { -1 }, new int[] { -20, -300 });
+        original.self = original;
+        BinaryTestdataBean child = new BinaryTestdataBean();
+        child.self = original;
+        original.childList = Arrays.asList(child, child);
+        original.transientValue = "ignored";
+        solutionFileIO.write(original, file);
+        BinaryTestdataBean copy = solutionFileIO.read(file);
+
+        assertThat(copy).isNotSameAs(original);
+        assertThat(copy.intValue).isEqualTo(-7);
+        assertThat(copy.longValue).isEqualTo(Long.MAX_VALUE);
+        assertThat(copy.doubleValue).isEqualTo(0.25);
+        assertThat(copy.booleanValue).isTrue();
+        assertThat(copy.charValue).isEqualTo('\u00e9');
+        assertThat(copy.boxedValue).isEqualTo(42);
+        assertThat(copy.stringValue).isEqualTo("Zo\u00eb");
+        assertThat(copy.decimalValue).isEqualTo(new BigDecimal("123.4500"));
+        assertThat(copy.dateValue).isEqualTo(LocalDate.of(2021, 12, 31));
+        assertThat(copy.zoneValue).isEqualTo(ZoneId.of("Europe/Brussels"));
+        assertThat(copy.enumValue).isSameAs(DayOfWeek.FRIDAY);
+        assertThat(copy.intArray).containsExactly(3, -2, 1);
+        assertThat(copy.stringArray).containsExactly("a", null, "a");
+        assertThat(copy.immutableList).containsExactly("x", "y");
+        assertThat(copy.map).containsOnly(Map.entry("one", 1), Map.entry("none", null));
+        assertThat(copy.sortedSet).containsExactly(3L, 5L);
+        assertThat(copy.score).isEqualTo(BendableScore.of(new int[] { -1 }, new int[] { -20, -300 }));
+        assertThat(copy.self).isSameAs(copy);
+        assertThat(copy.childList).hasSize(2);
+        assertThat(copy.childList.get(0)).isSameAs(copy.childList.get(1));
+        assertThat(copy.childList.get(0).self).isSameAs(copy);
+        assertThat(copy.childList.get(0).stringValue).isNull();
+        assertThat(copy.transientValue).isNull();
+    }
+
+    @Test
+    public void writeUnsupportedJdkClass() {
+        BinarySolutionFileIO<BinaryTestdataBean> solutionFileIO = new BinarySolutionFileIO<>(BinaryTestdataBean.class);
+        File file = new File(solutionTestDir, "unsupported.dat");
+
+        BinaryTestdataBean original = new BinaryTestdataBean();
+        original.unsupportedValue = new Object();
+        assertThatIllegalArgumentException().isThrownBy(() -> solutionFileIO.write(original, file))
+                .withMessageContaining("is not supported");
+    }
+
+    @Test
+    public void writeSortedCollectionWithComparator() {
+        BinarySolutionFileIO<BinaryTestdataBean> solutionFileIO = new BinarySolutionFileIO<>(BinaryTestdataBean.class);
+        File file = new File(solutionTestDir, "comparator.dat");
+
+        BinaryTestdataBean original = new BinaryTestdataBean();
+        original.sortedSet = new TreeSet<>(Comparator.reverseOrder());
+        original.sortedSet.addAll(Arrays.asList(5L, 3L));
+        assertThatIllegalArgumentException().isThrownBy(() -> solutionFileIO.write(original, file))
+                .withMessageContaining("comparator");
+
+        original.sortedSet = null;
+        original.map = new TreeMap<>(Comparator.reverseOrder());
+        assertThatIllegalArgumentException().isThrownBy(() -> solutionFileIO.write(original, file))
+                .withMessageContaining("comparator");
+    }
+
+    @Test
+    public void readOtherFormat() throws IOException {
+        BinarySolutionFileIO<TestdataSolution> solutionFileIO = new BinarySolutionFileIO<>(TestdataSolution.class);
+        File file = new File(solutionTestDir, "otherFormat.dat");
+        Files.write(file.toPath(), "<TestdataSolution/>".getBytes(StandardCharsets.UTF_8));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> solutionFileIO.read(file));
+    }
+
+    @Test
+    public void readOtherSolutionClass() {
+        File file = new File(solutionTestDir, "otherSolutionClass.dat");
+        new BinarySolutionFileIO<>(BinaryTestdataBean.class).write(new BinaryTestdataBean(), file);
+
+        BinarySolutionFileIO<TestdataSolution> solutionFileIO = new BinarySolutionFileIO<>(TestdataSolution.class);
+        assertThatIllegalArgumentException().isThrownBy(() -> solutionFileIO.read(file))
+                .withCauseInstanceOf(IllegalArgumentException.class)
+                .satisfies(e -> assertThat(e.getCause()).hasMessageContaining("solutionClass"));
+    }
+
+    private static class BinaryTestdataBean {
+
+        private int intValue;
+        private long longValue;
+        private double doubleValue;
+        private boolean booleanValue;
+        private char charValue;
+        private Integer boxedValue;
+        private String stringValue;
+        private BigDecimal decimalValue;
+        private LocalDate dateValue;
+        private ZoneId zoneValue;
+        private DayOfWeek enumValue;
+        private int[] intArray;
+        private String[] stringArray;
+        private List<String> immutableList;
+        private Map<String, Integer> map;
+        private TreeSet<Long> sortedSet;
+        private BendableScore score;
+        private BinaryTestdataBean self;
+        private List<BinaryTestdataBean> childList;
+        private Object unsupportedValue;
+        private transient String transientValue;
+
+        private BinaryTestdataBean() {
+        }
+
+    }
+
+}
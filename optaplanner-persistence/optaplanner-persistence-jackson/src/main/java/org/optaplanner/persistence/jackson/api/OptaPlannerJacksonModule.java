@@ -25,6 +25,7 @@ import org.optaplanner.core.api.score.buildin.hardmediumsoftbigdecimal.HardMediu
 import org.optaplanner.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+import org.optaplanner.core.api.score.buildin.hardsoftdecimal.HardSoftDecimalScore;
 import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.buildin.simplebigdecimal.SimpleBigDecimalScore;
@@ -47,6 +48,8 @@ import org.optaplanner.persistence.jackson.api.score.buildin.hardsoft.HardSoftSc
 import org.optaplanner.persistence.jackson.api.score.buildin.hardsoft.HardSoftScoreJacksonSerializer;
 import org.optaplanner.persistence.jackson.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScoreJacksonDeserializer;
 import org.optaplanner.persistence.jackson.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScoreJacksonSerializer;
+import org.optaplanner.persistence.jackson.api.score.buildin.hardsoftdecimal.HardSoftDecimalScoreJacksonDeserializer;
+import org.optaplanner.persistence.jackson.api.score.buildin.hardsoftdecimal.HardSoftDecimalScoreJacksonSerializer;
 import org.optaplanner.persistence.jackson.api.score.buildin.hardsoftlong.HardSoftLongScoreJacksonDeserializer;
 import org.optaplanner.persistence.jackson.api.score.buildin.hardsoftlong.HardSoftLongScoreJacksonSerializer;
 import org.optaplanner.persistence.jackson.api.score.buildin.simple.SimpleScoreJacksonDeserializer;
@@ -88,6 +91,8 @@ public class OptaPlannerJacksonModule {
         module.addDeserializer(HardSoftLongScore.class, new HardSoftLongScoreJacksonDeserializer());
         module.addSerializer(HardSoftBigDecimalScore.class, new HardSoftBigDecimalScoreJacksonSerializer());
         module.addDeserializer(HardSoftBigDecimalScore.class, new HardSoftBigDecimalScoreJacksonDeserializer());
+        module.addSerializer(HardSoftDecimalScore.class, new HardSoftDecimalScoreJacksonSerializer());
+        module.addDeserializer(HardSoftDecimalScore.class, new HardSoftDecimalScoreJacksonDeserializer());
         module.addSerializer(HardMediumSoftScore.class, new HardMediumSoftScoreJsonSerializer());
         module.addDeserializer(HardMediumSoftScore.class, new HardMediumSoftScoreJacksonDeserializer());
         module.addSerializer(HardMediumSoftLongScore.class, new HardMediumSoftLongScoreJacksonSerializer());
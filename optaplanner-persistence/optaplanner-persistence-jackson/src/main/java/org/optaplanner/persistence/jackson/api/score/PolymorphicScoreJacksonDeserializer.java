@@ -27,6 +27,7 @@ import org.optaplanner.core.api.score.buildin.hardmediumsoftbigdecimal.HardMediu
 import org.optaplanner.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+import org.optaplanner.core.api.score.buildin.hardsoftdecimal.HardSoftDecimalScore;
 import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.buildin.simplebigdecimal.SimpleBigDecimalScore;
@@ -69,6 +70,8 @@ public class PolymorphicScoreJacksonDeserializer extends JsonDeserializer<Score>
             return HardSoftLongScore.parseScore(scoreString);
         } else if (scoreClassSimpleName.equals(HardSoftBigDecimalScore.class.getSimpleName())) {
             return HardSoftBigDecimalScore.parseScore(scoreString);
+        } else if (scoreClassSimpleName.equals(HardSoftDecimalScore.class.getSimpleName())) {
+            return HardSoftDecimalScore.parseScore(scoreString);
         } else if (scoreClassSimpleName.equals(HardMediumSoftScore.class.getSimpleName())) {
             return HardMediumSoftScore.parseScore(scoreString);
         } else if (scoreClassSimpleName.equals(HardMediumSoftLongScore.class.getSimpleName())) {
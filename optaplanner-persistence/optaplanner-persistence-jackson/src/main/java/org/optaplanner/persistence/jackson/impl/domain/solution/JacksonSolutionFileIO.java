@@ -1,29 +1,52 @@
 package org.optaplanner.persistence.jackson.impl.domain.solution;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.persistence.common.api.domain.solution.SolutionFileIO;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 /**
+ * Reads and writes JSON files through Jackson data binding,
+ * so every Jackson annotation on the domain (such as {@code @JsonIdentityInfo}) applies.
+ * <p>
+ * A file that ends with {@value #GZIP_FILE_SUFFIX} is written gzip compressed.
+ * Reading detects gzip compression by its magic number, regardless of the file name.
+ * <p>
+ * The {@link ObjectMapper} must be fully configured before it is passed to the constructor,
+ * because its {@link ObjectReader} and {@link ObjectWriter} are created once and reused for every file.
+ * <p>
+ * For large solutions, consider the opt-in {@link JacksonStreamingSolutionFileIO} instead.
  *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
 public class JacksonSolutionFileIO<Solution_> implements SolutionFileIO<Solution_> {
 
-    private final Class<Solution_> clazz;
-    private final ObjectMapper mapper;
+    public static final String GZIP_FILE_SUFFIX = ".gz";
+
+    private static final int BUFFER_SIZE = 65536;
+
+    // Thread-safe and reused, so the root (de)serializers are only looked up once
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
 
     public JacksonSolutionFileIO(Class<Solution_> clazz) {
         this(clazz, new ObjectMapper());
     }
 
     public JacksonSolutionFileIO(Class<Solution_> clazz, ObjectMapper mapper) {
-        this.clazz = clazz;
-        this.mapper = mapper;
+        reader = mapper.readerFor(clazz);
+        writer = mapper.writerWithDefaultPrettyPrinter();
     }
 
     @Override
@@ -38,19 +61,67 @@ public class JacksonSolutionFileIO<Solution_> implements SolutionFileIO<Solution
 
     @Override
     public Solution_ read(File inputSolutionFile) {
-        try {
-            return mapper.readValue(inputSolutionFile, clazz);
-        } catch (IOException e) {
+        try (InputStream inputSolutionStream = Files.newInputStream(inputSolutionFile.toPath())) {
+            return read(inputSolutionStream);
+        } catch (IOException | IllegalArgumentException e) {
             throw new IllegalArgumentException("Failed reading inputSolutionFile (" + inputSolutionFile + ").", e);
         }
     }
 
+    /**
+     * @param inputSolutionStream never null, plain or gzip compressed JSON, closed afterwards
+     * @return never null
+     */
+    public Solution_ read(InputStream inputSolutionStream) {
+        try (InputStream decompressedStream = decompressIfNeeded(inputSolutionStream)) {
+            return reader.readValue(decompressedStream);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed reading inputSolutionStream.", e);
+        }
+    }
+
+    /**
+     * @param inputStream never null
+     * @return never null, the gzip decompressed stream if it starts with the gzip magic number, buffered
+     * @throws IOException if the stream can't be read
+     */
+    protected static InputStream decompressIfNeeded(InputStream inputStream) throws IOException {
+        BufferedInputStream bufferedStream = new BufferedInputStream(inputStream, BUFFER_SIZE);
+        bufferedStream.mark(2);
+        int magicNumber = bufferedStream.read() | (bufferedStream.read() << 8);
+        bufferedStream.reset();
+        if (magicNumber == GZIPInputStream.GZIP_MAGIC) {
+            return new GZIPInputStream(bufferedStream, BUFFER_SIZE);
+        }
+        return bufferedStream;
+    }
+
     @Override
-    public void write(Solution_ solution, File file) {
-        try {
-            mapper.writerWithDefaultPrettyPrinter().writeValue(file, solution);
+    public void write(Solution_ solution, File outputSolutionFile) {
+        try (OutputStream fileStream = Files.newOutputStream(outputSolutionFile.toPath())) {
+            if (outputSolutionFile.getName().endsWith(GZIP_FILE_SUFFIX)) {
+                // Closed explicitly, because the gzip trailer is only written on close
+                try (GZIPOutputStream gzipStream = new GZIPOutputStream(fileStream, BUFFER_SIZE)) {
+                    write(solution, gzipStream);
+                }
+            } else {
+                write(solution, fileStream);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Failed writing outputSolutionFile (" + outputSolutionFile + ").", e);
+        }
+    }
+
+    /**
+     * @param solution never null
+     * @param outputSolutionStream never null, closed afterwards
+     */
+    public void write(Solution_ solution, OutputStream outputSolutionStream) {
+        // Closed explicitly, even if the ObjectMapper disables JsonGenerator.Feature.AUTO_CLOSE_TARGET
+        try (OutputStream closedStream = outputSolutionStream) {
+            writer.writeValue(closedStream, solution);
         } catch (IOException e) {
-            throw new IllegalArgumentException("Failed write", e);
+            throw new IllegalArgumentException("Failed writing outputSolutionStream.", e);
         }
     }
 
@@ -0,0 +1,545 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.jackson.impl.domain.solution;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+import com.fasterxml.jackson.annotation.ObjectIdGenerator;
+import com.fasterxml.jackson.annotation.ObjectIdResolver;
+import com.fasterxml.jackson.annotation.SimpleObjectIdResolver;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.cfg.HandlerInstantiator;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.VirtualBeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.util.Converter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * An opt-in alternative to {@link JacksonSolutionFileIO} for large solutions,
+ * which reads and writes the properties of the {@link PlanningSolution} one by one,
+ * guided by its {@link SolutionDescriptor}, on a {@link JsonParser} and {@link JsonGenerator}.
+ * Every Jackson annotation inside those properties still applies.
+ * <p>
+ * Writing puts the problem facts before the {@link PlanningEntity planning entities} in one pass,
+ * so with {@code @JsonIdentityInfo} the planning entities only reference the problem facts by id.
+ * <p>
+ * Reading deserializes each problem fact property and each planning entity property separately,
+ * but they all resolve their {@code @JsonIdentityInfo} ids in one shared lookup,
+ * which is preallocated to the size of the lookup of the previous read.
+ * The planning entities are deserialized after all the problem facts, regardless of the order in the file.
+ * With {@link #setParallelProblemFactParsing(boolean)}, the problem fact properties are also deserialized in parallel.
+ * <p>
+ * Unlike {@link JacksonSolutionFileIO}, a reference to an object that is deserialized in another property
+ * must not precede that object (in the order above), except within the same property.
+ * It falls back to {@link JacksonSolutionFileIO} if the solution class itself needs more than plain properties,
+ * such as a creator with properties, type information or an object id.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class JacksonStreamingSolutionFileIO<Solution_> extends JacksonSolutionFileIO<Solution_> {
+
+    private static final String ID_TO_OBJECT_MAP_ATTRIBUTE =
+            JacksonStreamingSolutionFileIO.class.getName() + ".idToObjectMap";
+
+    private final ObjectMapper mapper;
+    private final JavaType solutionType;
+    private final List<String> problemFactPropertyNameList;
+    private final List<String> entityPropertyNameList;
+
+    private boolean parallelProblemFactParsing = false;
+    private volatile int lastIdToObjectMapSize = 16;
+
+    /**
+     * @param clazz never null
+     * @param entityClasses never null, the {@link PlanningEntity} classes
+     */
+    public JacksonStreamingSolutionFileIO(Class<Solution_> clazz, Class<?>... entityClasses) {
+        this(clazz, new ObjectMapper(), entityClasses);
+    }
+
+    /**
+     * @param clazz never null
+     * @param mapper never null, fully configured, copied so this class can resolve object ids across properties
+     * @param entityClasses never null, the {@link PlanningEntity} classes
+     */
+    public JacksonStreamingSolutionFileIO(Class<Solution_> clazz, ObjectMapper mapper, Class<?>... entityClasses) {
+        this(clazz, copyWithSharedObjectIdResolver(mapper),
+                SolutionDescriptor.buildSolutionDescriptor(clazz, entityClasses));
+    }
+
+    private JacksonStreamingSolutionFileIO(Class<Solution_> clazz, ObjectMapper mapper,
+            SolutionDescriptor<Solution_> solutionDescriptor) {
+        super(clazz, mapper);
+        this.mapper = mapper;
+        solutionType = mapper.constructType(clazz);
+        List<String> problemFactMemberNameList = new ArrayList<>();
+        problemFactMemberNameList.addAll(solutionDescriptor.getProblemFactMemberAccessorMap().keySet());
+        problemFactMemberNameList.addAll(solutionDescriptor.getProblemFactCollectionMemberAccessorMap().keySet());
+        List<String> entityMemberNameList = new ArrayList<>();
+        entityMemberNameList.addAll(solutionDescriptor.getEntityMemberAccessorMap().keySet());
+        entityMemberNameList.addAll(solutionDescriptor.getEntityCollectionMemberAccessorMap().keySet());
+        // The JSON property names can differ from the member names, for example with @JsonProperty
+        BeanDescription beanDescription = mapper.getSerializationConfig().introspect(solutionType);
+        problemFactPropertyNameList = findJsonPropertyNameList(beanDescription, problemFactMemberNameList);
+        entityPropertyNameList = findJsonPropertyNameList(beanDescription, entityMemberNameList);
+    }
+
+    private static ObjectMapper copyWithSharedObjectIdResolver(ObjectMapper mapper) {
+        ObjectMapper copy = mapper.copy();
+        HandlerInstantiator handlerInstantiator = copy.getDeserializationConfig().getHandlerInstantiator();
+        copy.setHandlerInstantiator(new SharedObjectIdHandlerInstantiator(handlerInstantiator));
+        return copy;
+    }
+
+    private static List<String> findJsonPropertyNameList(BeanDescription beanDescription,
+            Collection<String> memberNames) {
+        return beanDescription.findProperties().stream()
+                .filter(property -> memberNames.contains(property.getInternalName()))
+                .map(BeanPropertyDefinition::getName)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Only enable this if no problem fact references a problem fact of another problem fact property,
+     * because those properties are deserialized independently.
+     *
+     * @param parallelProblemFactParsing true to deserialize the problem fact properties in parallel
+     *        in the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}, defaults to false
+     */
+    public void setParallelProblemFactParsing(boolean parallelProblemFactParsing) {
+        this.parallelProblemFactParsing = parallelProblemFactParsing;
+    }
+
+    // ************************************************************************
+    // Read methods
+    // ************************************************************************
+
+    @Override
+    public Solution_ read(InputStream inputSolutionStream) {
+        try (InputStream decompressedStream = decompressIfNeeded(inputSolutionStream)) {
+            ConcurrentMap<ObjectIdGenerator.IdKey, Object> idToObjectMap =
+                    new ConcurrentHashMap<>(lastIdToObjectMapSize);
+            DeserializationConfig config = mapper.getDeserializationConfig()
+                    .withAttribute(ID_TO_OBJECT_MAP_ATTRIBUTE, idToObjectMap);
+            BeanDeserializerBase solutionDeserializer = findSolutionDeserializer(config);
+            if (solutionDeserializer == null) {
+                return super.read(decompressedStream);
+            }
+            Solution_ solution;
+            try (JsonParser parser = mapper.getFactory().createParser(decompressedStream)) {
+                config.initialize(parser);
+                solution = readSolution(parser, config, solutionDeserializer);
+            }
+            lastIdToObjectMapSize = idToObjectMap.size();
+            return solution;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed reading inputSolutionStream.", e);
+        }
+    }
+
+    /**
+     * @return null if the solution class can't be deserialized property by property
+     */
+    private BeanDeserializerBase findSolutionDeserializer(DeserializationConfig config) throws IOException {
+        JsonDeserializer<Object> deserializer = createContext(config, null).findRootValueDeserializer(solutionType);
+        if (!(deserializer instanceof BeanDeserializerBase)) {
+            return null;
+        }
+        BeanDeserializerBase beanDeserializer = (BeanDeserializerBase) deserializer;
+        if (beanDeserializer.getObjectIdReader() != null
+                || beanDeserializer.getValueInstantiator().canCreateFromObjectWith()) {
+            return null;
+        }
+        for (String propertyName : problemFactPropertyNameList) {
+            if (beanDeserializer.findProperty(propertyName) == null) {
+                return null;
+            }
+        }
+        for (String propertyName : entityPropertyNameList) {
+            if (beanDeserializer.findProperty(propertyName) == null) {
+                return null;
+            }
+        }
+        return beanDeserializer;
+    }
+
+    private Solution_ readSolution(JsonParser parser, DeserializationConfig config,
+            BeanDeserializerBase solutionDeserializer) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("The JSON does not start with an object (" + parser.currentToken()
+                    + ").");
+        }
+        Map<String, CompletableFuture<Object>> problemFactFutureMap = new LinkedHashMap<>();
+        Map<String, TokenBuffer> entityBufferMap = new LinkedHashMap<>();
+        // The other properties, such as the score, are small
+        TokenBuffer otherBuffer = new TokenBuffer(parser);
+        otherBuffer.writeStartObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String propertyName = parser.getCurrentName();
+            parser.nextToken();
+            if (problemFactPropertyNameList.contains(propertyName)) {
+                SettableBeanProperty property = solutionDeserializer.findProperty(propertyName);
+                if (parallelProblemFactParsing) {
+                    TokenBuffer buffer = bufferValue(parser);
+                    problemFactFutureMap.put(propertyName, CompletableFuture.supplyAsync(() -> {
+                        try {
+                            return readPropertyValue(buffer.asParser(), config, property);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+                } else {
+                    problemFactFutureMap.put(propertyName,
+                            CompletableFuture.completedFuture(readPropertyValue(parser, config, property)));
+                }
+            } else if (entityPropertyNameList.contains(propertyName)) {
+                // Buffered, because they might reference problem facts that come later in the file
+                entityBufferMap.put(propertyName, bufferValue(parser));
+            } else {
+                otherBuffer.writeFieldName(propertyName);
+                otherBuffer.copyCurrentStructure(parser);
+            }
+        }
+        otherBuffer.writeEndObject();
+        Map<SettableBeanProperty, Object> propertyValueMap = new LinkedHashMap<>();
+        for (Map.Entry<String, CompletableFuture<Object>> entry : problemFactFutureMap.entrySet()) {
+            propertyValueMap.put(solutionDeserializer.findProperty(entry.getKey()), joinPropertyValue(entry.getValue()));
+        }
+        for (Map.Entry<String, TokenBuffer> entry : entityBufferMap.entrySet()) {
+            SettableBeanProperty property = solutionDeserializer.findProperty(entry.getKey());
+            propertyValueMap.put(property, readPropertyValue(entry.getValue().asParser(), config, property));
+        }
+        Solution_ solution = readOtherProperties(otherBuffer.asParser(), config, solutionDeserializer);
+        for (Map.Entry<SettableBeanProperty, Object> entry : propertyValueMap.entrySet()) {
+            entry.getKey().set(solution, entry.getValue());
+        }
+        return solution;
+    }
+
+    private static TokenBuffer bufferValue(JsonParser parser) throws IOException {
+        TokenBuffer buffer = new TokenBuffer(parser);
+        buffer.copyCurrentStructure(parser);
+        return buffer;
+    }
+
+    private static Object joinPropertyValue(CompletableFuture<Object> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Every property gets its own {@link DeserializationContext}, so it can run on another thread,
+     * but they share the object id lookup through {@link #ID_TO_OBJECT_MAP_ATTRIBUTE}.
+     *
+     * @param parser never null, on the first token of the property value, or before it if it's a buffer
+     */
+    private Object readPropertyValue(JsonParser parser, DeserializationConfig config, SettableBeanProperty property)
+            throws IOException {
+        if (!parser.hasCurrentToken()) {
+            parser.nextToken();
+        }
+        DefaultDeserializationContext context = createContext(config, parser);
+        Object value = property.deserialize(parser, context);
+        context.checkUnresolvedObjectId();
+        return value;
+    }
+
+    private Solution_ readOtherProperties(JsonParser parser, DeserializationConfig config,
+            BeanDeserializerBase solutionDeserializer) throws IOException {
+        parser.nextToken();
+        DefaultDeserializationContext context = createContext(config, parser);
+        Solution_ solution = (Solution_) solutionDeserializer.deserialize(parser, context);
+        context.checkUnresolvedObjectId();
+        return solution;
+    }
+
+    private DefaultDeserializationContext createContext(DeserializationConfig config, JsonParser parser) {
+        return ((DefaultDeserializationContext) mapper.getDeserializationContext())
+                .createInstance(config, parser, mapper.getInjectableValues());
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void write(Solution_ solution, OutputStream outputSolutionStream) {
+        // The serializer provider tracks the object ids, so the entities reference the problem facts by id
+        SerializerProvider provider = mapper.getSerializerProviderInstance();
+        Map<String, PropertyWriter> propertyWriterMap;
+        try {
+            propertyWriterMap = findPropertyWriterMap(provider, solution);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing outputSolutionStream.", e);
+        }
+        if (propertyWriterMap == null) {
+            super.write(solution, outputSolutionStream);
+            return;
+        }
+        SerializationConfig config = mapper.getSerializationConfig();
+        try (OutputStream closedStream = outputSolutionStream;
+                JsonGenerator generator = mapper.getFactory().createGenerator(closedStream, JsonEncoding.UTF8)) {
+            config.initialize(generator);
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            // Problem facts first, so the planning entities only reference them
+            for (String propertyName : problemFactPropertyNameList) {
+                writeProperty(propertyWriterMap.remove(propertyName), solution, generator, provider);
+            }
+            for (String propertyName : entityPropertyNameList) {
+                writeProperty(propertyWriterMap.remove(propertyName), solution, generator, provider);
+            }
+            for (PropertyWriter propertyWriter : propertyWriterMap.values()) {
+                writeProperty(propertyWriter, solution, generator, provider);
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing outputSolutionStream.", e);
+        }
+    }
+
+    /**
+     * @return null if the solution can't be serialized property by property
+     */
+    private Map<String, PropertyWriter> findPropertyWriterMap(SerializerProvider provider, Solution_ solution)
+            throws IOException {
+        JsonSerializer<Object> serializer = provider.findTypedValueSerializer(solution.getClass(), true, null);
+        if (!(serializer instanceof BeanSerializerBase) || serializer.usesObjectId()
+                || provider.getActiveView() != null) {
+            return null;
+        }
+        Map<String, PropertyWriter> propertyWriterMap = new LinkedHashMap<>();
+        serializer.properties().forEachRemaining(propertyWriter -> propertyWriterMap.put(propertyWriter.getName(),
+                propertyWriter));
+        Set<String> propertyNameSet = new LinkedHashSet<>(problemFactPropertyNameList);
+        propertyNameSet.addAll(entityPropertyNameList);
+        if (!propertyWriterMap.keySet().containsAll(propertyNameSet)) {
+            return null;
+        }
+        return propertyWriterMap;
+    }
+
+    private static void writeProperty(PropertyWriter propertyWriter, Object solution, JsonGenerator generator,
+            SerializerProvider provider) throws IOException {
+        try {
+            propertyWriter.serializeAsField(solution, generator, provider);
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("The property (" + propertyWriter.getName()
+                    + ") failed to serialize.", e);
+        }
+    }
+
+    // ************************************************************************
+    // Object id resolution
+    // ************************************************************************
+
+    /**
+     * Replaces the default {@link SimpleObjectIdResolver}, which only resolves within one {@link DeserializationContext},
+     * so the object ids are resolved across the deserialization contexts of all the properties of one read.
+     */
+    private static final class SharedObjectIdResolver implements ObjectIdResolver {
+
+        private final Map<ObjectIdGenerator.IdKey, Object> idToObjectMap;
+
+        /**
+         * @param idToObjectMap null for the prototype that the deserializers keep
+         */
+        private SharedObjectIdResolver(Map<ObjectIdGenerator.IdKey, Object> idToObjectMap) {
+            this.idToObjectMap = idToObjectMap;
+        }
+
+        @Override
+        public void bindItem(ObjectIdGenerator.IdKey id, Object pojo) {
+            Object oldPojo = idToObjectMap.putIfAbsent(id, pojo);
+            if (oldPojo != null && oldPojo != pojo) {
+                throw new IllegalStateException("The object id (" + id.key + ") of type (" + id.type
+                        + ") is used by two objects (" + oldPojo + ") and (" + pojo + ").");
+            }
+        }
+
+        @Override
+        public Object resolveId(ObjectIdGenerator.IdKey id) {
+            return idToObjectMap.get(id);
+        }
+
+        @Override
+        public ObjectIdResolver newForDeserialization(Object context) {
+            Map<ObjectIdGenerator.IdKey, Object> contextIdToObjectMap =
+                    (Map<ObjectIdGenerator.IdKey, Object>) ((DeserializationContext) context)
+                            .getAttribute(ID_TO_OBJECT_MAP_ATTRIBUTE);
+            if (contextIdToObjectMap == null) {
+                // Read by the JacksonSolutionFileIO fallback
+                return new SimpleObjectIdResolver();
+            }
+            return new SharedObjectIdResolver(contextIdToObjectMap);
+        }
+
+        @Override
+        public boolean canUseFor(ObjectIdResolver resolverType) {
+            return resolverType.getClass() == getClass();
+        }
+
+    }
+
+    /**
+     * Returns the {@link SharedObjectIdResolver} instead of the {@link SimpleObjectIdResolver}
+     * and delegates everything else.
+     */
+    private static final class SharedObjectIdHandlerInstantiator extends HandlerInstantiator {
+
+        private final HandlerInstantiator delegate;
+
+        /**
+         * @param delegate null if the {@link ObjectMapper} had no {@link HandlerInstantiator}
+         */
+        private SharedObjectIdHandlerInstantiator(HandlerInstantiator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ObjectIdResolver resolverIdGeneratorInstance(MapperConfig<?> config, Annotated annotated,
+                Class<?> implClass) {
+            if (implClass == SimpleObjectIdResolver.class) {
+                return new SharedObjectIdResolver(null);
+            }
+            return delegate == null ? null : delegate.resolverIdGeneratorInstance(config, annotated, implClass);
+        }
+
+        @Override
+        public JsonDeserializer<?> deserializerInstance(DeserializationConfig config, Annotated annotated,
+                Class<?> deserClass) {
+            return delegate == null ? null : delegate.deserializerInstance(config, annotated, deserClass);
+        }
+
+        @Override
+        public KeyDeserializer keyDeserializerInstance(DeserializationConfig config, Annotated annotated,
+                Class<?> keyDeserClass) {
+            return delegate == null ? null : delegate.keyDeserializerInstance(config, annotated, keyDeserClass);
+        }
+
+        @Override
+        public JsonSerializer<?> serializerInstance(SerializationConfig config, Annotated annotated,
+                Class<?> serClass) {
+            return delegate == null ? null : delegate.serializerInstance(config, annotated, serClass);
+        }
+
+        @Override
+        public TypeResolverBuilder<?> typeResolverBuilderInstance(MapperConfig<?> config, Annotated annotated,
+                Class<?> builderClass) {
+            return delegate == null ? null : delegate.typeResolverBuilderInstance(config, annotated, builderClass);
+        }
+
+        @Override
+        public TypeIdResolver typeIdResolverInstance(MapperConfig<?> config, Annotated annotated,
+                Class<?> resolverClass) {
+            return delegate == null ? null : delegate.typeIdResolverInstance(config, annotated, resolverClass);
+        }
+
+        @Override
+        public ValueInstantiator valueInstantiatorInstance(MapperConfig<?> config, Annotated annotated,
+                Class<?> resolverClass) {
+            return delegate == null ? null : delegate.valueInstantiatorInstance(config, annotated, resolverClass);
+        }
+
+        @Override
+        public ObjectIdGenerator<?> objectIdGeneratorInstance(MapperConfig<?> config, Annotated annotated,
+                Class<?> implClass) {
+            return delegate == null ? null : delegate.objectIdGeneratorInstance(config, annotated, implClass);
+        }
+
+        @Override
+        public PropertyNamingStrategy namingStrategyInstance(MapperConfig<?> config, Annotated annotated,
+                Class<?> implClass) {
+            return delegate == null ? null : delegate.namingStrategyInstance(config, annotated, implClass);
+        }
+
+        @Override
+        public Converter<?, ?> converterInstance(MapperConfig<?> config, Annotated annotated, Class<?> implClass) {
+            return delegate == null ? null : delegate.converterInstance(config, annotated, implClass);
+        }
+
+        @Override
+        public VirtualBeanPropertyWriter virtualPropertyWriterInstance(MapperConfig<?> config, Class<?> implClass) {
+            return delegate == null ? null : delegate.virtualPropertyWriterInstance(config, implClass);
+        }
+
+        @Override
+        public Object includeFilterInstance(SerializationConfig config, BeanPropertyDefinition forProperty,
+                Class<?> filterClass) {
+            return delegate == null ? null : delegate.includeFilterInstance(config, forProperty, filterClass);
+        }
+
+    }
+
+}
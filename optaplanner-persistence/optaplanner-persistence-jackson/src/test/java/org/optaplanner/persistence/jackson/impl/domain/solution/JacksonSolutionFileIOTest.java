@@ -20,8 +20,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertAllCodesOfIterator;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -30,6 +36,9 @@ import org.optaplanner.persistence.jackson.impl.testdata.domain.JacksonTestdataE
 import org.optaplanner.persistence.jackson.impl.testdata.domain.JacksonTestdataSolution;
 import org.optaplanner.persistence.jackson.impl.testdata.domain.JacksonTestdataValue;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 public class JacksonSolutionFileIOTest {
 
     private static File solutionTestDir;
@@ -41,10 +50,45 @@ public class JacksonSolutionFileIOTest {
     }
 
     @Test
-    public void readAndWrite() {
+    public void readAndWrite() throws IOException {
+        File file = new File(solutionTestDir, "testdataSolution.json");
+        readAndWrite(file);
+        assertThat(Files.readString(file.toPath())).startsWith("{");
+    }
+
+    @Test
+    public void readAndWriteGzip() throws IOException {
+        File file = new File(solutionTestDir, "testdataSolution.json" + JacksonSolutionFileIO.GZIP_FILE_SUFFIX);
+        readAndWrite(file);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file.toPath()))) {
+            assertThat(in.read()).isEqualTo('{');
+        }
+    }
+
+    @Test
+    public void writeGzipWithoutAutoCloseTarget() {
+        File file = new File(solutionTestDir, "noAutoClose.json" + JacksonSolutionFileIO.GZIP_FILE_SUFFIX);
+        JacksonSolutionFileIO<JacksonTestdataSolution> solutionFileIO = new JacksonSolutionFileIO<>(
+                JacksonTestdataSolution.class, new ObjectMapper().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET));
+        solutionFileIO.write(new JacksonTestdataSolution("s1"), file);
+        // A missing gzip trailer fails with an EOFException
+        JacksonTestdataSolution copy = solutionFileIO.read(file);
+        assertCode("s1", copy);
+    }
+
+    @Test
+    public void readAndWriteStream() {
+        JacksonSolutionFileIO<JacksonTestdataSolution> solutionFileIO =
+                new JacksonSolutionFileIO<>(JacksonTestdataSolution.class);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        solutionFileIO.write(new JacksonTestdataSolution("s1"), out);
+        JacksonTestdataSolution copy = solutionFileIO.read(new ByteArrayInputStream(out.toByteArray()));
+        assertCode("s1", copy);
+    }
+
+    private void readAndWrite(File file) {
         JacksonSolutionFileIO<JacksonTestdataSolution> solutionFileIO =
                 new JacksonSolutionFileIO<>(JacksonTestdataSolution.class);
-        File file = new File(solutionTestDir, "testdataSolution.json");
 
         JacksonTestdataSolution original = new JacksonTestdataSolution("s1");
         JacksonTestdataValue originalV1 = new JacksonTestdataValue("v1");
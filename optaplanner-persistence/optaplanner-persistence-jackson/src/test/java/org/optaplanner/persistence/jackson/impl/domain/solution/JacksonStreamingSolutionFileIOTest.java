@@ -0,0 +1,131 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.optaplanner.persistence.jackson.impl.domain.solution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertAllCodesOfIterator;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.persistence.jackson.impl.testdata.domain.JacksonTestdataEntity;
+import org.optaplanner.persistence.jackson.impl.testdata.domain.JacksonTestdataSolution;
+import org.optaplanner.persistence.jackson.impl.testdata.domain.JacksonTestdataValue;
+
+public class JacksonStreamingSolutionFileIOTest {
+
+    private static File solutionTestDir;
+
+    @BeforeAll
+    public static void setup() {
+        solutionTestDir = new File("target/solutionTest/");
+        solutionTestDir.mkdirs();
+    }
+
+    @Test
+    public void readAndWrite() {
+        File file = new File(solutionTestDir, "testdataSolutionStreaming.json");
+        JacksonStreamingSolutionFileIO<JacksonTestdataSolution> solutionFileIO = buildSolutionFileIO();
+        solutionFileIO.write(buildSolution(), file);
+        assertSolution(solutionFileIO.read(file));
+        // The preallocated object id lookup of the previous read does not leak into the next read
+        assertSolution(solutionFileIO.read(file));
+    }
+
+    @Test
+    public void readAndWriteGzip() throws IOException {
+        File file = new File(solutionTestDir, "testdataSolutionStreaming.json" + JacksonSolutionFileIO.GZIP_FILE_SUFFIX);
+        JacksonStreamingSolutionFileIO<JacksonTestdataSolution> solutionFileIO = buildSolutionFileIO();
+        solutionFileIO.write(buildSolution(), file);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file.toPath()))) {
+            assertThat(in.read()).isEqualTo('{');
+        }
+        assertSolution(solutionFileIO.read(file));
+    }
+
+    @Test
+    public void readAndWriteWithParallelProblemFactParsing() {
+        JacksonStreamingSolutionFileIO<JacksonTestdataSolution> solutionFileIO = buildSolutionFileIO();
+        solutionFileIO.setParallelProblemFactParsing(true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        solutionFileIO.write(buildSolution(), out);
+        assertSolution(solutionFileIO.read(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    @Test
+    public void writeProblemFactsBeforeEntities() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        buildSolutionFileIO().write(buildSolution(), out);
+        String json = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertThat(json.indexOf("\"valueList\"")).isNotNegative()
+                .isLessThan(json.indexOf("\"entityList\""));
+        assertThat(json).contains("\"score\"");
+    }
+
+    @Test
+    public void compatibleWithJacksonSolutionFileIO() {
+        JacksonSolutionFileIO<JacksonTestdataSolution> dataBindingSolutionFileIO =
+                new JacksonSolutionFileIO<>(JacksonTestdataSolution.class);
+        JacksonStreamingSolutionFileIO<JacksonTestdataSolution> streamingSolutionFileIO = buildSolutionFileIO();
+
+        ByteArrayOutputStream dataBindingOut = new ByteArrayOutputStream();
+        dataBindingSolutionFileIO.write(buildSolution(), dataBindingOut);
+        assertSolution(streamingSolutionFileIO.read(new ByteArrayInputStream(dataBindingOut.toByteArray())));
+
+        ByteArrayOutputStream streamingOut = new ByteArrayOutputStream();
+        streamingSolutionFileIO.write(buildSolution(), streamingOut);
+        assertSolution(dataBindingSolutionFileIO.read(new ByteArrayInputStream(streamingOut.toByteArray())));
+    }
+
+    private static JacksonStreamingSolutionFileIO<JacksonTestdataSolution> buildSolutionFileIO() {
+        return new JacksonStreamingSolutionFileIO<>(JacksonTestdataSolution.class, JacksonTestdataEntity.class);
+    }
+
+    private static JacksonTestdataSolution buildSolution() {
+        JacksonTestdataSolution solution = new JacksonTestdataSolution("s1");
+        JacksonTestdataValue v1 = new JacksonTestdataValue("v1");
+        solution.setValueList(Arrays.asList(v1, new JacksonTestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(
+                new JacksonTestdataEntity("e1"), new JacksonTestdataEntity("e2", v1), new JacksonTestdataEntity("e3")));
+        solution.setScore(SimpleScore.of(-321));
+        return solution;
+    }
+
+    private static void assertSolution(JacksonTestdataSolution copy) {
+        assertCode("s1", copy);
+        assertAllCodesOfIterator(copy.getValueList().iterator(), "v1", "v2");
+        assertAllCodesOfIterator(copy.getEntityList().iterator(), "e1", "e2", "e3");
+        JacksonTestdataEntity copyE2 = copy.getEntityList().get(1);
+        assertCode("v1", copyE2.getValue());
+        assertThat(copyE2.getValue()).isSameAs(copy.getValueList().get(0));
+        assertThat(copy.getEntityList().get(0).getValue()).isNull();
+        assertThat(copy.getScore()).isEqualTo(SimpleScore.of(-321));
+    }
+
+}
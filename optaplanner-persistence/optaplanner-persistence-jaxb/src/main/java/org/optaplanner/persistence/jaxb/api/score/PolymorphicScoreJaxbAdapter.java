@@ -29,6 +29,7 @@ import org.optaplanner.core.api.score.buildin.hardmediumsoftbigdecimal.HardMediu
 import org.optaplanner.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+import org.optaplanner.core.api.score.buildin.hardsoftdecimal.HardSoftDecimalScore;
 import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.buildin.simplebigdecimal.SimpleBigDecimalScore;
@@ -56,6 +57,8 @@ public class PolymorphicScoreJaxbAdapter extends XmlAdapter<PolymorphicScoreJaxb
             return HardSoftLongScore.parseScore(scoreString);
         } else if (scoreClassName.equals(HardSoftBigDecimalScore.class.getName())) {
             return HardSoftBigDecimalScore.parseScore(scoreString);
+        } else if (scoreClassName.equals(HardSoftDecimalScore.class.getName())) {
+            return HardSoftDecimalScore.parseScore(scoreString);
         } else if (scoreClassName.equals(HardMediumSoftScore.class.getName())) {
             return HardMediumSoftScore.parseScore(scoreString);
         } else if (scoreClassName.equals(HardMediumSoftLongScore.class.getName())) {
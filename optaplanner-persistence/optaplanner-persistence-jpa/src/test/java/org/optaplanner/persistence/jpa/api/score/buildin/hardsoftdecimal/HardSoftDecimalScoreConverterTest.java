@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.jpa.api.score.buildin.hardsoftdecimal;
+
+import java.math.BigDecimal;
+
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.hardsoftdecimal.HardSoftDecimalScore;
+import org.optaplanner.persistence.jpa.impl.AbstractScoreJpaTest;
+
+public class HardSoftDecimalScoreConverterTest extends AbstractScoreJpaTest {
+
+    @Test
+    public void persistAndMerge() {
+        persistAndMerge(new TestJpaEntity(HardSoftDecimalScore.ZERO), null,
+                HardSoftDecimalScore.of(new BigDecimal("-10.01000"), new BigDecimal("-2.20000")),
+                HardSoftDecimalScore.ofUninitialized(-7, new BigDecimal("-10.01000"), new BigDecimal("-2.20000")));
+    }
+
+    @Entity
+    public static class TestJpaEntity extends AbstractTestJpaEntity<HardSoftDecimalScore> {
+
+        @Convert(converter = HardSoftDecimalScoreConverter.class)
+        protected HardSoftDecimalScore score;
+
+        private TestJpaEntity() {
+        }
+
+        public TestJpaEntity(HardSoftDecimalScore score) {
+            this.score = score;
+        }
+
+        @Override
+        public HardSoftDecimalScore getScore() {
+            return score;
+        }
+
+        @Override
+        public void setScore(HardSoftDecimalScore score) {
+            this.score = score;
+        }
+    }
+}
@@ -29,6 +29,7 @@ import org.optaplanner.persistence.jsonb.api.score.buildin.hardmediumsoftbigdeci
 import org.optaplanner.persistence.jsonb.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScoreJsonbAdapter;
 import org.optaplanner.persistence.jsonb.api.score.buildin.hardsoft.HardSoftScoreJsonbAdapter;
 import org.optaplanner.persistence.jsonb.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScoreJsonbAdapter;
+import org.optaplanner.persistence.jsonb.api.score.buildin.hardsoftdecimal.HardSoftDecimalScoreJsonbAdapter;
 import org.optaplanner.persistence.jsonb.api.score.buildin.hardsoftlong.HardSoftLongScoreJsonbAdapter;
 import org.optaplanner.persistence.jsonb.api.score.buildin.simple.SimpleScoreJsonbAdapter;
 import org.optaplanner.persistence.jsonb.api.score.buildin.simplebigdecimal.SimpleBigDecimalScoreJsonbAdapter;
@@ -52,6 +53,7 @@ public class OptaPlannerJsonbConfig {
                         new HardMediumSoftLongScoreJsonbAdapter(),
                         new HardSoftScoreJsonbAdapter(),
                         new HardSoftBigDecimalScoreJsonbAdapter(),
+                        new HardSoftDecimalScoreJsonbAdapter(),
                         new HardSoftLongScoreJsonbAdapter(),
                         new SimpleScoreJsonbAdapter(),
                         new SimpleBigDecimalScoreJsonbAdapter(),
@@ -74,6 +76,7 @@ public class OptaPlannerJsonbConfig {
                 new HardMediumSoftLongScoreJsonbAdapter(),
                 new HardSoftScoreJsonbAdapter(),
                 new HardSoftBigDecimalScoreJsonbAdapter(),
+                new HardSoftDecimalScoreJsonbAdapter(),
                 new HardSoftLongScoreJsonbAdapter(),
                 new SimpleScoreJsonbAdapter(),
                 new SimpleBigDecimalScoreJsonbAdapter(),
@@ -24,6 +24,7 @@ import org.optaplanner.persistence.xstream.api.score.buildin.hardmediumsoftbigde
 import org.optaplanner.persistence.xstream.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScoreXStreamConverter;
 import org.optaplanner.persistence.xstream.api.score.buildin.hardsoft.HardSoftScoreXStreamConverter;
 import org.optaplanner.persistence.xstream.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScoreXStreamConverter;
+import org.optaplanner.persistence.xstream.api.score.buildin.hardsoftdecimal.HardSoftDecimalScoreXStreamConverter;
 import org.optaplanner.persistence.xstream.api.score.buildin.hardsoftlong.HardSoftLongScoreXStreamConverter;
 import org.optaplanner.persistence.xstream.api.score.buildin.simple.SimpleScoreXStreamConverter;
 import org.optaplanner.persistence.xstream.api.score.buildin.simplebigdecimal.SimpleBigDecimalScoreXStreamConverter;
@@ -42,6 +43,7 @@ public abstract class AbstractScoreXStreamConverter implements Converter {
         xStream.registerConverter(new HardSoftScoreXStreamConverter());
         xStream.registerConverter(new HardSoftLongScoreXStreamConverter());
         xStream.registerConverter(new HardSoftBigDecimalScoreXStreamConverter());
+        xStream.registerConverter(new HardSoftDecimalScoreXStreamConverter());
 
         xStream.registerConverter(new HardMediumSoftScoreXStreamConverter());
         xStream.registerConverter(new HardMediumSoftLongScoreXStreamConverter());
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.xstream.api.score.buildin.hardsoftdecimal;
+
+import org.optaplanner.core.api.score.buildin.hardsoftdecimal.HardSoftDecimalScore;
+import org.optaplanner.persistence.xstream.api.score.AbstractScoreXStreamConverter;
+
+import com.thoughtworks.xstream.converters.MarshallingContext;
+import com.thoughtworks.xstream.converters.UnmarshallingContext;
+import com.thoughtworks.xstream.io.HierarchicalStreamReader;
+import com.thoughtworks.xstream.io.HierarchicalStreamWriter;
+
+public class HardSoftDecimalScoreXStreamConverter extends AbstractScoreXStreamConverter {
+
+    @Override
+    public boolean canConvert(Class type) {
+        return HardSoftDecimalScore.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void marshal(Object scoreObject, HierarchicalStreamWriter writer, MarshallingContext context) {
+        HardSoftDecimalScore score = (HardSoftDecimalScore) scoreObject;
+        writer.setValue(score.toString());
+    }
+
+    @Override
+    public Object unmarshal(HierarchicalStreamReader reader, UnmarshallingContext context) {
+        String scoreString = reader.getValue();
+        return HardSoftDecimalScore.parseScore(scoreString);
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.xstream.api.score.buildin.hardsoftdecimal;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.hardsoftdecimal.HardSoftDecimalScore;
+import org.optaplanner.persistence.xstream.api.score.AbstractScoreXStreamConverterTest;
+
+import com.thoughtworks.xstream.annotations.XStreamConverter;
+
+public class HardSoftDecimalScoreXStreamConverterTest extends AbstractScoreXStreamConverterTest {
+
+    @Test
+    public void serializeAndDeserialize() {
+        assertSerializeAndDeserialize(null, new TestHardSoftDecimalScoreWrapper(null));
+        HardSoftDecimalScore score = HardSoftDecimalScore.of(new BigDecimal("1200.0021"), new BigDecimal("34.4300"));
+        assertSerializeAndDeserialize(score, new TestHardSoftDecimalScoreWrapper(score));
+        score = HardSoftDecimalScore.ofUninitialized(-7, new BigDecimal("1200.0021"), new BigDecimal("34.4300"));
+        assertSerializeAndDeserialize(score, new TestHardSoftDecimalScoreWrapper(score));
+    }
+
+    public static class TestHardSoftDecimalScoreWrapper extends TestScoreWrapper<HardSoftDecimalScore> {
+
+        @XStreamConverter(HardSoftDecimalScoreXStreamConverter.class)
+        private HardSoftDecimalScore score;
+
+        public TestHardSoftDecimalScoreWrapper(HardSoftDecimalScore score) {
+            this.score = score;
+        }
+
+        @Override
+        public HardSoftDecimalScore getScore() {
+            return score;
+        }
+
+    }
+
+}
@@ -28,6 +28,7 @@ import org.optaplanner.core.api.score.buildin.hardmediumsoftbigdecimal.HardMediu
 import org.optaplanner.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+import org.optaplanner.core.api.score.buildin.hardsoftdecimal.HardSoftDecimalScore;
 import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.buildin.simplebigdecimal.SimpleBigDecimalScore;
@@ -117,6 +118,14 @@ public class DefaultOptaPlannerBeanProvider {
         return ScoreManager.create(solverFactory);
     }
 
+    @DefaultBean
+    @Singleton
+    @Produces
+    <Solution_> ScoreManager<Solution_, HardSoftDecimalScore> scoreManager_workaroundHardSoftDecimalScore(
+            SolverFactory<Solution_> solverFactory) {
+        return ScoreManager.create(solverFactory);
+    }
+
     @DefaultBean
     @Singleton
     @Produces
@@ -30,6 +30,7 @@ import org.optaplanner.core.api.score.buildin.hardmediumsoftbigdecimal.HardMediu
 import org.optaplanner.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+import org.optaplanner.core.api.score.buildin.hardsoftdecimal.HardSoftDecimalScore;
 import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.buildin.simplebigdecimal.SimpleBigDecimalScore;
@@ -101,6 +102,13 @@ public class UnavailableOptaPlannerBeanProvider {
         throw createException(ScoreManager.class);
     }
 
+    @DefaultBean
+    @Singleton
+    @Produces
+    <Solution_> ScoreManager<Solution_, HardSoftDecimalScore> scoreManager_workaroundHardSoftDecimalScore() {
+        throw createException(ScoreManager.class);
+    }
+
     @DefaultBean
     @Singleton
     @Produces